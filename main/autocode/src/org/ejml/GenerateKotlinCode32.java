@@ -32,7 +32,7 @@ public class GenerateKotlinCode32 extends GenerateCode32{
     public GenerateKotlinCode32() {
         super("kt",new ConvertFile32From64(Language.KOTLIN,false));
 
-        String[] sufficeRoot = new String[]{"DRM","DMA","DRB","SCC","STL","DF2","DF3","DF4","DF5","DF6","TRIPLET"};
+        String[] sufficeRoot = new String[]{"DRM","DMA","DRB","SCC","STL","DF","DF2","DF3","DF4","DF5","DF6","TRIPLET"};
 
         suffices64.add("_DDRB_to_DDRM");
         suffices64.add("_F64");
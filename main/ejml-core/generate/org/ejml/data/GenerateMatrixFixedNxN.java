@@ -29,51 +29,59 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
 
     String classPreamble = "DMatrix";
 
+    /**
+     * Shapes of the rectangular matrices which are generated. Each shape's transpose is included too.
+     */
+    public static final int[][] RECTANGULAR = new int[][]{{2, 3}, {3, 2}, {3, 4}, {4, 3}, {2, 6}, {6, 2}, {3, 6}, {6, 3}};
+
     @Override
     public void generate() throws FileNotFoundException {
         for (int dimension = 2; dimension <= 6; dimension++) {
-            print(dimension);
+            print(dimension, dimension);
+        }
+        for (int[] shape : RECTANGULAR) {
+            print(shape[0], shape[1]);
         }
     }
 
-    public void print( int dimen ) throws FileNotFoundException {
-        String className = classPreamble + dimen + "x" + dimen;
+    public void print( int numRows, int numCols ) throws FileNotFoundException {
+        String className = classPreamble + numRows + "x" + numCols;
 
         setOutputFile(className);
 
         out.println("import org.ejml.ops.MatrixIO;\n\n" +
                 "/**\n" +
-                " * Fixed sized " + dimen + " by " + className + " matrix. The matrix is stored as class variables for very fast read/write. aXY is the\n" +
+                " * Fixed sized " + numRows + " by " + numCols + " matrix. The matrix is stored as class variables for very fast read/write. aXY is the\n" +
                 " * value of row = X and column = Y.\n" +
                 standardClassDocClosing("Peter Abeles") +
                 "public class " + className + " implements DMatrixFixed {\n");
-        printClassParam(dimen);
+        printClassParam(numRows, numCols);
         out.print("\n" +
                 "    public " + className + "() {}\n" +
                 "\n" +
                 "    public " + className);
-        printFunctionParam(13 + className.length(), dimen);
-        printSetFromParam(dimen, "");
+        printFunctionParam(13 + className.length(), numRows, numCols);
+        printSetFromParam(numRows, numCols, "");
         out.print("    }\n" +
                 "\n" +
                 "    public " + className + "( " + className + " o ) {\n");
-        printSetFromParam(dimen, "o.");
+        printSetFromParam(numRows, numCols, "o.");
         out.print("    }\n" +
                 "\n");
-        printZero(dimen);
+        printZero(numRows, numCols);
         out.print("    public void setTo");
-        printFunctionParam(23, dimen);
-        printSetFromParam(dimen, "");
+        printFunctionParam(23, numRows, numCols);
+        printSetFromParam(numRows, numCols, "");
         out.print("    }\n\n");
         out.print("    public void setTo( int offset , double[] a ) {\n");
-        printSetFromArray(dimen);
+        printSetFromArray(numRows, numCols);
         out.print("    }\n\n");
         out.print("    @Override public double get( int row, int col ) {\n" +
                 "        return unsafe_get(row,col);\n" +
                 "    }\n" +
                 "\n" +
                 "    @Override public double unsafe_get( int row, int col ) {\n");
-        setGetter(dimen);
+        setGetter(numRows, numCols);
         out.print("        throw new IllegalArgumentException(\"Row and/or column out of range. \"+row+\" \"+col);\n" +
                 "    }\n" +
                 "\n" +
@@ -82,16 +90,16 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
                 "    }\n" +
                 "\n" +
                 "    @Override public void unsafe_set( int row, int col, double val ) {\n");
-        setSetter(dimen);
+        setSetter(numRows, numCols);
         out.print("        throw new IllegalArgumentException(\"Row and/or column out of range. \"+row+\" \"+col);\n" +
                 "    }\n" +
                 "\n");
-        printSetMatrix(dimen);
-        out.print("    @Override public int getNumRows() {return " + dimen + ";}\n" +
+        printSetMatrix(numRows, numCols);
+        out.print("    @Override public int getNumRows() {return " + numRows + ";}\n" +
                 "\n" +
-                "    @Override public int getNumCols() {return " + dimen + ";}\n" +
+                "    @Override public int getNumCols() {return " + numCols + ";}\n" +
                 "\n" +
-                "    @Override public int getNumElements() {return " + (dimen*dimen) + ";}\n" +
+                "    @Override public int getNumElements() {return " + (numRows*numCols) + ";}\n" +
                 "\n" +
                 "    @Override public <T extends Matrix> T copy() {\n" +
                 "        return (T)new " + className + "(this);\n" +
@@ -111,12 +119,12 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
                 "}\n\n");
     }
 
-    private void printClassParam( int dimen ) {
-        for (int y = 1; y <= dimen; y++) {
+    private void printClassParam( int numRows, int numCols ) {
+        for (int y = 1; y <= numRows; y++) {
             out.print("    public double ");
-            for (int x = 1; x <= dimen; x++) {
+            for (int x = 1; x <= numCols; x++) {
                 out.print("a" + y + "" + x);
-                if (x != dimen)
+                if (x != numCols)
                     out.print(",");
                 else
                     out.println(";");
@@ -124,21 +132,21 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
         }
     }
 
-    private void printFunctionParam( int spaces, int dimen ) {
+    private void printFunctionParam( int spaces, int numRows, int numCols ) {
         StringBuilder s = new StringBuilder();
         for (int i = 0; i < spaces; i++) {
             s.append(" ");
         }
-        for (int y = 1; y <= dimen; y++) {
+        for (int y = 1; y <= numRows; y++) {
             if (y == 1)
                 out.print("( ");
             else
                 out.print(s);
-            for (int x = 1; x <= dimen; x++) {
+            for (int x = 1; x <= numCols; x++) {
                 out.print("double a" + y + "" + x);
-                if (x != dimen)
+                if (x != numCols)
                     out.print(", ");
-                else if (y != dimen)
+                else if (y != numRows)
                     out.println(",");
                 else
                     out.println(" ) {");
@@ -146,33 +154,33 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
         }
     }
 
-    private void printSetFromParam( int dimen, String prefix ) {
-        for (int y = 1; y <= dimen; y++) {
+    private void printSetFromParam( int numRows, int numCols, String prefix ) {
+        for (int y = 1; y <= numRows; y++) {
             out.print("       ");
-            for (int x = 1; x <= dimen; x++) {
+            for (int x = 1; x <= numCols; x++) {
                 out.print(" this.a" + y + "" + x + " = " + prefix + "a" + y + "" + x + ";");
             }
             out.println();
         }
     }
 
-    private void printSetFromArray( int dimen ) {
-        for (int y = 1; y <= dimen; y++) {
+    private void printSetFromArray( int numRows, int numCols ) {
+        for (int y = 1; y <= numRows; y++) {
             out.print("       ");
-            for (int x = 1; x <= dimen; x++) {
-                out.print(" this.a" + y + "" + x + " = a[offset + " + ((y - 1)*dimen + x - 1) + "];");
+            for (int x = 1; x <= numCols; x++) {
+                out.print(" this.a" + y + "" + x + " = a[offset + " + ((y - 1)*numCols + x - 1) + "];");
             }
             out.println();
         }
     }
 
-    private void setGetter( int dimen ) {
-        for (int y = 1; y <= dimen; y++) {
+    private void setGetter( int numRows, int numCols ) {
+        for (int y = 1; y <= numRows; y++) {
             if (y == 1)
                 out.print("        if (row == 0) {\n");
             else
                 out.print("        } else if (row == " + (y - 1) + ") {\n");
-            for (int x = 1; x <= dimen; x++) {
+            for (int x = 1; x <= numCols; x++) {
                 if (x == 1)
                     out.print("            if (col == 0) {\n");
                 else
@@ -184,13 +192,13 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
         out.print("        }\n");
     }
 
-    private void setSetter( int dimen ) {
-        for (int y = 1; y <= dimen; y++) {
+    private void setSetter( int numRows, int numCols ) {
+        for (int y = 1; y <= numRows; y++) {
             if (y == 1)
                 out.print("        if (row == 0) {\n");
             else
                 out.print("        } else if (row == " + (y - 1) + ") {\n");
-            for (int x = 1; x <= dimen; x++) {
+            for (int x = 1; x <= numCols; x++) {
                 if (x == 1)
                     out.print("            if (col == 0) {\n");
                 else
@@ -202,26 +210,26 @@ public class GenerateMatrixFixedNxN extends CodeGeneratorBase {
         out.print("        }\n");
     }
 
-    private void printSetMatrix( int dimen ) {
+    private void printSetMatrix( int numRows, int numCols ) {
         out.print("    @Override public void setTo( Matrix original ) {\n" +
-                "        if (original.getNumCols() != " + dimen + " || original.getNumRows() != " + dimen + ")\n" +
+                "        if (original.getNumCols() != " + numCols + " || original.getNumRows() != " + numRows + ")\n" +
                 "            throw new IllegalArgumentException(\"Rows and/or columns do not match\");\n" +
                 "        DMatrix m = (DMatrix)original;\n" +
                 "        \n");
-        for (int y = 1; y <= dimen; y++) {
-            for (int x = 1; x <= dimen; x++) {
+        for (int y = 1; y <= numRows; y++) {
+            for (int x = 1; x <= numCols; x++) {
                 out.print("        a" + y + "" + x + " = m.get(" + (y - 1) + "," + (x - 1) + ");\n");
             }
         }
         out.print("    }\n\n");
     }
 
-    private void printZero( int dimen ) {
+    private void printZero( int numRows, int numCols ) {
         out.print(
                 "    @Override public void zero() {\n");
-        for (int y = 1; y <= dimen; y++) {
+        for (int y = 1; y <= numRows; y++) {
             out.print("       ");
-            for (int x = 1; x <= dimen; x++) {
+            for (int x = 1; x <= numCols; x++) {
                 out.print(" a" + y + "" + x + " = 0.0;");
             }
             out.println();
@@ -56,6 +56,11 @@ public class EjmlParameters {
     public static int MULT_COLUMN_SWITCH = 15;
     public static int MULT_TRANAB_COLUMN_SWITCH = 40;
     public static int MULT_INNER_SWITCH = 100;
+    /**
+     * Matrix multiplications switch to the packed algorithm when the number of rows, columns, and the length of
+     * the inner product are all at least this size
+     */
+    public static int MULT_PACKED_SWITCH = 64;
 
     public static int CMULT_COLUMN_SWITCH = 7;
     public static int CMULT_TRANAB_COLUMN_SWITCH = 20;
@@ -74,6 +79,37 @@ public class EjmlParameters {
 
     public static int SWITCH_BLOCK64_QR = 1500;
 
+    /**
+     * At which point should it switch to the block LU algorithm. In benchmarks the two are about the same
+     * from 250 to 350, the block version is 10% to 20% faster at 400, and 50% faster at 1000. Below this size
+     * converting the matrix into a block format is not worth it.
+     */
+    public static int SWITCH_BLOCK64_LU = 400;
+
+    /**
+     * When eigenvectors of a symmetric matrix are requested and the matrix has at least this many rows,
+     * the divide and conquer algorithm is used instead of the QR algorithm. In benchmarks they are about the
+     * same at 75, divide and conquer is 10% faster at 100, and it's consistently 15% to 28% faster from 200 on.
+     */
+    public static int SWITCH_EIG_DIVIDE_CONQUER = 200;
+
+    /**
+     * When singular vectors are requested and the smallest side of the matrix is at least this size, the
+     * divide and conquer SVD is used instead of the implicit QR algorithm. In benchmarks the implicit QR
+     * algorithm is faster at 75, results are erratic at 100, and divide and conquer is consistently 20% to 37%
+     * faster from 150 on.
+     */
+    public static int SWITCH_SVD_DIVIDE_CONQUER = 200;
+
+    /**
+     * When the eigenvalues of a general (non-symmetric) matrix are requested and the matrix has at least this
+     * many rows, the multishift QR algorithm with aggressive early deflation is used instead of the double
+     * shift QR algorithm. This should be larger than {@code MultishiftQrSchur_DDRM.nmin}, since below that size
+     * it's just the double shift algorithm. In benchmarks the two trade places just above nmin and from 95
+     * on multishift is consistently 30% faster or more.
+     */
+    public static int SWITCH_EIG_MULTISHIFT = 100;
+
     public enum MemoryUsage {
         /**
          * Use lower memory algorithm while not totally sacrificing speed.
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.ops.MatrixIO;
+
+import javax.annotation.Generated;
+
+/**
+ * Fixed sized 2 by 6 matrix. The matrix is stored as class variables for very fast read/write. aXY is the
+ * value of row = X and column = Y.
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateMatrixFixedNxN</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.data.GenerateMatrixFixedNxN")
+public class DMatrix2x6 implements DMatrixFixed {
+
+    public double a11,a12,a13,a14,a15,a16;
+    public double a21,a22,a23,a24,a25,a26;
+
+    public DMatrix2x6() {}
+
+    public DMatrix2x6( double a11, double a12, double a13, double a14, double a15, double a16,
+                       double a21, double a22, double a23, double a24, double a25, double a26 ) {
+        this.a11 = a11; this.a12 = a12; this.a13 = a13; this.a14 = a14; this.a15 = a15; this.a16 = a16;
+        this.a21 = a21; this.a22 = a22; this.a23 = a23; this.a24 = a24; this.a25 = a25; this.a26 = a26;
+    }
+
+    public DMatrix2x6( DMatrix2x6 o ) {
+        this.a11 = o.a11; this.a12 = o.a12; this.a13 = o.a13; this.a14 = o.a14; this.a15 = o.a15; this.a16 = o.a16;
+        this.a21 = o.a21; this.a22 = o.a22; this.a23 = o.a23; this.a24 = o.a24; this.a25 = o.a25; this.a26 = o.a26;
+    }
+
+    @Override public void zero() {
+        a11 = 0.0; a12 = 0.0; a13 = 0.0; a14 = 0.0; a15 = 0.0; a16 = 0.0;
+        a21 = 0.0; a22 = 0.0; a23 = 0.0; a24 = 0.0; a25 = 0.0; a26 = 0.0;
+    }
+
+    public void setTo( double a11, double a12, double a13, double a14, double a15, double a16,
+                       double a21, double a22, double a23, double a24, double a25, double a26 ) {
+        this.a11 = a11; this.a12 = a12; this.a13 = a13; this.a14 = a14; this.a15 = a15; this.a16 = a16;
+        this.a21 = a21; this.a22 = a22; this.a23 = a23; this.a24 = a24; this.a25 = a25; this.a26 = a26;
+    }
+
+    public void setTo( int offset , double[] a ) {
+        this.a11 = a[offset + 0]; this.a12 = a[offset + 1]; this.a13 = a[offset + 2]; this.a14 = a[offset + 3]; this.a15 = a[offset + 4]; this.a16 = a[offset + 5];
+        this.a21 = a[offset + 6]; this.a22 = a[offset + 7]; this.a23 = a[offset + 8]; this.a24 = a[offset + 9]; this.a25 = a[offset + 10]; this.a26 = a[offset + 11];
+    }
+
+    @Override public double get( int row, int col ) {
+        return unsafe_get(row,col);
+    }
+
+    @Override public double unsafe_get( int row, int col ) {
+        if (row == 0) {
+            if (col == 0) {
+                return a11;
+            } else if (col == 1) {
+                return a12;
+            } else if (col == 2) {
+                return a13;
+            } else if (col == 3) {
+                return a14;
+            } else if (col == 4) {
+                return a15;
+            } else if (col == 5) {
+                return a16;
+            }
+        } else if (row == 1) {
+            if (col == 0) {
+                return a21;
+            } else if (col == 1) {
+                return a22;
+            } else if (col == 2) {
+                return a23;
+            } else if (col == 3) {
+                return a24;
+            } else if (col == 4) {
+                return a25;
+            } else if (col == 5) {
+                return a26;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override public void set( int row, int col, double val ) {
+        unsafe_set(row,col,val);
+    }
+
+    @Override public void unsafe_set( int row, int col, double val ) {
+        if (row == 0) {
+            if (col == 0) {
+                a11 = val; return;
+            } else if (col == 1) {
+                a12 = val; return;
+            } else if (col == 2) {
+                a13 = val; return;
+            } else if (col == 3) {
+                a14 = val; return;
+            } else if (col == 4) {
+                a15 = val; return;
+            } else if (col == 5) {
+                a16 = val; return;
+            }
+        } else if (row == 1) {
+            if (col == 0) {
+                a21 = val; return;
+            } else if (col == 1) {
+                a22 = val; return;
+            } else if (col == 2) {
+                a23 = val; return;
+            } else if (col == 3) {
+                a24 = val; return;
+            } else if (col == 4) {
+                a25 = val; return;
+            } else if (col == 5) {
+                a26 = val; return;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override public void setTo( Matrix original ) {
+        if (original.getNumCols() != 6 || original.getNumRows() != 2)
+            throw new IllegalArgumentException("Rows and/or columns do not match");
+        DMatrix m = (DMatrix)original;
+        
+        a11 = m.get(0,0);
+        a12 = m.get(0,1);
+        a13 = m.get(0,2);
+        a14 = m.get(0,3);
+        a15 = m.get(0,4);
+        a16 = m.get(0,5);
+        a21 = m.get(1,0);
+        a22 = m.get(1,1);
+        a23 = m.get(1,2);
+        a24 = m.get(1,3);
+        a25 = m.get(1,4);
+        a26 = m.get(1,5);
+    }
+
+    @Override public int getNumRows() {return 2;}
+
+    @Override public int getNumCols() {return 6;}
+
+    @Override public int getNumElements() {return 12;}
+
+    @Override public <T extends Matrix> T copy() {
+        return (T)new DMatrix2x6(this);
+    }
+
+    @Override public void print() {
+        MatrixIO.printFancy(System.out, this, MatrixIO.DEFAULT_LENGTH);
+    }
+
+    @Override public void print( String format ) {
+        MatrixIO.print(System.out, this, format);
+    }
+
+    @Override public <T extends Matrix> T createLike() {return (T)new DMatrix2x6();}
+
+    @Override public MatrixType getType() {return MatrixType.UNSPECIFIED;}}
+
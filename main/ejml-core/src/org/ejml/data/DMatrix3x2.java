@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.ops.MatrixIO;
+
+import javax.annotation.Generated;
+
+/**
+ * Fixed sized 3 by 2 matrix. The matrix is stored as class variables for very fast read/write. aXY is the
+ * value of row = X and column = Y.
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateMatrixFixedNxN</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.data.GenerateMatrixFixedNxN")
+public class DMatrix3x2 implements DMatrixFixed {
+
+    public double a11,a12;
+    public double a21,a22;
+    public double a31,a32;
+
+    public DMatrix3x2() {}
+
+    public DMatrix3x2( double a11, double a12,
+                       double a21, double a22,
+                       double a31, double a32 ) {
+        this.a11 = a11; this.a12 = a12;
+        this.a21 = a21; this.a22 = a22;
+        this.a31 = a31; this.a32 = a32;
+    }
+
+    public DMatrix3x2( DMatrix3x2 o ) {
+        this.a11 = o.a11; this.a12 = o.a12;
+        this.a21 = o.a21; this.a22 = o.a22;
+        this.a31 = o.a31; this.a32 = o.a32;
+    }
+
+    @Override public void zero() {
+        a11 = 0.0; a12 = 0.0;
+        a21 = 0.0; a22 = 0.0;
+        a31 = 0.0; a32 = 0.0;
+    }
+
+    public void setTo( double a11, double a12,
+                       double a21, double a22,
+                       double a31, double a32 ) {
+        this.a11 = a11; this.a12 = a12;
+        this.a21 = a21; this.a22 = a22;
+        this.a31 = a31; this.a32 = a32;
+    }
+
+    public void setTo( int offset , double[] a ) {
+        this.a11 = a[offset + 0]; this.a12 = a[offset + 1];
+        this.a21 = a[offset + 2]; this.a22 = a[offset + 3];
+        this.a31 = a[offset + 4]; this.a32 = a[offset + 5];
+    }
+
+    @Override public double get( int row, int col ) {
+        return unsafe_get(row,col);
+    }
+
+    @Override public double unsafe_get( int row, int col ) {
+        if (row == 0) {
+            if (col == 0) {
+                return a11;
+            } else if (col == 1) {
+                return a12;
+            }
+        } else if (row == 1) {
+            if (col == 0) {
+                return a21;
+            } else if (col == 1) {
+                return a22;
+            }
+        } else if (row == 2) {
+            if (col == 0) {
+                return a31;
+            } else if (col == 1) {
+                return a32;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override public void set( int row, int col, double val ) {
+        unsafe_set(row,col,val);
+    }
+
+    @Override public void unsafe_set( int row, int col, double val ) {
+        if (row == 0) {
+            if (col == 0) {
+                a11 = val; return;
+            } else if (col == 1) {
+                a12 = val; return;
+            }
+        } else if (row == 1) {
+            if (col == 0) {
+                a21 = val; return;
+            } else if (col == 1) {
+                a22 = val; return;
+            }
+        } else if (row == 2) {
+            if (col == 0) {
+                a31 = val; return;
+            } else if (col == 1) {
+                a32 = val; return;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override public void setTo( Matrix original ) {
+        if (original.getNumCols() != 2 || original.getNumRows() != 3)
+            throw new IllegalArgumentException("Rows and/or columns do not match");
+        DMatrix m = (DMatrix)original;
+        
+        a11 = m.get(0,0);
+        a12 = m.get(0,1);
+        a21 = m.get(1,0);
+        a22 = m.get(1,1);
+        a31 = m.get(2,0);
+        a32 = m.get(2,1);
+    }
+
+    @Override public int getNumRows() {return 3;}
+
+    @Override public int getNumCols() {return 2;}
+
+    @Override public int getNumElements() {return 6;}
+
+    @Override public <T extends Matrix> T copy() {
+        return (T)new DMatrix3x2(this);
+    }
+
+    @Override public void print() {
+        MatrixIO.printFancy(System.out, this, MatrixIO.DEFAULT_LENGTH);
+    }
+
+    @Override public void print( String format ) {
+        MatrixIO.print(System.out, this, format);
+    }
+
+    @Override public <T extends Matrix> T createLike() {return (T)new DMatrix3x2();}
+
+    @Override public MatrixType getType() {return MatrixType.UNSPECIFIED;}}
+
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.MatrixDimensionException;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Storage for a batch of small matrices which all have the same shape. Instead of storing each matrix in its own
+ * object, all the matrices are stored inside a single array in struct-of-arrays format. Element (i,j) of every
+ * matrix in the batch is stored in a contiguous block:
+ * </p>
+ *
+ * <p>
+ * data[ (i*numCols + j)*length + index ] = a<sub>ij</sub> of matrix 'index'
+ * </p>
+ *
+ * <p>
+ * Operations which loop across the batch will then access memory sequentially, avoid pointer chasing, and
+ * can be vectorized across matrices by the JVM. See BatchOps_DDF for operations on a batch.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DMatrixBatch {
+    /** Number of rows in each matrix */
+    public int numRows;
+    /** Number of columns in each matrix */
+    public int numCols;
+    /** Number of matrices in the batch */
+    public int length;
+    /** Storage for all the matrices. Its length can be larger than required */
+    public double[] data;
+
+    /**
+     * Creates a new batch of matrices which are all zeros.
+     *
+     * @param numRows Number of rows in each matrix
+     * @param numCols Number of columns in each matrix
+     * @param length Number of matrices in the batch
+     */
+    public DMatrixBatch( int numRows, int numCols, int length ) {
+        if (numRows < 0 || numCols < 0 || length < 0)
+            throw new IllegalArgumentException("Shape and length can't be negative");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.length = length;
+        this.data = new double[numRows*numCols*length];
+    }
+
+    public DMatrixBatch() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * Changes the shape of each matrix and the number of matrices. If the internal array is too small a new one
+     * is declared. Values are not preserved.
+     */
+    public DMatrixBatch reshape( int numRows, int numCols, int length ) {
+        if (numRows < 0 || numCols < 0 || length < 0)
+            throw new IllegalArgumentException("Shape and length can't be negative");
+        int required = numRows*numCols*length;
+        if (data.length < required)
+            data = new double[required];
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Index of the first element in the block which stores element (row,col) for all the matrices
+     */
+    public int indexOf( int row, int col ) {
+        return (row*numCols + col)*length;
+    }
+
+    public double get( int index, int row, int col ) {
+        checkBounds(index, row, col);
+        return data[(row*numCols + col)*length + index];
+    }
+
+    public void set( int index, int row, int col, double value ) {
+        checkBounds(index, row, col);
+        data[(row*numCols + col)*length + index] = value;
+    }
+
+    /**
+     * Copies a matrix into the batch
+     *
+     * @param index Which matrix in the batch is written to
+     * @param src Matrix which is copied. Must be the same shape. Not modified.
+     */
+    public void setMatrix( int index, DMatrix src ) {
+        if (src.getNumRows() != numRows || src.getNumCols() != numCols)
+            throw new MatrixDimensionException("Shape of src doesn't match");
+        if (index < 0 || index >= length)
+            throw new IllegalArgumentException("index out of bounds. " + index);
+        int offset = index;
+        for (int row = 0; row < numRows; row++) {
+            for (int col = 0; col < numCols; col++, offset += length) {
+                data[offset] = src.unsafe_get(row, col);
+            }
+        }
+    }
+
+    /**
+     * Copies a matrix out of the batch
+     *
+     * @param index Which matrix in the batch is read
+     * @param dst Storage for the matrix. Must be the same shape. Modified.
+     */
+    public <T extends DMatrix> T getMatrix( int index, T dst ) {
+        if (dst.getNumRows() != numRows || dst.getNumCols() != numCols)
+            throw new MatrixDimensionException("Shape of dst doesn't match");
+        if (index < 0 || index >= length)
+            throw new IllegalArgumentException("index out of bounds. " + index);
+        int offset = index;
+        for (int row = 0; row < numRows; row++) {
+            for (int col = 0; col < numCols; col++, offset += length) {
+                dst.unsafe_set(row, col, data[offset]);
+            }
+        }
+        return dst;
+    }
+
+    /**
+     * Sets every element in every matrix to zero
+     */
+    public void zero() {
+        Arrays.fill(data, 0, getNumElements(), 0.0);
+    }
+
+    public void setTo( DMatrixBatch src ) {
+        reshape(src.numRows, src.numCols, src.length);
+        System.arraycopy(src.data, 0, data, 0, getNumElements());
+    }
+
+    public DMatrixBatch copy() {
+        var ret = new DMatrixBatch(numRows, numCols, length);
+        ret.setTo(this);
+        return ret;
+    }
+
+    /**
+     * Creates a batch with the same shape and length
+     */
+    public DMatrixBatch createLike() {
+        return new DMatrixBatch(numRows, numCols, length);
+    }
+
+    /**
+     * Total number of elements in all the matrices
+     */
+    public int getNumElements() {
+        return numRows*numCols*length;
+    }
+
+    private void checkBounds( int index, int row, int col ) {
+        if (index < 0 || index >= length || row < 0 || row >= numRows || col < 0 || col >= numCols)
+            throw new IllegalArgumentException("Out of bounds. index=" + index + " row=" + row + " col=" + col);
+    }
+
+    public int getNumRows() {return numRows;}
+
+    public int getNumCols() {return numCols;}
+
+    public int getLength() {return length;}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Central class for controlling the use of SIMD instructions in EJML. Kernels which use the Java Vector API
+ * are included in the multi-release jar for Java 17 and later. Since the Vector API is still incubating its
+ * module needs to be added when the JVM is launched, e.g. "--add-modules jdk.incubator.vector". If the module
+ * isn't available the scalar code is used instead.</p>
+ *
+ * @author Peter Abeles
+ */
+public class EjmlSimd {
+    /** Used to toggle the use of SIMD kernels on and off */
+    public static boolean USE_SIMD = true;
+
+    /** Minimum length of an array before it will switch to the SIMD kernels */
+    public static int LENGTH_THRESHOLD = 32;
+
+    // null if the Vector API isn't available
+    private static final @Nullable SimdKernels KERNELS = load();
+
+    /**
+     * Returns true if SIMD kernels could be loaded
+     */
+    public static boolean isAvailable() {
+        return KERNELS != null;
+    }
+
+    /**
+     * Returns the kernels if they should be used on arrays of the specified length. Null is returned if
+     * they are not available, they have been turned off, or the length is too short for them to be faster.
+     */
+    public static @Nullable SimdKernels kernels( int length ) {
+        if (!USE_SIMD || length < LENGTH_THRESHOLD)
+            return null;
+        return KERNELS;
+    }
+
+    /**
+     * Returns the kernels independent of the length or if they have been turned off. Null if not available.
+     */
+    public static @Nullable SimdKernels getKernels() {
+        return KERNELS;
+    }
+
+    private static @Nullable SimdKernels load() {
+        try {
+            // This class is only inside the Java 17 section of the multi-release jar
+            Class<?> type = Class.forName("org.ejml.simd.VectorApiKernels");
+            return (SimdKernels)type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Older JVM or the jdk.incubator.vector module hasn't been added
+            return null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+/**
+ * <p>Low level kernels which operate on arrays and can be accelerated using SIMD instructions. Each function
+ * has a 64-bit and 32-bit variant. Implementations are not required to perform the operations in the same order
+ * as a scalar loop, so the results can differ in the least significant bits.</p>
+ *
+ * <p>Use {@link EjmlSimd} to get an instance.</p>
+ *
+ * @author Peter Abeles
+ */
+public interface SimdKernels {
+    /**
+     * Inner product: sum(i=0:length-1, a[offsetA+i]*b[offsetB+i])
+     */
+    double dot( int length, double[] a, int offsetA, double[] b, int offsetB );
+
+    /**
+     * y[offsetY+i] += alpha*x[offsetX+i]
+     */
+    void axpy( int length, double alpha, double[] x, int offsetX, double[] y, int offsetY );
+
+    /** @see #dot(int, double[], int, double[], int) */
+    float dot( int length, float[] a, int offsetA, float[] b, int offsetB );
+
+    /** @see #axpy(int, double, double[], int, double[], int) */
+    void axpy( int length, float alpha, float[] x, int offsetX, float[] y, int offsetY );
+}
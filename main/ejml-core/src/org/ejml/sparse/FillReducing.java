@@ -28,6 +28,23 @@ public enum FillReducing {
      * No fill reduction permutation will be applied
      */
     NONE,
+    /**
+     * Approximate Minimum Degree ordering of the structure of A+A<sup>T</sup>. The same permutation is applied to
+     * the rows and columns. Suitable for Cholesky and for LU when the structure is close to symmetric.
+     */
+    AMD,
+    /**
+     * Column Approximate Minimum Degree ordering. Computed from the structure of A<sup>T</sup>A, after dense rows
+     * have been dropped, without forming A<sup>T</sup>A numerically. Only a column permutation is provided.
+     * Suitable for QR and LU.
+     */
+    COLAMD,
+    /**
+     * Nested dissection ordering of the structure of A+A<sup>T</sup>. The graph is recursively split by
+     * vertex separators which are ordered last. Best for very large matrices that come from 2D and 3D meshes.
+     * The same permutation is applied to the rows and columns.
+     */
+    NESTED_DISSECTION,
     /**
      * TESTING ONLY. Completely random permutation
      */
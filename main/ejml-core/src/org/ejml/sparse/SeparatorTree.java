@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse;
+
+import org.ejml.data.IGrowArray;
+
+/**
+ * <p>Tree of separators that's created by a nested dissection ordering. Each node owns a contiguous block of
+ * columns in the permuted matrix and its descendants own the columns that come immediately before it. Leaves are
+ * subgraphs which were not dissected further and the other nodes are separators. Nodes are stored in postorder,
+ * so children always come before their parent.</p>
+ *
+ * <p>Columns in two subtrees where neither is an ancestor of the other are not connected. When the permuted
+ * matrix is factored those subtrees can be processed independently of each other. Only the separators above
+ * them depend on both.</p>
+ *
+ * @author Peter Abeles
+ */
+public class SeparatorTree {
+    /** Parent of each node. -1 if it's a root */
+    public final IGrowArray parent = new IGrowArray();
+    /** First column in the subtree which has the node as its root */
+    public final IGrowArray subtreeBegin = new IGrowArray();
+    /** First column which belongs to the node itself. For leaves this is the same as subtreeBegin */
+    public final IGrowArray nodeBegin = new IGrowArray();
+    /** One past the last column in the node. This is also the end of its subtree */
+    public final IGrowArray end = new IGrowArray();
+
+    /**
+     * Removes all the nodes
+     */
+    public void reset() {
+        parent.reshape(0);
+        subtreeBegin.reshape(0);
+        nodeBegin.reshape(0);
+        end.reshape(0);
+    }
+
+    /**
+     * Adds a new node with no parent. Its children must already have been added.
+     *
+     * @return Index of the new node
+     */
+    public int addNode( int subtreeBegin, int nodeBegin, int end ) {
+        this.parent.add(-1);
+        this.subtreeBegin.add(subtreeBegin);
+        this.nodeBegin.add(nodeBegin);
+        this.end.add(end);
+        return parent.length - 1;
+    }
+
+    /**
+     * Number of nodes in the tree
+     */
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Number of columns in the subtree which has 'node' as its root
+     */
+    public int subtreeSize( int node ) {
+        return end.data[node] - subtreeBegin.data[node];
+    }
+
+    /**
+     * True if the node has no children
+     */
+    public boolean isLeaf( int node ) {
+        return subtreeBegin.data[node] == nodeBegin.data[node];
+    }
+
+    /**
+     * Selects subtrees which are independent of each other. Starting at the roots, the largest subtree which
+     * is not a leaf is repeatedly replaced by its children until there are at least 'target' subtrees or only
+     * leaves remain. Columns not covered by the selected subtrees belong to separators that depend on them and
+     * need to be processed last.
+     *
+     * @param target Desired number of subtrees. Typically the number of threads.
+     * @param selected (Output) Index of the root node in each selected subtree.
+     */
+    public void selectIndependent( int target, IGrowArray selected ) {
+        selected.reshape(0);
+        for (int node = 0; node < size(); node++) {
+            if (parent.data[node] == -1)
+                selected.add(node);
+        }
+
+        while (selected.length < target) {
+            // find the largest subtree which can be split
+            int best = -1;
+            for (int i = 0; i < selected.length; i++) {
+                int node = selected.data[i];
+                if (isLeaf(node))
+                    continue;
+                if (best == -1 || subtreeSize(node) > subtreeSize(selected.data[best]))
+                    best = i;
+            }
+            if (best == -1)
+                break;
+
+            // replace it with its children. Children come before the parent and after the start of the subtree
+            int split = selected.data[best];
+            selected.data[best] = selected.data[--selected.length];
+            for (int node = split - 1; node >= 0 && end.data[node] > subtreeBegin.data[split]; node--) {
+                if (parent.data[node] == split)
+                    selected.add(node);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link SimdKernels} using the Java Vector API. Arrays are processed using the preferred
+ * vector size of the hardware and the remaining elements are handled with a scalar loop. This class is only
+ * compiled for Java 17 and should be accessed through {@link EjmlSimd}.
+ *
+ * @author Peter Abeles
+ */
+public class VectorApiKernels implements SimdKernels {
+    private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> F = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public double dot( int length, double[] a, int offsetA, double[] b, int offsetB ) {
+        final int upper = D.loopBound(length);
+        DoubleVector sum = DoubleVector.zero(D);
+        int i = 0;
+        for (; i < upper; i += D.length()) {
+            DoubleVector va = DoubleVector.fromArray(D, a, offsetA + i);
+            DoubleVector vb = DoubleVector.fromArray(D, b, offsetB + i);
+            sum = sum.add(va.mul(vb));
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            total += a[offsetA + i]*b[offsetB + i];
+        }
+        return total;
+    }
+
+    @Override
+    public void axpy( int length, double alpha, double[] x, int offsetX, double[] y, int offsetY ) {
+        final int upper = D.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += D.length()) {
+            DoubleVector vx = DoubleVector.fromArray(D, x, offsetX + i);
+            DoubleVector vy = DoubleVector.fromArray(D, y, offsetY + i);
+            vy.add(vx.mul(alpha)).intoArray(y, offsetY + i);
+        }
+        for (; i < length; i++) {
+            y[offsetY + i] += alpha*x[offsetX + i];
+        }
+    }
+
+    @Override
+    public float dot( int length, float[] a, int offsetA, float[] b, int offsetB ) {
+        final int upper = F.loopBound(length);
+        FloatVector sum = FloatVector.zero(F);
+        int i = 0;
+        for (; i < upper; i += F.length()) {
+            FloatVector va = FloatVector.fromArray(F, a, offsetA + i);
+            FloatVector vb = FloatVector.fromArray(F, b, offsetB + i);
+            sum = sum.add(va.mul(vb));
+        }
+        float total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            total += a[offsetA + i]*b[offsetB + i];
+        }
+        return total;
+    }
+
+    @Override
+    public void axpy( int length, float alpha, float[] x, int offsetX, float[] y, int offsetY ) {
+        final int upper = F.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += F.length()) {
+            FloatVector vx = FloatVector.fromArray(F, x, offsetX + i);
+            FloatVector vy = FloatVector.fromArray(F, y, offsetY + i);
+            vy.add(vx.mul(alpha)).intoArray(y, offsetY + i);
+        }
+        for (; i < length; i++) {
+            y[offsetY + i] += alpha*x[offsetX + i];
+        }
+    }
+
+}
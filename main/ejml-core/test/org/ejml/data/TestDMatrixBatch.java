@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.MatrixDimensionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDMatrixBatch extends EjmlStandardJUnit {
+    @Test void constructor() {
+        var alg = new DMatrixBatch(3, 4, 5);
+        assertEquals(3, alg.numRows);
+        assertEquals(4, alg.numCols);
+        assertEquals(5, alg.length);
+        assertEquals(60, alg.data.length);
+    }
+
+    /**
+     * Make sure the data is stored in struct-of-arrays format
+     */
+    @Test void layout() {
+        var alg = new DMatrixBatch(2, 3, 4);
+        alg.set(2, 1, 0, 5.0);
+        assertEquals(5.0, alg.data[(1*3 + 0)*4 + 2]);
+        assertEquals(alg.indexOf(1, 0) + 2, (1*3 + 0)*4 + 2);
+        assertEquals(5.0, alg.get(2, 1, 0));
+    }
+
+    @Test void reshape() {
+        var alg = new DMatrixBatch(2, 3, 4);
+        double[] original = alg.data;
+
+        // smaller, so the array shouldn't change
+        alg.reshape(3, 3, 2);
+        assertSame(original, alg.data);
+        assertEquals(3, alg.numRows);
+        assertEquals(3, alg.numCols);
+        assertEquals(2, alg.length);
+
+        // bigger, new array
+        alg.reshape(3, 3, 10);
+        assertNotSame(original, alg.data);
+        assertEquals(90, alg.data.length);
+    }
+
+    @Test void setMatrix_getMatrix() {
+        var alg = new DMatrixBatch(3, 3, 5);
+        for (int index = 0; index < 5; index++) {
+            var m = new DMatrix3x3();
+            for (int i = 0; i < 9; i++) {
+                m.set(i/3, i%3, index*10 + i);
+            }
+            alg.setMatrix(index, m);
+        }
+
+        for (int index = 0; index < 5; index++) {
+            DMatrixRMaj found = alg.getMatrix(index, new DMatrixRMaj(3, 3));
+            for (int i = 0; i < 9; i++) {
+                assertEquals(index*10 + i, found.data[i]);
+                assertEquals(index*10 + i, alg.get(index, i/3, i%3));
+            }
+        }
+
+        assertThrows(MatrixDimensionException.class, () -> alg.setMatrix(0, new DMatrix4x4()));
+        assertThrows(MatrixDimensionException.class, () -> alg.getMatrix(0, new DMatrixRMaj(2, 3)));
+        assertThrows(IllegalArgumentException.class, () -> alg.setMatrix(5, new DMatrix3x3()));
+    }
+
+    @Test void setTo_copy() {
+        var alg = new DMatrixBatch(2, 2, 3);
+        for (int i = 0; i < alg.data.length; i++) {
+            alg.data[i] = i;
+        }
+
+        DMatrixBatch copy = alg.copy();
+        assertNotSame(alg.data, copy.data);
+        assertArrayEquals(alg.data, copy.data);
+
+        var dst = new DMatrixBatch(1, 1, 1);
+        dst.setTo(alg);
+        assertEquals(2, dst.numRows);
+        assertEquals(2, dst.numCols);
+        assertEquals(3, dst.length);
+        for (int i = 0; i < alg.getNumElements(); i++) {
+            assertEquals(alg.data[i], dst.data[i]);
+        }
+    }
+
+    @Test void zero() {
+        var alg = new DMatrixBatch(2, 2, 3);
+        alg.set(1, 1, 1, 2.0);
+        alg.zero();
+        for (int i = 0; i < alg.data.length; i++) {
+            assertEquals(0.0, alg.data[i]);
+        }
+    }
+
+    @Test void bounds() {
+        var alg = new DMatrixBatch(2, 2, 3);
+        assertThrows(IllegalArgumentException.class, () -> alg.get(3, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> alg.get(0, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> alg.set(0, 0, -1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new DMatrixBatch(-1, 2, 3));
+    }
+}
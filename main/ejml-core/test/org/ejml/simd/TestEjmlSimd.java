@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simd;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the SIMD kernels against scalar implementations. The kernels are only available if the JVM was
+ * launched with the jdk.incubator.vector module, otherwise the kernel tests are skipped. The "testVectorApi"
+ * Gradle task runs them with the module added.
+ */
+public class TestEjmlSimd extends EjmlStandardJUnit {
+    // Lengths which are smaller, equal to, and larger than common vector sizes
+    int[] lengths = {0, 1, 3, 4, 7, 8, 15, 16, 17, 31, 64, 101};
+
+    /**
+     * The kernels should be loaded if and only if the Vector API module is present
+     */
+    @Test void isAvailable() {
+        boolean module = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(module, EjmlSimd.isAvailable());
+        if (!module)
+            assertNull(EjmlSimd.kernels(EjmlSimd.LENGTH_THRESHOLD));
+    }
+
+    @Test void kernels_threshold() {
+        boolean original = EjmlSimd.USE_SIMD;
+        try {
+            assertNull(EjmlSimd.kernels(EjmlSimd.LENGTH_THRESHOLD - 1));
+            assertSame(EjmlSimd.getKernels(), EjmlSimd.kernels(EjmlSimd.LENGTH_THRESHOLD));
+
+            EjmlSimd.USE_SIMD = false;
+            assertNull(EjmlSimd.kernels(EjmlSimd.LENGTH_THRESHOLD));
+        } finally {
+            EjmlSimd.USE_SIMD = original;
+        }
+    }
+
+    @Test void dot() {
+        SimdKernels alg = EjmlSimd.getKernels();
+        assumeTrue(alg != null, "Vector API not available");
+
+        for (int length : lengths) {
+            double[] a = randomD(length + 2);
+            double[] b = randomD(length + 3);
+            float[] fa = randomF(length + 2);
+            float[] fb = randomF(length + 3);
+
+            double expected = 0;
+            float expectedF = 0;
+            for (int i = 0; i < length; i++) {
+                expected += a[2 + i]*b[3 + i];
+                expectedF += fa[2 + i]*fb[3 + i];
+            }
+            assertEquals(expected, alg.dot(length, a, 2, b, 3), UtilEjml.TEST_F64);
+            assertEquals(expectedF, alg.dot(length, fa, 2, fb, 3), UtilEjml.TEST_F32);
+        }
+    }
+
+    @Test void axpy() {
+        SimdKernels alg = EjmlSimd.getKernels();
+        assumeTrue(alg != null, "Vector API not available");
+
+        for (int length : lengths) {
+            double[] x = randomD(length + 1);
+            double[] y = randomD(length + 2);
+            double[] expected = y.clone();
+            for (int i = 0; i < length; i++) {
+                expected[2 + i] += 1.5*x[1 + i];
+            }
+            alg.axpy(length, 1.5, x, 1, y, 2);
+            assertArrayEquals(expected, y, UtilEjml.TEST_F64);
+
+            float[] fx = randomF(length + 1);
+            float[] fy = randomF(length + 2);
+            float[] expectedF = fy.clone();
+            for (int i = 0; i < length; i++) {
+                expectedF[2 + i] += 1.5f*fx[1 + i];
+            }
+            alg.axpy(length, 1.5f, fx, 1, fy, 2);
+            assertArrayEquals(expectedF, fy, UtilEjml.TEST_F32);
+        }
+    }
+
+    private double[] randomD( int length ) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = rand.nextDouble()*2.0 - 1.0;
+        }
+        return array;
+    }
+
+    private float[] randomF( int length ) {
+        float[] array = new float[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = rand.nextFloat()*2.0f - 1.0f;
+        }
+        return array;
+    }
+}
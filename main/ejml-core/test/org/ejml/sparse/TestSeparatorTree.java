@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.data.IGrowArray;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSeparatorTree extends EjmlStandardJUnit {
+    /**
+     * Hand constructed tree.
+     *
+     * <pre>
+     *            6:[18,20)
+     *          /          \
+     *      2:[8,10)      5:[16,18)
+     *      /    \         /    \
+     *  0:[0,4) 1:[4,8) 3:[10,15) 4:[15,16)
+     * </pre>
+     */
+    private SeparatorTree createTree() {
+        var tree = new SeparatorTree();
+        tree.addNode(0, 0, 4);
+        tree.addNode(4, 4, 8);
+        tree.addNode(0, 8, 10);
+        tree.addNode(10, 10, 15);
+        tree.addNode(15, 15, 16);
+        tree.addNode(10, 16, 18);
+        tree.addNode(0, 18, 20);
+        tree.parent.data[0] = 2;
+        tree.parent.data[1] = 2;
+        tree.parent.data[3] = 5;
+        tree.parent.data[4] = 5;
+        tree.parent.data[2] = 6;
+        tree.parent.data[5] = 6;
+        return tree;
+    }
+
+    @Test
+    public void basic() {
+        SeparatorTree tree = createTree();
+        assertEquals(7, tree.size());
+        assertTrue(tree.isLeaf(0));
+        assertFalse(tree.isLeaf(2));
+        assertEquals(20, tree.subtreeSize(6));
+        assertEquals(8, tree.subtreeSize(5));
+
+        tree.reset();
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void selectIndependent() {
+        SeparatorTree tree = createTree();
+        var selected = new IGrowArray();
+
+        tree.selectIndependent(1, selected);
+        assertEquals(1, selected.length);
+        assertEquals(6, selected.get(0));
+
+        tree.selectIndependent(2, selected);
+        assertEquals(2, selected.length);
+        assertTrue(contains(selected, 2));
+        assertTrue(contains(selected, 5));
+
+        // Node 2 has more columns so it's split first
+        tree.selectIndependent(3, selected);
+        assertEquals(3, selected.length);
+        assertTrue(contains(selected, 0));
+        assertTrue(contains(selected, 1));
+        assertTrue(contains(selected, 5));
+
+        // Can't be split into more subtrees than there are leaves
+        tree.selectIndependent(10, selected);
+        assertEquals(4, selected.length);
+        for (int node : new int[]{0, 1, 3, 4}) {
+            assertTrue(contains(selected, node));
+        }
+    }
+
+    private static boolean contains( IGrowArray array, int value ) {
+        for (int i = 0; i < array.length; i++) {
+            if (array.data[i] == value)
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
+import org.ejml.dense.row.mult.MatrixVectorMult_DDRM;
+import org.ejml.dense.row.mult.VectorVectorMult_DDRM;
+import org.ejml.simd.EjmlSimd;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares operations which use the SIMD kernels against the scalar code. The Vector API module needs to be
+ * added to the forked JVM or else both will run the scalar code.
+ */
+@SuppressWarnings("ALL")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BenchmarkSimd_DDRM {
+    @Param({"true", "false"})
+    public boolean simd;
+
+    @Param({"40", "200"})
+    public int size;
+
+    public DMatrixRMaj A = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj B = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj C = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj Va = new DMatrixRMaj(1, 1);
+    public DMatrixRMaj Vb = new DMatrixRMaj(1, 1);
+
+    @Setup
+    public void setup() {
+        if (simd && !EjmlSimd.isAvailable())
+            throw new RuntimeException("SIMD kernels are not available");
+        EjmlSimd.USE_SIMD = simd;
+
+        var rand = new Random(234);
+        A = RandomMatrices_DDRM.rectangle(size, size, -1, 1, rand);
+        B = RandomMatrices_DDRM.rectangle(size, size, -1, 1, rand);
+        C = RandomMatrices_DDRM.rectangle(size, size, -1, 1, rand);
+        Va = RandomMatrices_DDRM.rectangle(size, 1, -1, 1, rand);
+        Vb = RandomMatrices_DDRM.rectangle(size, 1, -1, 1, rand);
+    }
+
+    // @formatter:off
+    @Benchmark public double innerProd() { return VectorVectorMult_DDRM.innerProd(Va, Vb); }
+    @Benchmark public void multVector() { MatrixVectorMult_DDRM.mult(A, Va, Vb); }
+    @Benchmark public void multTransAVector() { MatrixVectorMult_DDRM.multTransA_reorder(A, Va, Vb); }
+    @Benchmark public void mult_reorder() { MatrixMatrixMult_DDRM.mult_reorder(A, B, C); }
+    @Benchmark public void multTransB() { MatrixMatrixMult_DDRM.multTransB(A, B, C); }
+    // @formatter:on
+
+    public static void main( String[] args ) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BenchmarkSimd_DDRM.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
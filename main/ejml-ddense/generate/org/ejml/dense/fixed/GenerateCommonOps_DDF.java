@@ -72,6 +72,10 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
             }
             cholL(dimension);
             cholU(dimension);
+            if (dimension <= 3) {
+                eigSymm(dimension);
+                svd(dimension);
+            }
             trace(dimension);
             diag(dimension);
             elementMax(dimension);
@@ -116,6 +120,7 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
                 "import org.ejml.UtilEjml;\n" +
                         "import org.ejml.data." + nameVector + ";\n" +
                         "import org.ejml.data." + nameMatrix + ";\n" +
+                        (dimen <= 3 ? "import org.jetbrains.annotations.Nullable;\n" : "") +
                         "\n" +
                         "/**\n" +
                         " * <p>Common matrix operations for fixed sized matrices which are " + dimen + " x " + dimen + " or " + dimen + " element vectors.</p>\n" +
@@ -866,6 +871,43 @@ public class GenerateCommonOps_DDF extends GenerateFixed {
         return "a" + row + "" + col;
     }
 
+    private void eigSymm( int dimen ) {
+        out.print("    /**\n" +
+                "     * <p>Computes the eigen decomposition of a symmetric matrix using unrolled Jacobi rotations. Eigenvalues\n" +
+                "     * are sorted in descending order. Only the upper triangle is read and no memory is declared.</p>\n" +
+                "     *\n" +
+                "     * A = V*D*V<sup>T</sup>\n" +
+                "     *\n" +
+                "     * @param A (Input) Symmetric matrix. Not modified.\n" +
+                "     * @param values (Output) Eigenvalues in descending order. Modified.\n" +
+                "     * @param vectors (Output) Eigenvectors stored in the columns. If null it's ignored. Modified.\n" +
+                "     * @return true if it converged\n" +
+                "     */\n" +
+                "    public static boolean eigSymm( " + nameMatrix + " A , " + nameVector + " values , @Nullable " + nameMatrix + " vectors ) {\n" +
+                "        return ImplCommonOps_DDF.eigSymm(A, values, vectors);\n" +
+                "    }\n\n");
+    }
+
+    private void svd( int dimen ) {
+        out.print("    /**\n" +
+                "     * <p>Computes the singular value decomposition. V is found from the eigenvectors of A<sup>T</sup>A\n" +
+                "     * and U from a QR decomposition of A*V. Singular values are in descending order. No memory is\n" +
+                "     * declared.</p>\n" +
+                "     *\n" +
+                "     * A = U*W*V<sup>T</sup>\n" +
+                "     *\n" +
+                "     * @param A (Input) Matrix being decomposed. Not modified.\n" +
+                "     * @param U (Output) Orthogonal matrix. Modified.\n" +
+                "     * @param sv (Output) Singular values in descending order. Modified.\n" +
+                "     * @param Vt (Output) Transpose of the orthogonal matrix V. Modified.\n" +
+                "     * @return true if it converged\n" +
+                "     */\n" +
+                "    public static boolean svd( " + nameMatrix + " A , " + nameMatrix + " U , " + nameVector + " sv , " + nameMatrix + " Vt ) {\n" +
+                "        UtilEjml.checkSameInstance(U,Vt);\n" +
+                "        return ImplCommonOps_DDF.svd(A, U, sv, Vt);\n" +
+                "    }\n\n");
+    }
+
     private void trace( int dimen ) {
         out.print("    /**\n" +
                 "     * <p>\n" +
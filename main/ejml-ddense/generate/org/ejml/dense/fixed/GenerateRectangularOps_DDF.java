@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.CodeGeneratorBase;
+import org.ejml.data.GenerateMatrixFixedNxN;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Automatic code generator for operations on fixed sized rectangular matrices. Multiplication is generated
+ * between every combination of square and rectangular fixed sized matrices which have compatible shapes
+ * and where at least one of the matrices is rectangular.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateRectangularOps_DDF extends CodeGeneratorBase {
+
+    // All the fixed sized matrix shapes. Square then rectangular
+    List<int[]> shapes = new ArrayList<>();
+
+    public GenerateRectangularOps_DDF() {
+        for (int dimension = 2; dimension <= 6; dimension++) {
+            shapes.add(new int[]{dimension, dimension});
+        }
+        for (int[] shape : GenerateMatrixFixedNxN.RECTANGULAR) {
+            shapes.add(shape);
+        }
+    }
+
+    @Override
+    public void generate() throws FileNotFoundException {
+        printPreable();
+
+        for (int[] shape : GenerateMatrixFixedNxN.RECTANGULAR) {
+            int rows = shape[0], cols = shape[1];
+            add(rows, cols);
+            subtract(rows, cols);
+            scale_two(rows, cols);
+            scale_three(rows, cols);
+            fill(rows, cols);
+            transpose(rows, cols);
+            mult_m_v_v(rows, cols);
+            multTransA_m_v_v(rows, cols);
+        }
+
+        for (int[] a : shapes) {
+            for (int[] b : shapes) {
+                // c = a*b
+                if (a[1] == b[0])
+                    mult("mult", a, b, a[0], b[1], false, false);
+                // c = a'*b
+                if (a[0] == b[0])
+                    mult("multTransA", a, b, a[1], b[1], true, false);
+                // c = a*b'
+                if (a[1] == b[1])
+                    mult("multTransB", a, b, a[0], b[0], false, true);
+            }
+        }
+
+        out.println("}\n");
+    }
+
+    public void printPreable() throws FileNotFoundException {
+        setOutputFile("RectangularOps_DDF");
+
+        // Only import the square matrices and vectors which have a dimension used by a rectangular matrix
+        SortedSet<String> imports = new TreeSet<>();
+        for (int[] shape : GenerateMatrixFixedNxN.RECTANGULAR) {
+            imports.add(matrix(shape[0], shape[1]));
+            for (int length : shape) {
+                imports.add(matrix(length, length));
+                imports.add(vector(length));
+            }
+        }
+
+        out.print("import org.ejml.UtilEjml;\n");
+        for (String name : imports) {
+            out.print("import org.ejml.data." + name + ";\n");
+        }
+        out.print("import org.jetbrains.annotations.Nullable;\n" +
+                "\n" +
+                "/**\n" +
+                " * <p>Common matrix operations for fixed sized rectangular matrices, e.g. {@link DMatrix3x4}, and\n" +
+                " * multiplication between rectangular and square fixed sized matrices. Operations which only involve\n" +
+                " * square matrices are in {@link CommonOps_DDF3} and similar classes.</p>\n" +
+                standardClassDocClosing("Peter Abeles") +
+                "public class " + className + " {\n");
+    }
+
+    private static String matrix( int rows, int cols ) {
+        return "DMatrix" + rows + "x" + cols;
+    }
+
+    private static String vector( int length ) {
+        return "DMatrix" + length;
+    }
+
+    private boolean shapeExists( int rows, int cols ) {
+        for (int[] s : shapes) {
+            if (s[0] == rows && s[1] == cols)
+                return true;
+        }
+        return false;
+    }
+
+    private void add( int rows, int cols ) {
+        String name = matrix(rows, cols);
+        out.print("    /**\n" +
+                "     * <p>Performs the following operation:<br>\n" +
+                "     * <br>\n" +
+                "     * c = a + b <br>\n" +
+                "     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Matrix C can be the same instance as Matrix A and/or B.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a A Matrix. Not modified.\n" +
+                "     * @param b A Matrix. Not modified.\n" +
+                "     * @param c A Matrix where the results are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void add( " + name + " a , " + name + " b , " + name + " c ) {\n");
+        for (int y = 1; y <= rows; y++) {
+            for (int x = 1; x <= cols; x++) {
+                String n = y + "" + x;
+                out.print("        c.a" + n + " = a.a" + n + " + b.a" + n + ";\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void subtract( int rows, int cols ) {
+        String name = matrix(rows, cols);
+        out.print("    /**\n" +
+                "     * <p>Performs the following operation:<br>\n" +
+                "     * <br>\n" +
+                "     * c = a - b <br>\n" +
+                "     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Matrix C can be the same instance as Matrix A and/or B.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a A Matrix. Not modified.\n" +
+                "     * @param b A Matrix. Not modified.\n" +
+                "     * @param c A Matrix where the results are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void subtract( " + name + " a , " + name + " b , " + name + " c ) {\n");
+        for (int y = 1; y <= rows; y++) {
+            for (int x = 1; x <= cols; x++) {
+                String n = y + "" + x;
+                out.print("        c.a" + n + " = a.a" + n + " - b.a" + n + ";\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void scale_two( int rows, int cols ) {
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Performs an in-place element by element scalar multiplication.<br>\n" +
+                "     * <br>\n" +
+                "     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a The matrix that is to be scaled. Modified.\n" +
+                "     * @param alpha the amount each element is multiplied by.\n" +
+                "     */\n" +
+                "    public static void scale( double alpha , " + matrix(rows, cols) + " a ) {\n");
+        for (int y = 1; y <= rows; y++) {
+            out.print("        ");
+            for (int x = 1; x <= cols; x++) {
+                out.print("a.a" + y + "" + x + " *= alpha;");
+                out.print(x < cols ? " " : "\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void scale_three( int rows, int cols ) {
+        String name = matrix(rows, cols);
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Performs an element by element scalar multiplication.<br>\n" +
+                "     * <br>\n" +
+                "     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param alpha the amount each element is multiplied by.\n" +
+                "     * @param a The matrix that is to be scaled. Not modified.\n" +
+                "     * @param b Where the scaled matrix is stored. Modified.\n" +
+                "     */\n" +
+                "    public static void scale( double alpha , " + name + " a , " + name + " b ) {\n");
+        for (int y = 1; y <= rows; y++) {
+            out.print("        ");
+            for (int x = 1; x <= cols; x++) {
+                String w = "a" + y + "" + x;
+                out.print("b." + w + " = a." + w + "*alpha;");
+                out.print(x < cols ? " " : "\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void fill( int rows, int cols ) {
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Sets every element in the matrix to the specified value.<br>\n" +
+                "     * <br>\n" +
+                "     * a<sub>ij</sub> = value\n" +
+                "     * <p>\n" +
+                "     *\n" +
+                "     * @param a A matrix whose elements are about to be set. Modified.\n" +
+                "     * @param v The value each element will have.\n" +
+                "     */\n" +
+                "    public static void fill( " + matrix(rows, cols) + " a , double v  ) {\n");
+        for (int y = 1; y <= rows; y++) {
+            out.print("        ");
+            for (int x = 1; x <= cols; x++) {
+                out.print("a.a" + y + "" + x + " = v;");
+                out.print(x < cols ? " " : "\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void transpose( int rows, int cols ) {
+        String nameIn = matrix(rows, cols);
+        String nameOut = matrix(cols, rows);
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Transposes matrix 'a' and stores the results in 'b':<br>\n" +
+                "     * <br>\n" +
+                "     * b<sub>ij</sub> = a<sub>ji</sub><br>\n" +
+                "     * where 'b' is the transpose of 'a'.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param input The original matrix. Not modified.\n" +
+                "     * @param output Where the transpose is stored. If null a new matrix is created. Modified.\n" +
+                "     * @return The transposed matrix.\n" +
+                "     */\n" +
+                "    public static " + nameOut + " transpose( " + nameIn + " input , @Nullable " + nameOut + " output ) {\n" +
+                "        if (output == null)\n" +
+                "            output = new " + nameOut + "();\n\n");
+        for (int y = 1; y <= cols; y++) {
+            for (int x = 1; x <= rows; x++) {
+                out.print("        output.a" + y + "" + x + " = input.a" + x + "" + y + ";\n");
+            }
+        }
+        out.print("\n        return output;\n" +
+                "    }\n\n");
+    }
+
+    private void mult_m_v_v( int rows, int cols ) {
+        out.print("    /**\n" +
+                "     * <p>Performs matrix to vector multiplication:<br>\n" +
+                "     * <br>\n" +
+                "     * c = a * b <br>\n" +
+                "     * <br>\n" +
+                "     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a The left matrix in the multiplication operation. Not modified.\n" +
+                "     * @param b The right vector in the multiplication operation. Not modified.\n" +
+                "     * @param c Where the results of the operation are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void mult( " + matrix(rows, cols) + " a , " + vector(cols) + " b , " + vector(rows) + " c) {\n");
+        for (int y = 1; y <= rows; y++) {
+            out.print("        c.a" + y + " = ");
+            for (int x = 1; x <= cols; x++) {
+                out.print("a.a" + y + "" + x + "*b.a" + x);
+                out.print(x < cols ? " + " : ";\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    private void multTransA_m_v_v( int rows, int cols ) {
+        out.print("    /**\n" +
+                "     * <p>Performs transposed matrix to vector multiplication:<br>\n" +
+                "     * <br>\n" +
+                "     * c = a<sup>T</sup> * b <br>\n" +
+                "     * <br>\n" +
+                "     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a The left matrix in the multiplication operation. Not modified.\n" +
+                "     * @param b The right vector in the multiplication operation. Not modified.\n" +
+                "     * @param c Where the results of the operation are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void multTransA( " + matrix(rows, cols) + " a , " + vector(rows) + " b , " + vector(cols) + " c) {\n");
+        for (int y = 1; y <= cols; y++) {
+            out.print("        c.a" + y + " = ");
+            for (int x = 1; x <= rows; x++) {
+                out.print("a.a" + x + "" + y + "*b.a" + x);
+                out.print(x < rows ? " + " : ";\n");
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    /**
+     * Generates a multiplication function if the output shape exists and at least one matrix is rectangular.
+     *
+     * @param a Shape of the left matrix
+     * @param b Shape of the right matrix
+     * @param rows Number of rows in the output
+     * @param cols Number of columns in the output
+     */
+    private void mult( String name, int[] a, int[] b, int rows, int cols, boolean transA, boolean transB ) {
+        if (!shapeExists(rows, cols))
+            return;
+        if (a[0] == a[1] && b[0] == b[1] && rows == cols)
+            return;
+
+        String nameA = matrix(a[0], a[1]);
+        String nameB = matrix(b[0], b[1]);
+        String nameC = matrix(rows, cols);
+        int inner = transA ? a[0] : a[1];
+
+        String opA = transA ? "a<sup>T</sup>" : "a";
+        String opB = transB ? "b<sup>T</sup>" : "b";
+        String subA = transA ? "a<sub>ki</sub>" : "a<sub>ik</sub>";
+        String subB = transB ? "b<sub>jk</sub>" : "b<sub>kj</sub>";
+
+        out.print("    /**\n" +
+                "     * <p>Performs the following operation:<br>\n" +
+                "     * <br>\n" +
+                "     * c = " + opA + " * " + opB + " <br>\n" +
+                "     * <br>\n" +
+                "     * c<sub>ij</sub> = &sum;<sub>k=1:" + inner + "</sub> { " + subA + " * " + subB + "}\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a (Input) The left matrix in the multiplication operation. Not modified.\n" +
+                "     * @param b (Input) The right matrix in the multiplication operation. Not modified.\n" +
+                "     * @param c (Output) Where the results of the operation are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void " + name + "( " + nameA + " a , " + nameB + " b , " + nameC + " c) {\n");
+        if (nameA.equals(nameC))
+            out.print("        UtilEjml.checkSameInstance(a,c);\n");
+        if (nameB.equals(nameC))
+            out.print("        UtilEjml.checkSameInstance(b,c);\n");
+
+        for (int y = 1; y <= rows; y++) {
+            for (int x = 1; x <= cols; x++) {
+                out.print("        c.a" + y + "" + x + " = ");
+                for (int k = 1; k <= inner; k++) {
+                    String elA = transA ? k + "" + y : y + "" + k;
+                    String elB = transB ? x + "" + k : k + "" + x;
+                    out.print("a.a" + elA + "*b.a" + elB);
+                    out.print(k < inner ? " + " : ";\n");
+                }
+            }
+        }
+        out.print("    }\n\n");
+    }
+
+    public static void main( String[] args ) throws FileNotFoundException {
+        GenerateRectangularOps_DDF app = new GenerateRectangularOps_DDF();
+
+        app.generate();
+    }
+}
@@ -45,6 +45,8 @@ public class GenerateMatrixMatrixMult_DDRM extends CodeGeneratorBase {
                 "import org.ejml.data.DMatrix1Row;\n" +
                 "import org.ejml.UtilEjml;\n" +
                 "import org.ejml.dense.row.CommonOps_DDRM;\n" +
+                "import org.ejml.simd.EjmlSimd;\n" +
+                "import org.ejml.simd.SimdKernels;\n" +
                 "import org.jetbrains.annotations.Nullable;\n" +
                 "//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;\n" +
                 "\n" +
@@ -207,6 +209,7 @@ public class GenerateMatrixMatrixMult_DDRM extends CodeGeneratorBase {
         String foo =
                 header + makeBoundsCheck(false,false, null,!add)+handleZeros(add) +
                         "        final int endOfKLoop = B.numRows*B.numCols;\n"+
+                        "        final SimdKernels simd = EjmlSimd.kernels(B.numCols);\n" +
                         "\n" +
                         "        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, i -> {\n" +
                         "        for (int i = 0; i < A.numRows; i++) {\n" +
@@ -231,6 +234,11 @@ public class GenerateMatrixMatrixMult_DDRM extends CodeGeneratorBase {
                         "\n" +
                         "                "+valLine+
                         "\n" +
+                        "                if (simd != null) {\n" +
+                        "                    simd.axpy(B.numCols, valA, B.data, indexB, C.data, indexCbase);\n" +
+                        "                    indexB = end;\n" +
+                        "                    continue;\n" +
+                        "                }\n" +
                         "                while (indexB < end) { // j loop\n" +
                         "                    C.data[indexC++] += valA*B.data[indexB++];\n" +
                         "                }\n" +
@@ -415,6 +423,7 @@ public class GenerateMatrixMatrixMult_DDRM extends CodeGeneratorBase {
 
         String foo =
                 header + makeBoundsCheck(false,true, null,!add)+
+                        "        final SimdKernels simd = EjmlSimd.kernels(B.numCols);\n" +
                         "        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, xA -> {\n" +
                         "        for (int xA = 0; xA < A.numRows; xA++) {\n" +
                         "            int cIndex = xA*B.numRows;\n" +
@@ -425,8 +434,13 @@ public class GenerateMatrixMatrixMult_DDRM extends CodeGeneratorBase {
                         "                int indexA = aIndexStart;\n" +
                         "\n" +
                         "                double total = 0;\n" +
-                        "                while (indexA < end) {\n" +
-                        "                    total += A.data[indexA++]*B.data[indexB++];\n" +
+                        "                if (simd != null) {\n" +
+                        "                    total = simd.dot(B.numCols, A.data, aIndexStart, B.data, indexB);\n" +
+                        "                    indexB += B.numCols;\n" +
+                        "                } else {\n" +
+                        "                    while (indexA < end) {\n" +
+                        "                        total += A.data[indexA++]*B.data[indexB++];\n" +
+                        "                    }\n" +
                         "                }\n" +
                         "\n" +
                         "                "+valLine +
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.block.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.*;
+import org.ejml.dense.block.InnerTriangularSolver_DDRB;
+import org.ejml.dense.block.MatrixMult_DDRB;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+//CONCURRENT_MACRO MatrixMult_DDRB MatrixMult_MT_DDRB
+
+/**
+ * <p>
+ * Right looking block LU decomposition with partial pivoting. Each iteration a panel that's one block wide is
+ * decomposed using an unblocked algorithm, the rows to the right are solved using the panel's unit lower
+ * triangular matrix, and the remaining lower right submatrix is updated with a matrix multiplication. Almost all
+ * the work is done in the matrix multiplication, which operates on whole blocks and is cache friendly. The
+ * original matrix is modified and row swaps are applied across the entire row.
+ * </p>
+ *
+ * <p>
+ * Based on the description of "right-looking" LU in "Matrix Computations" 4th Ed. by Golub and Van Loan.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("NullAway.Init")
+public class LUDecompositionRightLooking_DDRB implements LUDecomposition_F64<DMatrixRBlock> {
+    // The decomposed matrix
+    private DMatrixRBlock LU;
+
+    // Row i in LU is row pivot[i] in the input matrix
+    private final IGrowArray gpivot = new IGrowArray();
+    // sign of the determinant of the pivot matrix
+    private double pivsign;
+
+    // copy of the unit lower triangular matrix in the current panel
+    private final DGrowArray workL = new DGrowArray();
+
+    // predeclare local work space
+    private final DSubmatrixD1 subL = new DSubmatrixD1();
+    private final DSubmatrixD1 subU = new DSubmatrixD1();
+    private final DSubmatrixD1 subC = new DSubmatrixD1();
+
+    // storage for the determinant
+    private final Complex_F64 det = new Complex_F64();
+
+    /**
+     * Decomposes the provided matrix and stores the result in the same matrix.
+     *
+     * @param A Matrix that is to be decomposed. Modified.
+     * @return true. Use {@link #isSingular()} to see if the matrix was singular
+     */
+    @Override
+    public boolean decompose( DMatrixRBlock A ) {
+        this.LU = A;
+
+        final int m = A.numRows;
+        final int n = A.numCols;
+        final int blockLength = A.blockLength;
+
+        int[] pivot = UtilEjml.adjust(gpivot, m);
+        for (int i = 0; i < m; i++) {
+            pivot[i] = i;
+        }
+        pivsign = 1;
+
+        subL.set(A);
+        subU.set(A);
+        subC.set(A);
+
+        final int K = Math.min(m, n);
+        for (int k = 0; k < K; k += blockLength) {
+            int widthK = Math.min(blockLength, n - k);
+            int heightK = Math.min(blockLength, m - k);
+
+            decomposePanel(k, widthK, heightK);
+
+            // on the last block these operations are not needed
+            if (k + widthK >= n)
+                continue;
+
+            // U12 = L11^-1 * A12
+            solveRightOfPanel(k, widthK, heightK);
+
+            if (k + heightK >= m)
+                continue;
+
+            //@formatter:off
+            subL.row0 = k + heightK;  subL.row1 = m;
+            subL.col0 = k;            subL.col1 = k + widthK;
+
+            subU.row0 = k;            subU.row1 = k + heightK;
+            subU.col0 = k + widthK;   subU.col1 = n;
+
+            subC.row0 = k + heightK;  subC.row1 = m;
+            subC.col0 = k + widthK;   subC.col1 = n;
+            //@formatter:on
+
+            // A22 = A22 - L21*U12
+            MatrixMult_DDRB.multMinus(blockLength, subL, subU, subC);
+        }
+
+        return true;
+    }
+
+    /**
+     * Decomposes the columns inside the block column which starts at column k using an unblocked algorithm.
+     * Rows are swapped across the entire matrix.
+     */
+    private void decomposePanel( int k, int widthK, int heightK ) {
+        final double[] data = LU.data;
+        final int m = LU.numRows;
+        final int n = LU.numCols;
+        final int blockLength = LU.blockLength;
+
+        for (int j = k; j < k + heightK && j < k + widthK; j++) {
+            // Find the pivot. Row 'j' is always inside the first block row in the panel
+            int indexJ = k*n + heightK*k + (j - k)*widthK;
+            int p = j;
+            double max = Math.abs(data[indexJ + j - k]);
+            for (int row0 = k; row0 < m; row0 += blockLength) {
+                int height = Math.min(blockLength, m - row0);
+                int start = Math.max(j + 1, row0);
+                int index = row0*n + height*k + (start - row0)*widthK + j - k;
+                for (int i = start; i < row0 + height; i++, index += widthK) {
+                    double v = Math.abs(data[index]);
+                    if (v > max) {
+                        p = i;
+                        max = v;
+                    }
+                }
+            }
+
+            if (p != j) {
+                swapRows(j, p);
+                int[] pivot = gpivot.data;
+                int tmp = pivot[p];
+                pivot[p] = pivot[j];
+                pivot[j] = tmp;
+                pivsign = -pivsign;
+            }
+
+            // compute the multipliers and update the remainder of the panel
+            double ujj = data[indexJ + j - k];
+            for (int row0 = k; row0 < m; row0 += blockLength) {
+                int height = Math.min(blockLength, m - row0);
+                int start = Math.max(j + 1, row0);
+                int index = row0*n + height*k + (start - row0)*widthK;
+                for (int i = start; i < row0 + height; i++, index += widthK) {
+                    double lij = data[index + j - k];
+                    if (ujj != 0)
+                        data[index + j - k] = lij /= ujj;
+                    for (int col = j + 1 - k; col < widthK; col++) {
+                        data[index + col] -= lij*data[indexJ + col];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves for the upper triangular portion of the rows in the panel which are to the right of the panel
+     */
+    private void solveRightOfPanel( int k, int widthK, int heightK ) {
+        final double[] data = LU.data;
+        final int n = LU.numCols;
+        final int blockLength = LU.blockLength;
+
+        // Copy the lower triangle so that it has ones along its diagonal
+        final double[] L = workL.reshape(heightK*heightK).data;
+        int indexL = k*n + heightK*k;
+        for (int i = 0; i < heightK; i++) {
+            System.arraycopy(data, indexL + i*widthK, L, i*heightK, i);
+            L[i*heightK + i] = 1.0;
+        }
+
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(k + widthK, n, blockLength, col -> {
+        for (int col = k + widthK; col < n; col += blockLength) {
+            int widthB = Math.min(blockLength, n - col);
+            InnerTriangularSolver_DDRB.solveL(L, data, heightK, widthB, heightK, 0, k*n + heightK*col);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Swaps two rows across all the blocks
+     */
+    private void swapRows( int rowA, int rowB ) {
+        final double[] data = LU.data;
+        final int m = LU.numRows;
+        final int n = LU.numCols;
+        final int blockLength = LU.blockLength;
+
+        int blockA = rowA - rowA%blockLength;
+        int blockB = rowB - rowB%blockLength;
+        int heightA = Math.min(blockLength, m - blockA);
+        int heightB = Math.min(blockLength, m - blockB);
+
+        for (int col = 0; col < n; col += blockLength) {
+            int width = Math.min(blockLength, n - col);
+            int indexA = blockA*n + heightA*col + (rowA - blockA)*width;
+            int indexB = blockB*n + heightB*col + (rowB - blockB)*width;
+            for (int i = 0; i < width; i++) {
+                double tmp = data[indexA + i];
+                data[indexA + i] = data[indexB + i];
+                data[indexB + i] = tmp;
+            }
+        }
+    }
+
+    @Override
+    public DMatrixRBlock getLower( @Nullable DMatrixRBlock lower ) {
+        int numRows = LU.numRows;
+        int numCols = Math.min(LU.numRows, LU.numCols);
+
+        lower = checkZeros(lower, numRows, numCols);
+
+        for (int i = 0; i < numRows; i++) {
+            if (i < numCols)
+                lower.set(i, i, 1.0);
+            for (int j = 0; j < Math.min(i, numCols); j++) {
+                lower.set(i, j, LU.get(i, j));
+            }
+        }
+        return lower;
+    }
+
+    @Override
+    public DMatrixRBlock getUpper( @Nullable DMatrixRBlock upper ) {
+        int numRows = Math.min(LU.numRows, LU.numCols);
+        int numCols = LU.numCols;
+
+        upper = checkZeros(upper, numRows, numCols);
+
+        for (int i = 0; i < numRows; i++) {
+            for (int j = i; j < numCols; j++) {
+                upper.set(i, j, LU.get(i, j));
+            }
+        }
+        return upper;
+    }
+
+    @Override
+    public DMatrixRBlock getRowPivot( @Nullable DMatrixRBlock pivot ) {
+        int N = LU.numRows;
+        pivot = checkZeros(pivot, N, N);
+
+        for (int i = 0; i < N; i++) {
+            pivot.set(i, gpivot.data[i], 1.0);
+        }
+        return pivot;
+    }
+
+    private DMatrixRBlock checkZeros( @Nullable DMatrixRBlock M, int numRows, int numCols ) {
+        if (M == null)
+            return new DMatrixRBlock(numRows, numCols, LU.blockLength);
+        M.reshape(numRows, numCols, LU.blockLength, false);
+        M.zero();
+        return M;
+    }
+
+    @Override
+    public int[] getRowPivotV( @Nullable IGrowArray pivot ) {
+        return UtilEjml.pivotVector(gpivot.data, LU.numRows, pivot);
+    }
+
+    @Override
+    public boolean isSingular() {
+        int N = Math.min(LU.numRows, LU.numCols);
+        for (int i = 0; i < N; i++) {
+            if (Math.abs(LU.get(i, i)) < UtilEjml.EPS)
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Complex_F64 computeDeterminant() {
+        if (LU.numRows != LU.numCols)
+            throw new IllegalArgumentException("Must be a square matrix.");
+
+        double prod = pivsign;
+        for (int i = 0; i < LU.numRows; i++) {
+            prod *= LU.get(i, i);
+        }
+
+        det.real = prod;
+        det.imaginary = 0;
+
+        return det;
+    }
+
+    /**
+     * Returns the decomposed matrix. Row i is row pivot[i] in the original matrix.
+     */
+    public DMatrixRBlock getLU() {
+        return LU;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Operations on a batch of small matrices stored in a {@link DMatrixBatch}. The same operation is applied
+ * independently to every matrix in the batch. Intended for when a large number of small problems,
+ * e.g. 3x3 rotations or 6x6 covariances, need to be processed. Loops are across the batch, so memory is accessed
+ * sequentially and the JVM can vectorize across matrices. See {@link BatchOps_MT_DDF} for a concurrent version.
+ * </p>
+ *
+ * <p>
+ * Functions which can fail return false if it failed on any of the matrices in the batch. The results for
+ * matrices where it failed will contain NaN or infinite values.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps_DDF {
+    /**
+     * <p>Performs the following operation on each matrix in the batch:<br>
+     * <br>
+     * c = a * b
+     * </p>
+     *
+     * @param a (Input) Left matrices. Not modified.
+     * @param b (Input) Right matrices. Not modified.
+     * @param output (Output) Storage for the results. Can't be the same instance as a or b. If null, a new
+     * batch is declared.
+     * @return The results
+     */
+    public static DMatrixBatch mult( DMatrixBatch a, DMatrixBatch b, @Nullable DMatrixBatch output ) {
+        output = checkMult(a, b, output);
+        ImplBatchOps_DDF.mult(a, b, output, 0, a.length);
+        return output;
+    }
+
+    /**
+     * Computes the inverse of each matrix using Gaussian elimination with partial pivoting.
+     *
+     * @param a (Input) Square matrices. Not modified.
+     * @param inv (Output) The inverse of each matrix. Can't be the same instance as a.
+     * @return true if all the matrices were inverted, false if any were singular
+     */
+    public static boolean invert( DMatrixBatch a, DMatrixBatch inv ) {
+        checkSquare(a);
+        checkNotSame(a, inv);
+        inv.reshape(a.numRows, a.numCols, a.length);
+        return ImplBatchOps_DDF.solve(a, null, inv, true, new ImplBatchOps_DDF.Workspace(), 0, a.length);
+    }
+
+    /**
+     * Solves a*x = b for each matrix in the batch using Gaussian elimination with partial pivoting.
+     *
+     * @param a (Input) Square matrices. Not modified.
+     * @param b (Input) Right hand side. Vectors or matrices. Not modified.
+     * @param x (Output) Solution. Can't be the same instance as a.
+     * @return true if successful, false if any of the matrices were singular
+     */
+    public static boolean solve( DMatrixBatch a, DMatrixBatch b, DMatrixBatch x ) {
+        checkSolve(a, b);
+        checkNotSame(a, x);
+        x.reshape(b.numRows, b.numCols, b.length);
+        return ImplBatchOps_DDF.solve(a, b, x, false, new ImplBatchOps_DDF.Workspace(), 0, a.length);
+    }
+
+    /**
+     * Computes the determinant of each matrix in the batch. Matrices up to 4x4 use cofactor expansion and are
+     * about twice as fast as calling CommonOps_DDF3.det() or CommonOps_DDF4.det() on each matrix. Larger matrices
+     * use Gaussian elimination, which for a 5x5 is about 25% slower than calling CommonOps_DDF5.det() on
+     * matrices which are already stored as separate objects.
+     *
+     * @param a (Input) Square matrices. Not modified.
+     * @param output (Output) Storage for the determinants. If null or too small a new array is declared.
+     * @return The determinants
+     */
+    public static double[] det( DMatrixBatch a, @Nullable double[] output ) {
+        checkSquare(a);
+        int len = a.length;
+        if (output == null || output.length < len)
+            output = new double[len];
+        ImplBatchOps_DDF.det(a, output, new ImplBatchOps_DDF.Workspace(), 0, len);
+        return output;
+    }
+
+    /**
+     * Performs a lower Cholesky decomposition of each matrix in the batch. Only the lower triangle is read.
+     * The upper triangle is set to zero.
+     *
+     * @param A (Input) Symmetric positive definite matrices. (Output) Lower triangular matrices.
+     * @return true if successful, false if any of the matrices were not positive definite
+     */
+    public static boolean cholL( DMatrixBatch A ) {
+        checkSquare(A);
+        return ImplBatchOps_DDF.cholL(A, new ImplBatchOps_DDF.Workspace(), 0, A.length);
+    }
+
+    static DMatrixBatch checkMult( DMatrixBatch a, DMatrixBatch b, @Nullable DMatrixBatch output ) {
+        if (a.numCols != b.numRows)
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        if (a.length != b.length)
+            throw new IllegalArgumentException("Batches must have the same length");
+        if (output == null)
+            output = new DMatrixBatch(a.numRows, b.numCols, a.length);
+        else
+            output.reshape(a.numRows, b.numCols, a.length);
+        checkNotSame(a, output);
+        checkNotSame(b, output);
+        return output;
+    }
+
+    static void checkSolve( DMatrixBatch a, DMatrixBatch b ) {
+        checkSquare(a);
+        if (a.numRows != b.numRows)
+            throw new MatrixDimensionException("Number of rows in 'a' and 'b' must match");
+        if (a.length != b.length)
+            throw new IllegalArgumentException("Batches must have the same length");
+    }
+
+    static void checkSquare( DMatrixBatch a ) {
+        if (a.numRows != a.numCols)
+            throw new MatrixDimensionException("Matrices must be square");
+    }
+
+    static void checkNotSame( DMatrixBatch a, DMatrixBatch b ) {
+        if (a == b)
+            throw new IllegalArgumentException("Input and output can't be the same instance");
+    }
+}
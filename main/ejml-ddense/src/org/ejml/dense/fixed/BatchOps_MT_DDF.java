@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * Concurrent implementation of {@link BatchOps_DDF}. The batch is split into blocks of matrices which are
+ * processed by different threads. Matrices in the batch are independent, so the results are identical to
+ * the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps_MT_DDF {
+    /** Minimum number of matrices processed by a thread */
+    public static int MIN_BLOCK = 1024;
+
+    /**
+     * Concurrent version of {@link BatchOps_DDF#mult}
+     */
+    public static DMatrixBatch mult( DMatrixBatch a, DMatrixBatch b, @Nullable DMatrixBatch output ) {
+        final DMatrixBatch c = BatchOps_DDF.checkMult(a, b, output);
+        EjmlConcurrency.loopBlocks(0, a.length, MIN_BLOCK, ( idx0, idx1 ) ->
+                ImplBatchOps_DDF.mult(a, b, c, idx0, idx1));
+        return c;
+    }
+
+    /**
+     * Concurrent version of {@link BatchOps_DDF#invert}
+     */
+    public static boolean invert( DMatrixBatch a, DMatrixBatch inv ) {
+        BatchOps_DDF.checkSquare(a);
+        BatchOps_DDF.checkNotSame(a, inv);
+        inv.reshape(a.numRows, a.numCols, a.length);
+        return solve(a, null, inv, true);
+    }
+
+    /**
+     * Concurrent version of {@link BatchOps_DDF#solve}
+     */
+    public static boolean solve( DMatrixBatch a, DMatrixBatch b, DMatrixBatch x ) {
+        BatchOps_DDF.checkSolve(a, b);
+        BatchOps_DDF.checkNotSame(a, x);
+        x.reshape(b.numRows, b.numCols, b.length);
+        return solve(a, b, x, false);
+    }
+
+    private static boolean solve( DMatrixBatch a, @Nullable DMatrixBatch b, DMatrixBatch x, boolean identity ) {
+        final var success = new boolean[]{true};
+        EjmlConcurrency.loopBlocks(0, a.length, MIN_BLOCK, createWorkspace(), ( work, idx0, idx1 ) -> {
+            if (!ImplBatchOps_DDF.solve(a, b, x, identity, work, idx0, idx1))
+                success[0] = false;
+        });
+        return success[0];
+    }
+
+    /**
+     * Concurrent version of {@link BatchOps_DDF#det}
+     */
+    public static double[] det( DMatrixBatch a, @Nullable double[] output ) {
+        BatchOps_DDF.checkSquare(a);
+        final int len = a.length;
+        final double[] det = output == null || output.length < len ? new double[len] : output;
+        EjmlConcurrency.loopBlocks(0, len, MIN_BLOCK, createWorkspace(), ( work, idx0, idx1 ) ->
+                ImplBatchOps_DDF.det(a, det, work, idx0, idx1));
+        return det;
+    }
+
+    /**
+     * Concurrent version of {@link BatchOps_DDF#cholL}
+     */
+    public static boolean cholL( DMatrixBatch A ) {
+        BatchOps_DDF.checkSquare(A);
+        final var success = new boolean[]{true};
+        EjmlConcurrency.loopBlocks(0, A.length, MIN_BLOCK, createWorkspace(), ( work, idx0, idx1 ) -> {
+            if (!ImplBatchOps_DDF.cholL(A, work, idx0, idx1))
+                success[0] = false;
+        });
+        return success[0];
+    }
+
+    private static GrowArray<ImplBatchOps_DDF.Workspace> createWorkspace() {
+        return new GrowArray<>(ImplBatchOps_DDF.Workspace::new);
+    }
+}
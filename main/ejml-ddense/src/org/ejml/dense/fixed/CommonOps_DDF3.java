@@ -21,6 +21,7 @@ package org.ejml.dense.fixed;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrix3;
 import org.ejml.data.DMatrix3x3;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Generated;
 
@@ -863,6 +864,39 @@ public class CommonOps_DDF3 {
         return !UtilEjml.isUncountable(A.a33);
     }
 
+    /**
+     * <p>Computes the eigen decomposition of a symmetric matrix using unrolled Jacobi rotations. Eigenvalues
+     * are sorted in descending order. Only the upper triangle is read and no memory is declared.</p>
+     *
+     * A = V*D*V<sup>T</sup>
+     *
+     * @param A (Input) Symmetric matrix. Not modified.
+     * @param values (Output) Eigenvalues in descending order. Modified.
+     * @param vectors (Output) Eigenvectors stored in the columns. If null it's ignored. Modified.
+     * @return true if it converged
+     */
+    public static boolean eigSymm( DMatrix3x3 A , DMatrix3 values , @Nullable DMatrix3x3 vectors ) {
+        return ImplCommonOps_DDF.eigSymm(A, values, vectors);
+    }
+
+    /**
+     * <p>Computes the singular value decomposition. V is found from the eigenvectors of A<sup>T</sup>A
+     * and U from a QR decomposition of A*V. Singular values are in descending order. No memory is
+     * declared.</p>
+     *
+     * A = U*W*V<sup>T</sup>
+     *
+     * @param A (Input) Matrix being decomposed. Not modified.
+     * @param U (Output) Orthogonal matrix. Modified.
+     * @param sv (Output) Singular values in descending order. Modified.
+     * @param Vt (Output) Transpose of the orthogonal matrix V. Modified.
+     * @return true if it converged
+     */
+    public static boolean svd( DMatrix3x3 A , DMatrix3x3 U , DMatrix3 sv , DMatrix3x3 Vt ) {
+        UtilEjml.checkSameInstance(U,Vt);
+        return ImplCommonOps_DDF.svd(A, U, sv, Vt);
+    }
+
     /**
      * <p>
      * This computes the trace of the matrix:<br>
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.data.DMatrixBatch;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementations of operations on {@link DMatrixBatch}. Each function only processes matrices with an index
+ * from idx0 to idx1-1, so that the batch can be split between threads. The inner most loop is always across the
+ * batch, which accesses memory sequentially and can be vectorized.
+ * </p>
+ *
+ * <p>
+ * Algorithms which make multiple passes through the matrices process the batch in tiles of
+ * {@link #TILE_LENGTH} matrices. Each tile is copied into a {@link Workspace} which stores every element in its
+ * own array. The JIT will not vectorize a loop which reads from the same array at two different offsets,
+ * which is what every decomposition would do if it operated on {@link DMatrixBatch#data} directly.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplBatchOps_DDF {
+    /** Number of matrices processed at once by algorithms which make multiple passes through the data */
+    public static int TILE_LENGTH = 256;
+
+    /**
+     * Solves a*x = b using Gaussian elimination with partial pivoting. One tile at a time is copied into the
+     * workspace, solved, then the solution is copied into X.
+     *
+     * @param A (Input) Square matrices. Not modified.
+     * @param B (Input) Right hand side. Ignored if identity is true. Can be the same instance as X.
+     * @param X (Output) Solution
+     * @param identity If true then B is the identity matrix
+     * @param work Workspace
+     * @return true if none of the matrices were singular
+     */
+    public static boolean solve( DMatrixBatch A, @Nullable DMatrixBatch B, DMatrixBatch X, boolean identity,
+                                 Workspace work, int idx0, int idx1 ) {
+        final int n = A.numRows;
+        final int m = X.numCols;
+        boolean success = true;
+        for (int tile0 = idx0; tile0 < idx1; tile0 += TILE_LENGTH) {
+            final int tileLength = Math.min(idx1 - tile0, TILE_LENGTH);
+            work.reshape(n, m);
+            copyIn(A, tile0, work.LU, tileLength);
+            if (identity || B == null)
+                setIdentity(work.X, n, m, tileLength);
+            else
+                copyIn(B, tile0, work.X, tileLength);
+            eliminate(work, n, m, tileLength);
+            backSubstitution(work, n, m, tileLength);
+            success &= isNonSingular(work.LU, work.values, n, tileLength);
+            copyOut(work.X, X, tile0, tileLength);
+        }
+        return success;
+    }
+
+    /**
+     * Computes the determinant of each matrix. Matrices up to 4x4 use cofactor expansion, like CommonOps_DDF2 to
+     * CommonOps_DDF4. Larger matrices use Gaussian elimination with partial pivoting.
+     *
+     * @param A (Input) Square matrices. Not modified.
+     * @param det (Output) Determinants
+     * @param work Workspace
+     */
+    public static void det( DMatrixBatch A, double[] det, Workspace work, int idx0, int idx1 ) {
+        final int n = A.numRows;
+        if (n == 1)
+            System.arraycopy(A.data, idx0, det, idx0, idx1 - idx0);
+        else if (n == 2)
+            det2(A, det, idx0, idx1);
+        else if (n == 3)
+            det3(A, det, idx0, idx1);
+        else if (n == 4)
+            det4(A, det, idx0, idx1);
+        else
+            detLU(A, det, work, idx0, idx1);
+    }
+
+    static void det2( DMatrixBatch A, double[] det, int idx0, int idx1 ) {
+        final double[] a = A.data;
+        final int len = A.length;
+        for (int k = idx0; k < idx1; k++) {
+            det[k] = a[k]*a[3*len + k] - a[len + k]*a[2*len + k];
+        }
+    }
+
+    static void det3( DMatrixBatch A, double[] det, int idx0, int idx1 ) {
+        final double[] a = A.data;
+        final int len = A.length;
+        for (int k = idx0; k < idx1; k++) {
+            double a11 = a[k], a12 = a[len + k], a13 = a[2*len + k];
+            double a21 = a[3*len + k], a22 = a[4*len + k], a23 = a[5*len + k];
+            double a31 = a[6*len + k], a32 = a[7*len + k], a33 = a[8*len + k];
+            det[k] = a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31);
+        }
+    }
+
+    static void det4( DMatrixBatch A, double[] det, int idx0, int idx1 ) {
+        final double[] a = A.data;
+        final int len = A.length;
+        for (int k = idx0; k < idx1; k++) {
+            double a11 = a[k], a12 = a[len + k], a13 = a[2*len + k], a14 = a[3*len + k];
+            double a21 = a[4*len + k], a22 = a[5*len + k], a23 = a[6*len + k], a24 = a[7*len + k];
+            double a31 = a[8*len + k], a32 = a[9*len + k], a33 = a[10*len + k], a34 = a[11*len + k];
+            double a41 = a[12*len + k], a42 = a[13*len + k], a43 = a[14*len + k], a44 = a[15*len + k];
+
+            // 2x2 minors of the bottom two rows
+            double m12 = a31*a42 - a32*a41, m13 = a31*a43 - a33*a41, m14 = a31*a44 - a34*a41;
+            double m23 = a32*a43 - a33*a42, m24 = a32*a44 - a34*a42, m34 = a33*a44 - a34*a43;
+
+            det[k] = a11*(a22*m34 - a23*m24 + a24*m23) - a12*(a21*m34 - a23*m14 + a24*m13) +
+                    a13*(a21*m24 - a22*m14 + a24*m12) - a14*(a21*m23 - a22*m13 + a23*m12);
+        }
+    }
+
+    static void detLU( DMatrixBatch A, double[] det, Workspace work, int idx0, int idx1 ) {
+        final int n = A.numRows;
+        for (int tile0 = idx0; tile0 < idx1; tile0 += TILE_LENGTH) {
+            final int tileLength = Math.min(idx1 - tile0, TILE_LENGTH);
+            work.reshape(n, 0);
+            copyIn(A, tile0, work.LU, tileLength);
+            eliminate(work, n, 0, tileLength);
+            System.arraycopy(work.sign, 0, det, tile0, tileLength);
+            for (int i = 0; i < n; i++) {
+                final double[] u = work.LU[i*n + i];
+                for (int k = 0; k < tileLength; k++) {
+                    det[tile0 + k] *= u[k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the lower Cholesky decomposition in place. Only the lower triangle is read and the upper
+     * triangle is set to zero.
+     *
+     * @param A (Input) Symmetric positive definite matrices. (Output) Lower triangular matrices.
+     * @param work Workspace
+     * @return true if every matrix was positive definite
+     */
+    public static boolean cholL( DMatrixBatch A, Workspace work, int idx0, int idx1 ) {
+        final int n = A.numRows;
+        boolean success = true;
+        for (int tile0 = idx0; tile0 < idx1; tile0 += TILE_LENGTH) {
+            final int tileLength = Math.min(idx1 - tile0, TILE_LENGTH);
+            work.reshape(n, 0);
+            copyIn(A, tile0, work.LU, tileLength);
+            success &= cholL(work, n, tileLength);
+            copyOut(work.LU, A, tile0, tileLength);
+        }
+        return success;
+    }
+
+    /**
+     * Left looking Cholesky decomposition of the tile in work.LU
+     */
+    static boolean cholL( Workspace work, int n, int count ) {
+        final double[][] a = work.LU;
+        final double[] inv = work.values;
+
+        for (int j = 0; j < n; j++) {
+            final double[] ajj = a[j*n + j];
+            for (int l = 0; l < j; l++) {
+                final double[] ajl = a[j*n + l];
+                for (int k = 0; k < count; k++) {
+                    ajj[k] -= ajl[k]*ajl[k];
+                }
+            }
+            // sqrt of a negative number is NaN, which then propagates
+            for (int k = 0; k < count; k++) {
+                ajj[k] = Math.sqrt(ajj[k]);
+                inv[k] = 1.0/ajj[k];
+            }
+
+            for (int i = j + 1; i < n; i++) {
+                final double[] aij = a[i*n + j];
+                for (int l = 0; l < j; l++) {
+                    final double[] ail = a[i*n + l];
+                    final double[] ajl = a[j*n + l];
+                    for (int k = 0; k < count; k++) {
+                        aij[k] -= ail[k]*ajl[k];
+                    }
+                }
+                for (int k = 0; k < count; k++) {
+                    aij[k] *= inv[k];
+                }
+                Arrays.fill(a[j*n + i], 0, count, 0.0);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            final double[] aii = a[i*n + i];
+            for (int k = 0; k < count; k++) {
+                if (!(aii[k] > 0.0))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * c = a*b for each matrix in the batch
+     */
+    public static void mult( DMatrixBatch A, DMatrixBatch B, DMatrixBatch C, int idx0, int idx1 ) {
+        for (int tile0 = idx0; tile0 < idx1; tile0 += TILE_LENGTH) {
+            mult_tile(A, B, C, tile0, Math.min(idx1, tile0 + TILE_LENGTH));
+        }
+    }
+
+    static void mult_tile( DMatrixBatch A, DMatrixBatch B, DMatrixBatch C, int idx0, int idx1 ) {
+        final double[] a = A.data, b = B.data, c = C.data;
+        final int len = A.length;
+        final int m = A.numCols;
+        final int p = B.numCols;
+
+        for (int i = 0; i < A.numRows; i++) {
+            for (int j = 0; j < p; j++) {
+                final int indexC = (i*p + j)*len;
+                int indexA = i*m*len;
+                int indexB = j*len;
+                for (int k = idx0; k < idx1; k++) {
+                    c[indexC + k] = a[indexA + k]*b[indexB + k];
+                }
+                for (int l = 1; l < m; l++) {
+                    indexA += len;
+                    indexB += p*len;
+                    for (int k = idx0; k < idx1; k++) {
+                        c[indexC + k] += a[indexA + k]*b[indexB + k];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Performs Gaussian elimination with partial pivoting on the tile in work.LU. When done the upper triangle of
+     * LU contains U. Row swaps and row operations are also applied to work.X, if m is not zero. The sign of the
+     * row permutation is written to work.sign.
+     * </p>
+     *
+     * <p>
+     * Each matrix needs different row swaps. To avoid branching on every matrix, row j is conditionally swapped
+     * with each row below it which has a larger pivot. This selects the same pivot as a search for the largest
+     * element would, but the rows below the diagonal can be in a different order.
+     * </p>
+     *
+     * @param n Number of rows and columns in LU
+     * @param m Number of columns in X
+     */
+    static void eliminate( Workspace work, int n, int m, int count ) {
+        final double[][] a = work.LU;
+        final double[][] x = work.X;
+        final double[] values = work.values;
+        final double[] sign = work.sign;
+
+        Arrays.fill(sign, 0, count, 1.0);
+
+        for (int j = 0; j < n; j++) {
+            final double[] ajj = a[j*n + j];
+            for (int i = j + 1; i < n; i++) {
+                final double[] aij = a[i*n + j];
+                // 1.0 if row i has a larger pivot than row j and 0.0 otherwise. Any positive difference
+                // overflows to infinity, which is then clamped. Avoids a branch which can't be vectorized.
+                for (int k = 0; k < count; k++) {
+                    double difference = Math.abs(aij[k]) - Math.abs(ajj[k]);
+                    values[k] = Math.min(1.0, Math.max(0.0, difference*Double.MAX_VALUE*Double.MAX_VALUE));
+                }
+                for (int k = 0; k < count; k++) {
+                    sign[k] *= 1.0 - 2.0*values[k];
+                }
+                for (int col = j; col < n; col++) {
+                    swapRows(a[j*n + col], a[i*n + col], values, count);
+                }
+                for (int col = 0; col < m; col++) {
+                    swapRows(x[j*m + col], x[i*m + col], values, count);
+                }
+            }
+
+            // eliminate elements below the pivot
+            for (int k = 0; k < count; k++) {
+                values[k] = 1.0/ajj[k];
+            }
+            for (int i = j + 1; i < n; i++) {
+                final double[] aij = a[i*n + j];
+                for (int k = 0; k < count; k++) {
+                    aij[k] *= values[k];
+                }
+                for (int col = j + 1; col < n; col++) {
+                    final double[] aic = a[i*n + col];
+                    final double[] ajc = a[j*n + col];
+                    for (int k = 0; k < count; k++) {
+                        aic[k] -= aij[k]*ajc[k];
+                    }
+                }
+                for (int col = 0; col < m; col++) {
+                    final double[] xic = x[i*m + col];
+                    final double[] xjc = x[j*m + col];
+                    for (int k = 0; k < count; k++) {
+                        xic[k] -= aij[k]*xjc[k];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Swaps an element in rows j and i for every matrix where swap is 1.0 and does nothing where it's 0.0
+     */
+    private static void swapRows( double[] rowJ, double[] rowI, double[] swap, int count ) {
+        for (int k = 0; k < count; k++) {
+            double delta = swap[k]*(rowI[k] - rowJ[k]);
+            rowJ[k] += delta;
+            rowI[k] -= delta;
+        }
+    }
+
+    /**
+     * Solves U*X = Y using back substitution, where U is the upper triangle of work.LU after {@link #eliminate}.
+     * work.X is overwritten with the solution.
+     */
+    static void backSubstitution( Workspace work, int n, int m, int count ) {
+        final double[][] a = work.LU;
+        final double[][] x = work.X;
+        final double[] inv = work.values;
+
+        for (int i = n - 1; i >= 0; i--) {
+            final double[] aii = a[i*n + i];
+            for (int k = 0; k < count; k++) {
+                inv[k] = 1.0/aii[k];
+            }
+            for (int col = 0; col < m; col++) {
+                final double[] xi = x[i*m + col];
+                for (int l = i + 1; l < n; l++) {
+                    final double[] ail = a[i*n + l];
+                    final double[] xl = x[l*m + col];
+                    for (int k = 0; k < count; k++) {
+                        xi[k] -= ail[k]*xl[k];
+                    }
+                }
+                for (int k = 0; k < count; k++) {
+                    xi[k] *= inv[k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if none of the diagonal elements in U are zero or not finite
+     *
+     * @param check Workspace
+     */
+    static boolean isNonSingular( double[][] LU, double[] check, int n, int count ) {
+        // multiplying by zero creates a NaN if the value or its reciprocal isn't finite
+        Arrays.fill(check, 0, count, 0.0);
+        for (int i = 0; i < n; i++) {
+            final double[] u = LU[i*n + i];
+            for (int k = 0; k < count; k++) {
+                check[k] += u[k]*0.0 + (1.0/u[k])*0.0;
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            if (check[k] != 0.0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sets each matrix in the tile to identity
+     */
+    static void setIdentity( double[][] tile, int numRows, int numCols, int count ) {
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                Arrays.fill(tile[i*numCols + j], 0, count, i == j ? 1.0 : 0.0);
+            }
+        }
+    }
+
+    /**
+     * Copies 'count' matrices from src, starting at index idx0, into a tile
+     */
+    static void copyIn( DMatrixBatch src, int idx0, double[][] tile, int count ) {
+        final int N = src.numRows*src.numCols;
+        for (int i = 0; i < N; i++) {
+            System.arraycopy(src.data, i*src.length + idx0, tile[i], 0, count);
+        }
+    }
+
+    /**
+     * Copies 'count' matrices from a tile into dst, starting at index idx0
+     */
+    static void copyOut( double[][] tile, DMatrixBatch dst, int idx0, int count ) {
+        final int N = dst.numRows*dst.numCols;
+        for (int i = 0; i < N; i++) {
+            System.arraycopy(tile[i], 0, dst.data, i*dst.length + idx0, count);
+        }
+    }
+
+    /**
+     * Workspace for processing a single tile. Element (i,j) of every matrix in the tile is stored in its own
+     * array, which is {@link #TILE_LENGTH} long.
+     */
+    public static class Workspace {
+        public double[][] LU = new double[0][];
+        public double[][] X = new double[0][];
+        public double[] values = new double[0];
+        public double[] sign = new double[0];
+
+        public void reshape( int n, int m ) {
+            LU = grow(LU, n*n);
+            X = grow(X, n*m);
+            if (values.length < TILE_LENGTH) {
+                values = new double[TILE_LENGTH];
+                sign = new double[TILE_LENGTH];
+            }
+        }
+
+        private static double[][] grow( double[][] tile, int numElements ) {
+            if (tile.length >= numElements && (numElements == 0 || tile[0].length >= TILE_LENGTH))
+                return tile;
+            var ret = new double[Math.max(numElements, tile.length)][];
+            for (int i = 0; i < ret.length; i++) {
+                ret[i] = new double[TILE_LENGTH];
+            }
+            return ret;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix2;
+import org.ejml.data.DMatrix2x2;
+import org.ejml.data.DMatrix3;
+import org.ejml.data.DMatrix3x3;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Hand written implementations of functions in {@link CommonOps_DDF2} and {@link CommonOps_DDF3} which can't be
+ * easily generated. In general there is no need to directly invoke these functions.</p>
+ *
+ * <p>Symmetric eigen decompositions are computed using cyclic Jacobi rotations. These are accurate even when
+ * eigenvalues are nearly identical, unlike closed form solutions from the characteristic polynomial. The SVD
+ * finds V from the eigen decomposition of A<sup>T</sup>A and then U and the singular values from a QR
+ * decomposition of A*V using Givens rotations. That way small singular values are computed from A and not
+ * A<sup>T</sup>A, which would square the condition number. See "Computing the Singular Value Decomposition of
+ * 3x3 matrices with minimal branching and elementary floating point operations" by McAdams et. al.</p>
+ *
+ * <p>Everything is stored in local variables and no memory is declared.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplCommonOps_DDF {
+    /** Maximum number of Jacobi sweeps. Convergence is quadratic and a handful is typical */
+    public static final int MAX_SWEEPS = 30;
+
+    /**
+     * Symmetric eigen decomposition of a 2x2 matrix. A single Jacobi rotation diagonalizes the matrix.
+     * Only the upper triangle is read.
+     *
+     * @see CommonOps_DDF2#eigSymm
+     */
+    public static boolean eigSymm( DMatrix2x2 A, DMatrix2 values, @Nullable DMatrix2x2 vectors ) {
+        double a11 = A.a11, a12 = A.a12, a22 = A.a22;
+
+        double c = 1.0, s = 0.0;
+        if (a12 != 0.0) {
+            double theta = (a22 - a11)/(2.0*a12);
+            double t = (theta >= 0.0 ? 1.0 : -1.0)/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+            c = 1.0/Math.sqrt(t*t + 1.0);
+            s = t*c;
+            a11 -= t*a12;
+            a22 += t*a12;
+        }
+
+        // Columns of V are [c,-s] and [s,c]
+        double v11 = c, v12 = s;
+        double v21 = -s, v22 = c;
+        if (a11 < a22) {
+            double tmp = a11; a11 = a22; a22 = tmp;
+            tmp = v11; v11 = v12; v12 = tmp;
+            tmp = v21; v21 = v22; v22 = tmp;
+        }
+
+        values.a1 = a11;
+        values.a2 = a22;
+        if (vectors != null) {
+            vectors.a11 = v11; vectors.a12 = v12;
+            vectors.a21 = v21; vectors.a22 = v22;
+        }
+        return !UtilEjml.isUncountable(a11 + a22);
+    }
+
+    /**
+     * Symmetric eigen decomposition of a 3x3 matrix using cyclic Jacobi. Only the upper triangle is read.
+     *
+     * @see CommonOps_DDF3#eigSymm
+     */
+    public static boolean eigSymm( DMatrix3x3 A, DMatrix3 values, @Nullable DMatrix3x3 vectors ) {
+        // Scale to avoid overflow/underflow when computing the convergence test
+        double scale = Math.max(Math.max(Math.max(Math.abs(A.a11), Math.abs(A.a12)), Math.abs(A.a13)),
+                Math.max(Math.max(Math.abs(A.a22), Math.abs(A.a23)), Math.abs(A.a33)));
+        if (scale == 0.0)
+            scale = 1.0;
+
+        double a11 = A.a11/scale, a12 = A.a12/scale, a13 = A.a13/scale;
+        double a22 = A.a22/scale, a23 = A.a23/scale;
+        double a33 = A.a33/scale;
+
+        double v11 = 1.0, v12 = 0.0, v13 = 0.0;
+        double v21 = 0.0, v22 = 1.0, v23 = 0.0;
+        double v31 = 0.0, v32 = 0.0, v33 = 1.0;
+
+        // Stop once the off diagonal elements are negligible relative to the whole matrix
+        double tol = UtilEjml.EPS*UtilEjml.EPS*
+                (a11*a11 + a22*a22 + a33*a33 + 2.0*(a12*a12 + a13*a13 + a23*a23));
+
+        boolean converged = false;
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            double off = a12*a12 + a13*a13 + a23*a23;
+            if (!(off > tol)) {
+                converged = off == off; // false if NaN
+                break;
+            }
+
+            // Zero a12. Rotate rows and columns 1 and 2
+            if (a12 != 0.0) {
+                double theta = (a22 - a11)/(2.0*a12);
+                double t = (theta >= 0.0 ? 1.0 : -1.0)/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                double c = 1.0/Math.sqrt(t*t + 1.0);
+                double s = t*c;
+                a11 -= t*a12;
+                a22 += t*a12;
+                a12 = 0.0;
+                double r1 = a13, r2 = a23;
+                a13 = c*r1 - s*r2;
+                a23 = s*r1 + c*r2;
+                r1 = v11; r2 = v12; v11 = c*r1 - s*r2; v12 = s*r1 + c*r2;
+                r1 = v21; r2 = v22; v21 = c*r1 - s*r2; v22 = s*r1 + c*r2;
+                r1 = v31; r2 = v32; v31 = c*r1 - s*r2; v32 = s*r1 + c*r2;
+            }
+
+            // Zero a13. Rotate rows and columns 1 and 3
+            if (a13 != 0.0) {
+                double theta = (a33 - a11)/(2.0*a13);
+                double t = (theta >= 0.0 ? 1.0 : -1.0)/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                double c = 1.0/Math.sqrt(t*t + 1.0);
+                double s = t*c;
+                a11 -= t*a13;
+                a33 += t*a13;
+                a13 = 0.0;
+                double r1 = a12, r2 = a23;
+                a12 = c*r1 - s*r2;
+                a23 = s*r1 + c*r2;
+                r1 = v11; r2 = v13; v11 = c*r1 - s*r2; v13 = s*r1 + c*r2;
+                r1 = v21; r2 = v23; v21 = c*r1 - s*r2; v23 = s*r1 + c*r2;
+                r1 = v31; r2 = v33; v31 = c*r1 - s*r2; v33 = s*r1 + c*r2;
+            }
+
+            // Zero a23. Rotate rows and columns 2 and 3
+            if (a23 != 0.0) {
+                double theta = (a33 - a22)/(2.0*a23);
+                double t = (theta >= 0.0 ? 1.0 : -1.0)/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                double c = 1.0/Math.sqrt(t*t + 1.0);
+                double s = t*c;
+                a22 -= t*a23;
+                a33 += t*a23;
+                a23 = 0.0;
+                double r1 = a12, r2 = a13;
+                a12 = c*r1 - s*r2;
+                a13 = s*r1 + c*r2;
+                r1 = v12; r2 = v13; v12 = c*r1 - s*r2; v13 = s*r1 + c*r2;
+                r1 = v22; r2 = v23; v22 = c*r1 - s*r2; v23 = s*r1 + c*r2;
+                r1 = v32; r2 = v33; v32 = c*r1 - s*r2; v33 = s*r1 + c*r2;
+            }
+        }
+
+        // Sort into descending order with a sorting network
+        double tmp;
+        if (a11 < a22) {
+            tmp = a11; a11 = a22; a22 = tmp;
+            tmp = v11; v11 = v12; v12 = tmp;
+            tmp = v21; v21 = v22; v22 = tmp;
+            tmp = v31; v31 = v32; v32 = tmp;
+        }
+        if (a11 < a33) {
+            tmp = a11; a11 = a33; a33 = tmp;
+            tmp = v11; v11 = v13; v13 = tmp;
+            tmp = v21; v21 = v23; v23 = tmp;
+            tmp = v31; v31 = v33; v33 = tmp;
+        }
+        if (a22 < a33) {
+            tmp = a22; a22 = a33; a33 = tmp;
+            tmp = v12; v12 = v13; v13 = tmp;
+            tmp = v22; v22 = v23; v23 = tmp;
+            tmp = v32; v32 = v33; v33 = tmp;
+        }
+
+        values.a1 = a11*scale;
+        values.a2 = a22*scale;
+        values.a3 = a33*scale;
+        if (vectors != null) {
+            vectors.a11 = v11; vectors.a12 = v12; vectors.a13 = v13;
+            vectors.a21 = v21; vectors.a22 = v22; vectors.a23 = v23;
+            vectors.a31 = v31; vectors.a32 = v32; vectors.a33 = v33;
+        }
+        return converged;
+    }
+
+    /**
+     * SVD of a 2x2 matrix.
+     *
+     * @see CommonOps_DDF2#svd
+     */
+    public static boolean svd( DMatrix2x2 A, DMatrix2x2 U, DMatrix2 sv, DMatrix2x2 Vt ) {
+        // Scale to avoid overflow when computing A'A
+        double scale = CommonOps_DDF2.elementMaxAbs(A);
+        if (scale == 0.0)
+            scale = 1.0;
+
+        double a11 = A.a11/scale, a12 = A.a12/scale;
+        double a21 = A.a21/scale, a22 = A.a22/scale;
+
+        // V from the eigenvectors of A'A. U is used as temporary storage
+        U.a11 = a11*a11 + a21*a21;
+        U.a12 = a11*a12 + a21*a22;
+        U.a22 = a12*a12 + a22*a22;
+        boolean success = eigSymm(U, sv, Vt);
+        double v11 = Vt.a11, v12 = Vt.a12;
+        double v21 = Vt.a21, v22 = Vt.a22;
+
+        // B = A*V
+        double b11 = a11*v11 + a12*v21, b12 = a11*v12 + a12*v22;
+        double b21 = a21*v11 + a22*v21, b22 = a21*v12 + a22*v22;
+
+        // QR decomposition of B. A single Givens rotation zeros b21
+        double c = 1.0, s = 0.0;
+        double r = Math.sqrt(b11*b11 + b21*b21);
+        if (r != 0.0) {
+            c = b11/r;
+            s = b21/r;
+        }
+        double sv1 = r;
+        double sv2 = -s*b12 + c*b22;
+
+        double u11 = c, u12 = -s;
+        double u21 = s, u22 = c;
+        if (sv2 < 0.0) {
+            sv2 = -sv2;
+            u12 = -u12;
+            u22 = -u22;
+        }
+
+        sv.a1 = sv1*scale;
+        sv.a2 = sv2*scale;
+        U.a11 = u11; U.a12 = u12;
+        U.a21 = u21; U.a22 = u22;
+        Vt.a11 = v11; Vt.a12 = v21;
+        Vt.a21 = v12; Vt.a22 = v22;
+        return success;
+    }
+
+    /**
+     * SVD of a 3x3 matrix.
+     *
+     * @see CommonOps_DDF3#svd
+     */
+    public static boolean svd( DMatrix3x3 A, DMatrix3x3 U, DMatrix3 sv, DMatrix3x3 Vt ) {
+        // Scale to avoid overflow when computing A'A
+        double scale = CommonOps_DDF3.elementMaxAbs(A);
+        if (scale == 0.0)
+            scale = 1.0;
+
+        double a11 = A.a11/scale, a12 = A.a12/scale, a13 = A.a13/scale;
+        double a21 = A.a21/scale, a22 = A.a22/scale, a23 = A.a23/scale;
+        double a31 = A.a31/scale, a32 = A.a32/scale, a33 = A.a33/scale;
+
+        // V from the eigenvectors of A'A. U is used as temporary storage
+        U.a11 = a11*a11 + a21*a21 + a31*a31;
+        U.a12 = a11*a12 + a21*a22 + a31*a32;
+        U.a13 = a11*a13 + a21*a23 + a31*a33;
+        U.a22 = a12*a12 + a22*a22 + a32*a32;
+        U.a23 = a12*a13 + a22*a23 + a32*a33;
+        U.a33 = a13*a13 + a23*a23 + a33*a33;
+        boolean success = eigSymm(U, sv, Vt);
+        double v11 = Vt.a11, v12 = Vt.a12, v13 = Vt.a13;
+        double v21 = Vt.a21, v22 = Vt.a22, v23 = Vt.a23;
+        double v31 = Vt.a31, v32 = Vt.a32, v33 = Vt.a33;
+
+        // B = A*V. Columns are orthogonal and sorted by decreasing norm
+        double b11 = a11*v11 + a12*v21 + a13*v31;
+        double b12 = a11*v12 + a12*v22 + a13*v32;
+        double b13 = a11*v13 + a12*v23 + a13*v33;
+        double b21 = a21*v11 + a22*v21 + a23*v31;
+        double b22 = a21*v12 + a22*v22 + a23*v32;
+        double b23 = a21*v13 + a22*v23 + a23*v33;
+        double b31 = a31*v11 + a32*v21 + a33*v31;
+        double b32 = a31*v12 + a32*v22 + a33*v32;
+        double b33 = a31*v13 + a32*v23 + a33*v33;
+
+        // QR decomposition of B using Givens rotations. B = U*R where R is diagonal up to round off error
+        double u11 = 1.0, u12 = 0.0, u13 = 0.0;
+        double u21 = 0.0, u22 = 1.0, u23 = 0.0;
+        double u31 = 0.0, u32 = 0.0, u33 = 1.0;
+        double c, s, r, t1, t2;
+
+        // Zero b21 by rotating rows 1 and 2
+        r = Math.sqrt(b11*b11 + b21*b21);
+        if (r != 0.0) {
+            c = b11/r; s = b21/r;
+            b11 = r; b21 = 0.0;
+            t1 = b12; t2 = b22; b12 = c*t1 + s*t2; b22 = -s*t1 + c*t2;
+            t1 = b13; t2 = b23; b13 = c*t1 + s*t2; b23 = -s*t1 + c*t2;
+            t1 = u11; t2 = u12; u11 = c*t1 + s*t2; u12 = -s*t1 + c*t2;
+            t1 = u21; t2 = u22; u21 = c*t1 + s*t2; u22 = -s*t1 + c*t2;
+            t1 = u31; t2 = u32; u31 = c*t1 + s*t2; u32 = -s*t1 + c*t2;
+        }
+
+        // Zero b31 by rotating rows 1 and 3
+        r = Math.sqrt(b11*b11 + b31*b31);
+        if (r != 0.0) {
+            c = b11/r; s = b31/r;
+            b11 = r; b31 = 0.0;
+            t1 = b12; t2 = b32; b12 = c*t1 + s*t2; b32 = -s*t1 + c*t2;
+            t1 = b13; t2 = b33; b13 = c*t1 + s*t2; b33 = -s*t1 + c*t2;
+            t1 = u11; t2 = u13; u11 = c*t1 + s*t2; u13 = -s*t1 + c*t2;
+            t1 = u21; t2 = u23; u21 = c*t1 + s*t2; u23 = -s*t1 + c*t2;
+            t1 = u31; t2 = u33; u31 = c*t1 + s*t2; u33 = -s*t1 + c*t2;
+        }
+
+        // Zero b32 by rotating rows 2 and 3
+        r = Math.sqrt(b22*b22 + b32*b32);
+        if (r != 0.0) {
+            c = b22/r; s = b32/r;
+            b22 = r; b32 = 0.0;
+            t1 = b23; t2 = b33; b23 = c*t1 + s*t2; b33 = -s*t1 + c*t2;
+            t1 = u12; t2 = u13; u12 = c*t1 + s*t2; u13 = -s*t1 + c*t2;
+            t1 = u22; t2 = u23; u22 = c*t1 + s*t2; u23 = -s*t1 + c*t2;
+            t1 = u32; t2 = u33; u32 = c*t1 + s*t2; u33 = -s*t1 + c*t2;
+        }
+
+        // The first two diagonal elements are positive by construction
+        if (b33 < 0.0) {
+            b33 = -b33;
+            u13 = -u13; u23 = -u23; u33 = -u33;
+        }
+
+        sv.a1 = b11*scale;
+        sv.a2 = b22*scale;
+        sv.a3 = b33*scale;
+        U.a11 = u11; U.a12 = u12; U.a13 = u13;
+        U.a21 = u21; U.a22 = u22; U.a23 = u23;
+        U.a31 = u31; U.a32 = u32; U.a33 = u33;
+        Vt.a11 = v11; Vt.a12 = v21; Vt.a13 = v31;
+        Vt.a21 = v12; Vt.a22 = v22; Vt.a23 = v32;
+        Vt.a31 = v13; Vt.a32 = v23; Vt.a33 = v33;
+        return success;
+    }
+}
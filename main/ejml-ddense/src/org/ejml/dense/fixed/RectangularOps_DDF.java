@@ -0,0 +1,4038 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix2;
+import org.ejml.data.DMatrix2x2;
+import org.ejml.data.DMatrix2x3;
+import org.ejml.data.DMatrix2x6;
+import org.ejml.data.DMatrix3;
+import org.ejml.data.DMatrix3x2;
+import org.ejml.data.DMatrix3x3;
+import org.ejml.data.DMatrix3x4;
+import org.ejml.data.DMatrix3x6;
+import org.ejml.data.DMatrix4;
+import org.ejml.data.DMatrix4x3;
+import org.ejml.data.DMatrix4x4;
+import org.ejml.data.DMatrix6;
+import org.ejml.data.DMatrix6x2;
+import org.ejml.data.DMatrix6x3;
+import org.ejml.data.DMatrix6x6;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>Common matrix operations for fixed sized rectangular matrices, e.g. {@link DMatrix3x4}, and
+ * multiplication between rectangular and square fixed sized matrices. Operations which only involve
+ * square matrices are in {@link CommonOps_DDF3} and similar classes.</p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by GenerateRectangularOps_DDF</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("org.ejml.dense.fixed.GenerateRectangularOps_DDF")
+public class RectangularOps_DDF {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix2x3 a , DMatrix2x3 b , DMatrix2x3 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix2x3 a , DMatrix2x3 b , DMatrix2x3 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix2x3 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix2x3 a , DMatrix2x3 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix2x3 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix3x2 transpose( DMatrix2x3 input , @Nullable DMatrix3x2 output ) {
+        if (output == null)
+            output = new DMatrix3x2();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x3 a , DMatrix3 b , DMatrix2 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x3 a , DMatrix2 b , DMatrix3 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2;
+        c.a3 = a.a13*b.a1 + a.a23*b.a2;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix3x2 a , DMatrix3x2 b , DMatrix3x2 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix3x2 a , DMatrix3x2 b , DMatrix3x2 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix3x2 a ) {
+        a.a11 *= alpha; a.a12 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix3x2 a , DMatrix3x2 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix3x2 a , double v  ) {
+        a.a11 = v; a.a12 = v;
+        a.a21 = v; a.a22 = v;
+        a.a31 = v; a.a32 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix2x3 transpose( DMatrix3x2 input , @Nullable DMatrix2x3 output ) {
+        if (output == null)
+            output = new DMatrix2x3();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x2 a , DMatrix2 b , DMatrix3 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x2 a , DMatrix3 b , DMatrix2 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2 + a.a31*b.a3;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2 + a.a32*b.a3;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix3x4 a , DMatrix3x4 b , DMatrix3x4 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a34 = a.a34 + b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix3x4 a , DMatrix3x4 b , DMatrix3x4 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a14 = a.a14 - b.a14;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a24 = a.a24 - b.a24;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a33 = a.a33 - b.a33;
+        c.a34 = a.a34 - b.a34;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix3x4 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha; a.a34 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix3x4 a , DMatrix3x4 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha; b.a34 = a.a34*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix3x4 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v; a.a34 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix4x3 transpose( DMatrix3x4 input , @Nullable DMatrix4x3 output ) {
+        if (output == null)
+            output = new DMatrix4x3();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a43 = input.a34;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x4 a , DMatrix4 b , DMatrix3 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3 + a.a34*b.a4;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x4 a , DMatrix3 b , DMatrix4 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2 + a.a31*b.a3;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2 + a.a32*b.a3;
+        c.a3 = a.a13*b.a1 + a.a23*b.a2 + a.a33*b.a3;
+        c.a4 = a.a14*b.a1 + a.a24*b.a2 + a.a34*b.a3;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix4x3 a , DMatrix4x3 b , DMatrix4x3 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix4x3 a , DMatrix4x3 b , DMatrix4x3 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a33 = a.a33 - b.a33;
+        c.a41 = a.a41 - b.a41;
+        c.a42 = a.a42 - b.a42;
+        c.a43 = a.a43 - b.a43;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix4x3 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix4x3 a , DMatrix4x3 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix4x3 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix3x4 transpose( DMatrix4x3 input , @Nullable DMatrix3x4 output ) {
+        if (output == null)
+            output = new DMatrix3x4();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix4x3 a , DMatrix3 b , DMatrix4 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix4x3 a , DMatrix4 b , DMatrix3 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2 + a.a31*b.a3 + a.a41*b.a4;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2 + a.a32*b.a3 + a.a42*b.a4;
+        c.a3 = a.a13*b.a1 + a.a23*b.a2 + a.a33*b.a3 + a.a43*b.a4;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix2x6 a , DMatrix2x6 b , DMatrix2x6 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a15 = a.a15 + b.a15;
+        c.a16 = a.a16 + b.a16;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a25 = a.a25 + b.a25;
+        c.a26 = a.a26 + b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix2x6 a , DMatrix2x6 b , DMatrix2x6 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a14 = a.a14 - b.a14;
+        c.a15 = a.a15 - b.a15;
+        c.a16 = a.a16 - b.a16;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a24 = a.a24 - b.a24;
+        c.a25 = a.a25 - b.a25;
+        c.a26 = a.a26 - b.a26;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix2x6 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha; a.a15 *= alpha; a.a16 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha; a.a25 *= alpha; a.a26 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix2x6 a , DMatrix2x6 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha; b.a15 = a.a15*alpha; b.a16 = a.a16*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha; b.a25 = a.a25*alpha; b.a26 = a.a26*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix2x6 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v; a.a15 = v; a.a16 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v; a.a25 = v; a.a26 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix6x2 transpose( DMatrix2x6 input , @Nullable DMatrix6x2 output ) {
+        if (output == null)
+            output = new DMatrix6x2();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a51 = input.a15;
+        output.a52 = input.a25;
+        output.a61 = input.a16;
+        output.a62 = input.a26;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x6 a , DMatrix6 b , DMatrix2 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4 + a.a15*b.a5 + a.a16*b.a6;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4 + a.a25*b.a5 + a.a26*b.a6;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x6 a , DMatrix2 b , DMatrix6 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2;
+        c.a3 = a.a13*b.a1 + a.a23*b.a2;
+        c.a4 = a.a14*b.a1 + a.a24*b.a2;
+        c.a5 = a.a15*b.a1 + a.a25*b.a2;
+        c.a6 = a.a16*b.a1 + a.a26*b.a2;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix6x2 a , DMatrix6x2 b , DMatrix6x2 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix6x2 a , DMatrix6x2 b , DMatrix6x2 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a41 = a.a41 - b.a41;
+        c.a42 = a.a42 - b.a42;
+        c.a51 = a.a51 - b.a51;
+        c.a52 = a.a52 - b.a52;
+        c.a61 = a.a61 - b.a61;
+        c.a62 = a.a62 - b.a62;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix6x2 a ) {
+        a.a11 *= alpha; a.a12 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix6x2 a , DMatrix6x2 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix6x2 a , double v  ) {
+        a.a11 = v; a.a12 = v;
+        a.a21 = v; a.a22 = v;
+        a.a31 = v; a.a32 = v;
+        a.a41 = v; a.a42 = v;
+        a.a51 = v; a.a52 = v;
+        a.a61 = v; a.a62 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix2x6 transpose( DMatrix6x2 input , @Nullable DMatrix2x6 output ) {
+        if (output == null)
+            output = new DMatrix2x6();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x2 a , DMatrix2 b , DMatrix6 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x2 a , DMatrix6 b , DMatrix2 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2 + a.a31*b.a3 + a.a41*b.a4 + a.a51*b.a5 + a.a61*b.a6;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2 + a.a32*b.a3 + a.a42*b.a4 + a.a52*b.a5 + a.a62*b.a6;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix3x6 a , DMatrix3x6 b , DMatrix3x6 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a15 = a.a15 + b.a15;
+        c.a16 = a.a16 + b.a16;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a25 = a.a25 + b.a25;
+        c.a26 = a.a26 + b.a26;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a34 = a.a34 + b.a34;
+        c.a35 = a.a35 + b.a35;
+        c.a36 = a.a36 + b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix3x6 a , DMatrix3x6 b , DMatrix3x6 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a14 = a.a14 - b.a14;
+        c.a15 = a.a15 - b.a15;
+        c.a16 = a.a16 - b.a16;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a24 = a.a24 - b.a24;
+        c.a25 = a.a25 - b.a25;
+        c.a26 = a.a26 - b.a26;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a33 = a.a33 - b.a33;
+        c.a34 = a.a34 - b.a34;
+        c.a35 = a.a35 - b.a35;
+        c.a36 = a.a36 - b.a36;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix3x6 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha; a.a15 *= alpha; a.a16 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha; a.a25 *= alpha; a.a26 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha; a.a34 *= alpha; a.a35 *= alpha; a.a36 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix3x6 a , DMatrix3x6 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha; b.a15 = a.a15*alpha; b.a16 = a.a16*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha; b.a25 = a.a25*alpha; b.a26 = a.a26*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha; b.a34 = a.a34*alpha; b.a35 = a.a35*alpha; b.a36 = a.a36*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix3x6 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v; a.a15 = v; a.a16 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v; a.a25 = v; a.a26 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v; a.a34 = v; a.a35 = v; a.a36 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix6x3 transpose( DMatrix3x6 input , @Nullable DMatrix6x3 output ) {
+        if (output == null)
+            output = new DMatrix6x3();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a43 = input.a34;
+        output.a51 = input.a15;
+        output.a52 = input.a25;
+        output.a53 = input.a35;
+        output.a61 = input.a16;
+        output.a62 = input.a26;
+        output.a63 = input.a36;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x6 a , DMatrix6 b , DMatrix3 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4 + a.a15*b.a5 + a.a16*b.a6;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4 + a.a25*b.a5 + a.a26*b.a6;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3 + a.a34*b.a4 + a.a35*b.a5 + a.a36*b.a6;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x6 a , DMatrix3 b , DMatrix6 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2 + a.a31*b.a3;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2 + a.a32*b.a3;
+        c.a3 = a.a13*b.a1 + a.a23*b.a2 + a.a33*b.a3;
+        c.a4 = a.a14*b.a1 + a.a24*b.a2 + a.a34*b.a3;
+        c.a5 = a.a15*b.a1 + a.a25*b.a2 + a.a35*b.a3;
+        c.a6 = a.a16*b.a1 + a.a26*b.a2 + a.a36*b.a3;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( DMatrix6x3 a , DMatrix6x3 b , DMatrix6x3 c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a53 = a.a53 + b.a53;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+        c.a63 = a.a63 + b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a - b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void subtract( DMatrix6x3 a , DMatrix6x3 b , DMatrix6x3 c ) {
+        c.a11 = a.a11 - b.a11;
+        c.a12 = a.a12 - b.a12;
+        c.a13 = a.a13 - b.a13;
+        c.a21 = a.a21 - b.a21;
+        c.a22 = a.a22 - b.a22;
+        c.a23 = a.a23 - b.a23;
+        c.a31 = a.a31 - b.a31;
+        c.a32 = a.a32 - b.a32;
+        c.a33 = a.a33 - b.a33;
+        c.a41 = a.a41 - b.a41;
+        c.a42 = a.a42 - b.a42;
+        c.a43 = a.a43 - b.a43;
+        c.a51 = a.a51 - b.a51;
+        c.a52 = a.a52 - b.a52;
+        c.a53 = a.a53 - b.a53;
+        c.a61 = a.a61 - b.a61;
+        c.a62 = a.a62 - b.a62;
+        c.a63 = a.a63 - b.a63;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled. Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , DMatrix6x3 a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha; a.a53 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha; a.a63 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled. Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , DMatrix6x3 a , DMatrix6x3 b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha; b.a53 = a.a53*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha; b.a63 = a.a63*alpha;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( DMatrix6x3 a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v;
+        a.a51 = v; a.a52 = v; a.a53 = v;
+        a.a61 = v; a.a62 = v; a.a63 = v;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix. Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DMatrix3x6 transpose( DMatrix6x3 input , @Nullable DMatrix3x6 output ) {
+        if (output == null)
+            output = new DMatrix3x6();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+        output.a35 = input.a53;
+        output.a36 = input.a63;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x3 a , DMatrix3 b , DMatrix6 c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2 + a.a53*b.a3;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2 + a.a63*b.a3;
+    }
+
+    /**
+     * <p>Performs transposed matrix to vector multiplication:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x3 a , DMatrix6 b , DMatrix3 c) {
+        c.a1 = a.a11*b.a1 + a.a21*b.a2 + a.a31*b.a3 + a.a41*b.a4 + a.a51*b.a5 + a.a61*b.a6;
+        c.a2 = a.a12*b.a1 + a.a22*b.a2 + a.a32*b.a3 + a.a42*b.a4 + a.a52*b.a5 + a.a62*b.a6;
+        c.a3 = a.a13*b.a1 + a.a23*b.a2 + a.a33*b.a3 + a.a43*b.a4 + a.a53*b.a5 + a.a63*b.a6;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x2 a , DMatrix2x3 b , DMatrix2x3 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x2 a , DMatrix2x3 b , DMatrix2x3 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x2 a , DMatrix3x2 b , DMatrix2x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x2 a , DMatrix2x6 b , DMatrix2x6 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x2 a , DMatrix2x6 b , DMatrix2x6 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x2 a , DMatrix6x2 b , DMatrix2x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x3 a , DMatrix2x3 b , DMatrix3x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x3 a , DMatrix3x2 b , DMatrix3x2 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x3 a , DMatrix3x2 b , DMatrix3x2 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x3 a , DMatrix3x4 b , DMatrix3x4 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x3 a , DMatrix3x4 b , DMatrix3x4 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x3 a , DMatrix4x3 b , DMatrix3x4 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x3 a , DMatrix3x6 b , DMatrix3x6 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x3 a , DMatrix3x6 b , DMatrix3x6 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x3 a , DMatrix6x3 b , DMatrix3x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix4x4 a , DMatrix3x4 b , DMatrix4x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix4x4 a , DMatrix4x3 b , DMatrix4x3 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix4x4 a , DMatrix4x3 b , DMatrix4x3 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x6 a , DMatrix2x6 b , DMatrix6x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x6 a , DMatrix6x2 b , DMatrix6x2 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x6 a , DMatrix6x2 b , DMatrix6x2 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x6 a , DMatrix3x6 b , DMatrix6x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x6 a , DMatrix6x3 b , DMatrix6x3 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x6 a , DMatrix6x3 b , DMatrix6x3 c) {
+        UtilEjml.checkSameInstance(b,c);
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x3 a , DMatrix2x2 b , DMatrix3x2 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x3 a , DMatrix3x3 b , DMatrix2x3 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x3 a , DMatrix3x3 b , DMatrix2x3 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x3 a , DMatrix2x3 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x3 a , DMatrix2x3 b , DMatrix2x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x3 a , DMatrix3x2 b , DMatrix2x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x3 a , DMatrix2x6 b , DMatrix3x6 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x3 a , DMatrix3x6 b , DMatrix2x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x3 a , DMatrix6x3 b , DMatrix2x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x2 a , DMatrix2x2 b , DMatrix3x2 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x2 a , DMatrix2x2 b , DMatrix3x2 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x2 a , DMatrix3x3 b , DMatrix2x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x2 a , DMatrix2x3 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x2 a , DMatrix3x2 b , DMatrix2x2 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x2 a , DMatrix3x2 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x2 a , DMatrix2x6 b , DMatrix3x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x2 a , DMatrix6x2 b , DMatrix3x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x2 a , DMatrix3x6 b , DMatrix2x6 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x4 a , DMatrix3x3 b , DMatrix4x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x4 a , DMatrix4x4 b , DMatrix3x4 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x4 a , DMatrix4x4 b , DMatrix3x4 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x4 a , DMatrix3x4 b , DMatrix4x4 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33;
+        c.a44 = a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x4 a , DMatrix3x4 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x4 a , DMatrix4x3 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix4x3 a , DMatrix3x3 b , DMatrix4x3 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix4x3 a , DMatrix3x3 b , DMatrix4x3 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix4x3 a , DMatrix4x4 b , DMatrix3x4 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix4x3 a , DMatrix3x4 b , DMatrix4x4 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:4</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix4x3 a , DMatrix4x3 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix4x3 a , DMatrix4x3 b , DMatrix4x4 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x6 a , DMatrix2x2 b , DMatrix6x2 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x6 a , DMatrix6x6 b , DMatrix2x6 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x6 a , DMatrix6x6 b , DMatrix2x6 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x6 a , DMatrix2x3 b , DMatrix6x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix2x6 a , DMatrix2x6 b , DMatrix6x6 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23;
+        c.a44 = a.a14*b.a14 + a.a24*b.a24;
+        c.a45 = a.a14*b.a15 + a.a24*b.a25;
+        c.a46 = a.a14*b.a16 + a.a24*b.a26;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23;
+        c.a54 = a.a15*b.a14 + a.a25*b.a24;
+        c.a55 = a.a15*b.a15 + a.a25*b.a25;
+        c.a56 = a.a15*b.a16 + a.a25*b.a26;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23;
+        c.a64 = a.a16*b.a14 + a.a26*b.a24;
+        c.a65 = a.a16*b.a15 + a.a26*b.a25;
+        c.a66 = a.a16*b.a16 + a.a26*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x6 a , DMatrix2x6 b , DMatrix2x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x6 a , DMatrix6x2 b , DMatrix2x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix2x6 a , DMatrix3x6 b , DMatrix2x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix2x6 a , DMatrix6x3 b , DMatrix2x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x2 a , DMatrix2x2 b , DMatrix6x2 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x2 a , DMatrix2x2 b , DMatrix6x2 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x2 a , DMatrix6x6 b , DMatrix2x6 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x2 a , DMatrix2x3 b , DMatrix6x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x2 a , DMatrix3x2 b , DMatrix6x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x2 a , DMatrix2x6 b , DMatrix6x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24;
+        c.a45 = a.a41*b.a15 + a.a42*b.a25;
+        c.a46 = a.a41*b.a16 + a.a42*b.a26;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23;
+        c.a54 = a.a51*b.a14 + a.a52*b.a24;
+        c.a55 = a.a51*b.a15 + a.a52*b.a25;
+        c.a56 = a.a51*b.a16 + a.a52*b.a26;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23;
+        c.a64 = a.a61*b.a14 + a.a62*b.a24;
+        c.a65 = a.a61*b.a15 + a.a62*b.a25;
+        c.a66 = a.a61*b.a16 + a.a62*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x2 a , DMatrix6x2 b , DMatrix2x2 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:2</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x2 a , DMatrix6x2 b , DMatrix6x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42;
+        c.a45 = a.a41*b.a51 + a.a42*b.a52;
+        c.a46 = a.a41*b.a61 + a.a42*b.a62;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32;
+        c.a54 = a.a51*b.a41 + a.a52*b.a42;
+        c.a55 = a.a51*b.a51 + a.a52*b.a52;
+        c.a56 = a.a51*b.a61 + a.a52*b.a62;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32;
+        c.a64 = a.a61*b.a41 + a.a62*b.a42;
+        c.a65 = a.a61*b.a51 + a.a62*b.a52;
+        c.a66 = a.a61*b.a61 + a.a62*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x2 a , DMatrix6x3 b , DMatrix2x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x6 a , DMatrix3x3 b , DMatrix6x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x6 a , DMatrix6x6 b , DMatrix3x6 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x6 a , DMatrix6x6 b , DMatrix3x6 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x6 a , DMatrix3x2 b , DMatrix6x2 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x6 a , DMatrix2x6 b , DMatrix3x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x6 a , DMatrix6x2 b , DMatrix3x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix3x6 a , DMatrix3x6 b , DMatrix6x6 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33;
+        c.a44 = a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34;
+        c.a45 = a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35;
+        c.a46 = a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33;
+        c.a54 = a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34;
+        c.a55 = a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35;
+        c.a56 = a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33;
+        c.a64 = a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34;
+        c.a65 = a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35;
+        c.a66 = a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix3x6 a , DMatrix3x6 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix3x6 a , DMatrix6x3 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x3 a , DMatrix3x3 b , DMatrix6x3 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x3 a , DMatrix3x3 b , DMatrix6x3 c) {
+        UtilEjml.checkSameInstance(a,c);
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x3 a , DMatrix6x6 b , DMatrix3x6 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x3 a , DMatrix2x3 b , DMatrix6x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x3 a , DMatrix3x2 b , DMatrix6x2 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x3 a , DMatrix6x2 b , DMatrix3x2 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DMatrix6x3 a , DMatrix3x6 b , DMatrix6x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34;
+        c.a45 = a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35;
+        c.a46 = a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33;
+        c.a54 = a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34;
+        c.a55 = a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35;
+        c.a56 = a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33;
+        c.a64 = a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34;
+        c.a65 = a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35;
+        c.a66 = a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:6</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( DMatrix6x3 a , DMatrix6x3 b , DMatrix3x3 c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:3</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a (Input) The left matrix in the multiplication operation. Not modified.
+     * @param b (Input) The right matrix in the multiplication operation. Not modified.
+     * @param c (Output) Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( DMatrix6x3 a , DMatrix6x3 b , DMatrix6x6 c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43;
+        c.a45 = a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53;
+        c.a46 = a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33;
+        c.a54 = a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43;
+        c.a55 = a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53;
+        c.a56 = a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33;
+        c.a64 = a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43;
+        c.a65 = a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53;
+        c.a66 = a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63;
+    }
+
+}
+
@@ -30,6 +30,7 @@ import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRM;
 import org.ejml.dense.row.linsol.svd.SolvePseudoInverseSvd_DDRM;
 import org.ejml.dense.row.misc.*;
 import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMultPacked_DDRM;
 import org.ejml.dense.row.mult.MatrixMultProduct_DDRM;
 import org.ejml.dense.row.mult.MatrixVectorMult_DDRM;
 import org.ejml.dense.row.mult.VectorVectorMult_DDRM;
@@ -83,6 +84,8 @@ public class CommonOps_DDRM {
 
         if (b.numCols == 1) {
             MatrixVectorMult_DDRM.mult(a, b, output);
+        } else if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.mult(1.0, a, b, output, null);
         } else if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.mult_reorder(a, b, output);
         } else {
@@ -111,7 +114,9 @@ public class CommonOps_DDRM {
         UtilEjml.checkSameInstance(b, output);
 
         // TODO add a matrix vectory multiply here
-        if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
+        if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.mult(alpha, a, b, output, null);
+        } else if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.mult_reorder(alpha, a, b, output);
         } else {
             MatrixMatrixMult_DDRM.mult_small(alpha, a, b, output);
@@ -145,6 +150,8 @@ public class CommonOps_DDRM {
             } else {
                 MatrixVectorMult_DDRM.multTransA_small(a, b, output);
             }
+        } else if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.multTransA(1.0, a, b, output, null);
         } else if (a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                 b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multTransA_reorder(a, b, output);
@@ -174,7 +181,9 @@ public class CommonOps_DDRM {
         UtilEjml.checkSameInstance(b, output);
 
         // TODO add a matrix vectory multiply here
-        if (a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+        if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.multTransA(alpha, a, b, output, null);
+        } else if (a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                 b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multTransA_reorder(alpha, a, b, output);
         } else {
@@ -203,6 +212,8 @@ public class CommonOps_DDRM {
 
         if (b.numRows == 1) {
             MatrixVectorMult_DDRM.mult(a, b, output);
+        } else if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multTransB(1.0, a, b, output, null);
         } else {
             MatrixMatrixMult_DDRM.multTransB(a, b, output);
         }
@@ -229,7 +240,11 @@ public class CommonOps_DDRM {
         UtilEjml.checkSameInstance(b, output);
 
         // TODO add a matrix vectory multiply here
-        MatrixMatrixMult_DDRM.multTransB(alpha, a, b, output);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multTransB(alpha, a, b, output, null);
+        } else {
+            MatrixMatrixMult_DDRM.multTransB(alpha, a, b, output);
+        }
 
         return output;
     }
@@ -258,6 +273,8 @@ public class CommonOps_DDRM {
             } else {
                 MatrixVectorMult_DDRM.multTransA_small(a, b, output);
             }
+        } else if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multTransAB(1.0, a, b, output, null);
         } else if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multTransAB_aux(a, b, output, null);
         } else {
@@ -286,7 +303,9 @@ public class CommonOps_DDRM {
         UtilEjml.checkSameInstance(b, output);
 
         // TODO add a matrix vectory multiply here
-        if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multTransAB(alpha, a, b, output, null);
+        } else if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multTransAB_aux(alpha, a, b, output, null);
         } else {
             MatrixMatrixMult_DDRM.multTransAB(alpha, a, b, output);
@@ -362,6 +381,15 @@ public class CommonOps_DDRM {
         return output;
     }
 
+    /**
+     * Returns true if all the dimensions in a matrix multiplication are large enough for
+     * {@link MatrixMatrixMultPacked_DDRM} to be faster.
+     */
+    private static boolean isPackedMult( int rowsC, int inner, int colsC ) {
+        int size = EjmlParameters.MULT_PACKED_SWITCH;
+        return rowsC >= size && inner >= size && colsC >= size;
+    }
+
     /**
      * <p>
      * Performs the following operation:<br>
@@ -377,6 +405,8 @@ public class CommonOps_DDRM {
     public static void multAdd( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
         if (b.numCols == 1) {
             MatrixVectorMult_DDRM.multAdd(a, b, c);
+        } else if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.multAdd(1.0, a, b, c, null);
         } else {
             if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
                 MatrixMatrixMult_DDRM.multAdd_reorder(a, b, c);
@@ -401,7 +431,9 @@ public class CommonOps_DDRM {
      */
     public static void multAdd( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
         // TODO add a matrix vectory multiply here
-        if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
+        if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.multAdd(alpha, a, b, c, null);
+        } else if (b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multAdd_reorder(alpha, a, b, c);
         } else {
             MatrixMatrixMult_DDRM.multAdd_small(alpha, a, b, c);
@@ -427,6 +459,8 @@ public class CommonOps_DDRM {
             } else {
                 MatrixVectorMult_DDRM.multAddTransA_small(a, b, c);
             }
+        } else if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.multAddTransA(1.0, a, b, c, null);
         } else {
             if (a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                     b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
@@ -452,7 +486,9 @@ public class CommonOps_DDRM {
      */
     public static void multAddTransA( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
         // TODO add a matrix vectory multiply here
-        if (a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+        if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_DDRM.multAddTransA(alpha, a, b, c, null);
+        } else if (a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                 b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multAddTransA_reorder(alpha, a, b, c);
         } else {
@@ -473,7 +509,11 @@ public class CommonOps_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransB( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_DDRM.multAddTransB(a, b, c);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multAddTransB(1.0, a, b, c, null);
+        } else {
+            MatrixMatrixMult_DDRM.multAddTransB(a, b, c);
+        }
     }
 
     /**
@@ -491,7 +531,11 @@ public class CommonOps_DDRM {
      */
     public static void multAddTransB( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
         // TODO add a matrix vectory multiply here
-        MatrixMatrixMult_DDRM.multAddTransB(alpha, a, b, c);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multAddTransB(alpha, a, b, c, null);
+        } else {
+            MatrixMatrixMult_DDRM.multAddTransB(alpha, a, b, c);
+        }
     }
 
     /**
@@ -507,7 +551,9 @@ public class CommonOps_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransAB( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multAddTransAB(1.0, a, b, c, null);
+        } else if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multAddTransAB_aux(a, b, c, null);
         } else {
             MatrixMatrixMult_DDRM.multAddTransAB(a, b, c);
@@ -529,7 +575,9 @@ public class CommonOps_DDRM {
      */
     public static void multAddTransAB( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
         // TODO add a matrix vectory multiply here
-        if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_DDRM.multAddTransAB(alpha, a, b, c, null);
+        } else if (a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH) {
             MatrixMatrixMult_DDRM.multAddTransAB_aux(alpha, a, b, c, null);
         } else {
             MatrixMatrixMult_DDRM.multAddTransAB(alpha, a, b, c);
@@ -22,6 +22,7 @@ import org.ejml.UtilEjml;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.misc.TransposeAlgs_MT_DDRM;
+import org.ejml.dense.row.mult.MatrixMatrixMultPacked_MT_DDRM;
 import org.ejml.dense.row.mult.MatrixMatrixMult_MT_DDRM;
 import org.jetbrains.annotations.Nullable;
 
@@ -52,7 +53,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.mult_reorder(a, b, output);
+        if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.mult(1.0, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.mult_reorder(a, b, output);
+        }
 
         return output;
     }
@@ -75,7 +80,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.mult_reorder(alpha, a, b, output);
+        if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.mult(alpha, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.mult_reorder(alpha, a, b, output);
+        }
 
         return output;
     }
@@ -97,7 +106,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.multTransA_reorder(a, b, output);
+        if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.multTransA(1.0, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multTransA_reorder(a, b, output);
+        }
 
         return output;
     }
@@ -120,7 +133,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.multTransA_reorder(alpha, a, b, output);
+        if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.multTransA(alpha, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multTransA_reorder(alpha, a, b, output);
+        }
 
         return output;
     }
@@ -142,7 +159,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.multTransB(a, b, output);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multTransB(1.0, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multTransB(a, b, output);
+        }
 
         return output;
     }
@@ -165,7 +186,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.multTransB(alpha, a, b, output);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multTransB(alpha, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multTransB(alpha, a, b, output);
+        }
 
         return output;
     }
@@ -187,7 +212,11 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.multTransAB(a, b, output);
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multTransAB(1.0, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multTransAB(a, b, output);
+        }
 
         return output;
     }
@@ -210,11 +239,24 @@ public class CommonOps_MT_DDRM {
         UtilEjml.checkSameInstance(a, output);
         UtilEjml.checkSameInstance(b, output);
 
-        MatrixMatrixMult_MT_DDRM.multTransAB(alpha, a, b, output);
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multTransAB(alpha, a, b, output, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multTransAB(alpha, a, b, output);
+        }
 
         return output;
     }
 
+    /**
+     * Returns true if all the dimensions in a matrix multiplication are large enough for
+     * {@link MatrixMatrixMultPacked_MT_DDRM} to be faster.
+     */
+    private static boolean isPackedMult( int rowsC, int inner, int colsC ) {
+        int size = EjmlParameters.MULT_PACKED_SWITCH;
+        return rowsC >= size && inner >= size && colsC >= size;
+    }
+
     /**
      * <p>
      * Performs the following operation:<br>
@@ -228,7 +270,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAdd( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAdd_reorder(a, b, c);
+        if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAdd(1.0, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAdd_reorder(a, b, c);
+        }
     }
 
     /**
@@ -245,7 +291,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAdd( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAdd_reorder(alpha, a, b, c);
+        if (isPackedMult(a.numRows, a.numCols, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAdd(alpha, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAdd_reorder(alpha, a, b, c);
+        }
     }
 
     /**
@@ -261,7 +311,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransA( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAddTransA_reorder(a, b, c);
+        if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAddTransA(1.0, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAddTransA_reorder(a, b, c);
+        }
     }
 
     /**
@@ -278,7 +332,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransA( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAddTransA_reorder(alpha, a, b, c);
+        if (isPackedMult(a.numCols, a.numRows, b.numCols)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAddTransA(alpha, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAddTransA_reorder(alpha, a, b, c);
+        }
     }
 
     /**
@@ -294,7 +352,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransB( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAddTransB(a, b, c);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAddTransB(1.0, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAddTransB(a, b, c);
+        }
     }
 
     /**
@@ -311,7 +373,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransB( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAddTransB(alpha, a, b, c);
+        if (isPackedMult(a.numRows, a.numCols, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAddTransB(alpha, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAddTransB(alpha, a, b, c);
+        }
     }
 
     /**
@@ -327,7 +393,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransAB( DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAddTransAB(a, b, c);
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAddTransAB(1.0, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAddTransAB(a, b, c);
+        }
     }
 
     /**
@@ -344,7 +414,11 @@ public class CommonOps_MT_DDRM {
      * @param c Where the results of the operation are stored. Modified.
      */
     public static void multAddTransAB( double alpha, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c ) {
-        MatrixMatrixMult_MT_DDRM.multAddTransAB(alpha, a, b, c);
+        if (isPackedMult(a.numCols, a.numRows, b.numRows)) {
+            MatrixMatrixMultPacked_MT_DDRM.multAddTransAB(alpha, a, b, c, null);
+        } else {
+            MatrixMatrixMult_MT_DDRM.multAddTransAB(alpha, a, b, c);
+        }
     }
 
     /**
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * <p>
+ * Solves the secular equation, f(x) = 1 + r*sum z<sub>i</sub><sup>2</sup>/(d<sub>i</sub>-x) = 0, which
+ * is used by divide and conquer algorithms to find the eigenvalues of D + r*z*z<sup>T</sup>. The poles, d,
+ * must be in increasing order and r must be positive, then there is one root between each pair of poles and
+ * one to the right of the last pole. Each root is stored relative to the closest pole,
+ * d<sub>origin</sub> + &tau;, which allows the distance to the poles to be computed accurately.
+ * </p>
+ *
+ * <p>
+ * If squared is true then the poles are d<sub>i</sub><sup>2</sup>. This is what's needed when computing
+ * singular values, where the roots are the square of the singular values. Differences between poles are
+ * computed as (d<sub>i</sub>-d<sub>j</sub>)(d<sub>i</sub>+d<sub>j</sub>) so that accuracy isn't lost.
+ * </p>
+ *
+ * <p>
+ * Once the roots have been found {@link #computeZHat} recomputes z using the method of Gu and Eisenstat so
+ * that eigenvectors computed from it are numerically orthogonal.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SecularEquation_DDRM {
+    /** Maximum number of iterations when solving for a root */
+    public int maxIterations = 200;
+
+    // if true the poles are the square of 'd'
+    protected boolean squared;
+
+    // distance of each pole from the origin
+    protected double[] delta = UtilEjml.ZERO_LENGTH_F64;
+
+    public SecularEquation_DDRM( boolean squared ) {
+        this.squared = squared;
+    }
+
+    /**
+     * Returns the distance between pole i and pole j
+     */
+    public double difference( double[] d, int i, int j ) {
+        if (squared)
+            return (d[i] - d[j])*(d[i] + d[j]);
+        return d[i] - d[j];
+    }
+
+    /**
+     * Converts a root which is relative to a pole into its value. If squared then the square root is returned.
+     */
+    public double value( double[] d, int origin, double tau ) {
+        if (squared)
+            return Math.sqrt(d[origin]*d[origin] + tau);
+        return d[origin] + tau;
+    }
+
+    /**
+     * Finds the j-th root of the secular equation. A rational approximation is used to find the root, which
+     * is safeguarded by bisection.
+     *
+     * @param j Which root is being solved for
+     * @param K Number of poles
+     * @param d Values which define the poles. Must be in increasing order.
+     * @param z Numerators in the secular equation. None can be zero.
+     * @param r Scale factor. Must be positive.
+     * @param origin (Output) Index of the pole which the root is relative to
+     * @param tau (Output) Distance of the root from the pole
+     */
+    public void solve( int j, int K, double[] d, double[] z, double r, int[] origin, double[] tau ) {
+        if (delta.length < K)
+            delta = new double[K];
+        double[] delta = this.delta;
+        double lo, hi;
+        int o;
+
+        if (j < K - 1) {
+            // See which pole the root is closest to by evaluating the function at the midpoint
+            double half = difference(d, j + 1, j)/2.0;
+            for (int i = 0; i < K; i++) {
+                delta[i] = difference(d, i, j);
+            }
+            double f = 1.0;
+            for (int i = 0; i < K; i++) {
+                f += r*z[i]*z[i]/(delta[i] - half);
+            }
+            if (f >= 0) {
+                o = j;
+                lo = 0;
+                hi = half;
+            } else {
+                o = j + 1;
+                for (int i = 0; i < K; i++) {
+                    delta[i] = difference(d, i, j + 1);
+                }
+                lo = delta[j] + half;
+                hi = 0;
+            }
+        } else {
+            o = j;
+            double sum = 0;
+            for (int i = 0; i < K; i++) {
+                delta[i] = difference(d, i, j);
+                sum += z[i]*z[i];
+            }
+            lo = 0;
+            hi = r*sum;
+        }
+
+        double x = (lo + hi)/2.0;
+        for (int iter = 0; iter < maxIterations; iter++) {
+            // split the sum into the poles to the left and right of the root
+            double psi = 0, dpsi = 0, phi = 0, dphi = 0;
+            for (int i = 0; i <= j; i++) {
+                double v = z[i]/(delta[i] - x);
+                psi += r*z[i]*v;
+                dpsi += r*v*v;
+            }
+            for (int i = j + 1; i < K; i++) {
+                double v = z[i]/(delta[i] - x);
+                phi += r*z[i]*v;
+                dphi += r*v*v;
+            }
+            double f = 1.0 + psi + phi;
+            double errorBound = UtilEjml.EPS*(8.0*(1.0 + Math.abs(psi) + Math.abs(phi)) + Math.abs(x)*(dpsi + dphi));
+            if (Math.abs(f) <= errorBound)
+                break;
+
+            // f is increasing between the poles
+            if (f < 0)
+                lo = x;
+            else
+                hi = x;
+
+            // Approximate the sums with a single pole each and solve for the root of the approximation
+            double a = delta[j] - x;
+            double next;
+            if (j < K - 1) {
+                double b = delta[j + 1] - x;
+                double B = dpsi*a*a;
+                double C = dphi*b*b;
+                double A = f - B/a - C/b;
+                // roots of A*h^2 - (A*(a+b) + B + C)*h + A*a*b + B*b + C*a = 0, where h = next - x
+                double qb = -(A*(a + b) + B + C);
+                double qc = A*a*b + B*b + C*a;
+                next = x + quadraticRoot(A, qb, qc, lo - x, hi - x);
+            } else {
+                double B = dpsi*a*a;
+                double A = f - B/a;
+                next = x + a + B/A;
+            }
+            if (!(next > lo && next < hi))
+                next = (lo + hi)/2.0;
+            if (next == x || hi - lo <= 2.0*UtilEjml.EPS*Math.max(Math.abs(lo), Math.abs(hi)))
+                break;
+            x = next;
+        }
+
+        origin[j] = o;
+        tau[j] = x;
+    }
+
+    /**
+     * Returns the root of a*h^2 + b*h + c = 0 which is inside of (lo, hi) or NaN if there is none
+     */
+    private static double quadraticRoot( double a, double b, double c, double lo, double hi ) {
+        if (a == 0.0)
+            return -c/b;
+        double disc = b*b - 4.0*a*c;
+        if (disc < 0)
+            return Double.NaN;
+        double q = -0.5*(b + Math.copySign(Math.sqrt(disc), b));
+        double h1 = q/a;
+        double h2 = c/q;
+        return (h1 > lo && h1 < hi) ? h1 : h2;
+    }
+
+    /**
+     * Computes the distance between every pole and root, then recomputes z from the roots using the method of
+     * Gu and Eisenstat. The returned z is the exact solution for a problem which is very close to the original.
+     *
+     * @param K Number of poles
+     * @param d Values which define the poles
+     * @param z Numerators in the secular equation. Only the sign is used.
+     * @param r Scale factor
+     * @param origin Index of the pole each root is relative to
+     * @param tau Distance of each root from its pole
+     * @param D (Output) K by K matrix. D(i,j) = pole i - root j
+     * @param zhat (Output) Recomputed z
+     */
+    public void computeZHat( int K, double[] d, double[] z, double r, int[] origin, double[] tau,
+                             DMatrixRMaj D, double[] zhat ) {
+        D.reshape(K, K);
+        for (int i = 0; i < K; i++) {
+            for (int j = 0; j < K; j++) {
+                D.data[i*K + j] = difference(d, i, origin[j]) - tau[j];
+            }
+        }
+
+        for (int i = 0; i < K; i++) {
+            int indexD = i*K;
+            double prod = -D.data[indexD + K - 1]/r;
+            for (int j = 0; j < i; j++) {
+                prod *= D.data[indexD + j]/difference(d, i, j);
+            }
+            for (int j = i; j < K - 1; j++) {
+                prod *= D.data[indexD + j]/difference(d, i, j + 1);
+            }
+            zhat[i] = Math.copySign(Math.sqrt(Math.abs(prod)), z[i]);
+        }
+    }
+
+    public boolean isSquared() {
+        return squared;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.chol;
+
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * <p>
+ * Modifies an existing Cholesky factor so that it's the decomposition of A &plusmn; x*x<sup>T</sup> without
+ * decomposing the matrix again. Adding vectors (update) or removing them (downdate) takes O(n<sup>2</sup>)
+ * operations for each vector instead of the O(n<sup>3</sup>) needed to decompose from scratch. This is useful
+ * when a few rows are added to or removed from a Jacobian J and A = J<sup>T</sup>J, e.g. when refitting a
+ * Gauss-Newton or information filter. A rank-k update is done by passing in a k by n matrix V, which results
+ * in A &plusmn; V<sup>T</sup>V.
+ * </p>
+ *
+ * <p>
+ * The factor can be lower triangular, A = L*L<sup>T</sup>, or upper triangular, A = R<sup>T</sup>*R, and is
+ * modified in place. Only the triangle which contains the factor is read or written to. A downdate can fail
+ * if the result isn't positive definite, which is checked before each vector is applied.
+ * </p>
+ *
+ * <p>
+ * For more information see Gene H. Golub and Charles F. Van Loan, "Matrix Computations" 4th edition,
+ * section 6.5.4.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyUpdate_DDRM {
+    // cosine and sine of each rotation
+    private double[] c = new double[0];
+    private double[] s = new double[0];
+    // copy of the vector being applied
+    private double[] w = new double[0];
+
+    /**
+     * Updates the decomposition so that it's for A + x*x<sup>T</sup>
+     *
+     * @param chol A decomposition which has successfully decomposed a matrix. Modified.
+     * @param x Vector of length n. Not modified.
+     */
+    public void update( CholeskyDecompositionCommon_DDRM chol, double[] x ) {
+        update(chol.getT(), chol.isLower(), x);
+    }
+
+    /**
+     * Updates the decomposition so that it's for A + V<sup>T</sup>*V
+     *
+     * @param chol A decomposition which has successfully decomposed a matrix. Modified.
+     * @param V Matrix with n columns. Each row is a vector that is added. Not modified.
+     */
+    public void update( CholeskyDecompositionCommon_DDRM chol, DMatrixRMaj V ) {
+        update(chol.getT(), chol.isLower(), V);
+    }
+
+    /**
+     * Downdates the decomposition so that it's for A - x*x<sup>T</sup>
+     *
+     * @param chol A decomposition which has successfully decomposed a matrix. Modified.
+     * @param x Vector of length n. Not modified.
+     * @return true if the result is positive definite. If false the decomposition is not modified.
+     */
+    public boolean downdate( CholeskyDecompositionCommon_DDRM chol, double[] x ) {
+        return downdate(chol.getT(), chol.isLower(), x);
+    }
+
+    /**
+     * Downdates the decomposition so that it's for A - V<sup>T</sup>*V
+     *
+     * @param chol A decomposition which has successfully decomposed a matrix. Modified.
+     * @param V Matrix with n columns. Each row is a vector that is removed. Not modified.
+     * @return true if the result is positive definite. If false then only the rows before the one which
+     * failed have been removed.
+     */
+    public boolean downdate( CholeskyDecompositionCommon_DDRM chol, DMatrixRMaj V ) {
+        return downdate(chol.getT(), chol.isLower(), V);
+    }
+
+    /**
+     * Rank-k update of a Cholesky factor. After this is called it's the factor of A + V<sup>T</sup>*V.
+     *
+     * @param T Lower or upper triangular n by n factor. Modified.
+     * @param lower true if T is lower triangular or false if upper triangular.
+     * @param V Matrix with n columns. Each row is a vector that is added. Not modified.
+     */
+    public void update( DMatrixRMaj T, boolean lower, DMatrixRMaj V ) {
+        checkShape(T, V.numCols);
+        for (int row = 0; row < V.numRows; row++) {
+            apply(T, lower, V.data, row*V.numCols, 1.0);
+        }
+    }
+
+    /**
+     * Rank-k downdate of a Cholesky factor. After this is called it's the factor of A - V<sup>T</sup>*V.
+     *
+     * @param T Lower or upper triangular n by n factor. Modified.
+     * @param lower true if T is lower triangular or false if upper triangular.
+     * @param V Matrix with n columns. Each row is a vector that is removed. Not modified.
+     * @return true if the result is positive definite. If false then only the rows before the one which
+     * failed have been removed.
+     */
+    public boolean downdate( DMatrixRMaj T, boolean lower, DMatrixRMaj V ) {
+        checkShape(T, V.numCols);
+        for (int row = 0; row < V.numRows; row++) {
+            if (!isDowndatePositive(T, lower, V.data, row*V.numCols))
+                return false;
+            if (!apply(T, lower, V.data, row*V.numCols, -1.0))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Rank-1 update of a Cholesky factor. After this is called it's the factor of A + x*x<sup>T</sup>.
+     *
+     * @param T Lower or upper triangular n by n factor. Modified.
+     * @param lower true if T is lower triangular or false if upper triangular.
+     * @param x Vector of length n. Not modified.
+     */
+    public void update( DMatrixRMaj T, boolean lower, double[] x ) {
+        checkShape(T, x.length);
+        apply(T, lower, x, 0, 1.0);
+    }
+
+    /**
+     * Rank-1 downdate of a Cholesky factor. After this is called it's the factor of A - x*x<sup>T</sup>.
+     *
+     * @param T Lower or upper triangular n by n factor. Modified.
+     * @param lower true if T is lower triangular or false if upper triangular.
+     * @param x Vector of length n. Not modified.
+     * @return true if the result is positive definite. If false then T is not modified.
+     */
+    public boolean downdate( DMatrixRMaj T, boolean lower, double[] x ) {
+        checkShape(T, x.length);
+        if (!isDowndatePositive(T, lower, x, 0))
+            return false;
+        return apply(T, lower, x, 0, -1.0);
+    }
+
+    private void checkShape( DMatrixRMaj T, int length ) {
+        if (T.numRows != T.numCols)
+            throw new IllegalArgumentException("T must be square");
+        if (T.numCols != length)
+            throw new IllegalArgumentException("Vector length must match the width of T");
+        int n = T.numCols;
+        if (w.length < n) {
+            c = new double[n];
+            s = new double[n];
+            w = new double[n];
+        }
+    }
+
+    /**
+     * A - x*x<sup>T</sup> is positive definite if and only if ||p|| &lt; 1 where L*p = x. Solves for p
+     * without modifying T.
+     */
+    private boolean isDowndatePositive( DMatrixRMaj T, boolean lower, double[] x, int offsetX ) {
+        final int n = T.numCols;
+        final double[] t = T.data;
+
+        double norm2 = 0;
+        if (lower) {
+            for (int i = 0; i < n; i++) {
+                double sum = x[offsetX + i];
+                int indexL = i*n;
+                for (int k = 0; k < i; k++) {
+                    sum -= t[indexL + k]*w[k];
+                }
+                double p = sum/t[indexL + i];
+                w[i] = p;
+                norm2 += p*p;
+            }
+        } else {
+            System.arraycopy(x, offsetX, w, 0, n);
+            for (int k = 0; k < n; k++) {
+                int indexR = k*n;
+                double p = w[k]/t[indexR + k];
+                for (int i = k + 1; i < n; i++) {
+                    w[i] -= t[indexR + i]*p;
+                }
+                norm2 += p*p;
+            }
+        }
+
+        return norm2 < 1.0;
+    }
+
+    /**
+     * Applies a sequence of Givens rotations (update) or hyperbolic rotations (downdate) to the factor
+     *
+     * @param sign 1 for an update and -1 for a downdate
+     * @return false if a diagonal element is no longer positive
+     */
+    private boolean apply( DMatrixRMaj T, boolean lower, double[] x, int offsetX, double sign ) {
+        final int n = T.numCols;
+        final double[] t = T.data;
+
+        if (lower) {
+            // Row oriented so that L is traversed in the same order that it's stored. Row i only depends
+            // on the rotations computed from the rows before it.
+            for (int i = 0; i < n; i++) {
+                double xi = x[offsetX + i];
+                int indexL = i*n;
+                for (int k = 0; k < i; k++) {
+                    double l_ik = (t[indexL + k] + sign*s[k]*xi)/c[k];
+                    xi = c[k]*xi - s[k]*l_ik;
+                    t[indexL + k] = l_ik;
+                }
+                if (!computeRotation(t, indexL + i, xi, sign, i))
+                    return false;
+            }
+        } else {
+            System.arraycopy(x, offsetX, w, 0, n);
+            for (int k = 0; k < n; k++) {
+                int indexR = k*n;
+                if (!computeRotation(t, indexR + k, w[k], sign, k))
+                    return false;
+                double ck = c[k], sk = s[k];
+                for (int i = k + 1; i < n; i++) {
+                    double r_ki = (t[indexR + i] + sign*sk*w[i])/ck;
+                    w[i] = ck*w[i] - sk*r_ki;
+                    t[indexR + i] = r_ki;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean computeRotation( double[] t, int indexDiag, double xk, double sign, int k ) {
+        double t_kk = t[indexDiag];
+        double r2 = t_kk*t_kk + sign*xk*xk;
+        if (r2 <= 0.0)
+            return false;
+        double r = Math.sqrt(r2);
+        c[k] = r/t_kk;
+        s[k] = xk/t_kk;
+        t[indexDiag] = r;
+        return true;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.ejml.dense.row.decomposition.eig.multishift.MultishiftQrSchur_DDRM;
+import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Finds the eigenvalue decomposition of an arbitrary square matrix using the small-bulge multishift QR algorithm
+ * with aggressive early deflation. The matrix is first reduced to Hessenberg form then {@link MultishiftQrSchur_DDRM}
+ * computes its real Schur form. Eigenvectors for real eigenvalues are found by back substitution on the
+ * quasi-triangular Schur form, then multiplying by the Schur vectors. This is much faster than
+ * {@link WatchedDoubleStepQRDecomposition_DDRM} for large matrices.
+ * </p>
+ *
+ * <p>
+ * Just like {@link WatchedDoubleStepQRDecomposition_DDRM}, eigenvectors are only computed for real eigenvalues.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MultishiftQrDecomposition_DDRM implements EigenDecomposition_F64<DMatrixRMaj> {
+
+    HessenbergSimilarDecomposition_DDRM hessenberg;
+    MultishiftQrSchur_DDRM schur;
+
+    // should it compute eigenvectors or just eigenvalues
+    boolean computeVectors;
+
+    // scaled copy of the input matrix
+    DMatrixRMaj A = new DMatrixRMaj(1, 1);
+    // Hessenberg matrix which is converted into the Schur form
+    DMatrixRMaj T = new DMatrixRMaj(1, 1);
+    // Schur vectors
+    DMatrixRMaj Z = new DMatrixRMaj(1, 1);
+
+    double[] wr = new double[0];
+    double[] wi = new double[0];
+    // storage for the eigenvector in the Schur basis
+    double[] x = new double[0];
+
+    Complex_F64[] eigenvalues = new Complex_F64[0];
+    @Nullable DMatrixRMaj[] eigenvectors = new DMatrixRMaj[0];
+
+    public MultishiftQrDecomposition_DDRM( boolean computeVectors ) {
+        this(new HessenbergSimilarDecomposition_DDRM(10), new MultishiftQrSchur_DDRM(), computeVectors);
+    }
+
+    public MultishiftQrDecomposition_DDRM( HessenbergSimilarDecomposition_DDRM hessenberg,
+                                           MultishiftQrSchur_DDRM schur,
+                                           boolean computeVectors ) {
+        this.hessenberg = hessenberg;
+        this.schur = schur;
+        this.computeVectors = computeVectors;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        if (orig.numRows != orig.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        final int N = orig.numRows;
+        init(N);
+        if (N == 0)
+            return true;
+
+        // scale the matrix to avoid overflow and underflow
+        double scale = CommonOps_DDRM.elementMaxAbs(orig);
+        if (scale == 0.0 || UtilEjml.isUncountable(scale))
+            scale = 1.0;
+        CommonOps_DDRM.scale(1.0/scale, orig, A);
+
+        if (!hessenberg.decompose(A))
+            return false;
+        hessenberg.getH(T);
+        if (computeVectors) {
+            hessenberg.getQ(Z);
+        }
+
+        if (schur.process(computeVectors, computeVectors, T, 0, N - 1, wr, wi, 0, Z, 0, N - 1) != 0)
+            return false;
+
+        for (int i = 0; i < N; i++) {
+            eigenvalues[i].setTo(wr[i]*scale, wi[i]*scale);
+        }
+
+        if (computeVectors) {
+            // remove any numerical garbage below the sub-diagonal
+            for (int i = 2; i < N; i++) {
+                for (int j = 0; j < i - 1; j++) {
+                    T.data[i*N + j] = 0.0;
+                }
+            }
+            for (int i = 0; i < N; i++) {
+                if (wi[i] == 0.0) {
+                    eigenvectors[i] = computeEigenvector(i);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void init( int N ) {
+        A.reshape(N, N);
+        T.reshape(N, N);
+        if (wr.length < N) {
+            wr = new double[N];
+            wi = new double[N];
+            x = new double[N];
+        }
+        if (eigenvalues.length != N) {
+            eigenvalues = new Complex_F64[N];
+            for (int i = 0; i < N; i++) {
+                eigenvalues[i] = new Complex_F64();
+            }
+            eigenvectors = new DMatrixRMaj[N];
+        } else {
+            for (int i = 0; i < N; i++) {
+                eigenvectors[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Computes the eigenvector for the real eigenvalue T(k,k). The upper triangular system
+     * (T - &lambda;I)x = 0 is solved using back substitution, with 2 by 2 diagonal blocks solved directly.
+     * Nearly singular pivots are perturbed to avoid dividing by zero.
+     */
+    private DMatrixRMaj computeEigenvector( int k ) {
+        final int N = T.numCols;
+        final double[] t = T.data;
+        final double lambda = t[k*N + k];
+
+        double norm = 0;
+        for (int i = 0; i <= k; i++) {
+            for (int j = i; j <= k; j++) {
+                norm = Math.max(norm, Math.abs(t[i*N + j]));
+            }
+        }
+        final double smin = Math.max(UtilEjml.EPS*Math.abs(lambda), Math.max(UtilEjml.EPS*norm, Double.MIN_NORMAL));
+        // if an element gets larger than this the vector is rescaled
+        final double bignum = 1.0/(UtilEjml.EPS*Double.MIN_NORMAL*N);
+
+        for (int i = 0; i < k; i++) {
+            x[i] = -t[i*N + k];
+        }
+        x[k] = 1.0;
+
+        for (int j = k - 1; j >= 0; ) {
+            if (j > 0 && t[j*N + j - 1] != 0.0) {
+                // 2 by 2 diagonal block
+                double a11 = t[(j - 1)*N + j - 1] - lambda;
+                double a12 = t[(j - 1)*N + j];
+                double a21 = t[j*N + j - 1];
+                double a22 = t[j*N + j] - lambda;
+                double b1 = x[j - 1];
+                double b2 = x[j];
+
+                // Gaussian elimination with partial pivoting
+                double x1, x2;
+                if (Math.abs(a11) >= Math.abs(a21)) {
+                    if (Math.abs(a11) < smin)
+                        a11 = smin;
+                    double m = a21/a11;
+                    double d = a22 - m*a12;
+                    if (Math.abs(d) < smin)
+                        d = smin;
+                    x2 = (b2 - m*b1)/d;
+                    x1 = (b1 - a12*x2)/a11;
+                } else {
+                    double m = a11/a21;
+                    double d = a12 - m*a22;
+                    if (Math.abs(d) < smin)
+                        d = smin;
+                    x2 = (b1 - m*b2)/d;
+                    x1 = (b2 - a22*x2)/a21;
+                }
+                x[j - 1] = x1;
+                x[j] = x2;
+                rescaleIfLarge(k, Math.max(Math.abs(x1), Math.abs(x2)), bignum);
+                x1 = x[j - 1];
+                x2 = x[j];
+                for (int i = 0; i < j - 1; i++) {
+                    x[i] -= t[i*N + j - 1]*x1 + t[i*N + j]*x2;
+                }
+                j -= 2;
+            } else {
+                double d = t[j*N + j] - lambda;
+                if (Math.abs(d) < smin)
+                    d = smin;
+                x[j] /= d;
+                rescaleIfLarge(k, Math.abs(x[j]), bignum);
+                double xj = x[j];
+                for (int i = 0; i < j; i++) {
+                    x[i] -= t[i*N + j]*xj;
+                }
+                j--;
+            }
+        }
+
+        // convert back into the original basis
+        DMatrixRMaj v = new DMatrixRMaj(N, 1);
+        for (int i = 0; i < N; i++) {
+            double sum = 0;
+            int indexZ = i*N;
+            for (int j = 0; j <= k; j++) {
+                sum += Z.data[indexZ + j]*x[j];
+            }
+            v.data[i] = sum;
+        }
+        NormOps_DDRM.normalizeF(v);
+        return v;
+    }
+
+    private void rescaleIfLarge( int k, double value, double bignum ) {
+        if (value <= bignum)
+            return;
+        double s = 1.0/value;
+        for (int i = 0; i <= k; i++) {
+            x[i] *= s;
+        }
+    }
+
+    /**
+     * Returns the Schur vectors. Only valid if eigenvectors were computed.
+     */
+    public DMatrixRMaj getSchurVectors() {
+        return Z;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    @Override
+    public int getNumberOfEigenvalues() {
+        return eigenvalues.length;
+    }
+
+    @Override
+    public Complex_F64 getEigenvalue( int index ) {
+        return eigenvalues[index];
+    }
+
+    @Override
+    public @Nullable DMatrixRMaj getEigenVector( int index ) {
+        return eigenvectors[index];
+    }
+
+    public MultishiftQrSchur_DDRM getSchur() {
+        return schur;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricTridiagonalDivideConquer_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.interfaces.decomposition.TridiagonalSimilarDecomposition_F64;
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a real symmetric matrix by first reducing it to a tridiagonal
+ * matrix and then using the divide and conquer algorithm. For large matrices this is much faster than
+ * {@link SymmetricQRAlgorithmDecomposition_DDRM} when eigenvectors are needed. Eigenvalues are returned in
+ * increasing order.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see SymmetricTridiagonalDivideConquer_DDRM
+ * @see org.ejml.dense.block.decomposition.hessenberg.TridiagonalDecompositionHouseholder_DDRB
+ */
+@SuppressWarnings("NullAway.Init")
+public class SymmetricDivideConquerDecomposition_DDRM
+        implements EigenDecomposition_F64<DMatrixRMaj> {
+
+    // computes a tridiagonal matrix whose eigenvalues are the same as the original
+    private final TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp;
+    // computes the eigenvalues and eigenvectors of the tridiagonal matrix
+    private final SymmetricTridiagonalDivideConquer_DDRM solver;
+
+    // where the tridiagonal matrix is stored
+    private double[] diag = UtilEjml.ZERO_LENGTH_F64;
+    private double[] off = UtilEjml.ZERO_LENGTH_F64;
+
+    // orthogonal matrix from the tridiagonal decomposition
+    private DMatrixRMaj Q;
+    // eigenvectors of the original matrix are stored in the columns
+    private final DMatrixRMaj V = new DMatrixRMaj(1, 1);
+    // the extracted eigenvectors
+    private DMatrixRMaj[] eigenvectors;
+
+    private int N;
+
+    public SymmetricDivideConquerDecomposition_DDRM( TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp,
+                                                     SymmetricTridiagonalDivideConquer_DDRM solver ) {
+        this.decomp = decomp;
+        this.solver = solver;
+    }
+
+    public SymmetricDivideConquerDecomposition_DDRM() {
+        this(DecompositionFactory_DDRM.tridiagonal(0), new SymmetricTridiagonalDivideConquer_DDRM());
+    }
+
+    @Override
+    public int getNumberOfEigenvalues() {
+        return N;
+    }
+
+    @Override
+    public Complex_F64 getEigenvalue( int index ) {
+        return new Complex_F64(solver.getEigenvalues()[index], 0);
+    }
+
+    @Override
+    public DMatrixRMaj getEigenVector( int index ) {
+        return eigenvectors[index];
+    }
+
+    /**
+     * Decomposes the matrix.
+     *
+     * @param orig The matrix which is being decomposed. Modified if {@link #inputModified()} returns true.
+     * @return true if it decomposed the matrix or false if an error was detected. This will not catch all errors.
+     */
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        if (orig.numCols != orig.numRows)
+            throw new IllegalArgumentException("Matrix must be square.");
+
+        N = orig.numRows;
+
+        if (!decomp.decompose(orig))
+            return false;
+
+        if (diag.length < N) {
+            diag = new double[N];
+            off = new double[N];
+        }
+        decomp.getDiagonal(diag, off);
+
+        if (!solver.process(diag, off, N))
+            return false;
+
+        Q = decomp.getQ(Q, false);
+        solver.multiplyVectors(Q, V);
+        eigenvectors = CommonOps_DDRM.columnsToVector(V, eigenvectors);
+
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return decomp.inputModified();
+    }
+
+    public SymmetricTridiagonalDivideConquer_DDRM getSolver() {
+        return solver;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.data.DMatrixRMaj;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.dense.row.decomposition.eig.multishift.SchurHelper_DDRM.*;
+
+/**
+ * <p>
+ * Computes the real Schur form, T = Z<sup>T</sup>*H*Z, of an upper Hessenberg matrix using Francis' implicit
+ * double shift QR algorithm. One bulge at a time is chased down the diagonal. This is efficient for small
+ * matrices and is used by {@link MultishiftQrSchur_DDRM} for small sub-problems. T is upper quasi-triangular
+ * with 1 by 1 and 2 by 2 blocks along its diagonal. Each 2 by 2 block is in the standardized form of
+ * {@link StandardSchur2x2_F64} and contains a complex conjugate pair of eigenvalues.
+ * </p>
+ *
+ * <p>
+ * Deflation uses the conservative criteria of Ahues and Kressner. Based on LAPACK's DLAHQR.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FrancisQrSchur_DDRM {
+    // number of iterations without a deflation before an exceptional shift is used
+    private static final int KEXSH = 10;
+    private static final double DAT1 = 3.0/4.0;
+    private static final double DAT2 = -0.4375;
+
+    /** Maximum number of iterations is this times the size of the active matrix */
+    public int iterationsPerRow = 30;
+
+    private final StandardSchur2x2_F64 schur2 = new StandardSchur2x2_F64();
+    private final double[] v = new double[3];
+
+    /**
+     * <p>
+     * Computes eigenvalues of the Hessenberg matrix H in rows and columns ilo to ihi, inclusive. It's assumed
+     * that H is already upper triangular outside of that block. Eigenvalues are written into the arrays
+     * wr and wi starting at element 'offset+ilo'.
+     * </p>
+     *
+     * @param wantT If true the full Schur form is computed, otherwise only eigenvalues are computed
+     * @param wantZ If true the rotations are accumulated in Z
+     * @param H (Input) Upper Hessenberg matrix. (Output) Schur form if wantT is true
+     * @param ilo First row in the active block
+     * @param ihi Last row in the active block
+     * @param wr (Output) Real component of eigenvalues
+     * @param wi (Output) Imaginary component of eigenvalues
+     * @param offset Offset added to the index of eigenvalues
+     * @param Z (Input/Output) Matrix which the transforms are applied to. Only used if wantZ is true
+     * @param iloz First row in Z which the transforms are applied to
+     * @param ihiz Last row in Z which the transforms are applied to
+     * @return 0 if it converged. Otherwise, i+1 where i is the last row which failed to converge.
+     */
+    @SuppressWarnings("NullAway") // Z is only accessed when wantZ is true
+    public int process( boolean wantT, boolean wantZ, DMatrixRMaj H, int ilo, int ihi,
+                        double[] wr, double[] wi, int offset,
+                        @Nullable DMatrixRMaj Z, int iloz, int ihiz ) {
+        final int n = H.numCols;
+        final double[] h = H.data;
+
+        if (n == 0)
+            return 0;
+        if (ilo == ihi) {
+            wr[offset + ilo] = h[ilo*n + ilo];
+            wi[offset + ilo] = 0.0;
+            return 0;
+        }
+
+        // clear out the trash
+        for (int j = ilo; j <= ihi - 3; j++) {
+            h[(j + 2)*n + j] = 0.0;
+            h[(j + 3)*n + j] = 0.0;
+        }
+        if (ilo <= ihi - 2)
+            h[ihi*n + ihi - 2] = 0.0;
+
+        final int nh = ihi - ilo + 1;
+        final double smlnum = SAFMIN*(nh/ULP);
+
+        // first row and last column which transforms are applied to
+        int i1 = 0, i2 = n - 1;
+
+        final int itmax = iterationsPerRow*Math.max(10, nh);
+
+        // number of iterations since the last deflation
+        int kdefl = 0;
+
+        // i is the last row in the active block. It decreases by 1 or 2 after each deflation
+        int i = ihi;
+        while (i >= ilo) {
+            int l = ilo;
+            boolean converged = false;
+
+            for (int its = 0; its <= itmax; its++) {
+                // look for a single small subdiagonal element
+                int k;
+                for (k = i; k > l; k--) {
+                    double hkk1 = Math.abs(h[k*n + k - 1]);
+                    if (hkk1 <= smlnum)
+                        break;
+                    double tst = Math.abs(h[(k - 1)*n + k - 1]) + Math.abs(h[k*n + k]);
+                    if (tst == 0.0) {
+                        if (k - 2 >= ilo)
+                            tst += Math.abs(h[(k - 1)*n + k - 2]);
+                        if (k + 1 <= ihi)
+                            tst += Math.abs(h[(k + 1)*n + k]);
+                    }
+                    if (hkk1 <= ULP*tst) {
+                        double hk1k = Math.abs(h[(k - 1)*n + k]);
+                        double ab = Math.max(hkk1, hk1k);
+                        double ba = Math.min(hkk1, hk1k);
+                        double diff = Math.abs(h[(k - 1)*n + k - 1] - h[k*n + k]);
+                        double aa = Math.max(Math.abs(h[k*n + k]), diff);
+                        double bb = Math.min(Math.abs(h[k*n + k]), diff);
+                        double s = aa + ab;
+                        if (ba*(ab/s) <= Math.max(smlnum, ULP*(bb*(aa/s))))
+                            break;
+                    }
+                }
+                l = k;
+                if (l > ilo) {
+                    // H(l,l-1) is negligible
+                    h[l*n + l - 1] = 0.0;
+                }
+
+                // see if a 1 by 1 or 2 by 2 block has split off
+                if (l >= i - 1) {
+                    converged = true;
+                    break;
+                }
+                kdefl++;
+
+                // only the active block needs to be updated if the Schur form isn't needed
+                if (!wantT) {
+                    i1 = l;
+                    i2 = i;
+                }
+
+                double h11, h12, h21, h22;
+                if (kdefl%(2*KEXSH) == 0) {
+                    // exceptional shift
+                    double s = Math.abs(h[i*n + i - 1]) + Math.abs(h[(i - 1)*n + i - 2]);
+                    h11 = DAT1*s + h[i*n + i];
+                    h12 = DAT2*s;
+                    h21 = s;
+                    h22 = h11;
+                } else if (kdefl%KEXSH == 0) {
+                    // exceptional shift
+                    double s = Math.abs(h[(l + 1)*n + l]) + Math.abs(h[(l + 2)*n + l + 1]);
+                    h11 = DAT1*s + h[l*n + l];
+                    h12 = DAT2*s;
+                    h21 = s;
+                    h22 = h11;
+                } else {
+                    // Francis' double shift
+                    h11 = h[(i - 1)*n + i - 1];
+                    h21 = h[i*n + i - 1];
+                    h12 = h[(i - 1)*n + i];
+                    h22 = h[i*n + i];
+                }
+
+                double rt1r, rt1i, rt2r, rt2i;
+                double s = Math.abs(h11) + Math.abs(h12) + Math.abs(h21) + Math.abs(h22);
+                if (s == 0.0) {
+                    rt1r = rt1i = rt2r = rt2i = 0.0;
+                } else {
+                    h11 /= s;
+                    h21 /= s;
+                    h12 /= s;
+                    h22 /= s;
+                    double tr = (h11 + h22)/2.0;
+                    double det = (h11 - tr)*(h22 - tr) - h12*h21;
+                    double rtdisc = Math.sqrt(Math.abs(det));
+                    if (det >= 0.0) {
+                        // complex conjugate shifts
+                        rt1r = tr*s;
+                        rt2r = rt1r;
+                        rt1i = rtdisc*s;
+                        rt2i = -rt1i;
+                    } else {
+                        // real shifts, only use the one closest to h22
+                        rt1r = tr + rtdisc;
+                        rt2r = tr - rtdisc;
+                        if (Math.abs(rt1r - h22) <= Math.abs(rt2r - h22)) {
+                            rt1r = rt1r*s;
+                            rt2r = rt1r;
+                        } else {
+                            rt2r = rt2r*s;
+                            rt1r = rt2r;
+                        }
+                        rt1i = rt2i = 0.0;
+                    }
+                }
+
+                // look for two consecutive small subdiagonal elements
+                int m;
+                for (m = i - 2; m >= l; m--) {
+                    // Determine the effect of starting the double-shift QR iteration at row m, and see if
+                    // this would make H(m,m-1) negligible
+                    double hmm = h[m*n + m];
+                    double h21s = h[(m + 1)*n + m];
+                    s = Math.abs(hmm - rt2r) + Math.abs(rt2i) + Math.abs(h21s);
+                    h21s = h21s/s;
+                    v[0] = h21s*h[m*n + m + 1] + (hmm - rt1r)*((hmm - rt2r)/s) - rt1i*(rt2i/s);
+                    v[1] = h21s*(hmm + h[(m + 1)*n + m + 1] - rt1r - rt2r);
+                    v[2] = h21s*h[(m + 2)*n + m + 1];
+                    s = Math.abs(v[0]) + Math.abs(v[1]) + Math.abs(v[2]);
+                    v[0] /= s;
+                    v[1] /= s;
+                    v[2] /= s;
+                    if (m == l)
+                        break;
+                    double h00 = Math.abs(h[m*n + m - 1])*(Math.abs(v[1]) + Math.abs(v[2]));
+                    double h01 = ULP*Math.abs(v[0])*(Math.abs(h[(m - 1)*n + m - 1]) + Math.abs(hmm) +
+                            Math.abs(h[(m + 1)*n + m + 1]));
+                    if (h00 <= h01)
+                        break;
+                }
+
+                // double shift QR step
+                for (k = m; k <= i - 1; k++) {
+                    // The first iteration creates a bulge below the subdiagonal. Each following iteration
+                    // restores the Hessenberg form in column k-1 and chases the bulge down one row
+                    int nr = Math.min(3, i - k + 1);
+                    if (k > m) {
+                        for (int j = 0; j < nr; j++) {
+                            v[j] = h[(k + j)*n + k - 1];
+                        }
+                    }
+                    double t1 = householder(nr, v, 0);
+                    if (k > m) {
+                        h[k*n + k - 1] = v[0];
+                        h[(k + 1)*n + k - 1] = 0.0;
+                        if (k < i - 1)
+                            h[(k + 2)*n + k - 1] = 0.0;
+                    } else if (m > l) {
+                        // avoids a bug when v[1] and v[2] underflow
+                        h[k*n + k - 1] *= (1.0 - t1);
+                    }
+                    double v2 = v[1];
+                    double t2 = t1*v2;
+                    if (nr == 3) {
+                        double v3 = v[2];
+                        double t3 = t1*v3;
+
+                        // apply the reflector from the left to columns k to i2
+                        for (int j = k; j <= i2; j++) {
+                            double sum = h[k*n + j] + v2*h[(k + 1)*n + j] + v3*h[(k + 2)*n + j];
+                            h[k*n + j] -= sum*t1;
+                            h[(k + 1)*n + j] -= sum*t2;
+                            h[(k + 2)*n + j] -= sum*t3;
+                        }
+
+                        // apply the reflector from the right to rows i1 to min(k+3,i)
+                        int end = Math.min(k + 3, i);
+                        for (int j = i1; j <= end; j++) {
+                            int idx = j*n + k;
+                            double sum = h[idx] + v2*h[idx + 1] + v3*h[idx + 2];
+                            h[idx] -= sum*t1;
+                            h[idx + 1] -= sum*t2;
+                            h[idx + 2] -= sum*t3;
+                        }
+
+                        if (wantZ) {
+                            final double[] z = Z.data;
+                            final int nz = Z.numCols;
+                            for (int j = iloz; j <= ihiz; j++) {
+                                int idx = j*nz + k;
+                                double sum = z[idx] + v2*z[idx + 1] + v3*z[idx + 2];
+                                z[idx] -= sum*t1;
+                                z[idx + 1] -= sum*t2;
+                                z[idx + 2] -= sum*t3;
+                            }
+                        }
+                    } else if (nr == 2) {
+                        for (int j = k; j <= i2; j++) {
+                            double sum = h[k*n + j] + v2*h[(k + 1)*n + j];
+                            h[k*n + j] -= sum*t1;
+                            h[(k + 1)*n + j] -= sum*t2;
+                        }
+
+                        for (int j = i1; j <= i; j++) {
+                            int idx = j*n + k;
+                            double sum = h[idx] + v2*h[idx + 1];
+                            h[idx] -= sum*t1;
+                            h[idx + 1] -= sum*t2;
+                        }
+
+                        if (wantZ) {
+                            final double[] z = Z.data;
+                            final int nz = Z.numCols;
+                            for (int j = iloz; j <= ihiz; j++) {
+                                int idx = j*nz + k;
+                                double sum = z[idx] + v2*z[idx + 1];
+                                z[idx] -= sum*t1;
+                                z[idx + 1] -= sum*t2;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (!converged)
+                return i + 1;
+
+            if (l == i) {
+                // a single eigenvalue has converged
+                wr[offset + i] = h[i*n + i];
+                wi[offset + i] = 0.0;
+            } else if (l == i - 1) {
+                // a pair of eigenvalues has converged. Transform the 2 by 2 block into standard form
+                schur2.process(h[(i - 1)*n + i - 1], h[(i - 1)*n + i], h[i*n + i - 1], h[i*n + i]);
+                h[(i - 1)*n + i - 1] = schur2.a;
+                h[(i - 1)*n + i] = schur2.b;
+                h[i*n + i - 1] = schur2.c;
+                h[i*n + i] = schur2.d;
+                wr[offset + i - 1] = schur2.rt1r;
+                wi[offset + i - 1] = schur2.rt1i;
+                wr[offset + i] = schur2.rt2r;
+                wi[offset + i] = schur2.rt2i;
+
+                if (wantT) {
+                    // apply the transform to the rest of H
+                    if (i2 > i)
+                        rotateRows(H, i - 1, i + 1, i2 + 1, schur2.cs, schur2.sn);
+                    rotateCols(H, i - 1, i1, i - 1, schur2.cs, schur2.sn);
+                }
+                if (wantZ) {
+                    rotateCols(Z, i - 1, iloz, ihiz + 1, schur2.cs, schur2.sn);
+                }
+            }
+
+            // reset the deflation counter
+            kdefl = 0;
+            i = l - 1;
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,991 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.dense.row.decomposition.eig.multishift.SchurHelper_DDRM.*;
+
+/**
+ * <p>
+ * Computes the real Schur form, T = Z<sup>T</sup>*H*Z, of an upper Hessenberg matrix using the small-bulge
+ * multishift QR algorithm with aggressive early deflation (AED). Instead of a single bulge, a tightly packed
+ * chain of many small bulges is chased down the diagonal in each sweep. Transforms from chasing the chain
+ * a few columns are accumulated in a small orthogonal matrix, which is then applied to the rest of H and Z using
+ * matrix multiplication. Most of the floating point operations are then in cache friendly matrix multiplications
+ * instead of row and column operations.
+ * </p>
+ *
+ * <p>
+ * Before each sweep AED computes the Schur form of a window in the bottom right corner of the active block. The
+ * spike created by the window's Schur vectors is used to find eigenvalues which have converged, even when
+ * no subdiagonal element is small. Eigenvalues which can't be deflated are moved to the top of the window
+ * and used as shifts in the next sweep. This greatly reduces the number of sweeps needed for large matrices.
+ * Small matrices and sub-problems are solved using {@link FrancisQrSchur_DDRM}.
+ * </p>
+ *
+ * <p>
+ * For more information see:<br>
+ * [1] K. Braman, R. Byers, and R. Mathias, "The Multishift QR Algorithm. Part I: Maintaining Well-Focused
+ * Shifts and Level 3 Performance" SIAM J. Matrix Anal. Appl. 2002<br>
+ * [2] K. Braman, R. Byers, and R. Mathias, "The Multishift QR Algorithm. Part II: Aggressive Early Deflation"
+ * SIAM J. Matrix Anal. Appl. 2002<br>
+ * [3] LAPACK routines DLAQR0, DLAQR3, and DLAQR5
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MultishiftQrSchur_DDRM {
+    // number of iterations without a deflation before the deflation window size is changed
+    private static final int KEXNW = 5;
+    // number of iterations without a deflation before exceptional shifts are used
+    private static final int KEXSH = 6;
+    private static final double WILK1 = 0.75;
+    private static final double WILK2 = -0.4375;
+    // matrices this size or smaller are always processed with the double shift algorithm
+    private static final int NTINY = 15;
+
+    /** Active blocks and deflation windows which are this size or smaller are processed with {@link FrancisQrSchur_DDRM} */
+    public int nmin = 75;
+    /**
+     * If AED deflates more than this percentage of the window then the QR sweep is skipped, since more
+     * eigenvalues are likely to deflate with another AED
+     */
+    public int nibble = 14;
+    /** Maximum number of iterations is this times the size of the active block */
+    public int iterationsPerRow = 30;
+
+    // if true then large deflation windows are processed with the multishift algorithm
+    protected final boolean recursive;
+    // used to process large deflation windows
+    protected @Nullable MultishiftQrSchur_DDRM child;
+
+    protected final FrancisQrSchur_DDRM francis = new FrancisQrSchur_DDRM();
+    protected final SchurReorder_DDRM reorder = new SchurReorder_DDRM();
+    protected final StandardSchur2x2_F64 schur2 = new StandardSchur2x2_F64();
+
+    // number of shifts and deflated eigenvalues found by AED
+    int aedShifts, aedDeflated;
+
+    // Schur form and Schur vectors of the deflation window
+    protected DMatrixRMaj T = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj V = new DMatrixRMaj(1, 1);
+    // accumulated transforms from a bulge chase
+    protected DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj Usub = new DMatrixRMaj(1, 1);
+    // workspace for matrix multiplications
+    protected DMatrixRMaj blockA = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj blockB = new DMatrixRMaj(1, 1);
+
+    // reflectors for each bulge. tau followed by the last two elements of the reflector
+    private double[] bulges = new double[3];
+    private final double[] vt = new double[3];
+    private double[] work = new double[1];
+    private double[] house = new double[1];
+
+    public MultishiftQrSchur_DDRM() {
+        this(true);
+    }
+
+    /**
+     * @param recursive If true then large deflation windows are processed with the multishift algorithm
+     */
+    public MultishiftQrSchur_DDRM( boolean recursive ) {
+        this.recursive = recursive;
+    }
+
+    /**
+     * <p>
+     * Computes eigenvalues of the Hessenberg matrix H in rows and columns ilo to ihi, inclusive. It's assumed
+     * that H is already upper triangular outside of that block. Eigenvalues are written into the arrays
+     * wr and wi starting at element 'offset+ilo'. Complex conjugate pairs are adjacent with the positive
+     * imaginary part first.
+     * </p>
+     *
+     * @param wantT If true the full Schur form is computed, otherwise only eigenvalues are computed
+     * @param wantZ If true the transforms are accumulated in Z
+     * @param H (Input) Upper Hessenberg matrix. (Output) Schur form if wantT is true
+     * @param ilo First row in the active block
+     * @param ihi Last row in the active block
+     * @param wr (Output) Real component of eigenvalues
+     * @param wi (Output) Imaginary component of eigenvalues
+     * @param offset Offset added to the index of eigenvalues
+     * @param Z (Input/Output) Matrix which the transforms are applied to. Only used if wantZ is true
+     * @param iloz First row in Z which the transforms are applied to
+     * @param ihiz Last row in Z which the transforms are applied to
+     * @return 0 if it converged. Otherwise, i+1 where i is the last row which failed to converge.
+     */
+    public int process( boolean wantT, boolean wantZ, DMatrixRMaj H, int ilo, int ihi,
+                        double[] wr, double[] wi, int offset,
+                        @Nullable DMatrixRMaj Z, int iloz, int ihiz ) {
+        final int n = H.numCols;
+        int nh = ihi - ilo + 1;
+        if (nh <= 0)
+            return 0;
+        if (nh <= Math.max(NTINY, nmin)) {
+            francis.iterationsPerRow = iterationsPerRow;
+            return francis.process(wantT, wantZ, H, ilo, ihi, wr, wi, offset, Z, iloz, ihiz);
+        }
+
+        final double[] h = H.data;
+        if (work.length < n)
+            work = new double[n];
+
+        // recommended size of the deflation window and number of shifts
+        int nsr = recommendedShifts(nh);
+        int nwr = nh <= 500 ? nsr : 3*nsr/2;
+        nwr = Math.max(2, nwr);
+        nwr = Math.min(Math.min(nh, (n - 1)/3), nwr);
+        nsr = Math.min(nsr, Math.min((n - 3)/6, ihi - ilo));
+        nsr = Math.max(2, nsr - nsr%2);
+
+        // largest possible deflation window and number of shifts
+        final int nwmax = (n - 1)/3;
+        int nsmax = (n - 3)/6;
+        nsmax -= nsmax%2;
+        int nw = nwmax;
+        int ndec = -1;
+
+        // number of iterations since the last deflation
+        int ndfl = 1;
+        final int itmax = Math.max(30, 2*KEXSH)*Math.max(10, nh)*iterationsPerRow/30;
+
+        // last row in the active block
+        int kbot = ihi;
+
+        for (int it = 0; it < itmax; it++) {
+            if (kbot < ilo)
+                return 0;
+
+            // locate the active block
+            int ktop;
+            for (ktop = kbot; ktop > ilo; ktop--) {
+                if (h[ktop*n + ktop - 1] == 0.0)
+                    break;
+            }
+
+            // Select the size of the deflation window. If there have been no deflations recently then vary
+            // the size. First increase it to the largest possible size then gradually reduce it.
+            nh = kbot - ktop + 1;
+            int nwupbd = Math.min(nh, nwmax);
+            if (ndfl < KEXNW) {
+                nw = Math.min(nwupbd, nwr);
+            } else {
+                nw = Math.min(nwupbd, 2*nw);
+            }
+            if (nw < nwmax) {
+                if (nw >= nh - 1) {
+                    nw = nh;
+                } else {
+                    int kwtop = kbot - nw + 1;
+                    if (Math.abs(h[kwtop*n + kwtop - 1]) > Math.abs(h[(kwtop - 1)*n + kwtop - 2]))
+                        nw++;
+                }
+            }
+            if (ndfl < KEXNW) {
+                ndec = -1;
+            } else if (ndec >= 0 || nw >= nwupbd) {
+                ndec++;
+                if (nw - ndec < 2)
+                    ndec = 0;
+                nw -= ndec;
+            }
+
+            aggressiveDeflation(wantT, wantZ, H, ktop, kbot, nw, wr, wi, offset, Z, iloz, ihiz);
+
+            kbot -= aedDeflated;
+            int ks = kbot - aedShifts + 1;
+
+            // Skip the expensive QR sweep if many eigenvalues were just deflated or the active block is small
+            if (aedDeflated == 0 ||
+                    (100*aedDeflated <= nw*nibble && kbot - ktop + 1 > Math.min(nmin, nwmax))) {
+                int ns = Math.min(Math.min(nsmax, nsr), Math.max(2, kbot - ktop));
+                ns -= ns%2;
+
+                if (ndfl%KEXSH == 0) {
+                    // exceptional shifts
+                    ks = kbot - ns + 1;
+                    for (int i = kbot; i >= Math.max(ks + 1, ktop + 2); i -= 2) {
+                        double ss = Math.abs(h[i*n + i - 1]) + Math.abs(h[(i - 1)*n + i - 2]);
+                        double aa = WILK1*ss + h[i*n + i];
+                        schur2.process(aa, ss, WILK2*ss, aa);
+                        wr[offset + i - 1] = schur2.rt1r;
+                        wi[offset + i - 1] = schur2.rt1i;
+                        wr[offset + i] = schur2.rt2r;
+                        wi[offset + i] = schur2.rt2i;
+                    }
+                    if (ks == ktop) {
+                        wr[offset + ks + 1] = h[(ks + 1)*n + ks + 1];
+                        wi[offset + ks + 1] = 0.0;
+                        wr[offset + ks] = wr[offset + ks + 1];
+                        wi[offset + ks] = wi[offset + ks + 1];
+                    }
+                } else {
+                    // If AED didn't provide enough shifts then use the eigenvalues of a trailing sub-matrix
+                    if (kbot - ks + 1 <= ns/2) {
+                        ks = kbot - ns + 1;
+                        int inf = computeShifts(H, ks, ns, wr, wi, offset);
+                        ks += inf;
+
+                        // rare failure, use the eigenvalues of the trailing 2 by 2 sub-matrix
+                        if (ks >= kbot) {
+                            int a = (kbot - 1)*n + kbot - 1;
+                            schur2.process(h[a], h[a + 1], h[a + n], h[a + n + 1]);
+                            wr[offset + kbot - 1] = schur2.rt1r;
+                            wi[offset + kbot - 1] = schur2.rt1i;
+                            wr[offset + kbot] = schur2.rt2r;
+                            wi[offset + kbot] = schur2.rt2i;
+                            ks = kbot - 1;
+                        }
+                    }
+
+                    if (kbot - ks + 1 > ns) {
+                        // Sort the shifts by decreasing magnitude. Bubble sort keeps complex pairs together
+                        boolean sorted = false;
+                        for (int k = kbot; k >= ks + 1 && !sorted; k--) {
+                            sorted = true;
+                            for (int i = ks; i < k; i++) {
+                                int a = offset + i;
+                                if (Math.abs(wr[a]) + Math.abs(wi[a]) < Math.abs(wr[a + 1]) + Math.abs(wi[a + 1])) {
+                                    sorted = false;
+                                    double tmp = wr[a];
+                                    wr[a] = wr[a + 1];
+                                    wr[a + 1] = tmp;
+                                    tmp = wi[a];
+                                    wi[a] = wi[a + 1];
+                                    wi[a + 1] = tmp;
+                                }
+                            }
+                        }
+                    }
+
+                    // Shuffle shifts into pairs of real shifts and pairs of complex conjugate shifts
+                    for (int i = kbot; i >= ks + 2; i -= 2) {
+                        int a = offset + i;
+                        if (wi[a] != -wi[a - 1]) {
+                            double tmp = wr[a];
+                            wr[a] = wr[a - 1];
+                            wr[a - 1] = wr[a - 2];
+                            wr[a - 2] = tmp;
+                            tmp = wi[a];
+                            wi[a] = wi[a - 1];
+                            wi[a - 1] = wi[a - 2];
+                            wi[a - 2] = tmp;
+                        }
+                    }
+                }
+
+                // if there are only two shifts and both are real then only use one of them
+                if (kbot - ks + 1 == 2 && wi[offset + kbot] == 0.0) {
+                    double hbb = h[kbot*n + kbot];
+                    if (Math.abs(wr[offset + kbot] - hbb) < Math.abs(wr[offset + kbot - 1] - hbb)) {
+                        wr[offset + kbot - 1] = wr[offset + kbot];
+                    } else {
+                        wr[offset + kbot] = wr[offset + kbot - 1];
+                    }
+                }
+
+                // use up to ns of the smallest magnitude shifts
+                ns = Math.min(ns, kbot - ks + 1);
+                ns -= ns%2;
+                ks = kbot - ns + 1;
+
+                sweep(wantT, wantZ, H, ktop, kbot, ns, wr, wi, offset + ks, Z, iloz, ihiz);
+            }
+
+            if (aedDeflated > 0) {
+                ndfl = 1;
+            } else {
+                ndfl++;
+            }
+        }
+
+        return kbot + 1;
+    }
+
+    /**
+     * Number of simultaneous shifts for an active block of the specified size
+     */
+    static int recommendedShifts( int nh ) {
+        int ns = 2;
+        if (nh >= 30)
+            ns = 4;
+        if (nh >= 60)
+            ns = 10;
+        if (nh >= 150)
+            ns = Math.max(10, nh/(int)Math.round(Math.log(nh)/Math.log(2)));
+        if (nh >= 590)
+            ns = 64;
+        if (nh >= 3000)
+            ns = 128;
+        if (nh >= 6000)
+            ns = 256;
+        return Math.max(2, ns - ns%2);
+    }
+
+    /**
+     * Computes eigenvalues of the ns by ns sub-matrix which starts at row ks, which are then used as shifts.
+     *
+     * @return Number of rows at the top which failed to converge
+     */
+    private int computeShifts( DMatrixRMaj H, int ks, int ns, double[] wr, double[] wi, int offset ) {
+        // the AED workspace is free at this point
+        CommonOps_DDRM.extract(H, ks, ks + ns, ks, ks + ns, T);
+        if (recursive && ns > nmin) {
+            return getChild().process(false, false, T, 0, ns - 1, wr, wi, offset + ks, null, 0, 0);
+        } else {
+            return francis.process(false, false, T, 0, ns - 1, wr, wi, offset + ks, null, 0, 0);
+        }
+    }
+
+    /**
+     * <p>
+     * Aggressive early deflation. Computes the Schur form of the bottom right nw by nw window in the active block.
+     * The transform to Schur form turns the subdiagonal element above the window into a spike. Eigenvalues
+     * are deflated when their element in the spike is negligible. Undeflatable eigenvalues are moved to
+     * the top of the window and returned as shifts. The window is then reduced back to Hessenberg form.
+     * </p>
+     *
+     * <p>
+     * The number of shifts is saved in {@link #aedShifts} and the number of deflated eigenvalues in
+     * {@link #aedDeflated}. Shifts are stored at rows kbot-aedDeflated-aedShifts+1 to kbot-aedDeflated.
+     * </p>
+     */
+    @SuppressWarnings("NullAway") // Z is only accessed when wantZ is true
+    protected void aggressiveDeflation( boolean wantT, boolean wantZ, DMatrixRMaj H, int ktop, int kbot, int nw,
+                                        double[] wr, double[] wi, int offset,
+                                        @Nullable DMatrixRMaj Z, int iloz, int ihiz ) {
+        aedShifts = 0;
+        aedDeflated = 0;
+        if (ktop > kbot || nw < 1)
+            return;
+
+        final int n = H.numCols;
+        final double[] h = H.data;
+        final double smlnum = SAFMIN*(n/ULP);
+
+        // set up the deflation window
+        final int jw = Math.min(nw, kbot - ktop + 1);
+        final int kwtop = kbot - jw + 1;
+        double s = kwtop == ktop ? 0.0 : h[kwtop*n + kwtop - 1];
+
+        if (kbot == kwtop) {
+            // 1 by 1 deflation window
+            wr[offset + kwtop] = h[kwtop*n + kwtop];
+            wi[offset + kwtop] = 0.0;
+            aedShifts = 1;
+            if (Math.abs(s) <= Math.max(smlnum, ULP*Math.abs(h[kwtop*n + kwtop]))) {
+                aedShifts = 0;
+                aedDeflated = 1;
+                if (kwtop > ktop)
+                    h[kwtop*n + kwtop - 1] = 0.0;
+            }
+            return;
+        }
+
+        // Convert the window into spike-triangular form
+        T.reshape(jw, jw);
+        final double[] t = T.data;
+        for (int i = 0; i < jw; i++) {
+            for (int j = 0; j < jw; j++) {
+                t[i*jw + j] = j >= i - 1 ? h[(kwtop + i)*n + kwtop + j] : 0.0;
+            }
+        }
+        V.reshape(jw, jw);
+        CommonOps_DDRM.setIdentity(V);
+        final double[] v = V.data;
+
+        int infqr;
+        if (recursive && jw > nmin) {
+            infqr = getChild().process(true, true, T, 0, jw - 1, wr, wi, offset + kwtop, V, 0, jw - 1);
+        } else {
+            infqr = francis.process(true, true, T, 0, jw - 1, wr, wi, offset + kwtop, V, 0, jw - 1);
+        }
+
+        // reordering needs a clean margin near the diagonal
+        for (int j = 0; j < jw - 3; j++) {
+            t[(j + 2)*jw + j] = 0.0;
+            t[(j + 3)*jw + j] = 0.0;
+        }
+        if (jw > 2)
+            t[(jw - 1)*jw + jw - 3] = 0.0;
+
+        // Deflation check. ns is the number of undeflated eigenvalues at the top of the window
+        int ns = jw;
+        int ilst = infqr;
+        while (ilst < ns) {
+            boolean bulge = ns != 1 && t[(ns - 1)*jw + ns - 2] != 0.0;
+
+            if (!bulge) {
+                // real eigenvalue. See if the tip of the spike is small
+                double foo = Math.abs(t[(ns - 1)*jw + ns - 1]);
+                if (foo == 0.0)
+                    foo = Math.abs(s);
+                if (Math.abs(s*v[ns - 1]) <= Math.max(smlnum, ULP*foo)) {
+                    ns--;
+                } else {
+                    // undeflatable, move it to the top
+                    reorder.moveBlock(T, V, ns - 1, ilst);
+                    ilst = reorder.ilst + 1;
+                }
+            } else {
+                // complex conjugate pair
+                double foo = Math.abs(t[(ns - 1)*jw + ns - 1]) +
+                        Math.sqrt(Math.abs(t[(ns - 1)*jw + ns - 2]))*Math.sqrt(Math.abs(t[(ns - 2)*jw + ns - 1]));
+                if (foo == 0.0)
+                    foo = Math.abs(s);
+                if (Math.max(Math.abs(s*v[ns - 1]), Math.abs(s*v[ns - 2])) <= Math.max(smlnum, ULP*foo)) {
+                    ns -= 2;
+                } else {
+                    reorder.moveBlock(T, V, ns - 1, ilst);
+                    ilst = reorder.ilst + 2;
+                }
+            }
+        }
+
+        if (ns == 0)
+            s = 0.0;
+
+        if (ns < jw) {
+            // sorting the deflated diagonal blocks improves the accuracy for graded matrices
+            sortDeflated(infqr, ns, jw);
+        }
+
+        // restore the shifts and eigenvalues from T
+        for (int i = jw - 1; i >= infqr; ) {
+            if (i == infqr || t[i*jw + i - 1] == 0.0) {
+                wr[offset + kwtop + i] = t[i*jw + i];
+                wi[offset + kwtop + i] = 0.0;
+                i--;
+            } else {
+                int a = (i - 1)*jw + i - 1;
+                schur2.process(t[a], t[a + 1], t[a + jw], t[a + jw + 1]);
+                wr[offset + kwtop + i - 1] = schur2.rt1r;
+                wi[offset + kwtop + i - 1] = schur2.rt1i;
+                wr[offset + kwtop + i] = schur2.rt2r;
+                wi[offset + kwtop + i] = schur2.rt2i;
+                i -= 2;
+            }
+        }
+
+        if (ns < jw || s == 0.0) {
+            if (ns > 1 && s != 0.0) {
+                restoreHessenberg(ns, jw);
+            }
+
+            // copy the updated window into H
+            if (kwtop > 0)
+                h[kwtop*n + kwtop - 1] = s*v[0];
+            for (int i = 0; i < jw; i++) {
+                for (int j = Math.max(0, i - 1); j < jw; j++) {
+                    h[(kwtop + i)*n + kwtop + j] = t[i*jw + j];
+                }
+            }
+
+            // update the rest of H and Z
+            int ltop = wantT ? 0 : ktop;
+            multRight(H, ltop, kwtop, kwtop, V);
+            if (wantT)
+                multTransALeft(V, H, kwtop, kbot + 1, n);
+            if (wantZ)
+                multRight(Z, iloz, ihiz + 1, kwtop, V);
+        }
+
+        aedDeflated = jw - ns;
+        aedShifts = ns - infqr;
+    }
+
+    /**
+     * Sorts the deflated blocks in the Schur form of the deflation window by decreasing magnitude
+     */
+    private void sortDeflated( int infqr, int ns, int jw ) {
+        final double[] t = T.data;
+        boolean sorted = false;
+        int i = ns;
+        while (!sorted) {
+            sorted = true;
+            int kend = i - 1;
+            i = infqr;
+            int k;
+            if (i == ns - 1 || t[(i + 1)*jw + i] == 0.0) {
+                k = i + 1;
+            } else {
+                k = i + 2;
+            }
+            while (k <= kend) {
+                double evi = Math.abs(t[i*jw + i]);
+                if (k != i + 1)
+                    evi += Math.sqrt(Math.abs(t[(i + 1)*jw + i]))*Math.sqrt(Math.abs(t[i*jw + i + 1]));
+                double evk = Math.abs(t[k*jw + k]);
+                if (k != kend && t[(k + 1)*jw + k] != 0.0)
+                    evk += Math.sqrt(Math.abs(t[(k + 1)*jw + k]))*Math.sqrt(Math.abs(t[k*jw + k + 1]));
+
+                if (evi >= evk) {
+                    i = k;
+                } else {
+                    sorted = false;
+                    if (reorder.moveBlock(T, V, i, k)) {
+                        i = reorder.ilst;
+                    } else {
+                        i = k;
+                    }
+                }
+                if (i == kend || t[(i + 1)*jw + i] == 0.0) {
+                    k = i + 1;
+                } else {
+                    k = i + 2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reflects the spike back into the lower triangle and reduces the top left ns by ns block of T back into
+     * Hessenberg form. Transforms are applied to V.
+     */
+    private void restoreHessenberg( int ns, int jw ) {
+        final double[] t = T.data;
+        if (house.length < jw)
+            house = new double[jw];
+
+        // reflector which zeros all but the first element in the spike
+        System.arraycopy(V.data, 0, house, 0, ns);
+        double tau = householder(ns, house, 0);
+        house[0] = 1.0;
+        for (int i = 2; i < ns; i++) {
+            for (int j = 0; j <= i - 2; j++) {
+                t[i*jw + j] = 0.0;
+            }
+        }
+        reflectLeft(house, ns, tau, T, 0, 0, jw);
+        reflectRight(house, ns, tau, T, 0, ns, 0);
+        reflectRight(house, ns, tau, V, 0, jw, 0);
+
+        // reduce to Hessenberg form using Householder reflectors
+        for (int j = 0; j < ns - 2; j++) {
+            int length = ns - 1 - j;
+            for (int i = 0; i < length; i++) {
+                house[i] = t[(j + 1 + i)*jw + j];
+            }
+            tau = householder(length, house, 0);
+            t[(j + 1)*jw + j] = house[0];
+            for (int i = 1; i < length; i++) {
+                t[(j + 1 + i)*jw + j] = 0.0;
+            }
+            house[0] = 1.0;
+            reflectRight(house, length, tau, T, 0, ns, j + 1);
+            reflectLeft(house, length, tau, T, j + 1, j + 1, jw);
+            reflectRight(house, length, tau, V, 0, jw, j + 1);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs a single small-bulge multishift QR sweep on the active block from ktop to kbot.
+     * Shifts are read from sr and si starting at element 'offset'. Complex shifts must be in
+     * conjugate pairs and adjacent to each other.
+     * </p>
+     */
+    @SuppressWarnings("NullAway") // Z is only accessed when wantZ is true
+    protected void sweep( boolean wantT, boolean wantZ, DMatrixRMaj H, int ktop, int kbot, int nshfts,
+                          double[] sr, double[] si, int offset,
+                          @Nullable DMatrixRMaj Z, int iloz, int ihiz ) {
+        if (nshfts < 2 || ktop >= kbot)
+            return;
+
+        final int n = H.numCols;
+        final double[] h = H.data;
+
+        // Shuffle shifts into pairs of real shifts and pairs of complex conjugate shifts
+        for (int i = 0; i < nshfts - 2; i += 2) {
+            int a = offset + i;
+            if (si[a] != -si[a + 1]) {
+                double tmp = sr[a];
+                sr[a] = sr[a + 1];
+                sr[a + 1] = sr[a + 2];
+                sr[a + 2] = tmp;
+                tmp = si[a];
+                si[a] = si[a + 1];
+                si[a + 1] = si[a + 2];
+                si[a + 2] = tmp;
+            }
+        }
+
+        // only an even number of shifts can be used
+        final int ns = nshfts - nshfts%2;
+        final double smlnum = SAFMIN*(n/ULP);
+
+        // clear trash
+        if (ktop + 2 <= kbot)
+            h[(ktop + 2)*n + ktop] = 0.0;
+
+        final int nbmps = ns/2;
+        final int kdu = 6*nbmps - 3;
+        if (bulges.length < 3*nbmps)
+            bulges = new double[3*nbmps];
+        final double[] vb = bulges;
+
+        // Create and chase chains of bulges. Bulge m occupies rows k+1 to k+3 where k = krcol + 3*(m-1).
+        // Row r in U corresponds to row incol+1+r in H.
+        for (int incol = 3*(1 - nbmps) + ktop - 1; incol <= kbot - 2; incol += 3*nbmps - 2) {
+            final int ndcol = incol + kdu;
+            U.reshape(kdu, kdu);
+            CommonOps_DDRM.setIdentity(U);
+            final double[] u = U.data;
+
+            // near the diagonal bulge chase
+            final int krcolEnd = Math.min(incol + 3*nbmps - 3, kbot - 2);
+            for (int krcol = incol; krcol <= krcolEnd; krcol++) {
+                // bulges mtop to mbot are active 3 by 3 bulges. There might be a small 2 by 2 bulge too
+                final int mtop = Math.max(1, ((ktop - 1) - krcol + 2)/3 + 1);
+                final int mbot = Math.min(nbmps, (kbot - krcol)/3);
+                final int m22 = mbot + 1;
+                final boolean bmp22 = (mbot < nbmps) && (krcol + 3*(m22 - 1)) == (kbot - 2);
+
+                // generate reflectors to chase the chain right one column
+                for (int m = mtop; m <= mbot; m++) {
+                    int k = krcol + 3*(m - 1);
+                    int b = 3*(m - 1);
+                    if (k == ktop - 1) {
+                        firstColumn(3, H, ktop, sr[offset + 2*m - 2], si[offset + 2*m - 2],
+                                sr[offset + 2*m - 1], si[offset + 2*m - 1], vb, b);
+                        vb[b] = householder(3, vb, b);
+                    } else {
+                        vb[b] = h[(k + 1)*n + k];
+                        vb[b + 1] = h[(k + 2)*n + k];
+                        vb[b + 2] = h[(k + 3)*n + k];
+                        double tau = householder(3, vb, b);
+                        double beta = vb[b];
+                        vb[b] = tau;
+
+                        // A bulge may collapse because of vigilant deflation or destructive underflow. In the
+                        // underflow case try to reintroduce it
+                        if (h[(k + 3)*n + k] != 0.0 || h[(k + 3)*n + k + 1] != 0.0 || h[(k + 3)*n + k + 2] == 0.0) {
+                            // typical case, not collapsed
+                            h[(k + 1)*n + k] = beta;
+                            h[(k + 2)*n + k] = 0.0;
+                            h[(k + 3)*n + k] = 0.0;
+                        } else {
+                            // Collapsed. Use a new reflector if the fill it creates is negligible
+                            firstColumn(3, H, k + 1, sr[offset + 2*m - 2], si[offset + 2*m - 2],
+                                    sr[offset + 2*m - 1], si[offset + 2*m - 1], vt, 0);
+                            vt[0] = householder(3, vt, 0);
+                            double refsum = vt[0]*(h[(k + 1)*n + k] + vt[1]*h[(k + 2)*n + k]);
+
+                            if (Math.abs(h[(k + 2)*n + k] - refsum*vt[1]) + Math.abs(refsum*vt[2]) >
+                                    ULP*(Math.abs(h[k*n + k]) + Math.abs(h[(k + 1)*n + k + 1]) + Math.abs(h[(k + 2)*n + k + 2]))) {
+                                // non-negligible fill. Use the old reflector
+                                h[(k + 1)*n + k] = beta;
+                            } else {
+                                h[(k + 1)*n + k] -= refsum;
+                                vb[b] = vt[0];
+                                vb[b + 1] = vt[1];
+                                vb[b + 2] = vt[2];
+                            }
+                            h[(k + 2)*n + k] = 0.0;
+                            h[(k + 3)*n + k] = 0.0;
+                        }
+                    }
+                }
+
+                // generate a 2 by 2 reflector if needed
+                final int k22 = krcol + 3*(m22 - 1);
+                final int b22 = 3*(m22 - 1);
+                if (bmp22) {
+                    if (k22 == ktop - 1) {
+                        firstColumn(2, H, k22 + 1, sr[offset + 2*m22 - 2], si[offset + 2*m22 - 2],
+                                sr[offset + 2*m22 - 1], si[offset + 2*m22 - 1], vb, b22);
+                        vb[b22] = householder(2, vb, b22);
+                    } else {
+                        vb[b22] = h[(k22 + 1)*n + k22];
+                        vb[b22 + 1] = h[(k22 + 2)*n + k22];
+                        double tau = householder(2, vb, b22);
+                        h[(k22 + 1)*n + k22] = vb[b22];
+                        h[(k22 + 2)*n + k22] = 0.0;
+                        vb[b22] = tau;
+                    }
+                }
+
+                // Multiply H by the reflectors from the left
+                final int jbot = Math.min(ndcol, kbot);
+                for (int j = Math.max(ktop, krcol); j <= jbot; j++) {
+                    int mend = Math.min(mbot, (j - krcol + 2)/3);
+                    for (int m = mtop; m <= mend; m++) {
+                        int k = krcol + 3*(m - 1);
+                        int b = 3*(m - 1);
+                        int a = (k + 1)*n + j;
+                        double refsum = vb[b]*(h[a] + vb[b + 1]*h[a + n] + vb[b + 2]*h[a + 2*n]);
+                        h[a] -= refsum;
+                        h[a + n] -= refsum*vb[b + 1];
+                        h[a + 2*n] -= refsum*vb[b + 2];
+                    }
+                }
+                if (bmp22) {
+                    for (int j = Math.max(k22 + 1, ktop); j <= jbot; j++) {
+                        int a = (k22 + 1)*n + j;
+                        double refsum = vb[b22]*(h[a] + vb[b22 + 1]*h[a + n]);
+                        h[a] -= refsum;
+                        h[a + n] -= refsum*vb[b22 + 1];
+                    }
+                }
+
+                // Multiply H by the reflectors from the right. The last row is filled in after the
+                // vigilant deflation check
+                final int jtop = Math.max(ktop, incol);
+                for (int m = mtop; m <= mbot; m++) {
+                    int b = 3*(m - 1);
+                    if (vb[b] == 0.0)
+                        continue;
+                    int k = krcol + 3*(m - 1);
+                    int end = Math.min(kbot, k + 3);
+                    for (int j = jtop; j <= end; j++) {
+                        int a = j*n + k + 1;
+                        double refsum = vb[b]*(h[a] + vb[b + 1]*h[a + 1] + vb[b + 2]*h[a + 2]);
+                        h[a] -= refsum;
+                        h[a + 1] -= refsum*vb[b + 1];
+                        h[a + 2] -= refsum*vb[b + 2];
+                    }
+
+                    // accumulate the transform in U
+                    int kms = k - incol;
+                    for (int j = Math.max(0, ktop - incol - 1); j < kdu; j++) {
+                        int a = j*kdu + kms;
+                        double refsum = vb[b]*(u[a] + vb[b + 1]*u[a + 1] + vb[b + 2]*u[a + 2]);
+                        u[a] -= refsum;
+                        u[a + 1] -= refsum*vb[b + 1];
+                        u[a + 2] -= refsum*vb[b + 2];
+                    }
+                }
+                if (bmp22 && vb[b22] != 0.0) {
+                    int end = Math.min(kbot, k22 + 3);
+                    for (int j = jtop; j <= end; j++) {
+                        int a = j*n + k22 + 1;
+                        double refsum = vb[b22]*(h[a] + vb[b22 + 1]*h[a + 1]);
+                        h[a] -= refsum;
+                        h[a + 1] -= refsum*vb[b22 + 1];
+                    }
+                    int kms = k22 - incol;
+                    for (int j = Math.max(0, ktop - incol - 1); j < kdu; j++) {
+                        int a = j*kdu + kms;
+                        double refsum = vb[b22]*(u[a] + vb[b22 + 1]*u[a + 1]);
+                        u[a] -= refsum;
+                        u[a + 1] -= refsum*vb[b22 + 1];
+                    }
+                }
+
+                // Vigilant deflation check. Uses the traditional small-compared-to-nearby-diagonals
+                // criterion and the criterion of Ahues and Tisseur
+                int mstart = mtop;
+                if (krcol + 3*(mstart - 1) < ktop)
+                    mstart++;
+                int mend = mbot;
+                if (bmp22)
+                    mend++;
+                if (krcol == kbot - 2)
+                    mend++;
+                for (int m = mstart; m <= mend; m++) {
+                    int k = Math.min(kbot - 1, krcol + 3*(m - 1));
+                    double hk1k = h[(k + 1)*n + k];
+                    if (hk1k == 0.0)
+                        continue;
+                    double tst1 = Math.abs(h[k*n + k]) + Math.abs(h[(k + 1)*n + k + 1]);
+                    if (tst1 == 0.0) {
+                        if (k >= ktop + 1)
+                            tst1 += Math.abs(h[k*n + k - 1]);
+                        if (k >= ktop + 2)
+                            tst1 += Math.abs(h[k*n + k - 2]);
+                        if (k >= ktop + 3)
+                            tst1 += Math.abs(h[k*n + k - 3]);
+                        if (k <= kbot - 2)
+                            tst1 += Math.abs(h[(k + 2)*n + k + 1]);
+                        if (k <= kbot - 3)
+                            tst1 += Math.abs(h[(k + 3)*n + k + 1]);
+                        if (k <= kbot - 4)
+                            tst1 += Math.abs(h[(k + 4)*n + k + 1]);
+                    }
+                    if (Math.abs(hk1k) <= Math.max(smlnum, ULP*tst1)) {
+                        double hkk1 = Math.abs(h[k*n + k + 1]);
+                        double h12 = Math.max(Math.abs(hk1k), hkk1);
+                        double h21 = Math.min(Math.abs(hk1k), hkk1);
+                        double diff = Math.abs(h[k*n + k] - h[(k + 1)*n + k + 1]);
+                        double h11 = Math.max(Math.abs(h[(k + 1)*n + k + 1]), diff);
+                        double h22 = Math.min(Math.abs(h[(k + 1)*n + k + 1]), diff);
+                        double scl = h11 + h12;
+                        double tst2 = h22*(h11/scl);
+                        if (tst2 == 0.0 || h21*(h12/scl) <= Math.max(smlnum, ULP*tst2))
+                            h[(k + 1)*n + k] = 0.0;
+                    }
+                }
+
+                // fill in the last row of each bulge
+                mend = Math.min(nbmps, (kbot - krcol - 1)/3);
+                for (int m = mtop; m <= mend; m++) {
+                    int k = krcol + 3*(m - 1);
+                    int b = 3*(m - 1);
+                    double refsum = vb[b]*vb[b + 2]*h[(k + 4)*n + k + 3];
+                    h[(k + 4)*n + k + 1] = -refsum;
+                    h[(k + 4)*n + k + 2] = -refsum*vb[b + 1];
+                    h[(k + 4)*n + k + 3] -= refsum*vb[b + 2];
+                }
+            }
+
+            // Use U to update elements in H and Z which are far from the diagonal
+            final int jtop = wantT ? 0 : ktop;
+            final int jbot = wantT ? n - 1 : kbot;
+            final int k1 = Math.max(1, ktop - incol);
+            final int nu = (kdu - Math.max(0, ndcol - kbot)) - k1 + 1;
+            CommonOps_DDRM.extract(U, k1 - 1, k1 - 1 + nu, k1 - 1, k1 - 1 + nu, Usub);
+
+            // horizontal multiply
+            multTransALeft(Usub, H, incol + k1, Math.min(ndcol, kbot) + 1, jbot + 1);
+            // vertical multiply
+            multRight(H, jtop, Math.max(ktop, incol), incol + k1, Usub);
+            if (wantZ)
+                multRight(Z, iloz, ihiz + 1, incol + k1, Usub);
+        }
+    }
+
+    /**
+     * Computes a scalar multiple of the first column of (H - s1*I)*(H - s2*I) using the 2 by 2 or 3 by 3
+     * sub-matrix which starts at row0. s1 and s2 are either both real or a complex conjugate pair.
+     * See LAPACK's DLAQR1.
+     */
+    static void firstColumn( int size, DMatrixRMaj H, int row0, double sr1, double si1, double sr2, double si2,
+                             double[] v, int offset ) {
+        final int n = H.numCols;
+        final double[] h = H.data;
+        final int a = row0*n + row0;
+        final double h11 = h[a];
+        final double h21 = h[a + n];
+
+        if (size == 2) {
+            double s = Math.abs(h11 - sr2) + Math.abs(si2) + Math.abs(h21);
+            if (s == 0.0) {
+                v[offset] = 0.0;
+                v[offset + 1] = 0.0;
+            } else {
+                double h21s = h21/s;
+                v[offset] = h21s*h[a + 1] + (h11 - sr1)*((h11 - sr2)/s) - si1*(si2/s);
+                v[offset + 1] = h21s*(h11 + h[a + n + 1] - sr1 - sr2);
+            }
+        } else {
+            double h31 = h[a + 2*n];
+            double s = Math.abs(h11 - sr2) + Math.abs(si2) + Math.abs(h21) + Math.abs(h31);
+            if (s == 0.0) {
+                v[offset] = 0.0;
+                v[offset + 1] = 0.0;
+                v[offset + 2] = 0.0;
+            } else {
+                double h21s = h21/s;
+                double h31s = h31/s;
+                v[offset] = (h11 - sr1)*((h11 - sr2)/s) - si1*(si2/s) + h[a + 1]*h21s + h[a + 2]*h31s;
+                v[offset + 1] = h21s*(h11 + h[a + n + 1] - sr1 - sr2) + h[a + n + 2]*h31s;
+                v[offset + 2] = h31s*(h11 + h[a + 2*n + 2] - sr1 - sr2) + h21s*h[a + 2*n + 1];
+            }
+        }
+    }
+
+    /**
+     * Computes the product of a Householder reflector, I - tau*u*u<sup>T</sup>, and rows row0 to
+     * row0+length-1 in columns col0 to col1-1. A = H*A
+     */
+    private void reflectLeft( double[] u, int length, double tau, DMatrixRMaj A, int row0, int col0, int col1 ) {
+        if (tau == 0.0)
+            return;
+        final double[] a = A.data;
+        final int stride = A.numCols;
+        if (work.length < stride)
+            work = new double[stride];
+        for (int col = col0; col < col1; col++) {
+            work[col] = 0.0;
+        }
+        for (int i = 0; i < length; i++) {
+            double ui = u[i];
+            int index = (row0 + i)*stride;
+            for (int col = col0; col < col1; col++) {
+                work[col] += ui*a[index + col];
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            double ui = tau*u[i];
+            int index = (row0 + i)*stride;
+            for (int col = col0; col < col1; col++) {
+                a[index + col] -= ui*work[col];
+            }
+        }
+    }
+
+    /**
+     * Computes the product of rows row0 to row1-1 in columns col0 to col0+length-1 and a Householder reflector,
+     * I - tau*u*u<sup>T</sup>. A = A*H
+     */
+    private static void reflectRight( double[] u, int length, double tau, DMatrixRMaj A, int row0, int row1, int col0 ) {
+        if (tau == 0.0)
+            return;
+        final double[] a = A.data;
+        final int stride = A.numCols;
+        for (int row = row0; row < row1; row++) {
+            int index = row*stride + col0;
+            double sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += a[index + i]*u[i];
+            }
+            sum *= tau;
+            for (int i = 0; i < length; i++) {
+                a[index + i] -= sum*u[i];
+            }
+        }
+    }
+
+    /**
+     * A(row0:row0+N, col0:col1) = Q<sup>T</sup>*A(row0:row0+N, col0:col1), where Q is N by N
+     */
+    protected void multTransALeft( DMatrixRMaj Q, DMatrixRMaj A, int row0, int col0, int col1 ) {
+        if (col1 <= col0)
+            return;
+        CommonOps_DDRM.extract(A, row0, row0 + Q.numRows, col0, col1, blockA);
+        blockB.reshape(Q.numCols, col1 - col0);
+        CommonOps_DDRM.multTransA(Q, blockA, blockB);
+        CommonOps_DDRM.insert(blockB, A, row0, col0);
+    }
+
+    /**
+     * A(row0:row1, col0:col0+N) = A(row0:row1, col0:col0+N)*Q, where Q is N by N
+     */
+    protected void multRight( DMatrixRMaj A, int row0, int row1, int col0, DMatrixRMaj Q ) {
+        if (row1 <= row0)
+            return;
+        CommonOps_DDRM.extract(A, row0, row1, col0, col0 + Q.numRows, blockA);
+        blockB.reshape(row1 - row0, Q.numCols);
+        CommonOps_DDRM.mult(blockA, Q, blockB);
+        CommonOps_DDRM.insert(blockB, A, row0, col0);
+    }
+
+    protected MultishiftQrSchur_DDRM getChild() {
+        if (child == null) {
+            child = new MultishiftQrSchur_DDRM(false);
+            child.nmin = nmin;
+            child.nibble = nibble;
+        }
+        child.iterationsPerRow = iterationsPerRow;
+        return child;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
+
+/**
+ * Concurrent implementation of {@link MultishiftQrSchur_DDRM}. Updates which are far from the diagonal are
+ * done using concurrent matrix multiplication.
+ *
+ * @author Peter Abeles
+ */
+public class MultishiftQrSchur_MT_DDRM extends MultishiftQrSchur_DDRM {
+    @Override
+    protected void multTransALeft( DMatrixRMaj Q, DMatrixRMaj A, int row0, int col0, int col1 ) {
+        if (col1 <= col0)
+            return;
+        CommonOps_DDRM.extract(A, row0, row0 + Q.numRows, col0, col1, blockA);
+        blockB.reshape(Q.numCols, col1 - col0);
+        CommonOps_MT_DDRM.multTransA(Q, blockA, blockB);
+        CommonOps_DDRM.insert(blockB, A, row0, col0);
+    }
+
+    @Override
+    protected void multRight( DMatrixRMaj A, int row0, int row1, int col0, DMatrixRMaj Q ) {
+        if (row1 <= row0)
+            return;
+        CommonOps_DDRM.extract(A, row0, row1, col0, col0 + Q.numRows, blockA);
+        blockB.reshape(row1 - row0, Q.numCols);
+        CommonOps_MT_DDRM.mult(blockA, Q, blockB);
+        CommonOps_DDRM.insert(blockB, A, row0, col0);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * Low level functions shared by the algorithms which compute the real Schur form of a Hessenberg matrix.
+ * Rotations are defined such that x' = c*x + s*y and y' = c*y - s*x.
+ *
+ * @author Peter Abeles
+ */
+public class SchurHelper_DDRM {
+    /** Smallest number such that 1/SAFMIN doesn't overflow */
+    public static final double SAFMIN = Double.MIN_NORMAL;
+    /** Relative machine precision */
+    public static final double ULP = UtilEjml.EPS;
+
+    // threshold used to rescale a vector in the Householder computation
+    private static final double SAFMIN_HOUSE = SAFMIN/(ULP*0.5);
+
+    /**
+     * sqrt(a*a + b*b) without overflow or underflow
+     */
+    public static double hypot( double a, double b ) {
+        double max = Math.max(Math.abs(a), Math.abs(b));
+        if (max == 0.0)
+            return 0.0;
+        a /= max;
+        b /= max;
+        return max*Math.sqrt(a*a + b*b);
+    }
+
+    /**
+     * <p>
+     * Computes a Householder reflector, H = I - tau*u*u<sup>T</sup>, such that H*[alpha;x] = [beta;0] where
+     * u = [1;v]. On input alpha is stored in v[offset] and x in the following n-1 elements. On output
+     * v[offset] contains beta and the following elements are v. See LAPACK's DLARFG.
+     * </p>
+     *
+     * @return tau. If zero then H is the identity matrix.
+     */
+    public static double householder( int n, double[] v, int offset ) {
+        if (n <= 1)
+            return 0.0;
+
+        double xnorm = norm(v, offset + 1, n - 1);
+        if (xnorm == 0.0)
+            return 0.0;
+
+        double alpha = v[offset];
+        double beta = -Math.copySign(hypot(alpha, xnorm), alpha);
+
+        // if beta is tiny rescale to avoid a loss of precision
+        int count = 0;
+        if (Math.abs(beta) < SAFMIN_HOUSE) {
+            double scale = 1.0/SAFMIN_HOUSE;
+            do {
+                count++;
+                for (int i = 1; i < n; i++) {
+                    v[offset + i] *= scale;
+                }
+                beta *= scale;
+                alpha *= scale;
+            } while (Math.abs(beta) < SAFMIN_HOUSE && count < 20);
+            xnorm = norm(v, offset + 1, n - 1);
+            beta = -Math.copySign(hypot(alpha, xnorm), alpha);
+        }
+
+        double tau = (beta - alpha)/beta;
+        double scale = 1.0/(alpha - beta);
+        for (int i = 1; i < n; i++) {
+            v[offset + i] *= scale;
+        }
+        for (int i = 0; i < count; i++) {
+            beta *= SAFMIN_HOUSE;
+        }
+        v[offset] = beta;
+        return tau;
+    }
+
+    private static double norm( double[] v, int offset, int length ) {
+        double max = 0;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, Math.abs(v[offset + i]));
+        }
+        if (max == 0.0)
+            return 0.0;
+        double total = 0;
+        for (int i = 0; i < length; i++) {
+            double a = v[offset + i]/max;
+            total += a*a;
+        }
+        return max*Math.sqrt(total);
+    }
+
+    /**
+     * Applies a rotation to rows 'row' and 'row+1' in columns col0 to col1-1
+     */
+    public static void rotateRows( DMatrixRMaj A, int row, int col0, int col1, double c, double s ) {
+        final double[] data = A.data;
+        int indexA = row*A.numCols + col0;
+        int indexB = indexA + A.numCols;
+        for (int col = col0; col < col1; col++, indexA++, indexB++) {
+            double a = data[indexA];
+            double b = data[indexB];
+            data[indexA] = c*a + s*b;
+            data[indexB] = c*b - s*a;
+        }
+    }
+
+    /**
+     * Applies a rotation to columns 'col' and 'col+1' in rows row0 to row1-1
+     */
+    public static void rotateCols( DMatrixRMaj A, int col, int row0, int row1, double c, double s ) {
+        final double[] data = A.data;
+        final int stride = A.numCols;
+        for (int row = row0; row < row1; row++) {
+            int index = row*stride + col;
+            double a = data[index];
+            double b = data[index + 1];
+            data[index] = c*a + s*b;
+            data[index + 1] = c*b - s*a;
+        }
+    }
+
+    /**
+     * Computes the product of a Householder reflector, I - tau*u*u<sup>T</sup> with 3 elements in u, and rows
+     * row0 to row0+2 in columns col0 to col1-1. A = H*A
+     */
+    public static void reflectLeft3( double[] u, double tau, DMatrixRMaj A, int row0, int col0, int col1 ) {
+        if (tau == 0.0)
+            return;
+        final double[] data = A.data;
+        final int stride = A.numCols;
+        final double u1 = u[1], u2 = u[2];
+        final double t0 = tau*u[0], t1 = tau*u1, t2 = tau*u2;
+        for (int col = col0; col < col1; col++) {
+            int index = row0*stride + col;
+            double sum = u[0]*data[index] + u1*data[index + stride] + u2*data[index + 2*stride];
+            data[index] -= sum*t0;
+            data[index + stride] -= sum*t1;
+            data[index + 2*stride] -= sum*t2;
+        }
+    }
+
+    /**
+     * Computes the product of rows row0 to row1-1 in columns col0 to col0+2 and a Householder reflector,
+     * I - tau*u*u<sup>T</sup> with 3 elements in u. A = A*H
+     */
+    public static void reflectRight3( double[] u, double tau, DMatrixRMaj A, int row0, int row1, int col0 ) {
+        if (tau == 0.0)
+            return;
+        final double[] data = A.data;
+        final int stride = A.numCols;
+        final double u1 = u[1], u2 = u[2];
+        final double t0 = tau*u[0], t1 = tau*u1, t2 = tau*u2;
+        for (int row = row0; row < row1; row++) {
+            int index = row*stride + col0;
+            double sum = u[0]*data[index] + u1*data[index + 1] + u2*data[index + 2];
+            data[index] -= sum*t0;
+            data[index + 1] -= sum*t1;
+            data[index + 2] -= sum*t2;
+        }
+    }
+}
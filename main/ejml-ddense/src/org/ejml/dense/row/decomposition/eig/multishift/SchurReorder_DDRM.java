@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.data.DMatrixRMaj;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.dense.row.decomposition.eig.multishift.SchurHelper_DDRM.*;
+
+/**
+ * <p>
+ * Reorders the real Schur form of a matrix, T = Q<sup>T</sup>*A*Q, so that a diagonal block is moved to a
+ * different row. The block is moved by repeatedly swapping it with an adjacent block using an orthogonal
+ * similarity transform. A swap is computed by solving a small Sylvester equation and is rejected if it would
+ * change the eigenvalues by more than the machine precision, in which case T isn't modified. 2 by 2 blocks
+ * are kept in the standardized form of {@link StandardSchur2x2_F64}.
+ * </p>
+ *
+ * <p>
+ * Based on LAPACK's DTREXC and DLAEXC.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SchurReorder_DDRM {
+    private static final double SMLNUM = SAFMIN/ULP;
+
+    /** Row that the block was moved to by the last call to {@link #moveBlock} */
+    public int ilst;
+
+    private final StandardSchur2x2_F64 schur2 = new StandardSchur2x2_F64();
+
+    // copy of the two blocks being swapped
+    private final DMatrixRMaj D = new DMatrixRMaj(4, 4);
+    // solution to the Sylvester equation and its scale factor
+    private final double[] X = new double[4];
+    private double scale;
+
+    // workspace
+    private final double[] u1 = new double[3];
+    private final double[] u2 = new double[3];
+    private final double[] K = new double[16];
+    private final double[] rhs = new double[4];
+    private final int[] pivots = new int[4];
+
+    /**
+     * <p>
+     * Moves the diagonal block which starts at row 'ifst' to row 'ilst'. If 'ifst' is the second row of a 2 by 2
+     * block it's adjusted to point at the first row, the same is true for 'ilst'. After moving a block down
+     * 'ilst' is adjusted so that it points at the first row of the moved block. The row the block ended at is
+     * stored in {@link #ilst}.
+     * </p>
+     *
+     * @param T (Input/Output) Matrix in real Schur form
+     * @param Q (Input/Output) If not null, the transforms are applied to its columns
+     * @param ifst Row the block starts at
+     * @param ilst Row the block should be moved to
+     * @return true if successful or false if a swap was rejected. When it fails {@link #ilst} is where the
+     * block currently is.
+     */
+    public boolean moveBlock( DMatrixRMaj T, @Nullable DMatrixRMaj Q, int ifst, int ilst ) {
+        final int n = T.numCols;
+        final double[] t = T.data;
+        this.ilst = ilst;
+
+        if (n <= 1)
+            return true;
+
+        // find the first row of each block and if it's a 1 by 1 or 2 by 2 block
+        if (ifst > 0 && t[ifst*n + ifst - 1] != 0.0)
+            ifst--;
+        int nbf = 1;
+        if (ifst < n - 1 && t[(ifst + 1)*n + ifst] != 0.0)
+            nbf = 2;
+
+        if (ilst > 0 && t[ilst*n + ilst - 1] != 0.0)
+            ilst--;
+        int nbl = 1;
+        if (ilst < n - 1 && t[(ilst + 1)*n + ilst] != 0.0)
+            nbl = 2;
+
+        this.ilst = ilst;
+        if (ifst == ilst)
+            return true;
+
+        int here = ifst;
+        if (ifst < ilst) {
+            if (nbf == 2 && nbl == 1)
+                ilst--;
+            if (nbf == 1 && nbl == 2)
+                ilst++;
+
+            // swap the block with the one below it
+            do {
+                if (nbf == 1 || nbf == 2) {
+                    // current block is either 1 by 1 or 2 by 2
+                    int nbnext = 1;
+                    if (here + nbf + 1 < n && t[(here + nbf + 1)*n + here + nbf] != 0.0)
+                        nbnext = 2;
+                    if (!swap(T, Q, here, nbf, nbnext)) {
+                        this.ilst = here;
+                        return false;
+                    }
+                    here += nbnext;
+
+                    // see if the 2 by 2 block broke into two 1 by 1 blocks
+                    if (nbf == 2 && t[(here + 1)*n + here] == 0.0)
+                        nbf = 3;
+                } else {
+                    // current block is two 1 by 1 blocks which must be swapped individually
+                    int nbnext = 1;
+                    if (here + 3 < n && t[(here + 3)*n + here + 2] != 0.0)
+                        nbnext = 2;
+                    if (!swap(T, Q, here + 1, 1, nbnext)) {
+                        this.ilst = here;
+                        return false;
+                    }
+                    if (nbnext == 1) {
+                        // swapping two 1 by 1 blocks can't fail
+                        swap(T, Q, here, 1, nbnext);
+                        here++;
+                    } else {
+                        // the 2 by 2 block might have split
+                        if (t[(here + 2)*n + here + 1] == 0.0)
+                            nbnext = 1;
+                        if (nbnext == 2) {
+                            if (!swap(T, Q, here, 1, nbnext)) {
+                                this.ilst = here;
+                                return false;
+                            }
+                        } else {
+                            swap(T, Q, here, 1, 1);
+                            swap(T, Q, here + 1, 1, 1);
+                        }
+                        here += 2;
+                    }
+                }
+            } while (here < ilst);
+        } else {
+            // swap the block with the one above it
+            do {
+                if (nbf == 1 || nbf == 2) {
+                    int nbnext = 1;
+                    if (here >= 2 && t[(here - 1)*n + here - 2] != 0.0)
+                        nbnext = 2;
+                    if (!swap(T, Q, here - nbnext, nbnext, nbf)) {
+                        this.ilst = here;
+                        return false;
+                    }
+                    here -= nbnext;
+
+                    if (nbf == 2 && t[(here + 1)*n + here] == 0.0)
+                        nbf = 3;
+                } else {
+                    int nbnext = 1;
+                    if (here >= 2 && t[(here - 1)*n + here - 2] != 0.0)
+                        nbnext = 2;
+                    if (!swap(T, Q, here - nbnext, nbnext, 1)) {
+                        this.ilst = here;
+                        return false;
+                    }
+                    if (nbnext == 1) {
+                        swap(T, Q, here, nbnext, 1);
+                        here--;
+                    } else {
+                        if (t[here*n + here - 1] == 0.0)
+                            nbnext = 1;
+                        if (nbnext == 2) {
+                            if (!swap(T, Q, here - 1, 2, 1)) {
+                                this.ilst = here;
+                                return false;
+                            }
+                        } else {
+                            swap(T, Q, here, 1, 1);
+                            swap(T, Q, here - 1, 1, 1);
+                        }
+                        here -= 2;
+                    }
+                }
+            } while (here > ilst);
+        }
+        this.ilst = here;
+        return true;
+    }
+
+    /**
+     * Swaps the adjacent diagonal blocks T11 and T22, which start at row j1, using an orthogonal similarity
+     * transform.
+     *
+     * @param T (Input/Output) Matrix in real Schur form
+     * @param Q (Input/Output) If not null, the transforms are applied to its columns
+     * @param j1 First row in T11
+     * @param n1 Size of T11. 1 or 2
+     * @param n2 Size of T22. 1 or 2
+     * @return false if the swap was rejected because the results would be too far from Schur form
+     */
+    public boolean swap( DMatrixRMaj T, @Nullable DMatrixRMaj Q, int j1, int n1, int n2 ) {
+        final int n = T.numCols;
+        final double[] t = T.data;
+
+        if (n == 0 || n1 == 0 || n2 == 0)
+            return true;
+        if (j1 + n1 >= n)
+            return true;
+
+        final int j2 = j1 + 1;
+        final int j3 = j1 + 2;
+        final int j4 = j1 + 3;
+
+        if (n1 == 1 && n2 == 1) {
+            // swap two 1 by 1 blocks
+            double t11 = t[j1*n + j1];
+            double t22 = t[j2*n + j2];
+
+            // rotation which makes the swapped matrix upper triangular
+            double f = t[j1*n + j2];
+            double g = t22 - t11;
+            double r = hypot(f, g);
+            double cs = 1.0, sn = 0.0;
+            if (r != 0.0) {
+                cs = f/r;
+                sn = g/r;
+            }
+
+            if (j3 < n)
+                rotateRows(T, j1, j3, n, cs, sn);
+            rotateCols(T, j1, 0, j1, cs, sn);
+
+            t[j1*n + j1] = t22;
+            t[j2*n + j2] = t11;
+
+            if (Q != null)
+                rotateCols(Q, j1, 0, Q.numRows, cs, sn);
+            return true;
+        }
+
+        // swapping involves at least one 2 by 2 block. Copy the diagonal block to a workspace
+        final int nd = n1 + n2;
+        double dnorm = 0;
+        for (int i = 0; i < nd; i++) {
+            for (int j = 0; j < nd; j++) {
+                double value = t[(j1 + i)*n + j1 + j];
+                D.unsafe_set(i, j, value);
+                dnorm = Math.max(dnorm, Math.abs(value));
+            }
+        }
+
+        // threshold for accepting the swap
+        double thresh = Math.max(10.0*ULP*dnorm, SMLNUM);
+
+        // solve T11*X - X*T22 = scale*T12 for X
+        solveSylvester(n1, n2);
+
+        if (n1 == 1) {
+            // n2 = 2. Reflector such that (scale, X11, X12)*H = (0, 0, *)
+            u1[0] = X[1];
+            u1[1] = scale;
+            u1[2] = X[0];
+            double tau = householder(3, u1, 0);
+            // reorder so that the element with the value of one is last
+            double v0 = u1[1];
+            double v1 = u1[2];
+            u1[0] = v0;
+            u1[1] = v1;
+            u1[2] = 1.0;
+            double t11 = t[j1*n + j1];
+
+            // perform the swap provisionally on the workspace
+            reflectLeft3(u1, tau, D, 0, 0, 3);
+            reflectRight3(u1, tau, D, 0, 3, 0);
+
+            double err = Math.max(Math.abs(D.unsafe_get(2, 0)), Math.abs(D.unsafe_get(2, 1)));
+            err = Math.max(err, Math.abs(D.unsafe_get(2, 2) - t11));
+            if (!(err <= thresh))
+                return false;
+
+            // accept the swap and apply it to the whole matrix
+            reflectLeft3(u1, tau, T, j1, j1, n);
+            reflectRight3(u1, tau, T, 0, j2 + 1, j1);
+            t[j3*n + j1] = 0.0;
+            t[j3*n + j2] = 0.0;
+            t[j3*n + j3] = t11;
+            if (Q != null)
+                reflectRight3(u1, tau, Q, 0, Q.numRows, j1);
+        } else if (n2 == 1) {
+            // n1 = 2. Reflector such that H*(-X11, -X21, scale) = (*, 0, 0)
+            u1[0] = -X[0];
+            u1[1] = -X[2];
+            u1[2] = scale;
+            double tau = householder(3, u1, 0);
+            u1[0] = 1.0;
+            double t33 = t[j3*n + j3];
+
+            reflectLeft3(u1, tau, D, 0, 0, 3);
+            reflectRight3(u1, tau, D, 0, 3, 0);
+
+            double err = Math.max(Math.abs(D.unsafe_get(1, 0)), Math.abs(D.unsafe_get(2, 0)));
+            err = Math.max(err, Math.abs(D.unsafe_get(0, 0) - t33));
+            if (!(err <= thresh))
+                return false;
+
+            reflectRight3(u1, tau, T, 0, j3 + 1, j1);
+            reflectLeft3(u1, tau, T, j1, j2, n);
+            t[j1*n + j1] = t33;
+            t[j2*n + j1] = 0.0;
+            t[j3*n + j1] = 0.0;
+            if (Q != null)
+                reflectRight3(u1, tau, Q, 0, Q.numRows, j1);
+        } else {
+            // n1 = n2 = 2. Two reflectors which reduce [-X; scale*I] to upper triangular
+            u1[0] = -X[0];
+            u1[1] = -X[2];
+            u1[2] = scale;
+            double tau1 = householder(3, u1, 0);
+            u1[0] = 1.0;
+
+            double temp = -tau1*(X[1] + u1[1]*X[3]);
+            u2[0] = -temp*u1[1] - X[3];
+            u2[1] = -temp*u1[2];
+            u2[2] = scale;
+            double tau2 = householder(3, u2, 0);
+            u2[0] = 1.0;
+
+            reflectLeft3(u1, tau1, D, 0, 0, 4);
+            reflectRight3(u1, tau1, D, 0, 4, 0);
+            reflectLeft3(u2, tau2, D, 1, 0, 4);
+            reflectRight3(u2, tau2, D, 0, 4, 1);
+
+            double err = Math.max(Math.abs(D.unsafe_get(2, 0)), Math.abs(D.unsafe_get(2, 1)));
+            err = Math.max(err, Math.abs(D.unsafe_get(3, 0)));
+            err = Math.max(err, Math.abs(D.unsafe_get(3, 1)));
+            if (!(err <= thresh))
+                return false;
+
+            reflectLeft3(u1, tau1, T, j1, j1, n);
+            reflectRight3(u1, tau1, T, 0, j4 + 1, j1);
+            reflectLeft3(u2, tau2, T, j2, j1, n);
+            reflectRight3(u2, tau2, T, 0, j4 + 1, j2);
+            t[j3*n + j1] = 0.0;
+            t[j3*n + j2] = 0.0;
+            t[j4*n + j1] = 0.0;
+            t[j4*n + j2] = 0.0;
+            if (Q != null) {
+                reflectRight3(u1, tau1, Q, 0, Q.numRows, j1);
+                reflectRight3(u2, tau2, Q, 0, Q.numRows, j2);
+            }
+        }
+
+        if (n2 == 2) {
+            // standardize the new 2 by 2 block at the top
+            standardize(T, Q, j1);
+        }
+        if (n1 == 2) {
+            // standardize the new 2 by 2 block at the bottom
+            standardize(T, Q, j1 + n2);
+        }
+        return true;
+    }
+
+    /**
+     * Converts the 2 by 2 block at row j into standardized form and applies the rotation to the rest of T and Q
+     */
+    private void standardize( DMatrixRMaj T, @Nullable DMatrixRMaj Q, int j ) {
+        final int n = T.numCols;
+        final double[] t = T.data;
+        int a = j*n + j;
+        schur2.process(t[a], t[a + 1], t[a + n], t[a + n + 1]);
+        t[a] = schur2.a;
+        t[a + 1] = schur2.b;
+        t[a + n] = schur2.c;
+        t[a + n + 1] = schur2.d;
+        if (j + 2 < n)
+            rotateRows(T, j, j + 2, n, schur2.cs, schur2.sn);
+        rotateCols(T, j, 0, j, schur2.cs, schur2.sn);
+        if (Q != null)
+            rotateCols(Q, j, 0, Q.numRows, schur2.cs, schur2.sn);
+    }
+
+    /**
+     * Solves the Sylvester equation T11*X - X*T22 = scale*T12, where T11 is n1 by n1, T22 is n2 by n2, and
+     * T12 is n1 by n2, using Gaussian elimination with complete pivoting on the equivalent linear system.
+     * Tiny pivots are perturbed so that a solution is always found. X is stored in a 2 by 2 row major array.
+     */
+    void solveSylvester( int n1, int n2 ) {
+        final int m = n1*n2;
+
+        // largest element in T11 and T22 is used to decide if a pivot is too small
+        double max = 0;
+        for (int i = 0; i < n1 + n2; i++) {
+            for (int j = 0; j < n1 + n2; j++) {
+                if ((i < n1) == (j < n1))
+                    max = Math.max(max, Math.abs(D.unsafe_get(i, j)));
+            }
+        }
+        double smin = Math.max(ULP*max, SMLNUM);
+
+        // Construct the linear system. Unknown X(k,l) is at index k + l*n1
+        for (int i = 0; i < n1; i++) {
+            for (int j = 0; j < n2; j++) {
+                int r = i + j*n1;
+                rhs[r] = D.unsafe_get(i, n1 + j);
+                for (int k = 0; k < n1; k++) {
+                    for (int l = 0; l < n2; l++) {
+                        double value = 0;
+                        if (j == l)
+                            value += D.unsafe_get(i, k);
+                        if (i == k)
+                            value -= D.unsafe_get(n1 + l, n1 + j);
+                        K[r*m + k + l*n1] = value;
+                    }
+                }
+            }
+        }
+
+        // Gaussian elimination with complete pivoting
+        for (int i = 0; i < m; i++) {
+            pivots[i] = i;
+        }
+        scale = 1.0;
+        for (int p = 0; p < m; p++) {
+            int bestRow = p, bestCol = p;
+            double best = -1;
+            for (int r = p; r < m; r++) {
+                for (int c = p; c < m; c++) {
+                    double value = Math.abs(K[r*m + c]);
+                    if (value > best) {
+                        best = value;
+                        bestRow = r;
+                        bestCol = c;
+                    }
+                }
+            }
+            if (bestRow != p) {
+                for (int c = 0; c < m; c++) {
+                    double tmp = K[p*m + c];
+                    K[p*m + c] = K[bestRow*m + c];
+                    K[bestRow*m + c] = tmp;
+                }
+                double tmp = rhs[p];
+                rhs[p] = rhs[bestRow];
+                rhs[bestRow] = tmp;
+            }
+            if (bestCol != p) {
+                for (int r = 0; r < m; r++) {
+                    double tmp = K[r*m + p];
+                    K[r*m + p] = K[r*m + bestCol];
+                    K[r*m + bestCol] = tmp;
+                }
+                int tmp = pivots[p];
+                pivots[p] = pivots[bestCol];
+                pivots[bestCol] = tmp;
+            }
+            if (Math.abs(K[p*m + p]) < smin)
+                K[p*m + p] = smin;
+
+            double pivot = K[p*m + p];
+            for (int r = p + 1; r < m; r++) {
+                double factor = K[r*m + p]/pivot;
+                if (factor == 0.0)
+                    continue;
+                for (int c = p + 1; c < m; c++) {
+                    K[r*m + c] -= factor*K[p*m + c];
+                }
+                rhs[r] -= factor*rhs[p];
+            }
+        }
+
+        // back substitution
+        for (int r = m - 1; r >= 0; r--) {
+            double sum = rhs[r];
+            for (int c = r + 1; c < m; c++) {
+                sum -= K[r*m + c]*rhs[c];
+            }
+            rhs[r] = sum/K[r*m + r];
+        }
+
+        for (int p = 0; p < m; p++) {
+            int index = pivots[p];
+            int k = index%n1;
+            int l = index/n1;
+            X[k*2 + l] = rhs[p];
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import static org.ejml.dense.row.decomposition.eig.multishift.SchurHelper_DDRM.SAFMIN;
+import static org.ejml.dense.row.decomposition.eig.multishift.SchurHelper_DDRM.ULP;
+import static org.ejml.dense.row.decomposition.eig.multishift.SchurHelper_DDRM.hypot;
+
+/**
+ * <p>
+ * Computes the Schur factorization of a real 2 by 2 matrix in standardized form:<br>
+ * [a b;c d] = [cs -sn;sn cs]*[aa bb;cc dd]*[cs sn;-sn cs]<br>
+ * After processing either cc = 0 and the two eigenvalues are real, or aa = dd and bb*cc &lt; 0 and the
+ * eigenvalues are a complex conjugate pair, (aa &plusmn; sqrt(bb*cc)). The results are stored in the
+ * fields a,b,c,d. Based on LAPACK's DLANV2.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class StandardSchur2x2_F64 {
+    private static final double MULTPL = 4.0;
+    private static final double SAFMN2 = Math.pow(2.0, (int)(Math.log(SAFMIN/ULP)/Math.log(2.0)/2.0));
+    private static final double SAFMX2 = 1.0/SAFMN2;
+
+    /** Standardized 2 by 2 matrix */
+    public double a, b, c, d;
+    /** Real and imaginary components of the two eigenvalues */
+    public double rt1r, rt1i, rt2r, rt2i;
+    /** Cosine and sine of the rotation */
+    public double cs, sn;
+
+    /**
+     * Computes the standardized Schur factorization of [a b;c d]
+     */
+    public void process( double a, double b, double c, double d ) {
+        if (c == 0.0) {
+            cs = 1.0;
+            sn = 0.0;
+        } else if (b == 0.0) {
+            // swap rows and columns
+            cs = 0.0;
+            sn = 1.0;
+            double temp = d;
+            d = a;
+            a = temp;
+            b = -c;
+            c = 0.0;
+        } else if ((a - d) == 0.0 && Math.copySign(1.0, b) != Math.copySign(1.0, c)) {
+            cs = 1.0;
+            sn = 0.0;
+        } else {
+            double temp = a - d;
+            double p = 0.5*temp;
+            double bcmax = Math.max(Math.abs(b), Math.abs(c));
+            double bcmis = Math.min(Math.abs(b), Math.abs(c))*Math.copySign(1.0, b)*Math.copySign(1.0, c);
+            double scale = Math.max(Math.abs(p), bcmax);
+            double z = (p/scale)*p + (bcmax/scale)*bcmis;
+
+            // If z is of the order of the machine accuracy, postpone the decision on the nature of the eigenvalues
+            if (z >= MULTPL*ULP) {
+                // real eigenvalues
+                z = p + Math.copySign(Math.sqrt(scale)*Math.sqrt(z), p);
+                a = d + z;
+                d = d - (bcmax/z)*bcmis;
+                double tau = hypot(c, z);
+                cs = z/tau;
+                sn = c/tau;
+                b = b - c;
+                c = 0.0;
+            } else {
+                // complex or almost equal real eigenvalues. Make the diagonal elements equal
+                int count = 0;
+                double sigma = b + c;
+                while (true) {
+                    count++;
+                    scale = Math.max(Math.abs(temp), Math.abs(sigma));
+                    if (scale >= SAFMX2) {
+                        sigma *= SAFMN2;
+                        temp *= SAFMN2;
+                        if (count <= 20)
+                            continue;
+                    }
+                    if (scale <= SAFMN2) {
+                        sigma *= SAFMX2;
+                        temp *= SAFMX2;
+                        if (count <= 20)
+                            continue;
+                    }
+                    break;
+                }
+                p = 0.5*temp;
+                double tau = hypot(sigma, temp);
+                cs = Math.sqrt(0.5*(1.0 + Math.abs(sigma)/tau));
+                sn = -(p/(tau*cs))*Math.copySign(1.0, sigma);
+
+                // [aa bb;cc dd] = [a b;c d]*[cs -sn;sn cs]
+                double aa = a*cs + b*sn;
+                double bb = -a*sn + b*cs;
+                double cc = c*cs + d*sn;
+                double dd = -c*sn + d*cs;
+
+                // [a b;c d] = [cs sn;-sn cs]*[aa bb;cc dd]
+                a = aa*cs + cc*sn;
+                b = bb*cs + dd*sn;
+                c = -aa*sn + cc*cs;
+                d = -bb*sn + dd*cs;
+
+                temp = 0.5*(a + d);
+                a = temp;
+                d = temp;
+
+                if (c != 0.0) {
+                    if (b != 0.0) {
+                        if (Math.copySign(1.0, b) == Math.copySign(1.0, c)) {
+                            // real eigenvalues, reduce to upper triangular form
+                            double sab = Math.sqrt(Math.abs(b));
+                            double sac = Math.sqrt(Math.abs(c));
+                            p = Math.copySign(sab*sac, c);
+                            tau = 1.0/Math.sqrt(Math.abs(b + c));
+                            a = temp + p;
+                            d = temp - p;
+                            b = b - c;
+                            c = 0.0;
+                            double cs1 = sab*tau;
+                            double sn1 = sac*tau;
+                            temp = cs*cs1 - sn*sn1;
+                            sn = cs*sn1 + sn*cs1;
+                            cs = temp;
+                        }
+                    } else {
+                        b = -c;
+                        c = 0.0;
+                        temp = cs;
+                        cs = -sn;
+                        sn = temp;
+                    }
+                }
+            }
+        }
+
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+
+        rt1r = a;
+        rt2r = d;
+        if (c == 0.0) {
+            rt1i = 0.0;
+            rt2i = 0.0;
+        } else {
+            rt1i = Math.sqrt(Math.abs(b))*Math.sqrt(Math.abs(c));
+            rt2i = -rt1i;
+        }
+    }
+}
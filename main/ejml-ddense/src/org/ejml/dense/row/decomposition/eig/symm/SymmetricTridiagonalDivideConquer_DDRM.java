@@ -0,0 +1,551 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.symm;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.SecularEquation_DDRM;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a symmetric tridiagonal matrix using Cuppen's divide and conquer
+ * algorithm. The matrix is recursively split in half by removing a rank-one term,
+ * T = diag(T<sub>1</sub>,T<sub>2</sub>) + &rho;vv<sup>T</sup>, until the sub-matrices are small enough to be
+ * solved with the implicit QR algorithm. Two solved halves are merged by finding the eigenvalues of
+ * D + &rho;zz<sup>T</sup> with the secular equation. Eigenvectors are found using the method of Gu and Eisenstat,
+ * which recomputes z from the eigenvalues so that the eigenvectors are numerically orthogonal. Most of the work
+ * is in a matrix multiplication at each merge, which makes it much faster than the QR algorithm for large matrices
+ * when eigenvectors are required.
+ * </p>
+ *
+ * <p>
+ * Eigenvalues are sorted in increasing order and the eigenvectors are stored in the columns of an N by N matrix.
+ * Subproblems which have the same height in the recursion tree don't depend on each other and are processed by
+ * {@link #processNodes}, which allows them to be processed concurrently.
+ * </p>
+ *
+ * <p>
+ * For more information see:<br>
+ * [1] J.J.M. Cuppen, "A divide and conquer method for the symmetric tridiagonal eigenproblem" Numer. Math. 1981<br>
+ * [2] M. Gu and S. C. Eisenstat, "A Divide-and-Conquer Algorithm for the Symmetric Tridiagonal Eigenproblem"
+ * SIAM J. Matrix Anal. Appl. 1995<br>
+ * [3] Gene H. Golub and Charles F. Van Loan, "Matrix Computations" 4th edition, section 8.4
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SymmetricTridiagonalDivideConquer_DDRM {
+    /** Sub-matrices which are this size or smaller are solved using the implicit QR algorithm */
+    protected int leafSize = 25;
+    /** Maximum number of iterations when solving for a root of the secular equation */
+    protected int maxIterations = 200;
+
+    // size of the matrix being decomposed
+    protected int N;
+
+    // diagonal and off diagonal elements. The diagonal is adjusted when the matrix is split
+    protected double[] diag = UtilEjml.ZERO_LENGTH_F64;
+    protected double[] off = UtilEjml.ZERO_LENGTH_F64;
+
+    // found eigenvalues in increasing order
+    protected double[] values = UtilEjml.ZERO_LENGTH_F64;
+    // eigenvectors are stored in the columns
+    protected DMatrixRMaj Z = new DMatrixRMaj(1, 1);
+
+    // Nodes in the recursion tree. Index of the first row, split point (-1 for a leaf), and end of each node
+    protected IGrowArray nodeBegin = new IGrowArray();
+    protected IGrowArray nodeSplit = new IGrowArray();
+    protected IGrowArray nodeEnd = new IGrowArray();
+    protected IGrowArray nodeHeight = new IGrowArray();
+    // Nodes ordered by height. Nodes with the same height are independent
+    protected IGrowArray order = new IGrowArray();
+    protected IGrowArray heightBegin = new IGrowArray();
+
+    // workspace used by a single thread
+    protected Workspace work = new Workspace();
+
+    /**
+     * Computes the eigenvalues and eigenvectors of the tridiagonal matrix.
+     *
+     * @param diag Diagonal elements. Not modified.
+     * @param off Off diagonal elements. Not modified.
+     * @param N Number of rows and columns in the matrix
+     * @return true if successful
+     */
+    public boolean process( double[] diag, double[] off, int N ) {
+        this.N = N;
+        if (this.diag.length < N) {
+            this.diag = new double[N];
+            this.off = new double[N];
+            this.values = new double[N];
+        }
+        System.arraycopy(diag, 0, this.diag, 0, N);
+        if (N > 1)
+            System.arraycopy(off, 0, this.off, 0, N - 1);
+
+        Z.reshape(N, N);
+        Z.zero();
+        if (N == 0)
+            return true;
+
+        // Create the recursion tree and remove the rank-one terms from the diagonal
+        nodeBegin.reshape(0);
+        nodeSplit.reshape(0);
+        nodeEnd.reshape(0);
+        nodeHeight.reshape(0);
+        int maxHeight = split(0, N);
+
+        // Sort the nodes by height
+        heightBegin.reshape(maxHeight + 2);
+        Arrays.fill(heightBegin.data, 0, maxHeight + 2, 0);
+        for (int i = 0; i < nodeHeight.length; i++) {
+            heightBegin.data[nodeHeight.data[i] + 1]++;
+        }
+        for (int i = 0; i <= maxHeight; i++) {
+            heightBegin.data[i + 1] += heightBegin.data[i];
+        }
+        order.reshape(nodeHeight.length);
+        int[] fill = work.indexes(maxHeight + 1);
+        System.arraycopy(heightBegin.data, 0, fill, 0, maxHeight + 1);
+        for (int i = 0; i < nodeHeight.length; i++) {
+            order.data[fill[nodeHeight.data[i]]++] = i;
+        }
+
+        // Solve from the leaves up to the root
+        for (int height = 0; height <= maxHeight; height++) {
+            if (!processNodes(heightBegin.data[height], heightBegin.data[height + 1]))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Recursively splits the matrix in half and returns the height of the node
+     */
+    private int split( int begin, int end ) {
+        int height = 0;
+        int middle = -1;
+        if (end - begin > Math.max(1, leafSize)) {
+            middle = (begin + end)/2;
+            height = 1 + Math.max(split(begin, middle), split(middle, end));
+
+            // T = diag(T1,T2) + rho*v*v' where v = e(middle-1) + e(middle)
+            double rho = off[middle - 1];
+            diag[middle - 1] -= rho;
+            diag[middle] -= rho;
+        }
+        nodeBegin.add(begin);
+        nodeSplit.add(middle);
+        nodeEnd.add(end);
+        nodeHeight.add(height);
+        return height;
+    }
+
+    /**
+     * Processes nodes which have the same height in the tree. These nodes are independent of each other.
+     *
+     * @param idx0 First index in 'order', inclusive
+     * @param idx1 Last index in 'order', exclusive
+     */
+    protected boolean processNodes( int idx0, int idx1 ) {
+        for (int i = idx0; i < idx1; i++) {
+            if (!processNode(order.data[i], work))
+                return false;
+        }
+        return true;
+    }
+
+    protected boolean processNode( int node, Workspace work ) {
+        int begin = nodeBegin.data[node];
+        int end = nodeEnd.data[node];
+        int middle = nodeSplit.data[node];
+        if (middle == -1)
+            return solveLeaf(begin, end, work);
+        merge(begin, middle, end, work);
+        return true;
+    }
+
+    /**
+     * Uses the implicit QR algorithm to solve a small sub-matrix
+     */
+    private boolean solveLeaf( int begin, int end, Workspace work ) {
+        int n = end - begin;
+        double[] d = work.d(n);
+        double[] o = work.z(n);
+        System.arraycopy(diag, begin, d, 0, n);
+        System.arraycopy(off, begin, o, 0, n - 1);
+
+        DMatrixRMaj Q = work.Q;
+        Q.reshape(n, n);
+        CommonOps_DDRM.setIdentity(Q);
+        work.helper.init(d, o, n);
+        work.helper.setQ(Q);
+        work.qr.setFastEigenvalues(false);
+        if (!work.qr.process(-1, null, null))
+            return false;
+
+        // sort the eigenvalues. Rows in Q are the eigenvectors
+        int[] indexes = work.indexes(n);
+        for (int i = 0; i < n; i++) {
+            int j = i;
+            for (; j > 0 && d[indexes[j - 1]] > d[i]; j--) {
+                indexes[j] = indexes[j - 1];
+            }
+            indexes[j] = i;
+        }
+        for (int j = 0; j < n; j++) {
+            int src = indexes[j];
+            values[begin + j] = d[src];
+            for (int i = 0; i < n; i++) {
+                Z.data[(begin + i)*N + begin + j] = Q.data[src*n + i];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges two solved halves. Finds the eigen decomposition of D + rho*z*z' where D contains the eigenvalues of
+     * both halves and z = Q'*v.
+     */
+    private void merge( int begin, int middle, int end, Workspace work ) {
+        final int n = end - begin;
+        final double rho = off[middle - 1];
+        final double sign = rho < 0 ? -1 : 1;
+
+        // Merge the two sorted lists of eigenvalues. Negate if rho is negative so that rho is always positive
+        int[] sorted = work.indexes(n);
+        int left = 0, right = middle - begin;
+        for (int i = 0; i < n; i++) {
+            int p;
+            if (right >= n || (left < middle - begin && values[begin + left] <= values[begin + right]))
+                p = left++;
+            else
+                p = right++;
+            sorted[sign > 0 ? i : n - 1 - i] = p;
+        }
+
+        // which halves of the rows each column has non-zero elements in. 1 = top, 2 = bottom
+        int[] support = work.support(n);
+        for (int j = 0; j < n; j++) {
+            support[j] = j < middle - begin ? 1 : 2;
+        }
+
+        // z = Q'*v is the last row of Q1 and the first row of Q2
+        double[] z = work.z(n);
+        double norm = 0;
+        for (int j = 0; j < n; j++) {
+            int row = j < middle - begin ? middle - 1 : middle;
+            z[j] = Z.data[row*N + begin + j];
+            norm += z[j]*z[j];
+        }
+        norm = Math.sqrt(norm);
+        double r = Math.abs(rho)*norm*norm;
+        double maxD = r;
+        for (int j = 0; j < n; j++) {
+            if (norm > 0)
+                z[j] /= norm;
+            maxD = Math.max(maxD, Math.abs(values[begin + j]));
+        }
+        // scale the problem to avoid overflow and underflow
+        final double scale = maxD == 0.0 ? 1.0 : maxD;
+        r /= scale;
+        final double tol = 8.0*UtilEjml.EPS;
+
+        //------ Deflation
+        double[] secD = work.d(n);
+        double[] secZ = work.secZ(n);
+        int[] secCol = work.secCol(n);
+        double[] defD = work.defD(n);
+        int[] defCol = work.defCol(n);
+        int K = 0, numDeflated = 0;
+        for (int t = 0; t < n; t++) {
+            int col = sorted[t];
+            double di = sign*values[begin + col]/scale;
+            double zi = z[col];
+
+            if (r*Math.abs(zi) <= tol) {
+                defD[numDeflated] = di;
+                defCol[numDeflated++] = col;
+                continue;
+            }
+
+            if (K > 0) {
+                // If two eigenvalues are almost the same then a rotation can zero one of the elements in z
+                double dj = secD[K - 1];
+                double zj = secZ[K - 1];
+                double tau = Math.sqrt(zi*zi + zj*zj);
+                double c = zi/tau;
+                double s = zj/tau;
+                if (Math.abs(c*s*(di - dj)) <= tol) {
+                    int colj = secCol[K - 1];
+                    rotateColumns(begin, end, colj, col, c, s);
+                    support[colj] = support[col] = support[colj] | support[col];
+                    defD[numDeflated] = c*c*dj + s*s*di;
+                    defCol[numDeflated++] = colj;
+                    secD[K - 1] = s*s*dj + c*c*di;
+                    secZ[K - 1] = tau;
+                    secCol[K - 1] = col;
+                    continue;
+                }
+            }
+            secD[K] = di;
+            secZ[K] = zi;
+            secCol[K++] = col;
+        }
+
+        //------ Solve the secular equation for the eigenvalues that were not deflated
+        int[] origin = work.origin(K);
+        double[] tau = work.tau(K);
+        work.secular.maxIterations = maxIterations;
+        for (int j = 0; j < K; j++) {
+            work.secular.solve(j, K, secD, secZ, r, origin, tau);
+        }
+
+        //------ Eigenvectors of D + rho*z*z'
+        DMatrixRMaj U = work.U;
+        U.reshape(K, K);
+        if (K > 0)
+            computeVectors(K, secD, secZ, r, origin, tau, U, work);
+
+        // Eigenvectors of the merged matrix are Q*U. Q is block diagonal, so the top and bottom rows are multiplied
+        // separately and columns which are zero in those rows are skipped. This about halves the cost.
+        int half = middle - begin;
+        multiplyRows(begin, 0, half, 1, K, secCol, support, work.WU, work);
+        multiplyRows(begin, half, n, 2, K, secCol, support, work.WU2, work);
+
+        DMatrixRMaj Wd = work.Wd;
+        Wd.reshape(n, numDeflated);
+        for (int i = 0; i < n; i++) {
+            int indexZ = (begin + i)*N + begin;
+            for (int j = 0; j < numDeflated; j++) {
+                Wd.data[i*numDeflated + j] = Z.data[indexZ + defCol[j]];
+            }
+        }
+
+        // Merge the two sorted lists. Eigenvalues which are within rounding error of each other might not be in
+        // order, so an insertion sort is used to fix that. It's only O(n) when the list is almost sorted.
+        double[] outValues = work.outValues(n);
+        int[] outSource = work.outSource(n);
+        int idxS = 0, idxD = 0;
+        for (int t = 0; t < n; t++) {
+            double valueS = idxS < K ? secD[origin[idxS]] + tau[idxS] : Double.MAX_VALUE;
+            boolean useSecular = idxD >= numDeflated || (idxS < K && valueS <= defD[idxD]);
+            int dst = sign > 0 ? t : n - 1 - t;
+            if (useSecular) {
+                outValues[dst] = sign*scale*valueS;
+                outSource[dst] = idxS++;
+            } else {
+                outValues[dst] = sign*scale*defD[idxD];
+                outSource[dst] = -1 - idxD++;
+            }
+        }
+        for (int i = 1; i < n; i++) {
+            double v = outValues[i];
+            int src = outSource[i];
+            int j = i;
+            for (; j > 0 && outValues[j - 1] > v; j--) {
+                outValues[j] = outValues[j - 1];
+                outSource[j] = outSource[j - 1];
+            }
+            outValues[j] = v;
+            outSource[j] = src;
+        }
+
+        for (int t = 0; t < n; t++) {
+            int dst = begin + t;
+            int src = outSource[t];
+            values[dst] = outValues[t];
+            if (src >= 0) {
+                copyColumn(work.WU, src, dst, begin, half);
+                copyColumn(work.WU2, src, dst, begin + half, n - half);
+            } else {
+                copyColumn(Wd, -1 - src, dst, begin, n);
+            }
+        }
+    }
+
+    /**
+     * Computes rows [row0, row1) of Q*U, where Q is the block in Z and only the columns selected by 'secCol'
+     * are used.
+     *
+     * @param bit Which bit in 'support' indicates that a column has non-zero elements in these rows
+     */
+    private void multiplyRows( int begin, int row0, int row1, int bit, int K, int[] secCol, int[] support,
+                               DMatrixRMaj output, Workspace work ) {
+        DMatrixRMaj U = work.U;
+        DMatrixRMaj W = work.W;
+        DMatrixRMaj subU = work.subU;
+
+        int count = 0;
+        for (int j = 0; j < K; j++) {
+            if ((support[secCol[j]] & bit) != 0)
+                count++;
+        }
+
+        int rows = row1 - row0;
+        W.reshape(rows, count);
+        subU.reshape(count, K);
+        for (int j = 0, k = 0; j < K; j++) {
+            if ((support[secCol[j]] & bit) == 0)
+                continue;
+            System.arraycopy(U.data, j*K, subU.data, k*K, K);
+            for (int i = 0; i < rows; i++) {
+                W.data[i*count + k] = Z.data[(begin + row0 + i)*N + begin + secCol[j]];
+            }
+            k++;
+        }
+        output.reshape(rows, K);
+        mult(W, subU, output, work);
+    }
+
+    /**
+     * Computes the eigenvectors of D + r*z*z' using the method of Gu and Eisenstat. z is recomputed from the
+     * eigenvalues so that the vectors are orthogonal even if the eigenvalues are not exact.
+     */
+    private void computeVectors( int K, double[] d, double[] z, double r, int[] origin, double[] tau,
+                                 DMatrixRMaj U, Workspace work ) {
+        // U(i,j) = d[i] - lambda[j]
+        double[] zhat = work.zhat(K);
+        work.secular.computeZHat(K, d, z, r, origin, tau, U, zhat);
+
+        double[] norms = work.z(K);
+        for (int j = 0; j < K; j++) {
+            norms[j] = 0;
+        }
+        for (int i = 0; i < K; i++) {
+            int indexU = i*K;
+            for (int j = 0; j < K; j++) {
+                double v = zhat[i]/U.data[indexU + j];
+                U.data[indexU + j] = v;
+                norms[j] += v*v;
+            }
+        }
+        for (int j = 0; j < K; j++) {
+            norms[j] = 1.0/Math.sqrt(norms[j]);
+        }
+        for (int i = 0; i < K; i++) {
+            int indexU = i*K;
+            for (int j = 0; j < K; j++) {
+                U.data[indexU + j] *= norms[j];
+            }
+        }
+    }
+
+    private void rotateColumns( int begin, int end, int colA, int colB, double c, double s ) {
+        for (int row = begin; row < end; row++) {
+            int index = row*N + begin;
+            double a = Z.data[index + colA];
+            double b = Z.data[index + colB];
+            Z.data[index + colA] = c*a - s*b;
+            Z.data[index + colB] = s*a + c*b;
+        }
+    }
+
+    private void copyColumn( DMatrixRMaj src, int col, int dst, int row0, int rows ) {
+        for (int i = 0; i < rows; i++) {
+            Z.data[(row0 + i)*N + dst] = src.data[i*src.numCols + col];
+        }
+    }
+
+    /**
+     * Matrix multiplication used to update the eigenvectors
+     */
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C, Workspace work ) {
+        CommonOps_DDRM.mult(A, B, C);
+    }
+
+    /**
+     * Converts the eigenvectors of the tridiagonal matrix into the eigenvectors of the original matrix,
+     * V = Q*Z, where A = Q*T*Q<sup>T</sup>.
+     *
+     * @param Q Orthogonal matrix from the tridiagonal decomposition. Not modified.
+     * @param V Storage for the eigenvectors, which are in the columns. Modified.
+     */
+    public void multiplyVectors( DMatrixRMaj Q, DMatrixRMaj V ) {
+        V.reshape(N, N);
+        mult(Q, Z, V, work);
+    }
+
+    /** Eigenvalues in increasing order */
+    public double[] getEigenvalues() {
+        return values;
+    }
+
+    /** Eigenvectors of the tridiagonal matrix are stored in the columns */
+    public DMatrixRMaj getEigenvectors() {
+        return Z;
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    public void setLeafSize( int leafSize ) {
+        this.leafSize = leafSize;
+    }
+
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Storage used when solving a node. One is needed for each thread.
+     */
+    public static class Workspace {
+        final SymmetricQREigenHelper_DDRM helper = new SymmetricQREigenHelper_DDRM();
+        final SymmetricQrAlgorithm_DDRM qr = new SymmetricQrAlgorithm_DDRM(helper);
+        final SecularEquation_DDRM secular = new SecularEquation_DDRM(false);
+        final DMatrixRMaj Q = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj U = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj W = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WU = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WU2 = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj subU = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj Wd = new DMatrixRMaj(1, 1);
+        /** If true the matrix multiplication can use multiple threads */
+        public boolean concurrent;
+
+        double[] d = UtilEjml.ZERO_LENGTH_F64, z = UtilEjml.ZERO_LENGTH_F64, secZ = UtilEjml.ZERO_LENGTH_F64;
+        double[] defD = UtilEjml.ZERO_LENGTH_F64, tau = UtilEjml.ZERO_LENGTH_F64, zhat = UtilEjml.ZERO_LENGTH_F64;
+        double[] outValues = UtilEjml.ZERO_LENGTH_F64;
+        int[] indexes = UtilEjml.ZERO_LENGTH_I32, secCol = UtilEjml.ZERO_LENGTH_I32;
+        int[] defCol = UtilEjml.ZERO_LENGTH_I32, origin = UtilEjml.ZERO_LENGTH_I32, support = UtilEjml.ZERO_LENGTH_I32;
+        int[] outSource = UtilEjml.ZERO_LENGTH_I32;
+
+        // @formatter:off
+        double[] d( int n ) { if (d.length < n) d = new double[n]; return d; }
+        double[] z( int n ) { if (z.length < n) z = new double[n]; return z; }
+        double[] secZ( int n ) { if (secZ.length < n) secZ = new double[n]; return secZ; }
+        double[] defD( int n ) { if (defD.length < n) defD = new double[n]; return defD; }
+        double[] tau( int n ) { if (tau.length < n) tau = new double[n]; return tau; }
+        double[] zhat( int n ) { if (zhat.length < n) zhat = new double[n]; return zhat; }
+        int[] indexes( int n ) { if (indexes.length < n) indexes = new int[n]; return indexes; }
+        int[] secCol( int n ) { if (secCol.length < n) secCol = new int[n]; return secCol; }
+        int[] defCol( int n ) { if (defCol.length < n) defCol = new int[n]; return defCol; }
+        int[] origin( int n ) { if (origin.length < n) origin = new int[n]; return origin; }
+        int[] support( int n ) { if (support.length < n) support = new int[n]; return support; }
+        double[] outValues( int n ) { if (outValues.length < n) outValues = new double[n]; return outValues; }
+        int[] outSource( int n ) { if (outSource.length < n) outSource = new int[n]; return outSource; }
+        // @formatter:on
+    }
+}
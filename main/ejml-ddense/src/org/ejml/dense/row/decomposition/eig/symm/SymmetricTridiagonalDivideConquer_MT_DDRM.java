@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.symm;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * <p>Concurrent implementation of {@link SymmetricTridiagonalDivideConquer_DDRM}. Sub-matrices which have the
+ * same height in the recursion tree are solved and merged in different threads. Near the root there are only a
+ * few large merges, so when there is a single node its matrix multiplication is done with multiple threads
+ * instead.</p>
+ *
+ * @author Peter Abeles
+ */
+public class SymmetricTridiagonalDivideConquer_MT_DDRM extends SymmetricTridiagonalDivideConquer_DDRM {
+    // Workspace for each thread
+    GrowArray<Workspace> workspaces = new GrowArray<>(Workspace::new);
+
+    // true if a thread failed to solve a leaf
+    volatile boolean failed;
+
+    public SymmetricTridiagonalDivideConquer_MT_DDRM() {
+        work.concurrent = true;
+    }
+
+    @Override
+    protected boolean processNodes( int idx0, int idx1 ) {
+        if (idx1 - idx0 <= 1)
+            return super.processNodes(idx0, idx1);
+
+        failed = false;
+        EjmlConcurrency.loopFor(idx0, idx1, 1, workspaces, ( work, i ) -> {
+            if (!failed && !processNode(order.data[i], work))
+                failed = true;
+        });
+        return !failed;
+    }
+
+    @Override
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C, Workspace work ) {
+        if (work.concurrent)
+            CommonOps_MT_DDRM.mult(A, B, C);
+        else
+            CommonOps_DDRM.mult(A, B, C);
+    }
+}
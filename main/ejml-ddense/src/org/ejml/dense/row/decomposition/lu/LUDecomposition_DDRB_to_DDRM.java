@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionRightLooking_DDRB;
+import org.ejml.interfaces.decomposition.LUDecomposition_F64;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Wrapper around a {@link DMatrixRBlock} LU decomposition, e.g. {@link LUDecompositionRightLooking_DDRB},
+ * that allows it to process DMatrixRMaj. The decomposed matrix is converted back into a row-major format
+ * so that it can be used by the same solvers as {@link LUDecompositionAlt_DDRM}.
+ *
+ * @author Peter Abeles
+ */
+public class LUDecomposition_DDRB_to_DDRM extends LUDecompositionBase_DDRM {
+
+    protected LUDecomposition_F64<DMatrixRBlock> alg;
+
+    protected DGrowArray workspace = new DGrowArray();
+    protected DMatrixRBlock Ablock = new DMatrixRBlock();
+    protected int blockLength;
+
+    // workspace for converting the row pivots into row swaps
+    protected IGrowArray gpivot = new IGrowArray();
+    protected IGrowArray gwhere = new IGrowArray();
+
+    public LUDecomposition_DDRB_to_DDRM( LUDecomposition_F64<DMatrixRBlock> alg, int blockLength ) {
+        this.alg = alg;
+        this.blockLength = blockLength;
+    }
+
+    public LUDecomposition_DDRB_to_DDRM() {
+        this(new LUDecompositionRightLooking_DDRB(), EjmlParameters.BLOCK_WIDTH);
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj a ) {
+        decomposeCommonInit(a);
+        dataLU = LU.data;
+
+        Ablock.numRows = m;
+        Ablock.numCols = n;
+        Ablock.blockLength = blockLength;
+        Ablock.data = LU.data;
+
+        // The copy in LU is converted in-place to avoid declaring another matrix
+        MatrixOps_DDRB.convertRowToBlock(m, n, blockLength, LU.data, workspace);
+        boolean ret = alg.decompose(Ablock);
+        MatrixOps_DDRB.convertBlockToRow(m, n, blockLength, LU.data, workspace);
+
+        // Solvers apply the pivots as a sequence of row swaps. Find swaps which will create the same permutation
+        int[] found = alg.getRowPivotV(gpivot);
+        int[] where = adjust(gwhere, m);
+        for (int i = 0; i < m; i++) {
+            where[i] = i;
+        }
+        for (int j = 0; j < m; j++) {
+            int p = where[found[j]];
+            indx[j] = p;
+            if (p != j) {
+                int tmp = pivot[j];
+                pivot[j] = pivot[p];
+                pivot[p] = tmp;
+                where[pivot[j]] = j;
+                where[pivot[p]] = p;
+                pivsign = -pivsign;
+            }
+        }
+
+        return ret;
+    }
+
+    public LUDecomposition_F64<DMatrixRBlock> getBlockAlgorithm() {
+        return alg;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_DDRM;
+import org.ejml.dense.row.decomposition.svd.divideconquer.SvdDivideConquerAlgorithm_DDRM;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition_F64;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Computes the Singular Value Decomposition by first reducing the matrix to bidiagonal form,
+ * A = U<sub>1</sub>*B*V<sub>1</sub><sup>T</sup>, then decomposing B = U<sub>2</sub>*W*V<sub>2</sub><sup>T</sup> using
+ * the divide and conquer algorithm. The singular vectors of B are multiplied against the orthogonal matrices
+ * from the bidiagonal decomposition using matrix multiplication. When U and V are needed this is much
+ * faster than {@link SvdImplicitQrDecompose_DDRM} for large matrices, since the implicit QR algorithm has to
+ * apply each rotation to U and V individually. Singular values are returned in descending order.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see SvdDivideConquerAlgorithm_DDRM
+ */
+@SuppressWarnings("NullAway.Init")
+public class SvdDivideConquerDecompose_DDRM implements SingularValueDecomposition_F64<DMatrixRMaj> {
+
+    protected int numRows;
+    protected int numCols;
+
+    // reduces the matrix to bidiagonal form. Only sees matrices which have at least as many rows as columns
+    protected BidiagonalDecomposition_F64<DMatrixRMaj> bidiag;
+    // computes the SVD of the bidiagonal matrix
+    protected SvdDivideConquerAlgorithm_DDRM solver;
+
+    protected double[] diag = UtilEjml.ZERO_LENGTH_F64;
+    protected double[] off = UtilEjml.ZERO_LENGTH_F64;
+
+    private double[] singularValues = UtilEjml.ZERO_LENGTH_F64;
+    private int numSingular;
+
+    // compute a compact SVD
+    protected boolean compact;
+    // What the user requested to be computed
+    protected boolean prefComputeU;
+    protected boolean prefComputeV;
+
+    // Should it compute the transpose instead
+    protected boolean transposed;
+
+    // Either a copy of the input matrix or a copy of it transposed
+    private final DMatrixRMaj A_mod = new DMatrixRMaj(1, 1);
+
+    // singular vectors of the bidiagonal matrix, in descending order of the singular values
+    private final DMatrixRMaj Ub = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj Vb = new DMatrixRMaj(1, 1);
+    // orthogonal matrix from the bidiagonal decomposition
+    private DMatrixRMaj Q = new DMatrixRMaj(1, 1);
+    // workspace for multiplying the singular vectors
+    private final DMatrixRMaj tmp0 = new DMatrixRMaj(1, 1);
+    private final DMatrixRMaj tmp1 = new DMatrixRMaj(1, 1);
+
+    // Singular vectors of the matrix which was decomposed, stored in the columns
+    private DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    private DMatrixRMaj V = new DMatrixRMaj(1, 1);
+
+    /**
+     * Configures the class
+     *
+     * @param compact Compute a compact SVD
+     * @param computeU If true it will compute the U matrix
+     * @param computeV If true it will compute the V matrix
+     * @param bidiag Bidiagonal decomposition
+     * @param solver Computes the SVD of the bidiagonal matrix
+     */
+    public SvdDivideConquerDecompose_DDRM( boolean compact, boolean computeU, boolean computeV,
+                                           BidiagonalDecomposition_F64<DMatrixRMaj> bidiag,
+                                           SvdDivideConquerAlgorithm_DDRM solver ) {
+        this.compact = compact;
+        this.prefComputeU = computeU;
+        this.prefComputeV = computeV;
+        this.bidiag = bidiag;
+        this.solver = solver;
+    }
+
+    public SvdDivideConquerDecompose_DDRM( boolean compact, boolean computeU, boolean computeV ) {
+        this(compact, computeU, computeV, new BidiagonalDecompositionRow_DDRM(), new SvdDivideConquerAlgorithm_DDRM());
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return compact;
+    }
+
+    @Override
+    public DMatrixRMaj getU( @Nullable DMatrixRMaj U, boolean transpose ) {
+        if (!prefComputeU)
+            throw new IllegalArgumentException("As requested U was not computed.");
+        return copy(transposed ? this.V : this.U, U, transpose);
+    }
+
+    @Override
+    public DMatrixRMaj getV( @Nullable DMatrixRMaj V, boolean transpose ) {
+        if (!prefComputeV)
+            throw new IllegalArgumentException("As requested V was not computed.");
+        return copy(transposed ? this.U : this.V, V, transpose);
+    }
+
+    private DMatrixRMaj copy( DMatrixRMaj src, @Nullable DMatrixRMaj dst, boolean transpose ) {
+        if (transpose) {
+            dst = UtilEjml.reshapeOrDeclare(dst, src.numCols, src.numRows);
+            CommonOps_DDRM.transpose(src, dst);
+        } else {
+            dst = UtilEjml.reshapeOrDeclare(dst, src.numRows, src.numCols);
+            dst.setTo(src);
+        }
+        return dst;
+    }
+
+    @Override
+    public DMatrixRMaj getW( @Nullable DMatrixRMaj W ) {
+        int m = compact ? numSingular : numRows;
+        int n = compact ? numSingular : numCols;
+
+        W = UtilEjml.reshapeOrDeclare(W, m, n);
+        W.zero();
+
+        for (int i = 0; i < numSingular; i++) {
+            W.unsafe_set(i, i, singularValues[i]);
+        }
+
+        return W;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        numRows = orig.numRows;
+        numCols = orig.numCols;
+        transposed = numCols > numRows;
+
+        // What needs to be computed for the matrix which is actually decomposed
+        boolean computeU = transposed ? prefComputeV : prefComputeU;
+        boolean computeV = transposed ? prefComputeU : prefComputeV;
+
+        if (transposed) {
+            A_mod.reshape(numCols, numRows, false);
+            CommonOps_DDRM.transpose(orig, A_mod);
+        } else {
+            A_mod.setTo(orig);
+        }
+        int m = A_mod.numRows;
+        int n = A_mod.numCols;
+        numSingular = n;
+
+        if (!bidiag.decompose(A_mod))
+            return false;
+
+        if (diag.length < n) {
+            diag = new double[n];
+            off = new double[n];
+        }
+        bidiag.getDiagonal(diag, off);
+
+        if (!solver.process(diag, off, n))
+            return false;
+
+        // Sort the singular values in descending order
+        if (singularValues.length < n)
+            singularValues = new double[n];
+        double[] found = solver.getSingularValues();
+        for (int i = 0; i < n; i++) {
+            singularValues[i] = found[n - 1 - i];
+        }
+
+        if (computeU) {
+            reverseColumns(solver.getU(), Ub);
+            if (compact) {
+                Q = bidiag.getU(Q, false, true);
+                U.reshape(m, n);
+                mult(Q, Ub, U);
+            } else {
+                // Only the first 'n' columns are modified by the singular vectors of B
+                U = bidiag.getU(U, false, false);
+                CommonOps_DDRM.extract(U, 0, m, 0, n, tmp0);
+                tmp1.reshape(m, n);
+                mult(tmp0, Ub, tmp1);
+                CommonOps_DDRM.insert(tmp1, U, 0, 0);
+            }
+        }
+
+        if (computeV) {
+            reverseColumns(solver.getV(), Vb);
+            Q = bidiag.getV(Q, false, compact);
+            V.reshape(n, n);
+            mult(Q, Vb, V);
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the matrix while reversing the order of its columns
+     */
+    private static void reverseColumns( DMatrixRMaj src, DMatrixRMaj dst ) {
+        int N = src.numCols;
+        dst.reshape(src.numRows, N);
+        for (int row = 0; row < src.numRows; row++) {
+            int index = row*N;
+            for (int col = 0; col < N; col++) {
+                dst.data[index + col] = src.data[index + N - 1 - col];
+            }
+        }
+    }
+
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C ) {
+        CommonOps_DDRM.mult(A, B, C);
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+
+    public SvdDivideConquerAlgorithm_DDRM getSolver() {
+        return solver;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
+import org.ejml.dense.row.decomposition.bidiagonal.BidiagonalDecompositionRow_MT_DDRM;
+import org.ejml.dense.row.decomposition.svd.divideconquer.SvdDivideConquerAlgorithm_MT_DDRM;
+
+/**
+ * <p>Concurrent version of {@link SvdDivideConquerDecompose_DDRM}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdDivideConquerDecompose_MT_DDRM extends SvdDivideConquerDecompose_DDRM {
+
+    public SvdDivideConquerDecompose_MT_DDRM( boolean compact, boolean computeU, boolean computeV ) {
+        super(compact, computeU, computeV, new BidiagonalDecompositionRow_MT_DDRM(),
+                new SvdDivideConquerAlgorithm_MT_DDRM());
+    }
+
+    @Override
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C ) {
+        CommonOps_MT_DDRM.mult(A, B, C);
+    }
+}
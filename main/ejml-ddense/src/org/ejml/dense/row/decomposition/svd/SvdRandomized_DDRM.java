@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.SingularOps_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.QRDecomposition;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
+
+/**
+ * <p>Computes a truncated SVD with only the largest singular values using a randomized algorithm. A Gaussian
+ * random matrix is multiplied by A to sample its range, a few power iterations are applied to improve accuracy
+ * when the singular values decay slowly, and then the SVD of A projected onto the found subspace is computed.
+ * The cost is O(m*n*(k+p)) instead of O(m*n*min(m,n)) for a full SVD, where k is the requested rank
+ * and p is the amount of oversampling.</p>
+ *
+ * <p>Results are always compact and the singular values are in descending order. U is m by k, W is k by k, and
+ * V is n by k.</p>
+ *
+ * <p>See "Finding Structure with Randomness: Probabilistic Algorithms for Constructing Approximate Matrix
+ * Decompositions" by N. Halko, P. G. Martinsson, and J. A. Tropp, 2011</p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdRandomized_DDRM implements SingularValueDecomposition_F64<DMatrixRMaj> {
+    // Number of singular values requested
+    protected int rank;
+    // Number of additional samples of the range
+    protected int oversample;
+    // Number of power iterations
+    protected int powerIterations;
+
+    protected Random rand = new Random(0xBEEF);
+
+    // Matrix being decomposed
+    protected @Nullable DMatrixRMaj A;
+
+    protected int numRows, numCols;
+    // Number of singular values which were found
+    protected int numSingular;
+
+    // Random samples and the basis of the range of A
+    protected DMatrixRMaj Omega = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj Y = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj Q = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj Z = new DMatrixRMaj(1, 1);
+    // Transpose of A projected onto Q
+    protected DMatrixRMaj Bt = new DMatrixRMaj(1, 1);
+
+    // Found decomposition. U is m by k and Vt is k by n
+    protected DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj Vt = new DMatrixRMaj(1, 1);
+    protected double[] singularValues = new double[0];
+
+    protected QRDecomposition<DMatrixRMaj> qr = DecompositionFactory_DDRM.qr();
+    protected SingularValueDecomposition_F64<DMatrixRMaj> svd = DecompositionFactory_DDRM.svd(true, true, true);
+    protected DMatrixRMaj tmp = new DMatrixRMaj(1, 1);
+
+    /**
+     * @param rank Number of singular values it should compute.
+     * @param oversample Additional samples of the range of A, which improves accuracy. Try 10.
+     * @param powerIterations Number of power iterations. Improves accuracy when singular values decay slowly. Try 2.
+     */
+    public SvdRandomized_DDRM( int rank, int oversample, int powerIterations ) {
+        if (rank <= 0)
+            throw new IllegalArgumentException("rank must be positive");
+        if (oversample < 0 || powerIterations < 0)
+            throw new IllegalArgumentException("oversample and powerIterations can't be negative");
+        this.rank = rank;
+        this.oversample = oversample;
+        this.powerIterations = powerIterations;
+    }
+
+    @Override
+    public boolean decompose( DMatrixRMaj orig ) {
+        this.A = orig;
+        return process(orig.numRows, orig.numCols);
+    }
+
+    /**
+     * Computes the decomposition using {@link #multA} and {@link #multTransA} to access the matrix
+     */
+    protected boolean process( int numRows, int numCols ) {
+        this.numRows = numRows;
+        this.numCols = numCols;
+        int minLength = Math.min(numRows, numCols);
+        int samples = Math.min(rank + oversample, minLength);
+        numSingular = Math.min(rank, samples);
+        if (numSingular == 0) {
+            U.reshape(numRows, 0);
+            Vt.reshape(0, numCols);
+            return true;
+        }
+
+        // Sample the range of A
+        Omega.reshape(numCols, samples);
+        RandomMatrices_DDRM.fillGaussian(Omega, 0, 1, rand);
+        multA(Omega, Y);
+        if (!orthonormalize(Y, Q))
+            return false;
+
+        // Power iterations. Orthonormalize after each multiplication to avoid losing small singular values
+        for (int iter = 0; iter < powerIterations; iter++) {
+            multTransA(Q, Z);
+            if (!orthonormalize(Z, Y))
+                return false;
+            multA(Y, Z);
+            if (!orthonormalize(Z, Q))
+                return false;
+        }
+
+        // B = Q'*A. Its transpose is tall so the SVD is computed for it instead
+        // Bt = Ub*S*Vb' and A ~ Q*B = (Q*Vb)*S*Ub'
+        multTransA(Q, Bt);
+        if (!svd.decompose(Bt))
+            return false;
+
+        DMatrixRMaj UbT = svd.getU(null, true);
+        DMatrixRMaj VbT = svd.getV(null, true);
+        double[] sv = svd.getSingularValues();
+        SingularOps_DDRM.descendingOrder(UbT, true, sv, samples, VbT, true);
+
+        if (singularValues.length < numSingular)
+            singularValues = new double[numSingular];
+        System.arraycopy(sv, 0, singularValues, 0, numSingular);
+
+        CommonOps_DDRM.extract(VbT, 0, numSingular, 0, samples, tmp);
+        CommonOps_DDRM.multTransB(Q, tmp, U);
+        CommonOps_DDRM.extract(UbT, 0, numSingular, 0, numCols, Vt);
+
+        return true;
+    }
+
+    /**
+     * Q = orthonormal basis of the column space of Y
+     */
+    protected boolean orthonormalize( DMatrixRMaj Y, DMatrixRMaj Q ) {
+        if (!qr.decompose(Y))
+            return false;
+        qr.getQ(Q, true);
+        return true;
+    }
+
+    /**
+     * Y = A*X
+     */
+    protected void multA( DMatrixRMaj X, DMatrixRMaj Y ) {
+        CommonOps_MT_DDRM.mult(requireA(), X, Y);
+    }
+
+    /**
+     * Y = A<sup>T</sup>*X
+     */
+    protected void multTransA( DMatrixRMaj X, DMatrixRMaj Y ) {
+        CommonOps_MT_DDRM.multTransA(requireA(), X, Y);
+    }
+
+    private DMatrixRMaj requireA() {
+        DMatrixRMaj A = this.A;
+        if (A == null)
+            throw new IllegalArgumentException("Must call decompose() first");
+        return A;
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public DMatrixRMaj getU( @Nullable DMatrixRMaj U, boolean transposed ) {
+        if (transposed)
+            return CommonOps_DDRM.transpose(this.U, U);
+        if (U == null)
+            return this.U.copy();
+        U.setTo(this.U);
+        return U;
+    }
+
+    @Override
+    public DMatrixRMaj getV( @Nullable DMatrixRMaj V, boolean transposed ) {
+        if (!transposed)
+            return CommonOps_DDRM.transpose(Vt, V);
+        if (V == null)
+            return Vt.copy();
+        V.setTo(Vt);
+        return V;
+    }
+
+    @Override
+    public DMatrixRMaj getW( @Nullable DMatrixRMaj W ) {
+        if (W == null)
+            W = new DMatrixRMaj(numSingular, numSingular);
+        else {
+            W.reshape(numSingular, numSingular);
+            W.zero();
+        }
+        for (int i = 0; i < numSingular; i++) {
+            W.unsafe_set(i, i, singularValues[i]);
+        }
+        return W;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public int getOversample() {
+        return oversample;
+    }
+
+    public int getPowerIterations() {
+        return powerIterations;
+    }
+
+    /** Changes the seed used to create the random samples */
+    public void setSeed( long seed ) {
+        rand = new Random(seed);
+    }
+}
@@ -0,0 +1,698 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd.divideconquer;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.decomposition.SecularEquation_DDRM;
+import org.ejml.dense.row.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm_DDRM;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Computes the singular value decomposition of an upper bidiagonal matrix, B = U*&Sigma;*V<sup>T</sup>, using
+ * a divide and conquer algorithm. The matrix is recursively split at a middle row, k, into two smaller
+ * bidiagonal matrices, B<sub>1</sub> and B<sub>2</sub>, until they are small enough to be solved with the
+ * implicit QR algorithm. B<sub>1</sub> has one more column than it has rows, so that every column is in one
+ * of the sub-matrices. The two solved halves and row k are combined into a matrix which is zero except for
+ * its diagonal and one row, M = D + e<sub>k</sub>z<sup>T</sup>. Singular values of M are the square root of
+ * the roots of the secular equation 1 + sum z<sub>i</sub><sup>2</sup>/(d<sub>i</sub><sup>2</sup>-&sigma;<sup>2</sup>)
+ * and singular vectors are found using the method of Gu and Eisenstat. Most of the work is in a matrix
+ * multiplication at each merge, which makes it much faster than the QR algorithm for large matrices when
+ * singular vectors are required.
+ * </p>
+ *
+ * <p>
+ * Singular values are sorted in increasing order and singular vectors are stored in the columns of
+ * N by N matrices. Subproblems which have the same height in the recursion tree don't depend on each other
+ * and are processed by {@link #processNodes}, which allows them to be processed concurrently.
+ * </p>
+ *
+ * <p>
+ * For more information see:<br>
+ * [1] M. Gu and S. C. Eisenstat, "A Divide-and-Conquer Algorithm for the Bidiagonal SVD"
+ * SIAM J. Matrix Anal. Appl. 1995<br>
+ * [2] LAPACK routines DBDSDC and DLASD1
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdDivideConquerAlgorithm_DDRM {
+    /** Sub-matrices which have this many rows or fewer are solved using the implicit QR algorithm */
+    protected int leafSize = 25;
+    /** Maximum number of iterations when solving for a root of the secular equation */
+    protected int maxIterations = 200;
+
+    // number of rows and columns in the matrix
+    protected int N;
+
+    // diagonal and off diagonal elements in the bidiagonal matrix
+    protected double[] diag = UtilEjml.ZERO_LENGTH_F64;
+    protected double[] off = UtilEjml.ZERO_LENGTH_F64;
+
+    // found singular values in increasing order
+    protected double[] values = UtilEjml.ZERO_LENGTH_F64;
+    // left and right singular vectors are stored in the columns
+    protected DMatrixRMaj U = new DMatrixRMaj(1, 1);
+    protected DMatrixRMaj V = new DMatrixRMaj(1, 1);
+
+    // Nodes in the recursion tree. Index of the first row, split row (-1 for a leaf), end of each node, and
+    // if the node has an extra column
+    protected IGrowArray nodeBegin = new IGrowArray();
+    protected IGrowArray nodeSplit = new IGrowArray();
+    protected IGrowArray nodeEnd = new IGrowArray();
+    protected IGrowArray nodeExtra = new IGrowArray();
+    protected IGrowArray nodeHeight = new IGrowArray();
+    // Nodes ordered by height. Nodes with the same height are independent
+    protected IGrowArray order = new IGrowArray();
+    protected IGrowArray heightBegin = new IGrowArray();
+
+    // workspace used by a single thread
+    protected Workspace work = new Workspace();
+
+    /**
+     * Computes the singular values and vectors of the bidiagonal matrix.
+     *
+     * @param diag Diagonal elements. Not modified.
+     * @param off Elements above the diagonal. Not modified.
+     * @param N Number of rows and columns in the matrix
+     * @return true if successful
+     */
+    public boolean process( double[] diag, double[] off, int N ) {
+        this.N = N;
+        if (this.diag.length < N) {
+            this.diag = new double[N];
+            this.off = new double[N];
+            this.values = new double[N];
+        }
+        System.arraycopy(diag, 0, this.diag, 0, N);
+        if (N > 1)
+            System.arraycopy(off, 0, this.off, 0, N - 1);
+
+        U.reshape(N, N);
+        V.reshape(N, N);
+        U.zero();
+        V.zero();
+        if (N == 0)
+            return true;
+
+        // Create the recursion tree
+        nodeBegin.reshape(0);
+        nodeSplit.reshape(0);
+        nodeEnd.reshape(0);
+        nodeExtra.reshape(0);
+        nodeHeight.reshape(0);
+        int maxHeight = split(0, N, 0);
+
+        // Sort the nodes by height
+        heightBegin.reshape(maxHeight + 2);
+        Arrays.fill(heightBegin.data, 0, maxHeight + 2, 0);
+        for (int i = 0; i < nodeHeight.length; i++) {
+            heightBegin.data[nodeHeight.data[i] + 1]++;
+        }
+        for (int i = 0; i <= maxHeight; i++) {
+            heightBegin.data[i + 1] += heightBegin.data[i];
+        }
+        order.reshape(nodeHeight.length);
+        int[] fill = work.indexes(maxHeight + 1);
+        System.arraycopy(heightBegin.data, 0, fill, 0, maxHeight + 1);
+        for (int i = 0; i < nodeHeight.length; i++) {
+            order.data[fill[nodeHeight.data[i]]++] = i;
+        }
+
+        // Solve from the leaves up to the root
+        for (int height = 0; height <= maxHeight; height++) {
+            if (!processNodes(heightBegin.data[height], heightBegin.data[height + 1]))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Recursively splits the matrix and returns the height of the node. Rows [begin,end) are in the node
+     * and if extra is 1 then it also has column 'end'.
+     */
+    private int split( int begin, int end, int extra ) {
+        int height = 0;
+        int middle = -1;
+        if (end - begin > Math.max(1, leafSize)) {
+            middle = (begin + end)/2;
+            height = 1 + Math.max(split(begin, middle, 1), split(middle + 1, end, extra));
+        }
+        nodeBegin.add(begin);
+        nodeSplit.add(middle);
+        nodeEnd.add(end);
+        nodeExtra.add(extra);
+        nodeHeight.add(height);
+        return height;
+    }
+
+    /**
+     * Processes nodes which have the same height in the tree. These nodes are independent of each other.
+     *
+     * @param idx0 First index in 'order', inclusive
+     * @param idx1 Last index in 'order', exclusive
+     */
+    protected boolean processNodes( int idx0, int idx1 ) {
+        for (int i = idx0; i < idx1; i++) {
+            if (!processNode(order.data[i], work))
+                return false;
+        }
+        return true;
+    }
+
+    protected boolean processNode( int node, Workspace work ) {
+        int begin = nodeBegin.data[node];
+        int end = nodeEnd.data[node];
+        int middle = nodeSplit.data[node];
+        int extra = nodeExtra.data[node];
+        if (middle == -1)
+            return solveLeaf(begin, end, extra, work);
+        merge(begin, middle, end, extra, work);
+        return true;
+    }
+
+    /**
+     * Uses the implicit QR algorithm to solve a small sub-matrix. If there is an extra column then it's
+     * removed first by applying rotations from the right.
+     */
+    private boolean solveLeaf( int begin, int end, int extra, Workspace work ) {
+        int n = end - begin;
+        int m = n + extra;
+        if (n == 0) {
+            if (extra == 1)
+                V.data[begin*N + begin] = 1;
+            return true;
+        }
+
+        double[] d = work.d(n);
+        double[] e = work.z(n);
+        System.arraycopy(diag, begin, d, 0, n);
+        System.arraycopy(off, begin, e, 0, n - 1);
+
+        // B*G = [B' 0] where G is a sequence of rotations
+        DMatrixRMaj G = work.G;
+        if (extra == 1) {
+            G.reshape(m, m);
+            CommonOps_DDRM.setIdentity(G);
+            double f = off[end - 1];
+            for (int i = n - 1; i >= 0; i--) {
+                double r = hypot(d[i], f);
+                double c = 1, s = 0;
+                if (r != 0) {
+                    c = d[i]/r;
+                    s = f/r;
+                }
+                d[i] = r;
+                for (int row = 0; row < m; row++) {
+                    int index = row*m;
+                    double a = G.data[index + i];
+                    double b = G.data[index + n];
+                    G.data[index + i] = c*a + s*b;
+                    G.data[index + n] = c*b - s*a;
+                }
+                if (i > 0) {
+                    f = -s*e[i - 1];
+                    e[i - 1] *= c;
+                }
+            }
+        }
+
+        DMatrixRMaj Ut = work.Ut;
+        DMatrixRMaj Vt = work.Vt;
+        Ut.reshape(n, n);
+        Vt.reshape(n, n);
+        CommonOps_DDRM.setIdentity(Ut);
+        CommonOps_DDRM.setIdentity(Vt);
+        SvdImplicitQrAlgorithm_DDRM qr = work.qr;
+        qr.setMatrix(n, n, d, e);
+        qr.setFastValues(false);
+        qr.setUt(Ut);
+        qr.setVt(Vt);
+        if (!qr.process())
+            return false;
+
+        // Singular values can be negative
+        double[] found = work.secZ(n);
+        for (int i = 0; i < n; i++) {
+            double value = qr.getSingularValue(i);
+            if (value < 0) {
+                value = -value;
+                for (int j = 0; j < n; j++) {
+                    Ut.data[i*n + j] = -Ut.data[i*n + j];
+                }
+            }
+            found[i] = value;
+        }
+
+        // sort the singular values. Rows in Ut and Vt are the singular vectors
+        int[] indexes = work.indexes(n);
+        for (int i = 0; i < n; i++) {
+            int j = i;
+            for (; j > 0 && found[indexes[j - 1]] > found[i]; j--) {
+                indexes[j] = indexes[j - 1];
+            }
+            indexes[j] = i;
+        }
+        for (int j = 0; j < n; j++) {
+            int src = indexes[j];
+            values[begin + j] = found[src];
+            for (int i = 0; i < n; i++) {
+                U.data[(begin + i)*N + begin + j] = Ut.data[src*n + i];
+            }
+            for (int i = 0; i < m; i++) {
+                double sum;
+                if (extra == 1) {
+                    sum = 0;
+                    for (int l = 0; l < n; l++) {
+                        sum += G.data[i*m + l]*Vt.data[src*n + l];
+                    }
+                } else {
+                    sum = Vt.data[src*n + i];
+                }
+                V.data[(begin + i)*N + begin + j] = sum;
+            }
+        }
+        // the extra column is in the null space
+        if (extra == 1) {
+            for (int i = 0; i < m; i++) {
+                V.data[(begin + i)*N + begin + n] = G.data[i*m + n];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges two solved halves with row 'middle'. Finds the SVD of M = D + e*z', where D contains the singular
+     * values of both halves and z is the middle row in the basis of the right singular vectors.
+     */
+    private void merge( int begin, int middle, int end, int extra, Workspace work ) {
+        final int n = end - begin;
+        final int numLeft = middle - begin;
+        final int rowsV = n + extra;
+        // scale the problem to avoid overflow and underflow
+        double maxD = Math.max(Math.abs(diag[middle]), middle + 1 < end + extra ? Math.abs(off[middle]) : 0.0);
+        for (int j = 0; j < n; j++) {
+            if (j != numLeft)
+                maxD = Math.max(maxD, values[begin + j]);
+        }
+        if (maxD == 0.0) {
+            // all the singular values are zero and the vectors don't need to be changed
+            U.data[middle*N + middle] = 1;
+            values[middle] = 0;
+            return;
+        }
+        final double scale = maxD;
+        final double alpha = diag[middle]/scale;
+        final double beta = middle + 1 < end + extra ? off[middle]/scale : 0.0;
+
+        // which rows each column has non-zero elements in. In U bit 1 = [begin,middle) and 2 = [middle+1,end).
+        // In V bit 1 = [begin,middle] and 2 = [middle+1,end+extra). U's column 'middle' is only non-zero in
+        // row 'middle'
+        int[] supportU = work.support(n);
+        int[] supportV = work.supportV(n);
+        for (int j = 0; j < n; j++) {
+            supportU[j] = supportV[j] = j < numLeft ? 1 : 2;
+        }
+        supportU[numLeft] = 0;
+        supportV[numLeft] = 1;
+
+        // z is the middle row multiplied by V
+        double[] z = work.z(n);
+        for (int j = 0; j < n; j++) {
+            if (j < numLeft)
+                z[j] = alpha*V.data[middle*N + begin + j];
+            else if (j > numLeft)
+                z[j] = beta*V.data[(middle + 1)*N + begin + j];
+        }
+        double zNull = alpha*V.data[middle*N + middle];
+        if (extra == 1) {
+            // Rotate the null vectors of the two halves so that only one has a non-zero element in z.
+            // The other is the null vector of the merged matrix
+            double zRight = beta*V.data[(middle + 1)*N + end];
+            double r = Math.sqrt(zNull*zNull + zRight*zRight);
+            double c = 1, s = 0;
+            if (r != 0) {
+                c = zNull/r;
+                s = zRight/r;
+            }
+            rotateColumns(V, begin, end + 1, middle, end, c, -s);
+            if (s != 0)
+                supportV[numLeft] = 3;
+            zNull = r;
+        }
+        z[numLeft] = zNull;
+        final double tol = 8.0*UtilEjml.EPS;
+
+        // Merge the two sorted lists of singular values. The middle column is always first since it's zero
+        int[] sorted = work.indexes(n);
+        sorted[0] = numLeft;
+        int left = 0, right = numLeft + 1;
+        for (int i = 1; i < n; i++) {
+            int p;
+            if (right >= n || (left < numLeft && values[begin + left] <= values[begin + right]))
+                p = left++;
+            else
+                p = right++;
+            sorted[i] = p;
+        }
+
+        //------ Deflation
+        double[] secD = work.d(n);
+        double[] secZ = work.secZ(n);
+        int[] secCol = work.secCol(n);
+        double[] defD = work.defD(n);
+        int[] defCol = work.defCol(n);
+        int numDeflated = 0;
+        // the middle column is never deflated
+        secD[0] = 0;
+        secZ[0] = Math.abs(z[numLeft]) <= tol ? tol : z[numLeft];
+        secCol[0] = numLeft;
+        int K = 1;
+        for (int t = 1; t < n; t++) {
+            int col = sorted[t];
+            double di = values[begin + col]/scale;
+            double zi = z[col];
+
+            if (Math.abs(zi) <= tol) {
+                defD[numDeflated] = di;
+                defCol[numDeflated++] = col;
+                continue;
+            }
+
+            if (K > 1 && Math.abs(di - secD[K - 1]) <= tol) {
+                // If two singular values are almost the same then a rotation can zero one of the elements in z
+                double dj = secD[K - 1];
+                double zj = secZ[K - 1];
+                double tau = Math.sqrt(zi*zi + zj*zj);
+                double c = zi/tau;
+                double s = zj/tau;
+                int colj = secCol[K - 1];
+                rotateColumns(U, begin, end, begin + colj, begin + col, c, s);
+                rotateColumns(V, begin, end + extra, begin + colj, begin + col, c, s);
+                supportU[colj] = supportU[col] = supportU[colj] | supportU[col];
+                supportV[colj] = supportV[col] = supportV[colj] | supportV[col];
+                defD[numDeflated] = c*c*dj + s*s*di;
+                defCol[numDeflated++] = colj;
+                secD[K - 1] = s*s*dj + c*c*di;
+                secZ[K - 1] = tau;
+                secCol[K - 1] = col;
+                continue;
+            }
+
+            // keep the poles apart so that there's a root between them
+            secD[K] = K == 1 ? Math.max(di, tol) : di;
+            secZ[K] = zi;
+            secCol[K++] = col;
+        }
+
+        //------ Solve the secular equation for the singular values that were not deflated
+        SecularEquation_DDRM secular = work.secular;
+        secular.maxIterations = maxIterations;
+        int[] origin = work.origin(K);
+        double[] tau = work.tau(K);
+        for (int j = 0; j < K; j++) {
+            secular.solve(j, K, secD, secZ, 1.0, origin, tau);
+        }
+
+        //------ Singular vectors of M
+        computeVectors(K, secD, secZ, origin, tau, work);
+
+        // Singular vectors of the merged matrix are U*Um and V*Vm. U and V are block diagonal so the top and
+        // bottom rows are multiplied separately and columns which are zero in those rows are skipped
+        multiplyRows(U, begin, begin, middle, 1, K, secCol, supportU, work.Um, work.WU, work);
+        multiplyRows(U, begin, middle + 1, end, 2, K, secCol, supportU, work.Um, work.WU2, work);
+        multiplyRows(V, begin, begin, middle + 1, 1, K, secCol, supportV, work.Vm, work.WV, work);
+        multiplyRows(V, begin, middle + 1, end + extra, 2, K, secCol, supportV, work.Vm, work.WV2, work);
+
+        DMatrixRMaj WdU = work.WdU;
+        DMatrixRMaj WdV = work.WdV;
+        WdU.reshape(n, numDeflated);
+        WdV.reshape(rowsV, numDeflated);
+        for (int j = 0; j < numDeflated; j++) {
+            int col = begin + defCol[j];
+            for (int i = 0; i < n; i++) {
+                WdU.data[i*numDeflated + j] = U.data[(begin + i)*N + col];
+            }
+            for (int i = 0; i < rowsV; i++) {
+                WdV.data[i*numDeflated + j] = V.data[(begin + i)*N + col];
+            }
+        }
+
+        // Merge the two sorted lists. Values which are within rounding error of each other might not be in
+        // order, so an insertion sort is used to fix that. It's only O(n) when the list is almost sorted.
+        double[] outValues = work.outValues(n);
+        int[] outSource = work.outSource(n);
+        int idxS = 0, idxD = 0;
+        for (int t = 0; t < n; t++) {
+            double valueS = idxS < K ? secular.value(secD, origin[idxS], tau[idxS]) : Double.MAX_VALUE;
+            if (idxD >= numDeflated || (idxS < K && valueS <= defD[idxD])) {
+                outValues[t] = scale*valueS;
+                outSource[t] = idxS++;
+            } else {
+                outValues[t] = scale*defD[idxD];
+                outSource[t] = -1 - idxD++;
+            }
+        }
+        for (int i = 1; i < n; i++) {
+            double v = outValues[i];
+            int src = outSource[i];
+            int j = i;
+            for (; j > 0 && outValues[j - 1] > v; j--) {
+                outValues[j] = outValues[j - 1];
+                outSource[j] = outSource[j - 1];
+            }
+            outValues[j] = v;
+            outSource[j] = src;
+        }
+
+        DMatrixRMaj Um = work.Um;
+        for (int t = 0; t < n; t++) {
+            int dst = begin + t;
+            int src = outSource[t];
+            values[dst] = outValues[t];
+            if (src >= 0) {
+                copyColumn(work.WU, src, U, dst, begin);
+                U.data[middle*N + dst] = Um.data[src];
+                copyColumn(work.WU2, src, U, dst, middle + 1);
+                copyColumn(work.WV, src, V, dst, begin);
+                copyColumn(work.WV2, src, V, dst, middle + 1);
+            } else {
+                copyColumn(WdU, -1 - src, U, dst, begin);
+                copyColumn(WdV, -1 - src, V, dst, begin);
+            }
+        }
+    }
+
+    /**
+     * Computes the singular vectors of M = D + e*z' using the method of Gu and Eisenstat. The first pole is
+     * zero and corresponds to the row with z in it.
+     */
+    private void computeVectors( int K, double[] d, double[] z, int[] origin, double[] tau, Workspace work ) {
+        DMatrixRMaj Um = work.Um;
+        DMatrixRMaj Vm = work.Vm;
+        double[] zhat = work.zhat(K);
+
+        // Vm(i,j) = d[i]^2 - sigma[j]^2
+        work.secular.computeZHat(K, d, z, 1.0, origin, tau, Vm, zhat);
+        Um.reshape(K, K);
+
+        for (int i = 0; i < K; i++) {
+            int index = i*K;
+            for (int j = 0; j < K; j++) {
+                double v = zhat[i]/Vm.data[index + j];
+                Vm.data[index + j] = v;
+                Um.data[index + j] = i == 0 ? -1.0 : d[i]*v;
+            }
+        }
+        normalizeColumns(Um, work);
+        normalizeColumns(Vm, work);
+    }
+
+    private void normalizeColumns( DMatrixRMaj A, Workspace work ) {
+        int K = A.numCols;
+        double[] norms = work.norms(K);
+        Arrays.fill(norms, 0, K, 0.0);
+        for (int i = 0; i < K; i++) {
+            int index = i*K;
+            for (int j = 0; j < K; j++) {
+                double v = A.data[index + j];
+                norms[j] += v*v;
+            }
+        }
+        for (int j = 0; j < K; j++) {
+            norms[j] = 1.0/Math.sqrt(norms[j]);
+        }
+        for (int i = 0; i < K; i++) {
+            int index = i*K;
+            for (int j = 0; j < K; j++) {
+                A.data[index + j] *= norms[j];
+            }
+        }
+    }
+
+    /**
+     * Computes rows [row0, row1) of Q*M, where Q is the block in U or V and only the columns selected by
+     * 'secCol' are used.
+     *
+     * @param bit Which bit in 'support' indicates that a column has non-zero elements in these rows
+     */
+    private void multiplyRows( DMatrixRMaj Q, int begin, int row0, int row1, int bit, int K, int[] secCol,
+                               int[] support, DMatrixRMaj M, DMatrixRMaj output, Workspace work ) {
+        DMatrixRMaj W = work.W;
+        DMatrixRMaj subM = work.subM;
+
+        int count = 0;
+        for (int j = 0; j < K; j++) {
+            if ((support[secCol[j]] & bit) != 0)
+                count++;
+        }
+
+        int rows = row1 - row0;
+        W.reshape(rows, count);
+        subM.reshape(count, K);
+        for (int j = 0, k = 0; j < K; j++) {
+            if ((support[secCol[j]] & bit) == 0)
+                continue;
+            System.arraycopy(M.data, j*K, subM.data, k*K, K);
+            for (int i = 0; i < rows; i++) {
+                W.data[i*count + k] = Q.data[(row0 + i)*N + begin + secCol[j]];
+            }
+            k++;
+        }
+        output.reshape(rows, K);
+        mult(W, subM, output, work);
+    }
+
+    /**
+     * Applies a rotation to two columns in rows [row0, row1). a' = c*a - s*b and b' = s*a + c*b
+     */
+    private void rotateColumns( DMatrixRMaj Q, int row0, int row1, int colA, int colB, double c, double s ) {
+        for (int row = row0; row < row1; row++) {
+            int index = row*N;
+            double a = Q.data[index + colA];
+            double b = Q.data[index + colB];
+            Q.data[index + colA] = c*a - s*b;
+            Q.data[index + colB] = s*a + c*b;
+        }
+    }
+
+    /**
+     * sqrt(a*a + b*b) without overflow or underflow
+     */
+    private static double hypot( double a, double b ) {
+        double max = Math.max(Math.abs(a), Math.abs(b));
+        if (max == 0.0)
+            return 0.0;
+        a /= max;
+        b /= max;
+        return max*Math.sqrt(a*a + b*b);
+    }
+
+    private void copyColumn( DMatrixRMaj src, int col, DMatrixRMaj dst, int dstCol, int row0 ) {
+        for (int i = 0; i < src.numRows; i++) {
+            dst.data[(row0 + i)*N + dstCol] = src.data[i*src.numCols + col];
+        }
+    }
+
+    /**
+     * Matrix multiplication used to update the singular vectors
+     */
+    protected void mult( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C, Workspace work ) {
+        CommonOps_DDRM.mult(A, B, C);
+    }
+
+    /** Singular values in increasing order */
+    public double[] getSingularValues() {
+        return values;
+    }
+
+    /** Left singular vectors are stored in the columns */
+    public DMatrixRMaj getU() {
+        return U;
+    }
+
+    /** Right singular vectors are stored in the columns */
+    public DMatrixRMaj getV() {
+        return V;
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    public void setLeafSize( int leafSize ) {
+        this.leafSize = leafSize;
+    }
+
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Storage used when solving a node. One is needed for each thread.
+     */
+    public static class Workspace {
+        final SvdImplicitQrAlgorithm_DDRM qr = new SvdImplicitQrAlgorithm_DDRM();
+        final SecularEquation_DDRM secular = new SecularEquation_DDRM(true);
+        final DMatrixRMaj G = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj Ut = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj Vt = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj Um = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj Vm = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj W = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj subM = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WU = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WU2 = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WV = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WV2 = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WdU = new DMatrixRMaj(1, 1);
+        final DMatrixRMaj WdV = new DMatrixRMaj(1, 1);
+        /** If true the matrix multiplication can use multiple threads */
+        public boolean concurrent;
+
+        double[] d = UtilEjml.ZERO_LENGTH_F64, z = UtilEjml.ZERO_LENGTH_F64, secZ = UtilEjml.ZERO_LENGTH_F64;
+        double[] defD = UtilEjml.ZERO_LENGTH_F64, tau = UtilEjml.ZERO_LENGTH_F64, zhat = UtilEjml.ZERO_LENGTH_F64;
+        double[] outValues = UtilEjml.ZERO_LENGTH_F64, norms = UtilEjml.ZERO_LENGTH_F64;
+        int[] indexes = UtilEjml.ZERO_LENGTH_I32, secCol = UtilEjml.ZERO_LENGTH_I32;
+        int[] defCol = UtilEjml.ZERO_LENGTH_I32, origin = UtilEjml.ZERO_LENGTH_I32, support = UtilEjml.ZERO_LENGTH_I32;
+        int[] supportV = UtilEjml.ZERO_LENGTH_I32, outSource = UtilEjml.ZERO_LENGTH_I32;
+
+        // @formatter:off
+        double[] d( int n ) { if (d.length < n) d = new double[n]; return d; }
+        double[] z( int n ) { if (z.length < n) z = new double[n]; return z; }
+        double[] secZ( int n ) { if (secZ.length < n) secZ = new double[n]; return secZ; }
+        double[] defD( int n ) { if (defD.length < n) defD = new double[n]; return defD; }
+        double[] tau( int n ) { if (tau.length < n) tau = new double[n]; return tau; }
+        double[] zhat( int n ) { if (zhat.length < n) zhat = new double[n]; return zhat; }
+        double[] norms( int n ) { if (norms.length < n) norms = new double[n]; return norms; }
+        int[] indexes( int n ) { if (indexes.length < n) indexes = new int[n]; return indexes; }
+        int[] secCol( int n ) { if (secCol.length < n) secCol = new int[n]; return secCol; }
+        int[] defCol( int n ) { if (defCol.length < n) defCol = new int[n]; return defCol; }
+        int[] origin( int n ) { if (origin.length < n) origin = new int[n]; return origin; }
+        int[] support( int n ) { if (support.length < n) support = new int[n]; return support; }
+        int[] supportV( int n ) { if (supportV.length < n) supportV = new int[n]; return supportV; }
+        double[] outValues( int n ) { if (outValues.length < n) outValues = new double[n]; return outValues; }
+        int[] outSource( int n ) { if (outSource.length < n) outSource = new int[n]; return outSource; }
+        // @formatter:on
+    }
+}
@@ -29,15 +29,21 @@ import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionBlock_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionInner_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionLDL_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecomposition_DDRB_to_DDRM;
+import org.ejml.dense.row.decomposition.eig.MultishiftQrDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.SwitchingEigenDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.SymmetricDivideConquerDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.SymmetricQRAlgorithmDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.WatchedDoubleStepQRDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricTridiagonalDivideConquer_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRColPivDecompositionHouseholderColumn_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRDecompositionHouseholderColumn_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdDivideConquerDecompose_DDRM;
 import org.ejml.dense.row.decomposition.svd.SvdImplicitQrDecompose_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_DDRM;
 import org.ejml.interfaces.decomposition.*;
 
 /**
@@ -114,7 +120,11 @@ public class DecompositionFactory_DDRM {
      * @return LUDecomposition
      */
     public static LUDecomposition_F64<DMatrixRMaj> lu( int numRows, int numCol ) {
-        return new LUDecompositionAlt_DDRM();
+        if (Math.min(numRows, numCol) < EjmlParameters.SWITCH_BLOCK64_LU) {
+            return new LUDecompositionAlt_DDRM();
+        } else {
+            return new LUDecomposition_DDRB_to_DDRM();
+        }
     }
 
     public static LUDecomposition_F64<DMatrixRMaj> lu() {
@@ -125,6 +135,8 @@ public class DecompositionFactory_DDRM {
      * <p>
      * Returns a {@link SingularValueDecomposition} that has been optimized for the specified matrix size.
      * For improved performance only the portion of the decomposition that the user requests will be computed.
+     * Large matrices where U or V is needed use the divide and conquer algorithm,
+     * see {@link EjmlParameters#SWITCH_SVD_DIVIDE_CONQUER}.
      * </p>
      *
      * @param numRows Number of rows the returned decomposition is optimized for.
@@ -136,6 +148,8 @@ public class DecompositionFactory_DDRM {
      */
     public static SingularValueDecomposition_F64<DMatrixRMaj> svd( int numRows, int numCols,
                                                                    boolean needU, boolean needV, boolean compact ) {
+        if ((needU || needV) && Math.min(numRows, numCols) >= EjmlParameters.SWITCH_SVD_DIVIDE_CONQUER)
+            return new SvdDivideConquerDecompose_DDRM(compact, needU, needV);
         // Don't allow the tall decomposition by default since it *might* be less stable
         return new SvdImplicitQrDecompose_DDRM(compact, needU, needV, false);
     }
@@ -152,6 +166,30 @@ public class DecompositionFactory_DDRM {
         return svd(100, 100, needU, needV, compact);
     }
 
+    /**
+     * Returns a truncated SVD which uses a randomized algorithm to compute only the largest singular values.
+     * Much faster than a full SVD when the rank is small compared to the size of the matrix. Results are
+     * compact and sorted in descending order.
+     *
+     * @param rank Number of singular values it will compute.
+     * @param oversample Additional samples of the range of A, which improves accuracy. Try 10.
+     * @param powerIterations Number of power iterations. Improves accuracy when singular values decay slowly. Try 2.
+     * @return SVD
+     */
+    public static SingularValueDecomposition_F64<DMatrixRMaj> svdRandomized( int rank, int oversample,
+                                                                             int powerIterations ) {
+        return new SvdRandomized_DDRM(rank, oversample, powerIterations);
+    }
+
+    /**
+     * Randomized truncated SVD with 10 samples of oversampling and 2 power iterations.
+     *
+     * @see #svdRandomized(int, int, int)
+     */
+    public static SingularValueDecomposition_F64<DMatrixRMaj> svdRandomized( int rank ) {
+        return svdRandomized(rank, 10, 2);
+    }
+
     /**
      * <p>
      * Returns a {@link org.ejml.interfaces.decomposition.QRDecomposition} that has been optimized for the specified matrix size.
@@ -208,6 +246,9 @@ public class DecompositionFactory_DDRM {
     /**
      * <p>
      * Returns an {@link EigenDecomposition} which is specialized for symmetric matrices or the general problem.
+     * For large symmetric matrices where eigenvectors are needed the divide and conquer algorithm is used,
+     * see {@link EjmlParameters#SWITCH_EIG_DIVIDE_CONQUER}. Large general matrices are processed with the
+     * multishift QR algorithm, see {@link EjmlParameters#SWITCH_EIG_MULTISHIFT}.
      * </p>
      *
      * @param matrixSize Number of rows and columns that the returned decomposition is optimized for.
@@ -220,7 +261,11 @@ public class DecompositionFactory_DDRM {
                                                            boolean isSymmetric ) {
         if (isSymmetric) {
             TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp = DecompositionFactory_DDRM.tridiagonal(matrixSize);
+            if (computeVectors && matrixSize >= EjmlParameters.SWITCH_EIG_DIVIDE_CONQUER)
+                return new SymmetricDivideConquerDecomposition_DDRM(decomp, new SymmetricTridiagonalDivideConquer_DDRM());
             return new SymmetricQRAlgorithmDecomposition_DDRM(decomp, computeVectors);
+        } else if (matrixSize >= EjmlParameters.SWITCH_EIG_MULTISHIFT) {
+            return new MultishiftQrDecomposition_DDRM(computeVectors);
         } else
             return new WatchedDoubleStepQRDecomposition_DDRM(computeVectors);
     }
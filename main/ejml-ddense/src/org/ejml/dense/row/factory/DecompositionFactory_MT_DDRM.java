@@ -21,16 +21,24 @@ import org.ejml.EjmlParameters;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrix;
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionRightLooking_MT_DDRB;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionBlock_MT_DDRM;
+import org.ejml.dense.row.decomposition.eig.MultishiftQrDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.SwitchingEigenDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.SymmetricDivideConquerDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.SymmetricQRAlgorithmDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.eig.WatchedDoubleStepQRDecomposition_DDRM;
+import org.ejml.dense.row.decomposition.eig.multishift.MultishiftQrSchur_MT_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricTridiagonalDivideConquer_MT_DDRM;
 import org.ejml.dense.row.decomposition.eig.watched.WatchedDoubleStepQREigen_DDRM;
 import org.ejml.dense.row.decomposition.eig.watched.WatchedDoubleStepQREigen_MT_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_MT_DDRM;
 import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_MT_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRDecompositionHouseholderColumn_MT_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdDivideConquerDecompose_MT_DDRM;
 import org.ejml.dense.row.decomposition.svd.SvdImplicitQrDecompose_MT_DDRM;
 import org.ejml.interfaces.decomposition.*;
 
@@ -70,10 +78,33 @@ public class DecompositionFactory_MT_DDRM {
         return chol(100, lower);
     }
 
+    /**
+     * <p>
+     * Returns a {@link LUDecomposition} that has been optimized for the specified matrix size.
+     * </p>
+     *
+     * @param numRows Shape of the matrix that the code should be targeted towards. Does not need to be exact.
+     * @param numCol Shape of the matrix that the code should be targeted towards. Does not need to be exact.
+     * @return LUDecomposition
+     */
+    public static LUDecomposition_F64<DMatrixRMaj> lu( int numRows, int numCol ) {
+        if (Math.min(numRows, numCol) < EjmlParameters.SWITCH_BLOCK64_LU) {
+            return new LUDecompositionAlt_DDRM();
+        } else {
+            return new LUDecomposition_DDRB_to_DDRM(new LUDecompositionRightLooking_MT_DDRB(), EjmlParameters.BLOCK_WIDTH);
+        }
+    }
+
+    public static LUDecomposition_F64<DMatrixRMaj> lu() {
+        return lu(100, 100);
+    }
+
     /**
      * <p>
      * Returns a {@link SingularValueDecomposition} that has been optimized for the specified matrix size.
      * For improved performance only the portion of the decomposition that the user requests will be computed.
+     * Large matrices where U or V is needed use the divide and conquer algorithm,
+     * see {@link EjmlParameters#SWITCH_SVD_DIVIDE_CONQUER}.
      * </p>
      *
      * @param numRows Number of rows the returned decomposition is optimized for.
@@ -85,6 +116,8 @@ public class DecompositionFactory_MT_DDRM {
      */
     public static SingularValueDecomposition_F64<DMatrixRMaj> svd( int numRows, int numCols,
                                                                    boolean needU, boolean needV, boolean compact ) {
+        if ((needU || needV) && Math.min(numRows, numCols) >= EjmlParameters.SWITCH_SVD_DIVIDE_CONQUER)
+            return new SvdDivideConquerDecompose_MT_DDRM(compact, needU, needV);
         // Don't allow the tall decomposition by default since it *might* be less stable
         return new SvdImplicitQrDecompose_MT_DDRM(compact, needU, needV, false);
     }
@@ -155,7 +188,12 @@ public class DecompositionFactory_MT_DDRM {
                                                            boolean isSymmetric ) {
         if (isSymmetric) {
             TridiagonalSimilarDecomposition_F64<DMatrixRMaj> decomp = DecompositionFactory_MT_DDRM.tridiagonal(matrixSize);
+            if (computeVectors && matrixSize >= EjmlParameters.SWITCH_EIG_DIVIDE_CONQUER)
+                return new SymmetricDivideConquerDecomposition_DDRM(decomp, new SymmetricTridiagonalDivideConquer_MT_DDRM());
             return new SymmetricQRAlgorithmDecomposition_DDRM(decomp, computeVectors);
+        } else if (matrixSize >= EjmlParameters.SWITCH_EIG_MULTISHIFT) {
+            return new MultishiftQrDecomposition_DDRM(new HessenbergSimilarDecomposition_MT_DDRM(),
+                    new MultishiftQrSchur_MT_DDRM(), computeVectors);
         } else {
             HessenbergSimilarDecomposition_DDRM hessenberg = new HessenbergSimilarDecomposition_MT_DDRM();
             WatchedDoubleStepQREigen_DDRM eigenQR = new WatchedDoubleStepQREigen_MT_DDRM();
@@ -23,6 +23,7 @@ import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionCommon_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionInner_DDRM;
 import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecomposition_DDRB_to_DDRM;
 import org.ejml.dense.row.decomposition.qr.QRColPivDecompositionHouseholderColumn_DDRM;
 import org.ejml.dense.row.linsol.AdjustableLinearSolver_DDRM;
 import org.ejml.dense.row.linsol.chol.LinearSolverChol_DDRB;
@@ -86,7 +87,11 @@ public class LinearSolverFactory_DDRM {
      * @return A new linear solver.
      */
     public static LinearSolverDense<DMatrixRMaj> linear( int matrixSize ) {
-        return new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+        if (matrixSize < EjmlParameters.SWITCH_BLOCK64_LU) {
+            return new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+        } else {
+            return new LinearSolverLu_DDRM(new LUDecomposition_DDRB_to_DDRM());
+        }
     }
 
     /**
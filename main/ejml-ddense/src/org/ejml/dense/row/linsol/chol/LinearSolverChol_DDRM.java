@@ -23,10 +23,17 @@ import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.SpecializedOps_DDRM;
 import org.ejml.dense.row.decomposition.TriangularSolver_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionCommon_DDRM;
+import org.ejml.dense.row.decomposition.chol.CholeskyUpdate_DDRM;
 import org.ejml.dense.row.linsol.LinearSolverAbstract_DDRM;
 import org.ejml.interfaces.decomposition.CholeskyDecomposition_F64;
 
 /**
+ * <p>
+ * Solves a linear system using the Cholesky decomposition. After {@link #setA} has been called the factor
+ * can be kept live by calling {@link #update} and {@link #downdate}, which modify it so that it's the
+ * decomposition of A &plusmn; V<sup>T</sup>V in O(n<sup>2</sup>) per row of V. See {@link CholeskyUpdate_DDRM}.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings("NullAway.Init")
@@ -36,6 +43,9 @@ public class LinearSolverChol_DDRM extends LinearSolverAbstract_DDRM {
     double[] vv;
     double[] t;
 
+    // used to add and remove rows from the decomposed matrix
+    CholeskyUpdate_DDRM updater = new CholeskyUpdate_DDRM();
+
     public LinearSolverChol_DDRM( CholeskyDecompositionCommon_DDRM decomposer ) {
         this.decomposer = decomposer;
     }
@@ -56,6 +66,32 @@ public class LinearSolverChol_DDRM extends LinearSolverAbstract_DDRM {
         }
     }
 
+    /**
+     * Modifies the decomposition so that it's for A + V<sup>T</sup>V, e.g. the rows in V have been
+     * added to the Jacobian J where A = J<sup>T</sup>J.
+     *
+     * @param V Matrix with n columns. Each row is a vector that is added. Not modified.
+     */
+    public void update( DMatrixRMaj V ) {
+        if (A == null)
+            throw new RuntimeException("Must call setA() first");
+        updater.update(decomposer, V);
+    }
+
+    /**
+     * Modifies the decomposition so that it's for A - V<sup>T</sup>V, e.g. the rows in V have been
+     * removed from the Jacobian J where A = J<sup>T</sup>J.
+     *
+     * @param V Matrix with n columns. Each row is a vector that is removed. Not modified.
+     * @return true if the result is positive definite. If false then the decomposition should be recomputed
+     * with {@link #setA}.
+     */
+    public boolean downdate( DMatrixRMaj V ) {
+        if (A == null)
+            throw new RuntimeException("Must call setA() first");
+        return updater.downdate(decomposer, V);
+    }
+
     @Override
     public /**/double quality() {
         return SpecializedOps_DDRM.qualityTriangular(decomposer.getT());
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.mult;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrix1Row;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+//CONCURRENT_INLINE import org.ejml.concurrency.EjmlConcurrency;
+
+/**
+ * <p>
+ * Matrix multiplication for large {@link DMatrix1Row} which packs blocks of the input matrices into contiguous
+ * arrays before multiplying them. This is the approach used by GotoBLAS and BLIS. A block of A that fits inside
+ * the L2 cache and a block of B that fits inside the L3 cache are copied into a layout which the inner kernel
+ * reads sequentially. The inner kernel computes a {@link #MR} by {@link #NR} block of C which is stored in
+ * local variables until the entire inner product has been computed. Transposed inputs are handled while
+ * packing, so all variants run the same inner kernel.
+ * </p>
+ *
+ * <p>
+ * The packing has a significant overhead, so this is only faster for larger matrices. Workspace can be provided
+ * so that the packing buffers are reused. If null then new buffers are declared, which is insignificant compared
+ * to the cost of multiplying matrices large enough to use this class. A workspace can't be shared by calls which
+ * run at the same time.
+ * </p>
+ *
+ * <p>
+ * "Anatomy of High-Performance Matrix Multiplication" by Kazushige Goto and Robert A. van de Geijn, ACM
+ * Transactions on Mathematical Software, 2008
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixMatrixMultPacked_DDRM {
+    /** Number of rows in C computed by the inner kernel */
+    public static final int MR = 4;
+    /** Number of columns in C computed by the inner kernel */
+    public static final int NR = 4;
+
+    /** Number of rows in a packed block of A. Should be a multiple of {@link #MR} */
+    public static int BLOCK_M = 64;
+    /** Length of the inner product in a packed block of A and B */
+    public static int BLOCK_K = 256;
+    /** Number of columns in a packed block of B. Should be a multiple of {@link #NR} */
+    public static int BLOCK_N = 2048;
+
+    /**
+     * @see CommonOps_DDRM#mult(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void mult( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                             @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, false, B, false, C, false, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multTransA(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multTransA( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                   @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, true, B, false, C, false, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multTransB(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multTransB( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                   @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, false, B, true, C, false, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multTransAB(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multTransAB( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                    @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, true, B, true, C, false, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multAdd(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multAdd( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, false, B, false, C, true, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multAddTransA(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multAddTransA( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                      @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, true, B, false, C, true, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multAddTransB(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multAddTransB( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                      @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, false, B, true, C, true, workspace);
+    }
+
+    /**
+     * @see CommonOps_DDRM#multAddTransAB(double, DMatrix1Row, DMatrix1Row, DMatrix1Row)
+     */
+    public static void multAddTransAB( double alpha, DMatrix1Row A, DMatrix1Row B, DMatrix1Row C,
+                                       @Nullable GrowArray<DGrowArray> workspace ) {
+        multiply(alpha, A, true, B, true, C, true, workspace);
+    }
+
+    /**
+     * C = alpha*op(A)*op(B) or C = C + alpha*op(A)*op(B)
+     *
+     * @param add If true the product is added to C, otherwise C is overwritten
+     */
+    static void multiply( double alpha, DMatrix1Row A, boolean transA, DMatrix1Row B, boolean transB,
+                          DMatrix1Row C, boolean add, @Nullable GrowArray<DGrowArray> workspace ) {
+        UtilEjml.assertTrue(A != C && B != C, "Neither 'A' or 'B' can be the same matrix as 'C'");
+
+        final int M = transA ? A.numCols : A.numRows;
+        final int K = transA ? A.numRows : A.numCols;
+        final int N = transB ? B.numRows : B.numCols;
+        UtilEjml.assertShape(K, transB ? B.numCols : B.numRows,
+                "The 'A' and 'B' matrices do not have compatible dimensions");
+        if (add) {
+            UtilEjml.assertShape(C.numRows == M && C.numCols == N, "'C' does not have the expected shape");
+        } else {
+            C.reshape(M, N);
+        }
+
+        if (M == 0 || N == 0)
+            return;
+        if (K == 0) {
+            if (!add)
+                CommonOps_DDRM.fill(C, 0.0);
+            return;
+        }
+
+        if (workspace == null)
+            workspace = new GrowArray<>(DGrowArray::new);
+
+        // C is split into tiles which are independent of each other
+        //CONCURRENT_REMOVE_BELOW
+        final int tileRows = M, tileCols = N;
+        //CONCURRENT_INLINE final int tileRows = BLOCK_M, tileCols = 2*BLOCK_M;
+        final int numTileRows = (M + tileRows - 1)/tileRows;
+        final int numTileCols = (N + tileCols - 1)/tileCols;
+
+        //CONCURRENT_REMOVE_BELOW
+        workspace.reset();
+        //CONCURRENT_REMOVE_BELOW
+        DGrowArray work = workspace.grow();
+        //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, numTileRows*numTileCols, 1, workspace, ( work, tile ) -> {
+        for (int tile = 0; tile < numTileRows*numTileCols; tile++) {
+            int row0 = (tile/numTileCols)*tileRows;
+            int col0 = (tile%numTileCols)*tileCols;
+            int row1 = Math.min(M, row0 + tileRows);
+            int col1 = Math.min(N, col0 + tileCols);
+            multiplyTile(alpha, A, transA, B, transB, C, add, K, row0, row1, col0, col1, work);
+        }
+        //CONCURRENT_ABOVE });
+    }
+
+    /**
+     * Computes the specified rows and columns in C
+     */
+    static void multiplyTile( double alpha, DMatrix1Row A, boolean transA, DMatrix1Row B, boolean transB,
+                              DMatrix1Row C, boolean add, int K,
+                              int row0, int row1, int col0, int col1, DGrowArray work ) {
+        final int blockM = Math.min(row1 - row0, BLOCK_M);
+        final int blockK = Math.min(K, BLOCK_K);
+        final int blockN = Math.min(col1 - col0, BLOCK_N);
+
+        // Pack A and B into the same array. Lengths are rounded up since edges are padded with zeros
+        final int offsetB = roundUp(blockM, MR)*blockK;
+        final double[] pack = work.reshape(offsetB + roundUp(blockN, NR)*blockK).data;
+
+        for (int jc = col0; jc < col1; jc += blockN) {
+            int nc = Math.min(blockN, col1 - jc);
+            for (int pc = 0; pc < K; pc += blockK) {
+                int kc = Math.min(blockK, K - pc);
+                boolean overwrite = !add && pc == 0;
+
+                if (transB)
+                    packTransB(B, pc, kc, jc, nc, pack, offsetB);
+                else
+                    packB(B, pc, kc, jc, nc, pack, offsetB);
+
+                for (int ic = row0; ic < row1; ic += blockM) {
+                    int mc = Math.min(blockM, row1 - ic);
+
+                    if (transA)
+                        packTransA(A, ic, mc, pc, kc, pack);
+                    else
+                        packA(A, ic, mc, pc, kc, pack);
+
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            int indexC = (ic + ir)*C.numCols + jc + jr;
+                            if (mr == MR && nr == NR) {
+                                kernel(kc, alpha, pack, ir*kc, pack, offsetB + jr*kc,
+                                        C.data, indexC, C.numCols, overwrite);
+                            } else {
+                                kernelEdge(kc, alpha, pack, ir*kc, pack, offsetB + jr*kc,
+                                        C.data, indexC, C.numCols, mr, nr, overwrite);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies rows [row0, row0+mc) and columns [col0, col0+kc) of A into panels which are {@link #MR} rows tall.
+     * Inside a panel elements are ordered by column then row.
+     */
+    static void packA( DMatrix1Row A, int row0, int mc, int col0, int kc, double[] pack ) {
+        final double[] data = A.data;
+        final int stride = A.numCols;
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            int rowStart = (row0 + ir)*stride + col0;
+            if (mr == MR) {
+                int r0 = rowStart, r1 = r0 + stride, r2 = r1 + stride, r3 = r2 + stride;
+                for (int k = 0; k < kc; k++) {
+                    pack[index++] = data[r0 + k];
+                    pack[index++] = data[r1 + k];
+                    pack[index++] = data[r2 + k];
+                    pack[index++] = data[r3 + k];
+                }
+            } else {
+                for (int k = 0; k < kc; k++) {
+                    for (int i = 0; i < MR; i++) {
+                        pack[index++] = i < mr ? data[rowStart + i*stride + k] : 0.0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #packA} but the elements are read from A<sup>T</sup>
+     */
+    static void packTransA( DMatrix1Row A, int row0, int mc, int col0, int kc, double[] pack ) {
+        final double[] data = A.data;
+        final int stride = A.numCols;
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            for (int k = 0; k < kc; k++) {
+                int indexA = (col0 + k)*stride + row0 + ir;
+                for (int i = 0; i < MR; i++) {
+                    pack[index++] = i < mr ? data[indexA + i] : 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies rows [row0, row0+kc) and columns [col0, col0+nc) of B into panels which are {@link #NR} columns
+     * wide. Inside a panel elements are ordered by row then column.
+     */
+    static void packB( DMatrix1Row B, int row0, int kc, int col0, int nc, double[] pack, int offset ) {
+        final double[] data = B.data;
+        final int stride = B.numCols;
+        int index = offset;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int k = 0; k < kc; k++) {
+                int indexB = (row0 + k)*stride + col0 + jr;
+                for (int j = 0; j < NR; j++) {
+                    pack[index++] = j < nr ? data[indexB + j] : 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #packB} but the elements are read from B<sup>T</sup>
+     */
+    static void packTransB( DMatrix1Row B, int row0, int kc, int col0, int nc, double[] pack, int offset ) {
+        final double[] data = B.data;
+        final int stride = B.numCols;
+        int index = offset;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            int rowStart = (col0 + jr)*stride + row0;
+            if (nr == NR) {
+                int r0 = rowStart, r1 = r0 + stride, r2 = r1 + stride, r3 = r2 + stride;
+                for (int k = 0; k < kc; k++) {
+                    pack[index++] = data[r0 + k];
+                    pack[index++] = data[r1 + k];
+                    pack[index++] = data[r2 + k];
+                    pack[index++] = data[r3 + k];
+                }
+            } else {
+                for (int k = 0; k < kc; k++) {
+                    for (int j = 0; j < NR; j++) {
+                        pack[index++] = j < nr ? data[rowStart + j*stride + k] : 0.0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes a {@link #MR} by {@link #NR} block in C from a packed panel in A and B. The block is accumulated
+     * in local variables so that it's only written to C once.
+     */
+    static void kernel( int kc, double alpha, double[] a, int indexA, double[] b, int indexB,
+                        double[] c, int indexC, int strideC, boolean overwrite ) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        //@formatter:off
+        for (int k = 0; k < kc; k++, indexA += MR, indexB += NR) {
+            double a0 = a[indexA], a1 = a[indexA + 1], a2 = a[indexA + 2], a3 = a[indexA + 3];
+            double b0 = b[indexB], b1 = b[indexB + 1], b2 = b[indexB + 2], b3 = b[indexB + 3];
+
+            c00 += a0*b0; c01 += a0*b1; c02 += a0*b2; c03 += a0*b3;
+            c10 += a1*b0; c11 += a1*b1; c12 += a1*b2; c13 += a1*b3;
+            c20 += a2*b0; c21 += a2*b1; c22 += a2*b2; c23 += a2*b3;
+            c30 += a3*b0; c31 += a3*b1; c32 += a3*b2; c33 += a3*b3;
+        }
+
+        int i0 = indexC, i1 = i0 + strideC, i2 = i1 + strideC, i3 = i2 + strideC;
+        if (overwrite) {
+            c[i0] = alpha*c00; c[i0 + 1] = alpha*c01; c[i0 + 2] = alpha*c02; c[i0 + 3] = alpha*c03;
+            c[i1] = alpha*c10; c[i1 + 1] = alpha*c11; c[i1 + 2] = alpha*c12; c[i1 + 3] = alpha*c13;
+            c[i2] = alpha*c20; c[i2 + 1] = alpha*c21; c[i2 + 2] = alpha*c22; c[i2 + 3] = alpha*c23;
+            c[i3] = alpha*c30; c[i3 + 1] = alpha*c31; c[i3 + 2] = alpha*c32; c[i3 + 3] = alpha*c33;
+        } else {
+            c[i0] += alpha*c00; c[i0 + 1] += alpha*c01; c[i0 + 2] += alpha*c02; c[i0 + 3] += alpha*c03;
+            c[i1] += alpha*c10; c[i1 + 1] += alpha*c11; c[i1 + 2] += alpha*c12; c[i1 + 3] += alpha*c13;
+            c[i2] += alpha*c20; c[i2 + 1] += alpha*c21; c[i2 + 2] += alpha*c22; c[i2 + 3] += alpha*c23;
+            c[i3] += alpha*c30; c[i3 + 1] += alpha*c31; c[i3 + 2] += alpha*c32; c[i3 + 3] += alpha*c33;
+        }
+        //@formatter:on
+    }
+
+    /**
+     * Version of {@link #kernel} for blocks along the edge of C which are smaller than {@link #MR} by {@link #NR}.
+     * The packed arrays are padded with zeros.
+     */
+    static void kernelEdge( int kc, double alpha, double[] a, int indexA, double[] b, int indexB,
+                            double[] c, int indexC, int strideC, int mr, int nr, boolean overwrite ) {
+        for (int i = 0; i < mr; i++) {
+            for (int j = 0; j < nr; j++) {
+                double sum = 0;
+                for (int k = 0; k < kc; k++) {
+                    sum += a[indexA + k*MR + i]*b[indexB + k*NR + j];
+                }
+                int index = indexC + i*strideC + j;
+                if (overwrite)
+                    c[index] = alpha*sum;
+                else
+                    c[index] += alpha*sum;
+            }
+        }
+    }
+
+    private static int roundUp( int value, int multiple ) {
+        return ((value + multiple - 1)/multiple)*multiple;
+    }
+}
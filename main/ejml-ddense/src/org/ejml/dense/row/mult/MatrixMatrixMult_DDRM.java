@@ -20,6 +20,8 @@ package org.ejml.dense.row.mult;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.simd.EjmlSimd;
+import org.ejml.simd.SimdKernels;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Generated;
@@ -72,6 +74,7 @@ public class MatrixMatrixMult_DDRM {
             return;
         }
         final int endOfKLoop = B.numRows*B.numCols;
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
 
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, i -> {
         for (int i = 0; i < A.numRows; i++) {
@@ -96,6 +99,11 @@ public class MatrixMatrixMult_DDRM {
 
                 valA = A.data[indexA++];
 
+                if (simd != null) {
+                    simd.axpy(B.numCols, valA, B.data, indexB, C.data, indexCbase);
+                    indexB = end;
+                    continue;
+                }
                 while (indexB < end) { // j loop
                     C.data[indexC++] += valA*B.data[indexB++];
                 }
@@ -302,6 +310,7 @@ public class MatrixMatrixMult_DDRM {
         UtilEjml.assertShape(A.numCols, B.numCols, "The 'A' and 'B' matrices do not have compatible dimensions");
         C.reshape(A.numRows, B.numRows);
 
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, xA -> {
         for (int xA = 0; xA < A.numRows; xA++) {
             int cIndex = xA*B.numRows;
@@ -312,8 +321,13 @@ public class MatrixMatrixMult_DDRM {
                 int indexA = aIndexStart;
 
                 double total = 0;
-                while (indexA < end) {
-                    total += A.data[indexA++]*B.data[indexB++];
+                if (simd != null) {
+                    total = simd.dot(B.numCols, A.data, aIndexStart, B.data, indexB);
+                    indexB += B.numCols;
+                } else {
+                    while (indexA < end) {
+                        total += A.data[indexA++]*B.data[indexB++];
+                    }
                 }
 
                 C.set(cIndex++, total);
@@ -334,6 +348,7 @@ public class MatrixMatrixMult_DDRM {
             return;
         }
         final int endOfKLoop = B.numRows*B.numCols;
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
 
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, i -> {
         for (int i = 0; i < A.numRows; i++) {
@@ -358,6 +373,11 @@ public class MatrixMatrixMult_DDRM {
 
                 valA = A.data[indexA++];
 
+                if (simd != null) {
+                    simd.axpy(B.numCols, valA, B.data, indexB, C.data, indexCbase);
+                    indexB = end;
+                    continue;
+                }
                 while (indexB < end) { // j loop
                     C.data[indexC++] += valA*B.data[indexB++];
                 }
@@ -562,6 +582,7 @@ public class MatrixMatrixMult_DDRM {
         UtilEjml.assertShape(A.numCols, B.numCols, "The 'A' and 'B' matrices do not have compatible dimensions");
         UtilEjml.assertShape(A.numRows == C.numRows && B.numRows == C.numCols, "C is not compatible with A and B");
 
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, xA -> {
         for (int xA = 0; xA < A.numRows; xA++) {
             int cIndex = xA*B.numRows;
@@ -572,8 +593,13 @@ public class MatrixMatrixMult_DDRM {
                 int indexA = aIndexStart;
 
                 double total = 0;
-                while (indexA < end) {
-                    total += A.data[indexA++]*B.data[indexB++];
+                if (simd != null) {
+                    total = simd.dot(B.numCols, A.data, aIndexStart, B.data, indexB);
+                    indexB += B.numCols;
+                } else {
+                    while (indexA < end) {
+                        total += A.data[indexA++]*B.data[indexB++];
+                    }
                 }
 
                 C.plus(cIndex++, total);
@@ -595,6 +621,7 @@ public class MatrixMatrixMult_DDRM {
             return;
         }
         final int endOfKLoop = B.numRows*B.numCols;
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
 
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, i -> {
         for (int i = 0; i < A.numRows; i++) {
@@ -619,6 +646,11 @@ public class MatrixMatrixMult_DDRM {
 
                 valA = alpha*A.data[indexA++];
 
+                if (simd != null) {
+                    simd.axpy(B.numCols, valA, B.data, indexB, C.data, indexCbase);
+                    indexB = end;
+                    continue;
+                }
                 while (indexB < end) { // j loop
                     C.data[indexC++] += valA*B.data[indexB++];
                 }
@@ -825,6 +857,7 @@ public class MatrixMatrixMult_DDRM {
         UtilEjml.assertShape(A.numCols, B.numCols, "The 'A' and 'B' matrices do not have compatible dimensions");
         C.reshape(A.numRows, B.numRows);
 
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, xA -> {
         for (int xA = 0; xA < A.numRows; xA++) {
             int cIndex = xA*B.numRows;
@@ -835,8 +868,13 @@ public class MatrixMatrixMult_DDRM {
                 int indexA = aIndexStart;
 
                 double total = 0;
-                while (indexA < end) {
-                    total += A.data[indexA++]*B.data[indexB++];
+                if (simd != null) {
+                    total = simd.dot(B.numCols, A.data, aIndexStart, B.data, indexB);
+                    indexB += B.numCols;
+                } else {
+                    while (indexA < end) {
+                        total += A.data[indexA++]*B.data[indexB++];
+                    }
                 }
 
                 C.set(cIndex++, alpha*total);
@@ -857,6 +895,7 @@ public class MatrixMatrixMult_DDRM {
             return;
         }
         final int endOfKLoop = B.numRows*B.numCols;
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
 
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, i -> {
         for (int i = 0; i < A.numRows; i++) {
@@ -881,6 +920,11 @@ public class MatrixMatrixMult_DDRM {
 
                 valA = alpha*A.data[indexA++];
 
+                if (simd != null) {
+                    simd.axpy(B.numCols, valA, B.data, indexB, C.data, indexCbase);
+                    indexB = end;
+                    continue;
+                }
                 while (indexB < end) { // j loop
                     C.data[indexC++] += valA*B.data[indexB++];
                 }
@@ -1085,6 +1129,7 @@ public class MatrixMatrixMult_DDRM {
         UtilEjml.assertShape(A.numCols, B.numCols, "The 'A' and 'B' matrices do not have compatible dimensions");
         UtilEjml.assertShape(A.numRows == C.numRows && B.numRows == C.numCols, "C is not compatible with A and B");
 
+        final SimdKernels simd = EjmlSimd.kernels(B.numCols);
         //CONCURRENT_BELOW EjmlConcurrency.loopFor(0, A.numRows, xA -> {
         for (int xA = 0; xA < A.numRows; xA++) {
             int cIndex = xA*B.numRows;
@@ -1095,8 +1140,13 @@ public class MatrixMatrixMult_DDRM {
                 int indexA = aIndexStart;
 
                 double total = 0;
-                while (indexA < end) {
-                    total += A.data[indexA++]*B.data[indexB++];
+                if (simd != null) {
+                    total = simd.dot(B.numCols, A.data, aIndexStart, B.data, indexB);
+                    indexB += B.numCols;
+                } else {
+                    while (indexA < end) {
+                        total += A.data[indexA++]*B.data[indexB++];
+                    }
                 }
 
                 C.plus(cIndex++, alpha*total);
@@ -23,6 +23,8 @@ import org.ejml.data.DMatrix1Row;
 import org.ejml.data.DMatrixD1;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.simd.EjmlSimd;
+import org.ejml.simd.SimdKernels;
 
 /**
  * <p>
@@ -78,6 +80,14 @@ public class MatrixVectorMult_DDRM {
             return;
         }
 
+        SimdKernels simd = EjmlSimd.kernels(A.numCols);
+        if (simd != null) {
+            for (int i = 0; i < A.numRows; i++) {
+                C.data[i] = simd.dot(A.numCols, A.data, i*A.numCols, B.data, 0);
+            }
+            return;
+        }
+
         int indexA = 0;
         int cIndex = 0;
         double b0 = B.get(0);
@@ -128,6 +138,14 @@ public class MatrixVectorMult_DDRM {
             return;
         }
 
+        SimdKernels simd = EjmlSimd.kernels(A.numCols);
+        if (simd != null) {
+            for (int i = 0; i < A.numRows; i++) {
+                C.data[i] += simd.dot(A.numCols, A.data, i*A.numCols, B.data, 0);
+            }
+            return;
+        }
+
         int indexA = 0;
         int cIndex = 0;
         for (int i = 0; i < A.numRows; i++) {
@@ -225,9 +243,15 @@ public class MatrixVectorMult_DDRM {
             C.set(i, A.get(i)*B_val);
         }
 
+        SimdKernels simd = EjmlSimd.kernels(A.numCols);
         int indexA = A.numCols;
         for (int i = 1; i < A.numRows; i++) {
             B_val = B.get(i);
+            if (simd != null) {
+                simd.axpy(A.numCols, B_val, A.data, indexA, C.data, 0);
+                indexA += A.numCols;
+                continue;
+            }
             for (int j = 0; j < A.numCols; j++) {
                 C.plus(j, A.get(indexA++)*B_val);
             }
@@ -307,9 +331,15 @@ public class MatrixVectorMult_DDRM {
         if (A.numCols != C.getNumElements())
             throw new MatrixDimensionException("C is not compatible with A");
 
+        SimdKernels simd = EjmlSimd.kernels(A.numCols);
         int indexA = 0;
         for (int j = 0; j < A.numRows; j++) {
             double B_val = B.get(j);
+            if (simd != null) {
+                simd.axpy(A.numCols, B_val, A.data, indexA, C.data, 0);
+                indexA += A.numCols;
+                continue;
+            }
             for (int i = 0; i < A.numCols; i++) {
                 C.plus(i, A.get(indexA++)*B_val);
             }
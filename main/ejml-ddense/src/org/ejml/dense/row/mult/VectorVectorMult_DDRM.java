@@ -21,6 +21,8 @@ package org.ejml.dense.row.mult;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.data.DMatrixD1;
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.simd.EjmlSimd;
+import org.ejml.simd.SimdKernels;
 
 /**
  * Operations that involve multiplication of two vectors.
@@ -49,6 +51,10 @@ public class VectorVectorMult_DDRM {
     public static double innerProd( DMatrixD1 x, DMatrixD1 y ) {
         int m = x.getNumElements();
 
+        SimdKernels simd = EjmlSimd.kernels(m);
+        if (simd != null)
+            return simd.dot(m, x.data, 0, y.data, 0);
+
         double total = 0;
         for (int i = 0; i < m; i++) {
             total += x.get(i)*y.get(i);
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.block.decomposition.lu;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.lu.LUDecompositionAlt_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLUDecompositionRightLooking_DDRB extends EjmlStandardJUnit {
+    // size of a block
+    int bl = 4;
+
+    /**
+     * Compare against the row-major decomposition for square and rectangular matrices which are and are not
+     * multiples of the block size
+     */
+    @Test
+    void compareToRowMajor() {
+        for (int numRows = 1; numRows <= 14; numRows += 3) {
+            for (int numCols = 1; numCols <= 14; numCols += 3) {
+                DMatrixRMaj A = RandomMatrices_DDRM.rectangle(numRows, numCols, -1, 1, rand);
+
+                var expected = new LUDecompositionAlt_DDRM();
+                assertTrue(expected.decompose(A));
+
+                var alg = new LUDecompositionRightLooking_DDRB();
+                assertTrue(alg.decompose(MatrixOps_DDRB.convert(A, bl)));
+
+                assertArrayEquals(expected.getRowPivotV(null), alg.getRowPivotV(null));
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getLower(null),
+                        MatrixOps_DDRB.convert(alg.getLower(null), null), UtilEjml.TEST_F64));
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getUpper(null),
+                        MatrixOps_DDRB.convert(alg.getUpper(null), null), UtilEjml.TEST_F64));
+
+                if (numRows == numCols) {
+                    assertEquals(expected.computeDeterminant().real, alg.computeDeterminant().real, UtilEjml.TEST_F64);
+                }
+            }
+        }
+    }
+
+    /**
+     * P*A = L*U
+     */
+    @Test
+    void reconstruct() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(23, 23, -1, 1, rand);
+
+        var alg = new LUDecompositionRightLooking_DDRB();
+        assertTrue(alg.decompose(MatrixOps_DDRB.convert(A, bl)));
+
+        DMatrixRMaj L = MatrixOps_DDRB.convert(alg.getLower(null), null);
+        DMatrixRMaj U = MatrixOps_DDRB.convert(alg.getUpper(null), null);
+        DMatrixRMaj P = MatrixOps_DDRB.convert(alg.getRowPivot(null), null);
+
+        DMatrixRMaj PA = CommonOps_DDRM.mult(P, A, null);
+        DMatrixRMaj LU = CommonOps_DDRM.mult(L, U, null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(PA, LU, UtilEjml.TEST_F64));
+    }
+
+    @Test
+    void singular() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(10, 10, -1, 1, rand);
+        // make one row a linear combination of two others
+        for (int col = 0; col < 10; col++) {
+            A.set(7, col, A.get(2, col) - 2.0*A.get(5, col));
+        }
+
+        var alg = new LUDecompositionRightLooking_DDRB();
+        assertTrue(alg.decompose(MatrixOps_DDRB.convert(A, bl)));
+        assertTrue(alg.isSingular());
+        assertEquals(0.0, alg.computeDeterminant().real, UtilEjml.TEST_F64);
+
+        A = RandomMatrices_DDRM.rectangle(10, 10, -1, 1, rand);
+        assertTrue(alg.decompose(MatrixOps_DDRB.convert(A, bl)));
+        assertFalse(alg.isSingular());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.block.decomposition.lu;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRBlock;
+import org.ejml.dense.block.MatrixOps_DDRB;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.generic.GenericMatrixOps_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestLUDecompositionRightLooking_MT_DDRB extends EjmlStandardJUnit {
+    // size of a block
+    int bl = 5;
+
+    @Test
+    void compareToSingle() {
+        for (int numRows = bl - 2; numRows <= 41; numRows += 6) {
+            for (int numCols : new int[]{numRows - 1, numRows, numRows + 7}) {
+                DMatrixRBlock A = MatrixOps_DDRB.convert(RandomMatrices_DDRM.rectangle(numRows, numCols, -1, 1, rand), bl);
+                DMatrixRBlock B = A.copy();
+
+                var single = new LUDecompositionRightLooking_DDRB();
+                var concurrent = new LUDecompositionRightLooking_MT_DDRB();
+
+                assertTrue(single.decompose(A));
+                assertTrue(concurrent.decompose(B));
+
+                assertTrue(GenericMatrixOps_F64.isEquivalent(A, B, UtilEjml.TEST_F64));
+                assertArrayEquals(single.getRowPivotV(null), concurrent.getRowPivotV(null));
+            }
+        }
+    }
+}
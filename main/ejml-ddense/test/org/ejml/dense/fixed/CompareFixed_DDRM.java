@@ -46,8 +46,10 @@ public class CompareFixed_DDRM extends EjmlStandardJUnit {
         this.classFixed = classFixed;
         this.classDense = classDense;
 
+        // Classes for rectangular matrices don't have a single dimension
         String name = classFixed.getName();
-        N = Integer.parseInt(name.charAt(name.length()-1)+"");
+        char last = name.charAt(name.length()-1);
+        N = Character.isDigit(last) ? Integer.parseInt(last+"") : -1;
     }
 
     /**
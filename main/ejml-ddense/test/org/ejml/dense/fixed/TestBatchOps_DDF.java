@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the batch operations against the same operation in {@link CommonOps_DDRM} applied to each matrix
+ */
+public class TestBatchOps_DDF extends EjmlStandardJUnit {
+    int length = 13;
+    int[] sizes = new int[]{1, 2, 3, 4, 6};
+
+    @Test void mult() {
+        for (int N : sizes) {
+            DMatrixBatch a = random(N, N + 1);
+            DMatrixBatch b = random(N + 1, 2);
+            DMatrixBatch c = BatchOps_DDF.mult(a, b, null);
+            assertEquals(N, c.numRows);
+            assertEquals(2, c.numCols);
+            assertEquals(length, c.length);
+
+            for (int k = 0; k < length; k++) {
+                DMatrixRMaj expected = CommonOps_DDRM.mult(get(a, k), get(b, k), null);
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected, get(c, k), UtilEjml.TEST_F64));
+            }
+        }
+
+        assertThrows(MatrixDimensionException.class, () -> BatchOps_DDF.mult(random(2, 3), random(2, 3), null));
+        DMatrixBatch a = random(2, 2);
+        assertThrows(IllegalArgumentException.class, () -> BatchOps_DDF.mult(a, random(2, 2), a));
+    }
+
+    @Test void invert() {
+        for (int N : sizes) {
+            DMatrixBatch a = random(N, N);
+            DMatrixBatch original = a.copy();
+            var inv = new DMatrixBatch();
+            assertTrue(BatchOps_DDF.invert(a, inv));
+            assertArrayEquals(original.data, a.data);
+
+            for (int k = 0; k < length; k++) {
+                DMatrixRMaj expected = get(a, k);
+                assertTrue(CommonOps_DDRM.invert(expected));
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected, get(inv, k), UtilEjml.TEST_F64));
+            }
+        }
+    }
+
+    /**
+     * A single singular matrix in the batch should cause it to fail but not affect the others
+     */
+    @Test void invert_singular() {
+        int N = 3;
+        DMatrixBatch a = random(N, N);
+        a.setMatrix(4, new DMatrixRMaj(N, N));
+        var inv = new DMatrixBatch();
+        assertFalse(BatchOps_DDF.invert(a, inv));
+
+        for (int k = 0; k < length; k++) {
+            if (k == 4)
+                continue;
+            DMatrixRMaj expected = get(a, k);
+            assertTrue(CommonOps_DDRM.invert(expected));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, get(inv, k), UtilEjml.TEST_F64));
+        }
+    }
+
+    /**
+     * Permutation matrices have zeros on the diagonal and can only be inverted if rows are swapped
+     */
+    @Test void invert_pivot() {
+        int N = 4;
+        var a = new DMatrixBatch(N, N, length);
+        for (int k = 0; k < length; k++) {
+            for (int i = 0; i < N; i++) {
+                a.set(k, i, (i + k)%N, 1.0);
+            }
+        }
+        var inv = new DMatrixBatch();
+        assertTrue(BatchOps_DDF.invert(a, inv));
+        double[] det = BatchOps_DDF.det(a, null);
+
+        for (int k = 0; k < length; k++) {
+            DMatrixRMaj P = get(a, k);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.transpose(P, null), get(inv, k), 0.0));
+            assertEquals(CommonOps_DDRM.det(P), det[k], UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void solve() {
+        for (int N : sizes) {
+            DMatrixBatch a = random(N, N);
+            DMatrixBatch b = random(N, 2);
+            DMatrixBatch originalB = b.copy();
+            var x = new DMatrixBatch();
+            assertTrue(BatchOps_DDF.solve(a, b, x));
+            assertArrayEquals(originalB.data, b.data);
+
+            for (int k = 0; k < length; k++) {
+                var expected = new DMatrixRMaj(N, 2);
+                assertTrue(CommonOps_DDRM.solve(get(a, k), get(b, k), expected));
+                assertTrue(MatrixFeatures_DDRM.isIdentical(expected, get(x, k), UtilEjml.TEST_F64));
+            }
+
+            // the solution can be written into b
+            assertTrue(BatchOps_DDF.solve(a, b, b));
+            assertArrayEquals(x.data, b.data, UtilEjml.TEST_F64);
+        }
+    }
+
+    @Test void det() {
+        for (int N : sizes) {
+            DMatrixBatch a = random(N, N);
+            double[] found = BatchOps_DDF.det(a, null);
+            assertEquals(length, found.length);
+
+            for (int k = 0; k < length; k++) {
+                assertEquals(CommonOps_DDRM.det(get(a, k)), found[k], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    @Test void cholL() {
+        for (int N : sizes) {
+            var a = new DMatrixBatch(N, N, length);
+            for (int k = 0; k < length; k++) {
+                a.setMatrix(k, RandomMatrices_DDRM.symmetricPosDef(N, rand));
+            }
+            DMatrixBatch original = a.copy();
+            assertTrue(BatchOps_DDF.cholL(a));
+
+            for (int k = 0; k < length; k++) {
+                DMatrixRMaj L = get(a, k);
+                assertTrue(MatrixFeatures_DDRM.isLowerTriangle(L, 0, 0.0));
+                DMatrixRMaj found = CommonOps_DDRM.multTransB(L, L, null);
+                assertTrue(MatrixFeatures_DDRM.isIdentical(get(original, k), found, UtilEjml.TEST_F64));
+            }
+        }
+
+        // not positive definite
+        var a = new DMatrixBatch(2, 2, length);
+        for (int k = 0; k < length; k++) {
+            a.setMatrix(k, CommonOps_DDRM.identity(2));
+        }
+        a.set(7, 1, 1, -1.0);
+        assertFalse(BatchOps_DDF.cholL(a));
+    }
+
+    DMatrixBatch random( int numRows, int numCols ) {
+        var ret = new DMatrixBatch(numRows, numCols, length);
+        for (int i = 0; i < ret.data.length; i++) {
+            ret.data[i] = (double)rand.nextGaussian();
+        }
+        return ret;
+    }
+
+    static DMatrixRMaj get( DMatrixBatch batch, int index ) {
+        return batch.getMatrix(index, new DMatrixRMaj(batch.numRows, batch.numCols));
+    }
+}
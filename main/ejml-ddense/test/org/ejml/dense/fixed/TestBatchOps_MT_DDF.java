@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixBatch;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The concurrent implementation should produce the same results as the single threaded one
+ */
+public class TestBatchOps_MT_DDF extends EjmlStandardJUnit {
+    // large enough to be split into multiple blocks
+    int length = 1000;
+    int minBlock;
+
+    @BeforeEach void before() {
+        minBlock = BatchOps_MT_DDF.MIN_BLOCK;
+        BatchOps_MT_DDF.MIN_BLOCK = 50;
+    }
+
+    @AfterEach void after() {
+        BatchOps_MT_DDF.MIN_BLOCK = minBlock;
+    }
+
+    @Test void mult() {
+        DMatrixBatch a = random(4, 3);
+        DMatrixBatch b = random(3, 4);
+        DMatrixBatch expected = BatchOps_DDF.mult(a, b, null);
+        DMatrixBatch found = BatchOps_MT_DDF.mult(a, b, null);
+        assertArrayEquals(expected.data, found.data, UtilEjml.TEST_F64);
+    }
+
+    @Test void invert() {
+        DMatrixBatch a = random(6, 6);
+        a.setMatrix(300, new DMatrixRMaj(6, 6));
+        var expected = new DMatrixBatch();
+        var found = new DMatrixBatch();
+        assertFalse(BatchOps_DDF.invert(a, expected));
+        assertFalse(BatchOps_MT_DDF.invert(a, found));
+        assertArrayEquals(expected.data, found.data, UtilEjml.TEST_F64);
+
+        a.setMatrix(300, RandomMatrices_DDRM.rectangle(6, 6, rand));
+        assertTrue(BatchOps_DDF.invert(a, expected));
+        assertTrue(BatchOps_MT_DDF.invert(a, found));
+        assertArrayEquals(expected.data, found.data, UtilEjml.TEST_F64);
+    }
+
+    @Test void solve() {
+        DMatrixBatch a = random(3, 3);
+        DMatrixBatch b = random(3, 1);
+        var expected = new DMatrixBatch();
+        var found = new DMatrixBatch();
+        assertTrue(BatchOps_DDF.solve(a, b, expected));
+        assertTrue(BatchOps_MT_DDF.solve(a, b, found));
+        assertArrayEquals(expected.data, found.data, UtilEjml.TEST_F64);
+
+        assertTrue(BatchOps_MT_DDF.solve(a, b, b));
+        assertArrayEquals(expected.data, b.data, UtilEjml.TEST_F64);
+    }
+
+    @Test void det() {
+        DMatrixBatch a = random(4, 4);
+        assertArrayEquals(BatchOps_DDF.det(a, null), BatchOps_MT_DDF.det(a, null), UtilEjml.TEST_F64);
+    }
+
+    @Test void cholL() {
+        var a = new DMatrixBatch(4, 4, length);
+        for (int k = 0; k < length; k++) {
+            a.setMatrix(k, RandomMatrices_DDRM.symmetricPosDef(4, rand));
+        }
+        DMatrixBatch expected = a.copy();
+        assertTrue(BatchOps_DDF.cholL(expected));
+        assertTrue(BatchOps_MT_DDF.cholL(a));
+        assertArrayEquals(expected.data, a.data, UtilEjml.TEST_F64);
+
+        a.set(length - 1, 0, 0, -1.0);
+        assertFalse(BatchOps_MT_DDF.cholL(a));
+    }
+
+    DMatrixBatch random( int numRows, int numCols ) {
+        var ret = new DMatrixBatch(numRows, numCols, length);
+        for (int i = 0; i < ret.data.length; i++) {
+            ret.data[i] = (double)rand.nextGaussian();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.*;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.SingularOps_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestImplCommonOps_DDF extends EjmlStandardJUnit {
+    @Test
+    public void eigSymm2() {
+        for (int trial = 0; trial < 50; trial++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.symmetric(2, -1, 1, rand);
+            checkEigSymm2(A);
+        }
+        // repeated eigenvalues and diagonal matrices
+        checkEigSymm2(CommonOps_DDRM.identity(2));
+        checkEigSymm2(CommonOps_DDRM.diag(-2, 5));
+        checkEigSymm2(new DMatrixRMaj(2, 2));
+    }
+
+    private void checkEigSymm2( DMatrixRMaj A ) {
+        DMatrix2x2 _A = new DMatrix2x2();
+        DConvertMatrixStruct.convert(A, _A);
+        DMatrix2 values = new DMatrix2();
+        DMatrix2x2 vectors = new DMatrix2x2();
+        assertTrue(ImplCommonOps_DDF.eigSymm(_A, values, vectors));
+        assertTrue(values.a1 >= values.a2);
+        checkEigen(A, new double[]{values.a1, values.a2}, vectors);
+    }
+
+    @Test
+    public void eigSymm3() {
+        for (int trial = 0; trial < 50; trial++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.symmetric(3, -1, 1, rand);
+            checkEigSymm3(A);
+        }
+        // repeated and nearly repeated eigenvalues
+        checkEigSymm3(CommonOps_DDRM.identity(3));
+        checkEigSymm3(CommonOps_DDRM.diag(1, 1 + 1e-12, 3));
+        checkEigSymm3(createSymm(new double[]{2, 2, -1}));
+        checkEigSymm3(createSymm(new double[]{1, 1e-9, 1e-9}));
+        checkEigSymm3(new DMatrixRMaj(3, 3));
+        // large and small magnitudes
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetric(3, -1, 1, rand);
+        checkEigSymm3(scaled(1e30, A));
+        checkEigSymm3(scaled(1e-30, A));
+    }
+
+    private void checkEigSymm3( DMatrixRMaj A ) {
+        DMatrix3x3 _A = new DMatrix3x3();
+        DConvertMatrixStruct.convert(A, _A);
+        DMatrix3 values = new DMatrix3();
+        DMatrix3x3 vectors = new DMatrix3x3();
+        assertTrue(ImplCommonOps_DDF.eigSymm(_A, values, vectors));
+        assertTrue(values.a1 >= values.a2 && values.a2 >= values.a3);
+        checkEigen(A, new double[]{values.a1, values.a2, values.a3}, vectors);
+
+        // Vectors are optional and shouldn't change the values
+        DMatrix3 found = new DMatrix3();
+        assertTrue(ImplCommonOps_DDF.eigSymm(_A, found, null));
+        assertEquals(values.a1, found.a1);
+        assertEquals(values.a3, found.a3);
+    }
+
+    /**
+     * Checks to see if the eigen decomposition reconstructs the original matrix and V is orthogonal
+     */
+    private void checkEigen( DMatrixRMaj A, double[] values, DMatrixFixed vectors ) {
+        int N = A.numRows;
+        DMatrixRMaj V = new DMatrixRMaj(N, N);
+        DConvertMatrixStruct.convert(vectors, V);
+        DMatrixRMaj D = CommonOps_DDRM.diag(values);
+        DMatrixRMaj found = new DMatrixRMaj(N, N);
+        CommonOps_DDRM.multTransB(CommonOps_DDRM.mult(V, D, null), V, found);
+
+        double tol = UtilEjml.TEST_F64*Math.max(1.0, CommonOps_DDRM.elementMaxAbs(A));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, tol));
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(V, UtilEjml.TEST_F64));
+    }
+
+    private static DMatrixRMaj scaled( double alpha, DMatrixRMaj A ) {
+        DMatrixRMaj B = A.createLike();
+        CommonOps_DDRM.scale(alpha, A, B);
+        return B;
+    }
+
+    /**
+     * Creates a symmetric matrix with the specified eigenvalues and random eigenvectors
+     */
+    private DMatrixRMaj createSymm( double[] values ) {
+        int N = values.length;
+        DMatrixRMaj Q = RandomMatrices_DDRM.orthogonal(N, N, rand);
+        DMatrixRMaj A = new DMatrixRMaj(N, N);
+        CommonOps_DDRM.multTransB(CommonOps_DDRM.mult(Q, CommonOps_DDRM.diag(values), null), Q, A);
+        CommonOps_DDRM.symmLowerToFull(A);
+        return A;
+    }
+
+    @Test
+    public void svd2() {
+        for (int trial = 0; trial < 50; trial++) {
+            checkSvd(RandomMatrices_DDRM.rectangle(2, 2, -1, 1, rand));
+        }
+        checkSvd(CommonOps_DDRM.identity(2));
+        checkSvd(new DMatrixRMaj(2, 2, true, 1, 2, 2, 4)); // singular
+        checkSvd(new DMatrixRMaj(2, 2));
+        checkSvd(new DMatrixRMaj(2, 2, true, 0, -3, 2, 0));
+    }
+
+    @Test
+    public void svd3() {
+        for (int trial = 0; trial < 50; trial++) {
+            checkSvd(RandomMatrices_DDRM.rectangle(3, 3, -1, 1, rand));
+        }
+        checkSvd(CommonOps_DDRM.identity(3));
+        checkSvd(new DMatrixRMaj(3, 3));
+        checkSvd(RandomMatrices_DDRM.singular(3, 3, rand, 2, 1, 0));
+        checkSvd(RandomMatrices_DDRM.singular(3, 3, rand, 1, 0, 0));
+        checkSvd(RandomMatrices_DDRM.singular(3, 3, rand, 1, 1e-10, 1e-14));
+        checkSvd(scaled(1e30, RandomMatrices_DDRM.rectangle(3, 3, -1, 1, rand)));
+    }
+
+    private void checkSvd( DMatrixRMaj A ) {
+        int N = A.numRows;
+        DMatrixFixed _A, _U, _Vt, _sv;
+        boolean success;
+        if (N == 2) {
+            var U = new DMatrix2x2();
+            var Vt = new DMatrix2x2();
+            var sv = new DMatrix2();
+            var a = new DMatrix2x2();
+            DConvertMatrixStruct.convert(A, a);
+            success = ImplCommonOps_DDF.svd(a, U, sv, Vt);
+            _A = a; _U = U; _Vt = Vt; _sv = sv;
+        } else {
+            var U = new DMatrix3x3();
+            var Vt = new DMatrix3x3();
+            var sv = new DMatrix3();
+            var a = new DMatrix3x3();
+            DConvertMatrixStruct.convert(A, a);
+            success = ImplCommonOps_DDF.svd(a, U, sv, Vt);
+            _A = a; _U = U; _Vt = Vt; _sv = sv;
+        }
+        assertTrue(success);
+
+        DMatrixRMaj U = new DMatrixRMaj(N, N);
+        DMatrixRMaj Vt = new DMatrixRMaj(N, N);
+        DMatrixRMaj sv = new DMatrixRMaj(N, 1);
+        DConvertMatrixStruct.convert(_U, U);
+        DConvertMatrixStruct.convert(_Vt, Vt);
+        DConvertMatrixStruct.convert(_sv, sv);
+
+        double scale = Math.max(1.0, CommonOps_DDRM.elementMaxAbs(A));
+        for (int i = 0; i < N; i++) {
+            assertTrue(sv.data[i] >= 0.0);
+            if (i > 0)
+                assertTrue(sv.data[i - 1] >= sv.data[i] - UtilEjml.TEST_F64*scale);
+        }
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(U, UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(Vt, UtilEjml.TEST_F64));
+
+        DMatrixRMaj found = CommonOps_DDRM.mult(CommonOps_DDRM.mult(U, CommonOps_DDRM.diag(sv.data), null), Vt, null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, UtilEjml.TEST_F64*scale));
+
+        // Compare singular values against the dense implementation
+        double[] expected = SingularOps_DDRM.singularValues(A);
+        Arrays.sort(expected);
+        for (int i = 0; i < N; i++) {
+            assertEquals(expected[N - 1 - i], sv.data[i], UtilEjml.TEST_F64*scale);
+        }
+    }
+}
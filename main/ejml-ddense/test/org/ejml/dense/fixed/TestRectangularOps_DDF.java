@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix3;
+import org.ejml.data.DMatrix3x4;
+import org.ejml.data.DMatrix4;
+import org.ejml.data.DMatrix4x3;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.ops.MatrixFeatures_D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRectangularOps_DDF extends CompareFixed_DDRM {
+    public TestRectangularOps_DDF() {
+        super(RectangularOps_DDF.class, CommonOps_DDRM.class);
+    }
+
+    /**
+     * Every function should have an equivalent in CommonOps_DDRM
+     */
+    @Test
+    public void compareToCommonOps() {
+        compareToCommonOps(154, 0);
+    }
+
+    /**
+     * Project a homogenous point using a camera matrix then compare against the dense result
+     */
+    @Test
+    public void projectPoint() {
+        DMatrixRMaj P = RandomMatrices_DDRM.rectangle(3, 4, rand);
+        DMatrixRMaj X = RandomMatrices_DDRM.rectangle(4, 1, rand);
+        DMatrixRMaj expected = CommonOps_DDRM.mult(P, X, null);
+
+        DMatrix3x4 _P = new DMatrix3x4();
+        DMatrix4 _X = new DMatrix4();
+        DConvertMatrixStruct.convert(P, _P);
+        DConvertMatrixStruct.convert(X, _X);
+        DMatrix3 found = new DMatrix3();
+        RectangularOps_DDF.mult(_P, _X, found);
+
+        assertTrue(MatrixFeatures_D.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
+
+    @Test
+    public void transpose() {
+        DMatrix3x4 a = new DMatrix3x4();
+        RectangularOps_DDF.fill(a, 0.5);
+        a.a24 = 2.0;
+
+        DMatrix4x3 found = RectangularOps_DDF.transpose(a, null);
+        assertEquals(2.0, found.a42, UtilEjml.TEST_F64);
+        assertEquals(0.5, found.a13, UtilEjml.TEST_F64);
+        assertEquals(4, found.getNumRows());
+        assertEquals(3, found.getNumCols());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSecularEquation_DDRM extends EjmlStandardJUnit {
+    @Test void solve() {
+        for (boolean squared : new boolean[]{false, true}) {
+            for (int K : new int[]{1, 2, 5, 30}) {
+                double[] d = new double[K];
+                double[] z = new double[K];
+                for (int i = 0; i < K; i++) {
+                    d[i] = squared ? rand.nextDouble()*3 : (double)rand.nextGaussian();
+                    z[i] = (double)rand.nextGaussian();
+                }
+                Arrays.sort(d);
+                checkRoots(new SecularEquation_DDRM(squared), K, d, z, 0.5 + rand.nextDouble());
+            }
+        }
+    }
+
+    /**
+     * The roots should still be found when poles are almost on top of each other
+     */
+    @Test void closePoles() {
+        for (boolean squared : new boolean[]{false, true}) {
+            int K = 10;
+            double[] d = new double[K];
+            double[] z = new double[K];
+            for (int i = 0; i < K; i++) {
+                d[i] = 1.0 + i*1e-6;
+                z[i] = 1e-3;
+            }
+            checkRoots(new SecularEquation_DDRM(squared), K, d, z, 1.0);
+        }
+    }
+
+    private void checkRoots( SecularEquation_DDRM alg, int K, double[] d, double[] z, double r ) {
+        int[] origin = new int[K];
+        double[] tau = new double[K];
+
+        for (int j = 0; j < K; j++) {
+            alg.solve(j, K, d, z, r, origin, tau);
+
+            // root must lie between its two poles
+            double root = alg.value(d, origin[j], tau[j]);
+            assertTrue(root >= d[j]);
+            if (j + 1 < K)
+                assertTrue(root <= d[j + 1]);
+
+            // the secular function should be zero relative to the magnitude of its terms
+            double f = 1.0;
+            double magnitude = 1.0;
+            for (int i = 0; i < K; i++) {
+                double term = r*z[i]*z[i]/(alg.difference(d, i, origin[j]) - tau[j]);
+                f += term;
+                magnitude += Math.abs(term);
+            }
+            assertTrue(Math.abs(f) <= UtilEjml.TEST_F64*magnitude, "f = " + f + " magnitude " + magnitude);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.chol;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCholeskyUpdate_DDRM extends EjmlStandardJUnit {
+    /**
+     * Compare a rank-1 update against decomposing A + x*x' from scratch
+     */
+    @Test void update_rank1() {
+        for (boolean lower : new boolean[]{true, false}) {
+            for (int n = 1; n < 12; n++) {
+                DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(n, rand);
+                DMatrixRMaj x = RandomMatrices_DDRM.rectangle(1, n, rand);
+
+                DMatrixRMaj T = decompose(A, lower);
+                new CholeskyUpdate_DDRM().update(T, lower, x.data);
+
+                DMatrixRMaj expected = CommonOps_DDRM.multTransA(x, x, null);
+                CommonOps_DDRM.addEquals(expected, A);
+                checkFactor(expected, T, lower);
+            }
+        }
+    }
+
+    /**
+     * Add several rows at once. The same instance is used with different sizes to make sure the workspace is
+     * handled correctly.
+     */
+    @Test void update_rankK() {
+        var alg = new CholeskyUpdate_DDRM();
+        for (boolean lower : new boolean[]{true, false}) {
+            for (int n : new int[]{3, 20, 7}) {
+                DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(n, rand);
+                DMatrixRMaj V = RandomMatrices_DDRM.rectangle(4, n, rand);
+
+                DMatrixRMaj T = decompose(A, lower);
+                alg.update(T, lower, V);
+
+                DMatrixRMaj expected = CommonOps_DDRM.multTransA(V, V, null);
+                CommonOps_DDRM.addEquals(expected, A);
+                checkFactor(expected, T, lower);
+            }
+        }
+    }
+
+    /**
+     * Removing rows which were previously added should recover the original factor
+     */
+    @Test void downdate_rankK() {
+        var alg = new CholeskyUpdate_DDRM();
+        for (boolean lower : new boolean[]{true, false}) {
+            for (int n = 1; n < 15; n += 3) {
+                DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(n, rand);
+                DMatrixRMaj V = RandomMatrices_DDRM.rectangle(3, n, rand);
+                DMatrixRMaj AplusV = CommonOps_DDRM.multTransA(V, V, null);
+                CommonOps_DDRM.addEquals(AplusV, A);
+
+                DMatrixRMaj T = decompose(AplusV, lower);
+                assertTrue(alg.downdate(T, lower, V));
+                checkFactor(A, T, lower);
+
+                // rank 1 using the decomposition
+                var chol = new CholeskyDecompositionInner_DDRM(lower);
+                assertTrue(chol.decompose(AplusV.copy()));
+                double[] x = new double[n];
+                System.arraycopy(V.data, 0, x, 0, n);
+                assertTrue(alg.downdate(chol, x));
+                CommonOps_DDRM.subtractEquals(AplusV, CommonOps_DDRM.multTransA(
+                        new DMatrixRMaj(1, n, true, x), new DMatrixRMaj(1, n, true, x), null));
+                checkFactor(AplusV, chol.getT(), lower);
+            }
+        }
+    }
+
+    /**
+     * If the result isn't positive definite the downdate should fail and not modify the factor
+     */
+    @Test void downdate_notPositiveDefinite() {
+        for (boolean lower : new boolean[]{true, false}) {
+            int n = 5;
+            DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(n, rand);
+            DMatrixRMaj x = RandomMatrices_DDRM.rectangle(1, n, rand);
+            // scale x so that x'*inv(A)*x > 1
+            DMatrixRMaj invA = new DMatrixRMaj(n, n);
+            CommonOps_DDRM.invert(A, invA);
+            DMatrixRMaj tmp = new DMatrixRMaj(1, n);
+            CommonOps_DDRM.mult(x, invA, tmp);
+            double quad = CommonOps_DDRM.dot(tmp, x);
+            CommonOps_DDRM.scale(1.5/Math.sqrt(quad), x);
+
+            DMatrixRMaj T = decompose(A, lower);
+            DMatrixRMaj original = T.copy();
+            assertFalse(new CholeskyUpdate_DDRM().downdate(T, lower, x.data));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(original, T, 0));
+        }
+    }
+
+    private static DMatrixRMaj decompose( DMatrixRMaj A, boolean lower ) {
+        var chol = new CholeskyDecompositionInner_DDRM(lower);
+        DMatrixRMaj T = A.copy();
+        assertTrue(chol.decompose(T));
+        return T;
+    }
+
+    private static void checkFactor( DMatrixRMaj expectedA, DMatrixRMaj T, boolean lower ) {
+        // other triangle should still be zero
+        if (lower)
+            assertTrue(MatrixFeatures_DDRM.isLowerTriangle(T, 0, 0.0));
+        else
+            assertTrue(MatrixFeatures_DDRM.isUpperTriangle(T, 0, 0.0));
+
+        DMatrixRMaj found = lower ? CommonOps_DDRM.multTransB(T, T, null) : CommonOps_DDRM.multTransA(T, T, null);
+        double tol = UtilEjml.TEST_F64*CommonOps_DDRM.elementMaxAbs(expectedA);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expectedA, found, tol));
+    }
+}
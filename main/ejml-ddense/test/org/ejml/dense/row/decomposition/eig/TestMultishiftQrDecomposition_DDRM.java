@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestMultishiftQrDecomposition_DDRM extends GeneralEigenDecompositionCheck_DDRM {
+    // if not zero then the size of matrices processed with the double shift algorithm is changed
+    int nmin = 0;
+
+    @Override
+    public EigenDecomposition_F64<DMatrixRMaj> createDecomposition() {
+        var alg = new MultishiftQrDecomposition_DDRM(computeVectors);
+        if (nmin > 0)
+            alg.getSchur().nmin = nmin;
+        return alg;
+    }
+
+    @Test
+    @Override
+    public void allTests() {
+        super.allTests();
+        super.justEigenValues();
+    }
+
+    /**
+     * Run all the tests again but with the multishift algorithm being used on small matrices
+     */
+    @Test void allTests_smallNMin() {
+        nmin = 4;
+        allTests();
+    }
+
+    /**
+     * Matrices large enough for aggressive early deflation and the multishift sweep to be used.
+     * Compare against the double shift algorithm.
+     */
+    @Test void compareToWatched() {
+        for (boolean vectors : new boolean[]{true, false}) {
+            computeVectors = vectors;
+            nmin = 16;
+            int N = 80;
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+
+            EigenDecomposition_F64<DMatrixRMaj> alg = createDecomposition();
+            assertTrue(alg.decompose(A));
+            assertFalse(alg.inputModified());
+
+            var expected = new WatchedDoubleStepQRDecomposition_DDRM(false);
+            assertTrue(expected.decompose(A.copy()));
+
+            assertEquals(N, alg.getNumberOfEigenvalues());
+            var used = new boolean[N];
+            for (int i = 0; i < N; i++) {
+                Complex_F64 found = alg.getEigenvalue(i);
+                int best = -1;
+                double bestDistance = Double.MAX_VALUE;
+                for (int j = 0; j < N; j++) {
+                    if (used[j])
+                        continue;
+                    Complex_F64 e = expected.getEigenvalue(j);
+                    double d = Math.abs(e.real - found.real) + Math.abs(e.imaginary - found.imaginary);
+                    if (d < bestDistance) {
+                        bestDistance = d;
+                        best = j;
+                    }
+                }
+                used[best] = true;
+                assertEquals(0.0, bestDistance, UtilEjml.TEST_F64_SQ);
+            }
+
+            performStandardTests(alg, A, -1);
+        }
+    }
+
+    /**
+     * The input matrix should not be modified
+     */
+    @Test void inputNotModified() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(20, 20, -1, 1, rand);
+        DMatrixRMaj A_orig = A.copy();
+        assertTrue(createDecomposition().decompose(A));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A_orig, A, 0.0));
+    }
+}
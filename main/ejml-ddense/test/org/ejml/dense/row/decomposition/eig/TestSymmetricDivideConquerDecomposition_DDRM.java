@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig;
+
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.EigenOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.eig.symm.SymmetricTridiagonalDivideConquer_DDRM;
+import org.ejml.dense.row.decomposition.hessenberg.TridiagonalDecompositionHouseholder_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSymmetricDivideConquerDecomposition_DDRM extends GeneralEigenDecompositionCheck_DDRM {
+    int leafSize;
+
+    @Override
+    public EigenDecomposition_F64<DMatrixRMaj> createDecomposition() {
+        var solver = new SymmetricTridiagonalDivideConquer_DDRM();
+        solver.setLeafSize(leafSize);
+        return new SymmetricDivideConquerDecomposition_DDRM(new TridiagonalDecompositionHouseholder_DDRM(), solver);
+    }
+
+    /**
+     * Small leaves will cause matrices in the standard tests to be split and merged
+     */
+    @Test void justSymmetricTests() {
+        computeVectors = true;
+        for (int leafSize : new int[]{1, 2, 3, 25}) {
+            this.leafSize = leafSize;
+
+            zeroShapeMatrix();
+            checkRandomSymmetric();
+            checkIdentity();
+            checkAllZeros();
+            checkWithSomeRepeatedValuesSymm();
+            checkWithSingularSymm();
+            checkSmallValue(true);
+            checkLargeValue(true);
+        }
+    }
+
+    /**
+     * Compare against the QR algorithm on larger matrices with several levels in the tree
+     */
+    @Test void compareToQR() {
+        leafSize = 8;
+        for (int N : new int[]{50, 131}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.symmetric(N, -1, 1, rand);
+            checkAgainstQR(A);
+        }
+    }
+
+    /**
+     * Lots of repeated eigenvalues, which will cause most of the eigenvalues to be deflated
+     */
+    @Test void repeatedEigenvalues() {
+        leafSize = 4;
+        int N = 60;
+        var ev = new double[N];
+        for (int i = 0; i < N; i++) {
+            ev[i] = i%3 - 1;
+        }
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetricWithEigenvalues(N, rand, ev);
+        checkAgainstQR(A);
+    }
+
+    /**
+     * Eigenvalues should be in increasing order
+     */
+    @Test void sorted() {
+        leafSize = 5;
+        DMatrixRMaj A = RandomMatrices_DDRM.symmetric(40, -1, 1, rand);
+        EigenDecomposition_F64<DMatrixRMaj> alg = createDecomposition();
+        assertTrue(alg.decompose(A.copy()));
+        for (int i = 1; i < alg.getNumberOfEigenvalues(); i++) {
+            assertTrue(alg.getEigenvalue(i - 1).real <= alg.getEigenvalue(i).real);
+        }
+    }
+
+    /**
+     * The factory should select this algorithm for large symmetric matrices when vectors are needed
+     */
+    @Test void factory() {
+        int N = EjmlParameters.SWITCH_EIG_DIVIDE_CONQUER;
+        assertTrue(DecompositionFactory_DDRM.eig(N, true, true) instanceof SymmetricDivideConquerDecomposition_DDRM);
+        assertTrue(DecompositionFactory_DDRM.eig(N - 1, true, true) instanceof SymmetricQRAlgorithmDecomposition_DDRM);
+        assertTrue(DecompositionFactory_DDRM.eig(N, false, true) instanceof SymmetricQRAlgorithmDecomposition_DDRM);
+    }
+
+    private void checkAgainstQR( DMatrixRMaj A ) {
+        int N = A.numRows;
+        EigenDecomposition_F64<DMatrixRMaj> alg = createDecomposition();
+        assertTrue(alg.decompose(A.copy()));
+
+        var qr = DecompositionFactory_DDRM.eig(N, false, true);
+        assertTrue(qr.decompose(A.copy()));
+        double[] expected = new double[N];
+        double[] found = new double[N];
+        for (int i = 0; i < N; i++) {
+            expected[i] = qr.getEigenvalue(i).real;
+            found[i] = alg.getEigenvalue(i).real;
+        }
+        Arrays.sort(expected);
+        Arrays.sort(found);
+        for (int i = 0; i < N; i++) {
+            assertEquals(expected[i], found[i], UtilEjml.TEST_F64);
+        }
+
+        // A*V = V*D and V is orthogonal
+        DMatrixRMaj V = EigenOps_DDRM.createMatrixV(alg);
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(V, UtilEjml.TEST_F64));
+        DMatrixRMaj D = EigenOps_DDRM.createMatrixD(alg);
+        DMatrixRMaj AV = CommonOps_DDRM.mult(A, V, null);
+        DMatrixRMaj VD = CommonOps_DDRM.mult(V, D, null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(AV, VD, UtilEjml.TEST_F64));
+    }
+}
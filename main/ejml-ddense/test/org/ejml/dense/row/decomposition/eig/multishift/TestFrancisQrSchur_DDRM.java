@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestFrancisQrSchur_DDRM extends EjmlStandardJUnit {
+    @Test void schurForm() {
+        var alg = new FrancisQrSchur_DDRM();
+        for (int N = 1; N <= 20; N++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+            DMatrixRMaj T = A.copy();
+            DMatrixRMaj Z = CommonOps_DDRM.identity(N);
+            var wr = new double[N];
+            var wi = new double[N];
+
+            assertEquals(0, alg.process(true, true, T, 0, N - 1, wr, wi, 0, Z, 0, N - 1));
+            checkSchur(A, T, Z, wr, wi);
+        }
+    }
+
+    /**
+     * Only compute eigenvalues. They should be the same as when the full Schur form is computed
+     */
+    @Test void justEigenvalues() {
+        var alg = new FrancisQrSchur_DDRM();
+        int N = 15;
+        DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+        DMatrixRMaj T = A.copy();
+        DMatrixRMaj Z = CommonOps_DDRM.identity(N);
+        var wr = new double[N];
+        var wi = new double[N];
+        assertEquals(0, alg.process(true, true, T, 0, N - 1, wr, wi, 0, Z, 0, N - 1));
+
+        var foundR = new double[N + 2];
+        var foundI = new double[N + 2];
+        assertEquals(0, alg.process(false, false, A.copy(), 0, N - 1, foundR, foundI, 2, null, 0, 0));
+        checkSameEigenvalues(wr, wi, 0, foundR, foundI, 2, N);
+    }
+
+    /**
+     * Only process a block inside the matrix. Rows outside the block should be updated when wantT is true
+     */
+    @Test void subBlock() {
+        var alg = new FrancisQrSchur_DDRM();
+        int N = 12;
+        int ilo = 3, ihi = 8;
+        DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+        // decouple the block from the rest of the matrix
+        A.set(ilo, ilo - 1, 0.0);
+        A.set(ihi + 1, ihi, 0.0);
+        for (int i = 0; i < N; i++) {
+            if (i >= ilo && i <= ihi)
+                continue;
+            if (i > 0)
+                A.set(i, i - 1, 0.0);
+        }
+        DMatrixRMaj T = A.copy();
+        DMatrixRMaj Z = CommonOps_DDRM.identity(N);
+        var wr = new double[N];
+        var wi = new double[N];
+        assertEquals(0, alg.process(true, true, T, ilo, ihi, wr, wi, 0, Z, 0, N - 1));
+
+        for (int i = 0; i < N; i++) {
+            if (i < ilo || i > ihi) {
+                wr[i] = T.get(i, i);
+                wi[i] = 0.0;
+            }
+        }
+        checkSchur(A, T, Z, wr, wi);
+    }
+
+    /**
+     * Checks to see if T is a quasi-triangular matrix in standardized Schur form, Z is orthogonal,
+     * A = Z*T*Z<sup>T</sup>, and the eigenvalues match the diagonal blocks
+     */
+    static void checkSchur( DMatrixRMaj A, DMatrixRMaj T, DMatrixRMaj Z, double[] wr, double[] wi ) {
+        int N = A.numRows;
+        double tol = UtilEjml.TEST_F64*Math.max(1.0, CommonOps_DDRM.elementMaxAbs(A));
+
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(Z, UtilEjml.TEST_F64));
+
+        DMatrixRMaj ZT = new DMatrixRMaj(N, N);
+        DMatrixRMaj found = new DMatrixRMaj(N, N);
+        CommonOps_DDRM.mult(Z, T, ZT);
+        CommonOps_DDRM.multTransB(ZT, Z, found);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found, tol));
+
+        for (int i = 0; i < N; i++) {
+            for (int j = 0; j < i - 1; j++) {
+                assertEquals(0.0, T.get(i, j), tol);
+            }
+        }
+
+        for (int i = 0; i < N; ) {
+            if (i + 1 < N && T.get(i + 1, i) != 0.0) {
+                // standardized 2 by 2 block
+                assertTrue(i + 2 >= N || T.get(i + 2, i + 1) == 0.0);
+                assertEquals(T.get(i, i), T.get(i + 1, i + 1), tol);
+                assertTrue(T.get(i, i + 1)*T.get(i + 1, i) < 0);
+                double imag = Math.sqrt(Math.abs(T.get(i, i + 1)))*Math.sqrt(Math.abs(T.get(i + 1, i)));
+                assertEquals(T.get(i, i), wr[i], tol);
+                assertEquals(T.get(i, i), wr[i + 1], tol);
+                assertEquals(imag, wi[i], tol);
+                assertEquals(-imag, wi[i + 1], tol);
+                i += 2;
+            } else {
+                assertEquals(T.get(i, i), wr[i], tol);
+                assertEquals(0.0, wi[i]);
+                i += 1;
+            }
+        }
+    }
+
+    /**
+     * Checks to see if the two sets of eigenvalues are the same, ignoring the order
+     */
+    static void checkSameEigenvalues( double[] expectedR, double[] expectedI, int offsetExpected,
+                                      double[] foundR, double[] foundI, int offsetFound, int N ) {
+        var used = new boolean[N];
+        double tol = UtilEjml.TEST_F64_SQ;
+        for (int i = 0; i < N; i++) {
+            double er = expectedR[offsetExpected + i];
+            double ei = expectedI[offsetExpected + i];
+            int best = -1;
+            double bestDistance = Double.MAX_VALUE;
+            for (int j = 0; j < N; j++) {
+                if (used[j])
+                    continue;
+                double d = Math.abs(er - foundR[offsetFound + j]) + Math.abs(ei - foundI[offsetFound + j]);
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = j;
+                }
+            }
+            used[best] = true;
+            assertEquals(0.0, bestDistance, tol*Math.max(1.0, Math.abs(er) + Math.abs(ei)));
+        }
+    }
+}
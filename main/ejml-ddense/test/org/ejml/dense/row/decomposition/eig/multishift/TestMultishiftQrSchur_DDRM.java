@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.decomposition.hessenberg.HessenbergSimilarDecomposition_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.ejml.dense.row.decomposition.eig.multishift.TestFrancisQrSchur_DDRM.checkSameEigenvalues;
+import static org.ejml.dense.row.decomposition.eig.multishift.TestFrancisQrSchur_DDRM.checkSchur;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestMultishiftQrSchur_DDRM extends EjmlStandardJUnit {
+    /**
+     * Use a small value for nmin so that AED, the bulge chase, and recursion are all exercised
+     */
+    @Test void schurForm() {
+        for (int N : new int[]{1, 5, 16, 40, 90}) {
+            var alg = new MultishiftQrSchur_DDRM();
+            alg.nmin = 12;
+
+            DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+            DMatrixRMaj T = A.copy();
+            DMatrixRMaj Z = CommonOps_DDRM.identity(N);
+            var wr = new double[N];
+            var wi = new double[N];
+
+            assertEquals(0, alg.process(true, true, T, 0, N - 1, wr, wi, 0, Z, 0, N - 1));
+            checkSchur(A, T, Z, wr, wi);
+        }
+    }
+
+    /**
+     * Compare the eigenvalues against the double shift algorithm
+     */
+    @Test void compareToFrancis() {
+        int N = 70;
+        DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+
+        var expectedR = new double[N];
+        var expectedI = new double[N];
+        assertEquals(0, new FrancisQrSchur_DDRM().process(false, false, A.copy(), 0, N - 1,
+                expectedR, expectedI, 0, null, 0, 0));
+
+        var alg = new MultishiftQrSchur_DDRM();
+        alg.nmin = 12;
+        var foundR = new double[N];
+        var foundI = new double[N];
+        assertEquals(0, alg.process(false, false, A.copy(), 0, N - 1, foundR, foundI, 0, null, 0, 0));
+        checkSameEigenvalues(expectedR, expectedI, 0, foundR, foundI, 0, N);
+    }
+
+    /**
+     * A matrix with lots of repeated eigenvalues, which stresses deflation
+     */
+    @Test void repeatedEigenvalues() {
+        int N = 60;
+        // create a non-symmetric matrix with known eigenvalues
+        DMatrixRMaj P = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+        DMatrixRMaj P_inv = P.copy();
+        assertTrue(CommonOps_DDRM.invert(P_inv));
+        DMatrixRMaj PD = new DMatrixRMaj(N, N);
+        DMatrixRMaj A = new DMatrixRMaj(N, N);
+        CommonOps_DDRM.mult(P, CommonOps_DDRM.diag(createRepeated(N)), PD);
+        CommonOps_DDRM.mult(PD, P_inv, A);
+
+        var hessenberg = new HessenbergSimilarDecomposition_DDRM();
+        assertTrue(hessenberg.decompose(A));
+        DMatrixRMaj H = hessenberg.getH(null);
+
+        var alg = new MultishiftQrSchur_DDRM();
+        alg.nmin = 12;
+        DMatrixRMaj T = H.copy();
+        DMatrixRMaj Z = CommonOps_DDRM.identity(N);
+        var wr = new double[N];
+        var wi = new double[N];
+        assertEquals(0, alg.process(true, true, T, 0, N - 1, wr, wi, 0, Z, 0, N - 1));
+        checkSchur(H, T, Z, wr, wi);
+
+        double[] expected = createRepeated(N);
+        var zeros = new double[N];
+        checkSameEigenvalues(expected, zeros, 0, wr, wi, 0, N);
+    }
+
+    private double[] createRepeated( int N ) {
+        var ev = new double[N];
+        for (int i = 0; i < N; i++) {
+            ev[i] = i%4 - 1.5;
+        }
+        return ev;
+    }
+
+    @Test void recommendedShifts() {
+        for (int nh = 1; nh < 10_000; nh += 7) {
+            int ns = MultishiftQrSchur_DDRM.recommendedShifts(nh);
+            assertTrue(ns >= 2);
+            assertTrue(ns <= Math.max(2, nh));
+            assertEquals(0, ns%2);
+        }
+    }
+
+    /**
+     * Compare against explicitly computing (H - s1*I)*(H - s2*I)*e1
+     */
+    @Test void firstColumn() {
+        DMatrixRMaj H = RandomMatrices_DDRM.triangularUpper(5, 1, -1, 1, rand);
+        double re = 0.4, im = 0.7;
+
+        // complex conjugate pair of shifts gives a real result: H^2 - 2*re*H + (re^2 + im^2)*I
+        // only the sub-matrix which starts at row 1 is used
+        DMatrixRMaj S = CommonOps_DDRM.extract(H, 1, 5, 1, 5);
+        DMatrixRMaj SS = new DMatrixRMaj(4, 4);
+        CommonOps_DDRM.mult(S, S, SS);
+        var expected = new double[3];
+        for (int i = 0; i < 3; i++) {
+            expected[i] = SS.get(i, 0) - 2*re*S.get(i, 0) + (i == 0 ? re*re + im*im : 0.0);
+        }
+
+        var found = new double[4];
+        MultishiftQrSchur_DDRM.firstColumn(3, H, 1, re, im, re, -im, found, 1);
+
+        // the result is only correct up to a scale factor
+        double scale = expected[0]/found[1];
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected[i], found[i + 1]*scale, UtilEjml.TEST_F64);
+        }
+    }
+}
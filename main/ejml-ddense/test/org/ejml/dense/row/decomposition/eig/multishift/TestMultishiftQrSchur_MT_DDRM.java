@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestMultishiftQrSchur_MT_DDRM extends EjmlStandardJUnit {
+    @Test void compareToSingle() {
+        int N = 90;
+        DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+
+        var single = new MultishiftQrSchur_DDRM();
+        var concurrent = new MultishiftQrSchur_MT_DDRM();
+        single.nmin = concurrent.nmin = 12;
+
+        DMatrixRMaj expectedT = A.copy();
+        DMatrixRMaj expectedZ = CommonOps_DDRM.identity(N);
+        var expectedR = new double[N];
+        var expectedI = new double[N];
+        assertEquals(0, single.process(true, true, expectedT, 0, N - 1, expectedR, expectedI, 0, expectedZ, 0, N - 1));
+
+        DMatrixRMaj foundT = A.copy();
+        DMatrixRMaj foundZ = CommonOps_DDRM.identity(N);
+        var foundR = new double[N];
+        var foundI = new double[N];
+        assertEquals(0, concurrent.process(true, true, foundT, 0, N - 1, foundR, foundI, 0, foundZ, 0, N - 1));
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expectedT, foundT, UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expectedZ, foundZ, UtilEjml.TEST_F64));
+        for (int i = 0; i < N; i++) {
+            assertEquals(expectedR[i], foundR[i], UtilEjml.TEST_F64);
+            assertEquals(expectedI[i], foundI[i], UtilEjml.TEST_F64);
+        }
+    }
+}
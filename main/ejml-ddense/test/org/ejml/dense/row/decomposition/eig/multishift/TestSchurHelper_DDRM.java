@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestSchurHelper_DDRM extends EjmlStandardJUnit {
+    /**
+     * Apply the reflector to the original vector and see if all but the first element is zero
+     */
+    @Test void householder() {
+        for (int n = 1; n <= 6; n++) {
+            int offset = 2;
+            var v = new double[n + offset];
+            for (int i = 0; i < v.length; i++) {
+                v[i] = (double)rand.nextGaussian();
+            }
+            double[] original = v.clone();
+
+            double tau = SchurHelper_DDRM.householder(n, v, offset);
+            double beta = v[offset];
+            v[offset] = 1.0;
+
+            // (I - tau*u*u^T)*x = [beta, 0 ...]
+            double dot = 0;
+            for (int i = 0; i < n; i++) {
+                dot += v[offset + i]*original[offset + i];
+            }
+            for (int i = 0; i < n; i++) {
+                double found = original[offset + i] - tau*v[offset + i]*dot;
+                assertEquals(i == 0 ? beta : 0.0, found, UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    @Test void hypot() {
+        assertEquals(5.0, SchurHelper_DDRM.hypot(3, -4), UtilEjml.TEST_F64);
+        assertEquals(0.0, SchurHelper_DDRM.hypot(0, 0));
+        assertEquals(5e20, SchurHelper_DDRM.hypot(3e20, 4e20), 5e20*UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Compare 3 element reflectors and rotations against explicitly multiplying matrices
+     */
+    @Test void reflectAndRotate() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(5, 5, -1, 1, rand);
+        var u = new double[]{1.0, 0.3, -0.6};
+        double tau = 2.0/(1.0 + 0.09 + 0.36);
+
+        DMatrixRMaj found = A.copy();
+        SchurHelper_DDRM.reflectLeft3(u, tau, found, 1, 0, 5);
+        for (int col = 0; col < 5; col++) {
+            double dot = A.get(1, col) + 0.3*A.get(2, col) - 0.6*A.get(3, col);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(A.get(1 + i, col) - tau*u[i]*dot, found.get(1 + i, col), UtilEjml.TEST_F64);
+            }
+        }
+
+        found = A.copy();
+        SchurHelper_DDRM.reflectRight3(u, tau, found, 0, 5, 2);
+        for (int row = 0; row < 5; row++) {
+            double dot = A.get(row, 2) + 0.3*A.get(row, 3) - 0.6*A.get(row, 4);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(A.get(row, 2 + i) - tau*u[i]*dot, found.get(row, 2 + i), UtilEjml.TEST_F64);
+            }
+        }
+
+        double c = 0.6, s = 0.8;
+        found = A.copy();
+        SchurHelper_DDRM.rotateRows(found, 2, 0, 5, c, s);
+        for (int col = 0; col < 5; col++) {
+            assertEquals(c*A.get(2, col) + s*A.get(3, col), found.get(2, col), UtilEjml.TEST_F64);
+            assertEquals(c*A.get(3, col) - s*A.get(2, col), found.get(3, col), UtilEjml.TEST_F64);
+        }
+        found = A.copy();
+        SchurHelper_DDRM.rotateCols(found, 1, 0, 5, c, s);
+        for (int row = 0; row < 5; row++) {
+            assertEquals(c*A.get(row, 1) + s*A.get(row, 2), found.get(row, 1), UtilEjml.TEST_F64);
+            assertEquals(c*A.get(row, 2) - s*A.get(row, 1), found.get(row, 2), UtilEjml.TEST_F64);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.ejml.dense.row.decomposition.eig.multishift.TestFrancisQrSchur_DDRM.checkSchur;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSchurReorder_DDRM extends EjmlStandardJUnit {
+    int N = 10;
+
+    /**
+     * Move every block to every other location and see if it's still a valid Schur form
+     */
+    @Test void moveBlock() {
+        DMatrixRMaj A = RandomMatrices_DDRM.triangularUpper(N, 1, -1, 1, rand);
+        var schur = new FrancisQrSchur_DDRM();
+        DMatrixRMaj T0 = A.copy();
+        DMatrixRMaj Z0 = CommonOps_DDRM.identity(N);
+        var wr = new double[N];
+        var wi = new double[N];
+        assertEquals(0, schur.process(true, true, T0, 0, N - 1, wr, wi, 0, Z0, 0, N - 1));
+
+        var foundR = new double[N];
+        var foundI = new double[N];
+        var alg = new SchurReorder_DDRM();
+        for (int ifst = 0; ifst < N; ifst++) {
+            // skip the second row in a 2 by 2 block
+            if (ifst > 0 && T0.get(ifst, ifst - 1) != 0.0)
+                continue;
+            boolean complex = ifst + 1 < N && T0.get(ifst + 1, ifst) != 0.0;
+            double expectedR = wr[ifst];
+            double expectedI = Math.abs(wi[ifst]);
+
+            for (int ilst = 0; ilst < N; ilst++) {
+                DMatrixRMaj T = T0.copy();
+                DMatrixRMaj Z = Z0.copy();
+                assertTrue(alg.moveBlock(T, Z, ifst, ilst));
+
+                // the block should be at the new location
+                int i = alg.ilst;
+                assertTrue(Math.abs(i - ilst) <= 1);
+                assertEquals(expectedR, T.get(i, i), UtilEjml.TEST_F64);
+                if (complex) {
+                    double imag = Math.sqrt(Math.abs(T.get(i, i + 1)))*Math.sqrt(Math.abs(T.get(i + 1, i)));
+                    assertEquals(expectedI, imag, UtilEjml.TEST_F64);
+                }
+
+                computeEigenvalues(T, foundR, foundI);
+                checkSchur(A, T, Z, foundR, foundI);
+            }
+        }
+    }
+
+    /**
+     * Swap two 1 by 1 blocks with a known solution
+     */
+    @Test void swap_1x1() {
+        var T = new DMatrixRMaj(2, 2, true, 1, 3, 0, 2);
+        DMatrixRMaj A = T.copy();
+        DMatrixRMaj Z = CommonOps_DDRM.identity(2);
+
+        assertTrue(new SchurReorder_DDRM().swap(T, Z, 0, 1, 1));
+        assertEquals(2.0, T.get(0, 0), UtilEjml.TEST_F64);
+        assertEquals(1.0, T.get(1, 1), UtilEjml.TEST_F64);
+        assertEquals(0.0, T.get(1, 0), UtilEjml.TEST_F64);
+        checkSchur(A, T, Z, new double[]{2, 1}, new double[2]);
+    }
+
+    private void computeEigenvalues( DMatrixRMaj T, double[] wr, double[] wi ) {
+        for (int i = 0; i < N; ) {
+            if (i + 1 < N && T.get(i + 1, i) != 0.0) {
+                double imag = Math.sqrt(Math.abs(T.get(i, i + 1)))*Math.sqrt(Math.abs(T.get(i + 1, i)));
+                wr[i] = wr[i + 1] = T.get(i, i);
+                wi[i] = imag;
+                wi[i + 1] = -imag;
+                i += 2;
+            } else {
+                wr[i] = T.get(i, i);
+                wi[i] = 0.0;
+                i++;
+            }
+        }
+    }
+}
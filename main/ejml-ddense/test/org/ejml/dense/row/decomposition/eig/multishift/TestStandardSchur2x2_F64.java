@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.multishift;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestStandardSchur2x2_F64 extends EjmlStandardJUnit {
+    StandardSchur2x2_F64 alg = new StandardSchur2x2_F64();
+
+    @Test void random() {
+        for (int trial = 0; trial < 200; trial++) {
+            check((double)rand.nextGaussian(), (double)rand.nextGaussian(), (double)rand.nextGaussian(), (double)rand.nextGaussian());
+        }
+    }
+
+    @Test void specialCases() {
+        // already triangular
+        check(1, 2, 0, 3);
+        // only b is zero
+        check(1, 0, 2, 3);
+        // diagonal elements are equal
+        check(2, 1, -1, 2);
+        check(2, 1, 1, 2);
+        check(0, 0, 0, 0);
+        // large and small values
+        check(1e20, 1e-20, 1e-20, 1);
+    }
+
+    void check( double a, double b, double c, double d ) {
+        alg.process(a, b, c, d);
+        double scale = Math.max(1.0, Math.max(Math.max(Math.abs(a), Math.abs(b)), Math.max(Math.abs(c), Math.abs(d))));
+        double tol = UtilEjml.TEST_F64*scale;
+
+        // standardized form
+        if (alg.c != 0.0) {
+            assertEquals(alg.a, alg.d, tol);
+            assertTrue(alg.b*alg.c < 0);
+            assertTrue(alg.rt1i > 0);
+            assertEquals(-alg.rt1i, alg.rt2i);
+        } else {
+            assertEquals(0.0, alg.rt1i);
+            assertEquals(0.0, alg.rt2i);
+        }
+
+        // rotation should be orthogonal
+        double cs = alg.cs, sn = alg.sn;
+        assertEquals(1.0, cs*cs + sn*sn, UtilEjml.TEST_F64);
+
+        // [a b;c d] = [cs -sn;sn cs]*[aa bb;cc dd]*[cs sn;-sn cs]
+        double m00 = cs*alg.a - sn*alg.c, m01 = cs*alg.b - sn*alg.d;
+        double m10 = sn*alg.a + cs*alg.c, m11 = sn*alg.b + cs*alg.d;
+        assertEquals(a, m00*cs - m01*sn, tol);
+        assertEquals(b, m00*sn + m01*cs, tol);
+        assertEquals(c, m10*cs - m11*sn, tol);
+        assertEquals(d, m10*sn + m11*cs, tol);
+
+        // eigenvalues have the same trace and determinant as the original matrix
+        assertEquals(a + d, alg.rt1r + alg.rt2r, tol);
+        double det = alg.rt1r*alg.rt2r - alg.rt1i*alg.rt2i;
+        assertEquals(a*d - b*c, det, tol*scale);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.eig.symm;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSymmetricTridiagonalDivideConquer_DDRM extends EjmlStandardJUnit {
+
+    public SymmetricTridiagonalDivideConquer_DDRM createAlg() {
+        return new SymmetricTridiagonalDivideConquer_DDRM();
+    }
+
+    @Test void random() {
+        for (int N : new int[]{1, 2, 10, 26, 100, 257}) {
+            double[] diag = new double[N];
+            double[] off = new double[N];
+            for (int i = 0; i < N; i++) {
+                diag[i] = (double)rand.nextGaussian();
+                off[i] = (double)rand.nextGaussian();
+            }
+            check(diag, off, N, 25);
+            check(diag, off, N, 3);
+        }
+    }
+
+    /**
+     * All the off diagonal elements are negative, which makes rho negative in every merge
+     */
+    @Test void negativeOffDiagonal() {
+        int N = 80;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = 2;
+            off[i] = -1;
+        }
+        check(diag, off, N, 4);
+    }
+
+    /**
+     * Wilkinson matrix has pairs of eigenvalues which are very close together
+     */
+    @Test void wilkinson() {
+        int N = 101;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = Math.abs(i - N/2);
+            off[i] = 1;
+        }
+        check(diag, off, N, 5);
+    }
+
+    /**
+     * Several Wilkinson matrices which are glued together by small elements. Most eigenvalues are deflated.
+     */
+    @Test void gluedWilkinson() {
+        int N = 21*6;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = Math.abs(i%21 - 10);
+            off[i] = (i + 1)%21 == 0 ? 1e-10 : 1;
+        }
+        check(diag, off, N, 8);
+    }
+
+    /**
+     * Off diagonal elements are zero so it's already diagonal
+     */
+    @Test void diagonal() {
+        int N = 40;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = i%4;
+        }
+        check(diag, off, N, 3);
+    }
+
+    @Test void zeroSize() {
+        SymmetricTridiagonalDivideConquer_DDRM alg = createAlg();
+        assertTrue(alg.process(new double[0], new double[0], 0));
+        assertEquals(0, alg.getEigenvectors().getNumElements());
+    }
+
+    private void check( double[] diag, double[] off, int N, int leafSize ) {
+        double[] diagCopy = diag.clone();
+        double[] offCopy = off.clone();
+
+        SymmetricTridiagonalDivideConquer_DDRM alg = createAlg();
+        alg.setLeafSize(leafSize);
+        assertTrue(alg.process(diag, off, N));
+
+        // input should not be modified
+        for (int i = 0; i < N; i++) {
+            assertEquals(diagCopy[i], diag[i]);
+            assertEquals(offCopy[i], off[i]);
+        }
+
+        DMatrixRMaj T = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            T.set(i, i, diag[i]);
+            if (i + 1 < N) {
+                T.set(i, i + 1, off[i]);
+                T.set(i + 1, i, off[i]);
+            }
+        }
+
+        double[] values = alg.getEigenvalues();
+        DMatrixRMaj Z = alg.getEigenvectors();
+        DMatrixRMaj D = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            D.set(i, i, values[i]);
+            if (i > 0)
+                assertTrue(values[i - 1] <= values[i]);
+        }
+
+        // T*Z = Z*D and Z is orthogonal
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(Z, UtilEjml.TEST_F64));
+        DMatrixRMaj TZ = CommonOps_DDRM.mult(T, Z, null);
+        DMatrixRMaj ZD = CommonOps_DDRM.mult(Z, D, null);
+        double tol = UtilEjml.TEST_F64*Math.max(1.0, NormOps_DDRM.normF(T));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(TZ, ZD, tol));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.block.decomposition.lu.LUDecompositionRightLooking_DDRB;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.linsol.lu.LinearSolverLu_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLUDecomposition_DDRB_to_DDRM extends GeneralLuDecompositionChecks_DDRM {
+    @Override
+    public LUDecompositionBase_DDRM create( int numRows, int numCols ) {
+        return new LUDecomposition_DDRB_to_DDRM(new LUDecompositionRightLooking_DDRB(), 2);
+    }
+
+    /**
+     * The row swaps found from the pivots must produce the same solution when solving a system
+     */
+    @Test void compareSolveToAlt() {
+        for (int N : new int[]{1, 7, 20, 33}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(N, N, -1, 1, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(N, 3, -1, 1, rand);
+
+            var expected = new LinearSolverLu_DDRM(new LUDecompositionAlt_DDRM());
+            var found = new LinearSolverLu_DDRM(new LUDecomposition_DDRB_to_DDRM(new LUDecompositionRightLooking_DDRB(), 6));
+            assertTrue(expected.setA(A));
+            assertTrue(found.setA(A));
+
+            DMatrixRMaj X_expected = new DMatrixRMaj(N, 3);
+            DMatrixRMaj X_found = new DMatrixRMaj(N, 3);
+            expected.solve(B, X_expected);
+            found.solve(B, X_found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(X_expected, X_found,
+                    UtilEjml.TEST_F64*CommonOps_DDRM.elementMaxAbs(X_expected)));
+
+            DMatrixRMaj inv_expected = new DMatrixRMaj(N, N);
+            DMatrixRMaj inv_found = new DMatrixRMaj(N, N);
+            expected.invert(inv_expected);
+            found.invert(inv_found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(inv_expected, inv_found,
+                    UtilEjml.TEST_F64*CommonOps_DDRM.elementMaxAbs(inv_expected)));
+
+            double detExpected = expected.getDecomposition().computeDeterminant().real;
+            double detFound = found.getDecomposition().computeDeterminant().real;
+            assertEquals(1.0, detFound/detExpected, UtilEjml.TEST_F64);
+        }
+    }
+}
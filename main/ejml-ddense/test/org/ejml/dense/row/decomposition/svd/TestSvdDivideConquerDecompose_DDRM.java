@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSvdDivideConquerDecompose_DDRM extends StandardSvdChecks_DDRM {
+    boolean compact;
+    boolean needU = true;
+    boolean needV = true;
+    int leafSize = 25;
+
+    @Override public SingularValueDecomposition_F64<DMatrixRMaj> createSvd() {
+        var alg = new SvdDivideConquerDecompose_DDRM(compact, needU, needV);
+        alg.getSolver().setLeafSize(leafSize);
+        return alg;
+    }
+
+    @Test void checkCompact() {
+        compact = true;
+        allTests();
+    }
+
+    @Test void checkNotCompact() {
+        compact = false;
+        allTests();
+    }
+
+    /**
+     * Small leaves so that the test matrices are split and merged
+     */
+    @Test void checkSmallLeaves() {
+        leafSize = 2;
+        compact = true;
+        allTests();
+        compact = false;
+        allTests();
+    }
+
+    /**
+     * Only the requested components are computed and the singular values don't change
+     */
+    @Test void checkPartial() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(40, 25, -1, 1, rand);
+        leafSize = 4;
+        compact = true;
+
+        SingularValueDecomposition_F64<DMatrixRMaj> alg = createSvd();
+        assertTrue(alg.decompose(A));
+        double[] expected = alg.getSingularValues().clone();
+
+        for (int i = 0; i < 4; i++) {
+            needU = i%2 == 0;
+            needV = i/2 == 0;
+            alg = createSvd();
+            assertTrue(alg.decompose(A));
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[j], alg.getSingularValues()[j], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    @Test void descendingOrder() {
+        for (int[] shape : new int[][]{{30, 20}, {20, 30}, {25, 25}}) {
+            leafSize = 3;
+            SingularValueDecomposition_F64<DMatrixRMaj> alg = createSvd();
+            assertTrue(alg.decompose(RandomMatrices_DDRM.rectangle(shape[0], shape[1], -1, 1, rand)));
+
+            double[] sv = alg.getSingularValues();
+            for (int i = 1; i < alg.numberOfSingularValues(); i++) {
+                assertTrue(sv[i - 1] >= sv[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.SingularOps_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdRandomized_DDRM extends EjmlStandardJUnit {
+    /**
+     * If the matrix has the same rank as the requested number of singular values then it should be exactly
+     * reconstructed
+     */
+    @Test
+    public void exactLowRank() {
+        DMatrixRMaj A = createLowRank(60, 40, new double[]{10, 5, 3, 1, 0.5}, rand);
+
+        var alg = new SvdRandomized_DDRM(5, 5, 0);
+        assertTrue(alg.decompose(A));
+        assertEquals(5, alg.numberOfSingularValues());
+
+        checkDecomposition(alg, 60, 40);
+
+        double[] found = alg.getSingularValues();
+        double[] expected = new double[]{10, 5, 3, 1, 0.5};
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected[i], found[i], UtilEjml.TEST_F64);
+        }
+
+        DMatrixRMaj found_A = reconstruct(alg);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, found_A, UtilEjml.TEST_F64));
+    }
+
+    /**
+     * Compare the largest singular values against a full SVD when the spectrum slowly decays
+     */
+    @Test
+    public void compareToFull() {
+        var sv = new double[30];
+        for (int i = 0; i < sv.length; i++) {
+            sv[i] = Math.pow(0.7, i);
+        }
+        for (boolean tall : new boolean[]{true, false}) {
+            DMatrixRMaj A = tall ? createLowRank(80, 30, sv, rand) : createLowRank(30, 80, sv, rand);
+
+            SingularValueDecomposition_F64<DMatrixRMaj> full = DecompositionFactory_DDRM.svd(true, true, true);
+            assertTrue(full.decompose(A.copy()));
+            double[] expected = full.getSingularValues().clone();
+            Arrays.sort(expected, 0, full.numberOfSingularValues());
+
+            var alg = new SvdRandomized_DDRM(6, 10, 2);
+            assertTrue(alg.decompose(A));
+            checkDecomposition(alg, A.numRows, A.numCols);
+
+            double[] found = alg.getSingularValues();
+            int N = full.numberOfSingularValues();
+            for (int i = 0; i < 6; i++) {
+                assertEquals(expected[N - 1 - i], found[i], UtilEjml.TEST_F64*100);
+            }
+        }
+    }
+
+    /**
+     * Power iterations should improve the accuracy when the spectrum decays slowly
+     */
+    @Test
+    public void powerIterationsImprove() {
+        var sv = new double[40];
+        for (int i = 0; i < sv.length; i++) {
+            sv[i] = 1.0/(1 + i);
+        }
+        DMatrixRMaj A = createLowRank(100, 40, sv, rand);
+
+        double error0 = reconstructionError(A, new SvdRandomized_DDRM(5, 2, 0));
+        double error2 = reconstructionError(A, new SvdRandomized_DDRM(5, 2, 3));
+        assertTrue(error2 < error0, error2 + " " + error0);
+        // Best possible is the 6th singular value
+        assertTrue(error2 < sv[5]*1.5);
+    }
+
+    /**
+     * Requested rank is larger than the matrix
+     */
+    @Test
+    public void rankLargerThanMatrix() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(12, 7, -1, 1, rand);
+
+        var alg = new SvdRandomized_DDRM(10, 5, 1);
+        assertTrue(alg.decompose(A));
+        assertEquals(7, alg.numberOfSingularValues());
+        checkDecomposition(alg, 12, 7);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(A, reconstruct(alg), UtilEjml.TEST_F64));
+    }
+
+    /**
+     * Same seed should produce the same results and the input should not be modified
+     */
+    @Test
+    public void repeatable() {
+        DMatrixRMaj A = RandomMatrices_DDRM.rectangle(30, 20, -1, 1, rand);
+        DMatrixRMaj copy = A.copy();
+
+        var alg = new SvdRandomized_DDRM(4, 3, 1);
+        alg.setSeed(234);
+        assertTrue(alg.decompose(A));
+        double[] first = alg.getSingularValues().clone();
+        alg.setSeed(234);
+        assertTrue(alg.decompose(A));
+
+        assertFalse(alg.inputModified());
+        assertTrue(MatrixFeatures_DDRM.isIdentical(copy, A, 0));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(first[i], alg.getSingularValues()[i], 0.0);
+        }
+    }
+
+    static void checkDecomposition( SingularValueDecomposition_F64<DMatrixRMaj> alg, int numRows, int numCols ) {
+        int k = alg.numberOfSingularValues();
+        DMatrixRMaj U = alg.getU(null, false);
+        DMatrixRMaj Ut = alg.getU(null, true);
+        DMatrixRMaj V = alg.getV(null, false);
+        DMatrixRMaj Vt = alg.getV(null, true);
+        DMatrixRMaj W = alg.getW(null);
+
+        assertEquals(numRows, U.numRows);
+        assertEquals(k, U.numCols);
+        assertEquals(numCols, V.numRows);
+        assertEquals(k, V.numCols);
+        assertEquals(k, W.numRows);
+        assertEquals(k, W.numCols);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(U, CommonOps_DDRM.transpose(Ut, null), 0));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(V, CommonOps_DDRM.transpose(Vt, null), 0));
+
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(U, UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(V, UtilEjml.TEST_F64));
+
+        // singular values should be in descending order
+        double[] sv = alg.getSingularValues();
+        for (int i = 1; i < k; i++) {
+            assertTrue(sv[i - 1] >= sv[i]);
+            assertEquals(sv[i], W.get(i, i), 0.0);
+        }
+    }
+
+    static DMatrixRMaj reconstruct( SingularValueDecomposition_F64<DMatrixRMaj> alg ) {
+        DMatrixRMaj U = alg.getU(null, false);
+        DMatrixRMaj Vt = alg.getV(null, true);
+        DMatrixRMaj W = alg.getW(null);
+        return mult(U, W, Vt);
+    }
+
+    static double reconstructionError( DMatrixRMaj A, SvdRandomized_DDRM alg ) {
+        assertTrue(alg.decompose(A));
+        DMatrixRMaj found = reconstruct(alg);
+        CommonOps_DDRM.subtractEquals(found, A);
+        return SingularOps_DDRM.singularValues(found)[0];
+    }
+
+    /**
+     * Creates a matrix with random singular vectors and the specified singular values
+     */
+    public static DMatrixRMaj createLowRank( int numRows, int numCols, double[] sv, Random rand ) {
+        int k = sv.length;
+        DMatrixRMaj U = RandomMatrices_DDRM.orthogonal(numRows, k, rand);
+        DMatrixRMaj V = RandomMatrices_DDRM.orthogonal(numCols, k, rand);
+        DMatrixRMaj W = CommonOps_DDRM.diag(sv);
+        return mult(U, W, CommonOps_DDRM.transpose(V, null));
+    }
+
+    static DMatrixRMaj mult( DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj c ) {
+        var ab = new DMatrixRMaj(a.numRows, b.numCols);
+        CommonOps_DDRM.mult(a, b, ab);
+        var out = new DMatrixRMaj(a.numRows, c.numCols);
+        CommonOps_DDRM.mult(ab, c, out);
+        return out;
+    }
+}
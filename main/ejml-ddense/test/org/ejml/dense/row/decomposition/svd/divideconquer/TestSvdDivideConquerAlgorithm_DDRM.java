@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.decomposition.svd.divideconquer;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestSvdDivideConquerAlgorithm_DDRM extends EjmlStandardJUnit {
+
+    public SvdDivideConquerAlgorithm_DDRM createAlg() {
+        return new SvdDivideConquerAlgorithm_DDRM();
+    }
+
+    @Test void random() {
+        for (int N : new int[]{1, 2, 10, 26, 100, 201}) {
+            double[] diag = new double[N];
+            double[] off = new double[N];
+            for (int i = 0; i < N; i++) {
+                diag[i] = (double)rand.nextGaussian();
+                off[i] = (double)rand.nextGaussian();
+            }
+            check(diag, off, N, 25);
+            check(diag, off, N, 3);
+            check(diag, off, N, 1);
+        }
+    }
+
+    /**
+     * Many of the elements are zero, which causes a lot of deflation
+     */
+    @Test void sparse() {
+        int N = 90;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = rand.nextInt(3) == 0 ? 0 : (double)rand.nextGaussian();
+            off[i] = rand.nextInt(3) == 0 ? 0 : (double)rand.nextGaussian();
+        }
+        check(diag, off, N, 4);
+    }
+
+    /**
+     * Singular values span many orders of magnitude
+     */
+    @Test void graded() {
+        int N = 60;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = Math.pow(10, -i*0.2);
+            off[i] = Math.pow(10, -i*0.2 - 0.1);
+        }
+        check(diag, off, N, 5);
+    }
+
+    /**
+     * All the singular values are the same
+     */
+    @Test void identity() {
+        int N = 50;
+        double[] diag = new double[N];
+        double[] off = new double[N];
+        for (int i = 0; i < N; i++) {
+            diag[i] = 1;
+        }
+        check(diag, off, N, 4);
+    }
+
+    @Test void zero() {
+        int N = 30;
+        check(new double[N], new double[N], N, 4);
+    }
+
+    @Test void zeroSize() {
+        SvdDivideConquerAlgorithm_DDRM alg = createAlg();
+        assertTrue(alg.process(new double[0], new double[0], 0));
+        assertEquals(0, alg.getU().getNumElements());
+    }
+
+    private void check( double[] diag, double[] off, int N, int leafSize ) {
+        double[] diagCopy = diag.clone();
+        double[] offCopy = off.clone();
+
+        SvdDivideConquerAlgorithm_DDRM alg = createAlg();
+        alg.setLeafSize(leafSize);
+        assertTrue(alg.process(diag, off, N));
+
+        // input should not be modified
+        for (int i = 0; i < N; i++) {
+            assertEquals(diagCopy[i], diag[i]);
+            assertEquals(offCopy[i], off[i]);
+        }
+
+        DMatrixRMaj B = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            B.set(i, i, diag[i]);
+            if (i + 1 < N)
+                B.set(i, i + 1, off[i]);
+        }
+
+        double[] values = alg.getSingularValues();
+        DMatrixRMaj W = new DMatrixRMaj(N, N);
+        for (int i = 0; i < N; i++) {
+            W.set(i, i, values[i]);
+            assertTrue(values[i] >= 0);
+            if (i > 0)
+                assertTrue(values[i - 1] <= values[i]);
+        }
+
+        // B = U*W*V^T and U, V are orthogonal
+        DMatrixRMaj U = alg.getU();
+        DMatrixRMaj V = alg.getV();
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(U, UtilEjml.TEST_F64));
+        assertTrue(MatrixFeatures_DDRM.isOrthogonal(V, UtilEjml.TEST_F64));
+        DMatrixRMaj UW = CommonOps_DDRM.mult(U, W, null);
+        DMatrixRMaj found = CommonOps_DDRM.multTransB(UW, V, null);
+        double tol = UtilEjml.TEST_F64*Math.max(1.0, CommonOps_DDRM.elementMaxAbs(B));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(B, found, tol));
+    }
+}
@@ -18,9 +18,16 @@
 
 package org.ejml.dense.row.linsol.chol;
 
+import org.ejml.UtilEjml;
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
 import org.ejml.dense.row.decomposition.chol.CholeskyDecompositionInner_DDRM;
 import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestLinearSolverChol_DDRM extends BaseCholeskySolveTests_DDRM {
 
@@ -29,4 +36,37 @@ public class TestLinearSolverChol_DDRM extends BaseCholeskySolveTests_DDRM {
         CholeskyDecompositionInner_DDRM alg = new CholeskyDecompositionInner_DDRM(true);
         return new LinearSolverChol_DDRM(alg);
     }
+
+    /**
+     * Add and remove rows from the decomposition and see if solve() gives the same solution as a new solver
+     */
+    @Test void updateDowndate() {
+        int n = 8;
+        DMatrixRMaj J = RandomMatrices_DDRM.rectangle(20, n, rand);
+        DMatrixRMaj V = RandomMatrices_DDRM.rectangle(3, n, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(n, 2, rand);
+
+        var alg = (LinearSolverChol_DDRM)createSolver();
+        assertTrue(alg.setA(CommonOps_DDRM.multTransA(J, J, null)));
+
+        alg.update(V);
+        DMatrixRMaj A = CommonOps_DDRM.multTransA(J, J, null);
+        CommonOps_DDRM.addEquals(A, CommonOps_DDRM.multTransA(V, V, null));
+        checkSolve(alg, A, B);
+
+        assertTrue(alg.downdate(V));
+        checkSolve(alg, CommonOps_DDRM.multTransA(J, J, null), B);
+    }
+
+    private void checkSolve( LinearSolverChol_DDRM alg, DMatrixRMaj A, DMatrixRMaj B ) {
+        DMatrixRMaj found = new DMatrixRMaj(A.numCols, B.numCols);
+        alg.solve(B, found);
+
+        DMatrixRMaj expected = new DMatrixRMaj(A.numCols, B.numCols);
+        LinearSolverDense<DMatrixRMaj> solver = createSolver();
+        assertTrue(solver.setA(A));
+        solver.solve(B, expected);
+
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
 }
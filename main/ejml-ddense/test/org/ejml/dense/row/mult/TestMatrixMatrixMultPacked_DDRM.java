@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.dense.row.mult;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pabeles.concurrency.GrowArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestMatrixMatrixMultPacked_DDRM extends EjmlStandardJUnit {
+    int defaultM = MatrixMatrixMultPacked_DDRM.BLOCK_M;
+    int defaultK = MatrixMatrixMultPacked_DDRM.BLOCK_K;
+    int defaultN = MatrixMatrixMultPacked_DDRM.BLOCK_N;
+
+    @AfterEach void restoreBlockSizes() {
+        MatrixMatrixMultPacked_DDRM.BLOCK_M = defaultM;
+        MatrixMatrixMultPacked_DDRM.BLOCK_K = defaultK;
+        MatrixMatrixMultPacked_DDRM.BLOCK_N = defaultN;
+    }
+
+    /**
+     * Shapes which are and are not multiples of the kernel's size
+     */
+    @Test void allVariants() {
+        int[][] shapes = {{1, 1, 1}, {4, 4, 4}, {5, 3, 7}, {13, 20, 9}, {33, 17, 65}};
+        for (int[] s : shapes) {
+            checkAllVariants(s[0], s[1], s[2]);
+        }
+    }
+
+    /**
+     * Make the blocks small so that the matrices are split into multiple blocks along every dimension
+     */
+    @Test void multipleBlocks() {
+        MatrixMatrixMultPacked_DDRM.BLOCK_M = 8;
+        MatrixMatrixMultPacked_DDRM.BLOCK_K = 6;
+        MatrixMatrixMultPacked_DDRM.BLOCK_N = 12;
+
+        checkAllVariants(8, 6, 12);
+        checkAllVariants(30, 25, 41);
+        checkAllVariants(3, 31, 2);
+    }
+
+    @Test void zeroInnerDimension() {
+        DMatrixRMaj A = new DMatrixRMaj(5, 0);
+        DMatrixRMaj B = new DMatrixRMaj(0, 4);
+        DMatrixRMaj C = RandomMatrices_DDRM.rectangle(5, 4, -1, 1, rand);
+        DMatrixRMaj original = C.copy();
+
+        MatrixMatrixMultPacked_DDRM.multAdd(2.0, A, B, C, null);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(original, C, 0.0));
+
+        MatrixMatrixMultPacked_DDRM.mult(2.0, A, B, C, null);
+        assertTrue(MatrixFeatures_DDRM.isZeros(C, 0.0));
+    }
+
+    /**
+     * The workspace should be reused between calls and not affect the results
+     */
+    @Test void reuseWorkspace() {
+        var workspace = new GrowArray<>(DGrowArray::new);
+
+        for (int trial = 0; trial < 3; trial++) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(20 + trial*7, 11, -1, 1, rand);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(11, 15 - trial*3, -1, 1, rand);
+            DMatrixRMaj found = new DMatrixRMaj(1, 1);
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+
+            MatrixMatrixMultPacked_DDRM.mult(1.5, A, B, found, workspace);
+            MatrixMatrixMult_DDRM.mult_small(1.5, A, B, expected);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+        }
+        assertEquals(1, workspace.size());
+    }
+
+    @Test void checkInputInstance() {
+        DMatrixRMaj A = new DMatrixRMaj(4, 4);
+        DMatrixRMaj B = new DMatrixRMaj(4, 4);
+        assertThrows(IllegalArgumentException.class, () -> MatrixMatrixMultPacked_DDRM.mult(1.0, A, B, A, null));
+        assertThrows(IllegalArgumentException.class, () -> MatrixMatrixMultPacked_DDRM.multAdd(1.0, A, B, B, null));
+    }
+
+    @Test void checkShape() {
+        DMatrixRMaj A = new DMatrixRMaj(4, 3);
+        DMatrixRMaj B = new DMatrixRMaj(4, 5);
+        DMatrixRMaj C = new DMatrixRMaj(4, 5);
+        assertThrows(MatrixDimensionException.class, () -> MatrixMatrixMultPacked_DDRM.mult(1.0, A, B, C, null));
+        assertThrows(MatrixDimensionException.class, () -> MatrixMatrixMultPacked_DDRM.multAdd(1.0, A, B, C, null));
+
+        // output is reshaped when not adding
+        DMatrixRMaj D = new DMatrixRMaj(2, 2);
+        MatrixMatrixMultPacked_DDRM.multTransA(1.0, A, B, D, null);
+        assertEquals(3, D.numRows);
+        assertEquals(5, D.numCols);
+    }
+
+    /**
+     * Compares every variant against a straight forward implementation
+     *
+     * @param M rows in C
+     * @param K inner dimension
+     * @param N columns in C
+     */
+    private void checkAllVariants( int M, int K, int N ) {
+        for (int variant = 0; variant < 4; variant++) {
+            boolean transA = (variant & 1) != 0;
+            boolean transB = (variant & 2) != 0;
+
+            DMatrixRMaj opA = RandomMatrices_DDRM.rectangle(M, K, -1, 1, rand);
+            DMatrixRMaj opB = RandomMatrices_DDRM.rectangle(K, N, -1, 1, rand);
+            DMatrixRMaj A = transA ? CommonOps_DDRM.transpose(opA, null) : opA;
+            DMatrixRMaj B = transB ? CommonOps_DDRM.transpose(opB, null) : opB;
+            double alpha = 0.5 + rand.nextDouble();
+
+            DMatrixRMaj expected = new DMatrixRMaj(M, N);
+            MatrixMatrixMult_DDRM.mult_small(alpha, opA, opB, expected);
+
+            // Fill it with garbage to make sure it's overwritten
+            DMatrixRMaj found = RandomMatrices_DDRM.rectangle(M, N, -1, 1, rand);
+            call(variant, false, alpha, A, B, found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64), "variant " + variant);
+
+            DMatrixRMaj C = RandomMatrices_DDRM.rectangle(M, N, -1, 1, rand);
+            CommonOps_DDRM.add(C, expected, expected);
+            call(variant, true, alpha, A, B, C);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, C, UtilEjml.TEST_F64), "add variant " + variant);
+        }
+    }
+
+    private static void call( int variant, boolean add, double alpha, DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj C ) {
+        switch (variant) {
+            case 0 -> {
+                if (add) MatrixMatrixMultPacked_DDRM.multAdd(alpha, A, B, C, null);
+                else MatrixMatrixMultPacked_DDRM.mult(alpha, A, B, C, null);
+            }
+            case 1 -> {
+                if (add) MatrixMatrixMultPacked_DDRM.multAddTransA(alpha, A, B, C, null);
+                else MatrixMatrixMultPacked_DDRM.multTransA(alpha, A, B, C, null);
+            }
+            case 2 -> {
+                if (add) MatrixMatrixMultPacked_DDRM.multAddTransB(alpha, A, B, C, null);
+                else MatrixMatrixMultPacked_DDRM.multTransB(alpha, A, B, C, null);
+            }
+            default -> {
+                if (add) MatrixMatrixMultPacked_DDRM.multAddTransAB(alpha, A, B, C, null);
+                else MatrixMatrixMultPacked_DDRM.multTransAB(alpha, A, B, C, null);
+            }
+        }
+    }
+}
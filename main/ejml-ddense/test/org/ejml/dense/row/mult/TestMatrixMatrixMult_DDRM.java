@@ -25,6 +25,7 @@ import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simd.EjmlSimd;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
@@ -122,6 +123,24 @@ public class TestMatrixMatrixMult_DDRM extends EjmlStandardJUnit {
         }
     }
 
+    /**
+     * Rows and columns which are long enough for the SIMD kernels to be used, if they are available
+     */
+    @Test void checkAgainstRandomLongRows() throws InvocationTargetException, IllegalAccessException {
+        int N = EjmlSimd.LENGTH_THRESHOLD;
+        for (int[] shape : new int[][]{{3, N, N}, {N + 1, N + 3, 5}, {2, 5, N + 7}}) {
+            DMatrixRMaj a_orig = RandomMatrices_DDRM.rectangle(shape[0], shape[1], rand);
+            DMatrixRMaj b_orig = RandomMatrices_DDRM.rectangle(shape[1], shape[2], rand);
+            DMatrixRMaj c_orig = RandomMatrices_DDRM.rectangle(shape[0], shape[2], rand);
+
+            DMatrixRMaj r_orig = RandomMatrices_DDRM.rectangle(shape[0], shape[2], rand);
+
+            MatrixMatrixMult_DDRM.mult_small(a_orig, b_orig, r_orig);
+
+            checkResults(a_orig, b_orig, c_orig, r_orig);
+        }
+    }
+
     /**
      * Sees if all the matrix multiplications produce the expected results against the provided
      * known solution.
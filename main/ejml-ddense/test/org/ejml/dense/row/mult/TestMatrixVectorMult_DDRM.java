@@ -25,6 +25,7 @@ import org.ejml.data.UtilTestMatrix;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simd.EjmlSimd;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
@@ -116,6 +117,37 @@ public class TestMatrixVectorMult_DDRM extends EjmlStandardJUnit {
         UtilTestMatrix.checkMat(c, 12, 19);
     }
 
+    /**
+     * Vectors long enough for the SIMD kernels to be used, if they are available. Compared against
+     * matrix multiplication.
+     */
+    @Test void longVectors() {
+        for (int length : new int[]{EjmlSimd.LENGTH_THRESHOLD, 101}) {
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(7, length, -1, 1, rand);
+            DMatrixRMaj x = RandomMatrices_DDRM.rectangle(length, 1, -1, 1, rand);
+            DMatrixRMaj y = RandomMatrices_DDRM.rectangle(7, 1, -1, 1, rand);
+
+            DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+            DMatrixRMaj found = new DMatrixRMaj(1, 1);
+            MatrixMatrixMult_DDRM.mult_small(A, x, expected);
+            MatrixVectorMult_DDRM.mult(A, x, found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+            CommonOps_DDRM.addEquals(expected, y);
+            MatrixVectorMult_DDRM.multAdd(A, x, y);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, y, UtilEjml.TEST_F64));
+
+            DMatrixRMaj B = CommonOps_DDRM.transpose(A, null);
+            MatrixMatrixMult_DDRM.multTransA_small(B, x, expected);
+            MatrixVectorMult_DDRM.multTransA_reorder(B, x, found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+
+            CommonOps_DDRM.addEquals(expected, found);
+            MatrixVectorMult_DDRM.multAddTransA_reorder(B, x, found);
+            assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+        }
+    }
+
     @Test void checkZeroRowsColumns() throws InvocationTargetException, IllegalAccessException {
         checkZeros(5, 0);
         checkZeros(0, 5);
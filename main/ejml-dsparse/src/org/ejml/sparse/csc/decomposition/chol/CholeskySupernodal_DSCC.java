@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.block.InnerMultiplication_DDRB;
+import org.ejml.dense.block.InnerTriangularSolver_DDRB;
+import org.ejml.dense.block.decomposition.chol.InnerCholesky_DDRB;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Left looking supernodal Cholesky decomposition of a {@link DMatrixSparseCSC}. Adjacent columns in L with the
+ * same structure below the diagonal are grouped into supernodes and each supernode is stored as a dense
+ * row-major panel. Updates from descendants and the factorization of each panel are done with the dense inner
+ * block kernels, {@link InnerMultiplication_DDRB}, {@link InnerCholesky_DDRB}, and
+ * {@link InnerTriangularSolver_DDRB}. When the supernodes are wide this is much faster than the scalar up-looking
+ * algorithm. After the panels have been factored they are copied into L.</p>
+ *
+ * <p>Fundamental supernodes are found using the elimination tree and column counts. Column j+1 is merged with
+ * column j if it is the only child of j+1 and has one more non-zero element. A fill reducing ordering which
+ * is postordered will produce larger supernodes, so internally the columns are processed in a postorder of the
+ * elimination tree. This is an equivalent ordering and doesn't change L. Fundamental supernodes tend to be small,
+ * so adjacent supernodes are then merged with their parent when only a few zeros are added. Those zeros are stored
+ * explicitly in L, which will have more non-zero elements than the one computed by
+ * {@link CholeskyUpLooking_DSCC}.</p>
+ *
+ * <p>See "Supernodal Sparse Cholesky Factorization" in chapter 9 of "Direct Methods for Sparse Linear Systems"
+ * by Timothy A. Davis and "Efficient Sparse Cholesky Factorization on a Parallel SIMD Computer" by
+ * Esmond G. Ng and Barry W. Peyton</p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskySupernodal_DSCC extends CholeskyUpLooking_DSCC {
+    // Number of supernodes
+    int numSuper;
+
+    // Inverse of the postorder. Supernodes and their rows are specified in the postordered columns
+    IGrowArray gpinv = new IGrowArray();
+    // Elimination tree and column counts in the postordered columns
+    IGrowArray gparentP = new IGrowArray();
+    IGrowArray gcountsP = new IGrowArray();
+
+    // First column in each supernode. Length is numSuper+1
+    IGrowArray gsuperCol = new IGrowArray();
+    // First column in the top most fundamental supernode that was merged into each supernode
+    IGrowArray gsuperTop = new IGrowArray();
+    // Supernode each column belongs to
+    IGrowArray gcolToSuper = new IGrowArray();
+    // Start of each supernode's row indexes in superRows. Length is numSuper+1
+    IGrowArray gsuperRowIdx = new IGrowArray();
+    // Row indexes in each supernode, sorted
+    IGrowArray gsuperRows = new IGrowArray();
+    // Start of each supernode's panel in values. Length is numSuper+1
+    IGrowArray gsuperValIdx = new IGrowArray();
+
+    // Dense row-major panels for each supernode
+    DGrowArray gvalues = new DGrowArray();
+
+    // Lower triangular portion of A
+    DMatrixSparseCSC At = new DMatrixSparseCSC(1, 1, 0);
+
+    // Workspace
+    DGrowArray gC = new DGrowArray();
+    IGrowArray gmap = new IGrowArray();
+    IGrowArray ghead = new IGrowArray();
+    IGrowArray gnext = new IGrowArray();
+    IGrowArray gpos = new IGrowArray();
+    IGrowArray gwork = new IGrowArray();
+
+    @Override
+    public void performSymbolic( DMatrixSparseCSC A ) {
+        super.performSymbolic(A);
+        int N = A.numCols;
+
+        int[] pinv = adjust(gpinv, N);
+        int[] parentP = adjust(gparentP, N);
+        int[] countsP = adjust(gcountsP, N);
+        for (int k = 0; k < N; k++) {
+            pinv[post[k]] = k;
+        }
+        for (int k = 0; k < N; k++) {
+            int p = parent[post[k]];
+            parentP[k] = p == -1 ? -1 : pinv[p];
+            countsP[k] = counts[post[k]];
+        }
+
+        findSupernodes(N);
+        findSupernodeRows(A);
+
+        // Relaxed supernodes have explicit zeros so the structure of L needs to be recomputed
+        int[] superCol = gsuperCol.data;
+        int[] superRowIdx = gsuperRowIdx.data;
+        int[] superRows = gsuperRows.data;
+        for (int s = 0; s < numSuper; s++) {
+            int rows = superRowIdx[s + 1] - superRowIdx[s];
+            for (int j = superCol[s]; j < superCol[s + 1]; j++) {
+                counts[post[j]] = rows - (j - superCol[s]);
+            }
+        }
+        L.histogramToStructure(counts);
+
+        for (int s = 0; s < numSuper; s++) {
+            int r0 = superRowIdx[s];
+            int r1 = superRowIdx[s + 1];
+            for (int j = superCol[s]; j < superCol[s + 1]; j++) {
+                // Rows in a column are its ancestors in the elimination tree, so they remain sorted
+                int index = L.col_idx[post[j]];
+                for (int i = r0 + j - superCol[s]; i < r1; i++) {
+                    L.nz_rows[index++] = post[superRows[i]];
+                }
+            }
+        }
+        L.indicesSorted = true;
+    }
+
+    /**
+     * Finds the fundamental supernodes using the elimination tree and column counts. Then a fundamental supernode
+     * is merged into its parent if they are adjacent and it would only add a few explicit zeros.
+     */
+    void findSupernodes( int N ) {
+        int[] parent = gparentP.data;
+        int[] counts = gcountsP.data;
+        int[] children = adjust(gwork, N);
+        Arrays.fill(children, 0, N, 0);
+        for (int j = 0; j < N; j++) {
+            if (parent[j] != -1)
+                children[parent[j]]++;
+        }
+
+        int[] superCol = adjust(gsuperCol, N + 1);
+        int[] superTop = adjust(gsuperTop, N);
+        numSuper = 0;
+
+        // Number of explicit zeros in the most recently added supernode
+        long zeros = 0;
+
+        int col0 = 0;
+        while (col0 < N) {
+            // find the end of the fundamental supernode
+            int col1 = col0 + 1;
+            while (col1 < N && parent[col1 - 1] == col1 && counts[col1 - 1] == counts[col1] + 1 &&
+                    children[col1] == 1) {
+                col1++;
+            }
+
+            // See if the previous supernode is a child of this one. If so consider merging it in
+            if (numSuper > 0 && parent[col0 - 1] >= col0 && parent[col0 - 1] < col1) {
+                int prev = numSuper - 1;
+                int widthPrev = col0 - superCol[prev];
+                int rowsPrev = superTop[prev] - superCol[prev] + counts[superTop[prev]];
+                int width = widthPrev + col1 - col0;
+                int rows = widthPrev + counts[col0];
+                long mergedZeros = zeros + (long)widthPrev*(rows - rowsPrev);
+                long total = (long)width*rows - (long)width*(width - 1)/2;
+
+                if (isRelaxedMerge(width, mergedZeros/(double)total)) {
+                    superTop[prev] = col0;
+                    zeros = mergedZeros;
+                    col0 = col1;
+                    continue;
+                }
+            }
+
+            superCol[numSuper] = col0;
+            superTop[numSuper] = col0;
+            numSuper++;
+            zeros = 0;
+            col0 = col1;
+        }
+        superCol[numSuper] = N;
+        gsuperCol.reshape(numSuper + 1);
+
+        int[] colToSuper = adjust(gcolToSuper, N);
+        for (int s = 0; s < numSuper; s++) {
+            for (int j = superCol[s]; j < superCol[s + 1]; j++) {
+                colToSuper[j] = s;
+            }
+        }
+    }
+
+    /**
+     * Rules for relaxed supernode amalgamation. The same as the defaults in CHOLMOD.
+     *
+     * @param width Number of columns in the merged supernode
+     * @param fractionZeros Fraction of elements in the merged supernode which are explicit zeros
+     */
+    static boolean isRelaxedMerge( int width, double fractionZeros ) {
+        if (width <= 4)
+            return true;
+        else if (width <= 16)
+            return fractionZeros < 0.8;
+        else if (width <= 48)
+            return fractionZeros < 0.1;
+        return fractionZeros < 0.05;
+    }
+
+    /**
+     * Finds the row indexes in each supernode. A supernode contains all the rows in its columns and the rows
+     * in the first column of the top most fundamental supernode. The rows in that column are found by traversing
+     * the row subtrees in L.
+     */
+    void findSupernodeRows( DMatrixSparseCSC A ) {
+        int N = A.numCols;
+        int[] pinv = gpinv.data;
+        int[] counts = gcountsP.data;
+        int[] superCol = gsuperCol.data;
+        int[] superTop = gsuperTop.data;
+        int[] colToSuper = gcolToSuper.data;
+
+        int[] superRowIdx = adjust(gsuperRowIdx, numSuper + 1);
+        int[] superValIdx = adjust(gsuperValIdx, numSuper + 1);
+        superRowIdx[0] = 0;
+        superValIdx[0] = 0;
+        for (int s = 0; s < numSuper; s++) {
+            int rows = superTop[s] - superCol[s] + counts[superTop[s]];
+            int width = superCol[s + 1] - superCol[s];
+            superRowIdx[s + 1] = superRowIdx[s] + rows;
+            superValIdx[s + 1] = superValIdx[s] + rows*width;
+        }
+
+        int[] superRows = adjust(gsuperRows, superRowIdx[numSuper]);
+        int[] pos = adjust(gpos, numSuper);
+        for (int s = 0; s < numSuper; s++) {
+            pos[s] = superRowIdx[s];
+            for (int j = superCol[s]; j < superTop[s]; j++) {
+                superRows[pos[s]++] = j;
+            }
+        }
+
+        int[] s = adjust(gwork, N);
+        int[] w = adjust(gmap, N);
+        Arrays.fill(w, 0, N, 0);
+
+        // rows are added in increasing order so they will be sorted
+        for (int k = 0; k < N; k++) {
+            int top = TriangularSolver_DSCC.searchNzRowsElim(A, post[k], parent, s, w);
+            for (; top < N; top++) {
+                int i = pinv[s[top]];
+                int sup = colToSuper[i];
+                if (superTop[sup] == i)
+                    superRows[pos[sup]++] = k;
+            }
+            // L(k,k) is not zero
+            int sup = colToSuper[k];
+            if (superTop[sup] == k)
+                superRows[pos[sup]++] = k;
+        }
+    }
+
+    @Override
+    protected boolean performDecomposition( DMatrixSparseCSC A ) {
+        int N = A.numCols;
+        int[] superCol = gsuperCol.data;
+        int[] colToSuper = gcolToSuper.data;
+        int[] superRowIdx = gsuperRowIdx.data;
+        int[] superValIdx = gsuperValIdx.data;
+        int[] superRows = gsuperRows.data;
+        int[] pinv = gpinv.data;
+
+        // Only the upper triangular portion of A is used. In At that's the lower triangular portion
+        CommonOps_DSCC.transpose(A, At, gwork);
+
+        double[] values = adjust(gvalues, superValIdx[numSuper]);
+        int[] map = adjust(gmap, N);
+        int[] head = adjust(ghead, numSuper);
+        int[] next = adjust(gnext, numSuper);
+        int[] pos = adjust(gpos, numSuper);
+        Arrays.fill(head, 0, numSuper, -1);
+
+        for (int s = 0; s < numSuper; s++) {
+            int col0 = superCol[s];
+            int col1 = superCol[s + 1];
+            int width = col1 - col0;
+            int r0 = superRowIdx[s];
+            int rows = superRowIdx[s + 1] - r0;
+            int v0 = superValIdx[s];
+
+            // location of each row inside the panel
+            for (int i = 0; i < rows; i++) {
+                map[superRows[r0 + i]] = i;
+            }
+
+            // copy A into the panel
+            Arrays.fill(values, v0, v0 + rows*width, 0);
+            for (int j = col0; j < col1; j++) {
+                // A(j,k) != 0 for k > j implies k is an ancestor of j, so it's also after j in the postorder
+                int jo = post[j];
+                for (int p = At.col_idx[jo]; p < At.col_idx[jo + 1]; p++) {
+                    int k = At.nz_rows[p];
+                    if (k < jo)
+                        continue;
+                    values[v0 + map[pinv[k]]*width + j - col0] = At.nz_values[p];
+                }
+            }
+
+            // apply updates from all the descendants which have non-zero rows inside this supernode's columns
+            int d = head[s];
+            while (d != -1) {
+                int nextD = next[d];
+                updatePanel(d, col1, values, map, width, v0);
+
+                // d will next update the supernode that contains its next row
+                int rd0 = superRowIdx[d];
+                int rowsD = superRowIdx[d + 1] - rd0;
+                if (pos[d] < rowsD) {
+                    int t = colToSuper[superRows[rd0 + pos[d]]];
+                    next[d] = head[t];
+                    head[t] = d;
+                }
+                d = nextD;
+            }
+
+            // factor the panel. Cholesky of the diagonal block and a triangular solve for the rows below it
+            if (!InnerCholesky_DDRB.lower(values, v0, width))
+                return false;
+            if (rows > width) {
+                InnerTriangularSolver_DDRB.solveLTransB(values, values, width, rows - width, width, v0, v0 + width*width);
+
+                pos[s] = width;
+                int t = colToSuper[superRows[r0 + width]];
+                next[s] = head[t];
+                head[t] = s;
+            }
+        }
+
+        copyPanelsIntoL();
+        return true;
+    }
+
+    /**
+     * Subtracts L<sub>d</sub>*L<sub>d</sub><sup>T</sup> from the panel for the rows in supernode 'd' which are at
+     * or below the current supernode.
+     *
+     * @param col1 One past the last column in the current supernode
+     */
+    private void updatePanel( int d, int col1, double[] values, int[] map, int width, int v0 ) {
+        int[] superRows = gsuperRows.data;
+        int[] superCol = gsuperCol.data;
+        int col0 = col1 - width;
+
+        int rd0 = gsuperRowIdx.data[d];
+        int rowsD = gsuperRowIdx.data[d + 1] - rd0;
+        int widthD = superCol[d + 1] - superCol[d];
+        int vd0 = gsuperValIdx.data[d];
+
+        // rows [p1, p2) are inside the current supernode's columns
+        int p1 = gpos.data[d];
+        int p2 = p1;
+        while (p2 < rowsD && superRows[rd0 + p2] < col1) {
+            p2++;
+        }
+        int numRows = rowsD - p1;
+        int numCols = p2 - p1;
+
+        double[] C = adjust(gC, numRows*numCols);
+        InnerMultiplication_DDRB.blockMultSetTransB(values, values, C,
+                vd0 + p1*widthD, vd0 + p1*widthD, 0, numRows, widthD, numCols);
+
+        // scatter the update into the panel. The upper triangle of the diagonal block is never read
+        for (int i = 0; i < numRows; i++) {
+            int indexPanel = v0 + map[superRows[rd0 + p1 + i]]*width - col0;
+            int indexC = i*numCols;
+            for (int j = 0; j < numCols; j++) {
+                values[indexPanel + superRows[rd0 + p1 + j]] -= C[indexC + j];
+            }
+        }
+
+        gpos.data[d] = p2;
+    }
+
+    /**
+     * Copies the factored panels into L, which already has its structure specified
+     */
+    private void copyPanelsIntoL() {
+        int[] superCol = gsuperCol.data;
+        int[] superRowIdx = gsuperRowIdx.data;
+        int[] superValIdx = gsuperValIdx.data;
+        double[] values = gvalues.data;
+
+        for (int s = 0; s < numSuper; s++) {
+            int width = superCol[s + 1] - superCol[s];
+            int rows = superRowIdx[s + 1] - superRowIdx[s];
+            int v0 = superValIdx[s];
+            for (int offset = 0; offset < width; offset++) {
+                int index = L.col_idx[post[superCol[s] + offset]];
+                for (int i = offset; i < rows; i++) {
+                    L.nz_values[index++] = values[v0 + i*width + offset];
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of supernodes found in the most recent symbolic decomposition
+     */
+    public int getNumSupernodes() {
+        return numSuper;
+    }
+
+    /**
+     * Returns the first column in each supernode. The last element is the number of columns. Columns are
+     * in the postorder of the elimination tree.
+     */
+    public IGrowArray getSupernodeColumns() {
+        return gsuperCol;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.data.Complex_F64;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.interfaces.decomposition.CholeskyLDLDecomposition_F64;
+import org.ejml.interfaces.decomposition.DecompositionSparseInterface;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.misc.ColumnCounts_DSCC;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Performs a LDL<sup>T</sup> decomposition using an up looking algorithm on a {@link DMatrixSparseCSC}. L is
+ * lower triangular with ones along its diagonal and D is diagonal. Only the upper triangular portion of the
+ * input matrix is read. Unlike {@link CholeskyUpLooking_DSCC} the matrix doesn't need to be positive definite.
+ * Elements in D can be negative, which makes it suitable for symmetric indefinite systems. No pivoting is
+ * done so it will fail if a zero is encountered in D. Quasi-definite matrices, e.g. KKT systems with a
+ * regularized (2,2) block, can be decomposed with any symmetric permutation.</p>
+ *
+ * <p>The structure of L is the same as it is for the Cholesky decomposition. It's stored with its unit
+ * diagonal so that the same triangular solvers can be used.</p>
+ *
+ * <p>See "LDL: A Concise Sparse Cholesky Factorization Package" by Timothy A. Davis and page 59 in
+ * "Direct Methods for Sparse Linear Systems" by Tomothy A. Davis</p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyUpLookingLDL_DSCC implements
+        CholeskyLDLDecomposition_F64<DMatrixSparseCSC>, DecompositionSparseInterface<DMatrixSparseCSC> {
+    private int N;
+
+    // storage for decomposition
+    DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
+    DGrowArray gD = new DGrowArray();
+
+    // workspace storage
+    IGrowArray gw = new IGrowArray(1);
+    IGrowArray gs = new IGrowArray(1);
+    DGrowArray gx = new DGrowArray(1);
+    int[] parent = new int[1];
+    int[] post = new int[1];
+    int[] counts = new int[1];
+    ColumnCounts_DSCC columnCounter = new ColumnCounts_DSCC(false);
+
+    // true if it has successfully decomposed a matrix
+    private boolean decomposed = false;
+    // if true then the structure is locked and won't be computed again
+    private boolean locked = false;
+
+    @Override
+    public boolean decompose( DMatrixSparseCSC orig ) {
+        if (orig.numCols != orig.numRows)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if (!locked || !decomposed)
+            performSymbolic(orig);
+
+        if (performDecomposition(orig)) {
+            decomposed = true;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public void performSymbolic( DMatrixSparseCSC A ) {
+        init(A.numCols);
+
+        TriangularSolver_DSCC.eliminationTree(A, false, parent, gw);
+        TriangularSolver_DSCC.postorder(parent, N, post, gw);
+        columnCounter.process(A, parent, post, counts);
+        L.reshape(A.numRows, A.numCols, 0);
+        L.histogramToStructure(counts);
+    }
+
+    private void init( int N ) {
+        this.N = N;
+        if (parent.length < N) {
+            parent = new int[N];
+            post = new int[N];
+            counts = new int[N];
+            gw.reshape(3*N);
+        }
+    }
+
+    private boolean performDecomposition( DMatrixSparseCSC A ) {
+        int[] c = adjust(gw, N);
+        int[] s = adjust(gs, N);
+        double[] x = adjust(gx, N);
+        double[] D = adjust(gD, N);
+
+        System.arraycopy(L.col_idx, 0, c, 0, N);
+
+        for (int k = 0; k < N; k++) {
+            //----  Nonzero pattern of L(k,:)
+            int top = TriangularSolver_DSCC.searchNzRowsElim(A, k, parent, s, c);
+
+            // x(0:k) is now zero
+            x[k] = 0;
+            int idx0 = A.col_idx[k];
+            int idx1 = A.col_idx[k + 1];
+
+            // x = full(triu(C(:,k)))
+            for (int p = idx0; p < idx1; p++) {
+                if (A.nz_rows[p] <= k) {
+                    x[A.nz_rows[p]] = A.nz_values[p];
+                }
+            }
+            double d = x[k]; // d = C(k,k)
+            x[k] = 0; // clear x for k+1 iteration
+
+            //---- Triangular Solve
+            for (; top < N; top++) {
+                int i = s[top];
+                double yi = x[i]; // y(i) = L(k,i)*D(i)
+                x[i] = 0;
+                // skip over the unit diagonal
+                for (int p = L.col_idx[i] + 1; p < c[i]; p++) {
+                    x[L.nz_rows[p]] -= L.nz_values[p]*yi;
+                }
+                double lki = yi/D[i];
+                d -= lki*yi; // d = d - L(k,i)*D(i)*L(k,i)
+                int p = c[i]++;
+                L.nz_rows[p] = k;     // store L(k,i) in column i
+                L.nz_values[p] = lki;
+            }
+
+            //----- Compute D(k)
+            if (d == 0.0 || Double.isNaN(d)) {
+                // The decomposition can't be computed without pivoting
+                return false;
+            }
+            D[k] = d;
+            int p = c[k]++;
+            L.nz_rows[p] = k;
+            L.nz_values[p] = 1.0;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    /**
+     * Returns the elements in the diagonal matrix D
+     */
+    @Override
+    public double[] getDiagonal() {
+        return gD.data;
+    }
+
+    /**
+     * Returns the internal lower triangular matrix. Its diagonal elements are all one.
+     */
+    public DMatrixSparseCSC getL() {
+        return L;
+    }
+
+    @Override
+    public DMatrixSparseCSC getL( @Nullable DMatrixSparseCSC L ) {
+        if (L == null) {
+            L = new DMatrixSparseCSC(this.L.numRows, this.L.numCols, this.L.nz_length);
+        }
+        L.setTo(this.L);
+        return L;
+    }
+
+    @Override
+    public DMatrixSparseCSC getD( @Nullable DMatrixSparseCSC D ) {
+        if (D == null) {
+            D = new DMatrixSparseCSC(N, N, N);
+        }
+        CommonOps_DSCC.diag(D, gD.data, 0, N);
+        return D;
+    }
+
+    public Complex_F64 computeDeterminant() {
+        double value = 1;
+        for (int i = 0; i < N; i++) {
+            value *= gD.data[i];
+        }
+        return new Complex_F64(value, 0);
+    }
+
+    public IGrowArray getGw() {
+        return gw;
+    }
+
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        this.locked = locked;
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return locked;
+    }
+}
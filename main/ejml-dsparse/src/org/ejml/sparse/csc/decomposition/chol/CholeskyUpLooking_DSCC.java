@@ -93,7 +93,7 @@ public class CholeskyUpLooking_DSCC implements
         }
     }
 
-    private boolean performDecomposition( DMatrixSparseCSC A ) {
+    protected boolean performDecomposition( DMatrixSparseCSC A ) {
         int[] c = adjust(gw, N);
         int[] s = adjust(gs, N);
         double[] x = adjust(gx, N);
@@ -101,47 +101,61 @@ public class CholeskyUpLooking_DSCC implements
         System.arraycopy(L.col_idx, 0, c, 0, N);
 
         for (int k = 0; k < N; k++) {
-            //----  Nonzero pattern of L(k,:)
-            int top = TriangularSolver_DSCC.searchNzRowsElim(A, k, parent, s, c);
-
-            // x(0:k) is now zero
-            x[k] = 0;
-            int idx0 = A.col_idx[k];
-            int idx1 = A.col_idx[k + 1];
-
-            // x = full(triu(C(:,k)))
-            for (int p = idx0; p < idx1; p++) {
-                if (A.nz_rows[p] <= k) {
-                    x[A.nz_rows[p]] = A.nz_values[p];
-                }
-            }
-            double d = x[k]; // d = C(k,k)
-            x[k] = 0; // clear x for k+1 iteration
-
-            //---- Triangular Solve
-            for (; top < N; top++) {
-                int i = s[top];
-                double lki = x[i]/L.nz_values[L.col_idx[i]]; // L(k,i) = x(i) / L(i,i)
-                x[i] = 0;
-                for (int p = L.col_idx[i] + 1; p < c[i]; p++) {
-                    x[L.nz_rows[p]] -= L.nz_values[p]*lki;
-                }
-                d -= lki*lki; // d = d - L(k,i)**L(k,i)
-                int p = c[i]++;
-                L.nz_rows[p] = k;     // store L(k,i) in column i
-                L.nz_values[p] = lki;
-            }
-
-            //----- Compute L(k,k)
-            if (d <= 0) {
-                // it's not positive definite
+            if (!decomposeRow(A, k, c, s, x))
                 return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes row k in L. Only columns and rows in the elimination subtree of k are read or modified.
+     *
+     * @param c Location the next element will be written to in each column of L
+     * @param s Workspace used to store the non-zero pattern of the row
+     * @param x Dense workspace for the row. Must be zero on input and is zero on output
+     * @return false if the matrix isn't positive definite
+     */
+    protected boolean decomposeRow( DMatrixSparseCSC A, int k, int[] c, int[] s, double[] x ) {
+        //----  Nonzero pattern of L(k,:)
+        int top = TriangularSolver_DSCC.searchNzRowsElim(A, k, parent, s, c);
+
+        // x(0:k) is now zero
+        x[k] = 0;
+        int idx0 = A.col_idx[k];
+        int idx1 = A.col_idx[k + 1];
+
+        // x = full(triu(C(:,k)))
+        for (int p = idx0; p < idx1; p++) {
+            if (A.nz_rows[p] <= k) {
+                x[A.nz_rows[p]] = A.nz_values[p];
+            }
+        }
+        double d = x[k]; // d = C(k,k)
+        x[k] = 0; // clear x for k+1 iteration
+
+        //---- Triangular Solve
+        for (; top < N; top++) {
+            int i = s[top];
+            double lki = x[i]/L.nz_values[L.col_idx[i]]; // L(k,i) = x(i) / L(i,i)
+            x[i] = 0;
+            for (int p = L.col_idx[i] + 1; p < c[i]; p++) {
+                x[L.nz_rows[p]] -= L.nz_values[p]*lki;
             }
-            int p = c[k]++;
-            L.nz_rows[p] = k;
-            L.nz_values[p] = Math.sqrt(d);
+            d -= lki*lki; // d = d - L(k,i)**L(k,i)
+            int p = c[i]++;
+            L.nz_rows[p] = k;     // store L(k,i) in column i
+            L.nz_values[p] = lki;
         }
 
+        //----- Compute L(k,k)
+        if (d <= 0) {
+            // it's not positive definite
+            return false;
+        }
+        int p = c[k]++;
+        L.nz_rows[p] = k;
+        L.nz_values[p] = Math.sqrt(d);
         return true;
     }
 
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.ops.QuickSort_S32;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Concurrent implementation of {@link CholeskyUpLooking_DSCC}. Row k in L only depends on rows in the
+ * elimination subtree rooted at k, so two subtrees where neither is an ancestor of the other can be decomposed
+ * at the same time. Starting at the roots, the subtree with the most work is repeatedly replaced by its children
+ * until there are several subtrees for each thread. Subtrees are then assigned to threads so that the work is
+ * balanced. Once all the threads are done the remaining rows, which are ancestors of the subtrees, are decomposed
+ * in a single thread.</p>
+ *
+ * <p>Rows inside each subtree are processed in postorder. That way each column in L is filled in with increasing
+ * row indexes, just like the single threaded algorithm, and the output is identical. A fill reducing ordering
+ * which creates a well balanced elimination tree, e.g. nested dissection, will scale the best.</p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyUpLooking_MT_DSCC extends CholeskyUpLooking_DSCC {
+    /** Number of subtrees created for each thread. More subtrees will result in better load balancing. */
+    public int subtreesPerThread = 4;
+
+    // Roots of the selected subtrees ordered by which thread they are assigned to
+    IGrowArray gsubtrees = new IGrowArray();
+    // Index of the first subtree assigned to each thread. Length is number of threads + 1
+    IGrowArray gthreadIdx = new IGrowArray();
+    // Rows which are not inside any of the subtrees, in increasing order
+    IGrowArray gremaining = new IGrowArray();
+
+    // Workspace for computing the schedule
+    IGrowArray gselected = new IGrowArray();
+    IGrowArray gpinv = new IGrowArray();
+    IGrowArray gsize = new IGrowArray();
+    IGrowArray ghead = new IGrowArray();
+    IGrowArray gnext = new IGrowArray();
+    DGrowArray gweight = new DGrowArray();
+    DGrowArray gload = new DGrowArray();
+    IGrowArray gkeys = new IGrowArray();
+    IGrowArray gindexes = new IGrowArray();
+    IGrowArray gcopy = new IGrowArray();
+    QuickSort_S32 sorter = new QuickSort_S32();
+
+    // Storage for the non-zero pattern of a row. One for each thread
+    GrowArray<IGrowArray> workspace = new GrowArray<>(IGrowArray::new);
+
+    // true if a thread found that the matrix isn't positive definite
+    volatile boolean failed;
+
+    @Override
+    public void performSymbolic( DMatrixSparseCSC A ) {
+        super.performSymbolic(A);
+        selectSubtrees(A.numCols, EjmlConcurrency.getMaxThreads());
+    }
+
+    /**
+     * Selects independent subtrees in the elimination tree and assigns them to threads
+     *
+     * @param N Number of columns
+     * @param numThreads Number of threads the work is split between
+     */
+    void selectSubtrees( int N, int numThreads ) {
+        int[] pinv = adjust(gpinv, N);
+        int[] size = adjust(gsize, N);
+        int[] head = adjust(ghead, N);
+        int[] next = adjust(gnext, N);
+        double[] weight = adjust(gweight, N);
+
+        for (int k = 0; k < N; k++) {
+            pinv[post[k]] = k;
+        }
+
+        // Number of nodes and approximate number of operations in each subtree. The parent always comes after
+        // its children, so everything has been added to node k before it is added to its parent
+        Arrays.fill(head, 0, N, -1);
+        for (int k = 0; k < N; k++) {
+            size[k] = 1;
+            weight[k] = (double)counts[k]*counts[k];
+        }
+        for (int k = 0; k < N; k++) {
+            int p = parent[k];
+            if (p == -1)
+                continue;
+            size[p] += size[k];
+            weight[p] += weight[k];
+            next[k] = head[p];
+            head[p] = k;
+        }
+
+        // Start with the roots and split the subtree with the most work until there's enough
+        IGrowArray subtrees = gselected;
+        subtrees.reshape(0);
+        for (int k = 0; k < N; k++) {
+            if (parent[k] == -1)
+                subtrees.add(k);
+        }
+        int target = numThreads <= 1 ? 1 : numThreads*subtreesPerThread;
+        while (subtrees.length < target) {
+            int best = -1;
+            for (int i = 0; i < subtrees.length; i++) {
+                int node = subtrees.data[i];
+                if (head[node] == -1)
+                    continue;
+                if (best == -1 || weight[node] > weight[subtrees.data[best]])
+                    best = i;
+            }
+            if (best == -1)
+                break;
+
+            int split = subtrees.data[best];
+            subtrees.data[best] = subtrees.data[--subtrees.length];
+            for (int child = head[split]; child != -1; child = next[child]) {
+                subtrees.add(child);
+            }
+        }
+
+        // Assign the largest remaining subtree to the thread with the least work. 'next' is used to store
+        // which thread each subtree is assigned to.
+        numThreads = Math.max(1, Math.min(numThreads, subtrees.length));
+        double[] load = adjust(gload, numThreads);
+        Arrays.fill(load, 0, numThreads, 0.0);
+        int[] threadIdx = adjust(gthreadIdx, numThreads + 1);
+        Arrays.fill(threadIdx, 0, numThreads + 1, 0);
+        sortByWeight(subtrees, weight);
+        for (int i = 0; i < subtrees.length; i++) {
+            int thread = 0;
+            for (int j = 1; j < numThreads; j++) {
+                if (load[j] < load[thread])
+                    thread = j;
+            }
+            load[thread] += weight[subtrees.data[i]];
+            next[subtrees.data[i]] = thread;
+            threadIdx[thread + 1]++;
+        }
+        for (int i = 0; i < numThreads; i++) {
+            threadIdx[i + 1] += threadIdx[i];
+        }
+        int[] order = adjust(gsubtrees, subtrees.length);
+        int[] fill = adjust(ghead, numThreads);
+        System.arraycopy(threadIdx, 0, fill, 0, numThreads);
+        for (int i = 0; i < subtrees.length; i++) {
+            int node = subtrees.data[i];
+            order[fill[next[node]]++] = node;
+        }
+
+        // Mark rows in the subtrees using the postorder. The rest are processed after the threads finish
+        int[] marked = adjust(ghead, N);
+        Arrays.fill(marked, 0, N, 0);
+        for (int i = 0; i < subtrees.length; i++) {
+            int node = subtrees.data[i];
+            for (int j = pinv[node] - size[node] + 1; j <= pinv[node]; j++) {
+                marked[post[j]] = 1;
+            }
+        }
+        gremaining.reshape(0);
+        for (int k = 0; k < N; k++) {
+            if (marked[k] == 0)
+                gremaining.add(k);
+        }
+    }
+
+    /**
+     * Sorts the nodes so that the ones with the most work come first. Weights are scaled into integers
+     * so that they can be sorted without declaring new memory.
+     */
+    private void sortByWeight( IGrowArray nodes, double[] weight ) {
+        int n = nodes.length;
+        double max = 0;
+        for (int i = 0; i < n; i++) {
+            max = Math.max(max, weight[nodes.data[i]]);
+        }
+        int[] keys = adjust(gkeys, n);
+        int[] indexes = adjust(gindexes, n);
+        int[] copy = adjust(gcopy, n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = max == 0 ? 0 : (int)(weight[nodes.data[i]]*(Integer.MAX_VALUE/max));
+            copy[i] = nodes.data[i];
+        }
+        sorter.sort(keys, n, indexes);
+        for (int i = 0; i < n; i++) {
+            nodes.data[i] = copy[indexes[n - 1 - i]];
+        }
+    }
+
+    @Override
+    protected boolean performDecomposition( DMatrixSparseCSC A ) {
+        int N = A.numCols;
+        int numThreads = gthreadIdx.length - 1;
+        if (numThreads <= 1)
+            return super.performDecomposition(A);
+
+        // Subtrees don't share any rows or columns, so 'c' and 'x' can be shared by all the threads
+        int[] c = adjust(gw, N);
+        double[] x = adjust(gx, N);
+        System.arraycopy(L.col_idx, 0, c, 0, N);
+        Arrays.fill(x, 0, N, 0.0);
+
+        int[] subtrees = gsubtrees.data;
+        int[] threadIdx = gthreadIdx.data;
+        int[] pinv = gpinv.data;
+        int[] size = gsize.data;
+
+        failed = false;
+        EjmlConcurrency.loopFor(0, numThreads, 1, workspace, ( work, thread ) -> {
+            int[] s = adjust(work, N);
+            for (int i = threadIdx[thread]; i < threadIdx[thread + 1] && !failed; i++) {
+                int root = subtrees[i];
+                for (int j = pinv[root] - size[root] + 1; j <= pinv[root]; j++) {
+                    if (!decomposeRow(A, post[j], c, s, x)) {
+                        failed = true;
+                        return;
+                    }
+                }
+            }
+        });
+        if (failed)
+            return false;
+
+        // Rows which depend on multiple subtrees
+        int[] s = adjust(gs, N);
+        int[] remaining = gremaining.data;
+        for (int i = 0; i < gremaining.length; i++) {
+            if (!decomposeRow(A, remaining[i], c, s, x))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Number of subtrees which are decomposed concurrently
+     */
+    public int getNumSubtrees() {
+        return gthreadIdx.length == 0 ? 0 : gthreadIdx.data[gthreadIdx.length - 1];
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DEigenpair;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Computes the k largest or smallest eigenpairs of a sparse symmetric matrix using the thick restart Lanczos
+ * method. A is only accessed through matrix-vector multiplications so it's never converted into a dense matrix.
+ * Both the upper and lower triangular portions of A must be filled in.</p>
+ *
+ * <p>An orthonormal basis of a Krylov subspace with m vectors is built, with full reorthogonalization for
+ * numerical stability, and approximate eigenpairs are found from the projection of A onto the subspace.
+ * If they haven't converged, then the best Ritz vectors are kept and the basis is extended again. This is
+ * mathematically equivalent to implicitly restarted Lanczos but simpler and more stable. Memory is
+ * O(N*m) and each restart costs O(N*m<sup>2</sup>) plus the matrix-vector multiplications.</p>
+ *
+ * <p>See "Thick-Restart Lanczos Method for Large Symmetric Eigenvalue Problems" by Kesheng Wu and Horst Simon,
+ * 2000</p>
+ *
+ * @author Peter Abeles
+ */
+public class EigenLanczos_DSCC {
+    /**
+     * An eigenpair has converged when its residual is below this fraction of the largest Ritz value's
+     * magnitude, which estimates the norm of A
+     */
+    public double tolerance = UtilEjml.EPS*100;
+
+    /** Maximum number of restarts */
+    public int maxRestarts = 1000;
+
+    // Number of eigenpairs it should find
+    int numEigen;
+    // If true it finds the largest eigenvalues, otherwise the smallest
+    boolean largest;
+    // Number of vectors in the Krylov basis. If <= 0 then it's selected automatically
+    int basisSize;
+
+    Random rand = new Random(0xBEEF);
+
+    // Orthonormal basis. (m+1) vectors of length N stored one after another
+    DGrowArray gV = new DGrowArray();
+    // Storage for the basis after a restart
+    DGrowArray gVtmp = new DGrowArray();
+    DGrowArray gw = new DGrowArray();
+    DGrowArray gh = new DGrowArray();
+
+    // Projection of A onto the basis
+    DMatrixRMaj T = new DMatrixRMaj(1, 1);
+    DMatrixRMaj Tcopy = new DMatrixRMaj(1, 1);
+    @Nullable EigenDecomposition_F64<DMatrixRMaj> eig;
+
+    // Ritz values and vectors sorted from most to least wanted
+    DGrowArray gtheta = new DGrowArray();
+    DMatrixRMaj Y = new DMatrixRMaj(1, 1);
+    // Indexes of Ritz values after sorting
+    Integer[] order = new Integer[0];
+
+    List<DEigenpair> eigenpairs = new ArrayList<>();
+
+    int restarts;
+
+    /**
+     * @param numEigen Number of eigenpairs it should find.
+     * @param largest If true it finds the eigenvalues with the largest value, otherwise the smallest.
+     * @param basisSize Number of vectors in the Krylov basis. Must be larger than numEigen. If &le; 0 then
+     * max(2*numEigen+1, 20) is used.
+     */
+    public EigenLanczos_DSCC( int numEigen, boolean largest, int basisSize ) {
+        if (numEigen <= 0)
+            throw new IllegalArgumentException("numEigen must be positive");
+        if (basisSize > 0 && basisSize <= numEigen)
+            throw new IllegalArgumentException("basisSize must be larger than numEigen");
+        this.numEigen = numEigen;
+        this.largest = largest;
+        this.basisSize = basisSize;
+    }
+
+    public EigenLanczos_DSCC( int numEigen, boolean largest ) {
+        this(numEigen, largest, 0);
+    }
+
+    /**
+     * Computes the eigenpairs
+     *
+     * @param A Symmetric matrix. Not modified.
+     * @return true if all the eigenpairs converged
+     */
+    public boolean process( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        final int N = A.numCols;
+        if (numEigen > N)
+            throw new IllegalArgumentException("Can't find more eigenpairs than there are rows in A");
+
+        final int m = Math.min(N, basisSize > 0 ? basisSize : Math.max(2*numEigen + 1, 20));
+        double[] V = adjust(gV, (m + 1)*N);
+        double[] w = adjust(gw, N);
+        double[] h = adjust(gh, m + 1);
+        double[] theta = adjust(gtheta, m);
+        T.reshape(m, m);
+        T.zero();
+        EigenDecomposition_F64<DMatrixRMaj> eig = this.eig;
+        if (eig == null || order.length != m) {
+            eig = DecompositionFactory_DDRM.eig(m, true, true);
+            this.eig = eig;
+            order = new Integer[m];
+        }
+
+        // Initial vector is random
+        randomOrthogonal(V, 0, N);
+
+        // number of vectors kept after a restart
+        int kept = 0;
+        // norm of the residual vector which couples the last basis vector to the next one
+        double beta = 0.0;
+        boolean converged = false;
+        for (restarts = 0; restarts <= maxRestarts; restarts++) {
+            // Extend the basis. Column j of T is the projection of A*v(j) onto all the vectors in the basis
+            for (int j = kept; j < m; j++) {
+                MatrixVectorMult_DSCC.mult(A, V, j*N, w, 0);
+                Arrays.fill(h, 0, j + 1, 0.0);
+                orthogonalize(V, j + 1, N, w, h);
+                orthogonalize(V, j + 1, N, w, h);
+                for (int i = 0; i <= j; i++) {
+                    T.unsafe_set(i, j, h[i]);
+                    T.unsafe_set(j, i, h[i]);
+                }
+
+                beta = norm(w, N);
+                if (beta <= UtilEjml.EPS*Math.abs(h[j])*N || beta == 0.0) {
+                    // invariant subspace. Continue with a vector which isn't coupled to the current basis
+                    beta = 0.0;
+                    if (!randomOrthogonal(V, j + 1, N) && j + 1 < m)
+                        throw new RuntimeException("BUG! Couldn't find an orthogonal vector");
+                } else {
+                    for (int i = 0, idx = (j + 1)*N; i < N; i++, idx++) {
+                        V[idx] = w[i]/beta;
+                    }
+                }
+            }
+
+            // Ritz pairs of the projected problem
+            Tcopy.setTo(T);
+            if (!eig.decompose(Tcopy))
+                return false;
+            sortRitz(eig, m, theta);
+
+            // residual of Ritz pair i is |beta*Y(m-1,i)|
+            double maxTheta = 0.0;
+            for (int i = 0; i < m; i++) {
+                maxTheta = Math.max(maxTheta, Math.abs(theta[i]));
+            }
+            converged = true;
+            for (int i = 0; i < numEigen; i++) {
+                if (Math.abs(beta*Y.unsafe_get(m - 1, i)) > tolerance*maxTheta) {
+                    converged = false;
+                    break;
+                }
+            }
+            if (converged || restarts == maxRestarts)
+                break;
+
+            // Thick restart. Keep the best Ritz vectors and continue from the residual vector
+            kept = Math.min(m - 1, numEigen + (m - numEigen)/2);
+            double[] Vtmp = adjust(gVtmp, kept*N);
+            ritzVectors(V, m, N, kept, Vtmp);
+            System.arraycopy(V, m*N, V, kept*N, N);
+            System.arraycopy(Vtmp, 0, V, 0, kept*N);
+            T.zero();
+            for (int i = 0; i < kept; i++) {
+                T.unsafe_set(i, i, theta[i]);
+            }
+        }
+
+        // Save the results
+        double[] Vtmp = adjust(gVtmp, numEigen*N);
+        ritzVectors(V, m, N, numEigen, Vtmp);
+        while (eigenpairs.size() > numEigen)
+            eigenpairs.remove(eigenpairs.size() - 1);
+        for (int i = 0; i < numEigen; i++) {
+            DEigenpair pair;
+            if (i < eigenpairs.size()) {
+                pair = eigenpairs.get(i);
+                pair.vector.reshape(N, 1);
+            } else {
+                pair = new DEigenpair(0, new DMatrixRMaj(N, 1));
+                eigenpairs.add(pair);
+            }
+            pair.value = theta[i];
+            System.arraycopy(Vtmp, i*N, pair.vector.data, 0, N);
+        }
+        return converged;
+    }
+
+    /**
+     * Sorts the Ritz pairs so that the most wanted ones are first and copies them into theta and Y
+     */
+    private void sortRitz( EigenDecomposition_F64<DMatrixRMaj> eig, int m, double[] theta ) {
+        for (int i = 0; i < m; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, 0, m, ( a, b ) -> {
+            double va = eig.getEigenvalue(a).real;
+            double vb = eig.getEigenvalue(b).real;
+            return largest ? Double.compare(vb, va) : Double.compare(va, vb);
+        });
+
+        Y.reshape(m, m);
+        for (int i = 0; i < m; i++) {
+            theta[i] = eig.getEigenvalue(order[i]).real;
+            DMatrixRMaj y = Objects.requireNonNull(eig.getEigenVector(order[i]));
+            for (int row = 0; row < m; row++) {
+                Y.unsafe_set(row, i, y.data[row]);
+            }
+        }
+    }
+
+    /**
+     * Computes the first 'count' Ritz vectors, V*Y(:,i), and writes them into output
+     */
+    private void ritzVectors( double[] V, int m, int N, int count, double[] output ) {
+        Arrays.fill(output, 0, count*N, 0.0);
+        for (int i = 0; i < count; i++) {
+            int offset = i*N;
+            for (int j = 0; j < m; j++) {
+                double y = Y.unsafe_get(j, i);
+                for (int l = 0, idx = j*N; l < N; l++, idx++) {
+                    output[offset + l] += y*V[idx];
+                }
+            }
+            // remove small numerical errors
+            double norm = 0;
+            for (int l = 0; l < N; l++) {
+                norm += output[offset + l]*output[offset + l];
+            }
+            norm = Math.sqrt(norm);
+            for (int l = 0; l < N; l++) {
+                output[offset + l] /= norm;
+            }
+        }
+    }
+
+    /**
+     * Removes the components of w which are in the first 'count' vectors of V and adds them to h
+     */
+    private static void orthogonalize( double[] V, int count, int N, double[] w, double[] h ) {
+        for (int i = 0; i < count; i++) {
+            double dot = 0;
+            for (int l = 0, idx = i*N; l < N; l++, idx++) {
+                dot += w[l]*V[idx];
+            }
+            for (int l = 0, idx = i*N; l < N; l++, idx++) {
+                w[l] -= dot*V[idx];
+            }
+            h[i] += dot;
+        }
+    }
+
+    /**
+     * Fills in vector 'index' of V with a random unit vector which is orthogonal to all the vectors before it
+     *
+     * @return false if it couldn't find one
+     */
+    private boolean randomOrthogonal( double[] V, int index, int N ) {
+        if (index >= N)
+            return false;
+        double[] w = gw.data;
+        double[] h = gh.data;
+        for (int trial = 0; trial < 5; trial++) {
+            for (int i = 0; i < N; i++) {
+                w[i] = rand.nextDouble() - 0.5;
+            }
+            orthogonalize(V, index, N, w, h);
+            orthogonalize(V, index, N, w, h);
+            double norm = norm(w, N);
+            if (norm <= UtilEjml.EPS*10)
+                continue;
+            for (int i = 0, idx = index*N; i < N; i++, idx++) {
+                V[idx] = w[i]/norm;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static double norm( double[] w, int N ) {
+        double sum = 0;
+        for (int i = 0; i < N; i++) {
+            sum += w[i]*w[i];
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * Returns the eigenpairs found in the most recent call to {@link #process}. Sorted from largest to smallest
+     * if largest is true or smallest to largest otherwise.
+     */
+    public List<DEigenpair> getEigenpairs() {
+        return eigenpairs;
+    }
+
+    /** Number of restarts in the most recent call to {@link #process} */
+    public int getRestarts() {
+        return restarts;
+    }
+
+    public int getNumEigen() {
+        return numEigen;
+    }
+
+    public boolean isLargest() {
+        return largest;
+    }
+
+    public int getBasisSize() {
+        return basisSize;
+    }
+
+    /** Changes the seed used to create the initial vector */
+    public void setSeed( long seed ) {
+        rand = new Random(seed);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.svd;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_MT_DSCC;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * Randomized truncated SVD of a sparse matrix. See {@link SvdRandomized_DDRM} for a description of the algorithm.
+ * The sparse matrix is only used in sparse-dense matrix multiplications. U, W, and V are computed as dense
+ * matrices and converted into sparse matrices when requested. Use {@link #getDense()} to access them without
+ * the conversion.
+ *
+ * @author Peter Abeles
+ */
+public class SvdRandomized_DSCC implements SingularValueDecomposition_F64<DMatrixSparseCSC> {
+    // Computes the decomposition using sparse-dense multiplications
+    final SparseInput alg;
+
+    // Storage for a dense matrix before it's converted into a sparse matrix
+    DMatrixRMaj work = new DMatrixRMaj(1, 1);
+
+    /**
+     * @param rank Number of singular values it should compute.
+     * @param oversample Additional samples of the range of A, which improves accuracy. Try 10.
+     * @param powerIterations Number of power iterations. Improves accuracy when singular values decay slowly. Try 2.
+     */
+    public SvdRandomized_DSCC( int rank, int oversample, int powerIterations ) {
+        alg = new SparseInput(rank, oversample, powerIterations);
+    }
+
+    /**
+     * Computes the decomposition of a sparse matrix.
+     *
+     * @param A Matrix. Not modified.
+     * @return true if successful
+     */
+    @Override
+    public boolean decompose( DMatrixSparseCSC A ) {
+        return alg.decompose(A);
+    }
+
+    /**
+     * Returns the same decomposition with U, W, and V as dense matrices, which is how they are computed.
+     * Only use it to access the results, it can't decompose a dense matrix.
+     */
+    public SingularValueDecomposition_F64<DMatrixRMaj> getDense() {
+        return alg;
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return alg.getSingularValues();
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return alg.numberOfSingularValues();
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public DMatrixSparseCSC getU( @Nullable DMatrixSparseCSC U, boolean transposed ) {
+        return DConvertMatrixStruct.convert(alg.getU(work, transposed), U, 0.0);
+    }
+
+    @Override
+    public DMatrixSparseCSC getV( @Nullable DMatrixSparseCSC V, boolean transposed ) {
+        return DConvertMatrixStruct.convert(alg.getV(work, transposed), V, 0.0);
+    }
+
+    @Override
+    public DMatrixSparseCSC getW( @Nullable DMatrixSparseCSC W ) {
+        return DConvertMatrixStruct.convert(alg.getW(work), W, 0.0);
+    }
+
+    @Override
+    public int numRows() {
+        return alg.numRows();
+    }
+
+    @Override
+    public int numCols() {
+        return alg.numCols();
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    public int getRank() {
+        return alg.getRank();
+    }
+
+    public int getOversample() {
+        return alg.getOversample();
+    }
+
+    public int getPowerIterations() {
+        return alg.getPowerIterations();
+    }
+
+    /** Changes the seed used to create the random samples */
+    public void setSeed( long seed ) {
+        alg.setSeed(seed);
+    }
+
+    /**
+     * Dense algorithm where A is only accessed through the sparse matrix multiplications
+     */
+    static class SparseInput extends SvdRandomized_DDRM {
+        @Nullable DMatrixSparseCSC sparse;
+
+        GrowArray<DGrowArray> workspace = new GrowArray<>(DGrowArray::new);
+
+        SparseInput( int rank, int oversample, int powerIterations ) {
+            super(rank, oversample, powerIterations);
+        }
+
+        boolean decompose( DMatrixSparseCSC A ) {
+            this.sparse = A;
+            return process(A.numRows, A.numCols);
+        }
+
+        @Override
+        public boolean decompose( DMatrixRMaj orig ) {
+            throw new IllegalArgumentException("Only sparse matrices can be decomposed");
+        }
+
+        @Override
+        protected void multA( DMatrixRMaj X, DMatrixRMaj Y ) {
+            CommonOps_MT_DSCC.mult(requireSparse(), X, Y, workspace);
+        }
+
+        @Override
+        protected void multTransA( DMatrixRMaj X, DMatrixRMaj Y ) {
+            CommonOps_MT_DSCC.multTransA(requireSparse(), X, Y, workspace);
+        }
+
+        private DMatrixSparseCSC requireSparse() {
+            DMatrixSparseCSC sparse = this.sparse;
+            if (sparse == null)
+                throw new IllegalArgumentException("Must call decompose() first");
+            return sparse;
+        }
+    }
+}
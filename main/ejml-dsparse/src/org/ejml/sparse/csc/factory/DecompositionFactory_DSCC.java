@@ -19,14 +19,17 @@
 package org.ejml.sparse.csc.factory;
 
 import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.CholeskyLDLDecomposition_F64;
 import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
 import org.ejml.interfaces.decomposition.LUSparseDecomposition_F64;
 import org.ejml.interfaces.decomposition.QRSparseDecomposition;
 import org.ejml.sparse.ComputePermutation;
 import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLookingLDL_DSCC;
 import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.lu.LuUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.qr.QrLeftLookingDecomposition_DSCC;
+import org.ejml.sparse.csc.decomposition.svd.SvdRandomized_DSCC;
 
 /**
  * Factory for sparse matrix decompositions
@@ -38,6 +41,10 @@ public class DecompositionFactory_DSCC {
         return new CholeskyUpLooking_DSCC();
     }
 
+    public static CholeskyLDLDecomposition_F64<DMatrixSparseCSC> choleskyLDL() {
+        return new CholeskyUpLookingLDL_DSCC();
+    }
+
     public static QRSparseDecomposition<DMatrixSparseCSC> qr(FillReducing permutation) {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
         return new QrLeftLookingDecomposition_DSCC(cp);
@@ -47,4 +54,16 @@ public class DecompositionFactory_DSCC {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
         return new LuUpLooking_DSCC(cp);
     }
+
+    /**
+     * Truncated SVD of a sparse matrix using a randomized algorithm. Only the largest singular values are computed
+     * and U, W, and V are dense.
+     *
+     * @param rank Number of singular values it will compute.
+     * @param oversample Additional samples of the range of A, which improves accuracy. Try 10.
+     * @param powerIterations Number of power iterations. Improves accuracy when singular values decay slowly. Try 2.
+     */
+    public static SvdRandomized_DSCC svdRandomized( int rank, int oversample, int powerIterations ) {
+        return new SvdRandomized_DSCC(rank, oversample, powerIterations);
+    }
 }
@@ -23,12 +23,24 @@ import org.ejml.data.DMatrixSparseCSC;
 import org.ejml.interfaces.linsol.LinearSolverSparse;
 import org.ejml.sparse.ComputePermutation;
 import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.chol.CholeskySupernodal_DSCC;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLookingLDL_DSCC;
 import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.lu.LuUpLooking_DSCC;
 import org.ejml.sparse.csc.decomposition.qr.QrLeftLookingDecomposition_DSCC;
+import org.ejml.sparse.csc.linsol.chol.LinearSolverCholeskyLDL_DSCC;
 import org.ejml.sparse.csc.linsol.chol.LinearSolverCholesky_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverBiCGStab_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverConjugateGradient_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.LinearSolverGmres_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.PreconditionerIncompleteCholesky_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.PreconditionerIncompleteLUT_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.PreconditionerIncompleteLU_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.PreconditionerJacobi_DSCC;
+import org.ejml.sparse.csc.linsol.iterative.Preconditioner_DSCC;
 import org.ejml.sparse.csc.linsol.lu.LinearSolverLu_DSCC;
 import org.ejml.sparse.csc.linsol.qr.LinearSolverQrLeftLooking_DSCC;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Factory for sparse linear solvers
@@ -37,11 +49,36 @@ import org.ejml.sparse.csc.linsol.qr.LinearSolverQrLeftLooking_DSCC;
  */
 public class LinearSolverFactory_DSCC {
     public static LinearSolverSparse<DMatrixSparseCSC,DMatrixRMaj> cholesky(FillReducing permutation) {
+        return cholesky(permutation, false);
+    }
+
+    /**
+     * Linear solver for symmetric positive definite matrices using a Cholesky decomposition.
+     *
+     * @param permutation Fill reducing permutation
+     * @param supernodal If true then the supernodal Cholesky is used, which is faster when there is a lot of fill in,
+     * e.g. matrices from 2D and 3D meshes. If false then the up-looking Cholesky is used.
+     */
+    public static LinearSolverSparse<DMatrixSparseCSC,DMatrixRMaj> cholesky(FillReducing permutation,
+                                                                            boolean supernodal) {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
-        CholeskyUpLooking_DSCC chol = (CholeskyUpLooking_DSCC)DecompositionFactory_DSCC.cholesky();
+        CholeskyUpLooking_DSCC chol = supernodal ? new CholeskySupernodal_DSCC() :
+                (CholeskyUpLooking_DSCC)DecompositionFactory_DSCC.cholesky();
         return new LinearSolverCholesky_DSCC(chol,cp);
     }
 
+    /**
+     * Linear solver for symmetric matrices which can be indefinite, e.g. KKT systems, using a LDL<sup>T</sup>
+     * decomposition. No pivoting is done, so it will fail if a zero is encountered along the diagonal of D.
+     *
+     * @param permutation Fill reducing permutation
+     */
+    public static LinearSolverSparse<DMatrixSparseCSC,DMatrixRMaj> choleskyLDL(FillReducing permutation) {
+        ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
+        CholeskyUpLookingLDL_DSCC ldl = (CholeskyUpLookingLDL_DSCC)DecompositionFactory_DSCC.choleskyLDL();
+        return new LinearSolverCholeskyLDL_DSCC(ldl,cp);
+    }
+
     public static LinearSolverSparse<DMatrixSparseCSC,DMatrixRMaj> qr(FillReducing permutation) {
         ComputePermutation<DMatrixSparseCSC> cp = FillReductionFactory_DSCC.create(permutation);
         QrLeftLookingDecomposition_DSCC qr = new QrLeftLookingDecomposition_DSCC(cp);
@@ -53,4 +90,77 @@ public class LinearSolverFactory_DSCC {
         LuUpLooking_DSCC lu = new LuUpLooking_DSCC(cp);
         return new LinearSolverLu_DSCC(lu);
     }
+
+    /**
+     * Iterative linear solver for symmetric positive definite matrices using preconditioned conjugate gradient.
+     * Both the upper and lower triangular portions of A must be filled in.
+     *
+     * @param preconditioner Which preconditioner to use. If null then no preconditioner is used.
+     * @param tolerance Iterations stop when the residual's norm is less than this fraction of b's norm. Try 1e-8.
+     * @param maxIterations Maximum number of iterations. If &le; 0 then it's the number of rows in A.
+     */
+    public static LinearSolverConjugateGradient_DSCC conjugateGradient( @Nullable Preconditioner_DSCC preconditioner,
+                                                                        double tolerance, int maxIterations ) {
+        return new LinearSolverConjugateGradient_DSCC(preconditioner, tolerance, maxIterations);
+    }
+
+    /**
+     * Iterative linear solver for nonsymmetric matrices using restarted GMRES. It minimizes the residual and
+     * converges reliably, but memory grows with the restart length.
+     *
+     * @param preconditioner Which preconditioner to use. If null then no preconditioner is used.
+     * @param restart Number of iterations before it restarts. Try 30.
+     * @param tolerance Iterations stop when the residual's norm is less than this fraction of b's norm. Try 1e-8.
+     * @param maxIterations Maximum number of iterations. If &le; 0 then it's the number of rows in A.
+     */
+    public static LinearSolverGmres_DSCC gmres( @Nullable Preconditioner_DSCC preconditioner, int restart,
+                                                double tolerance, int maxIterations ) {
+        return new LinearSolverGmres_DSCC(preconditioner, restart, tolerance, maxIterations);
+    }
+
+    /**
+     * Iterative linear solver for nonsymmetric matrices using BiCGSTAB. Fixed memory and cheap iterations, but
+     * convergence can be less reliable than GMRES.
+     *
+     * @param preconditioner Which preconditioner to use. If null then no preconditioner is used.
+     * @param tolerance Iterations stop when the residual's norm is less than this fraction of b's norm. Try 1e-8.
+     * @param maxIterations Maximum number of iterations. If &le; 0 then it's the number of rows in A.
+     */
+    public static LinearSolverBiCGStab_DSCC biCGStab( @Nullable Preconditioner_DSCC preconditioner,
+                                                      double tolerance, int maxIterations ) {
+        return new LinearSolverBiCGStab_DSCC(preconditioner, tolerance, maxIterations);
+    }
+
+    /**
+     * Jacobi (diagonal) preconditioner for iterative solvers. Cheap to compute and apply.
+     */
+    public static Preconditioner_DSCC preconditionerJacobi() {
+        return new PreconditionerJacobi_DSCC();
+    }
+
+    /**
+     * Zero fill in incomplete Cholesky, IC(0), preconditioner for iterative solvers. More expensive than Jacobi but
+     * typically requires far fewer iterations.
+     */
+    public static Preconditioner_DSCC preconditionerIncompleteCholesky() {
+        return new PreconditionerIncompleteCholesky_DSCC();
+    }
+
+    /**
+     * Zero fill in incomplete LU, ILU(0), preconditioner for iterative solvers. Works with nonsymmetric matrices.
+     */
+    public static Preconditioner_DSCC preconditionerIncompleteLU() {
+        return new PreconditionerIncompleteLU_DSCC();
+    }
+
+    /**
+     * Incomplete LU with threshold dropping, ILUT, preconditioner for iterative solvers. Allows fill in so it's
+     * more accurate than ILU(0) but also more expensive.
+     *
+     * @param dropTolerance Elements smaller than this fraction of the column's norm are dropped. Try 1e-3.
+     * @param maxFill Maximum number of off diagonal elements in each column of L and U. Try 10.
+     */
+    public static Preconditioner_DSCC preconditionerIncompleteLUT( double dropTolerance, int maxFill ) {
+        return new PreconditionerIncompleteLUT_DSCC(dropTolerance, maxFill);
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.chol;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.interfaces.decomposition.DecompositionInterface;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.ComputePermutation;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.decomposition.chol.CholeskyUpLookingLDL_DSCC;
+import org.ejml.sparse.csc.misc.ApplyFillReductionPermutation_DSCC;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Linear solver for symmetric, possibly indefinite, matrices using a sparse LDL<sup>T</sup> decomposition.
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverCholeskyLDL_DSCC implements LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> {
+
+    CholeskyUpLookingLDL_DSCC ldl;
+
+    ApplyFillReductionPermutation_DSCC reduce;
+
+    DGrowArray gb = new DGrowArray();
+    DGrowArray gx = new DGrowArray();
+    IGrowArray gw = new IGrowArray();
+
+    DMatrixSparseCSC tmp = new DMatrixSparseCSC(1, 1, 1);
+    DMatrixSparseCSC Bp = new DMatrixSparseCSC(1, 1, 1);
+
+    // Number of rows in A
+    int AnumRows, AnumCols;
+
+    public LinearSolverCholeskyLDL_DSCC( CholeskyUpLookingLDL_DSCC ldl, @Nullable ComputePermutation<DMatrixSparseCSC> fillReduce ) {
+        this.ldl = ldl;
+        this.reduce = new ApplyFillReductionPermutation_DSCC(fillReduce, true);
+    }
+
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        this.AnumRows = A.numRows;
+        this.AnumCols = A.numCols;
+        DMatrixSparseCSC C = reduce.apply(A);
+        return ldl.decompose(C);
+    }
+
+    /**
+     * Computed using the elements in D since the diagonal elements in L are all one
+     */
+    @Override
+    public /**/double quality() {
+        int N = ldl.getL().numCols;
+        double[] D = ldl.getDiagonal();
+
+        double max = 0.0;
+        for (int i = 0; i < N; i++) {
+            max = Math.max(max, Math.abs(D[i]));
+        }
+        if (max == 0.0)
+            return 0.0;
+
+        double quality = 1.0;
+        for (int i = 0; i < N; i++) {
+            quality *= D[i]/max;
+        }
+        return Math.abs(quality);
+    }
+
+    @Override
+    public void solveSparse( DMatrixSparseCSC B, DMatrixSparseCSC X ) {
+        X.reshape(AnumCols, B.numCols, X.numRows);
+
+        IGrowArray gw1 = ldl.getGw();
+
+        DMatrixSparseCSC L = ldl.getL();
+
+        tmp.reshape(L.numRows, B.numCols, 1);
+        int[] Pinv = reduce.getArrayPinv();
+        int[] P = reduce.getArrayP();
+
+        if (Pinv != null && P != null) {
+            // Solve for P*A*P' * (P*x) = P*b then undo the permutation
+            CommonOps_DSCC.permuteRowInv(Pinv, B, Bp);
+            TriangularSolver_DSCC.solve(L, true, Bp, tmp, null, gx, gw, gw1);
+            divideRowsByD(tmp);
+            Bp.reshape(L.numRows, B.numCols, 1);
+            TriangularSolver_DSCC.solveTran(L, true, tmp, Bp, null, gx, gw, gw1);
+            CommonOps_DSCC.permuteRowInv(P, Bp, X);
+        } else {
+            TriangularSolver_DSCC.solve(L, true, B, tmp, null, gx, gw, gw1);
+            divideRowsByD(tmp);
+            TriangularSolver_DSCC.solveTran(L, true, tmp, X, null, gx, gw, gw1);
+        }
+    }
+
+    private void divideRowsByD( DMatrixSparseCSC M ) {
+        double[] D = ldl.getDiagonal();
+        for (int i = 0; i < M.nz_length; i++) {
+            M.nz_values[i] /= D[M.nz_rows[i]];
+        }
+    }
+
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        ldl.setStructureLocked(locked);
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return ldl.isStructureLocked();
+    }
+
+    @Override
+    public void solve( DMatrixRMaj B, DMatrixRMaj X ) {
+        UtilEjml.checkReshapeSolve(AnumRows, AnumCols, B, X);
+
+        DMatrixSparseCSC L = ldl.getL();
+        double[] D = ldl.getDiagonal();
+
+        int N = L.numRows;
+
+        double[] b = adjust(gb, N);
+        double[] x = adjust(gx, N);
+
+        int[] Pinv = reduce.getArrayPinv();
+
+        for (int col = 0; col < B.numCols; col++) {
+            int index = col;
+            for (int i = 0; i < N; i++, index += B.numCols) b[i] = B.data[index];
+
+            double[] y = b;
+            if (Pinv != null) {
+                CommonOps_DSCC.permuteInv(Pinv, b, x, N);
+                y = x;
+            }
+            TriangularSolver_DSCC.solveL(L, y);
+            for (int i = 0; i < N; i++) {
+                y[i] /= D[i];
+            }
+            TriangularSolver_DSCC.solveTranL(L, y);
+            if (Pinv != null) {
+                CommonOps_DSCC.permute(Pinv, x, b, N);
+            }
+
+            index = col;
+            for (int i = 0; i < N; i++, index += X.numCols) X.data[index] = b[i];
+        }
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return ldl.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    @Override
+    public <D extends DecompositionInterface> D getDecomposition() {
+        return (D)ldl;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Solves A*x=b using the stabilized bi-conjugate gradient method, BiCGSTAB, where A is a square nonsymmetric
+ * matrix. Each iteration requires two matrix-vector multiplications and the amount of memory is fixed, unlike
+ * GMRES, but convergence can be erratic and it can break down. The preconditioner is applied on the right.</p>
+ *
+ * <p>See "Bi-CGSTAB: A Fast and Smoothly Converging Variant of Bi-CG for the Solution of Nonsymmetric Linear
+ * Systems" by H. A. van der Vorst, 1992</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverBiCGStab_DSCC extends LinearSolverIterative_DSCC {
+    // work space
+    DGrowArray gr = new DGrowArray();
+    DGrowArray grhat = new DGrowArray();
+    DGrowArray gp = new DGrowArray();
+    DGrowArray gv = new DGrowArray();
+    DGrowArray gphat = new DGrowArray();
+    DGrowArray gshat = new DGrowArray();
+    DGrowArray gt = new DGrowArray();
+
+    /**
+     * @param preconditioner (Optional) Preconditioner. If null then no preconditioner is used.
+     * @param tolerance Convergence tolerance relative to the norm of b. Try 1e-8.
+     * @param maxIterations Maximum number of iterations. If &le; 0 then the number of rows in A is used.
+     */
+    public LinearSolverBiCGStab_DSCC( @Nullable Preconditioner_DSCC preconditioner,
+                                      double tolerance, int maxIterations ) {
+        super(preconditioner, tolerance, maxIterations);
+    }
+
+    @Override
+    protected void solveVector( DMatrixSparseCSC A, double[] b, double[] x ) {
+        final int N = A.numRows;
+        double[] r = adjust(gr, N);
+        double[] rhat = adjust(grhat, N);
+        double[] p = adjust(gp, N);
+        double[] v = adjust(gv, N);
+        double[] phat = adjust(gphat, N);
+        double[] shat = adjust(gshat, N);
+        double[] t = adjust(gt, N);
+        // s is stored in r since r isn't needed after s has been computed
+        double[] s = r;
+
+        int maxIterations = maxIterations(N);
+
+        // r = b - A*x
+        MatrixVectorMult_DSCC.mult(A, x, 0, r, 0);
+        for (int i = 0; i < N; i++) {
+            r[i] = b[i] - r[i];
+        }
+
+        double threshold = tolerance*norm(b, N);
+        iterations = 0;
+        residualNorm = norm(r, N);
+        converged = residualNorm <= threshold;
+        if (converged)
+            return;
+
+        System.arraycopy(r, 0, rhat, 0, N);
+        double rho = 1, alpha = 1, omega = 1;
+
+        while (iterations < maxIterations) {
+            iterations++;
+
+            double rhoNext = dot(rhat, r, N);
+            if (rhoNext == 0.0) {
+                // break down. r is orthogonal to rhat
+                break;
+            }
+            if (iterations == 1) {
+                System.arraycopy(r, 0, p, 0, N);
+            } else {
+                double beta = (rhoNext/rho)*(alpha/omega);
+                for (int i = 0; i < N; i++) {
+                    p[i] = r[i] + beta*(p[i] - omega*v[i]);
+                }
+            }
+            rho = rhoNext;
+
+            // v = A*M^-1*p
+            precondition(p, phat, N);
+            MatrixVectorMult_DSCC.mult(A, phat, 0, v, 0);
+            double rhatv = dot(rhat, v, N);
+            if (rhatv == 0.0)
+                break;
+            alpha = rho/rhatv;
+
+            // s = r - alpha*v
+            for (int i = 0; i < N; i++) {
+                s[i] -= alpha*v[i];
+            }
+            residualNorm = norm(s, N);
+            if (residualNorm <= threshold) {
+                for (int i = 0; i < N; i++) {
+                    x[i] += alpha*phat[i];
+                }
+                converged = true;
+                break;
+            }
+
+            // t = A*M^-1*s
+            precondition(s, shat, N);
+            MatrixVectorMult_DSCC.mult(A, shat, 0, t, 0);
+            double tt = dot(t, t, N);
+            omega = tt == 0.0 ? 0.0 : dot(t, s, N)/tt;
+
+            // x = x + alpha*phat + omega*shat and r = s - omega*t
+            for (int i = 0; i < N; i++) {
+                x[i] += alpha*phat[i] + omega*shat[i];
+                r[i] = s[i] - omega*t[i];
+            }
+
+            residualNorm = norm(r, N);
+            if (residualNorm <= threshold) {
+                converged = true;
+                break;
+            }
+            if (omega == 0.0) {
+                // can't continue since it will divide by omega
+                break;
+            }
+        }
+    }
+}
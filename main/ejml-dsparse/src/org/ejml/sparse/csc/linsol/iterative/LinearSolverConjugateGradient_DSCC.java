@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Solves A*x=b using the preconditioned conjugate gradient (PCG) method, where A is symmetric positive definite.
+ * Unlike the direct solvers it doesn't need to factor A, so the memory it needs is only a few vectors on
+ * top of A and the preconditioner. Both the upper and lower triangular portions of A must be filled in.</p>
+ *
+ * <p>See "An Introduction to the Conjugate Gradient Method Without the Agonizing Pain" by Jonathan Richard
+ * Shewchuk.</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverConjugateGradient_DSCC extends LinearSolverIterative_DSCC {
+    // work space
+    DGrowArray gr = new DGrowArray();
+    DGrowArray gz = new DGrowArray();
+    DGrowArray gp = new DGrowArray();
+    DGrowArray gq = new DGrowArray();
+
+    /**
+     * @param preconditioner (Optional) Preconditioner. If null then no preconditioner is used.
+     * @param tolerance Convergence tolerance relative to the norm of b. Try 1e-8.
+     * @param maxIterations Maximum number of iterations. If &le; 0 then the number of rows in A is used.
+     */
+    public LinearSolverConjugateGradient_DSCC( @Nullable Preconditioner_DSCC preconditioner,
+                                               double tolerance, int maxIterations ) {
+        super(preconditioner, tolerance, maxIterations);
+    }
+
+    @Override
+    protected void solveVector( DMatrixSparseCSC A, double[] b, double[] x ) {
+        final int N = A.numRows;
+        double[] r = adjust(gr, N);
+        double[] z = adjust(gz, N);
+        double[] p = adjust(gp, N);
+        double[] q = adjust(gq, N);
+
+        int maxIterations = maxIterations(N);
+
+        // r = b - A*x
+        MatrixVectorMult_DSCC.mult(A, x, 0, r, 0);
+        for (int i = 0; i < N; i++) {
+            r[i] = b[i] - r[i];
+        }
+
+        double threshold = tolerance*norm(b, N);
+        iterations = 0;
+        residualNorm = norm(r, N);
+        converged = residualNorm <= threshold;
+        if (converged)
+            return;
+
+        precondition(r, z, N);
+        System.arraycopy(z, 0, p, 0, N);
+        double rz = dot(r, z, N);
+
+        while (iterations < maxIterations) {
+            iterations++;
+
+            // q = A*p
+            MatrixVectorMult_DSCC.mult(A, p, 0, q, 0);
+            double pq = dot(p, q, N);
+            if (!(pq > 0.0)) {
+                // A isn't positive definite or the search direction has vanished
+                break;
+            }
+
+            double alpha = rz/pq;
+            for (int i = 0; i < N; i++) {
+                x[i] += alpha*p[i];
+                r[i] -= alpha*q[i];
+            }
+
+            residualNorm = norm(r, N);
+            if (residualNorm <= threshold) {
+                converged = true;
+                break;
+            }
+
+            precondition(r, z, N);
+            double rzNext = dot(r, z, N);
+            double beta = rzNext/rz;
+            rz = rzNext;
+            for (int i = 0; i < N; i++) {
+                p[i] = z[i] + beta*p[i];
+            }
+        }
+    }
+}
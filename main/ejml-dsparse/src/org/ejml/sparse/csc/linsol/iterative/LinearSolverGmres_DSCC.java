@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.mult.MatrixVectorMult_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Solves A*x=b using restarted GMRES(m), where A is a square nonsymmetric matrix. An orthonormal basis
+ * of the Krylov subspace is built using modified Gram-Schmidt and the least squares problem is updated using
+ * Givens rotations. After m iterations the solution is updated and the method restarts from the new residual, which
+ * bounds the memory to m+1 vectors. Larger values of m converge more reliably at the cost of more memory and
+ * work per iteration.</p>
+ *
+ * <p>The preconditioner is applied on the right, A*M<sup>-1</sup>*u = b with x = M<sup>-1</sup>*u, so the residual
+ * which is minimized is the residual of the original system.</p>
+ *
+ * <p>See "Iterative Methods for Sparse Linear Systems" 2nd Ed. by Yousef Saad, Algorithm 9.5</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverGmres_DSCC extends LinearSolverIterative_DSCC {
+    // Number of iterations before it restarts
+    int restart;
+
+    // Orthonormal basis. Each row is a vector. (restart+1) x N
+    DGrowArray gV = new DGrowArray();
+    // Upper Hessenberg matrix. Stored row-major with 'restart' columns. (restart+1) x restart
+    DGrowArray gH = new DGrowArray();
+    // Givens rotations
+    DGrowArray gcs = new DGrowArray();
+    DGrowArray gsn = new DGrowArray();
+    // right hand side of the least squares problem
+    DGrowArray gg = new DGrowArray();
+
+    DGrowArray gr = new DGrowArray();
+    DGrowArray gw = new DGrowArray();
+    DGrowArray gz = new DGrowArray();
+
+    /**
+     * @param preconditioner (Optional) Preconditioner. If null then no preconditioner is used.
+     * @param restart Number of iterations before restarting, the 'm' in GMRES(m). Try 30.
+     * @param tolerance Convergence tolerance relative to the norm of b. Try 1e-8.
+     * @param maxIterations Maximum number of iterations in total. If &le; 0 then the number of rows in A is used.
+     */
+    public LinearSolverGmres_DSCC( @Nullable Preconditioner_DSCC preconditioner, int restart,
+                                   double tolerance, int maxIterations ) {
+        super(preconditioner, tolerance, maxIterations);
+        if (restart <= 0)
+            throw new IllegalArgumentException("restart must be a positive number");
+        this.restart = restart;
+    }
+
+    @Override
+    protected void solveVector( DMatrixSparseCSC A, double[] b, double[] x ) {
+        final int N = A.numRows;
+        final int m = Math.max(1, Math.min(restart, N));
+        double[] V = adjust(gV, (m + 1)*N);
+        double[] H = adjust(gH, (m + 1)*m);
+        double[] cs = adjust(gcs, m);
+        double[] sn = adjust(gsn, m);
+        double[] g = adjust(gg, m + 1);
+        double[] r = adjust(gr, N);
+        double[] w = adjust(gw, N);
+        double[] z = adjust(gz, N);
+
+        int maxIterations = maxIterations(N);
+        double threshold = tolerance*norm(b, N);
+
+        iterations = 0;
+        residual(A, b, x, r);
+        residualNorm = norm(r, N);
+        converged = residualNorm <= threshold;
+
+        while (!converged && iterations < maxIterations) {
+            // first basis vector is the normalized residual
+            double beta = residualNorm;
+            for (int i = 0; i < N; i++) {
+                V[i] = r[i]/beta;
+            }
+            Arrays.fill(g, 0, m + 1, 0.0);
+            g[0] = beta;
+
+            // number of basis vectors used to update the solution
+            int k = 0;
+            for (int j = 0; j < m && iterations < maxIterations; j++) {
+                iterations++;
+                k = j + 1;
+
+                // w = A*M^-1*v(j)
+                System.arraycopy(V, j*N, r, 0, N);
+                precondition(r, z, N);
+                MatrixVectorMult_DSCC.mult(A, z, 0, w, 0);
+
+                // Modified Gram-Schmidt
+                for (int i = 0; i <= j; i++) {
+                    double h = 0;
+                    for (int l = 0, idx = i*N; l < N; l++, idx++) {
+                        h += w[l]*V[idx];
+                    }
+                    for (int l = 0, idx = i*N; l < N; l++, idx++) {
+                        w[l] -= h*V[idx];
+                    }
+                    H[i*m + j] = h;
+                }
+                double hNext = norm(w, N);
+                H[(j + 1)*m + j] = hNext;
+                if (hNext != 0.0) {
+                    for (int l = 0, idx = (j + 1)*N; l < N; l++, idx++) {
+                        V[idx] = w[l]/hNext;
+                    }
+                }
+
+                // Apply the previous rotations to the new column then compute the rotation which removes H(j+1,j)
+                for (int i = 0; i < j; i++) {
+                    double a = H[i*m + j];
+                    double c = H[(i + 1)*m + j];
+                    H[i*m + j] = cs[i]*a + sn[i]*c;
+                    H[(i + 1)*m + j] = -sn[i]*a + cs[i]*c;
+                }
+                double a = H[j*m + j];
+                double denom = Math.sqrt(a*a + hNext*hNext);
+                if (denom == 0.0) {
+                    cs[j] = 1.0;
+                    sn[j] = 0.0;
+                } else {
+                    cs[j] = a/denom;
+                    sn[j] = hNext/denom;
+                }
+                H[j*m + j] = denom;
+                H[(j + 1)*m + j] = 0.0;
+                g[j + 1] = -sn[j]*g[j];
+                g[j] = cs[j]*g[j];
+
+                // estimated residual norm. hNext == 0 means the exact solution is in the subspace
+                if (Math.abs(g[j + 1]) <= threshold || hNext == 0.0)
+                    break;
+            }
+
+            // Solve the upper triangular system H*y = g in place and update the solution, x += M^-1*V*y
+            for (int i = k - 1; i >= 0; i--) {
+                double sum = g[i];
+                for (int l = i + 1; l < k; l++) {
+                    sum -= H[i*m + l]*g[l];
+                }
+                g[i] = sum/H[i*m + i];
+            }
+            Arrays.fill(w, 0, N, 0.0);
+            for (int i = 0; i < k; i++) {
+                double yi = g[i];
+                for (int l = 0, idx = i*N; l < N; l++, idx++) {
+                    w[l] += yi*V[idx];
+                }
+            }
+            precondition(w, z, N);
+            for (int i = 0; i < N; i++) {
+                x[i] += z[i];
+            }
+
+            // the actual residual is used for the convergence test since the estimate can drift
+            residual(A, b, x, r);
+            double previous = residualNorm;
+            residualNorm = norm(r, N);
+            converged = residualNorm <= threshold;
+
+            // Stagnation or a singular system
+            if (!(residualNorm < previous))
+                break;
+        }
+    }
+
+    /**
+     * r = b - A*x
+     */
+    private static void residual( DMatrixSparseCSC A, double[] b, double[] x, double[] r ) {
+        MatrixVectorMult_DSCC.mult(A, x, 0, r, 0);
+        for (int i = 0; i < A.numRows; i++) {
+            r[i] = b[i] - r[i];
+        }
+    }
+
+    public int getRestart() {
+        return restart;
+    }
+}
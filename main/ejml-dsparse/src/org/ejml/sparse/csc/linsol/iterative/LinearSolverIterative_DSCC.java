@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.DecompositionInterface;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Base class for iterative linear solvers. Each column in B is solved independently by the implementation of
+ * {@link #solveVector}. Iterations stop when ||b - A*x|| &le; tolerance*||b|| or the maximum number of
+ * iterations has been reached. Call {@link #isConverged()} to see if the most recent solution converged.</p>
+ *
+ * <p>A reference to A is saved and it's not modified. Once the internal work space has grown to the size of the
+ * problem, no memory is declared while solving.</p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class LinearSolverIterative_DSCC implements LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> {
+    // Optional preconditioner. If null then no preconditioner is used
+    @Nullable Preconditioner_DSCC preconditioner;
+
+    // Iterations stop when the norm of the residual is less than this fraction of the norm of b
+    double tolerance;
+    // Maximum number of iterations. If <= 0 then it's the number of rows in A
+    int maxIterations;
+
+    // If true then the value of X passed into solve() is used as the initial estimate
+    boolean useInitialX = false;
+
+    @Nullable DMatrixSparseCSC A;
+
+    // statistics for the most recently solved column
+    int iterations;
+    double residualNorm;
+    boolean converged;
+
+    // true if every column converged in the most recent call to solve
+    boolean allConverged;
+
+    boolean locked = false;
+
+    // work space
+    DGrowArray gb = new DGrowArray();
+    DGrowArray gx = new DGrowArray();
+
+    protected LinearSolverIterative_DSCC( @Nullable Preconditioner_DSCC preconditioner,
+                                          double tolerance, int maxIterations ) {
+        this.preconditioner = preconditioner;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+        this.A = A;
+        if (preconditioner != null)
+            return preconditioner.setA(A);
+        return true;
+    }
+
+    @Override
+    public /**/double quality() {
+        throw new IllegalArgumentException("Not supported by iterative solvers");
+    }
+
+    @Override
+    public void solve( DMatrixRMaj B, DMatrixRMaj X ) {
+        DMatrixSparseCSC A = this.A;
+        if (A == null)
+            throw new IllegalArgumentException("Must call setA() first");
+        if (B.numRows != A.numRows)
+            throw new IllegalArgumentException("Unexpected number of rows in B based on shape of A.");
+        if (useInitialX) {
+            if (X.numRows != A.numCols || X.numCols != B.numCols)
+                throw new IllegalArgumentException("X must have the expected shape when it's the initial estimate");
+        } else {
+            X.reshape(A.numCols, B.numCols);
+        }
+
+        int N = A.numRows;
+        double[] b = adjust(gb, N);
+        double[] x = adjust(gx, N);
+
+        allConverged = true;
+        for (int col = 0; col < B.numCols; col++) {
+            for (int i = 0, index = col; i < N; i++, index += B.numCols) {
+                b[i] = B.data[index];
+                x[i] = useInitialX ? X.data[i*X.numCols + col] : 0.0;
+            }
+
+            solveVector(A, b, x);
+            allConverged &= converged;
+
+            for (int i = 0, index = col; i < N; i++, index += X.numCols) {
+                X.data[index] = x[i];
+            }
+        }
+    }
+
+    /**
+     * Solves against each column in B and saves the non-zero elements in the solution. Iterative methods always
+     * compute a dense solution, so this is no more efficient than {@link #solve}.
+     */
+    @Override
+    public void solveSparse( DMatrixSparseCSC B, DMatrixSparseCSC X ) {
+        DMatrixSparseCSC A = this.A;
+        if (A == null)
+            throw new IllegalArgumentException("Must call setA() first");
+        if (B.numRows != A.numRows)
+            throw new IllegalArgumentException("Unexpected number of rows in B based on shape of A.");
+
+        int N = A.numRows;
+        double[] b = adjust(gb, N);
+        double[] x = adjust(gx, N);
+
+        X.reshape(A.numCols, B.numCols, X.nz_values.length);
+        X.indicesSorted = true;
+        allConverged = true;
+        for (int col = 0; col < B.numCols; col++) {
+            Arrays.fill(b, 0, N, 0.0);
+            Arrays.fill(x, 0, N, 0.0);
+            for (int idx = B.col_idx[col]; idx < B.col_idx[col + 1]; idx++) {
+                b[B.nz_rows[idx]] = B.nz_values[idx];
+            }
+
+            solveVector(A, b, x);
+            allConverged &= converged;
+
+            int count = 0;
+            for (int i = 0; i < N; i++) {
+                if (x[i] != 0.0)
+                    count++;
+            }
+            if (X.nz_length + count > X.nz_values.length)
+                X.growMaxLength(X.nz_length + count, true);
+            for (int i = 0; i < N; i++) {
+                if (x[i] == 0.0)
+                    continue;
+                X.nz_rows[X.nz_length] = i;
+                X.nz_values[X.nz_length++] = x[i];
+            }
+            X.col_idx[col + 1] = X.nz_length;
+        }
+    }
+
+    /**
+     * Solves A*x = b for a single vector. Must update {@link #iterations}, {@link #residualNorm}, and
+     * {@link #converged}.
+     *
+     * @param b (Input) vector. Not modified.
+     * @param x (Input) Initial estimate. (Output) solution.
+     */
+    protected abstract void solveVector( DMatrixSparseCSC A, double[] b, double[] x );
+
+    /**
+     * Maximum number of iterations for a matrix with N rows
+     */
+    protected int maxIterations( int N ) {
+        return maxIterations <= 0 ? N : maxIterations;
+    }
+
+    /**
+     * z = M<sup>-1</sup>*r, or a copy of r if there's no preconditioner
+     */
+    protected void precondition( double[] r, double[] z, int N ) {
+        if (preconditioner == null) {
+            System.arraycopy(r, 0, z, 0, N);
+        } else {
+            preconditioner.apply(r, z);
+        }
+    }
+
+    protected static double dot( double[] a, double[] b, int N ) {
+        double sum = 0;
+        for (int i = 0; i < N; i++) {
+            sum += a[i]*b[i];
+        }
+        return sum;
+    }
+
+    protected static double norm( double[] a, int N ) {
+        return Math.sqrt(dot(a, a, N));
+    }
+
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        this.locked = locked;
+        if (preconditioner != null)
+            preconditioner.setStructureLocked(locked);
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return locked;
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    @Override
+    public <D extends DecompositionInterface> D getDecomposition() {
+        throw new RuntimeException("Not supported");
+    }
+
+    /** Number of iterations used to solve the most recent column */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /** Norm of the residual, ||b - A*x||, for the most recent column */
+    public double getResidualNorm() {
+        return residualNorm;
+    }
+
+    /** True if every column in the most recent call to solve converged */
+    public boolean isConverged() {
+        return allConverged;
+    }
+
+    public @Nullable Preconditioner_DSCC getPreconditioner() {
+        return preconditioner;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance( double tolerance ) {
+        this.tolerance = tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    public boolean isUseInitialX() {
+        return useInitialX;
+    }
+
+    /**
+     * If true then the value of X passed into solve() is used as the initial estimate. Useful when solving a
+     * sequence of similar problems.
+     */
+    public void setUseInitialX( boolean useInitialX ) {
+        this.useInitialX = useInitialX;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Incomplete Cholesky preconditioner with zero fill in, IC(0). M = U<sup>T</sup>*U where U has the same
+ * structure as the upper triangular portion of A. Only the upper triangular portion of A is read and its
+ * diagonal elements must all be non-zero.</p>
+ *
+ * <p>IC(0) can break down even when A is positive definite. When that happens a multiple of the identity
+ * matrix is added to A and it tries again, with the shift doubling each time.</p>
+ *
+ * <p>See "Incomplete Cholesky Factorizations with Limited Memory" by Chih-Jen Lin and Jorge J. Moré.</p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIncompleteCholesky_DSCC implements Preconditioner_DSCC {
+    /** Maximum number of times it will increase the shift after a breakdown */
+    public int maxShiftTrials = 20;
+    /** The first shift tried is this fraction of the largest diagonal element */
+    public double initialShift = 1e-3;
+
+    // Upper triangular factor. Elements in a column are sorted and the diagonal is last
+    DMatrixSparseCSC U = new DMatrixSparseCSC(1, 1, 0);
+    // Index of the element in A that each element in U was copied from. -1 if the diagonal is missing
+    IGrowArray gmapA = new IGrowArray();
+
+    // The shift used in the most recent successful factorization
+    double shift;
+
+    // if true then the structure is locked and won't be computed again
+    boolean locked = false;
+    boolean initialized = false;
+
+    DGrowArray gy = new DGrowArray();
+
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if (!locked || !initialized) {
+            performSymbolic(A);
+            initialized = true;
+        }
+
+        double maxDiag = 0.0;
+        for (int col = 0; col < U.numCols; col++) {
+            maxDiag = Math.max(maxDiag, Math.abs(valueA(A, U.col_idx[col + 1] - 1)));
+        }
+
+        shift = 0.0;
+        for (int trial = 0; trial <= maxShiftTrials; trial++) {
+            if (performDecomposition(A, shift))
+                return true;
+            shift = shift == 0.0 ? initialShift*maxDiag : shift*2.0;
+        }
+        return false;
+    }
+
+    /**
+     * Copies the structure of the upper triangular portion of A into U and adds a diagonal element if one is missing
+     */
+    void performSymbolic( DMatrixSparseCSC A ) {
+        int N = A.numCols;
+        int[] mapA = adjust(gmapA, A.nz_length + N);
+
+        U.reshape(N, N, A.nz_length + N);
+        U.col_idx[0] = 0;
+        int nz = 0;
+        for (int col = 0; col < N; col++) {
+            int diag = -1;
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                int row = A.nz_rows[idx];
+                if (row < col) {
+                    U.nz_rows[nz] = row;
+                    mapA[nz++] = idx;
+                } else if (row == col) {
+                    diag = idx;
+                }
+            }
+            U.nz_rows[nz] = col;
+            mapA[nz++] = diag;
+            U.col_idx[col + 1] = nz;
+        }
+        U.nz_length = nz;
+
+        if (!A.indicesSorted) {
+            // sort the rows and the map together. The diagonal has the largest row so it will remain last
+            for (int col = 0; col < N; col++) {
+                int idx0 = U.col_idx[col];
+                int idx1 = U.col_idx[col + 1] - 1;
+                for (int i = idx0 + 1; i < idx1; i++) {
+                    int row = U.nz_rows[i];
+                    int map = mapA[i];
+                    int j = i - 1;
+                    while (j >= idx0 && U.nz_rows[j] > row) {
+                        U.nz_rows[j + 1] = U.nz_rows[j];
+                        mapA[j + 1] = mapA[j];
+                        j--;
+                    }
+                    U.nz_rows[j + 1] = row;
+                    mapA[j + 1] = map;
+                }
+            }
+        }
+        U.indicesSorted = true;
+    }
+
+    /**
+     * Computes the incomplete factorization of A + shift*I
+     *
+     * @return true if successful or false if it broke down
+     */
+    boolean performDecomposition( DMatrixSparseCSC A, double shift ) {
+        final int N = U.numCols;
+        final int[] rows = U.nz_rows;
+        final double[] values = U.nz_values;
+
+        // U(:,k) is computed in this dense array. Only elements in the pattern are ever non-zero
+        double[] y = adjust(gy, N);
+        Arrays.fill(y, 0, N, 0.0);
+
+        for (int k = 0; k < N; k++) {
+            int idx0 = U.col_idx[k];
+            int diag = U.col_idx[k + 1] - 1;
+
+            for (int p = idx0; p < diag; p++) {
+                y[rows[p]] = valueA(A, p);
+            }
+
+            // U(j,k) = (A(j,k) - sum_{i<j} U(i,j)*U(i,k))/U(j,j) for j in pattern, increasing order
+            double d = valueA(A, diag) + shift;
+            for (int p = idx0; p < diag; p++) {
+                int j = rows[p];
+                int diagJ = U.col_idx[j + 1] - 1;
+                double sum = y[j];
+                for (int q = U.col_idx[j]; q < diagJ; q++) {
+                    sum -= values[q]*y[rows[q]];
+                }
+                double ujk = sum/values[diagJ];
+                y[j] = ujk;
+                values[p] = ujk;
+                d -= ujk*ujk;
+            }
+
+            for (int p = idx0; p < diag; p++) {
+                y[rows[p]] = 0.0;
+            }
+
+            if (!(d > 0.0))
+                return false;
+            values[diag] = Math.sqrt(d);
+        }
+        return true;
+    }
+
+    private double valueA( DMatrixSparseCSC A, int indexU ) {
+        int indexA = gmapA.data[indexU];
+        return indexA < 0 ? 0.0 : A.nz_values[indexA];
+    }
+
+    /**
+     * Solves U<sup>T</sup>*U*z = r
+     */
+    @Override
+    public void apply( double[] r, double[] z ) {
+        System.arraycopy(r, 0, z, 0, U.numCols);
+        TriangularSolver_DSCC.solveTranU(U, z);
+        TriangularSolver_DSCC.solveU(U, z);
+    }
+
+    /**
+     * Returns the upper triangular factor
+     */
+    public DMatrixSparseCSC getU() {
+        return U;
+    }
+
+    /**
+     * The shift which was added to the diagonal in the most recent call to {@link #setA}. Zero if it didn't break down.
+     */
+    public double getShift() {
+        return shift;
+    }
+
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        this.locked = locked;
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return locked;
+    }
+}
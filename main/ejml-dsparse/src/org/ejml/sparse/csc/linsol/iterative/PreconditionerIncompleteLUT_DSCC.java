@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Incomplete LU preconditioner with threshold dropping, ILUT(&tau;,p). Unlike {@link PreconditionerIncompleteLU_DSCC}
+ * fill in is allowed, but only if it's large enough. While computing column j, elements with a magnitude less
+ * than &tau; times the norm of A(:,j) are dropped and then only the p largest elements in the L and U
+ * portions of the column are kept. The diagonal is always kept. Smaller &tau; and larger p produce a more
+ * accurate approximation which is more expensive to compute and apply.</p>
+ *
+ * <p>The structure depends on the values in A. If the structure is locked then the structure found for the first
+ * matrix is reused and only the numerical values are recomputed, the same as ILU(0) but with the ILUT structure.</p>
+ *
+ * <p>See "ILUT: A dual threshold incomplete LU factorization" by Yousef Saad, 1994</p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIncompleteLUT_DSCC extends PreconditionerIncompleteLU_DSCC {
+    // Relative drop tolerance
+    double dropTolerance;
+    // Maximum number of off diagonal elements in each column of L and U
+    int maxFill;
+
+    // workspace
+    // Rows in the current column which are non-zero
+    IGrowArray gpattern = new IGrowArray();
+    // min-heap of rows above the diagonal which still need to be processed
+    IGrowArray gheap = new IGrowArray();
+    // rows which are candidates for being saved
+    IGrowArray gkeep = new IGrowArray();
+
+    /**
+     * @param dropTolerance Elements smaller than this fraction of the column's norm are dropped. Try 1e-3.
+     * @param maxFill Maximum number of off diagonal elements in each column of L and U. Try 10.
+     */
+    public PreconditionerIncompleteLUT_DSCC( double dropTolerance, int maxFill ) {
+        if (dropTolerance < 0)
+            throw new IllegalArgumentException("dropTolerance must be positive");
+        if (maxFill < 0)
+            throw new IllegalArgumentException("maxFill must be positive");
+        this.dropTolerance = dropTolerance;
+        this.maxFill = maxFill;
+    }
+
+    public PreconditionerIncompleteLUT_DSCC() {
+        this(1e-3, 10);
+    }
+
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if (locked && initialized)
+            return performNumeric(A);
+
+        initialized = performThreshold(A);
+        return initialized;
+    }
+
+    /**
+     * Computes the factorization and its structure at the same time
+     *
+     * @return true if successful or false if a zero was encountered along the diagonal of U
+     */
+    boolean performThreshold( DMatrixSparseCSC A ) {
+        final int N = A.numCols;
+        int[] mark = adjust(gmark, N);
+        double[] x = adjust(gx, N);
+        int[] pattern = adjust(gpattern, N);
+        adjust(gheap, N);
+        int[] keep = adjust(gkeep, N);
+        Arrays.fill(mark, 0, N, -1);
+        Arrays.fill(x, 0, N, 0.0);
+
+        L.reshape(N, N, Math.max(L.nz_values.length, A.nz_length + N));
+        U.reshape(N, N, Math.max(U.nz_values.length, A.nz_length + N));
+
+        for (int j = 0; j < N; j++) {
+            int numPattern = 0;
+            gheap.length = 0;
+
+            // x = A(:,j)
+            double norm = 0.0;
+            for (int p = A.col_idx[j]; p < A.col_idx[j + 1]; p++) {
+                int row = A.nz_rows[p];
+                double value = A.nz_values[p];
+                norm += value*value;
+                x[row] += value;
+                if (mark[row] != j) {
+                    mark[row] = j;
+                    pattern[numPattern++] = row;
+                    if (row < j)
+                        heapPush(row);
+                }
+            }
+            double tau = dropTolerance*Math.sqrt(norm);
+
+            // Sparse triangular solve with L. Fill in above the diagonal is processed in increasing order
+            while (gheap.length > 0) {
+                int k = heapPop();
+                double ukj = x[k];
+                if (Math.abs(ukj) <= tau) {
+                    x[k] = 0.0;
+                    continue;
+                }
+                for (int q = L.col_idx[k] + 1; q < L.col_idx[k + 1]; q++) {
+                    int i = L.nz_rows[q];
+                    if (mark[i] != j) {
+                        mark[i] = j;
+                        pattern[numPattern++] = i;
+                        if (i < j)
+                            heapPush(i);
+                    }
+                    x[i] -= L.nz_values[q]*ukj;
+                }
+            }
+
+            double ujj = x[j];
+            if (ujj == 0.0 || Double.isNaN(ujj)) {
+                return false;
+            }
+
+            // Save the largest elements in U
+            int numKeep = 0;
+            for (int i = 0; i < numPattern; i++) {
+                int row = pattern[i];
+                if (row < j && Math.abs(x[row]) > tau)
+                    keep[numKeep++] = row;
+            }
+            numKeep = selectLargest(keep, numKeep, x);
+            growMaxLength(U, U.nz_length + numKeep + 1);
+            System.arraycopy(keep, 0, U.nz_rows, U.nz_length, numKeep);
+            Arrays.sort(U.nz_rows, U.nz_length, U.nz_length + numKeep);
+            for (int i = 0; i < numKeep; i++, U.nz_length++) {
+                U.nz_values[U.nz_length] = x[U.nz_rows[U.nz_length]];
+            }
+            U.nz_rows[U.nz_length] = j;
+            U.nz_values[U.nz_length++] = ujj;
+            U.col_idx[j + 1] = U.nz_length;
+
+            // Save the largest elements in L
+            numKeep = 0;
+            for (int i = 0; i < numPattern; i++) {
+                int row = pattern[i];
+                if (row > j && Math.abs(x[row]) > tau)
+                    keep[numKeep++] = row;
+            }
+            numKeep = selectLargest(keep, numKeep, x);
+            growMaxLength(L, L.nz_length + numKeep + 1);
+            L.nz_rows[L.nz_length] = j;
+            L.nz_values[L.nz_length++] = 1.0;
+            System.arraycopy(keep, 0, L.nz_rows, L.nz_length, numKeep);
+            Arrays.sort(L.nz_rows, L.nz_length, L.nz_length + numKeep);
+            for (int i = 0; i < numKeep; i++, L.nz_length++) {
+                L.nz_values[L.nz_length] = x[L.nz_rows[L.nz_length]]/ujj;
+            }
+            L.col_idx[j + 1] = L.nz_length;
+
+            for (int i = 0; i < numPattern; i++) {
+                x[pattern[i]] = 0.0;
+            }
+        }
+        L.indicesSorted = true;
+        U.indicesSorted = true;
+        return true;
+    }
+
+    private static void growMaxLength( DMatrixSparseCSC M, int length ) {
+        if (length > M.nz_values.length)
+            M.growMaxLength(Math.max(length, M.nz_values.length*2), true);
+    }
+
+    /**
+     * Rearranges the rows so that the ones with the largest magnitude are first
+     *
+     * @return The number of rows which should be kept
+     */
+    int selectLargest( int[] rows, int length, double[] x ) {
+        if (length <= maxFill)
+            return length;
+
+        // Quick select. When done the first maxFill elements will be the largest
+        int lo = 0, hi = length - 1;
+        while (lo < hi) {
+            double pivot = Math.abs(x[rows[(lo + hi) >>> 1]]);
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (Math.abs(x[rows[i]]) > pivot) i++;
+                while (Math.abs(x[rows[j]]) < pivot) j--;
+                if (i <= j) {
+                    int tmp = rows[i];
+                    rows[i++] = rows[j];
+                    rows[j--] = tmp;
+                }
+            }
+            if (maxFill - 1 <= j)
+                hi = j;
+            else if (maxFill - 1 >= i)
+                lo = i;
+            else
+                break;
+        }
+        return maxFill;
+    }
+
+    private void heapPush( int value ) {
+        int[] heap = gheap.data;
+        int i = gheap.length++;
+        while (i > 0) {
+            int parent = (i - 1)/2;
+            if (heap[parent] <= value)
+                break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private int heapPop() {
+        int[] heap = gheap.data;
+        int top = heap[0];
+        int last = heap[--gheap.length];
+        int size = gheap.length;
+        int i = 0;
+        while (true) {
+            int child = 2*i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && heap[child + 1] < heap[child])
+                child++;
+            if (heap[child] >= last)
+                break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0)
+            heap[i] = last;
+        return top;
+    }
+
+    public double getDropTolerance() {
+        return dropTolerance;
+    }
+
+    public int getMaxFill() {
+        return maxFill;
+    }
+}
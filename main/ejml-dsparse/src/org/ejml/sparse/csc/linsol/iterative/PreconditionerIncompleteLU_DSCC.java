@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.csc.misc.TriangularSolver_DSCC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * <p>Incomplete LU preconditioner with zero fill in, ILU(0). M = L*U where L is unit lower triangular and U is
+ * upper triangular. Together they have the same structure as A, so any fill in which would be created by a
+ * complete LU decomposition is discarded. A can be nonsymmetric but no pivoting is done, so it will fail if a
+ * zero is encountered along the diagonal of U.</p>
+ *
+ * <p>The factors are computed one column at a time, left looking, and can be used directly through
+ * {@link #getL()} and {@link #getU()}. If the structure is locked then only the numerical values are recomputed
+ * when {@link #setA} is called again.</p>
+ *
+ * <p>See "Iterative Methods for Sparse Linear Systems" 2nd Ed. by Yousef Saad, Section 10.3.2</p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIncompleteLU_DSCC implements Preconditioner_DSCC {
+    // Unit lower triangular factor. The diagonal is the first element in each column
+    DMatrixSparseCSC L = new DMatrixSparseCSC(1, 1, 0);
+    // Upper triangular factor. The diagonal is the last element in each column
+    DMatrixSparseCSC U = new DMatrixSparseCSC(1, 1, 0);
+
+    // if true then the structure is locked and won't be computed again
+    boolean locked = false;
+    boolean initialized = false;
+
+    // workspace
+    IGrowArray gmark = new IGrowArray();
+    DGrowArray gx = new DGrowArray();
+
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if (!locked || !initialized) {
+            performSymbolic(A);
+            initialized = true;
+        }
+        return performNumeric(A);
+    }
+
+    /**
+     * Splits the structure of A into L and U. Diagonal elements are added if they are missing.
+     */
+    void performSymbolic( DMatrixSparseCSC A ) {
+        final int N = A.numCols;
+        int countL = N, countU = N;
+        for (int col = 0; col < N; col++) {
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                int row = A.nz_rows[idx];
+                if (row > col)
+                    countL++;
+                else if (row < col)
+                    countU++;
+            }
+        }
+
+        L.reshape(N, N, countL);
+        U.reshape(N, N, countU);
+        int nzL = 0, nzU = 0;
+        for (int col = 0; col < N; col++) {
+            L.nz_rows[nzL++] = col;
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                int row = A.nz_rows[idx];
+                if (row > col)
+                    L.nz_rows[nzL++] = row;
+                else if (row < col)
+                    U.nz_rows[nzU++] = row;
+            }
+            U.nz_rows[nzU++] = col;
+
+            if (!A.indicesSorted) {
+                Arrays.sort(L.nz_rows, L.col_idx[col] + 1, nzL);
+                Arrays.sort(U.nz_rows, U.col_idx[col], nzU - 1);
+            }
+            L.col_idx[col + 1] = nzL;
+            U.col_idx[col + 1] = nzU;
+        }
+        L.nz_length = nzL;
+        U.nz_length = nzU;
+        L.indicesSorted = true;
+        U.indicesSorted = true;
+    }
+
+    /**
+     * Computes the values in L and U using their existing structure. Elements in A which are outside
+     * the structure are ignored.
+     *
+     * @return true if successful or false if a zero was encountered along the diagonal of U
+     */
+    boolean performNumeric( DMatrixSparseCSC A ) {
+        final int N = A.numCols;
+        int[] mark = adjust(gmark, N);
+        double[] x = adjust(gx, N);
+        Arrays.fill(mark, 0, N, -1);
+
+        for (int j = 0; j < N; j++) {
+            int idxU0 = U.col_idx[j];
+            int idxU1 = U.col_idx[j + 1];
+            int idxL0 = L.col_idx[j];
+            int idxL1 = L.col_idx[j + 1];
+
+            // x = A(:,j) inside the structure of column j
+            for (int p = idxU0; p < idxU1; p++) {
+                mark[U.nz_rows[p]] = j;
+                x[U.nz_rows[p]] = 0.0;
+            }
+            for (int p = idxL0 + 1; p < idxL1; p++) {
+                mark[L.nz_rows[p]] = j;
+                x[L.nz_rows[p]] = 0.0;
+            }
+            for (int p = A.col_idx[j]; p < A.col_idx[j + 1]; p++) {
+                int row = A.nz_rows[p];
+                if (mark[row] == j)
+                    x[row] += A.nz_values[p];
+            }
+
+            // Rows are processed in increasing order. x[k] will not be modified after it's been reached
+            for (int p = idxU0; p < idxU1 - 1; p++) {
+                int k = U.nz_rows[p];
+                double ukj = x[k];
+                U.nz_values[p] = ukj;
+                if (ukj == 0.0)
+                    continue;
+                for (int q = L.col_idx[k] + 1; q < L.col_idx[k + 1]; q++) {
+                    int i = L.nz_rows[q];
+                    if (mark[i] == j)
+                        x[i] -= L.nz_values[q]*ukj;
+                }
+            }
+
+            double ujj = x[j];
+            if (ujj == 0.0 || Double.isNaN(ujj))
+                return false;
+            U.nz_values[idxU1 - 1] = ujj;
+
+            L.nz_values[idxL0] = 1.0;
+            for (int p = idxL0 + 1; p < idxL1; p++) {
+                L.nz_values[p] = x[L.nz_rows[p]]/ujj;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Solves L*U*z = r
+     */
+    @Override
+    public void apply( double[] r, double[] z ) {
+        System.arraycopy(r, 0, z, 0, U.numCols);
+        TriangularSolver_DSCC.solveL(L, z);
+        TriangularSolver_DSCC.solveU(U, z);
+    }
+
+    /**
+     * Returns the unit lower triangular factor
+     */
+    public DMatrixSparseCSC getL() {
+        return L;
+    }
+
+    /**
+     * Returns the upper triangular factor
+     */
+    public DMatrixSparseCSC getU() {
+        return U;
+    }
+
+    @Override
+    public void setStructureLocked( boolean locked ) {
+        this.locked = locked;
+    }
+
+    @Override
+    public boolean isStructureLocked() {
+        return locked;
+    }
+}
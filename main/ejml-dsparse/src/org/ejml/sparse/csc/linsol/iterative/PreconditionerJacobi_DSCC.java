@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixSparseCSC;
+
+import java.util.Arrays;
+
+import static org.ejml.UtilEjml.adjust;
+
+/**
+ * Jacobi preconditioner. M is the diagonal of A. Cheap to compute and apply, but only effective when A is
+ * diagonally dominant or its rows have very different scales.
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerJacobi_DSCC implements Preconditioner_DSCC {
+    // Inverse of the diagonal elements in A
+    DGrowArray ginvDiag = new DGrowArray();
+
+    @Override
+    public boolean setA( DMatrixSparseCSC A ) {
+        int N = A.numCols;
+        double[] invDiag = adjust(ginvDiag, N);
+        Arrays.fill(invDiag, 0, N, 0.0);
+
+        for (int col = 0; col < N; col++) {
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                if (A.nz_rows[idx] == col) {
+                    invDiag[col] = 1.0/A.nz_values[idx];
+                    break;
+                }
+            }
+        }
+
+        // the diagonal must be non-zero
+        for (int i = 0; i < N; i++) {
+            if (invDiag[i] == 0.0 || Double.isInfinite(invDiag[i]))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void apply( double[] r, double[] z ) {
+        final int N = ginvDiag.length;
+        final double[] invDiag = ginvDiag.data;
+        for (int i = 0; i < N; i++) {
+            z[i] = r[i]*invDiag[i];
+        }
+    }
+
+    /** There's no structure to lock */
+    @Override
+    public void setStructureLocked( boolean locked ) {}
+
+    @Override
+    public boolean isStructureLocked() {
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.data.DMatrixSparseCSC;
+
+/**
+ * Preconditioner for iterative solvers. It approximates the inverse of A, M<sup>-1</sup>, and should be much
+ * cheaper to apply than solving A*x=b directly.
+ *
+ * @author Peter Abeles
+ */
+public interface Preconditioner_DSCC {
+    /**
+     * Computes the preconditioner for the matrix. A reference to A might be saved.
+     *
+     * @param A Square matrix
+     * @return true if successful
+     */
+    boolean setA( DMatrixSparseCSC A );
+
+    /**
+     * Applies the preconditioner to a vector. z = M<sup>-1</sup>*r
+     *
+     * @param r (Input) vector. Not modified.
+     * @param z (Output) vector.
+     */
+    void apply( double[] r, double[] z );
+
+    /**
+     * If true then the structure computed from the previous matrix is reused and only numerical values
+     * are updated in {@link #setA}.
+     */
+    void setStructureLocked( boolean locked );
+
+    boolean isStructureLocked();
+}
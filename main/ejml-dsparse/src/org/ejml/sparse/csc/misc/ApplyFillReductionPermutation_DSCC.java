@@ -25,9 +25,11 @@ import org.ejml.sparse.csc.CommonOps_DSCC;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Applies the fill reduction row pivots to the input matrix to reduce fill in during decomposition/solve.
+ * Applies the fill reduction permutation to the input matrix to reduce fill in during decomposition/solve.
  *
- * P*A*Q where P are row pivots and Q are column pivots.
+ * <p>If symmetric then the row permutation is applied to both the rows and columns, P*A*P<sup>T</sup>.
+ * Otherwise only the column permutation is applied, A*Q. Row pivots in non-symmetric decompositions, e.g. LU and QR,
+ * are decided by the decomposition itself so a fill reducing row permutation would have no effect.</p>
  *
  * @author Peter Abeles
  */
@@ -61,29 +63,44 @@ public class ApplyFillReductionPermutation_DSCC {
             return A;
         fillReduce.process(A);
 
-        IGrowArray gp = fillReduce.getRow();
-        if (gp == null)
-            throw new RuntimeException("No row permutation matrix");
+        if (symmetric) {
+            IGrowArray gp = fillReduce.getRow();
+            if (gp == null)
+                throw new RuntimeException("No row permutation matrix");
 
-        if (pinv.length < gp.length)
-            pinv = new int[gp.length];
-        CommonOps_DSCC.permutationInverse(gp.data, pinv, gp.length);
-        if (symmetric)
+            // permuteSymmetric() requires the length to be the same as the matrix
+            if (pinv.length != gp.length)
+                pinv = new int[gp.length];
+            CommonOps_DSCC.permutationInverse(gp.data, pinv, gp.length);
             CommonOps_DSCC.permuteSymmetric(A, pinv, Aperm, gw);
-        else
-            CommonOps_DSCC.permuteRowInv(pinv, A, Aperm);
+        } else {
+            IGrowArray gq = fillReduce.getColumn();
+            if (gq == null)
+                throw new RuntimeException("No column permutation matrix");
+
+            CommonOps_DSCC.permute(null, A, gq.data, Aperm);
+        }
         return Aperm;
     }
 
+    /**
+     * Inverse of the row permutation. Only valid if symmetric.
+     */
     public @Nullable int[] getArrayPinv() {
         return fillReduce == null ? null : pinv;
     }
 
+    /**
+     * Row permutation. Only valid if symmetric.
+     */
     @SuppressWarnings("NullAway")
     public @Nullable int[] getArrayP() {
         return fillReduce == null ? null : fillReduce.getRow().data;
     }
 
+    /**
+     * Column permutation. Only valid if not symmetric.
+     */
     @SuppressWarnings("NullAway")
     public @Nullable int[] getArrayQ() {
         return fillReduce == null ? null : fillReduce.getColumn().data;
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.misc;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.ComputePermutation;
+import org.ejml.sparse.SeparatorTree;
+
+/**
+ * <p>Nested dissection fill reducing ordering. The graph of A+A<sup>T</sup> is recursively split into two parts
+ * by a vertex separator. Both parts are ordered first and the separator is ordered last. Since the two parts are
+ * not connected no fill in is created between them. For graphs which come from 2D and 3D meshes this produces
+ * significantly less fill in than minimum degree orderings.</p>
+ *
+ * <p>Separators are found using a level structure. A breadth first search is started from a pseudo-peripheral
+ * vertex and the level containing the median vertex becomes the separator. Vertices in the separator that
+ * aren't connected to the far side are then moved to the near side. Disconnected graphs are split between their
+ * components without a separator. Subgraphs which are small or can't be split well are ordered using
+ * {@link ApproximateMinimumDegree_DSCC}.</p>
+ *
+ * <p>The recursion is saved in a {@link SeparatorTree}, which can be used to find independent subtrees for a
+ * parallel factorization. The same permutation is provided for the rows and columns.</p>
+ *
+ * <p>See "Nested Dissection of a Regular Finite Element Mesh" by Alan George, SIAM Journal on Numerical
+ * Analysis, 1973</p>
+ *
+ * @author Peter Abeles
+ */
+public class NestedDissection_DSCC extends ComputePermutation<DMatrixSparseCSC> {
+    // Labels for which part of a partition a vertex belongs to
+    private static final int PART_A = 0;
+    private static final int PART_B = 1;
+    private static final int PART_S = 2;
+
+    // Subgraphs with this many vertices or fewer are ordered using minimum degree
+    int leafSize;
+
+    // Graph of A+A' with the diagonal removed
+    int[] Gp = new int[0];
+    IGrowArray gGi = new IGrowArray();
+
+    // Used to construct the graph and order the leaves
+    final ApproximateMinimumDegree_DSCC amd = new ApproximateMinimumDegree_DSCC(false);
+
+    // Storage for the leaf subgraph that's passed to AMD
+    final DMatrixSparseCSC leaf = new DMatrixSparseCSC(1, 1, 0);
+
+    final SeparatorTree tree = new SeparatorTree();
+
+    // Vertices in each subgraph. It's partitioned in place and becomes the permutation when finished
+    IGrowArray gverts = new IGrowArray();
+    // Vertices with the same label belong to the subgraph currently being processed
+    IGrowArray glabel = new IGrowArray();
+    // Level of each vertex in a breadth first search. Also used to store which part it's in
+    IGrowArray glevel = new IGrowArray();
+    // Vertices in the order they were visited
+    IGrowArray gqueue = new IGrowArray();
+
+    int[] verts = new int[0];
+    int[] label = new int[0];
+    int[] level = new int[0];
+    int[] queue = new int[0];
+    int labelCounter;
+
+    // Number of vertices in each part after a partition
+    int sizeA, sizeB;
+
+    /**
+     * Configures the ordering
+     *
+     * @param leafSize Subgraphs with this many vertices or fewer are not dissected further. Try 128.
+     */
+    public NestedDissection_DSCC( int leafSize ) {
+        super(true, true);
+        if (leafSize < 1)
+            throw new IllegalArgumentException("leafSize must be at least 1");
+        this.leafSize = leafSize;
+    }
+
+    public NestedDissection_DSCC() {
+        this(128);
+    }
+
+    @Override
+    @SuppressWarnings("NullAway") // constructor parameters ensures these are not null
+    public void process( DMatrixSparseCSC A ) {
+        if (A.numRows != A.numCols)
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        int n = A.numCols;
+        constructGraph(A);
+
+        verts = UtilEjml.adjust(gverts, n);
+        label = UtilEjml.adjust(glabel, n);
+        level = UtilEjml.adjust(glevel, n);
+        queue = UtilEjml.adjust(gqueue, n);
+        for (int i = 0; i < n; i++) {
+            verts[i] = i;
+            label[i] = 0;
+        }
+        labelCounter = 0;
+
+        tree.reset();
+        if (n > 0)
+            dissect(0, n);
+
+        prow.reshape(n);
+        pcol.reshape(n);
+        System.arraycopy(verts, 0, prow.data, 0, n);
+        System.arraycopy(verts, 0, pcol.data, 0, n);
+    }
+
+    /**
+     * Copies the graph of A+A<sup>T</sup> from AMD since AMD's internal storage is modified when leaves are ordered
+     */
+    void constructGraph( DMatrixSparseCSC A ) {
+        int n = A.numCols;
+        amd.constructAPlusAT(A);
+        int nz = amd.Cp[n];
+
+        if (Gp.length < n + 1)
+            Gp = new int[n + 1];
+        System.arraycopy(amd.Cp, 0, Gp, 0, n + 1);
+        gGi.reshape(nz);
+        System.arraycopy(amd.gCi.data, 0, gGi.data, 0, nz);
+    }
+
+    /**
+     * Orders the subgraph with vertices verts[v0:v1] and adds it to the tree
+     *
+     * @return index of the tree node
+     */
+    int dissect( int v0, int v1 ) {
+        int stamp = ++labelCounter;
+        for (int k = v0; k < v1; k++) {
+            label[verts[k]] = stamp;
+        }
+
+        if (v1 - v0 <= leafSize || !partition(v0, v1, stamp)) {
+            orderLeaf(v0, v1, stamp);
+            return tree.addNode(v0, v0, v1);
+        }
+
+        // sizes are overwritten by the recursive calls
+        int a1 = v0 + sizeA;
+        int b1 = a1 + sizeB;
+
+        int childA = dissect(v0, a1);
+        int childB = dissect(a1, b1);
+        int node = tree.addNode(v0, b1, v1);
+        tree.parent.data[childA] = node;
+        tree.parent.data[childB] = node;
+        return node;
+    }
+
+    /**
+     * Splits the subgraph into parts A, B, and the separator S. On success verts[v0:v1] is rearranged so that
+     * A comes first then B then S.
+     *
+     * @return true if it was split
+     */
+    boolean partition( int v0, int v1, int stamp ) {
+        int size = v1 - v0;
+
+        clearLevels(v0, v1);
+        int reached = breadthFirst(verts[v0], stamp, 0);
+        if (reached < size) {
+            splitComponents(v0, v1, stamp, reached);
+            return true;
+        }
+
+        // Search for a pseudo-peripheral vertex. It will have a deep level structure with narrow levels
+        int depth = level[queue[size - 1]];
+        for (int iteration = 0; iteration < 10; iteration++) {
+            // Pick the vertex with the smallest degree in the last level
+            int best = -1;
+            int bestDegree = Integer.MAX_VALUE;
+            for (int k = size - 1; k >= 0 && level[queue[k]] == depth; k--) {
+                int v = queue[k];
+                int degree = Gp[v + 1] - Gp[v];
+                if (degree < bestDegree) {
+                    bestDegree = degree;
+                    best = v;
+                }
+            }
+
+            clearLevels(v0, v1);
+            breadthFirst(best, stamp, 0);
+            int found = level[queue[size - 1]];
+            if (found <= depth)
+                break;
+            depth = found;
+        }
+
+        // Need at least three levels for the separator to have a vertex on each side
+        if (depth < 2)
+            return false;
+
+        // The level with the median vertex is the separator
+        int m = Math.max(1, Math.min(depth - 1, level[queue[size/2]]));
+
+        int sizeS = 0;
+        sizeA = sizeB = 0;
+        for (int k = 0; k < size; k++) {
+            int v = queue[k];
+            int lv = level[v];
+            if (lv < m) {
+                level[v] = PART_A;
+                sizeA++;
+            } else if (lv > m) {
+                level[v] = PART_B;
+                sizeB++;
+            } else {
+                level[v] = PART_S;
+                sizeS++;
+            }
+        }
+
+        // Vertices in the separator which are not connected to B are not needed
+        int[] Gi = gGi.data;
+        for (int k = 0; k < size; k++) {
+            int v = queue[k];
+            if (level[v] != PART_S)
+                continue;
+            boolean connected = false;
+            for (int p = Gp[v]; p < Gp[v + 1]; p++) {
+                int u = Gi[p];
+                if (label[u] == stamp && level[u] == PART_B) {
+                    connected = true;
+                    break;
+                }
+            }
+            if (!connected) {
+                level[v] = PART_A;
+                sizeA++;
+                sizeS--;
+            }
+        }
+
+        // A large separator will create more fill in than it prevents
+        if (2*sizeS > size)
+            return false;
+
+        rearrange(v0, v1);
+        return true;
+    }
+
+    /**
+     * The subgraph is not connected. Components are put into part A until it has at least half the vertices
+     * and the rest go into part B. There is no separator.
+     *
+     * @param reached Number of vertices in the first component, which is already in the queue
+     */
+    void splitComponents( int v0, int v1, int stamp, int reached ) {
+        int size = v1 - v0;
+        int tail = reached;
+        int splitAt = reached;
+
+        for (int k = v0; k < v1 && 2*splitAt < size; k++) {
+            int v = verts[k];
+            if (level[v] != -1)
+                continue;
+            tail = breadthFirst(v, stamp, tail);
+            // The last component always goes into B so that neither part is empty
+            if (tail == size)
+                break;
+            splitAt = tail;
+        }
+
+        for (int k = v0; k < v1; k++) {
+            level[verts[k]] = PART_B;
+        }
+        for (int k = 0; k < splitAt; k++) {
+            level[queue[k]] = PART_A;
+        }
+        sizeA = splitAt;
+        sizeB = size - splitAt;
+
+        rearrange(v0, v1);
+    }
+
+    /**
+     * Stable rearrangement of verts[v0:v1] so that it's ordered A, B, and S.
+     */
+    void rearrange( int v0, int v1 ) {
+        int idxA = 0;
+        int idxB = sizeA;
+        int idxS = sizeA + sizeB;
+        for (int k = v0; k < v1; k++) {
+            int v = verts[k];
+            switch (level[v]) {
+                case PART_A -> queue[idxA++] = v;
+                case PART_B -> queue[idxB++] = v;
+                default -> queue[idxS++] = v;
+            }
+        }
+        System.arraycopy(queue, 0, verts, v0, v1 - v0);
+    }
+
+    /**
+     * Breadth first search inside the subgraph starting at 'root'. Vertices with a level of -1 have not been visited.
+     *
+     * @param tail Location in the queue that vertices are added at
+     * @return The new tail of the queue
+     */
+    int breadthFirst( int root, int stamp, int tail ) {
+        int[] Gi = gGi.data;
+        int head = tail;
+        level[root] = 0;
+        queue[tail++] = root;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int p = Gp[v]; p < Gp[v + 1]; p++) {
+                int u = Gi[p];
+                if (label[u] != stamp || level[u] != -1)
+                    continue;
+                level[u] = level[v] + 1;
+                queue[tail++] = u;
+            }
+        }
+        return tail;
+    }
+
+    private void clearLevels( int v0, int v1 ) {
+        for (int k = v0; k < v1; k++) {
+            level[verts[k]] = -1;
+        }
+    }
+
+    /**
+     * Orders a subgraph which will not be dissected further using minimum degree
+     */
+    @SuppressWarnings("NullAway") // AMD always has a column permutation
+    void orderLeaf( int v0, int v1, int stamp ) {
+        int size = v1 - v0;
+        if (size <= 2)
+            return;
+
+        // level is used to look up the local index of each vertex
+        for (int k = v0; k < v1; k++) {
+            level[verts[k]] = k - v0;
+        }
+
+        int[] Gi = gGi.data;
+        int nz = 0;
+        for (int k = v0; k < v1; k++) {
+            int v = verts[k];
+            nz += Gp[v + 1] - Gp[v];
+        }
+
+        leaf.reshape(size, size, nz);
+        leaf.nz_length = 0;
+        leaf.indicesSorted = false;
+        leaf.col_idx[0] = 0;
+        for (int k = v0; k < v1; k++) {
+            int v = verts[k];
+            for (int p = Gp[v]; p < Gp[v + 1]; p++) {
+                int u = Gi[p];
+                if (label[u] != stamp)
+                    continue;
+                leaf.nz_rows[leaf.nz_length++] = level[u];
+            }
+            leaf.col_idx[k - v0 + 1] = leaf.nz_length;
+        }
+
+        amd.process(leaf);
+
+        int[] perm = amd.getColumn().data;
+        for (int k = 0; k < size; k++) {
+            queue[k] = verts[v0 + perm[k]];
+        }
+        System.arraycopy(queue, 0, verts, v0, size);
+    }
+
+    /**
+     * Tree of separators from the most recent call to {@link #process}
+     */
+    public SeparatorTree getTree() {
+        return tree;
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    public void setLeafSize( int leafSize ) {
+        this.leafSize = leafSize;
+    }
+}
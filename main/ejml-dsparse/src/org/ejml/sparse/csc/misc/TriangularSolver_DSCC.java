@@ -97,6 +97,26 @@ public class TriangularSolver_DSCC {
         }
     }
 
+    /**
+     * Solves for the transpose of an upper triangular matrix against a dense vector. U<sup>T</sup>*x = b
+     *
+     * @param U Upper triangular matrix. Diagonal elements are assumed to be non-zero and last in each column
+     * @param x (Input) Solution matrix 'b'. (Output) matrix 'x'
+     */
+    public static void solveTranU( DMatrixSparseCSC U, double[] x ) {
+        final int N = U.numCols;
+
+        for (int j = 0; j < N; j++) {
+            int idx0 = U.col_idx[j];
+            int idx1 = U.col_idx[j + 1];
+
+            for (int p = idx0; p < idx1 - 1; p++) {
+                x[j] -= U.nz_values[p]*x[U.nz_rows[p]];
+            }
+            x[j] /= U.nz_values[idx1 - 1];
+        }
+    }
+
     /**
      * Solution to a sparse transposed triangular system with sparse B and sparse X
      *
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCholeskySupernodal_DSCC extends GenericCholeskyTests_DSCC {
+
+    public TestCholeskySupernodal_DSCC() {
+        canR = false;
+    }
+
+    @Override
+    public CholeskySparseDecomposition_F64<DMatrixSparseCSC> create( boolean lower ) {
+        return new CholeskySupernodal_DSCC();
+    }
+
+    /**
+     * The found L should have the same values as the one found by the up-looking algorithm. It can also have
+     * explicit zeros from relaxed supernodes.
+     */
+    @Test
+    public void compareToUpLooking() {
+        var expected = new CholeskyUpLooking_DSCC();
+        var alg = new CholeskySupernodal_DSCC();
+
+        for (int mc = 0; mc < 50; mc++) {
+            int N = rand.nextInt(40) + 1;
+            DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(N, rand.nextDouble(), rand);
+
+            assertTrue(expected.decompose(A));
+            assertTrue(alg.decompose(A));
+
+            DMatrixSparseCSC L = alg.getL();
+            assertTrue(CommonOps_DSCC.checkStructure(L));
+            EjmlUnitTests.assertEquals(expected.getL(), L, UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * A dense matrix should be a single supernode and a diagonal matrix should have one supernode for each column
+     */
+    @Test
+    public void supernodeDetection() {
+        var alg = new CholeskySupernodal_DSCC();
+
+        DMatrixSparseCSC A = new DMatrixSparseCSC(12, 12);
+        for (int row = 0; row < 12; row++) {
+            for (int col = 0; col < 12; col++) {
+                A.set(row, col, row == col ? 12.0 : 0.5);
+            }
+        }
+        assertTrue(alg.decompose(A));
+        assertEquals(1, alg.getNumSupernodes());
+        assertEquals(2, alg.getSupernodeColumns().length);
+        assertEquals(12, alg.getSupernodeColumns().get(1));
+
+        A = CommonOps_DSCC.identity(7);
+        assertTrue(alg.decompose(A));
+        assertEquals(7, alg.getNumSupernodes());
+    }
+
+    /**
+     * Grid Laplacian. Has lots of fill in and supernodes of different sizes
+     */
+    @Test
+    public void grid() {
+        int width = 15;
+        int N = width*width;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*3);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 4.0);
+            if (i%width > 0) A.set(i - 1, i, -1.0);
+            if (i >= width) A.set(i - width, i, -1.0);
+        }
+
+        var expected = new CholeskyUpLooking_DSCC();
+        var alg = new CholeskySupernodal_DSCC();
+        assertTrue(expected.decompose(A));
+        assertTrue(alg.decompose(A));
+        assertTrue(alg.getNumSupernodes() < N);
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), UtilEjml.TEST_F64);
+    }
+
+    @Test
+    public void isRelaxedMerge() {
+        // small supernodes are always merged
+        assertTrue(CholeskySupernodal_DSCC.isRelaxedMerge(4, 0.99));
+        assertTrue(CholeskySupernodal_DSCC.isRelaxedMerge(16, 0.5));
+        assertFalse(CholeskySupernodal_DSCC.isRelaxedMerge(16, 0.9));
+        assertTrue(CholeskySupernodal_DSCC.isRelaxedMerge(48, 0.05));
+        assertFalse(CholeskySupernodal_DSCC.isRelaxedMerge(48, 0.2));
+        assertFalse(CholeskySupernodal_DSCC.isRelaxedMerge(200, 0.06));
+    }
+
+    /**
+     * When the structure is locked only the numerical values should change
+     */
+    @Test
+    public void lockedStructure() {
+        var alg = new CholeskySupernodal_DSCC();
+        var expected = new CholeskyUpLooking_DSCC();
+        alg.setStructureLocked(true);
+
+        DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(20, 0.6, rand);
+        assertTrue(alg.decompose(A));
+
+        // same structure, different values
+        DMatrixSparseCSC B = A.copy();
+        for (int i = 0; i < B.nz_length; i++) {
+            B.nz_values[i] *= 2.0;
+        }
+        assertTrue(alg.decompose(B));
+        assertTrue(expected.decompose(B));
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), UtilEjml.TEST_F64);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.decomposition.DecompositionSparseInterface;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.decomposition.GenericDecompositionTests_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCholeskyUpLookingLDL_DSCC extends GenericDecompositionTests_DSCC {
+    @Override
+    public DMatrixSparseCSC createMatrix( int N ) {
+        return createQuasiDefinite(N, rand);
+    }
+
+    @Override
+    public DecompositionSparseInterface<DMatrixSparseCSC> createDecomposition() {
+        return new CholeskyUpLookingLDL_DSCC();
+    }
+
+    @Override
+    public List<DMatrixSparseCSC> decompose( DecompositionSparseInterface<DMatrixSparseCSC> d, DMatrixSparseCSC A ) {
+        var ldl = (CholeskyUpLookingLDL_DSCC)d;
+        assertTrue(ldl.decompose(A));
+
+        List<DMatrixSparseCSC> list = new ArrayList<>();
+        list.add(ldl.getL(null));
+        list.add(ldl.getD(null));
+        return list;
+    }
+
+    /**
+     * L*D*L' should be the original matrix for positive definite and indefinite matrices
+     */
+    @Test
+    public void reconstruct() {
+        var alg = new CholeskyUpLookingLDL_DSCC();
+
+        for (int mc = 0; mc < 30; mc++) {
+            int N = rand.nextInt(30) + 2;
+            checkReconstruct(alg, RandomMatrices_DSCC.symmetricPosDef(N, 0.3, rand));
+            checkReconstruct(alg, createQuasiDefinite(N, rand));
+        }
+    }
+
+    private void checkReconstruct( CholeskyUpLookingLDL_DSCC alg, DMatrixSparseCSC A ) {
+        assertTrue(alg.decompose(A));
+
+        DMatrixSparseCSC L = alg.getL(null);
+        DMatrixSparseCSC D = alg.getD(null);
+        assertTrue(CommonOps_DSCC.checkStructure(L));
+        for (int i = 0; i < L.numCols; i++) {
+            assertEquals(1.0, L.get(i, i), UtilEjml.TEST_F64);
+        }
+
+        DMatrixSparseCSC LD = CommonOps_DSCC.mult(L, D, null);
+        DMatrixSparseCSC Lt = CommonOps_DSCC.transpose(L, null, null);
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(LD, Lt, null);
+        EjmlUnitTests.assertEquals(A, found, UtilEjml.TEST_F64);
+    }
+
+    /**
+     * The signs of the elements in D should match the inertia of the matrix
+     */
+    @Test
+    public void inertia() {
+        int N = 20;
+        DMatrixSparseCSC A = createQuasiDefinite(N, rand);
+        var alg = new CholeskyUpLookingLDL_DSCC();
+        assertTrue(alg.decompose(A));
+
+        int negative = 0;
+        double[] D = alg.getDiagonal();
+        for (int i = 0; i < N; i++) {
+            if (D[i] < 0)
+                negative++;
+        }
+        assertEquals(N - N/2, negative);
+
+        DMatrixRMaj dense = DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+        assertEquals(CommonOps_DDRM.det(dense), alg.computeDeterminant().real, UtilEjml.TEST_F64*Math.abs(CommonOps_DDRM.det(dense)));
+    }
+
+    /**
+     * No pivoting is done so a zero along the diagonal of D will cause it to fail
+     */
+    @Test
+    public void zeroPivot() {
+        DMatrixSparseCSC A = new DMatrixSparseCSC(2, 2);
+        A.set(0, 1, 1.0);
+        A.set(1, 0, 1.0);
+
+        var alg = new CholeskyUpLookingLDL_DSCC();
+        assertFalse(alg.decompose(A));
+
+        // the first pivot is still zero even though the matrix is non-singular
+        A.set(1, 1, 2.0);
+        assertFalse(alg.decompose(A));
+    }
+
+    /**
+     * Creates a random symmetric quasi-definite matrix, [P1 B; B' -P2], where P1 and P2 are positive definite.
+     * This has a LDL' decomposition for any symmetric permutation.
+     */
+    public static DMatrixSparseCSC createQuasiDefinite( int N, Random rand ) {
+        int N1 = N/2;
+        int N2 = N - N1;
+
+        DMatrixRMaj A = new DMatrixRMaj(N, N);
+        DMatrixRMaj P1 = RandomMatrices_DDRM.symmetricPosDef(N1, rand);
+        DMatrixRMaj P2 = RandomMatrices_DDRM.symmetricPosDef(N2, rand);
+        CommonOps_DDRM.scale(-1.0, P2);
+        CommonOps_DDRM.insert(P1, A, 0, 0);
+        CommonOps_DDRM.insert(P2, A, N1, N1);
+
+        // sparse coupling between the two blocks
+        for (int i = 0; i < N1; i++) {
+            int j = N1 + rand.nextInt(N2);
+            double value = rand.nextDouble() - 0.5;
+            A.set(i, j, value);
+            A.set(j, i, value);
+        }
+
+        return DConvertMatrixStruct.convert(A, (DMatrixSparseCSC)null, 0.0);
+    }
+}
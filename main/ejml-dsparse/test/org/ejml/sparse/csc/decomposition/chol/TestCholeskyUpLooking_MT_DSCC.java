@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.chol;
+
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.decomposition.CholeskySparseDecomposition_F64;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.MatrixFeatures_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.factory.FillReductionFactory_DSCC;
+import org.ejml.sparse.csc.misc.ApplyFillReductionPermutation_DSCC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCholeskyUpLooking_MT_DSCC extends GenericCholeskyTests_DSCC {
+    int originalThreads;
+
+    public TestCholeskyUpLooking_MT_DSCC() {
+        canR = false;
+    }
+
+    // Make sure it's concurrent even on a machine with one core
+    @BeforeEach void setThreads() {
+        originalThreads = EjmlConcurrency.getMaxThreads();
+        EjmlConcurrency.setMaxThreads(4);
+    }
+
+    @AfterEach void restoreThreads() {
+        EjmlConcurrency.setMaxThreads(originalThreads);
+    }
+
+    @Override
+    public CholeskySparseDecomposition_F64<DMatrixSparseCSC> create( boolean lower ) {
+        return new CholeskyUpLooking_MT_DSCC();
+    }
+
+    /**
+     * Output should be identical to the single threaded algorithm
+     */
+    @Test void compareToSingleThread() {
+        var expected = new CholeskyUpLooking_DSCC();
+        var alg = new CholeskyUpLooking_MT_DSCC();
+
+        for (int mc = 0; mc < 50; mc++) {
+            int N = rand.nextInt(80) + 1;
+            DMatrixSparseCSC A = RandomMatrices_DSCC.symmetricPosDef(N, rand.nextDouble()*0.2, rand);
+
+            assertTrue(expected.decompose(A));
+            assertTrue(alg.decompose(A));
+            assertTrue(MatrixFeatures_DSCC.isIdenticalSort(expected.getL(), alg.getL(), 0.0));
+        }
+    }
+
+    /**
+     * Nested dissection should produce lots of independent subtrees
+     */
+    @Test void grid() {
+        DMatrixSparseCSC A = gridLaplacian(30);
+        var reduce = new ApplyFillReductionPermutation_DSCC(
+                FillReductionFactory_DSCC.create(FillReducing.NESTED_DISSECTION), true);
+        DMatrixSparseCSC B = reduce.apply(A);
+
+        var expected = new CholeskyUpLooking_DSCC();
+        var alg = new CholeskyUpLooking_MT_DSCC();
+        assertTrue(expected.decompose(B));
+        assertTrue(alg.decompose(B));
+        assertTrue(alg.getNumSubtrees() >= 4);
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), UtilEjml.TEST_F64);
+
+        // only the values change when the structure is locked
+        alg.setStructureLocked(true);
+        for (int i = 0; i < B.nz_length; i++) {
+            B.nz_values[i] *= 3.0;
+        }
+        assertTrue(expected.decompose(B));
+        assertTrue(alg.decompose(B));
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * A failure inside one of the threads should be detected
+     */
+    @Test void notPositiveDefinite() {
+        var reduce = new ApplyFillReductionPermutation_DSCC(
+                FillReductionFactory_DSCC.create(FillReducing.NESTED_DISSECTION), true);
+        DMatrixSparseCSC A = reduce.apply(gridLaplacian(20));
+        for (int i = 0; i < A.numCols; i++) {
+            A.set(i, i, -1.0);
+        }
+
+        var alg = new CholeskyUpLooking_MT_DSCC();
+        assertFalse(alg.decompose(A));
+        assertTrue(alg.getNumSubtrees() > 1);
+    }
+
+    /**
+     * Each thread should be assigned a similar amount of work
+     */
+    @Test void selectSubtrees_balanced() {
+        int N = 12;
+        // 4 disconnected chains of the same length
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 2.0);
+            if (i%3 != 0)
+                A.set(i - 1, i, -1.0);
+        }
+
+        var alg = new CholeskyUpLooking_MT_DSCC();
+        alg.subtreesPerThread = 2;
+        alg.performSymbolic(A);
+        alg.selectSubtrees(N, 2);
+        assertEquals(4, alg.getNumSubtrees());
+        assertEquals(3, alg.gthreadIdx.length);
+        assertEquals(2, alg.gthreadIdx.get(1));
+        assertEquals(0, alg.gremaining.length);
+    }
+
+    /**
+     * 5-point Laplacian on a square grid. Only the upper triangle is filled in.
+     */
+    private static DMatrixSparseCSC gridLaplacian( int width ) {
+        int N = width*width;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*3);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                A.set(i, i, 4.0);
+                if (x > 0) A.set(i - 1, i, -1.0);
+                if (y > 0) A.set(i - width, i, -1.0);
+            }
+        }
+        return A;
+    }
+}
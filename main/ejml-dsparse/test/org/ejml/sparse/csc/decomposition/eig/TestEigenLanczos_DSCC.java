@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.eig;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DEigenpair;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestEigenLanczos_DSCC extends EjmlStandardJUnit {
+    @Test void compareToDense_largest() {
+        compareToDense(true, 5, 0);
+        compareToDense(true, 1, 0);
+        compareToDense(true, 4, 30);
+    }
+
+    @Test void compareToDense_smallest() {
+        compareToDense(false, 5, 0);
+        compareToDense(false, 2, 12);
+    }
+
+    void compareToDense( boolean largest, int numEigen, int basisSize ) {
+        int N = 150;
+        DMatrixSparseCSC A = createSymmetric(N);
+        double[] expected = denseEigenvalues(A);
+        if (largest) {
+            for (int i = 0; i < N/2; i++) {
+                double tmp = expected[i];
+                expected[i] = expected[N - 1 - i];
+                expected[N - 1 - i] = tmp;
+            }
+        }
+
+        var alg = new EigenLanczos_DSCC(numEigen, largest, basisSize);
+        assertTrue(alg.process(A));
+
+        List<DEigenpair> found = alg.getEigenpairs();
+        assertEquals(numEigen, found.size());
+        for (int i = 0; i < numEigen; i++) {
+            assertEquals(expected[i], found.get(i).value, UtilEjml.TEST_F64*Math.abs(expected[i]));
+        }
+        checkEigenpairs(A, found);
+    }
+
+    /**
+     * The matrix is small enough that the basis will span the whole space
+     */
+    @Test void smallMatrix() {
+        for (int N : new int[]{3, 5, 10}) {
+            DMatrixSparseCSC A = createSymmetric(N);
+            double[] expected = denseEigenvalues(A);
+
+            var alg = new EigenLanczos_DSCC(Math.min(3, N - 1), false);
+            assertTrue(alg.process(A));
+            List<DEigenpair> found = alg.getEigenpairs();
+            for (int i = 0; i < found.size(); i++) {
+                assertEquals(expected[i], found.get(i).value, UtilEjml.TEST_F64);
+            }
+            checkEigenpairs(A, found);
+        }
+    }
+
+    /**
+     * A diagonal matrix with repeated eigenvalues will result in an invariant subspace being found
+     */
+    @Test void invariantSubspace() {
+        int N = 40;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, i < 3 ? 10.0 : 1.0);
+        }
+
+        var alg = new EigenLanczos_DSCC(3, true, 10);
+        assertTrue(alg.process(A));
+        List<DEigenpair> found = alg.getEigenpairs();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(10.0, found.get(i).value, UtilEjml.TEST_F64);
+        }
+        checkEigenpairs(A, found);
+    }
+
+    /**
+     * Process matrices of different sizes with the same instance
+     */
+    @Test void reuse() {
+        var alg = new EigenLanczos_DSCC(2, true);
+        for (int N : new int[]{60, 30, 60}) {
+            DMatrixSparseCSC A = createSymmetric(N);
+            double[] expected = denseEigenvalues(A);
+            assertTrue(alg.process(A));
+            assertEquals(2, alg.getEigenpairs().size());
+            assertEquals(expected[N - 1], alg.getEigenpairs().get(0).value, UtilEjml.TEST_F64*N);
+            checkEigenpairs(A, alg.getEigenpairs());
+        }
+    }
+
+    /**
+     * Checks A*v = lambda*v and that the vectors are orthonormal
+     */
+    private static void checkEigenpairs( DMatrixSparseCSC A, List<DEigenpair> pairs ) {
+        for (int i = 0; i < pairs.size(); i++) {
+            DEigenpair pair = pairs.get(i);
+            assertEquals(A.numRows, pair.vector.numRows);
+            DMatrixRMaj Av = CommonOps_DSCC.mult(A, pair.vector, null);
+            CommonOps_DDRM.addEquals(Av, -pair.value, pair.vector);
+            assertEquals(0.0, NormOps_DDRM.normF(Av), UtilEjml.TEST_F64_SQ);
+
+            for (int j = 0; j <= i; j++) {
+                double dot = CommonOps_DDRM.dot(pair.vector, pairs.get(j).vector);
+                assertEquals(i == j ? 1.0 : 0.0, dot, UtilEjml.TEST_F64_SQ);
+            }
+        }
+    }
+
+    /**
+     * Symmetric matrix with well separated eigenvalues. A diagonal matrix plus a small random sparse symmetric one.
+     */
+    private DMatrixSparseCSC createSymmetric( int N ) {
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*5);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, i + 1.0);
+        }
+        for (int trial = 0; trial < N*2; trial++) {
+            int i = rand.nextInt(N);
+            int j = rand.nextInt(N);
+            if (i == j)
+                continue;
+            double v = (rand.nextDouble() - 0.5)*0.2;
+            A.set(i, j, v);
+            A.set(j, i, v);
+        }
+        return A;
+    }
+
+    /**
+     * Eigenvalues of A sorted in increasing order
+     */
+    private static double[] denseEigenvalues( DMatrixSparseCSC A ) {
+        DMatrixRMaj dense = DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+        EigenDecomposition_F64<DMatrixRMaj> eig = DecompositionFactory_DDRM.eig(A.numRows, false, true);
+        assertTrue(eig.decompose(dense));
+        double[] values = new double[A.numRows];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = eig.getEigenvalue(i).real;
+        }
+        Arrays.sort(values);
+        return values;
+    }
+}
@@ -42,7 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class TestQrLeftLookingDecomposition_DSCC extends GenericDecompositionTests_DSCC {
 
     protected FillReducing[] permutationTests =
-            new FillReducing[]{FillReducing.NONE, FillReducing.IDENTITY};
+            new FillReducing[]{FillReducing.NONE, FillReducing.IDENTITY, FillReducing.RANDOM, FillReducing.COLAMD};
 
     @Override
     public DMatrixSparseCSC createMatrix(int N) {
@@ -106,7 +106,10 @@ public class TestQrLeftLookingDecomposition_DSCC extends GenericDecompositionTes
         ComputePermutation<DMatrixSparseCSC> reducePerm = FillReductionFactory_DSCC.create(reduce);
         QrLeftLookingDecomposition_DSCC alg = new QrLeftLookingDecomposition_DSCC(reducePerm);
 
-        if (alwaysHasSolution)
+        // Reordering the columns of a wide matrix can move a singular block to the front
+        boolean reordered = reduce == FillReducing.RANDOM || reduce == FillReducing.COLAMD;
+
+        if (alwaysHasSolution && !(reordered && numCols > numRows))
             assertTrue(alg.decompose(A));
         else if (!alg.decompose(A))
             return;
@@ -122,7 +125,14 @@ public class TestQrLeftLookingDecomposition_DSCC extends GenericDecompositionTes
         DMatrixSparseCSC found = new DMatrixSparseCSC(Q.numRows, R.numCols, 0);
         CommonOps_DSCC.mult(Q, R, found, null, null);
 
-        EjmlUnitTests.assertEquals(A_cpy, found, UtilEjml.TEST_F64);
+        // Q*R = A*P when there's a fill reducing column permutation
+        DMatrixSparseCSC expected = A_cpy;
+        if (alg.isFillPermutated()) {
+            expected = A_cpy.createLike();
+            CommonOps_DSCC.permute(null, A_cpy, alg.getFillPermutation(), expected);
+        }
+
+        EjmlUnitTests.assertEquals(expected, found, UtilEjml.TEST_F64);
     }
 
     /**
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.decomposition.svd;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.decomposition.svd.SvdRandomized_DDRM;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.factory.DecompositionFactory_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdRandomized_DSCC extends EjmlStandardJUnit {
+    /**
+     * With the same seed the sparse and dense implementations should produce the same results
+     */
+    @Test
+    public void compareToDense() {
+        for (int numRows : new int[]{50, 20}) {
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(numRows, 35, 200, rand);
+            DMatrixRMaj dense = DConvertMatrixStruct.convert(A, (DMatrixRMaj)null);
+
+            SvdRandomized_DSCC alg = DecompositionFactory_DSCC.svdRandomized(5, 5, 2);
+            alg.setSeed(0xBEEF);
+            assertTrue(alg.decompose(A));
+
+            var expected = new SvdRandomized_DDRM(5, 5, 2);
+            expected.setSeed(0xBEEF);
+            assertTrue(expected.decompose(dense));
+
+            assertEquals(expected.numberOfSingularValues(), alg.numberOfSingularValues());
+            for (int i = 0; i < alg.numberOfSingularValues(); i++) {
+                assertEquals(expected.getSingularValues()[i], alg.getSingularValues()[i], UtilEjml.TEST_F64);
+            }
+            SingularValueDecomposition_F64<DMatrixRMaj> found = alg.getDense();
+            assertTrue(MatrixFeatures_DDRM.isIdentical(
+                    expected.getU(null, false), found.getU(null, false), UtilEjml.TEST_F64));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(
+                    expected.getV(null, true), found.getV(null, true), UtilEjml.TEST_F64));
+        }
+    }
+
+    /**
+     * The sparse matrices returned should be the same as the dense ones
+     */
+    @Test
+    public void sparseResults() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(30, 20, 100, rand);
+        SingularValueDecomposition_F64<DMatrixSparseCSC> alg = DecompositionFactory_DSCC.svdRandomized(3, 5, 2);
+        assertTrue(alg.decompose(A));
+        SingularValueDecomposition_F64<DMatrixRMaj> dense = ((SvdRandomized_DSCC)alg).getDense();
+
+        for (boolean transposed : new boolean[]{false, true}) {
+            assertTrue(isIdentical(dense.getU(null, transposed), alg.getU(null, transposed)));
+            assertTrue(isIdentical(dense.getV(null, transposed), alg.getV(null, transposed)));
+        }
+        assertTrue(isIdentical(dense.getW(null), alg.getW(null)));
+
+        // the storage passed in should be reused
+        DMatrixSparseCSC U = new DMatrixSparseCSC(1, 1);
+        assertSame(U, alg.getU(U, false));
+        assertEquals(30, U.numRows);
+        assertEquals(3, U.numCols);
+    }
+
+    private static boolean isIdentical( DMatrixRMaj expected, DMatrixSparseCSC found ) {
+        return MatrixFeatures_DDRM.isIdentical(expected,
+                DConvertMatrixStruct.convert(found, (DMatrixRMaj)null), UtilEjml.TEST_F64);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.chol;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.decomposition.chol.TestCholeskyUpLookingLDL_DSCC;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+
+public class TestLinearSolverCholeskyLDL_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverCholeskyLDL_DSCC() {
+        equalityTolerance = UtilEjml.TEST_F64;
+        canHandleWide = false;
+        canHandleTall = false;
+        canDecomposeZeros = false;
+
+        permutationTests = new FillReducing[]{FillReducing.NONE, FillReducing.IDENTITY, FillReducing.RANDOM,
+                FillReducing.AMD, FillReducing.NESTED_DISSECTION};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        return LinearSolverFactory_DSCC.choleskyLDL(permutation);
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return TestCholeskyUpLookingLDL_DSCC.createQuasiDefinite(N, rand);
+    }
+}
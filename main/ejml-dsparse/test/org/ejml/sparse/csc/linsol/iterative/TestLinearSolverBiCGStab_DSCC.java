@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLinearSolverBiCGStab_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverBiCGStab_DSCC() {
+        canHandleWide = false;
+        canHandleTall = false;
+        canDecomposeZeros = false;
+
+        // the ordering of the matrix is ignored
+        permutationTests = new FillReducing[]{FillReducing.NONE};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        return LinearSolverFactory_DSCC.biCGStab(LinearSolverFactory_DSCC.preconditionerJacobi(), 1e-14, 200);
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return TestLinearSolverGmres_DSCC.createNonSymmetric(N, rand);
+    }
+
+    @Test void convectionDominated() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(20, 10.0);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 2, rand);
+
+        for (Preconditioner_DSCC preconditioner : new Preconditioner_DSCC[]{null, new PreconditionerJacobi_DSCC()}) {
+            var solver = LinearSolverFactory_DSCC.biCGStab(preconditioner, UtilEjml.TEST_F64*0.01, 1000);
+            assertTrue(solver.setA(A));
+            var X = new DMatrixRMaj(1, 1);
+            solver.solve(B, X);
+            assertTrue(solver.isConverged());
+
+            var foundB = new DMatrixRMaj(1, 1);
+            CommonOps_DSCC.mult(A, X, foundB);
+            for (int j = 0; j < B.getNumElements(); j++) {
+                assertEquals(B.data[j], foundB.data[j], UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    /**
+     * Hitting the iteration limit should be reported
+     */
+    @Test void maxIterations() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(20, 1.0);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        var solver = LinearSolverFactory_DSCC.biCGStab(null, 1e-12, 3);
+        assertTrue(solver.setA(A));
+        solver.solve(B, new DMatrixRMaj(1, 1));
+        assertFalse(solver.isConverged());
+        assertEquals(3, solver.getIterations());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLinearSolverConjugateGradient_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverConjugateGradient_DSCC() {
+        canHandleWide = false;
+        canHandleTall = false;
+        canDecomposeZeros = false;
+
+        // the ordering of the matrix is ignored
+        permutationTests = new FillReducing[]{FillReducing.NONE};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        return LinearSolverFactory_DSCC.conjugateGradient(
+                LinearSolverFactory_DSCC.preconditionerIncompleteCholesky(), 1e-14, 200);
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return RandomMatrices_DSCC.symmetricPosDef(N, 0.25, rand);
+    }
+
+    /**
+     * Every preconditioner should converge to the same solution. A better preconditioner requires fewer iterations.
+     */
+    @Test void comparePreconditioners() {
+        DMatrixSparseCSC A = TestPreconditionerIncompleteCholesky_DSCC.laplacian(20);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        int[] iterations = new int[3];
+        Preconditioner_DSCC[] preconditioners = new Preconditioner_DSCC[]{null,
+                LinearSolverFactory_DSCC.preconditionerJacobi(),
+                LinearSolverFactory_DSCC.preconditionerIncompleteCholesky()};
+        for (int i = 0; i < preconditioners.length; i++) {
+            var solver = LinearSolverFactory_DSCC.conjugateGradient(preconditioners[i], UtilEjml.TEST_F64*0.01, 0);
+            assertTrue(solver.setA(A));
+            var X = new DMatrixRMaj(1, 1);
+            solver.solve(B, X);
+            assertTrue(solver.isConverged());
+            assertTrue(solver.getResidualNorm() <= UtilEjml.TEST_F64*0.01*NormOps_DDRM.normF(B));
+            iterations[i] = solver.getIterations();
+
+            var foundB = new DMatrixRMaj(1, 1);
+            CommonOps_DSCC.mult(A, X, foundB);
+            for (int j = 0; j < B.numRows; j++) {
+                assertEquals(B.get(j), foundB.get(j), UtilEjml.TEST_F64);
+            }
+        }
+
+        // The Laplacian has a constant diagonal so Jacobi doesn't help
+        assertTrue(iterations[2] < iterations[0], iterations[2] + " " + iterations[0]);
+    }
+
+    /**
+     * Hitting the iteration limit should be reported
+     */
+    @Test void maxIterations() {
+        DMatrixSparseCSC A = TestPreconditionerIncompleteCholesky_DSCC.laplacian(20);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        var solver = LinearSolverFactory_DSCC.conjugateGradient(null, 1e-10, 3);
+        assertTrue(solver.setA(A));
+        solver.solve(B, new DMatrixRMaj(1, 1));
+        assertFalse(solver.isConverged());
+        assertEquals(3, solver.getIterations());
+    }
+
+    /**
+     * If the initial estimate is the solution then no iterations should be needed
+     */
+    @Test void useInitialX() {
+        DMatrixSparseCSC A = createA(15);
+        DMatrixRMaj X = RandomMatrices_DDRM.rectangle(A.numCols, 2, rand);
+        DMatrixRMaj B = new DMatrixRMaj(1, 1);
+        CommonOps_DSCC.mult(A, X, B);
+
+        var solver = LinearSolverFactory_DSCC.conjugateGradient(null, 1e-8, 0);
+        solver.setUseInitialX(true);
+        assertTrue(solver.setA(A));
+        DMatrixRMaj found = X.copy();
+        solver.solve(B, found);
+        assertTrue(solver.isConverged());
+        assertEquals(0, solver.getIterations());
+    }
+
+    /**
+     * A zero vector for B should produce a zero solution
+     */
+    @Test void zeroB() {
+        DMatrixSparseCSC A = createA(10);
+        var solver = LinearSolverFactory_DSCC.conjugateGradient(null, 1e-8, 0);
+        assertTrue(solver.setA(A));
+        DMatrixRMaj X = RandomMatrices_DDRM.rectangle(10, 1, rand);
+        solver.solve(new DMatrixRMaj(10, 1), X);
+        assertTrue(solver.isConverged());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0.0, X.get(i));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverSparse;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.ejml.sparse.csc.linsol.GenericLinearSolverSparseTests_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLinearSolverGmres_DSCC extends GenericLinearSolverSparseTests_DSCC {
+
+    public TestLinearSolverGmres_DSCC() {
+        canHandleWide = false;
+        canHandleTall = false;
+
+        // the ordering of the matrix is ignored
+        permutationTests = new FillReducing[]{FillReducing.NONE};
+    }
+
+    @Override
+    public LinearSolverSparse<DMatrixSparseCSC, DMatrixRMaj> createSolver( FillReducing permutation ) {
+        // without a preconditioner it can't detect that a matrix of zeros is singular
+        return LinearSolverFactory_DSCC.gmres(null, 30, 1e-14, 200);
+    }
+
+    @Override
+    public DMatrixSparseCSC createA( int N ) {
+        return createNonSymmetric(N, rand);
+    }
+
+    /**
+     * Random nonsymmetric matrix which is diagonally dominant
+     */
+    public static DMatrixSparseCSC createNonSymmetric( int N, Random rand ) {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(N, N, N*N/4, -1.0, 1.0, rand);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, N/2.0 + rand.nextDouble());
+        }
+        return A;
+    }
+
+    /**
+     * Upwind finite difference discretization of the convection-diffusion equation on a square grid. The
+     * convection term makes it nonsymmetric.
+     *
+     * @param convection Ratio of convection to diffusion. Larger values are less symmetric.
+     */
+    public static DMatrixSparseCSC convectionDiffusion( int width, double convection ) {
+        int N = width*width;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*5);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                A.set(i, i, 4.0 + 2.0*convection);
+                if (x > 0) A.set(i, i - 1, -1.0 - convection);
+                if (x + 1 < width) A.set(i, i + 1, -1.0);
+                if (y > 0) A.set(i, i - width, -1.0 - convection);
+                if (y + 1 < width) A.set(i, i + width, -1.0);
+            }
+        }
+        return A;
+    }
+
+    /**
+     * Solve a convection dominated problem with different restart lengths and preconditioners
+     */
+    @Test void convectionDominated() {
+        DMatrixSparseCSC A = convectionDiffusion(20, 10.0);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        for (int restart : new int[]{5, 30, 1000}) {
+            for (Preconditioner_DSCC preconditioner : new Preconditioner_DSCC[]{null, new PreconditionerJacobi_DSCC()}) {
+                var solver = LinearSolverFactory_DSCC.gmres(preconditioner, restart, UtilEjml.TEST_F64*0.01, 2000);
+                assertTrue(solver.setA(A));
+                var X = new DMatrixRMaj(1, 1);
+                solver.solve(B, X);
+                assertTrue(solver.isConverged());
+                assertTrue(solver.getIterations() > 1);
+
+                var foundB = new DMatrixRMaj(1, 1);
+                CommonOps_DSCC.mult(A, X, foundB);
+                for (int j = 0; j < B.numRows; j++) {
+                    assertEquals(B.get(j), foundB.get(j), UtilEjml.TEST_F64);
+                }
+            }
+        }
+    }
+
+    /**
+     * Without restarting, GMRES should converge in at most N iterations
+     */
+    @Test void convergesInN() {
+        int N = 15;
+        DMatrixSparseCSC A = createNonSymmetric(N, rand);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(N, 1, rand);
+
+        var solver = LinearSolverFactory_DSCC.gmres(null, N, UtilEjml.EPS*100, 0);
+        assertTrue(solver.setA(A));
+        solver.solve(B, new DMatrixRMaj(1, 1));
+        assertTrue(solver.isConverged());
+        assertTrue(solver.getIterations() <= N);
+    }
+
+    /**
+     * Hitting the iteration limit should be reported
+     */
+    @Test void maxIterations() {
+        DMatrixSparseCSC A = convectionDiffusion(20, 1.0);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        var solver = LinearSolverFactory_DSCC.gmres(null, 2, 1e-10, 5);
+        assertTrue(solver.setA(A));
+        solver.solve(B, new DMatrixRMaj(1, 1));
+        assertFalse(solver.isConverged());
+        assertEquals(5, solver.getIterations());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPreconditionerIncompleteCholesky_DSCC extends EjmlStandardJUnit {
+    /**
+     * A tridiagonal matrix has no fill in so IC(0) is the same as the exact Cholesky decomposition
+     */
+    @Test void noFillIn_exact() {
+        int N = 10;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, 3*N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 4.0 + rand.nextDouble());
+            if (i > 0) {
+                double v = rand.nextDouble() - 0.5;
+                A.set(i - 1, i, v);
+                A.set(i, i - 1, v);
+            }
+        }
+
+        var alg = new PreconditionerIncompleteCholesky_DSCC();
+        assertTrue(alg.setA(A));
+        assertEquals(0.0, alg.getShift());
+
+        DMatrixSparseCSC U = alg.getU();
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(CommonOps_DSCC.transpose(U, null, null), U, null);
+        EjmlUnitTests.assertEquals(A, found, UtilEjml.TEST_F64);
+
+        // the preconditioner should then solve the system exactly
+        checkApplySolves(alg, A);
+    }
+
+    /**
+     * Elements in U'*U which are in the structure of A should match A
+     */
+    @Test void matchesInStructure() {
+        DMatrixSparseCSC A = laplacian(8);
+
+        var alg = new PreconditionerIncompleteCholesky_DSCC();
+        assertTrue(alg.setA(A));
+        assertEquals((A.nz_length + A.numCols)/2, alg.getU().nz_length);
+
+        DMatrixSparseCSC U = alg.getU();
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(CommonOps_DSCC.transpose(U, null, null), U, null);
+        for (int col = 0; col < A.numCols; col++) {
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                int row = A.nz_rows[idx];
+                assertEquals(A.nz_values[idx], found.get(row, col), UtilEjml.TEST_F64);
+            }
+        }
+
+        // apply should be the same as solving with U'*U
+        DMatrixRMaj M = new DMatrixRMaj(1, 1);
+        DConvertMatrixStruct.convert(found, M);
+        double[] r = new double[A.numRows];
+        double[] z = new double[A.numRows];
+        for (int i = 0; i < r.length; i++) {
+            r[i] = rand.nextDouble();
+        }
+        alg.apply(r, z);
+        DMatrixRMaj expected = new DMatrixRMaj(A.numRows, 1);
+        assertTrue(CommonOps_DDRM.solve(M, DMatrixRMaj.wrap(r.length, 1, r), expected));
+        for (int i = 0; i < r.length; i++) {
+            assertEquals(expected.data[i], z[i], UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * The order of elements inside a column shouldn't matter
+     */
+    @Test void unsortedInput() {
+        DMatrixSparseCSC A = laplacian(5);
+        DMatrixSparseCSC B = reverseColumns(A);
+
+        var algA = new PreconditionerIncompleteCholesky_DSCC();
+        var algB = new PreconditionerIncompleteCholesky_DSCC();
+        assertTrue(algA.setA(A));
+        assertTrue(algB.setA(B));
+        EjmlUnitTests.assertEquals(algA.getU(), algB.getU(), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * Give it a matrix where IC(0) breaks down and see if shifting the diagonal fixes it
+     */
+    @Test void breakDown_shift() {
+        // not positive definite, so the second pivot is negative
+        DMatrixRMaj D = new DMatrixRMaj(new double[][]{
+                {1, 2, 0},
+                {2, 1, 0},
+                {0, 0, 1}});
+        DMatrixSparseCSC A = DConvertMatrixStruct.convert(D, (DMatrixSparseCSC)null, 0.0);
+
+        var alg = new PreconditionerIncompleteCholesky_DSCC();
+        alg.maxShiftTrials = 0;
+        assertFalse(alg.setA(A));
+
+        alg.maxShiftTrials = 20;
+        assertTrue(alg.setA(A));
+        assertTrue(alg.getShift() > 0.0);
+    }
+
+    /**
+     * Locking the structure should produce the same results when the values change
+     */
+    @Test void lockStructure() {
+        DMatrixSparseCSC A = laplacian(6);
+        var alg = new PreconditionerIncompleteCholesky_DSCC();
+        alg.setStructureLocked(true);
+        assertTrue(alg.isStructureLocked());
+        assertTrue(alg.setA(A));
+
+        for (int i = 0; i < A.nz_length; i++) {
+            A.nz_values[i] *= 2.0;
+        }
+        assertTrue(alg.setA(A));
+        DMatrixSparseCSC found = alg.getU().copy();
+
+        var expected = new PreconditionerIncompleteCholesky_DSCC();
+        assertTrue(expected.setA(A));
+        EjmlUnitTests.assertEquals(expected.getU(), found, UtilEjml.TEST_F64);
+    }
+
+    private void checkApplySolves( PreconditionerIncompleteCholesky_DSCC alg, DMatrixSparseCSC A ) {
+        int N = A.numRows;
+        DMatrixRMaj x = RandomMatrices_DDRM.rectangle(N, 1, rand);
+        DMatrixRMaj b = new DMatrixRMaj(N, 1);
+        CommonOps_DSCC.mult(A, x, b);
+
+        double[] z = new double[N];
+        alg.apply(b.data, z);
+        for (int i = 0; i < N; i++) {
+            assertEquals(x.data[i], z[i], UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * Returns a copy of A where the order of elements in each column has been reversed
+     */
+    static DMatrixSparseCSC reverseColumns( DMatrixSparseCSC A ) {
+        DMatrixSparseCSC B = A.copy();
+        for (int col = 0; col < B.numCols; col++) {
+            int idx0 = B.col_idx[col];
+            int idx1 = B.col_idx[col + 1] - 1;
+            while (idx0 < idx1) {
+                int row = B.nz_rows[idx0];
+                B.nz_rows[idx0] = B.nz_rows[idx1];
+                B.nz_rows[idx1] = row;
+                double value = B.nz_values[idx0];
+                B.nz_values[idx0] = B.nz_values[idx1];
+                B.nz_values[idx1] = value;
+                idx0++;
+                idx1--;
+            }
+        }
+        B.indicesSorted = false;
+        return B;
+    }
+
+    /**
+     * 5-point Laplacian on a square grid with both triangles filled in
+     */
+    static DMatrixSparseCSC laplacian( int width ) {
+        int N = width*width;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*5);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                A.set(i, i, 4.0);
+                if (x > 0) {
+                    A.set(i - 1, i, -1.0);
+                    A.set(i, i - 1, -1.0);
+                }
+                if (y > 0) {
+                    A.set(i - width, i, -1.0);
+                    A.set(i, i - width, -1.0);
+                }
+            }
+        }
+        return A;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.MatrixFeatures_DSCC;
+import org.ejml.sparse.csc.factory.LinearSolverFactory_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPreconditionerIncompleteLUT_DSCC extends EjmlStandardJUnit {
+    /**
+     * Nothing is dropped so it should be the complete LU decomposition
+     */
+    @Test void noDropping_exact() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.createNonSymmetric(20, rand);
+
+        var alg = new PreconditionerIncompleteLUT_DSCC(0.0, A.numCols);
+        assertTrue(alg.setA(A));
+
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(alg.getL(), alg.getU(), null);
+        EjmlUnitTests.assertEquals(A, found, UtilEjml.TEST_F64);
+        TestPreconditionerIncompleteLU_DSCC.checkApplySolves(alg, A, rand);
+
+        // unsorted input should produce the same results
+        var algB = new PreconditionerIncompleteLUT_DSCC(0.0, A.numCols);
+        assertTrue(algB.setA(TestPreconditionerIncompleteCholesky_DSCC.reverseColumns(A)));
+        EjmlUnitTests.assertEquals(alg.getL(), algB.getL(), UtilEjml.TEST_F64);
+        EjmlUnitTests.assertEquals(alg.getU(), algB.getU(), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * The number of elements in each column should never exceed the limit and a larger tolerance should
+     * drop more elements
+     */
+    @Test void dropping() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(10, 2.0);
+
+        int previous = Integer.MAX_VALUE;
+        for (double tol : new double[]{0.0, 1e-4, 1e-2, 1e-1}) {
+            var alg = new PreconditionerIncompleteLUT_DSCC(tol, 5);
+            assertTrue(alg.setA(A));
+            DMatrixSparseCSC L = alg.getL();
+            DMatrixSparseCSC U = alg.getU();
+            assertTrue(CommonOps_DSCC.checkStructure(L));
+            assertTrue(CommonOps_DSCC.checkStructure(U));
+            assertTrue(MatrixFeatures_DSCC.isLowerTriangle(L, 0, 0.0));
+            assertTrue(MatrixFeatures_DSCC.isLowerTriangle(CommonOps_DSCC.transpose(U, null, null), 0, 0.0));
+
+            for (int col = 0; col < A.numCols; col++) {
+                assertEquals(col, L.nz_rows[L.col_idx[col]]);
+                assertEquals(col, U.nz_rows[U.col_idx[col + 1] - 1]);
+                assertTrue(L.col_idx[col + 1] - L.col_idx[col] <= 6);
+                assertTrue(U.col_idx[col + 1] - U.col_idx[col] <= 6);
+            }
+
+            int total = L.nz_length + U.nz_length;
+            assertTrue(total <= previous);
+            previous = total;
+        }
+    }
+
+    /**
+     * Largest elements should be kept when the fill limit is reached
+     */
+    @Test void selectLargest() {
+        var alg = new PreconditionerIncompleteLUT_DSCC(0.0, 3);
+        double[] x = new double[]{0.1, -5, 2, 0.3, -0.2, 4, 0.0};
+        int[] rows = new int[]{0, 1, 2, 3, 4, 5, 6};
+        assertEquals(3, alg.selectLargest(rows, rows.length, x));
+        Arrays.sort(rows, 0, 3);
+        assertArrayEquals(new int[]{1, 2, 5}, Arrays.copyOf(rows, 3));
+
+        // nothing should be done if it's under the limit
+        rows = new int[]{6, 5};
+        assertEquals(2, alg.selectLargest(rows, 2, x));
+        assertArrayEquals(new int[]{6, 5}, rows);
+    }
+
+    /**
+     * When locked the structure should be reused and only the values recomputed
+     */
+    @Test void lockStructure() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(8, 3.0);
+        var alg = new PreconditionerIncompleteLUT_DSCC(1e-2, 4);
+        alg.setStructureLocked(true);
+        assertTrue(alg.setA(A));
+        DMatrixSparseCSC L0 = alg.getL().copy();
+        DMatrixSparseCSC U0 = alg.getU().copy();
+
+        // Scaling A will scale U and leave L unchanged
+        for (int i = 0; i < A.nz_length; i++) {
+            A.nz_values[i] *= 2.0;
+        }
+        assertTrue(alg.setA(A));
+        EjmlUnitTests.assertEquals(L0, alg.getL(), UtilEjml.TEST_F64);
+        CommonOps_DSCC.scale(2.0, U0, U0);
+        EjmlUnitTests.assertEquals(U0, alg.getU(), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * More accurate preconditioners should reduce the number of iterations
+     */
+    @Test void preconditionGmres() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(20, 5.0);
+        DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.numRows, 1, rand);
+
+        int[] iterations = new int[3];
+        Preconditioner_DSCC[] preconditioners = new Preconditioner_DSCC[]{
+                LinearSolverFactory_DSCC.preconditionerJacobi(),
+                LinearSolverFactory_DSCC.preconditionerIncompleteLU(),
+                LinearSolverFactory_DSCC.preconditionerIncompleteLUT(1e-4, 20)};
+        for (int i = 0; i < preconditioners.length; i++) {
+            var solver = LinearSolverFactory_DSCC.gmres(preconditioners[i], 30, UtilEjml.TEST_F64*0.01, 1000);
+            assertTrue(solver.setA(A));
+            solver.solve(B, new DMatrixRMaj(1, 1));
+            assertTrue(solver.isConverged());
+            iterations[i] = solver.getIterations();
+        }
+        assertTrue(iterations[1] < iterations[0]);
+        assertTrue(iterations[2] < iterations[1]);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.MatrixFeatures_DSCC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPreconditionerIncompleteLU_DSCC extends EjmlStandardJUnit {
+    /**
+     * A tridiagonal matrix has no fill in so ILU(0) is the same as the LU decomposition
+     */
+    @Test void noFillIn_exact() {
+        int N = 10;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, 3*N);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 4.0 + rand.nextDouble());
+            if (i > 0) {
+                A.set(i - 1, i, rand.nextDouble() - 0.5);
+                A.set(i, i - 1, rand.nextDouble() - 0.5);
+            }
+        }
+
+        var alg = new PreconditionerIncompleteLU_DSCC();
+        assertTrue(alg.setA(A));
+
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(alg.getL(), alg.getU(), null);
+        EjmlUnitTests.assertEquals(A, found, UtilEjml.TEST_F64);
+        checkApplySolves(alg, A, rand);
+    }
+
+    /**
+     * Elements in L*U which are in the structure of A should match A and L and U should have the same structure as A
+     */
+    @Test void matchesInStructure() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(8, 2.0);
+
+        var alg = new PreconditionerIncompleteLU_DSCC();
+        assertTrue(alg.setA(A));
+        DMatrixSparseCSC L = alg.getL();
+        DMatrixSparseCSC U = alg.getU();
+        assertTrue(MatrixFeatures_DSCC.isLowerTriangle(L, 0, 0.0));
+        assertTrue(MatrixFeatures_DSCC.isLowerTriangle(CommonOps_DSCC.transpose(U, null, null), 0, 0.0));
+        assertEquals(A.nz_length + A.numCols, L.nz_length + U.nz_length);
+        for (int i = 0; i < A.numCols; i++) {
+            assertEquals(1.0, L.get(i, i));
+        }
+
+        DMatrixSparseCSC found = CommonOps_DSCC.mult(L, U, null);
+        for (int col = 0; col < A.numCols; col++) {
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                int row = A.nz_rows[idx];
+                assertEquals(A.nz_values[idx], found.get(row, col), UtilEjml.TEST_F64);
+            }
+        }
+    }
+
+    /**
+     * The order of elements inside a column shouldn't matter
+     */
+    @Test void unsortedInput() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(5, 2.0);
+        DMatrixSparseCSC B = TestPreconditionerIncompleteCholesky_DSCC.reverseColumns(A);
+
+        var algA = new PreconditionerIncompleteLU_DSCC();
+        var algB = new PreconditionerIncompleteLU_DSCC();
+        assertTrue(algA.setA(A));
+        assertTrue(algB.setA(B));
+        EjmlUnitTests.assertEquals(algA.getL(), algB.getL(), UtilEjml.TEST_F64);
+        EjmlUnitTests.assertEquals(algA.getU(), algB.getU(), UtilEjml.TEST_F64);
+    }
+
+    /**
+     * No pivoting is done so it should fail when the first diagonal element is zero
+     */
+    @Test void zeroPivot() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(3, 1.0);
+        A.remove(0, 0);
+        assertFalse(new PreconditionerIncompleteLU_DSCC().setA(A));
+    }
+
+    /**
+     * Locking the structure should produce the same results when the values change
+     */
+    @Test void lockStructure() {
+        DMatrixSparseCSC A = TestLinearSolverGmres_DSCC.convectionDiffusion(6, 3.0);
+        var alg = new PreconditionerIncompleteLU_DSCC();
+        alg.setStructureLocked(true);
+        assertTrue(alg.isStructureLocked());
+        assertTrue(alg.setA(A));
+
+        for (int i = 0; i < A.nz_length; i++) {
+            A.nz_values[i] *= 1.0 + rand.nextDouble()*0.1;
+        }
+        assertTrue(alg.setA(A));
+
+        var expected = new PreconditionerIncompleteLU_DSCC();
+        assertTrue(expected.setA(A));
+        EjmlUnitTests.assertEquals(expected.getL(), alg.getL(), UtilEjml.TEST_F64);
+        EjmlUnitTests.assertEquals(expected.getU(), alg.getU(), UtilEjml.TEST_F64);
+    }
+
+    static void checkApplySolves( Preconditioner_DSCC alg, DMatrixSparseCSC A, Random rand ) {
+        int N = A.numRows;
+        DMatrixRMaj x = RandomMatrices_DDRM.rectangle(N, 1, rand);
+        DMatrixRMaj b = new DMatrixRMaj(N, 1);
+        CommonOps_DSCC.mult(A, x, b);
+
+        double[] z = new double[N];
+        alg.apply(b.data, z);
+        for (int i = 0; i < N; i++) {
+            assertEquals(x.data[i], z[i], UtilEjml.TEST_F64);
+        }
+    }
+}
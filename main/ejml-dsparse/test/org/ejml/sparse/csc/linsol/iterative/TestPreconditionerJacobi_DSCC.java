@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.linsol.iterative;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPreconditionerJacobi_DSCC extends EjmlStandardJUnit {
+    @Test void apply() {
+        DMatrixSparseCSC A = TestPreconditionerIncompleteCholesky_DSCC.laplacian(3);
+        A.set(2, 2, 8.0);
+        A.set(1, 2, 3.0);
+
+        var alg = new PreconditionerJacobi_DSCC();
+        assertTrue(alg.setA(A));
+
+        double[] r = new double[A.numRows];
+        double[] z = new double[A.numRows];
+        for (int i = 0; i < r.length; i++) {
+            r[i] = rand.nextDouble();
+        }
+        alg.apply(r, z);
+
+        for (int i = 0; i < r.length; i++) {
+            assertEquals(r[i]/A.get(i, i), z[i], UtilEjml.TEST_F64);
+        }
+    }
+
+    /**
+     * Should fail if there's a zero along the diagonal, including elements which aren't in the structure
+     */
+    @Test void zeroDiagonal() {
+        var alg = new PreconditionerJacobi_DSCC();
+
+        DMatrixSparseCSC A = TestPreconditionerIncompleteCholesky_DSCC.laplacian(3);
+        A.set(4, 4, 0.0);
+        assertFalse(alg.setA(A));
+
+        A.remove(4, 4);
+        assertFalse(alg.setA(A));
+    }
+}
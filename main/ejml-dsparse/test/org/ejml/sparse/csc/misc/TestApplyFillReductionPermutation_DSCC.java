@@ -18,27 +18,82 @@
 
 package org.ejml.sparse.csc.misc;
 
-
 import org.ejml.EjmlStandardJUnit;
-import org.junit.jupiter.api.Disabled;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.FillReducing;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.ejml.sparse.csc.factory.FillReductionFactory_DSCC;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
  */
 public class TestApplyFillReductionPermutation_DSCC extends EjmlStandardJUnit {
-    @Disabled
+    /**
+     * The same permutation should be applied to rows and columns and the output should be upper triangular
+     */
     @Test
     public void symmetric() {
-        fail("implement");
+        DMatrixSparseCSC A_upper = RandomMatrices_DSCC.triangleUpper(12, 0, 40, -1, 1, rand);
+
+        var alg = new ApplyFillReductionPermutation_DSCC(FillReductionFactory_DSCC.create(FillReducing.RANDOM), true);
+        DMatrixSparseCSC found = alg.apply(A_upper);
+        assertNotSame(A_upper, found);
+
+        int[] p = alg.getArrayP();
+        int[] pinv = alg.getArrayPinv();
+        assertNotNull(p);
+        assertNotNull(pinv);
+
+        for (int row = 0; row < A_upper.numRows; row++) {
+            assertEquals(row, pinv[p[row]]);
+            for (int col = 0; col < A_upper.numCols; col++) {
+                // only the upper triangle is saved in the input
+                int i = Math.min(p[row], p[col]);
+                int j = Math.max(p[row], p[col]);
+                if (row <= col)
+                    assertEquals(A_upper.get(i, j), found.get(row, col), UtilEjml.TEST_F64);
+                else
+                    assertFalse(found.isAssigned(row, col));
+            }
+        }
     }
 
-    @Disabled
+    /**
+     * Only the columns should be permuted
+     */
     @Test
     public void non_symmetric() {
-        fail("implement");
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(8, 12, 40, rand);
+
+        var alg = new ApplyFillReductionPermutation_DSCC(FillReductionFactory_DSCC.create(FillReducing.RANDOM), false);
+        DMatrixSparseCSC found = alg.apply(A);
+        assertTrue(CommonOps_DSCC.checkStructure(found));
+
+        int[] q = alg.getArrayQ();
+        assertNotNull(q);
+
+        for (int row = 0; row < A.numRows; row++) {
+            for (int col = 0; col < A.numCols; col++) {
+                assertEquals(A.get(row, q[col]), found.get(row, col), UtilEjml.TEST_F64);
+            }
+        }
     }
 
-}
\ No newline at end of file
+    /**
+     * If there's no fill reduction then the input should be returned
+     */
+    @Test
+    public void no_fill_reduce() {
+        DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(8, 12, 40, rand);
+
+        var alg = new ApplyFillReductionPermutation_DSCC(null, false);
+        assertSame(A, alg.apply(A));
+        assertFalse(alg.isApplied());
+        assertNull(alg.getArrayQ());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.misc;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.EjmlUnitTests;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestApproximateMinimumDegree_DSCC extends EjmlStandardJUnit {
+    /**
+     * Random matrices of different shapes and densities should always produce a valid permutation
+     */
+    @Test
+    public void validPermutation() {
+        ApproximateMinimumDegree_DSCC amd = new ApproximateMinimumDegree_DSCC(false);
+        ApproximateMinimumDegree_DSCC colamd = new ApproximateMinimumDegree_DSCC(true);
+
+        for (int mc = 0; mc < 100; mc++) {
+            int N = rand.nextInt(40) + 1;
+            int M = rand.nextInt(40) + 1;
+
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(N, N, rand.nextInt(N*N + 1), rand);
+            DMatrixSparseCSC A_cpy = A.copy();
+            amd.process(A);
+            checkPermutation(amd.getRow().data, amd.getRow().length, N);
+            checkPermutation(amd.getColumn().data, amd.getColumn().length, N);
+            EjmlUnitTests.assertEquals(A_cpy, A, 0.0);
+
+            A = RandomMatrices_DSCC.rectangle(M, N, rand.nextInt(N*M + 1), rand);
+            colamd.process(A);
+            assertNull(colamd.getRow());
+            checkPermutation(colamd.getColumn().data, colamd.getColumn().length, N);
+        }
+    }
+
+    /**
+     * The ordering of a 2D grid Laplacian should produce significantly less fill in than the natural ordering
+     */
+    @Test
+    public void reducesFill_symmetric() {
+        DMatrixSparseCSC A = laplacian(15, true);
+
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(false);
+        alg.process(A);
+        int[] p = alg.getRow().data;
+        checkPermutation(p, alg.getRow().length, A.numCols);
+
+        int[] pinv = new int[A.numCols];
+        CommonOps_DSCC.permutationInverse(p, pinv, A.numCols);
+        DMatrixSparseCSC Aperm = new DMatrixSparseCSC(1, 1, 0);
+        CommonOps_DSCC.permuteSymmetric(A, pinv, Aperm, null);
+
+        int natural = factorNonZeros(A, false);
+        int found = factorNonZeros(Aperm, false);
+
+        assertTrue(found < natural*0.8, found + " vs " + natural);
+    }
+
+    /**
+     * Scramble the columns of a matrix with a good natural ordering. The column ordering of A<sup>T</sup>A
+     * should undo most of the damage.
+     */
+    @Test
+    public void reducesFill_ata() {
+        DMatrixSparseCSC L = laplacian(12, false);
+        int N = L.numCols;
+
+        int[] scramble = UtilEjml.shuffled(N, rand);
+        DMatrixSparseCSC A = new DMatrixSparseCSC(1, 1, 0);
+        CommonOps_DSCC.permute(null, L, scramble, A);
+
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(true);
+        alg.process(A);
+        int[] q = alg.getColumn().data;
+        checkPermutation(q, alg.getColumn().length, N);
+
+        DMatrixSparseCSC Aperm = new DMatrixSparseCSC(1, 1, 0);
+        CommonOps_DSCC.permute(null, A, q, Aperm);
+
+        int scrambled = factorNonZeros(A, true);
+        int found = factorNonZeros(Aperm, true);
+
+        assertTrue(found < scrambled*0.8, found + " vs " + scrambled);
+    }
+
+    /**
+     * A node which is connected to every other node should be detected as dense and ordered last
+     */
+    @Test
+    public void denseNode() {
+        int N = 60;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, 0);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 4.0);
+            if (i + 1 < N)
+                A.set(i, i + 1, -1.0);
+            A.set(0, i, 1.0);
+        }
+
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(false);
+        alg.process(A);
+        int[] p = alg.getRow().data;
+        checkPermutation(p, N, N);
+        assertEquals(1, alg.getNumDense());
+        assertEquals(0, p[N - 1]);
+    }
+
+    /**
+     * Dense rows should be ignored when computing the column ordering
+     */
+    @Test
+    public void denseRow_ata() {
+        int N = 200;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N + 1, N, 0);
+        for (int i = 0; i < N; i++) {
+            A.set(i, i, 4.0);
+            A.set(N, i, 1.0);
+        }
+
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(true);
+        alg.process(A);
+        checkPermutation(alg.getColumn().data, alg.getColumn().length, N);
+        // with the dense row removed the columns are independent and none of them are dense
+        assertEquals(0, alg.getNumDense());
+    }
+
+    @Test
+    public void emptyAndDiagonal() {
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(false);
+
+        alg.process(new DMatrixSparseCSC(0, 0, 0));
+        assertEquals(0, alg.getRow().length);
+
+        alg.process(new DMatrixSparseCSC(7, 7, 0));
+        checkPermutation(alg.getRow().data, alg.getRow().length, 7);
+
+        DMatrixSparseCSC D = CommonOps_DSCC.identity(9);
+        alg.process(D);
+        checkPermutation(alg.getRow().data, alg.getRow().length, 9);
+    }
+
+    @Test
+    public void notSquare() {
+        ApproximateMinimumDegree_DSCC alg = new ApproximateMinimumDegree_DSCC(false);
+        assertThrows(IllegalArgumentException.class, () -> alg.process(new DMatrixSparseCSC(5, 4, 0)));
+    }
+
+    private static void checkPermutation( int[] p, int length, int N ) {
+        assertEquals(N, length);
+        boolean[] seen = new boolean[N];
+        for (int i = 0; i < N; i++) {
+            assertFalse(seen[p[i]]);
+            seen[p[i]] = true;
+        }
+    }
+
+    /**
+     * Number of non-zero elements in the Cholesky factor of A or the R in QR of A
+     */
+    private static int factorNonZeros( DMatrixSparseCSC A, boolean ata ) {
+        int N = A.numCols;
+        int[] parent = new int[N];
+        int[] post = new int[N];
+        int[] counts = new int[N];
+
+        TriangularSolver_DSCC.eliminationTree(A, ata, parent, null);
+        TriangularSolver_DSCC.postorder(parent, N, post, null);
+        new ColumnCounts_DSCC(ata).process(A, parent, post, counts);
+
+        int total = 0;
+        for (int i = 0; i < N; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    /**
+     * 5-point Laplacian on a square grid
+     *
+     * @param upper If true only the upper triangle is filled in
+     */
+    private static DMatrixSparseCSC laplacian( int width, boolean upper ) {
+        int N = width*width;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*5);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                A.set(i, i, 4.0);
+                if (x > 0) A.set(i - 1, i, -1.0);
+                if (x + 1 < width && !upper) A.set(i + 1, i, -1.0);
+                if (y > 0) A.set(i - width, i, -1.0);
+                if (y + 1 < width && !upper) A.set(i + width, i, -1.0);
+            }
+        }
+        return A;
+    }
+}
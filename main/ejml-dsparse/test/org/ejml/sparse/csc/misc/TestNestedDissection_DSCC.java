@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.sparse.csc.misc;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.sparse.SeparatorTree;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNestedDissection_DSCC extends EjmlStandardJUnit {
+    /**
+     * Random matrices should always produce a valid permutation and a valid tree
+     */
+    @Test
+    public void validPermutation() {
+        var alg = new NestedDissection_DSCC(4);
+
+        for (int mc = 0; mc < 100; mc++) {
+            int N = rand.nextInt(60) + 1;
+            DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(N, N, rand.nextInt(N*3 + 1), rand);
+            alg.process(A);
+
+            assertArrayEquals(alg.getRow().data, alg.getColumn().data);
+            checkPermutation(alg.getRow().data, alg.getRow().length, N);
+            checkTree(alg.getTree(), N);
+        }
+    }
+
+    /**
+     * A 2D grid should have significantly less fill in than the natural ordering and not much worse than AMD
+     */
+    @Test
+    public void reducesFill_grid() {
+        DMatrixSparseCSC A = laplacian(40);
+
+        var alg = new NestedDissection_DSCC(16);
+        alg.process(A);
+        checkPermutation(alg.getRow().data, alg.getRow().length, A.numCols);
+        checkTree(alg.getTree(), A.numCols);
+
+        var amd = new ApproximateMinimumDegree_DSCC(false);
+        amd.process(A);
+
+        int natural = factorNonZeros(A, null);
+        int found = factorNonZeros(A, alg.getRow().data);
+        int foundAmd = factorNonZeros(A, amd.getRow().data);
+
+        assertTrue(found < natural/2, found + " vs " + natural);
+        assertTrue(found < foundAmd*1.5, found + " vs " + foundAmd);
+    }
+
+    /**
+     * Columns in independent subtrees should not be connected to each other in the permuted matrix
+     */
+    @Test
+    public void independentSubtrees() {
+        DMatrixSparseCSC A = laplacian(30);
+        var alg = new NestedDissection_DSCC(16);
+        alg.process(A);
+
+        SeparatorTree tree = alg.getTree();
+        IGrowArray selected = new IGrowArray();
+        tree.selectIndependent(8, selected);
+        assertTrue(selected.length >= 8);
+
+        // which selected subtree each column in the permuted matrix belongs to
+        int[] owner = new int[A.numCols];
+        for (int i = 0; i < A.numCols; i++) {
+            owner[i] = -1;
+        }
+        for (int i = 0; i < selected.length; i++) {
+            int node = selected.data[i];
+            for (int col = tree.subtreeBegin.data[node]; col < tree.end.data[node]; col++) {
+                assertEquals(-1, owner[col]);
+                owner[col] = i;
+            }
+        }
+
+        int[] pinv = new int[A.numCols];
+        CommonOps_DSCC.permutationInverse(alg.getRow().data, pinv, A.numCols);
+        for (int col = 0; col < A.numCols; col++) {
+            for (int idx = A.col_idx[col]; idx < A.col_idx[col + 1]; idx++) {
+                int a = owner[pinv[col]];
+                int b = owner[pinv[A.nz_rows[idx]]];
+                assertTrue(a == -1 || b == -1 || a == b);
+            }
+        }
+    }
+
+    /**
+     * Disconnected graphs should be split between their components
+     */
+    @Test
+    public void disconnected() {
+        int N = 500;
+        DMatrixSparseCSC A = CommonOps_DSCC.identity(N);
+
+        var alg = new NestedDissection_DSCC(10);
+        alg.process(A);
+        checkPermutation(alg.getRow().data, alg.getRow().length, N);
+        checkTree(alg.getTree(), N);
+
+        // no separators are needed
+        SeparatorTree tree = alg.getTree();
+        for (int node = 0; node < tree.size(); node++) {
+            if (!tree.isLeaf(node))
+                assertEquals(tree.nodeBegin.get(node), tree.end.get(node));
+        }
+    }
+
+    @Test
+    public void emptyMatrix() {
+        var alg = new NestedDissection_DSCC();
+        alg.process(new DMatrixSparseCSC(0, 0, 0));
+        assertEquals(0, alg.getRow().length);
+        assertEquals(0, alg.getTree().size());
+    }
+
+    private static void checkPermutation( int[] p, int length, int N ) {
+        assertEquals(N, length);
+        boolean[] seen = new boolean[N];
+        for (int i = 0; i < N; i++) {
+            assertFalse(seen[p[i]]);
+            seen[p[i]] = true;
+        }
+    }
+
+    /**
+     * Makes sure each column is owned by exactly one node and that subtrees are nested inside their parents
+     */
+    private static void checkTree( SeparatorTree tree, int N ) {
+        int[] owned = new int[N];
+        int roots = 0;
+        for (int node = 0; node < tree.size(); node++) {
+            int begin = tree.subtreeBegin.get(node);
+            int middle = tree.nodeBegin.get(node);
+            int end = tree.end.get(node);
+            assertTrue(begin <= middle && middle <= end && begin < end);
+            for (int col = middle; col < end; col++) {
+                owned[col]++;
+            }
+
+            int parent = tree.parent.get(node);
+            if (parent == -1) {
+                roots++;
+                continue;
+            }
+            // postorder and the parent's subtree contains the child
+            assertTrue(parent > node);
+            assertTrue(tree.subtreeBegin.get(parent) <= begin);
+            assertTrue(end <= tree.nodeBegin.get(parent));
+        }
+        for (int col = 0; col < N; col++) {
+            assertEquals(1, owned[col]);
+        }
+        assertEquals(N == 0 ? 0 : 1, roots);
+    }
+
+    /**
+     * Number of non-zero elements in the Cholesky factor of upper triangular A after the permutation has been applied
+     */
+    private static int factorNonZeros( DMatrixSparseCSC A, int[] perm ) {
+        int N = A.numCols;
+        DMatrixSparseCSC upper = A;
+        if (perm != null) {
+            int[] pinv = new int[N];
+            CommonOps_DSCC.permutationInverse(perm, pinv, N);
+            DMatrixSparseCSC tmp = new DMatrixSparseCSC(1, 1, 0);
+            CommonOps_DSCC.permuteSymmetric(upper, pinv, tmp, null);
+            upper = tmp;
+        }
+
+        int[] parent = new int[N];
+        int[] post = new int[N];
+        int[] counts = new int[N];
+
+        TriangularSolver_DSCC.eliminationTree(upper, false, parent, null);
+        TriangularSolver_DSCC.postorder(parent, N, post, null);
+        new ColumnCounts_DSCC(false).process(upper, parent, post, counts);
+
+        int total = 0;
+        for (int i = 0; i < N; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    /**
+     * 5-point Laplacian on a square grid. Only the upper triangle is filled in.
+     */
+    private static DMatrixSparseCSC laplacian( int width ) {
+        int N = width*width;
+        DMatrixSparseCSC A = new DMatrixSparseCSC(N, N, N*3);
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y*width + x;
+                A.set(i, i, 4.0);
+                if (x > 0) A.set(i - 1, i, -1.0);
+                if (y > 0) A.set(i - width, i, -1.0);
+            }
+        }
+        return A;
+    }
+}
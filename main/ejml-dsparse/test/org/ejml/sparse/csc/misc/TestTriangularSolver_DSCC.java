@@ -91,6 +91,25 @@ public class TestTriangularSolver_DSCC extends EjmlStandardJUnit {
         }
     }
 
+    @Test
+    public void solveTranU_denseX() {
+        for (int nz_size : new int[]{5, 8, 10, 20}) {
+            DMatrixSparseCSC L = RandomMatrices_DSCC.triangleLower(5, 0, nz_size, -1, 1, rand);
+            DMatrixSparseCSC U = new DMatrixSparseCSC(5, 5, L.nz_length);
+            CommonOps_DSCC.transpose(L, U, null);
+
+            DMatrixRMaj b = RandomMatrices_DDRM.rectangle(5, 1, rand);
+            DMatrixRMaj x = b.copy();
+
+            TriangularSolver_DSCC.solveTranU(U, x.data);
+
+            DMatrixRMaj found = x.createLike();
+            CommonOps_DSCC.mult(L, x, found);
+
+            assertTrue(MatrixFeatures_DDRM.isIdentical(found, b, UtilEjml.TEST_F64));
+        }
+    }
+
     @Test
     public void solve_sparseX_vector() {
         solve_sparseX_vector(true);
@@ -23,8 +23,10 @@ import org.ejml.ops.ConvertMatrixData;
 import org.ejml.ops.DConvertMatrixStruct;
 import org.ejml.ops.FConvertMatrixStruct;
 import org.ejml.simple.SimpleMatrix;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
@@ -46,9 +48,10 @@ import static org.ejml.equation.TokenList.Type;
  * is assigned the results of an operation it is resized so that it can store the results.
  * </p>
  * <p>
- * The compiler currently produces simplistic code. For example, if it encounters the following equation "a = b*c' it
- * will not invoke multTransB(b,c,a), but will explicitly transpose c and then call mult(). In the future it
- * will recognize such short cuts.
+ * After parsing, the sequence is optimized by {@link SequenceOptimizer}. For example, if it encounters the following
+ * equation "a = b*c'" it will invoke multTransB(b,c,a) instead of explicitly transposing c and then calling mult().
+ * "P = F*P*F' + Q" becomes a mult() and a multAddTransB(). Common sub-expressions are only computed once and
+ * temporary matrices share memory when possible. Optimization can be turned off with {@link #setOptimize(boolean)}.
  * </p>
  *
  * Usage example:
@@ -232,7 +235,6 @@ import static org.ejml.equation.TokenList.Type;
  * @author Peter Abeles
  */
 // TODO Change parsing so that operations specify a pattern.
-// TODO Recycle temporary variables
 // TODO intelligently handle identity matrices
 @SuppressWarnings("NullAway") // Massive false positive rate
 public class Equation {
@@ -245,6 +247,10 @@ public class Equation {
     ManagerFunctions functions = new ManagerFunctions();
     ManagerTempVariables managerTemp = new ManagerTempVariables();
 
+    // Used to optimize compiled sequences
+    SequenceOptimizer optimizer = new SequenceOptimizer();
+    boolean optimize = true;
+
     public Equation() {
         alias(Math.PI, "pi");
         alias(Math.E, "e");
@@ -289,11 +295,11 @@ public class Equation {
     public void alias( DMatrixRMaj variable, String name ) {
         if (isReserved(name))
             throw new RuntimeException("Reserved word or contains a reserved character");
-        VariableMatrix old = (VariableMatrix)variables.get(name);
-        if (old == null) {
-            variables.put(name, new VariableMatrix(variable));
+        Variable old = variables.get(name);
+        if (old instanceof VariableMatrix) {
+            ((VariableMatrix)old).matrix = variable;
         } else {
-            old.matrix = variable;
+            variables.put(name, new VariableMatrix(variable));
         }
     }
 
@@ -303,10 +309,51 @@ public class Equation {
         alias(f, name);
     }
 
+    /**
+     * Adds a new sparse matrix variable. If one already has the same name it is written over. Operations between
+     * two sparse matrices produce a sparse matrix while operations which mix sparse and dense matrices
+     * produce a dense matrix.
+     *
+     * @param variable Matrix which is to be assigned to name
+     * @param name The name of the variable
+     */
     public void alias( DMatrixSparseCSC variable, String name ) {
-        DMatrixRMaj f = new DMatrixRMaj(variable.numRows, variable.numCols);
-        DConvertMatrixStruct.convert(variable, f);
-        alias(f, name);
+        if (isReserved(name))
+            throw new RuntimeException("Reserved word or contains a reserved character");
+        Variable old = variables.get(name);
+        if (old instanceof VariableSparse) {
+            ((VariableSparse)old).matrix = variable;
+        } else {
+            variables.put(name, new VariableSparse(variable));
+        }
+    }
+
+    /**
+     * Adds a new fixed sized matrix variable, e.g. {@link DMatrix3x3} or {@link DMatrix3}. If one already has the
+     * same name and type it is written over. Square matrices and vectors with a dimension from 2 to 6, and the
+     * rectangular matrices in {@link org.ejml.dense.fixed.RectangularOps_DDF}, are operated on directly by the fixed
+     * sized kernels. Other fixed sized matrices are copied into a dense matrix.
+     *
+     * @param variable Matrix which is to be assigned to name
+     * @param name The name of the variable
+     */
+    public void alias( DMatrixFixed variable, String name ) {
+        if (!OperationFixed.isSupported(variable)) {
+            DMatrixRMaj M = new DMatrixRMaj(1, 1);
+            DConvertMatrixStruct.convert(variable, M);
+            alias(M, name);
+            return;
+        }
+        if (isReserved(name))
+            throw new RuntimeException("Reserved word or contains a reserved character");
+
+        // kernels are selected by type when compiled, so the type can't change
+        Variable old = variables.get(name);
+        if (old instanceof VariableFixed && ((VariableFixed)old).matrix.getClass() == variable.getClass()) {
+            ((VariableFixed)old).matrix = variable;
+        } else {
+            variables.put(name, new VariableFixed(variable));
+        }
     }
 
     public void alias( SimpleMatrix variable, String name ) {
@@ -393,9 +440,7 @@ public class Equation {
         } else if (variable.getClass() == SimpleMatrix.class) {
             alias((SimpleMatrix)variable, name);
         } else if (variable instanceof DMatrixFixed) {
-            DMatrixRMaj M = new DMatrixRMaj(1, 1);
-            DConvertMatrixStruct.convert((DMatrixFixed)variable, M);
-            alias(M, name);
+            alias((DMatrixFixed)variable, name);
         } else if (variable instanceof FMatrixFixed) {
             FMatrixRMaj M = new FMatrixRMaj(1, 1);
             FConvertMatrixStruct.convert((FMatrixFixed)variable, M);
@@ -410,6 +455,26 @@ public class Equation {
         return compile(equation, true, false);
     }
 
+    /**
+     * Compiles several statements together into a dataflow graph. Operations which don't depend on each other
+     * are performed concurrently. See {@link ParallelSequence} for details. Statements are compiled one at a
+     * time, in order, so a variable declared in one statement can be referenced by a later one.
+     *
+     * @param equations Statements in the order they would be performed in sequentially
+     * @return Graph of operations
+     */
+    public ParallelSequence compileParallel( String... equations ) {
+        // Temporaries which share storage can't be computed at the same time
+        SequenceOptimizer parallelOptimizer = new SequenceOptimizer().setTo(optimizer);
+        parallelOptimizer.recycleTemporary = false;
+
+        List<Sequence> statements = new ArrayList<>();
+        for (String equation : equations) {
+            statements.add(compile(equation, true, false, optimize ? parallelOptimizer : null));
+        }
+        return new ParallelSequence(statements);
+    }
+
     /**
      * Parses the equation and compiles it into a sequence which can be executed later on
      *
@@ -419,7 +484,14 @@ public class Equation {
      * @return Sequence of operations on the variables
      */
     public Sequence compile( String equation, boolean assignment, boolean debug ) {
+        return compile(equation, assignment, debug, optimize ? optimizer : null);
+    }
 
+    /**
+     * @param optimizer Used to optimize the sequence. If null then it's not optimized.
+     */
+    private Sequence compile( String equation, boolean assignment, boolean debug,
+                              @Nullable SequenceOptimizer optimizer ) {
         functions.setManagerTemp(managerTemp);
 
         Sequence sequence = new Sequence();
@@ -458,6 +530,9 @@ public class Equation {
                 compileAssignment(sequence, tokens, t0);
             }
 
+            if (optimizer != null)
+                optimizer.process(sequence);
+
             if (debug) {
                 System.out.println("Operations:\n------------");
                 for (int i = 0; i < sequence.operations.size(); i++) {
@@ -491,16 +566,41 @@ public class Equation {
         if (range == null) {
             // no range, so copy results into the entire output matrix
             sequence.output = createVariableInferred(t0, variableRight);
-            sequence.addOperation(Operation.copy(variableRight, sequence.output));
+            sequence.addOperation(Operation.copy(variableRight, sequence.output),
+                    sequence.output, Arrays.asList(variableRight));
         } else {
             // a sub-matrix range is specified. Copy into that inner part
             if (t0.getType() == Type.WORD) {
                 throw new ParseError("Can't do lazy variable initialization with submatrices. " + t0.getWord());
             }
-            sequence.addOperation(Operation.copy(variableRight, t0.getVariable(), range));
+            // sub-matrices are only copied between dense matrices. A sparse or fixed sized output is
+            // converted into a dense matrix, modified, then converted back
+            Variable variableOutput = t0.getVariable();
+            Variable variableSource = toDense(variableRight, sequence);
+            Variable variableTarget = toDense(variableOutput, sequence);
+            List<Variable> inputs = new ArrayList<>(range);
+            inputs.add(variableSource);
+            sequence.addOperation(Operation.copy(variableSource, variableTarget, range), variableTarget, inputs);
+            if (variableTarget != variableOutput) {
+                sequence.addOperation(Operation.copy(variableTarget, variableOutput),
+                        variableOutput, Arrays.asList(variableTarget));
+            }
         }
     }
 
+    /**
+     * If the variable is a sparse or fixed sized matrix then an operation which copies it into a dense matrix
+     * is added and the dense matrix is returned. Otherwise the variable is returned. Used by operations
+     * which only have dense implementations.
+     */
+    private Variable toDense( Variable variable, Sequence sequence ) {
+        if (!(variable instanceof VariableSparse || variable instanceof VariableFixed))
+            return variable;
+        VariableMatrix dense = functions.getManagerTemp().createMatrix();
+        sequence.addOperation(Operation.copy(variable, dense), dense, Arrays.asList(variable));
+        return dense;
+    }
+
     private void compileTokens( Sequence sequence, TokenList tokens ) {
         checkForUnknownVariables(tokens);
         handleParentheses(tokens, sequence);
@@ -592,6 +692,14 @@ public class Equation {
                     alias(new DMatrixRMaj(1, 1), t0.getWord());
                     break;
 
+                case MATRIX_SPARSE:
+                    alias(new DMatrixSparseCSC(1, 1, 0), t0.getWord());
+                    break;
+
+                case MATRIX_FIXED:
+                    alias((DMatrixFixed)((VariableFixed)variableRight).matrix.createLike(), t0.getWord());
+                    break;
+
                 case SCALAR:
                     if (variableRight instanceof VariableInteger) {
                         alias(0, t0.getWord());
@@ -701,7 +809,9 @@ public class Equation {
                             createFunction(before, inputs, tokens, sequence);
                         }
                     } else if (before != null && before.getType() == Type.VARIABLE &&
-                            before.getVariable().getType() == VariableType.MATRIX) {
+                            (before.getVariable().getType() == VariableType.MATRIX ||
+                                    before.getVariable().getType() == VariableType.MATRIX_SPARSE ||
+                                    before.getVariable().getType() == VariableType.MATRIX_FIXED)) {
                         // if it's a variable then that says it's a sub-matrix
                         TokenList.Token extract = parseSubmatrixToExtract(before, sublist, sequence);
                         // put in the extract operation
@@ -797,7 +907,7 @@ public class Equation {
         List<Variable> variables = new ArrayList<>();
 
         // for the operation, the first variable must be the matrix which is being manipulated
-        variables.add(variableTarget.getVariable());
+        variables.add(toDense(variableTarget.getVariable(), sequence));
 
         addSubMatrixVariables(inputs, variables);
         if (variables.size() != 2 && variables.size() != 3) {
@@ -829,7 +939,7 @@ public class Equation {
             throw new ParseError("Expected 2 inputs to sub-matrix");
         }
 
-        sequence.addOperation(info.op);
+        sequence.addOperation(info.op, info.output, variables);
 
         return new TokenList.Token(info.output);
     }
@@ -1139,11 +1249,11 @@ public class Equation {
                 // series of variables and semi-colons hopefully
                 TokenList bracketLet = tokens.extractSubList(start.next, t.previous);
                 parseBlockNoParentheses(bracketLet, sequence, true);
-                MatrixConstructor constructor = constructMatrix(bracketLet);
+                MatrixConstructor constructor = constructMatrix(bracketLet, sequence);
 
                 // define the matrix op and inject into token list
                 Operation.Info info = Operation.matrixConstructor(constructor);
-                sequence.addOperation(info.op);
+                sequence.addOperation(info.op, info.output, constructor.getInputs());
 
                 tokens.insert(start.previous, new TokenList.Token(info.output));
 
@@ -1159,7 +1269,7 @@ public class Equation {
             throw new RuntimeException("Dangling [");
     }
 
-    private MatrixConstructor constructMatrix( TokenList bracketLet ) {
+    private MatrixConstructor constructMatrix( TokenList bracketLet, Sequence sequence ) {
         // Go through the bracket and construct the matrix
         MatrixConstructor constructor = new MatrixConstructor(functions.getManagerTemp());
 
@@ -1167,7 +1277,7 @@ public class Equation {
 
         while (n != null) {
             if (n.getType() == Type.VARIABLE) {
-                constructor.addToRow(n.getVariable());
+                constructor.addToRow(toDense(n.getVariable(), sequence));
             } else if (n.getType() == Type.SYMBOL) {
                 if (n.getSymbol() == Symbol.SEMICOLON) {
                     constructor.endRow();
@@ -1210,9 +1320,12 @@ public class Equation {
                     throw new RuntimeException("Crap bug rethink this function");
 
                 // create the operation
-                Operation.Info info = Operation.neg(token.next.getVariable(), functions.getManagerTemp());
+                Variable input = token.next.getVariable();
+                if (!Operation.hasKernel("neg", input, null))
+                    input = toDense(input, sequence);
+                Operation.Info info = Operation.neg(input, functions.getManagerTemp());
                 // add the operation to the sequence
-                sequence.addOperation(info.op);
+                sequence.addOperation(info.op, info.output, Arrays.asList(input));
                 // update the token list
                 TokenList.Token t = new TokenList.Token(info.output);
                 tokens.insert(token.next, t);
@@ -1298,9 +1411,12 @@ public class Equation {
      */
     protected TokenList.Token insertTranspose( TokenList.Token variable,
                                                TokenList tokens, Sequence sequence ) {
-        Operation.Info info = functions.create('\'', variable.getVariable());
+        Variable input = variable.getVariable();
+        if (!Operation.hasKernel("transpose", input, null))
+            input = toDense(input, sequence);
+        Operation.Info info = functions.create('\'', input);
 
-        sequence.addOperation(info.op);
+        sequence.addOperation(info.op, info.output, Arrays.asList(input));
 
         // replace the symbols with their output
         TokenList.Token t = new TokenList.Token(info.output);
@@ -1317,9 +1433,15 @@ public class Equation {
      */
     protected TokenList.Token createOp( TokenList.Token left, TokenList.Token op, TokenList.Token right,
                                         TokenList tokens, Sequence sequence ) {
-        Operation.Info info = functions.create(op.symbol, left.getVariable(), right.getVariable());
+        Variable varLeft = left.getVariable();
+        Variable varRight = right.getVariable();
+        if (!hasKernel(op.symbol, varLeft, varRight)) {
+            varLeft = toDense(varLeft, sequence);
+            varRight = toDense(varRight, sequence);
+        }
+        Operation.Info info = functions.create(op.symbol, varLeft, varRight);
 
-        sequence.addOperation(info.op);
+        sequence.addOperation(info.op, info.output, Arrays.asList(varLeft, varRight));
 
         // replace the symbols with their output
         TokenList.Token t = new TokenList.Token(info.output);
@@ -1329,23 +1451,51 @@ public class Equation {
         return t;
     }
 
+    /**
+     * Returns true if there's a sparse or fixed sized kernel for the operator, or if neither input is sparse
+     * or fixed sized
+     */
+    private static boolean hasKernel( Symbol op, Variable left, Variable right ) {
+        switch (op) {
+            case PLUS:
+                return Operation.hasKernel("add", left, right);
+            case MINUS:
+                return Operation.hasKernel("subtract", left, right);
+            case TIMES:
+                return Operation.hasKernel("multiply", left, right);
+            case RDIVIDE:
+                return Operation.hasKernel("divide", left, right);
+            case LDIVIDE:
+                return Operation.hasKernel("divide", right, left);
+            default:
+                return Operation.hasKernel(op.name(), left, right);
+        }
+    }
+
     /**
      * Adds a new operation to the list from the operation and two variables. The inputs are removed
      * from the token list and replaced by their output.
      */
     protected TokenList.Token createFunction( TokenList.Token name, List<TokenList.Token> inputs, TokenList tokens, Sequence sequence ) {
         Operation.Info info;
+        String functionName = name.getFunction().getName();
+        List<Variable> vars = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            vars.add(inputs.get(i).getVariable());
+        }
+        // functions with more than one input only have dense implementations
+        if (inputs.size() != 1 || !Operation.hasKernel(functionName, vars.get(0), null)) {
+            for (int i = 0; i < vars.size(); i++) {
+                vars.set(i, toDense(vars.get(i), sequence));
+            }
+        }
         if (inputs.size() == 1)
-            info = functions.create(name.getFunction().getName(), inputs.get(0).getVariable());
+            info = functions.create(name.getFunction().getName(), vars.get(0));
         else {
-            List<Variable> vars = new ArrayList<>();
-            for (int i = 0; i < inputs.size(); i++) {
-                vars.add(inputs.get(i).getVariable());
-            }
             info = functions.create(name.getFunction().getName(), vars);
         }
 
-        sequence.addOperation(info.op);
+        sequence.addOperation(info.op, info.output, vars);
 
         // replace the symbols with the function's output
         TokenList.Token t = new TokenList.Token(info.output);
@@ -1365,17 +1515,38 @@ public class Equation {
         return macros.get(token);
     }
 
+    /**
+     * Returns the matrix with the specified name. If it's a sparse or fixed sized matrix then a dense copy is
+     * returned and changes to it will not modify the variable.
+     */
     public DMatrixRMaj lookupDDRM( String token ) {
-        return ((VariableMatrix)variables.get(token)).matrix;
+        Variable v = variables.get(token);
+        if (v instanceof VariableSparse)
+            return DConvertMatrixStruct.convert(((VariableSparse)v).matrix, (DMatrixRMaj)null);
+        if (v instanceof VariableFixed) {
+            DMatrixFixed fixed = ((VariableFixed)v).matrix;
+            DMatrixRMaj d = new DMatrixRMaj(fixed.getNumRows(), fixed.getNumCols());
+            DConvertMatrixStruct.convert(fixed, d);
+            return d;
+        }
+        return ((VariableMatrix)v).matrix;
     }
 
     public FMatrixRMaj lookupFDRM( String token ) {
-        DMatrixRMaj d = ((VariableMatrix)variables.get(token)).matrix;
+        DMatrixRMaj d = lookupDDRM(token);
         FMatrixRMaj f = new FMatrixRMaj(d.numRows, d.numCols);
         ConvertMatrixData.convert(d, f);
         return f;
     }
 
+    public DMatrixSparseCSC lookupDSCC( String token ) {
+        return ((VariableSparse)variables.get(token)).matrix;
+    }
+
+    public <T extends DMatrixFixed> T lookupFixed( String token ) {
+        return (T)((VariableFixed)variables.get(token)).matrix;
+    }
+
     public int lookupInteger( String token ) {
         return ((VariableInteger)variables.get(token)).value;
     }
@@ -1688,6 +1859,10 @@ public class Equation {
 
         if (v instanceof VariableMatrix) {
             ((VariableMatrix)v).matrix.print();
+        } else if (v instanceof VariableSparse) {
+            ((VariableSparse)v).matrix.print();
+        } else if (v instanceof VariableFixed) {
+            ((VariableFixed)v).matrix.print();
         } else if (v instanceof VariableScalar) {
             System.out.println("Scalar = " + ((VariableScalar)v).getDouble());
         } else {
@@ -1695,6 +1870,17 @@ public class Equation {
         }
     }
 
+    /**
+     * If true then compiled sequences are optimized. True by default.
+     */
+    public void setOptimize( boolean optimize ) {
+        this.optimize = optimize;
+    }
+
+    public boolean isOptimize() {
+        return optimize;
+    }
+
     /**
      * Returns the functions manager
      */
@@ -18,6 +18,8 @@
 
 package org.ejml.equation;
 
+import org.ejml.data.DMatrixFixed;
+
 import java.util.Random;
 
 /**
@@ -42,6 +44,14 @@ public class ManagerTempVariables {
         return VariableMatrix.createTemp();
     }
 
+    public VariableSparse createSparse() {
+        return VariableSparse.createTemp();
+    }
+
+    public VariableFixed createFixed( DMatrixFixed like ) {
+        return VariableFixed.createTemp(like);
+    }
+
     public VariableDouble createDouble() {
         return new VariableDouble(0);
     }
@@ -110,6 +110,19 @@ public class MatrixConstructor {
         return output;
     }
 
+    /**
+     * Returns a list of all the variables which are read when constructing the matrix
+     */
+    public List<Variable> getInputs() {
+        List<Variable> inputs = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            if (!item.endRow)
+                inputs.add(item.variable);
+        }
+        return inputs;
+    }
+
     protected void setToRequiredSize( DMatrixRMaj matrix ) {
 
 
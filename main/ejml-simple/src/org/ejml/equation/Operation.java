@@ -19,9 +19,11 @@
 package org.ejml.equation;
 
 import org.ejml.MatrixDimensionException;
+import org.ejml.concurrency.EjmlConcurrency;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.Matrix;
 import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.CommonOps_MT_DDRM;
 import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.NormOps_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
@@ -42,8 +44,25 @@ public abstract class Operation {
 
     String name;
 
+    // What the optimizers can assume about this operation
+    final Kind kind;
+
+    // Variables which are read and written by this operation. Filled in when the operation is added to a
+    // Sequence and used by SequenceOptimizer. If null then nothing is known and the sequence isn't optimized.
+    @Nullable List<Variable> inputVariables;
+    @Nullable Variable outputVariable;
+
+    // If true then large matrices are processed using concurrent implementations. Set by ParallelSequence for
+    // operations which it owns
+    boolean concurrent;
+
     protected Operation( String name ) {
+        this(name, Kind.UNKNOWN);
+    }
+
+    Operation( String name, Kind kind ) {
         this.name = name;
+        this.kind = kind;
     }
 
     public abstract void process();
@@ -66,14 +85,57 @@ public abstract class Operation {
         }
     }
 
+    /**
+     * Returns true if it's a built in operation which only accesses a variable's matrix while being processed.
+     * Unknown operations, e.g. user defined functions, might hold onto the matrix.
+     */
+    boolean isBuiltIn() {
+        return kind != Kind.UNKNOWN;
+    }
+
+    /**
+     * Returns true if it writes its entire output matrix and has no side effects. Computing it a second time with
+     * the same inputs will produce the same output.
+     */
+    boolean isPure() {
+        return kind == Kind.PURE;
+    }
+
+    /**
+     * Returns true if the operation is allowed to be concurrent and the matrix is large enough for it to be
+     * worth it.
+     */
+    protected boolean useConcurrent( Matrix mat ) {
+        return concurrent && EjmlConcurrency.useConcurrent(mat);
+    }
+
+    /**
+     * Returns false if a sparse or fixed sized matrix is an input and there's no kernel for it. The inputs
+     * must then be converted into dense matrices before the operation is created.
+     *
+     * @param operation Name of the operation, e.g. "multiply"
+     * @param B Second input. null if the operation has a single input.
+     */
+    static boolean hasKernel( String operation, Variable A, @Nullable Variable B ) {
+        if (OperationSparse.involves(A, B))
+            return OperationSparse.hasKernel(operation, A, B);
+        if (OperationFixed.involves(A, B))
+            return OperationFixed.hasKernel(operation, A, B);
+        return true;
+    }
+
     public static Info multiply( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        if (OperationSparse.involves(A, B))
+            return OperationSparse.multiply(A, B, manager);
+        if (OperationFixed.involves(A, B))
+            return OperationFixed.multiply(A, B, manager);
 
         Info ret = new Info();
 
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("multiply-mm") {
+            ret.op = new Mult("multiply-mm", false, false) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -81,7 +143,10 @@ public abstract class Operation {
 
                     resize(output, mA.matrix.numRows, mB.matrix.numCols);
                     try {
-                        CommonOps_DDRM.mult(mA.matrix, mB.matrix, output.matrix);
+                        if (useConcurrent(output.matrix))
+                            CommonOps_MT_DDRM.mult(mA.matrix, mB.matrix, output.matrix);
+                        else
+                            CommonOps_DDRM.mult(mA.matrix, mB.matrix, output.matrix);
                     } catch (MatrixDimensionException e) {
                         // provide a more informative message if special case
                         checkThrow1x1AgainstNxM(mA.matrix, mB.matrix, "multiply");
@@ -92,7 +157,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger && B instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger();
             ret.output = output;
-            ret.op = new Operation("multiply-ii") {
+            ret.op = new Operation("multiply-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableInteger mA = (VariableInteger)A;
@@ -104,7 +169,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar && B instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("multiply-ss") {
+            ret.op = new Operation("multiply-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -127,7 +192,7 @@ public abstract class Operation {
                 s = (VariableScalar)A;
             }
 
-            ret.op = new Operation("multiply-ms") {
+            ret.op = new Operation("multiply-ms", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(m.matrix.numRows, m.matrix.numCols);
@@ -141,6 +206,10 @@ public abstract class Operation {
 
     @SuppressWarnings("ArgumentSelectionDefectChecker")
     public static Info divide( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        if (OperationSparse.involves(A, B))
+            return OperationSparse.divide(A, B, manager);
+        if (OperationFixed.involves(A, B))
+            return OperationFixed.divide(A, B, manager);
 
         Info ret = new Info();
 
@@ -151,7 +220,7 @@ public abstract class Operation {
             final VariableMatrix m = (VariableMatrix)A;
             final VariableScalar s = (VariableScalar)B;
             ret.output = output;
-            ret.op = new Operation("divide-ma") {
+            ret.op = new Operation("divide-ma", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(m.matrix.numRows, m.matrix.numCols);
@@ -163,7 +232,7 @@ public abstract class Operation {
             final VariableMatrix m = (VariableMatrix)B;
             final VariableScalar s = (VariableScalar)A;
             ret.output = output;
-            ret.op = new Operation("divide-ma") {
+            ret.op = new Operation("divide-ma", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(m.matrix.numRows, m.matrix.numCols);
@@ -173,7 +242,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger && B instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger();
             ret.output = output;
-            ret.op = new Operation("divide-ii") {
+            ret.op = new Operation("divide-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableInteger mA = (VariableInteger)A;
@@ -185,7 +254,7 @@ public abstract class Operation {
         } else {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("divide-ss") {
+            ret.op = new Operation("divide-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -203,12 +272,16 @@ public abstract class Operation {
      * Returns the negative of the input variable
      */
     public static Info neg( final Variable A, ManagerTempVariables manager ) {
+        if (A instanceof VariableSparse)
+            return OperationSparse.neg((VariableSparse)A, manager);
+        if (A instanceof VariableFixed)
+            return OperationFixed.neg((VariableFixed)A, manager);
         Info ret = new Info();
 
         if (A instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger();
             ret.output = output;
-            ret.op = new Operation("neg-i") {
+            ret.op = new Operation("neg-i", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = -((VariableInteger)A).value;
@@ -217,7 +290,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("neg-s") {
+            ret.op = new Operation("neg-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = -((VariableScalar)A).getDouble();
@@ -226,7 +299,7 @@ public abstract class Operation {
         } else if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("neg-m") {
+            ret.op = new Operation("neg-m", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -248,7 +321,7 @@ public abstract class Operation {
 
         if (A instanceof VariableScalar && B instanceof VariableScalar) {
 
-            ret.op = new Operation("pow-ss") {
+            ret.op = new Operation("pow-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     double a = ((VariableScalar)A).getDouble();
@@ -271,7 +344,7 @@ public abstract class Operation {
 
         if (A instanceof VariableScalar && B instanceof VariableScalar) {
 
-            ret.op = new Operation("atan2-ss") {
+            ret.op = new Operation("atan2-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     double a = ((VariableScalar)A).getDouble();
@@ -294,7 +367,7 @@ public abstract class Operation {
 
         if (A instanceof VariableScalar) {
 
-            ret.op = new Operation("sqrt-s") {
+            ret.op = new Operation("sqrt-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     double a = ((VariableScalar)A).getDouble();
@@ -316,7 +389,7 @@ public abstract class Operation {
 
         if (A instanceof VariableScalar) {
 
-            ret.op = new Operation("sin-s") {
+            ret.op = new Operation("sin-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.sin(((VariableScalar)A).getDouble());
@@ -336,7 +409,7 @@ public abstract class Operation {
 
         if (A instanceof VariableScalar) {
 
-            ret.op = new Operation("cos-s") {
+            ret.op = new Operation("cos-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.cos(((VariableScalar)A).getDouble());
@@ -356,7 +429,7 @@ public abstract class Operation {
 
         if (A instanceof VariableScalar) {
 
-            ret.op = new Operation("atan-s") {
+            ret.op = new Operation("atan-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.atan(((VariableScalar)A).getDouble());
@@ -376,7 +449,7 @@ public abstract class Operation {
         if (A instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("exp-s") {
+            ret.op = new Operation("exp-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.exp(((VariableScalar)A).getDouble());
@@ -385,7 +458,7 @@ public abstract class Operation {
         } else if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("exp-m") {
+            ret.op = new Operation("exp-m", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -407,7 +480,7 @@ public abstract class Operation {
         if (A instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("log-s") {
+            ret.op = new Operation("log-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.log(((VariableScalar)A).getDouble());
@@ -416,7 +489,7 @@ public abstract class Operation {
         } else if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("log-m") {
+            ret.op = new Operation("log-m", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -432,13 +505,143 @@ public abstract class Operation {
         return ret;
     }
 
+    /**
+     * Matrix multiplication where either input can be transposed. Created by {@link SequenceOptimizer} when
+     * an explicit transpose can be folded into the multiplication.
+     *
+     * @param A Left matrix
+     * @param transA If true then A is transposed
+     * @param B Right matrix
+     * @param transB If true then B is transposed
+     * @param output Where the results are written to
+     */
+    public static Operation multTrans( final VariableMatrix A, final boolean transA,
+                                       final VariableMatrix B, final boolean transB,
+                                       final VariableMatrix output ) {
+        return new Mult(multName("mult", transA, transB), transA, transB) {
+            @Override
+            public void process() {
+                DMatrixRMaj a = A.matrix;
+                DMatrixRMaj b = B.matrix;
+
+                resize(output, transA ? a.numCols : a.numRows, transB ? b.numRows : b.numCols);
+                invokeMult(useConcurrent(output.matrix), a, transA, b, transB, output.matrix);
+            }
+        };
+    }
+
+    /**
+     * Computes output = (+/-)C + alpha*op(A)*op(B) without declaring a temporary matrix for the multiplication.
+     * Created by {@link SequenceOptimizer} when a multiplication is only consumed by an addition or subtraction.
+     *
+     * @param alpha Scale factor applied to the multiplication
+     * @param A Left matrix
+     * @param transA If true then A is transposed
+     * @param B Right matrix
+     * @param transB If true then B is transposed
+     * @param negateC If true then C is subtracted instead of added
+     * @param C Matrix which is added to the multiplication
+     * @param output Where the results are written to
+     */
+    public static Operation multAdd( final double alpha,
+                                     final VariableMatrix A, final boolean transA,
+                                     final VariableMatrix B, final boolean transB,
+                                     final boolean negateC, final VariableMatrix C,
+                                     final VariableMatrix output ) {
+        return new Operation(multName("multAdd", transA, transB), Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                DMatrixRMaj a = A.matrix;
+                DMatrixRMaj b = B.matrix;
+                DMatrixRMaj c = C.matrix;
+
+                int numRows = transA ? a.numCols : a.numRows;
+                int numCols = transB ? b.numRows : b.numCols;
+                if (c.numRows != numRows || c.numCols != numCols) {
+                    checkThrow1x1AgainstNxM(c, new DMatrixRMaj(numRows, numCols), "add");
+                    throw new MatrixDimensionException("Can't add a " + c.numRows + "x" + c.numCols +
+                            " matrix to a " + numRows + "x" + numCols + " matrix");
+                }
+
+                resize(output, numRows, numCols);
+                if (negateC)
+                    CommonOps_DDRM.scale(-1.0, c, output.matrix);
+                else
+                    output.matrix.setTo(c);
+
+                invokeMultAdd(useConcurrent(output.matrix), alpha, a, transA, b, transB, output.matrix);
+            }
+        };
+    }
+
+    private static void invokeMult( boolean concurrent, DMatrixRMaj a, boolean transA,
+                                    DMatrixRMaj b, boolean transB, DMatrixRMaj c ) {
+        if (concurrent) {
+            if (transA && transB)
+                CommonOps_MT_DDRM.multTransAB(a, b, c);
+            else if (transA)
+                CommonOps_MT_DDRM.multTransA(a, b, c);
+            else if (transB)
+                CommonOps_MT_DDRM.multTransB(a, b, c);
+            else
+                CommonOps_MT_DDRM.mult(a, b, c);
+        } else {
+            if (transA && transB)
+                CommonOps_DDRM.multTransAB(a, b, c);
+            else if (transA)
+                CommonOps_DDRM.multTransA(a, b, c);
+            else if (transB)
+                CommonOps_DDRM.multTransB(a, b, c);
+            else
+                CommonOps_DDRM.mult(a, b, c);
+        }
+    }
+
+    private static void invokeMultAdd( boolean concurrent, double alpha, DMatrixRMaj a, boolean transA,
+                                       DMatrixRMaj b, boolean transB, DMatrixRMaj c ) {
+        if (concurrent) {
+            if (transA && transB)
+                CommonOps_MT_DDRM.multAddTransAB(alpha, a, b, c);
+            else if (transA)
+                CommonOps_MT_DDRM.multAddTransA(alpha, a, b, c);
+            else if (transB)
+                CommonOps_MT_DDRM.multAddTransB(alpha, a, b, c);
+            else
+                CommonOps_MT_DDRM.multAdd(alpha, a, b, c);
+        } else {
+            if (transA && transB)
+                CommonOps_DDRM.multAddTransAB(alpha, a, b, c);
+            else if (transA)
+                CommonOps_DDRM.multAddTransA(alpha, a, b, c);
+            else if (transB)
+                CommonOps_DDRM.multAddTransB(alpha, a, b, c);
+            else
+                CommonOps_DDRM.multAdd(alpha, a, b, c);
+        }
+    }
+
+    private static String multName( String prefix, boolean transA, boolean transB ) {
+        if (transA && transB)
+            return prefix + "TransAB-mm";
+        else if (transA)
+            return prefix + "TransA-mm";
+        else if (transB)
+            return prefix + "TransB-mm";
+        else
+            return prefix.equals("mult") ? "multiply-mm" : prefix + "-mm";
+    }
+
     public static Info add( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        if (OperationSparse.involves(A, B))
+            return OperationSparse.add(A, B, 1.0, manager);
+        if (OperationFixed.involves(A, B))
+            return OperationFixed.add(A, B, true, manager);
         Info ret = new Info();
 
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("add-mm") {
+            ret.op = new Operation("add-mm", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -455,7 +658,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger && B instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger(0);
             ret.output = output;
-            ret.op = new Operation("add-ii") {
+            ret.op = new Operation("add-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableInteger mA = (VariableInteger)A;
@@ -467,7 +670,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar && B instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("add-ss") {
+            ret.op = new Operation("add-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -490,7 +693,7 @@ public abstract class Operation {
                 s = (VariableScalar)A;
             }
 
-            ret.op = new Operation("add-ms") {
+            ret.op = new Operation("add-ms", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(m.matrix.numRows, m.matrix.numCols);
@@ -511,12 +714,16 @@ public abstract class Operation {
     }
 
     public static Info subtract( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        if (OperationSparse.involves(A, B))
+            return OperationSparse.add(A, B, -1.0, manager);
+        if (OperationFixed.involves(A, B))
+            return OperationFixed.add(A, B, false, manager);
         Info ret = new Info();
 
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("subtract-mm") {
+            ret.op = new Operation("subtract-mm", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -533,7 +740,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger && B instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger(0);
             ret.output = output;
-            ret.op = new Operation("subtract-ii") {
+            ret.op = new Operation("subtract-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableInteger mA = (VariableInteger)A;
@@ -545,7 +752,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar && B instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("subtract-ss") {
+            ret.op = new Operation("subtract-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -559,7 +766,7 @@ public abstract class Operation {
             ret.output = output;
 
             if (A instanceof VariableMatrix) {
-                ret.op = new Operation("subtract-ms") {
+                ret.op = new Operation("subtract-ms", Kind.PURE) {
                     @Override
                     public void process() {
                         DMatrixRMaj m = ((VariableMatrix)A).matrix;
@@ -569,7 +776,7 @@ public abstract class Operation {
                     }
                 };
             } else {
-                ret.op = new Operation("subtract-sm") {
+                ret.op = new Operation("subtract-sm", Kind.PURE) {
                     @Override
                     public void process() {
                         DMatrixRMaj m = ((VariableMatrix)B).matrix;
@@ -590,7 +797,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("elementMult-mm") {
+            ret.op = new Operation("elementMult-mm", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -613,7 +820,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("elementDivision-mm") {
+            ret.op = new Operation("elementDivision-mm", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -639,7 +846,7 @@ public abstract class Operation {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
 
-            ret.op = new Operation("elementPow-ss") {
+            ret.op = new Operation("elementPow-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     double a = ((VariableScalar)A).getDouble();
@@ -653,7 +860,7 @@ public abstract class Operation {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
 
-            ret.op = new Operation("elementPow-mm") {
+            ret.op = new Operation("elementPow-mm", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -668,7 +875,7 @@ public abstract class Operation {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
 
-            ret.op = new Operation("elementPow-ms") {
+            ret.op = new Operation("elementPow-ms", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -683,7 +890,7 @@ public abstract class Operation {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
 
-            ret.op = new Operation("elementPow-sm") {
+            ret.op = new Operation("elementPow-sm", Kind.PURE) {
                 @Override
                 public void process() {
                     double a = ((VariableScalar)A).getDouble();
@@ -701,10 +908,14 @@ public abstract class Operation {
     }
 
     public static Operation copy( final Variable src, final Variable dst ) {
+        if (OperationSparse.involves(src, dst))
+            return OperationSparse.copy(src, dst);
+        if (OperationFixed.involves(src, dst))
+            return OperationFixed.copy(src, dst);
 
         if (src instanceof VariableMatrix) {
             if (dst instanceof VariableMatrix) {
-                return new Operation("copy-mm") {
+                return new Operation("copy-mm", Kind.BUILT_IN) {
                     @Override
                     public void process() {
                         DMatrixRMaj d = ((VariableMatrix)dst).matrix;
@@ -714,7 +925,7 @@ public abstract class Operation {
                     }
                 };
             } else if (dst instanceof VariableDouble) {
-                return new Operation("copy-sm1") {
+                return new Operation("copy-sm1", Kind.BUILT_IN) {
                     @Override
                     public void process() {
                         DMatrixRMaj s = ((VariableMatrix)src).matrix;
@@ -727,7 +938,7 @@ public abstract class Operation {
             }
         }
         if (src instanceof VariableInteger && dst instanceof VariableInteger) {
-            return new Operation("copy-ii") {
+            return new Operation("copy-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     ((VariableInteger)dst).value = ((VariableInteger)src).value;
@@ -735,7 +946,7 @@ public abstract class Operation {
             };
         }
         if (src instanceof VariableScalar && dst instanceof VariableDouble) {
-            return new Operation("copy-ss") {
+            return new Operation("copy-ss", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     ((VariableDouble)dst).value = ((VariableScalar)src).getDouble();
@@ -745,7 +956,7 @@ public abstract class Operation {
 
         if (src instanceof VariableIntegerSequence) {
             if (dst instanceof VariableIntegerSequence) {
-                return new Operation("copy-is-is") {
+                return new Operation("copy-is-is", Kind.BUILT_IN) {
                     @Override
                     public void process() {
                         ((VariableIntegerSequence)dst).sequence = ((VariableIntegerSequence)src).sequence;
@@ -759,7 +970,7 @@ public abstract class Operation {
 
     public static Operation copy( final Variable src, final Variable dst, final List<Variable> range ) {
         if (src instanceof VariableMatrix && dst instanceof VariableMatrix) {
-            return new Operation("copyR-mm") {
+            return new Operation("copyR-mm", Kind.BUILT_IN) {
                 final Extents extents = new Extents();
                 final ArrayExtent rowExtent = new ArrayExtent();
                 final ArrayExtent colExtent = new ArrayExtent();
@@ -810,7 +1021,7 @@ public abstract class Operation {
                 }
             };
         } else if (src instanceof VariableScalar && dst instanceof VariableMatrix) {
-            return new Operation("copyR-sm") {
+            return new Operation("copyR-sm", Kind.BUILT_IN) {
                 final Extents extents = new Extents();
                 final ArrayExtent rowExtent = new ArrayExtent();
                 final ArrayExtent colExtent = new ArrayExtent();
@@ -864,17 +1075,24 @@ public abstract class Operation {
     }
 
     public static Info transpose( final Variable A, ManagerTempVariables manager ) {
+        if (A instanceof VariableSparse)
+            return OperationSparse.transpose((VariableSparse)A, manager);
+        if (A instanceof VariableFixed)
+            return OperationFixed.transpose((VariableFixed)A, manager);
         Info ret = new Info();
 
         if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("transpose-m") {
+            ret.op = new Operation("transpose-m", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
                     output.matrix.reshape(mA.matrix.numCols, mA.matrix.numRows);
-                    CommonOps_DDRM.transpose(mA.matrix, output.matrix);
+                    if (useConcurrent(output.matrix))
+                        CommonOps_MT_DDRM.transpose(mA.matrix, output.matrix);
+                    else
+                        CommonOps_DDRM.transpose(mA.matrix, output.matrix);
                 }
             };
         } else {
@@ -887,12 +1105,14 @@ public abstract class Operation {
      * Matrix inverse
      */
     public static Info inv( final Variable A, ManagerTempVariables manager ) {
+        if (A instanceof VariableFixed)
+            return OperationFixed.inv((VariableFixed)A, manager);
         Info ret = new Info();
 
         if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("inv-m") {
+            ret.op = new Operation("inv-m", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -904,7 +1124,7 @@ public abstract class Operation {
         } else {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("inv-s") {
+            ret.op = new Operation("inv-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -925,7 +1145,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("pinv-m") {
+            ret.op = new Operation("pinv-m", Kind.PURE) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -936,7 +1156,7 @@ public abstract class Operation {
         } else {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("pinv-s") {
+            ret.op = new Operation("pinv-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -954,7 +1174,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("rref-m") {
+            ret.op = new Operation("rref-m", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -965,7 +1185,7 @@ public abstract class Operation {
         } else {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("rref-s") {
+            ret.op = new Operation("rref-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     double a = ((VariableScalar)A).getDouble();
@@ -981,13 +1201,15 @@ public abstract class Operation {
      * Matrix determinant
      */
     public static Info det( final Variable A, ManagerTempVariables manager ) {
+        if (A instanceof VariableFixed)
+            return OperationFixed.det((VariableFixed)A, manager);
         Info ret = new Info();
 
         final VariableDouble output = manager.createDouble();
         ret.output = output;
 
         if (A instanceof VariableMatrix) {
-            ret.op = new Operation("det-m") {
+            ret.op = new Operation("det-m", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -995,7 +1217,7 @@ public abstract class Operation {
                 }
             };
         } else {
-            ret.op = new Operation("det-s") {
+            ret.op = new Operation("det-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -1008,12 +1230,14 @@ public abstract class Operation {
     }
 
     public static Info trace( final Variable A, ManagerTempVariables manager ) {
+        if (A instanceof VariableFixed)
+            return OperationFixed.trace((VariableFixed)A, manager);
         Info ret = new Info();
         final VariableDouble output = manager.createDouble();
         ret.output = output;
 
         if (A instanceof VariableMatrix) {
-            ret.op = new Operation("trace-m") {
+            ret.op = new Operation("trace-m", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableMatrix mA = (VariableMatrix)A;
@@ -1021,7 +1245,7 @@ public abstract class Operation {
                 }
             };
         } else {
-            ret.op = new Operation("trace-s") {
+            ret.op = new Operation("trace-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     VariableScalar mA = (VariableScalar)A;
@@ -1039,14 +1263,14 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableMatrix) {
-            ret.op = new Operation("normF-m") {
+            ret.op = new Operation("normF-m", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = NormOps_DDRM.normF(((VariableMatrix)A).matrix);
                 }
             };
         } else {
-            ret.op = new Operation("normF-s") {
+            ret.op = new Operation("normF-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.abs(((VariableScalar)A).getDouble());
@@ -1068,7 +1292,7 @@ public abstract class Operation {
         final double valueP = ((VariableScalar)P).getDouble();
         final VariableMatrix varA = (VariableMatrix)A;
 
-        ret.op = new Operation("normP") {
+        ret.op = new Operation("normP", Kind.BUILT_IN) {
             @Override
             public void process() {
                 output.value = NormOps_DDRM.normP(varA.matrix, valueP);
@@ -1084,7 +1308,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("max-m") {
+            ret.op = new Operation("max-m", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = CommonOps_DDRM.elementMax(((VariableMatrix)A).matrix);
@@ -1093,7 +1317,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger();
             ret.output = output;
-            ret.op = new Operation("max-i") {
+            ret.op = new Operation("max-i", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = ((VariableInteger)A).value;
@@ -1102,7 +1326,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("max-s") {
+            ret.op = new Operation("max-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = ((VariableDouble)A).getDouble();
@@ -1125,7 +1349,7 @@ public abstract class Operation {
         final VariableMatrix varA = (VariableMatrix)A;
 
         if (valueP == 0) {
-            ret.op = new Operation("max_rows") {
+            ret.op = new Operation("max_rows", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(varA.matrix.numRows, 1);
@@ -1133,7 +1357,7 @@ public abstract class Operation {
                 }
             };
         } else if (valueP == 1) {
-            ret.op = new Operation("max_cols") {
+            ret.op = new Operation("max_cols", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(1, varA.matrix.numCols);
@@ -1153,7 +1377,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("min-m") {
+            ret.op = new Operation("min-m", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = CommonOps_DDRM.elementMin(((VariableMatrix)A).matrix);
@@ -1162,7 +1386,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger();
             ret.output = output;
-            ret.op = new Operation("min-i") {
+            ret.op = new Operation("min-i", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = ((VariableInteger)A).value;
@@ -1171,7 +1395,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("min-s") {
+            ret.op = new Operation("min-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = ((VariableDouble)A).getDouble();
@@ -1194,7 +1418,7 @@ public abstract class Operation {
         final VariableMatrix varA = (VariableMatrix)A;
 
         if (valueP == 0) {
-            ret.op = new Operation("min_rows") {
+            ret.op = new Operation("min_rows", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(varA.matrix.numRows, 1);
@@ -1202,7 +1426,7 @@ public abstract class Operation {
                 }
             };
         } else if (valueP == 1) {
-            ret.op = new Operation("min_cols") {
+            ret.op = new Operation("min_cols", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(1, varA.matrix.numCols);
@@ -1222,7 +1446,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("abs-m") {
+            ret.op = new Operation("abs-m", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -1236,7 +1460,7 @@ public abstract class Operation {
         } else if (A instanceof VariableInteger) {
             final VariableInteger output = manager.createInteger();
             ret.output = output;
-            ret.op = new Operation("abs-i") {
+            ret.op = new Operation("abs-i", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.abs(((VariableInteger)A).value);
@@ -1245,7 +1469,7 @@ public abstract class Operation {
         } else if (A instanceof VariableScalar) {
             final VariableDouble output = manager.createDouble();
             ret.output = output;
-            ret.op = new Operation("abs-s") {
+            ret.op = new Operation("abs-s", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     output.value = Math.abs(((VariableDouble)A).getDouble());
@@ -1265,7 +1489,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableMatrix) {
-            ret.op = new Operation("eye-m") {
+            ret.op = new Operation("eye-m", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     DMatrixRMaj mA = ((VariableMatrix)A).matrix;
@@ -1274,7 +1498,7 @@ public abstract class Operation {
                 }
             };
         } else if (A instanceof VariableInteger) {
-            ret.op = new Operation("eye-i") {
+            ret.op = new Operation("eye-i", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     int N = ((VariableInteger)A).value;
@@ -1295,7 +1519,7 @@ public abstract class Operation {
         if (A instanceof VariableMatrix) {
             final VariableMatrix output = manager.createMatrix();
             ret.output = output;
-            ret.op = new Operation("diag-m") {
+            ret.op = new Operation("diag-m", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj mA = ((VariableMatrix)A).matrix;
@@ -1328,7 +1552,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableInteger && B instanceof VariableInteger) {
-            ret.op = new Operation("zeros-ii") {
+            ret.op = new Operation("zeros-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     int numRows = ((VariableInteger)A).value;
@@ -1354,7 +1578,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableInteger && B instanceof VariableInteger) {
-            ret.op = new Operation("ones-ii") {
+            ret.op = new Operation("ones-ii", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     int numRows = ((VariableInteger)A).value;
@@ -1378,7 +1602,7 @@ public abstract class Operation {
         Info ret = new Info();
 
         if (A instanceof VariableInteger) {
-            ret.op = new Operation("rng") {
+            ret.op = new Operation("rng", Kind.RANDOM) {
                 @Override
                 public void process() {
                     int seed = ((VariableInteger)A).value;
@@ -1401,7 +1625,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableInteger && B instanceof VariableInteger) {
-            ret.op = new Operation("rand-ii") {
+            ret.op = new Operation("rand-ii", Kind.RANDOM) {
                 @Override
                 public void process() {
                     int numRows = ((VariableInteger)A).value;
@@ -1426,7 +1650,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableInteger && B instanceof VariableInteger) {
-            ret.op = new Operation("randn-ii") {
+            ret.op = new Operation("randn-ii", Kind.RANDOM) {
                 @Override
                 public void process() {
                     int numRows = ((VariableInteger)A).value;
@@ -1451,7 +1675,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
-            ret.op = new Operation("kron-mm") {
+            ret.op = new Operation("kron-mm", Kind.PURE) {
                 @Override
                 public void process() {
                     DMatrixRMaj mA = ((VariableMatrix)A).matrix;
@@ -1476,7 +1700,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
-            ret.op = new Operation("dot-mm") {
+            ret.op = new Operation("dot-mm", Kind.BUILT_IN) {
                 @Override
                 public void process() {
                     DMatrixRMaj a = ((VariableMatrix)A).matrix;
@@ -1504,7 +1728,7 @@ public abstract class Operation {
         ret.output = output;
 
         if (A instanceof VariableMatrix && B instanceof VariableMatrix) {
-            ret.op = new Operation("solve-mm") {
+            ret.op = new Operation("solve-mm", Kind.PURE) {
                 @Nullable LinearSolverDense<DMatrixRMaj> solver;
 
                 @Override
@@ -1546,7 +1770,7 @@ public abstract class Operation {
                 throw new RuntimeException("Parameters must be integers, integer list, or array range");
         }
 
-        ret.op = new Operation("extract") {
+        ret.op = new Operation("extract", Kind.PURE) {
 
             final Extents extents = new Extents();
 
@@ -1600,7 +1824,7 @@ public abstract class Operation {
 
         final VariableMatrix varA = (VariableMatrix)A;
 
-        ret.op = new Operation("sum_all") {
+        ret.op = new Operation("sum_all", Kind.BUILT_IN) {
             @Override
             public void process() {
                 output.value = CommonOps_DDRM.elementSum(varA.matrix);
@@ -1622,7 +1846,7 @@ public abstract class Operation {
         final VariableMatrix varA = (VariableMatrix)A;
 
         if (valueP == 0) {
-            ret.op = new Operation("sum_rows") {
+            ret.op = new Operation("sum_rows", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(varA.matrix.numRows, 1);
@@ -1630,7 +1854,7 @@ public abstract class Operation {
                 }
             };
         } else if (valueP == 1) {
-            ret.op = new Operation("sum_cols") {
+            ret.op = new Operation("sum_cols", Kind.PURE) {
                 @Override
                 public void process() {
                     output.matrix.reshape(1, varA.matrix.numCols);
@@ -1657,7 +1881,7 @@ public abstract class Operation {
                 throw new RuntimeException("Parameters must be integers for extract scalar");
         }
 
-        ret.op = new Operation("extractScalar") {
+        ret.op = new Operation("extractScalar", Kind.BUILT_IN) {
 
             @Override
             public void process() {
@@ -1739,7 +1963,7 @@ public abstract class Operation {
         Info ret = new Info();
         ret.output = m.getOutput();
 
-        ret.op = new Operation("matrixConstructor") {
+        ret.op = new Operation("matrixConstructor", Kind.BUILT_IN) {
 
             @Override
             public void process() {
@@ -1756,6 +1980,34 @@ public abstract class Operation {
     }
 
     @SuppressWarnings("NullAway.Init")
+    /**
+     * What the {@link SequenceOptimizer} and {@link ParallelSequence} are allowed to assume about an operation
+     */
+    enum Kind {
+        /** Nothing is known about it, e.g. a user defined function */
+        UNKNOWN,
+        /** Built in operation which only accesses a variable's matrix while being processed */
+        BUILT_IN,
+        /** Built in operation which also modifies the shared random number generator */
+        RANDOM,
+        /** Built in operation which writes its entire output matrix and has no side effects */
+        PURE
+    }
+
+    /**
+     * Dense matrix multiplication where either input can be transposed. It can be fused with an addition.
+     */
+    abstract static class Mult extends Operation {
+        final boolean transA;
+        final boolean transB;
+
+        Mult( String name, boolean transA, boolean transB ) {
+            super(name, Kind.PURE);
+            this.transA = transA;
+            this.transB = transB;
+        }
+    }
+
     public static class Info {
         public Operation op;
         public Variable output;
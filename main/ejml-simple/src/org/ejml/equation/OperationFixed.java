@@ -0,0 +1,554 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.*;
+import org.ejml.dense.fixed.*;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.ejml.equation.Operation.Info;
+
+/**
+ * Operations on {@link VariableFixed fixed sized} matrices and vectors. The shape of a fixed sized matrix
+ * is part of its type, so the kernel from CommonOps_DDF2 to CommonOps_DDF6, or {@link RectangularOps_DDF} for
+ * rectangular matrices, is selected when the equation is compiled and not each time it's processed. Operations
+ * which aren't listed in {@link #hasKernel} are applied to a dense copy by {@link Equation}.
+ *
+ * @author Peter Abeles
+ */
+class OperationFixed {
+    /** Kernels for each dimension. Index is the dimension */
+    private static final Kernels[] KERNELS = new Kernels[]{null, null,
+            kernels2(), kernels3(), kernels4(), kernels5(), kernels6()};
+
+    /** Kernels for rectangular matrices. Only element-wise operations, transpose, and matrix-vector multiply */
+    private static final Map<Class<?>, Kernels> RECTANGULAR = new HashMap<>();
+
+    /** Vectors of each dimension. Used to create the output of a matrix-vector multiply */
+    private static final DMatrixFixed[] VECTORS = new DMatrixFixed[]{null, null,
+            new DMatrix2(), new DMatrix3(), new DMatrix4(), new DMatrix5(), new DMatrix6()};
+
+    static {
+        rectangular2x3();
+        rectangular3x2();
+        rectangular3x4();
+        rectangular4x3();
+        rectangular2x6();
+        rectangular6x2();
+        rectangular3x6();
+        rectangular6x3();
+    }
+
+    /**
+     * Returns true if either of the variables is a fixed sized matrix
+     */
+    static boolean involves( Variable A, @Nullable Variable B ) {
+        return A instanceof VariableFixed || B instanceof VariableFixed;
+    }
+
+    /**
+     * Returns true if there are kernels for this type of fixed sized matrix. Square matrices and column
+     * vectors with a dimension from 2 to 6 are supported, as are the rectangular matrices in
+     * {@link RectangularOps_DDF}.
+     */
+    static boolean isSupported( DMatrixFixed matrix ) {
+        if (RECTANGULAR.containsKey(matrix.getClass()))
+            return true;
+        int N = matrix.getNumRows();
+        return N >= 2 && N <= 6 && (matrix.getNumCols() == N || matrix.getNumCols() == 1);
+    }
+
+    /**
+     * Returns true if there is a fixed sized kernel for the operation and its inputs
+     *
+     * @param operation Name of the operation, e.g. "multiply"
+     * @param B Second input. null if the operation has a single input.
+     */
+    static boolean hasKernel( String operation, Variable A, @Nullable Variable B ) {
+        if (!(A instanceof VariableFixed)) {
+            // the only operation with a fixed sized matrix on the right and something else on the left
+            return operation.equals("multiply") && A instanceof VariableScalar && B instanceof VariableFixed;
+        }
+        final VariableFixed fA = (VariableFixed)A;
+        final Kernels k = kernels(fA);
+        switch (operation) {
+            case "multiply":
+                if (B instanceof VariableScalar)
+                    return true;
+                if (!(B instanceof VariableFixed) || fA.isVector())
+                    return false;
+                VariableFixed fB = (VariableFixed)B;
+                if (fB.isVector())
+                    return k.multVector != null && fB.getDimension() == fA.matrix.getNumCols();
+                return k.mult != null && fA.matrix.getClass() == fB.matrix.getClass();
+            case "divide":
+                return B instanceof VariableScalar;
+            case "add":
+            case "subtract":
+                // different shapes are reported by add() since the dense operation doesn't catch all of them
+                return B instanceof VariableFixed;
+            case "neg":
+                return B == null;
+            case "transpose":
+                return B == null && !fA.isVector();
+            case "inv":
+                return B == null && !fA.isVector() && k.invert != null;
+            case "det":
+                return B == null && !fA.isVector() && k.det != null;
+            case "trace":
+                return B == null && !fA.isVector() && k.trace != null;
+            default:
+                return false;
+        }
+    }
+
+    private static Kernels kernels( VariableFixed A ) {
+        Kernels k = RECTANGULAR.get(A.matrix.getClass());
+        return k != null ? k : KERNELS[A.getDimension()];
+    }
+
+    static Info multiply( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        Info ret = new Info();
+
+        if (A instanceof VariableFixed && B instanceof VariableFixed) {
+            final VariableFixed fA = (VariableFixed)A;
+            final VariableFixed fB = (VariableFixed)B;
+            if (!hasKernel("multiply", fA, fB))
+                throw mismatch("multiply", fA, fB);
+            Kernels k = kernels(fA);
+            final Kernel3 kernel = fB.isVector() ? k.multVector : k.mult;
+            final VariableFixed output = manager.createFixed(
+                    fB.isVector() ? VECTORS[fA.matrix.getNumRows()] : fB.matrix);
+            ret.output = output;
+            ret.op = new Operation("multiply-FF", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    kernel.process(fA.matrix, fB.matrix, output.matrix);
+                }
+            };
+        } else if (A instanceof VariableFixed && B instanceof VariableScalar ||
+                A instanceof VariableScalar && B instanceof VariableFixed) {
+            final VariableFixed m = (VariableFixed)(A instanceof VariableFixed ? A : B);
+            final VariableScalar s = (VariableScalar)(A instanceof VariableFixed ? B : A);
+            ret.output = scale(m, s, false, ret, manager);
+        } else {
+            throw OperationSparse.unsupported("multiply", A, B);
+        }
+
+        return ret;
+    }
+
+    static Info divide( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        Info ret = new Info();
+        if (A instanceof VariableFixed && B instanceof VariableScalar) {
+            ret.output = scale((VariableFixed)A, (VariableScalar)B, true, ret, manager);
+        } else {
+            throw OperationSparse.unsupported("divide", A, B);
+        }
+        return ret;
+    }
+
+    private static VariableFixed scale( final VariableFixed A, final VariableScalar s, final boolean divide,
+                                        Info ret, ManagerTempVariables manager ) {
+        Kernels k = kernels(A);
+        final KernelScale kernel = A.isVector() ? k.scaleVector : k.scale;
+        final VariableFixed output = manager.createFixed(A.matrix);
+        ret.op = new Operation(divide ? "divide-Fs" : "multiply-Fs", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                double alpha = divide ? 1.0/s.getDouble() : s.getDouble();
+                kernel.process(alpha, A.matrix, output.matrix);
+            }
+        };
+        return output;
+    }
+
+    /**
+     * Computes A + B or A - B
+     */
+    static Info add( final Variable A, final Variable B, boolean plus, ManagerTempVariables manager ) {
+        Info ret = new Info();
+        String name = plus ? "add" : "subtract";
+
+        if (!(A instanceof VariableFixed && B instanceof VariableFixed))
+            throw OperationSparse.unsupported(name, A, B);
+
+        final VariableFixed fA = (VariableFixed)A;
+        final VariableFixed fB = (VariableFixed)B;
+        if (fA.matrix.getClass() != fB.matrix.getClass())
+            throw mismatch(name, fA, fB);
+
+        Kernels k = kernels(fA);
+        final Kernel3 kernel;
+        if (plus)
+            kernel = fA.isVector() ? k.addVector : k.add;
+        else
+            kernel = fA.isVector() ? k.subtractVector : k.subtract;
+
+        final VariableFixed output = manager.createFixed(fA.matrix);
+        ret.output = output;
+        ret.op = new Operation(name + "-FF", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                kernel.process(fA.matrix, fB.matrix, output.matrix);
+            }
+        };
+        return ret;
+    }
+
+    static Info neg( final VariableFixed A, ManagerTempVariables manager ) {
+        Info ret = new Info();
+        Kernels k = kernels(A);
+        final KernelScale kernel = A.isVector() ? k.scaleVector : k.scale;
+        final VariableFixed output = manager.createFixed(A.matrix);
+        ret.output = output;
+        ret.op = new Operation("neg-F", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                kernel.process(-1.0, A.matrix, output.matrix);
+            }
+        };
+        return ret;
+    }
+
+    static Info transpose( final VariableFixed A, ManagerTempVariables manager ) {
+        if (A.isVector())
+            throw new RuntimeException("Transpose of fixed sized vectors is not supported");
+        Info ret = new Info();
+        Kernels k = kernels(A);
+        final Kernel2 kernel = k.transpose;
+        // the transpose of a rectangular matrix is a different type
+        final VariableFixed output = manager.createFixed(k.transposeLike != null ? k.transposeLike : A.matrix);
+        ret.output = output;
+        ret.op = new Operation("transpose-F", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                kernel.process(A.matrix, output.matrix);
+            }
+        };
+        return ret;
+    }
+
+    static Info inv( final VariableFixed A, ManagerTempVariables manager ) {
+        if (!hasKernel("inv", A, null))
+            throw new RuntimeException("Inverse is only supported for square matrices");
+        Info ret = new Info();
+        final KernelInvert kernel = kernels(A).invert;
+        final VariableFixed output = manager.createFixed(A.matrix);
+        ret.output = output;
+        ret.op = new Operation("inv-F", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                if (!kernel.process(A.matrix, output.matrix))
+                    throw new RuntimeException("Inverse failed!");
+            }
+        };
+        return ret;
+    }
+
+    static Info det( final VariableFixed A, ManagerTempVariables manager ) {
+        return toScalar("det-F", kernels(A).det, A, manager);
+    }
+
+    static Info trace( final VariableFixed A, ManagerTempVariables manager ) {
+        return toScalar("trace-F", kernels(A).trace, A, manager);
+    }
+
+    private static Info toScalar( String name, final @Nullable KernelScalar kernel, final VariableFixed A,
+                                  ManagerTempVariables manager ) {
+        if (kernel == null || A.isVector())
+            throw new RuntimeException("Expected a square matrix for " + name);
+        Info ret = new Info();
+        final VariableDouble output = manager.createDouble();
+        ret.output = output;
+        ret.op = new Operation(name, Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                output.value = kernel.process(A.matrix);
+            }
+        };
+        return ret;
+    }
+
+    /**
+     * Copies into or out of a fixed sized matrix. The shape of the destination must match when it's fixed.
+     */
+    static Operation copy( final Variable src, final Variable dst ) {
+        if (dst instanceof VariableFixed) {
+            if (src instanceof VariableFixed) {
+                return new Operation("copy-FF", Operation.Kind.BUILT_IN) {
+                    @Override
+                    public void process() {
+                        ((VariableFixed)dst).matrix.setTo(((VariableFixed)src).matrix);
+                    }
+                };
+            } else if (src instanceof VariableMatrix) {
+                return new Operation("copy-DF", Operation.Kind.BUILT_IN) {
+                    @Override
+                    public void process() {
+                        ((VariableFixed)dst).matrix.setTo(((VariableMatrix)src).matrix);
+                    }
+                };
+            }
+        } else if (dst instanceof VariableMatrix) {
+            return new Operation("copy-FD", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    DConvertMatrixStruct.convert(((VariableFixed)src).matrix, ((VariableMatrix)dst).matrix);
+                }
+            };
+        }
+        throw new RuntimeException("Unsupported copy types; src = " + src.getClass().getSimpleName() +
+                " dst = " + dst.getClass().getSimpleName());
+    }
+
+    private static MatrixDimensionException mismatch( String operation, VariableFixed A, VariableFixed B ) {
+        return new MatrixDimensionException("Can't " + operation + " " +
+                A.matrix.getClass().getSimpleName() + " and " + B.matrix.getClass().getSimpleName());
+    }
+
+    private static boolean invertDense( DMatrixFixed a, DMatrixFixed inv ) {
+        DMatrixRMaj work = new DMatrixRMaj(1, 1);
+        DConvertMatrixStruct.convert(a, work);
+        if (!CommonOps_DDRM.invert(work))
+            return false;
+        inv.setTo(work);
+        return true;
+    }
+
+    private static double detDense( DMatrixFixed a ) {
+        DMatrixRMaj work = new DMatrixRMaj(1, 1);
+        DConvertMatrixStruct.convert(a, work);
+        return CommonOps_DDRM.det(work);
+    }
+
+    private static Kernels kernels2() {
+        Kernels k = new Kernels();
+        k.mult = ( a, b, c ) -> CommonOps_DDF2.mult((DMatrix2x2)a, (DMatrix2x2)b, (DMatrix2x2)c);
+        k.multVector = ( a, b, c ) -> CommonOps_DDF2.mult((DMatrix2x2)a, (DMatrix2)b, (DMatrix2)c);
+        k.add = ( a, b, c ) -> CommonOps_DDF2.add((DMatrix2x2)a, (DMatrix2x2)b, (DMatrix2x2)c);
+        k.addVector = ( a, b, c ) -> CommonOps_DDF2.add((DMatrix2)a, (DMatrix2)b, (DMatrix2)c);
+        k.subtract = ( a, b, c ) -> CommonOps_DDF2.subtract((DMatrix2x2)a, (DMatrix2x2)b, (DMatrix2x2)c);
+        k.subtractVector = ( a, b, c ) -> CommonOps_DDF2.subtract((DMatrix2)a, (DMatrix2)b, (DMatrix2)c);
+        k.scale = ( alpha, a, b ) -> CommonOps_DDF2.scale(alpha, (DMatrix2x2)a, (DMatrix2x2)b);
+        k.scaleVector = ( alpha, a, b ) -> CommonOps_DDF2.scale(alpha, (DMatrix2)a, (DMatrix2)b);
+        k.transpose = ( a, b ) -> CommonOps_DDF2.transpose((DMatrix2x2)a, (DMatrix2x2)b);
+        k.trace = ( a ) -> CommonOps_DDF2.trace((DMatrix2x2)a);
+        k.invert = ( a, b ) -> CommonOps_DDF2.invert((DMatrix2x2)a, (DMatrix2x2)b);
+        k.det = ( a ) -> CommonOps_DDF2.det((DMatrix2x2)a);
+        return k;
+    }
+
+    private static Kernels kernels3() {
+        Kernels k = new Kernels();
+        k.mult = ( a, b, c ) -> CommonOps_DDF3.mult((DMatrix3x3)a, (DMatrix3x3)b, (DMatrix3x3)c);
+        k.multVector = ( a, b, c ) -> CommonOps_DDF3.mult((DMatrix3x3)a, (DMatrix3)b, (DMatrix3)c);
+        k.add = ( a, b, c ) -> CommonOps_DDF3.add((DMatrix3x3)a, (DMatrix3x3)b, (DMatrix3x3)c);
+        k.addVector = ( a, b, c ) -> CommonOps_DDF3.add((DMatrix3)a, (DMatrix3)b, (DMatrix3)c);
+        k.subtract = ( a, b, c ) -> CommonOps_DDF3.subtract((DMatrix3x3)a, (DMatrix3x3)b, (DMatrix3x3)c);
+        k.subtractVector = ( a, b, c ) -> CommonOps_DDF3.subtract((DMatrix3)a, (DMatrix3)b, (DMatrix3)c);
+        k.scale = ( alpha, a, b ) -> CommonOps_DDF3.scale(alpha, (DMatrix3x3)a, (DMatrix3x3)b);
+        k.scaleVector = ( alpha, a, b ) -> CommonOps_DDF3.scale(alpha, (DMatrix3)a, (DMatrix3)b);
+        k.transpose = ( a, b ) -> CommonOps_DDF3.transpose((DMatrix3x3)a, (DMatrix3x3)b);
+        k.trace = ( a ) -> CommonOps_DDF3.trace((DMatrix3x3)a);
+        k.invert = ( a, b ) -> CommonOps_DDF3.invert((DMatrix3x3)a, (DMatrix3x3)b);
+        k.det = ( a ) -> CommonOps_DDF3.det((DMatrix3x3)a);
+        return k;
+    }
+
+    private static Kernels kernels4() {
+        Kernels k = new Kernels();
+        k.mult = ( a, b, c ) -> CommonOps_DDF4.mult((DMatrix4x4)a, (DMatrix4x4)b, (DMatrix4x4)c);
+        k.multVector = ( a, b, c ) -> CommonOps_DDF4.mult((DMatrix4x4)a, (DMatrix4)b, (DMatrix4)c);
+        k.add = ( a, b, c ) -> CommonOps_DDF4.add((DMatrix4x4)a, (DMatrix4x4)b, (DMatrix4x4)c);
+        k.addVector = ( a, b, c ) -> CommonOps_DDF4.add((DMatrix4)a, (DMatrix4)b, (DMatrix4)c);
+        k.subtract = ( a, b, c ) -> CommonOps_DDF4.subtract((DMatrix4x4)a, (DMatrix4x4)b, (DMatrix4x4)c);
+        k.subtractVector = ( a, b, c ) -> CommonOps_DDF4.subtract((DMatrix4)a, (DMatrix4)b, (DMatrix4)c);
+        k.scale = ( alpha, a, b ) -> CommonOps_DDF4.scale(alpha, (DMatrix4x4)a, (DMatrix4x4)b);
+        k.scaleVector = ( alpha, a, b ) -> CommonOps_DDF4.scale(alpha, (DMatrix4)a, (DMatrix4)b);
+        k.transpose = ( a, b ) -> CommonOps_DDF4.transpose((DMatrix4x4)a, (DMatrix4x4)b);
+        k.trace = ( a ) -> CommonOps_DDF4.trace((DMatrix4x4)a);
+        k.invert = ( a, b ) -> CommonOps_DDF4.invert((DMatrix4x4)a, (DMatrix4x4)b);
+        k.det = ( a ) -> CommonOps_DDF4.det((DMatrix4x4)a);
+        return k;
+    }
+
+    private static Kernels kernels5() {
+        Kernels k = new Kernels();
+        k.mult = ( a, b, c ) -> CommonOps_DDF5.mult((DMatrix5x5)a, (DMatrix5x5)b, (DMatrix5x5)c);
+        k.multVector = ( a, b, c ) -> CommonOps_DDF5.mult((DMatrix5x5)a, (DMatrix5)b, (DMatrix5)c);
+        k.add = ( a, b, c ) -> CommonOps_DDF5.add((DMatrix5x5)a, (DMatrix5x5)b, (DMatrix5x5)c);
+        k.addVector = ( a, b, c ) -> CommonOps_DDF5.add((DMatrix5)a, (DMatrix5)b, (DMatrix5)c);
+        k.subtract = ( a, b, c ) -> CommonOps_DDF5.subtract((DMatrix5x5)a, (DMatrix5x5)b, (DMatrix5x5)c);
+        k.subtractVector = ( a, b, c ) -> CommonOps_DDF5.subtract((DMatrix5)a, (DMatrix5)b, (DMatrix5)c);
+        k.scale = ( alpha, a, b ) -> CommonOps_DDF5.scale(alpha, (DMatrix5x5)a, (DMatrix5x5)b);
+        k.scaleVector = ( alpha, a, b ) -> CommonOps_DDF5.scale(alpha, (DMatrix5)a, (DMatrix5)b);
+        k.transpose = ( a, b ) -> CommonOps_DDF5.transpose((DMatrix5x5)a, (DMatrix5x5)b);
+        k.trace = ( a ) -> CommonOps_DDF5.trace((DMatrix5x5)a);
+        k.invert = ( a, b ) -> CommonOps_DDF5.invert((DMatrix5x5)a, (DMatrix5x5)b);
+        k.det = ( a ) -> CommonOps_DDF5.det((DMatrix5x5)a);
+        return k;
+    }
+
+    private static Kernels kernels6() {
+        Kernels k = new Kernels();
+        k.mult = ( a, b, c ) -> CommonOps_DDF6.mult((DMatrix6x6)a, (DMatrix6x6)b, (DMatrix6x6)c);
+        k.multVector = ( a, b, c ) -> CommonOps_DDF6.mult((DMatrix6x6)a, (DMatrix6)b, (DMatrix6)c);
+        k.add = ( a, b, c ) -> CommonOps_DDF6.add((DMatrix6x6)a, (DMatrix6x6)b, (DMatrix6x6)c);
+        k.addVector = ( a, b, c ) -> CommonOps_DDF6.add((DMatrix6)a, (DMatrix6)b, (DMatrix6)c);
+        k.subtract = ( a, b, c ) -> CommonOps_DDF6.subtract((DMatrix6x6)a, (DMatrix6x6)b, (DMatrix6x6)c);
+        k.subtractVector = ( a, b, c ) -> CommonOps_DDF6.subtract((DMatrix6)a, (DMatrix6)b, (DMatrix6)c);
+        k.scale = ( alpha, a, b ) -> CommonOps_DDF6.scale(alpha, (DMatrix6x6)a, (DMatrix6x6)b);
+        k.scaleVector = ( alpha, a, b ) -> CommonOps_DDF6.scale(alpha, (DMatrix6)a, (DMatrix6)b);
+        k.transpose = ( a, b ) -> CommonOps_DDF6.transpose((DMatrix6x6)a, (DMatrix6x6)b);
+        k.trace = ( a ) -> CommonOps_DDF6.trace((DMatrix6x6)a);
+        // there are no unrolled inverse or determinant for this size
+        k.invert = OperationFixed::invertDense;
+        k.det = OperationFixed::detDense;
+        return k;
+    }
+
+    private static void rectangular2x3() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix2x3)a, (DMatrix3)b, (DMatrix2)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix2x3)a, (DMatrix2x3)b, (DMatrix2x3)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix2x3)a, (DMatrix2x3)b, (DMatrix2x3)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix2x3)a, (DMatrix2x3)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix2x3)a, (DMatrix3x2)b);
+        k.transposeLike = new DMatrix3x2();
+        RECTANGULAR.put(DMatrix2x3.class, k);
+    }
+
+    private static void rectangular3x2() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix3x2)a, (DMatrix2)b, (DMatrix3)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix3x2)a, (DMatrix3x2)b, (DMatrix3x2)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix3x2)a, (DMatrix3x2)b, (DMatrix3x2)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix3x2)a, (DMatrix3x2)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix3x2)a, (DMatrix2x3)b);
+        k.transposeLike = new DMatrix2x3();
+        RECTANGULAR.put(DMatrix3x2.class, k);
+    }
+
+    private static void rectangular3x4() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix3x4)a, (DMatrix4)b, (DMatrix3)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix3x4)a, (DMatrix3x4)b, (DMatrix3x4)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix3x4)a, (DMatrix3x4)b, (DMatrix3x4)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix3x4)a, (DMatrix3x4)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix3x4)a, (DMatrix4x3)b);
+        k.transposeLike = new DMatrix4x3();
+        RECTANGULAR.put(DMatrix3x4.class, k);
+    }
+
+    private static void rectangular4x3() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix4x3)a, (DMatrix3)b, (DMatrix4)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix4x3)a, (DMatrix4x3)b, (DMatrix4x3)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix4x3)a, (DMatrix4x3)b, (DMatrix4x3)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix4x3)a, (DMatrix4x3)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix4x3)a, (DMatrix3x4)b);
+        k.transposeLike = new DMatrix3x4();
+        RECTANGULAR.put(DMatrix4x3.class, k);
+    }
+
+    private static void rectangular2x6() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix2x6)a, (DMatrix6)b, (DMatrix2)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix2x6)a, (DMatrix2x6)b, (DMatrix2x6)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix2x6)a, (DMatrix2x6)b, (DMatrix2x6)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix2x6)a, (DMatrix2x6)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix2x6)a, (DMatrix6x2)b);
+        k.transposeLike = new DMatrix6x2();
+        RECTANGULAR.put(DMatrix2x6.class, k);
+    }
+
+    private static void rectangular6x2() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix6x2)a, (DMatrix2)b, (DMatrix6)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix6x2)a, (DMatrix6x2)b, (DMatrix6x2)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix6x2)a, (DMatrix6x2)b, (DMatrix6x2)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix6x2)a, (DMatrix6x2)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix6x2)a, (DMatrix2x6)b);
+        k.transposeLike = new DMatrix2x6();
+        RECTANGULAR.put(DMatrix6x2.class, k);
+    }
+
+    private static void rectangular3x6() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix3x6)a, (DMatrix6)b, (DMatrix3)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix3x6)a, (DMatrix3x6)b, (DMatrix3x6)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix3x6)a, (DMatrix3x6)b, (DMatrix3x6)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix3x6)a, (DMatrix3x6)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix3x6)a, (DMatrix6x3)b);
+        k.transposeLike = new DMatrix6x3();
+        RECTANGULAR.put(DMatrix3x6.class, k);
+    }
+
+    private static void rectangular6x3() {
+        Kernels k = new Kernels();
+        k.multVector = ( a, b, c ) -> RectangularOps_DDF.mult((DMatrix6x3)a, (DMatrix3)b, (DMatrix6)c);
+        k.add = ( a, b, c ) -> RectangularOps_DDF.add((DMatrix6x3)a, (DMatrix6x3)b, (DMatrix6x3)c);
+        k.subtract = ( a, b, c ) -> RectangularOps_DDF.subtract((DMatrix6x3)a, (DMatrix6x3)b, (DMatrix6x3)c);
+        k.scale = ( alpha, a, b ) -> RectangularOps_DDF.scale(alpha, (DMatrix6x3)a, (DMatrix6x3)b);
+        k.transpose = ( a, b ) -> RectangularOps_DDF.transpose((DMatrix6x3)a, (DMatrix3x6)b);
+        k.transposeLike = new DMatrix3x6();
+        RECTANGULAR.put(DMatrix6x3.class, k);
+    }
+
+    /**
+     * Kernels for one dimension or one rectangular shape. Vector variants take a DMatrixN instead of a DMatrixNxN.
+     * Operations which aren't supported are null.
+     */
+    private static class Kernels {
+        @Nullable Kernel3 mult, multVector, add, addVector, subtract, subtractVector;
+        @Nullable KernelScale scale, scaleVector;
+        @Nullable Kernel2 transpose;
+        @Nullable KernelInvert invert;
+        @Nullable KernelScalar det, trace;
+        /** Type of the transposed matrix if it's different from the input */
+        @Nullable DMatrixFixed transposeLike;
+    }
+
+    private interface Kernel2 {
+        void process( DMatrixFixed a, DMatrixFixed b );
+    }
+
+    private interface Kernel3 {
+        void process( DMatrixFixed a, DMatrixFixed b, DMatrixFixed c );
+    }
+
+    private interface KernelScale {
+        void process( double alpha, DMatrixFixed a, DMatrixFixed b );
+    }
+
+    private interface KernelInvert {
+        boolean process( DMatrixFixed a, DMatrixFixed inv );
+    }
+
+    private interface KernelScalar {
+        double process( DMatrixFixed a );
+    }
+}
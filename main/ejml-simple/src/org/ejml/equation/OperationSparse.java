@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DGrowArray;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.IGrowArray;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+import org.jetbrains.annotations.Nullable;
+
+import static org.ejml.equation.Operation.Info;
+
+/**
+ * Operations which involve {@link VariableSparse sparse} matrices. Sparse-sparse operations produce a sparse
+ * matrix while operations which mix sparse and dense matrices produce a dense matrix. Each operation owns its
+ * workspace. Operations which aren't listed in {@link #hasKernel} are applied to a dense copy by {@link Equation}.
+ *
+ * @author Peter Abeles
+ */
+class OperationSparse {
+    /**
+     * Returns true if either of the variables is a sparse matrix
+     */
+    static boolean involves( Variable A, @Nullable Variable B ) {
+        return A instanceof VariableSparse || B instanceof VariableSparse;
+    }
+
+    /**
+     * Returns true if there is a sparse kernel for the operation and its inputs
+     *
+     * @param operation Name of the operation, e.g. "multiply"
+     * @param B Second input. null if the operation has a single input.
+     */
+    static boolean hasKernel( String operation, Variable A, @Nullable Variable B ) {
+        boolean sparseA = A instanceof VariableSparse;
+        boolean sparseB = B instanceof VariableSparse;
+        switch (operation) {
+            case "multiply":
+                return (sparseA || sparseB) && isSparseOrDense(A) && isSparseOrDense(B) ||
+                        sparseA && B instanceof VariableScalar || A instanceof VariableScalar && sparseB;
+            case "divide":
+                return sparseA && B instanceof VariableScalar;
+            case "add":
+            case "subtract":
+                return (sparseA || sparseB) && isSparseOrDense(A) && isSparseOrDense(B);
+            case "neg":
+            case "transpose":
+                return sparseA && B == null;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isSparseOrDense( @Nullable Variable v ) {
+        return v instanceof VariableSparse || v instanceof VariableMatrix;
+    }
+
+    static Info multiply( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        Info ret = new Info();
+
+        if (A instanceof VariableSparse && B instanceof VariableSparse) {
+            final VariableSparse output = manager.createSparse();
+            final IGrowArray gw = new IGrowArray();
+            final DGrowArray gx = new DGrowArray();
+            ret.output = output;
+            ret.op = new Operation("multiply-SS", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    CommonOps_DSCC.mult(((VariableSparse)A).matrix, ((VariableSparse)B).matrix, output.matrix, gw, gx);
+                }
+            };
+        } else if (A instanceof VariableSparse && B instanceof VariableMatrix) {
+            final VariableMatrix output = manager.createMatrix();
+            ret.output = output;
+            ret.op = new Operation("multiply-SD", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    CommonOps_DSCC.mult(((VariableSparse)A).matrix, ((VariableMatrix)B).matrix, output.matrix);
+                }
+            };
+        } else if (A instanceof VariableMatrix && B instanceof VariableSparse) {
+            final VariableMatrix output = manager.createMatrix();
+            final DMatrixRMaj work = new DMatrixRMaj(1, 1);
+            ret.output = output;
+            ret.op = new Operation("multiply-DS", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    // There is no dense-sparse kernel. Instead compute (B'*A')' = A*B
+                    CommonOps_DSCC.multTransAB(((VariableSparse)B).matrix, ((VariableMatrix)A).matrix, work);
+                    CommonOps_DDRM.transpose(work, output.matrix);
+                }
+            };
+        } else if (A instanceof VariableSparse && B instanceof VariableScalar ||
+                A instanceof VariableScalar && B instanceof VariableSparse) {
+            final VariableSparse output = manager.createSparse();
+            final VariableSparse m = (VariableSparse)(A instanceof VariableSparse ? A : B);
+            final VariableScalar s = (VariableScalar)(A instanceof VariableSparse ? B : A);
+            ret.output = output;
+            ret.op = new Operation("multiply-Ss", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    CommonOps_DSCC.scale(s.getDouble(), m.matrix, output.matrix);
+                }
+            };
+        } else {
+            throw unsupported("multiply", A, B);
+        }
+
+        return ret;
+    }
+
+    static Info divide( final Variable A, final Variable B, ManagerTempVariables manager ) {
+        Info ret = new Info();
+
+        if (A instanceof VariableSparse && B instanceof VariableScalar) {
+            final VariableSparse output = manager.createSparse();
+            ret.output = output;
+            ret.op = new Operation("divide-Ss", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    CommonOps_DSCC.divide(((VariableSparse)A).matrix, ((VariableScalar)B).getDouble(), output.matrix);
+                }
+            };
+        } else {
+            throw unsupported("divide", A, B);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Computes A + sign*B
+     */
+    static Info add( final Variable A, final Variable B, final double sign, ManagerTempVariables manager ) {
+        Info ret = new Info();
+        String name = sign > 0 ? "add" : "subtract";
+
+        if (A instanceof VariableSparse && B instanceof VariableSparse) {
+            final VariableSparse output = manager.createSparse();
+            final IGrowArray gw = new IGrowArray();
+            final DGrowArray gx = new DGrowArray();
+            ret.output = output;
+            ret.op = new Operation(name + "-SS", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    CommonOps_DSCC.add(1.0, ((VariableSparse)A).matrix, sign, ((VariableSparse)B).matrix,
+                            output.matrix, gw, gx);
+                }
+            };
+        } else if (A instanceof VariableSparse && B instanceof VariableMatrix) {
+            final VariableMatrix output = manager.createMatrix();
+            ret.output = output;
+            ret.op = new Operation(name + "-SD", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    addDense(1.0, ((VariableSparse)A).matrix, sign, ((VariableMatrix)B).matrix, output.matrix);
+                }
+            };
+        } else if (A instanceof VariableMatrix && B instanceof VariableSparse) {
+            final VariableMatrix output = manager.createMatrix();
+            ret.output = output;
+            ret.op = new Operation(name + "-DS", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    addDense(sign, ((VariableSparse)B).matrix, 1.0, ((VariableMatrix)A).matrix, output.matrix);
+                }
+            };
+        } else {
+            throw unsupported(name, A, B);
+        }
+
+        return ret;
+    }
+
+    static Info neg( final VariableSparse A, ManagerTempVariables manager ) {
+        Info ret = new Info();
+        final VariableSparse output = manager.createSparse();
+        ret.output = output;
+        ret.op = new Operation("neg-S", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                CommonOps_DSCC.changeSign(A.matrix, output.matrix);
+            }
+        };
+        return ret;
+    }
+
+    static Info transpose( final VariableSparse A, ManagerTempVariables manager ) {
+        Info ret = new Info();
+        final VariableSparse output = manager.createSparse();
+        final IGrowArray gw = new IGrowArray();
+        ret.output = output;
+        ret.op = new Operation("transpose-S", Operation.Kind.BUILT_IN) {
+            @Override
+            public void process() {
+                CommonOps_DSCC.transpose(A.matrix, output.matrix, gw);
+            }
+        };
+        return ret;
+    }
+
+    /**
+     * Copies between sparse and dense matrices. Dense matrices are converted into sparse matrices without
+     * dropping any elements.
+     */
+    static Operation copy( final Variable src, final Variable dst ) {
+        if (src instanceof VariableSparse && dst instanceof VariableSparse) {
+            return new Operation("copy-SS", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    ((VariableSparse)dst).matrix.setTo(((VariableSparse)src).matrix);
+                }
+            };
+        } else if (src instanceof VariableSparse && dst instanceof VariableMatrix) {
+            return new Operation("copy-SD", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    DConvertMatrixStruct.convert(((VariableSparse)src).matrix, ((VariableMatrix)dst).matrix);
+                }
+            };
+        } else if (src instanceof VariableMatrix && dst instanceof VariableSparse) {
+            return new Operation("copy-DS", Operation.Kind.BUILT_IN) {
+                @Override
+                public void process() {
+                    DConvertMatrixStruct.convert(((VariableMatrix)src).matrix, ((VariableSparse)dst).matrix, 0.0);
+                }
+            };
+        }
+        throw new RuntimeException("Unsupported copy types; src = " + src.getClass().getSimpleName() +
+                " dst = " + dst.getClass().getSimpleName());
+    }
+
+    /**
+     * C = alpha*A + beta*B, where A is sparse and B is dense
+     */
+    static void addDense( double alpha, DMatrixSparseCSC A, double beta, DMatrixRMaj B, DMatrixRMaj C ) {
+        if (A.numRows != B.numRows || A.numCols != B.numCols)
+            throw new MatrixDimensionException("Inconsistent matrix shapes. " +
+                    A.numRows + "x" + A.numCols + " and " + B.numRows + "x" + B.numCols);
+        C.reshape(B.numRows, B.numCols);
+        CommonOps_DDRM.scale(beta, B, C);
+
+        for (int col = 0; col < A.numCols; col++) {
+            int idx0 = A.col_idx[col];
+            int idx1 = A.col_idx[col + 1];
+            for (int i = idx0; i < idx1; i++) {
+                int index = A.nz_rows[i]*C.numCols + col;
+                C.data[index] += alpha*A.nz_values[i];
+            }
+        }
+    }
+
+    static RuntimeException unsupported( String operation, Variable A, Variable B ) {
+        return new RuntimeException("Unsupported types for " + operation + "; " +
+                A.getClass().getSimpleName() + " and " + B.getClass().getSimpleName());
+    }
+}
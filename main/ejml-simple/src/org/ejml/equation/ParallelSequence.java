@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.concurrency.EjmlConcurrency;
+
+import java.util.*;
+
+/**
+ * <p>
+ * Several compiled statements which are combined into a single dataflow graph. An operation depends on an earlier
+ * operation if it reads what the earlier one writes, writes what it reads, or writes the same variable. Operations
+ * are grouped into levels, where every operation in a level only depends on operations in earlier levels. Levels
+ * are performed in order and the operations inside a level are run concurrently on the {@link EjmlConcurrency}
+ * thread pool. An operation which is alone in its level will instead use the concurrent implementations in
+ * {@link org.ejml.dense.row.CommonOps_MT_DDRM} for large matrix multiplications and transposes, so parallel
+ * loops are never nested.
+ * </p>
+ *
+ * <p>
+ * Create it using {@link Equation#compileParallel(String...)}, which compiles operations that are only used by
+ * this graph. Operations are conservatively treated as a barrier, which everything before must finish before and
+ * everything after must wait for, if their inputs are unknown,
+ * they are user defined functions, or they read an integer sequence, which can hide which variables are read.
+ * Operations which use the random number generator are always run in their original order. If
+ * {@link EjmlConcurrency#USE_CONCURRENT} is false then the operations are performed one at a time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ParallelSequence {
+    // Stands in for the shared random number generator when finding dependencies
+    private static final Object RANDOM = new Object();
+
+    // The individual statements
+    final List<Sequence> statements;
+
+    // Operations grouped by level. Operations inside a level are independent of each other
+    final List<Operation[]> levels = new ArrayList<>();
+
+    /**
+     * Builds the dependency graph from the compiled statements. The operations are modified and must not
+     * be used anywhere else.
+     *
+     * @param statements Statements in the order they would be performed in
+     */
+    ParallelSequence( List<Sequence> statements ) {
+        this.statements = new ArrayList<>(statements);
+
+        // Index of the most recent operation which wrote to and read from each resource
+        Map<Object, Integer> lastWrite = new HashMap<>();
+        Map<Object, List<Integer>> readSinceWrite = new HashMap<>();
+        List<Operation> operations = new ArrayList<>();
+        int[] level = new int[countOperations()];
+
+        // every operation must come after the most recent opaque operation
+        int barrier = 0;
+        for (Sequence statement : statements) {
+            for (Operation op : statement.operations) {
+                int index = operations.size();
+                operations.add(op);
+
+                boolean opaque = isOpaque(op);
+                int value = barrier;
+                if (opaque) {
+                    // depends on everything which came before and everything after depends on it
+                    value = Math.max(value, maxLevel(level, 0, index) + 1);
+                } else {
+                    List<Object> reads = new ArrayList<>();
+                    for (Variable v : Objects.requireNonNull(op.inputVariables)) {
+                        reads.add(resource(v));
+                    }
+                    List<Object> writes = new ArrayList<>();
+                    writes.add(resource(Objects.requireNonNull(op.outputVariable)));
+                    if (op.kind == Operation.Kind.RANDOM) {
+                        reads.add(RANDOM);
+                        writes.add(RANDOM);
+                    }
+
+                    // read after write
+                    for (Object r : reads) {
+                        Integer w = lastWrite.get(r);
+                        if (w != null)
+                            value = Math.max(value, level[w] + 1);
+                    }
+                    for (Object r : writes) {
+                        // write after write
+                        Integer w = lastWrite.get(r);
+                        if (w != null)
+                            value = Math.max(value, level[w] + 1);
+                        // write after read
+                        for (int reader : readSinceWrite.getOrDefault(r, Collections.emptyList())) {
+                            if (reader != index)
+                                value = Math.max(value, level[reader] + 1);
+                        }
+                    }
+
+                    for (Object r : reads) {
+                        readSinceWrite.computeIfAbsent(r, k -> new ArrayList<>()).add(index);
+                    }
+                    for (Object r : writes) {
+                        lastWrite.put(r, index);
+                        readSinceWrite.remove(r);
+                    }
+                }
+                level[index] = value;
+                if (opaque)
+                    barrier = value + 1;
+            }
+        }
+
+        // Put the operations into their levels while preserving their original order
+        List<List<Operation>> grouped = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            while (grouped.size() <= level[i])
+                grouped.add(new ArrayList<>());
+            grouped.get(level[i]).add(operations.get(i));
+        }
+        for (List<Operation> list : grouped) {
+            Operation[] ops = list.toArray(new Operation[0]);
+            for (Operation op : ops) {
+                op.concurrent = ops.length == 1;
+            }
+            levels.add(ops);
+        }
+    }
+
+    /**
+     * Performs all the statements
+     */
+    public void perform() {
+        for (int i = 0; i < levels.size(); i++) {
+            Operation[] level = levels.get(i);
+            if (level.length == 1 || !EjmlConcurrency.isUseConcurrent()) {
+                for (Operation op : level) {
+                    op.process();
+                }
+            } else {
+                EjmlConcurrency.loopFor(0, level.length, j -> level[j].process());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of levels. Operations inside a level can be performed at the same time.
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Returns the number of operations in the specified level
+     */
+    public int getLevelSize( int level ) {
+        return levels.get(level).length;
+    }
+
+    private int countOperations() {
+        int total = 0;
+        for (Sequence s : statements) {
+            total += s.operations.size();
+        }
+        return total;
+    }
+
+    /**
+     * Temporary matrices can share storage after being optimized so their storage is what's being tracked
+     */
+    private static Object resource( Variable v ) {
+        if (v instanceof VariableMatrix && ((VariableMatrix)v).isTemp())
+            return ((VariableMatrix)v).matrix;
+        return v;
+    }
+
+    /**
+     * Returns true if it isn't known which variables the operation reads and writes
+     */
+    private static boolean isOpaque( Operation op ) {
+        List<Variable> inputs = op.inputVariables;
+        if (inputs == null || op.outputVariable == null || !op.isBuiltIn())
+            return true;
+        // integer sequences can reference other variables
+        for (Variable v : inputs) {
+            if (v instanceof VariableIntegerSequence)
+                return true;
+        }
+        return false;
+    }
+
+    private static int maxLevel( int[] level, int start, int end ) {
+        int max = -1;
+        for (int i = start; i < end; i++) {
+            max = Math.max(max, level[i]);
+        }
+        return max;
+    }
+}
@@ -39,6 +39,20 @@ public class Sequence {
         operations.add(operation);
     }
 
+    /**
+     * Adds an operation and records which variables it reads and writes. This information is needed
+     * by {@link SequenceOptimizer}.
+     *
+     * @param operation The operation
+     * @param output Variable which the operation writes to
+     * @param inputs Variables which the operation reads from
+     */
+    public void addOperation( Operation operation, Variable output, List<Variable> inputs ) {
+        operation.outputVariable = output;
+        operation.inputVariables = new ArrayList<>(inputs);
+        operations.add(operation);
+    }
+
     /**
      * Executes the sequence of operations
      */
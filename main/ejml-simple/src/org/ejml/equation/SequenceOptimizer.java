@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * <p>
+ * Rewrites a compiled {@link Sequence} so that it does less work and declares less memory. The parser creates
+ * one operation and one temporary variable for every symbol it encounters, e.g. "P = F*P*F' + Q" turns into a
+ * transpose, two multiplications, an addition, and a copy. After optimization it's two multiplications, with the
+ * second one being a multAddTransB(), and a copy.
+ * </p>
+ * <ul>
+ *     <li>Common sub-expressions: The same operation applied to the same inputs is only computed once</li>
+ *     <li>Transpose folding: A'*B is computed with multTransA() instead of explicitly transposing A</li>
+ *     <li>Multiply-add fusion: A*B + C is computed with multAdd() and no temporary is needed for A*B</li>
+ *     <li>Temporary recycling: Temporary matrices which are never alive at the same time share storage</li>
+ * </ul>
+ * <p>
+ * Nothing is done if the variables read and written by any operation are unknown, e.g. a macro. Temporary
+ * variables which are referenced by user defined functions are never recycled.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SequenceOptimizer {
+    /** If true then common sub-expressions are removed */
+    public boolean eliminateCommon = true;
+    /** If true then explicit transposes are folded into matrix multiplications */
+    public boolean foldTranspose = true;
+    /** If true then a multiplication followed by an addition is turned into a single multAdd */
+    public boolean fuseMultAdd = true;
+    /** If true then temporary matrices share storage when possible */
+    public boolean recycleTemporary = true;
+
+    // Variables which were removed by common sub-expression elimination and the variable which replaced them
+    private final Map<Variable, Variable> replaced = new HashMap<>();
+
+    /**
+     * Copies the settings from src
+     *
+     * @return this
+     */
+    public SequenceOptimizer setTo( SequenceOptimizer src ) {
+        this.eliminateCommon = src.eliminateCommon;
+        this.foldTranspose = src.foldTranspose;
+        this.fuseMultAdd = src.fuseMultAdd;
+        this.recycleTemporary = src.recycleTemporary;
+        return this;
+    }
+
+    /**
+     * Optimizes the sequence in place
+     */
+    public void process( Sequence sequence ) {
+        replaced.clear();
+
+        List<Operation> ops = sequence.operations;
+        for (int i = 0; i < ops.size(); i++) {
+            if (ops.get(i).inputVariables == null || ops.get(i).outputVariable == null)
+                return;
+        }
+
+        if (eliminateCommon)
+            eliminateCommonSubexpressions(ops);
+        if (foldTranspose)
+            foldTransposes(sequence);
+        if (fuseMultAdd)
+            fuseMultAdd(sequence);
+        if (recycleTemporary)
+            recycleTemporaries(sequence);
+
+        // Operations which used an eliminated variable now read from the storage of its replacement
+        for (Variable v : replaced.keySet()) {
+            ((VariableMatrix)v).matrix = ((VariableMatrix)canonical(v)).matrix;
+        }
+    }
+
+    /**
+     * Removes an operation if an earlier operation with the same name has the exact same inputs
+     */
+    void eliminateCommonSubexpressions( List<Operation> ops ) {
+        for (int i = 0; i < ops.size(); i++) {
+            Operation op = ops.get(i);
+            if (!op.isPure() || !isTempMatrix(op.outputVariable))
+                continue;
+
+            for (int j = 0; j < i; j++) {
+                Operation prev = ops.get(j);
+                if (!prev.name.equals(op.name) || !sameInputs(prev, op))
+                    continue;
+
+                replaced.put(op.outputVariable, prev.outputVariable);
+                ops.remove(i--);
+                break;
+            }
+        }
+    }
+
+    /**
+     * If an input to a multiplication is an explicit transpose which isn't used anywhere else then the
+     * transpose is removed and the multiplication is changed to multTransA, multTransB, or multTransAB.
+     */
+    void foldTransposes( Sequence sequence ) {
+        List<Operation> ops = sequence.operations;
+        for (int i = 0; i < ops.size(); i++) {
+            Operation op = ops.get(i);
+            if (!(op instanceof Operation.Mult mult) || mult.transA || mult.transB)
+                continue;
+
+            VariableMatrix A = input(op, 0);
+            VariableMatrix B = input(op, 1);
+            Operation transA = findSingleUseProducer(sequence, A, "transpose-m");
+            Operation transB = findSingleUseProducer(sequence, B, "transpose-m");
+            if (transA == null && transB == null)
+                continue;
+
+            if (transA != null)
+                A = input(transA, 0);
+            if (transB != null)
+                B = input(transB, 0);
+
+            VariableMatrix output = (VariableMatrix)op.outputVariable;
+            Operation folded = Operation.multTrans(A, transA != null, B, transB != null, output);
+            ops.set(i, describe(folded, output, A, B));
+            ops.remove(transA);
+            ops.remove(transB);
+            i = ops.indexOf(folded);
+        }
+    }
+
+    /**
+     * If one side of a matrix addition or subtraction is a multiplication which isn't used anywhere else then
+     * they are merged into a single multAdd operation.
+     */
+    void fuseMultAdd( Sequence sequence ) {
+        List<Operation> ops = sequence.operations;
+        for (int i = 0; i < ops.size(); i++) {
+            Operation op = ops.get(i);
+            boolean add = op.name.equals("add-mm");
+            if (!op.isPure() || (!add && !op.name.equals("subtract-mm")))
+                continue;
+
+            VariableMatrix left = input(op, 0);
+            VariableMatrix right = input(op, 1);
+
+            Operation.Mult mult;
+            VariableMatrix C;
+            double alpha;
+            boolean negateC;
+            if ((mult = findSingleUseMult(sequence, right)) != null) {
+                C = left;
+                alpha = add ? 1.0 : -1.0;
+                negateC = false;
+            } else if ((mult = findSingleUseMult(sequence, left)) != null) {
+                C = right;
+                alpha = 1.0;
+                negateC = !add;
+            } else {
+                continue;
+            }
+
+            VariableMatrix A = input(mult, 0);
+            VariableMatrix B = input(mult, 1);
+
+            VariableMatrix output = (VariableMatrix)op.outputVariable;
+            Operation fused = Operation.multAdd(alpha, A, mult.transA, B, mult.transB, negateC, C, output);
+            ops.set(i, describe(fused, output, A, B, C));
+            ops.remove(mult);
+            i = ops.indexOf(fused);
+        }
+    }
+
+    /**
+     * Computes when each temporary matrix is alive, from the operation which writes to it until the last operation
+     * which reads it. Temporaries are then greedily assigned storage which isn't in use during that interval.
+     */
+    void recycleTemporaries( Sequence sequence ) {
+        List<Operation> ops = sequence.operations;
+
+        // first and last operation which references each temporary, ordered by first reference
+        Map<VariableMatrix, int[]> lifetime = new LinkedHashMap<>();
+        Set<VariableMatrix> excluded = new HashSet<>();
+        for (int i = 0; i < ops.size(); i++) {
+            Operation op = ops.get(i);
+            boolean known = op.isBuiltIn();
+            for (Variable v : Objects.requireNonNull(op.inputVariables)) {
+                markAlive(lifetime, excluded, v, i, known);
+            }
+            markAlive(lifetime, excluded, op.outputVariable, i, known);
+        }
+        // the sequence's output is still needed after the last operation
+        if (sequence.output != null)
+            markAlive(lifetime, excluded, sequence.output, ops.size(), true);
+
+        // Last temporary to use each storage matrix
+        List<VariableMatrix> holders = new ArrayList<>();
+        for (Map.Entry<VariableMatrix, int[]> e : lifetime.entrySet()) {
+            VariableMatrix v = e.getKey();
+            if (excluded.contains(v))
+                continue;
+            int first = e.getValue()[0];
+
+            boolean assigned = false;
+            for (int i = 0; i < holders.size(); i++) {
+                VariableMatrix holder = holders.get(i);
+                if (lifetime.get(holder)[1] < first) {
+                    v.matrix = holder.matrix;
+                    holders.set(i, v);
+                    assigned = true;
+                    break;
+                }
+            }
+            if (!assigned)
+                holders.add(v);
+        }
+    }
+
+    private void markAlive( Map<VariableMatrix, int[]> lifetime, Set<VariableMatrix> excluded,
+                            @Nullable Variable v, int index, boolean known ) {
+        if (v == null)
+            return;
+        v = canonical(v);
+        if (!isTempMatrix(v))
+            return;
+        VariableMatrix m = (VariableMatrix)v;
+        int[] interval = lifetime.get(m);
+        if (interval == null) {
+            lifetime.put(m, new int[]{index, index});
+        } else {
+            interval[1] = index;
+        }
+        if (!known)
+            excluded.add(m);
+    }
+
+    /**
+     * Returns the matrix multiplication which creates 'v' if 'v' is referenced exactly once.
+     */
+    private Operation.@Nullable Mult findSingleUseMult( Sequence sequence, Variable v ) {
+        Operation producer = findSingleUseProducer(sequence, v);
+        return producer instanceof Operation.Mult ? (Operation.Mult)producer : null;
+    }
+
+    /**
+     * Returns the pure operation which creates 'v' if it has the specified name and 'v' is referenced exactly once.
+     */
+    private @Nullable Operation findSingleUseProducer( Sequence sequence, Variable v, String name ) {
+        Operation producer = findSingleUseProducer(sequence, v);
+        return producer != null && producer.isPure() && producer.name.equals(name) ? producer : null;
+    }
+
+    private @Nullable Operation findSingleUseProducer( Sequence sequence, Variable v ) {
+        if (!isTempMatrix(v))
+            return null;
+
+        Operation producer = null;
+        int uses = sequence.output != null && canonical(sequence.output) == v ? 1 : 0;
+        for (Operation op : sequence.operations) {
+            if (op.outputVariable == v)
+                producer = op;
+            for (Variable input : Objects.requireNonNull(op.inputVariables)) {
+                if (canonical(input) == v)
+                    uses++;
+            }
+        }
+
+        if (uses != 1)
+            return null;
+        return producer;
+    }
+
+    private boolean sameInputs( Operation a, Operation b ) {
+        List<Variable> inputsA = Objects.requireNonNull(a.inputVariables);
+        List<Variable> inputsB = Objects.requireNonNull(b.inputVariables);
+        if (inputsA.size() != inputsB.size())
+            return false;
+        for (int i = 0; i < inputsA.size(); i++) {
+            if (canonical(inputsA.get(i)) != canonical(inputsB.get(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private VariableMatrix input( Operation op, int index ) {
+        return (VariableMatrix)canonical(Objects.requireNonNull(op.inputVariables).get(index));
+    }
+
+    private Variable canonical( Variable v ) {
+        Variable r;
+        while ((r = replaced.get(v)) != null) {
+            v = r;
+        }
+        return v;
+    }
+
+    private static boolean isTempMatrix( @Nullable Variable v ) {
+        return v instanceof VariableMatrix && ((VariableMatrix)v).isTemp();
+    }
+
+    private static Operation describe( Operation op, Variable output, Variable... inputs ) {
+        op.outputVariable = output;
+        op.inputVariables = new ArrayList<>(Arrays.asList(inputs));
+        return op;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.data.DMatrixFixed;
+
+/**
+ * Storage for {@link DMatrixFixed fixed sized} matrices and vectors, e.g. {@link org.ejml.data.DMatrix3x3},
+ * {@link org.ejml.data.DMatrix2x3}, and {@link org.ejml.data.DMatrix3}. The shape of a fixed sized matrix can't
+ * change so operations select their kernel when the equation is compiled.
+ *
+ * @author Peter Abeles
+ */
+public class VariableFixed extends Variable {
+    public DMatrixFixed matrix;
+
+    public VariableFixed( DMatrixFixed matrix ) {
+        super(VariableType.MATRIX_FIXED);
+        this.matrix = matrix;
+    }
+
+    public static VariableFixed createTemp( DMatrixFixed like ) {
+        return new VariableFixed(like.createLike());
+    }
+
+    /**
+     * Number of rows in the matrix. Square matrices and vectors of the same dimension share kernels.
+     */
+    public int getDimension() {
+        return matrix.getNumRows();
+    }
+
+    /**
+     * Returns true if the matrix is a column vector, e.g. DMatrix3
+     */
+    public boolean isVector() {
+        return matrix.getNumCols() == 1;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.data.DMatrixSparseCSC;
+
+/**
+ * Storage for {@link DMatrixSparseCSC sparse matrix} type variables.
+ *
+ * @author Peter Abeles
+ */
+public class VariableSparse extends Variable {
+    public DMatrixSparseCSC matrix;
+
+    public VariableSparse( DMatrixSparseCSC matrix ) {
+        super(VariableType.MATRIX_SPARSE);
+        this.matrix = matrix;
+    }
+
+    public static VariableSparse createTemp() {
+        return new VariableSparse(new DMatrixSparseCSC(1, 1, 0));
+    }
+}
@@ -25,6 +25,10 @@ package org.ejml.equation;
  */
 public enum VariableType {
     MATRIX,
+    /** Sparse matrix in compressed sparse column format, {@link VariableSparse} */
+    MATRIX_SPARSE,
+    /** Fixed sized matrix or vector, {@link VariableFixed} */
+    MATRIX_FIXED,
     SCALAR,
     INTEGER_SEQUENCE
 }
@@ -155,6 +155,19 @@ public abstract class SimpleBase<T extends SimpleBase<T>> implements ConstMatrix
         return ret;
     }
 
+    /**
+     * Starts a lazily evaluated expression with this matrix. Operations on the returned expression are not
+     * computed until {@link SimpleExpression#eval()} is called, which allows them to be fused together and avoids
+     * declaring a new matrix for each operation.
+     *
+     * <pre>{@code SimpleMatrix D = A.lazy().transpose().mult(B).plus(2.0, C).eval();}</pre>
+     *
+     * @return Expression which references this matrix
+     */
+    public SimpleExpression<T> lazy() {
+        return new SimpleExpression<>((T)this);
+    }
+
     /** {@inheritDoc} */
     @Override public T transposeConjugate() {
         if (getType().isReal()) {
@@ -866,6 +879,19 @@ public abstract class SimpleBase<T extends SimpleBase<T>> implements ConstMatrix
         return new SimpleSVD<>(mat, compact);
     }
 
+    /**
+     * Computes a truncated SVD with only the largest singular values using a randomized algorithm. Much faster
+     * than {@link #svd()} when only a few singular values are needed from a large matrix. Works with both
+     * dense and sparse real matrices. U is m by rank, W is rank by rank, and V is n by rank. They are dense
+     * even if this matrix is sparse. The rank and nullity can't be found from a truncated SVD.
+     *
+     * @param rank Number of singular values which are computed
+     * @return SVD of this matrix.
+     */
+    public SimpleSVD<T> svdTruncated( int rank ) {
+        return new SimpleSVD<>(mat, rank);
+    }
+
     /**
      * Returns the Eigen Value Decomposition (EVD) of this matrix.
      */
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simple;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.Matrix;
+import org.ejml.data.MatrixType;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Lazily evaluated chain of {@link SimpleBase} operations. Instead of computing each operation as it's called, an
+ * expression tree is built and nothing is computed until {@link #eval()} is called. Evaluating the whole
+ * expression at once allows operations to be fused together. For example, in
+ * {@code A.lazy().transpose().mult(B).plus(C.lazy().scale(2)).eval()} the transpose is folded into a
+ * multTransA and the addition becomes a multAdd into the scaled copy of C, so the only matrix declared is the
+ * output.
+ * </p>
+ *
+ * <ul>
+ *     <li>Transposes are pushed down to the matrices and become part of the multiplication</li>
+ *     <li>Scale factors are pushed into multiplication and addition kernels</li>
+ *     <li>Multiplications which are added to something become multAdd</li>
+ *     <li>Additions and subtractions are done in-place inside the output matrix</li>
+ * </ul>
+ *
+ * <p>
+ * A temporary matrix is only declared when a multiplication has an input which is not a matrix, e.g. A*(B+C).
+ * The expression can be evaluated multiple times and will see any changes to the matrices it references.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class SimpleExpression<T extends SimpleBase<T>> {
+    /** Used to create the output matrix */
+    final T template;
+
+    /** Root of the expression tree */
+    final Node root;
+
+    SimpleExpression( T matrix ) {
+        this(matrix, new Leaf(matrix, false));
+    }
+
+    private SimpleExpression( T template, Node root ) {
+        this.template = template;
+        this.root = root;
+    }
+
+    /**
+     * Returns an expression for this*B
+     */
+    public SimpleExpression<T> mult( ConstMatrix<?> B ) {
+        return mult(toNode(B));
+    }
+
+    /**
+     * Returns an expression for this*B
+     */
+    public SimpleExpression<T> mult( SimpleExpression<?> B ) {
+        return mult(B.root);
+    }
+
+    /**
+     * Returns an expression for this + B
+     */
+    public SimpleExpression<T> plus( ConstMatrix<?> B ) {
+        return plus(1.0, toNode(B));
+    }
+
+    /**
+     * Returns an expression for this + B
+     */
+    public SimpleExpression<T> plus( SimpleExpression<?> B ) {
+        return plus(1.0, B.root);
+    }
+
+    /**
+     * Returns an expression for this + beta*B
+     */
+    public SimpleExpression<T> plus( double beta, ConstMatrix<?> B ) {
+        return plus(beta, toNode(B));
+    }
+
+    /**
+     * Returns an expression for this - B
+     */
+    public SimpleExpression<T> minus( ConstMatrix<?> B ) {
+        return plus(-1.0, toNode(B));
+    }
+
+    /**
+     * Returns an expression for this - B
+     */
+    public SimpleExpression<T> minus( SimpleExpression<?> B ) {
+        return plus(-1.0, B.root);
+    }
+
+    /**
+     * Returns an expression for this*val
+     */
+    public SimpleExpression<T> scale( double val ) {
+        return new SimpleExpression<>(template, scale(val, root));
+    }
+
+    /**
+     * Returns an expression for -this
+     */
+    public SimpleExpression<T> negative() {
+        return scale(-1.0);
+    }
+
+    /**
+     * Returns an expression for the transpose of this
+     */
+    public SimpleExpression<T> transpose() {
+        return new SimpleExpression<>(template, transpose(root));
+    }
+
+    /** Number of rows in the matrix this expression evaluates to */
+    public int getNumRows() {
+        return root.numRows;
+    }
+
+    /** Number of columns in the matrix this expression evaluates to */
+    public int getNumCols() {
+        return root.numCols;
+    }
+
+    /**
+     * Evaluates the expression and returns the results in a new matrix
+     */
+    public T eval() {
+        Evaluation e = new Evaluation();
+        T output = template.createMatrix(root.numRows, root.numCols, e.type);
+        e.evaluate(root, output.mat, false, 1.0);
+        return output;
+    }
+
+    /**
+     * Evaluates the expression and writes the results into output, which must have the same shape and type as the
+     * expression's result. The output can be one of the matrices inside the expression.
+     *
+     * @param output (Output) Storage for the results. Modified.
+     */
+    public void eval( T output ) {
+        if (output.getNumRows() != root.numRows || output.getNumCols() != root.numCols)
+            throw new MatrixDimensionException("Output is " + output.getNumRows() + "x" + output.getNumCols() +
+                    " but expected " + root.numRows + "x" + root.numCols);
+
+        Evaluation e = new Evaluation();
+        if (output.getType() != e.type)
+            throw new IllegalArgumentException("Output should be of type " + e.type);
+
+        // An input can't be modified while it's still being read
+        if (e.matrices.containsValue(output.mat)) {
+            output.setTo(eval());
+        } else {
+            e.evaluate(root, output.mat, false, 1.0);
+        }
+    }
+
+    private SimpleExpression<T> mult( Node B ) {
+        if (root.numCols != B.numRows)
+            throw new MatrixDimensionException("Can't multiply " + shape(root) + " and " + shape(B));
+        return new SimpleExpression<>(template, new Mult(root, B));
+    }
+
+    private SimpleExpression<T> plus( double beta, Node B ) {
+        if (root.numRows != B.numRows || root.numCols != B.numCols)
+            throw new MatrixDimensionException("Can't add " + shape(root) + " and " + shape(B));
+        return new SimpleExpression<>(template, new Add(root, scale(beta, B)));
+    }
+
+    private static Node toNode( ConstMatrix<?> B ) {
+        return new Leaf((SimpleBase<?>)B, false);
+    }
+
+    private static Node scale( double alpha, Node node ) {
+        if (alpha == 1.0)
+            return node;
+        if (node instanceof Scale) {
+            Scale s = (Scale)node;
+            return scale(alpha*s.alpha, s.input);
+        }
+        return new Scale(alpha, node);
+    }
+
+    /**
+     * Pushes the transpose down to the matrices, e.g. (A*B)' = B'*A'
+     */
+    private static Node transpose( Node node ) {
+        if (node instanceof Leaf) {
+            Leaf l = (Leaf)node;
+            return new Leaf(l.matrix, !l.transposed);
+        } else if (node instanceof Scale) {
+            Scale s = (Scale)node;
+            return new Scale(s.alpha, transpose(s.input));
+        } else if (node instanceof Mult) {
+            Mult m = (Mult)node;
+            return new Mult(transpose(m.b), transpose(m.a));
+        } else {
+            Add a = (Add)node;
+            return new Add(transpose(a.a), transpose(a.b));
+        }
+    }
+
+    private static String shape( Node node ) {
+        return node.numRows + "x" + node.numCols;
+    }
+
+    /**
+     * Storage for a single evaluation of the expression
+     */
+    private class Evaluation {
+        /** Matrices in the expression after they have been converted into the common type */
+        final Map<SimpleBase<?>, Matrix> matrices = new IdentityHashMap<>();
+        final MatrixType type;
+        final SimpleOperations ops;
+
+        Evaluation() {
+            List<SimpleBase<?>> inputs = new ArrayList<>();
+            findMatrices(root, inputs);
+
+            var convertType = new AutomaticSimpleMatrixConvert();
+            convertType.specify(inputs.toArray(new ConstMatrix[0]));
+            type = convertType.commonType;
+            for (int i = 0; i < inputs.size(); i++) {
+                SimpleBase<?> m = inputs.get(i);
+                if (!matrices.containsKey(m)) {
+                    SimpleBase<?> converted = convertType.convert(m);
+                    matrices.put(m, converted.mat);
+                }
+            }
+            ops = SimpleBase.lookupOps(type);
+        }
+
+        /**
+         * Computes output = alpha*node when accumulate is false and output = output + alpha*node when true
+         */
+        void evaluate( Node node, Matrix output, boolean accumulate, double alpha ) {
+            if (node instanceof Scale) {
+                Scale s = (Scale)node;
+                evaluate(s.input, output, accumulate, alpha*s.alpha);
+            } else if (node instanceof Add) {
+                Add add = (Add)node;
+                // Initialize the output with the side which isn't a multiplication so that the
+                // multiplication can be added to it directly
+                boolean swap = !accumulate && isMult(add.a) && !isMult(add.b);
+                evaluate(swap ? add.b : add.a, output, accumulate, alpha);
+                evaluate(swap ? add.a : add.b, output, true, alpha);
+            } else if (node instanceof Mult) {
+                Mult m = (Mult)node;
+                Operand a = operand(m.a);
+                Operand b = operand(m.b);
+                if (accumulate)
+                    ops.multAdd(alpha*a.scale*b.scale, a.matrix, a.transposed, b.matrix, b.transposed, output);
+                else
+                    ops.mult(alpha*a.scale*b.scale, a.matrix, a.transposed, b.matrix, b.transposed, output);
+            } else {
+                Leaf l = (Leaf)node;
+                Matrix input = matrices.get(l.matrix);
+                if (l.transposed) {
+                    Matrix tran = accumulate ? declare(l) : output;
+                    ops.transpose(input, tran);
+                    if (accumulate) {
+                        ops.plusEquals(output, alpha, tran);
+                    } else if (alpha != 1.0) {
+                        ops.scale(output, alpha, output);
+                    }
+                } else if (accumulate) {
+                    ops.plusEquals(output, alpha, input);
+                } else {
+                    ops.scale(input, alpha, output);
+                }
+            }
+        }
+
+        /**
+         * Converts the node into a matrix which can be passed into a multiplication. A temporary matrix is only
+         * declared if the node isn't a matrix.
+         */
+        Operand operand( Node node ) {
+            var ret = new Operand();
+            while (node instanceof Scale) {
+                ret.scale *= ((Scale)node).alpha;
+                node = ((Scale)node).input;
+            }
+            if (node instanceof Leaf) {
+                ret.matrix = matrices.get(((Leaf)node).matrix);
+                ret.transposed = ((Leaf)node).transposed;
+            } else {
+                ret.matrix = declare(node);
+                evaluate(node, ret.matrix, false, 1.0);
+            }
+            return ret;
+        }
+
+        Matrix declare( Node node ) {
+            return template.createMatrix(node.numRows, node.numCols, type).mat;
+        }
+    }
+
+    private static boolean isMult( Node node ) {
+        while (node instanceof Scale) {
+            node = ((Scale)node).input;
+        }
+        return node instanceof Mult;
+    }
+
+    private static void findMatrices( Node node, List<SimpleBase<?>> found ) {
+        if (node instanceof Leaf) {
+            found.add(((Leaf)node).matrix);
+        } else if (node instanceof Scale) {
+            findMatrices(((Scale)node).input, found);
+        } else if (node instanceof Mult) {
+            findMatrices(((Mult)node).a, found);
+            findMatrices(((Mult)node).b, found);
+        } else {
+            findMatrices(((Add)node).a, found);
+            findMatrices(((Add)node).b, found);
+        }
+    }
+
+    private static class Operand {
+        Matrix matrix;
+        boolean transposed;
+        double scale = 1.0;
+    }
+
+    abstract static class Node {
+        final int numRows, numCols;
+
+        Node( int numRows, int numCols ) {
+            this.numRows = numRows;
+            this.numCols = numCols;
+        }
+    }
+
+    /** A matrix which is optionally transposed */
+    static class Leaf extends Node {
+        final SimpleBase<?> matrix;
+        final boolean transposed;
+
+        Leaf( SimpleBase<?> matrix, boolean transposed ) {
+            super(transposed ? matrix.getNumCols() : matrix.getNumRows(),
+                    transposed ? matrix.getNumRows() : matrix.getNumCols());
+            this.matrix = matrix;
+            this.transposed = transposed;
+        }
+    }
+
+    static class Scale extends Node {
+        final double alpha;
+        final Node input;
+
+        Scale( double alpha, Node input ) {
+            super(input.numRows, input.numCols);
+            this.alpha = alpha;
+            this.input = input;
+        }
+    }
+
+    static class Mult extends Node {
+        final Node a, b;
+
+        Mult( Node a, Node b ) {
+            super(a.numRows, b.numCols);
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    static class Add extends Node {
+        final Node a, b;
+
+        Add( Node a, Node b ) {
+            super(a.numRows, a.numCols);
+            this.a = a;
+            this.b = b;
+        }
+    }
+}
@@ -50,6 +50,40 @@ public interface SimpleOperations<T extends Matrix> extends Serializable {
 
     void multTransA( T A, T B, T output );
 
+    /**
+     * output = alpha*op(A)*op(B), where op() transposes the matrix if its flag is true. The default
+     * implementation transposes into a copy.
+     */
+    default void mult( double alpha, T A, boolean transA, T B, boolean transB, T output ) {
+        T a = transA ? transposed(A) : A;
+        T b = transB ? transposed(B) : B;
+        mult(a, b, output);
+        if (alpha != 1.0)
+            scale(output, alpha, output);
+    }
+
+    /**
+     * output = output + alpha*op(A)*op(B), where op() transposes the matrix if its flag is true. The default
+     * implementation computes the product into a copy and then adds it.
+     */
+    default void multAdd( double alpha, T A, boolean transA, T B, boolean transB, T output ) {
+        T product = output.createLike();
+        mult(alpha, A, transA, B, transB, product);
+        plusEquals(output, 1.0, product);
+    }
+
+    /** A[i,j] = A[i,j] + beta*b[i,j] */
+    default void plusEquals( T A, double beta, T b ) {
+        T copy = A.copy();
+        plus(copy, beta, b, A);
+    }
+
+    private T transposed( T A ) {
+        T ret = A.createLike();
+        transpose(A, ret);
+        return ret;
+    }
+
     void kron( T A, T B, T output );
 
     void plus( T A, T B, T output );
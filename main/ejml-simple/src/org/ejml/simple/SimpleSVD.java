@@ -21,6 +21,8 @@ package org.ejml.simple;
 import org.ejml.UtilEjml;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.FMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.FMatrixSparseCSC;
 import org.ejml.data.Matrix;
 import org.ejml.dense.row.SingularOps_DDRM;
 import org.ejml.dense.row.SingularOps_FDRM;
@@ -29,6 +31,10 @@ import org.ejml.dense.row.factory.DecompositionFactory_FDRM;
 import org.ejml.interfaces.decomposition.SingularValueDecomposition;
 import org.ejml.interfaces.decomposition.SingularValueDecomposition_F32;
 import org.ejml.interfaces.decomposition.SingularValueDecomposition_F64;
+import org.ejml.sparse.csc.decomposition.svd.SvdRandomized_DSCC;
+import org.ejml.sparse.csc.decomposition.svd.SvdRandomized_FSCC;
+import org.ejml.sparse.csc.factory.DecompositionFactory_DSCC;
+import org.ejml.sparse.csc.factory.DecompositionFactory_FSCC;
 
 /**
  * <p>
@@ -56,6 +62,8 @@ public class SimpleSVD<T extends SimpleBase> {
 
     private Matrix mat;
     final boolean is64;
+    // If true then only the largest singular values were computed
+    final boolean truncated;
 
     // tolerance for singular values
     double tol;
@@ -63,6 +71,7 @@ public class SimpleSVD<T extends SimpleBase> {
     public SimpleSVD( Matrix mat, boolean compact ) {
         this.mat = mat;
         this.is64 = mat instanceof DMatrixRMaj;
+        this.truncated = false;
         if (is64) {
             DMatrixRMaj m = (DMatrixRMaj)mat;
             svd = DecompositionFactory_DDRM.svd(m.numRows, m.numCols, true, true, compact);
@@ -73,6 +82,43 @@ public class SimpleSVD<T extends SimpleBase> {
 
         if (!svd.decompose(mat))
             throw new RuntimeException("Decomposition failed");
+        initialize();
+    }
+
+    /**
+     * Computes a truncated SVD using a randomized algorithm. Dense and sparse matrices are supported. U, W, and
+     * V are always dense. Since the smallest singular values are not computed, {@link #rank()},
+     * {@link #nullity()}, and {@link #nullSpace()} are not supported.
+     *
+     * @param mat Matrix being decomposed
+     * @param rank Number of singular values which are computed
+     */
+    public SimpleSVD( Matrix mat, int rank ) {
+        this.mat = mat;
+        this.is64 = mat.getType().getBits() == 64;
+        this.truncated = true;
+        boolean success = switch (mat.getType()) {
+            case DDRM -> (svd = DecompositionFactory_DDRM.svdRandomized(rank)).decompose(mat);
+            case FDRM -> (svd = DecompositionFactory_FDRM.svdRandomized(rank)).decompose(mat);
+            case DSCC -> {
+                SvdRandomized_DSCC alg = DecompositionFactory_DSCC.svdRandomized(rank, 10, 2);
+                svd = alg.getDense();
+                yield alg.decompose((DMatrixSparseCSC)mat);
+            }
+            case FSCC -> {
+                SvdRandomized_FSCC alg = DecompositionFactory_FSCC.svdRandomized(rank, 10, 2);
+                svd = alg.getDense();
+                yield alg.decompose((FMatrixSparseCSC)mat);
+            }
+            default -> throw new UnsupportedOperation("Truncated SVD not supported for " + mat.getType());
+        };
+
+        if (!success)
+            throw new RuntimeException("Decomposition failed");
+        initialize();
+    }
+
+    private void initialize() {
         U = (T)SimpleMatrix.wrap(svd.getU(null, false));
         W = (T)SimpleMatrix.wrap(svd.getW(null));
         V = (T)SimpleMatrix.wrap(svd.getV(null, false));
@@ -137,6 +183,8 @@ public class SimpleSVD<T extends SimpleBase> {
      * @return Quality of the decomposition.
      */
     public /**/double quality() {
+        if (!(mat instanceof DMatrixRMaj || mat instanceof FMatrixRMaj))
+            throw new UnsupportedOperation("Quality is only supported for dense matrices");
         if (is64) {
             return DecompositionFactory_DDRM.quality((DMatrixRMaj)mat, (DMatrixRMaj)U.getMatrix(),
                     (DMatrixRMaj)W.getMatrix(), (DMatrixRMaj)V.transpose().getMatrix());
@@ -150,8 +198,10 @@ public class SimpleSVD<T extends SimpleBase> {
      * Computes the null space from an SVD. For more information see {@link SingularOps_DDRM#nullSpace}.
      *
      * @return Null space vector.
+     * @throws UnsupportedOperation If the SVD is truncated
      */
     public SimpleMatrix nullSpace() {
+        checkNotTruncated();
         // TODO take advantage of the singular values being ordered already
         if (is64) {
             return SimpleMatrix.wrap(SingularOps_DDRM.nullSpace((SingularValueDecomposition_F64)svd, null, tol));
@@ -186,9 +236,11 @@ public class SimpleSVD<T extends SimpleBase> {
      * Returns the rank of the decomposed matrix.
      *
      * @return The matrix's rank
+     * @throws UnsupportedOperation If the SVD is truncated
      * @see SingularOps_DDRM#rank(SingularValueDecomposition_F64, double)
      */
     public int rank() {
+        checkNotTruncated();
         if (is64) {
             return SingularOps_DDRM.rank((SingularValueDecomposition_F64)svd, tol);
         } else {
@@ -200,9 +252,11 @@ public class SimpleSVD<T extends SimpleBase> {
      * The nullity of the decomposed matrix.
      *
      * @return The matrix's nullity
+     * @throws UnsupportedOperation If the SVD is truncated
      * @see SingularOps_DDRM#nullity(SingularValueDecomposition_F64, double)
      */
     public int nullity() {
+        checkNotTruncated();
         if (is64) {
             return SingularOps_DDRM.nullity((SingularValueDecomposition_F64)svd, 10.0*UtilEjml.EPS);
         } else {
@@ -210,6 +264,14 @@ public class SimpleSVD<T extends SimpleBase> {
         }
     }
 
+    /**
+     * Singular values which weren't computed by a truncated SVD can't be assumed to be zero
+     */
+    private void checkNotTruncated() {
+        if (truncated)
+            throw new UnsupportedOperation("Not supported by a truncated SVD since not all singular values are known");
+    }
+
     /**
      * Returns the underlying decomposition that this is a wrapper around.
      *
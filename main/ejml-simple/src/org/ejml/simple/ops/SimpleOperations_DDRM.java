@@ -96,6 +96,56 @@ public class SimpleOperations_DDRM implements SimpleOperations<DMatrixRMaj> {
         }
     }
 
+    @Override public void mult( /**/double alpha, DMatrixRMaj A, boolean transA, DMatrixRMaj B, boolean transB,
+                                DMatrixRMaj output ) {
+        if (useConcurrent(A) || useConcurrent(B)) {
+            if (transA && transB)
+                CommonOps_MT_DDRM.multTransAB((double)alpha, A, B, output);
+            else if (transA)
+                CommonOps_MT_DDRM.multTransA((double)alpha, A, B, output);
+            else if (transB)
+                CommonOps_MT_DDRM.multTransB((double)alpha, A, B, output);
+            else
+                CommonOps_MT_DDRM.mult((double)alpha, A, B, output);
+        } else {
+            if (transA && transB)
+                CommonOps_DDRM.multTransAB((double)alpha, A, B, output);
+            else if (transA)
+                CommonOps_DDRM.multTransA((double)alpha, A, B, output);
+            else if (transB)
+                CommonOps_DDRM.multTransB((double)alpha, A, B, output);
+            else
+                CommonOps_DDRM.mult((double)alpha, A, B, output);
+        }
+    }
+
+    @Override public void multAdd( /**/double alpha, DMatrixRMaj A, boolean transA, DMatrixRMaj B, boolean transB,
+                                   DMatrixRMaj output ) {
+        if (useConcurrent(A) || useConcurrent(B)) {
+            if (transA && transB)
+                CommonOps_MT_DDRM.multAddTransAB((double)alpha, A, B, output);
+            else if (transA)
+                CommonOps_MT_DDRM.multAddTransA((double)alpha, A, B, output);
+            else if (transB)
+                CommonOps_MT_DDRM.multAddTransB((double)alpha, A, B, output);
+            else
+                CommonOps_MT_DDRM.multAdd((double)alpha, A, B, output);
+        } else {
+            if (transA && transB)
+                CommonOps_DDRM.multAddTransAB((double)alpha, A, B, output);
+            else if (transA)
+                CommonOps_DDRM.multAddTransA((double)alpha, A, B, output);
+            else if (transB)
+                CommonOps_DDRM.multAddTransB((double)alpha, A, B, output);
+            else
+                CommonOps_DDRM.multAdd((double)alpha, A, B, output);
+        }
+    }
+
+    @Override public void plusEquals( DMatrixRMaj A, /**/double beta, DMatrixRMaj b ) {
+        CommonOps_DDRM.addEquals(A, (double)beta, b);
+    }
+
     @Override public void kron( DMatrixRMaj A, DMatrixRMaj B, DMatrixRMaj output ) {
         CommonOps_DDRM.kron(A, B, output);
     }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.*;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestOperationFixed extends EjmlStandardJUnit {
+    /**
+     * Compares against dense operations for each supported dimension
+     */
+    @Test
+    void allDimensions() {
+        for (int N = 2; N <= 6; N++) {
+            DMatrixFixed A = createMatrix(N, N);
+            DMatrixFixed B = createMatrix(N, N);
+            DMatrixFixed x = createMatrix(N, 1);
+            DMatrixFixed y = createMatrix(N, 1);
+
+            Equation eq = new Equation();
+            eq.alias(A, "A", B, "B", x, "x", y, "y");
+
+            eq.process("C = A*B + A' - 2*B");
+            assertTrue(eq.lookupVariable("C") instanceof VariableFixed);
+            assertSame(A.getClass(), eq.lookupFixed("C").getClass());
+            DMatrixRMaj expected = CommonOps_DDRM.mult(dense(A), dense(B), null);
+            CommonOps_DDRM.addEquals(expected, CommonOps_DDRM.transpose(dense(A), null));
+            CommonOps_DDRM.addEquals(expected, -2.0, dense(B));
+            check(expected, eq.lookupFixed("C"));
+
+            eq.process("v = -(A*x) + y/2");
+            assertSame(x.getClass(), eq.lookupFixed("v").getClass());
+            expected = CommonOps_DDRM.mult(dense(A), dense(x), null);
+            CommonOps_DDRM.scale(-1.0, expected);
+            CommonOps_DDRM.addEquals(expected, 0.5, dense(y));
+            check(expected, eq.lookupFixed("v"));
+
+            eq.process("v = x - y");
+            check(CommonOps_DDRM.subtract(dense(x), dense(y), null), eq.lookupFixed("v"));
+
+            eq.process("d = det(A)");
+            assertEquals(CommonOps_DDRM.det(dense(A)), eq.lookupDouble("d"), UtilEjml.TEST_F64);
+            eq.process("t = trace(A)");
+            assertEquals(CommonOps_DDRM.trace(dense(A)), eq.lookupDouble("t"), UtilEjml.TEST_F64);
+
+            eq.process("Ai = inv(A)");
+            DMatrixRMaj inv = new DMatrixRMaj(N, N);
+            assertTrue(CommonOps_DDRM.invert(dense(A), inv));
+            assertTrue(MatrixFeatures_DDRM.isIdentical(inv, dense(eq.lookupFixed("Ai")), UtilEjml.TEST_F64_SQ));
+        }
+    }
+
+    @Test
+    void copy() {
+        DMatrix3x3 A = (DMatrix3x3)createMatrix(3, 3);
+        DMatrix3x3 F = new DMatrix3x3();
+        DMatrixRMaj D = RandomMatrices_DDRM.rectangle(3, 3, rand);
+        DMatrixRMaj R = new DMatrixRMaj(1, 1);
+
+        Equation eq = new Equation();
+        eq.alias(A, "A", F, "F", D, "D", R, "R");
+
+        eq.process("R = A'");
+        check(CommonOps_DDRM.transpose(dense(A), null), R);
+
+        eq.process("F = D");
+        check(D, F);
+
+        eq.process("F = A");
+        check(dense(A), F);
+    }
+
+    @Test
+    void mismatch() {
+        Equation eq = new Equation();
+        eq.alias(new DMatrix3x3(), "A", new DMatrix4x4(), "B", new DMatrix3(), "x");
+        eq.alias(new DMatrixRMaj(3, 3), "D");
+
+        assertThrows(MatrixDimensionException.class, () -> eq.process("C = A*B"));
+        assertThrows(MatrixDimensionException.class, () -> eq.process("C = A + B"));
+        assertThrows(MatrixDimensionException.class, () -> eq.process("C = x*A"));
+        assertThrows(MatrixDimensionException.class, () -> eq.process("C = B*D"));
+    }
+
+    /**
+     * Rectangular matrices use RectangularOps_DDF. Products of two matrices are computed using dense matrices.
+     */
+    @Test
+    void rectangular() {
+        DMatrix2x3 A = new DMatrix2x3();
+        DMatrix2x3 B = new DMatrix2x3();
+        DMatrix3 x = new DMatrix3();
+        A.setTo(RandomMatrices_DDRM.rectangle(2, 3, rand));
+        B.setTo(RandomMatrices_DDRM.rectangle(2, 3, rand));
+        x.setTo(RandomMatrices_DDRM.rectangle(3, 1, rand));
+
+        Equation eq = new Equation();
+        eq.alias(A, "A", B, "B", x, "x");
+        assertTrue(eq.lookupVariable("A") instanceof VariableFixed);
+
+        eq.process("C = A - 2*B");
+        assertSame(DMatrix2x3.class, eq.lookupFixed("C").getClass());
+        DMatrixRMaj expected = dense(A);
+        CommonOps_DDRM.addEquals(expected, -2.0, dense(B));
+        check(expected, eq.lookupFixed("C"));
+
+        eq.process("v = A*x");
+        assertSame(DMatrix2.class, eq.lookupFixed("v").getClass());
+        check(CommonOps_DDRM.mult(dense(A), dense(x), null), eq.lookupFixed("v"));
+
+        eq.process("T = A'");
+        assertSame(DMatrix3x2.class, eq.lookupFixed("T").getClass());
+        check(CommonOps_DDRM.transpose(dense(A), null), eq.lookupFixed("T"));
+
+        eq.process("P = A*B'");
+        assertTrue(eq.lookupVariable("P") instanceof VariableMatrix);
+        check(CommonOps_DDRM.multTransB(dense(A), dense(B), null), eq.lookupDDRM("P"));
+    }
+
+    /**
+     * Operations without a fixed sized kernel are applied to a dense copy
+     */
+    @Test
+    void denseFallback() {
+        DMatrixFixed A = createMatrix(3, 3);
+        DMatrixRMaj x = RandomMatrices_DDRM.rectangle(3, 1, rand);
+        DMatrixRMaj D = RandomMatrices_DDRM.rectangle(3, 3, rand);
+
+        Equation eq = new Equation();
+        eq.alias(A, "A", x, "x", D, "D");
+
+        eq.process("y = A*x");
+        assertTrue(eq.lookupVariable("y") instanceof VariableMatrix);
+        check(CommonOps_DDRM.mult(dense(A), x, null), eq.lookupDDRM("y"));
+
+        eq.process("C = A*D + D");
+        DMatrixRMaj expected = CommonOps_DDRM.mult(dense(A), D, null);
+        CommonOps_DDRM.addEquals(expected, D);
+        check(expected, eq.lookupDDRM("C"));
+
+        eq.process("C = A + 1");
+        check(CommonOps_DDRM.add(dense(A), 1.0, null), eq.lookupDDRM("C"));
+
+        eq.process("C = A .* A");
+        check(CommonOps_DDRM.elementMult(dense(A), dense(A), null), eq.lookupDDRM("C"));
+
+        eq.process("n = normF(A)");
+        assertEquals(NormOps_DDRM.normF(dense(A)), eq.lookupDouble("n"), UtilEjml.TEST_F64);
+
+        eq.process("a = A(0,1)");
+        assertEquals(A.get(0, 1), eq.lookupDouble("a"), UtilEjml.TEST_F64);
+
+        eq.process("C = [A A]");
+        check(CommonOps_DDRM.concatColumnsMulti(dense(A), dense(A)), eq.lookupDDRM("C"));
+
+        // a dense copy is returned
+        check(dense(A), eq.lookupDDRM("A"));
+
+        // the sub-matrix is written into a dense copy which is then copied back
+        DMatrixRMaj before = dense(A);
+        eq.process("A(0,1) = 5");
+        assertTrue(eq.lookupVariable("A") instanceof VariableFixed);
+        before.set(0, 1, 5.0);
+        check(before, A);
+    }
+
+    private DMatrixFixed createMatrix( int numRows, int numCols ) {
+        DMatrixRMaj M = RandomMatrices_DDRM.rectangle(numRows, numCols, rand);
+        DMatrixFixed ret = numCols == 1 ? createVector(numRows) : createSquare(numRows);
+        ret.setTo(M);
+        return ret;
+    }
+
+    private static DMatrixFixed createSquare( int N ) {
+        return new DMatrixFixed[]{new DMatrix2x2(), new DMatrix3x3(), new DMatrix4x4(), new DMatrix5x5(),
+                new DMatrix6x6()}[N - 2];
+    }
+
+    private static DMatrixFixed createVector( int N ) {
+        return new DMatrixFixed[]{new DMatrix2(), new DMatrix3(), new DMatrix4(), new DMatrix5(),
+                new DMatrix6()}[N - 2];
+    }
+
+    private static DMatrixRMaj dense( DMatrix m ) {
+        DMatrixRMaj ret = new DMatrixRMaj(1, 1);
+        DConvertMatrixStruct.convert(m, ret);
+        return ret;
+    }
+
+    private static void check( DMatrixRMaj expected, DMatrix found ) {
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, dense(found), UtilEjml.TEST_F64));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrix4x4;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.ejml.sparse.csc.RandomMatrices_DSCC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestOperationSparse extends EjmlStandardJUnit {
+    DMatrixSparseCSC A = RandomMatrices_DSCC.rectangle(5, 4, 8, rand);
+    DMatrixSparseCSC B = RandomMatrices_DSCC.rectangle(4, 3, 6, rand);
+    DMatrixSparseCSC C = RandomMatrices_DSCC.rectangle(5, 4, 7, rand);
+    DMatrixRMaj D = RandomMatrices_DDRM.rectangle(4, 3, rand);
+    DMatrixRMaj E = RandomMatrices_DDRM.rectangle(5, 4, rand);
+
+    @Test
+    void multiply() {
+        Equation eq = createEquation();
+
+        eq.process("R = A*B");
+        assertTrue(eq.lookupVariable("R") instanceof VariableSparse);
+        check(CommonOps_DDRM.mult(dense(A), dense(B), null), eq.lookupDSCC("R"));
+
+        // mixing sparse and dense produces a dense matrix
+        eq.process("P = A*D");
+        assertTrue(eq.lookupVariable("P") instanceof VariableMatrix);
+        check(CommonOps_DDRM.mult(dense(A), D, null), eq.lookupDDRM("P"));
+
+        eq.process("Q = E*B");
+        assertTrue(eq.lookupVariable("Q") instanceof VariableMatrix);
+        check(CommonOps_DDRM.mult(E, dense(B), null), eq.lookupDDRM("Q"));
+    }
+
+    @Test
+    void scalar() {
+        Equation eq = createEquation();
+
+        eq.process("R = 2*A");
+        DMatrixRMaj expected = scale(2.0, A);
+        check(expected, eq.lookupDSCC("R"));
+
+        eq.process("R = A*2");
+        check(expected, eq.lookupDSCC("R"));
+
+        eq.process("R = A/2");
+        check(scale(0.5, A), eq.lookupDSCC("R"));
+
+        eq.process("R = -A");
+        check(scale(-1.0, A), eq.lookupDSCC("R"));
+    }
+
+    @Test
+    void add_subtract() {
+        Equation eq = createEquation();
+
+        eq.process("R = A + C");
+        assertTrue(eq.lookupVariable("R") instanceof VariableSparse);
+        check(CommonOps_DDRM.add(dense(A), dense(C), null), eq.lookupDSCC("R"));
+
+        eq.process("R = A - C");
+        check(CommonOps_DDRM.subtract(dense(A), dense(C), null), eq.lookupDSCC("R"));
+
+        eq.process("P = A - E");
+        assertTrue(eq.lookupVariable("P") instanceof VariableMatrix);
+        check(CommonOps_DDRM.subtract(dense(A), E, null), eq.lookupDDRM("P"));
+
+        eq.process("P = E - A");
+        check(CommonOps_DDRM.subtract(E, dense(A), null), eq.lookupDDRM("P"));
+
+        eq.process("P = E + A");
+        check(CommonOps_DDRM.add(E, dense(A), null), eq.lookupDDRM("P"));
+    }
+
+    @Test
+    void transpose() {
+        Equation eq = createEquation();
+
+        eq.process("R = A'*C");
+        assertTrue(eq.lookupVariable("R") instanceof VariableSparse);
+        check(CommonOps_DDRM.multTransA(dense(A), dense(C), null), eq.lookupDSCC("R"));
+    }
+
+    /**
+     * Assigning to a variable of a different type converts the results
+     */
+    @Test
+    void copy() {
+        Equation eq = createEquation();
+        DMatrixRMaj dst = new DMatrixRMaj(1, 1);
+        DMatrixSparseCSC dstSparse = new DMatrixSparseCSC(1, 1, 0);
+        eq.alias(dst, "R", dstSparse, "S");
+
+        eq.process("R = A*B");
+        check(CommonOps_DDRM.mult(dense(A), dense(B), null), dst);
+
+        eq.process("S = E");
+        check(E, dstSparse);
+
+        eq.process("S = C");
+        check(dense(C), dstSparse);
+    }
+
+    /**
+     * Operations without a sparse kernel are applied to a dense copy
+     */
+    @Test
+    void denseFallback() {
+        Equation eq = createEquation();
+        DMatrixRMaj M = RandomMatrices_DDRM.rectangle(4, 4, rand);
+        DMatrix4x4 F = new DMatrix4x4();
+        F.setTo(RandomMatrices_DDRM.rectangle(4, 4, rand));
+        eq.alias(DConvertMatrixStruct.convert(M, (DMatrixSparseCSC)null, 0.0), "S", F, "F");
+
+        eq.process("R = A*F");
+        check(CommonOps_DDRM.mult(dense(A), dense(F), null), eq.lookupDDRM("R"));
+
+        eq.process("R = 2 + A");
+        DMatrixRMaj expected = dense(A);
+        CommonOps_DDRM.add(expected, 2.0, expected);
+        check(expected, eq.lookupDDRM("R"));
+
+        eq.process("R = A .* C");
+        check(CommonOps_DDRM.elementMult(dense(A), dense(C), null), eq.lookupDDRM("R"));
+
+        eq.process("R = inv(S)");
+        DMatrixRMaj inv = new DMatrixRMaj(4, 4);
+        assertTrue(CommonOps_DDRM.invert(M, inv));
+        assertTrue(MatrixFeatures_DDRM.isIdentical(inv, eq.lookupDDRM("R"), UtilEjml.TEST_F64_SQ));
+
+        eq.process("n = normF(A)");
+        assertEquals(NormOps_DDRM.normF(dense(A)), eq.lookupDouble("n"), UtilEjml.TEST_F64);
+
+        eq.process("x = A(1,2)");
+        assertEquals(A.get(1, 2), eq.lookupDouble("x"), UtilEjml.TEST_F64);
+
+        eq.process("R = A(1:2,0:1)");
+        check(CommonOps_DDRM.extract(dense(A), 1, 3, 0, 2), eq.lookupDDRM("R"));
+
+        eq.process("R = [A E]");
+        check(CommonOps_DDRM.concatColumnsMulti(dense(A), E), eq.lookupDDRM("R"));
+
+        eq.process("R = -A'");
+        assertTrue(eq.lookupVariable("R") instanceof VariableMatrix);
+        check(scale(-1.0, CommonOps_DDRM.transpose(dense(A), null)), eq.lookupDDRM("R"));
+
+        // a dense copy is returned
+        check(dense(A), eq.lookupDDRM("A"));
+
+        // the sub-matrix is written into a dense copy which is then copied back
+        eq.process("S(1,2) = 7");
+        assertTrue(eq.lookupVariable("S") instanceof VariableSparse);
+        assertEquals(7.0, eq.lookupDSCC("S").get(1, 2));
+        M.set(1, 2, 7.0);
+        check(M, eq.lookupDSCC("S"));
+    }
+
+    private Equation createEquation() {
+        Equation eq = new Equation();
+        eq.alias(A, "A", B, "B", C, "C", D, "D", E, "E");
+        return eq;
+    }
+
+    private static DMatrixRMaj dense( DMatrixSparseCSC m ) {
+        return DConvertMatrixStruct.convert(m, (DMatrixRMaj)null);
+    }
+
+    private static DMatrixRMaj dense( DMatrix4x4 m ) {
+        DMatrixRMaj ret = new DMatrixRMaj(4, 4);
+        DConvertMatrixStruct.convert(m, ret);
+        return ret;
+    }
+
+    private static DMatrixRMaj scale( double alpha, DMatrixSparseCSC m ) {
+        return scale(alpha, dense(m));
+    }
+
+    private static DMatrixRMaj scale( double alpha, DMatrixRMaj m ) {
+        CommonOps_DDRM.scale(alpha, m);
+        return m;
+    }
+
+    private static void check( DMatrixRMaj expected, DMatrixSparseCSC found ) {
+        check(expected, dense(found));
+    }
+
+    private static void check( DMatrixRMaj expected, DMatrixRMaj found ) {
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, found, UtilEjml.TEST_F64));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.concurrency.EjmlConcurrency;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParallelSequence extends EjmlStandardJUnit {
+    @Test void independentStatements() {
+        Equation eq = createEquation();
+        ParallelSequence p = eq.compileParallel("a = A*B", "b = C*D", "c = a + b");
+
+        // both multiplications, both copies, the addition, and its copy
+        assertEquals(4, p.getLevelCount());
+        assertEquals(2, p.getLevelSize(0));
+        assertEquals(2, p.getLevelSize(1));
+        assertEquals(1, p.getLevelSize(2));
+        assertEquals(1, p.getLevelSize(3));
+
+        checkAgainstSequential("a = A*B", "b = C*D", "c = a + b");
+    }
+
+    /**
+     * A later statement writes to a variable which an earlier statement reads
+     */
+    @Test void writeAfterRead() {
+        Equation eq = createEquation();
+        ParallelSequence p = eq.compileParallel("a = A*B", "A = C*D");
+        // A*B and C*D are independent but the copy into A must happen after A*B
+        assertEquals(2, p.getLevelSize(0));
+        assertEquals(2, p.getLevelCount());
+
+        checkAgainstSequential("a = A*B", "A = C*D", "b = A + a");
+    }
+
+    @Test void writeAfterWrite() {
+        checkAgainstSequential("a = A + B", "a = C + D", "b = a*2");
+        checkAgainstSequential("a = A + B", "b = a'", "a = C*D", "c = a + b");
+    }
+
+    @Test void commonSubexpressions() {
+        checkAgainstSequential("a = A*B + C", "b = A*B - C", "c = (A*B)' + a");
+    }
+
+    /**
+     * Sub-matrices reference integer sequences, user functions can do anything, and random numbers must be
+     * generated in the same order
+     */
+    @Test void barriers() {
+        checkAgainstSequential("a = A(0:2,:)", "B(1:3,:) = a", "b = B + C", "c = A(1:,1)");
+        checkAgainstSequential("a = rand(4,4)", "b = randn(4,4)", "c = a + b");
+
+        Equation eq = createEquation();
+        eq.getFunctions().add1("myfunc", ( A, manager ) -> {
+            Operation.Info ret = new Operation.Info();
+            final VariableMatrix output = manager.createMatrix();
+            ret.output = output;
+            ret.op = new Operation("myfunc-m") {
+                @Override public void process() {
+                    output.matrix.setTo(((VariableMatrix)A).matrix);
+                }
+            };
+            return ret;
+        });
+        ParallelSequence p = eq.compileParallel("a = A*B", "b = myfunc(C)", "c = C*D");
+        // a = A*B, then the copy into 'a', myfunc, copy into b, then c = C*D
+        assertEquals(1, p.getLevelSize(0));
+        assertEquals(5, p.getLevelCount());
+    }
+
+    /**
+     * Force the concurrent implementations to be used for all matrix multiplications
+     */
+    @Test void concurrentKernels() {
+        int original = EjmlConcurrency.ELEMENT_THRESHOLD;
+        try {
+            EjmlConcurrency.ELEMENT_THRESHOLD = 0;
+            checkAgainstSequential("a = A*B", "b = A'*B'", "c = C*D' + A", "C = a' - b*c");
+        } finally {
+            EjmlConcurrency.ELEMENT_THRESHOLD = original;
+        }
+    }
+
+    /**
+     * Only operations which are alone in their level should use the concurrent kernels, otherwise the parallel
+     * loops would be nested
+     */
+    @Test void concurrentOnlyWhenAlone() {
+        Equation eq = createEquation();
+        ParallelSequence p = eq.compileParallel("a = A*B", "b = C*D", "c = a + b");
+
+        for (int level = 0; level < p.getLevelCount(); level++) {
+            for (Operation op : p.levels.get(level)) {
+                assertEquals(p.getLevelSize(level) == 1, op.concurrent);
+            }
+        }
+    }
+
+    /**
+     * Compiling in parallel should not modify the equation's optimizer
+     */
+    @Test void optimizerUnmodified() {
+        Equation eq = createEquation();
+        eq.optimizer.recycleTemporary = true;
+        eq.compileParallel("a = A*B", "b = C*D");
+        assertTrue(eq.optimizer.recycleTemporary);
+    }
+
+    @Test void notConcurrent() {
+        boolean original = EjmlConcurrency.USE_CONCURRENT;
+        try {
+            EjmlConcurrency.USE_CONCURRENT = false;
+            checkAgainstSequential("a = A*B", "b = C*D", "c = a + b");
+        } finally {
+            EjmlConcurrency.USE_CONCURRENT = original;
+        }
+    }
+
+    /**
+     * Performs the statements several times both sequentially and in parallel then compares the results
+     */
+    private void checkAgainstSequential( String... statements ) {
+        Equation seq = createEquation();
+        Equation par = createEquation();
+
+        Sequence[] sequences = new Sequence[statements.length];
+        for (int i = 0; i < statements.length; i++) {
+            sequences[i] = seq.compile(statements[i]);
+        }
+        ParallelSequence parallel = par.compileParallel(statements);
+
+        for (int trial = 0; trial < 3; trial++) {
+            for (Sequence s : sequences) {
+                s.perform();
+            }
+            parallel.perform();
+
+            for (String name : new String[]{"A", "B", "C", "D", "a", "b", "c"}) {
+                if (seq.lookupVariable(name) == null)
+                    continue;
+                assertTrue(MatrixFeatures_DDRM.isIdentical(
+                        seq.lookupDDRM(name), par.lookupDDRM(name), UtilEjml.TEST_F64), name);
+            }
+        }
+    }
+
+    private Equation createEquation() {
+        var random = new Random(234);
+        Equation eq = new Equation();
+        eq.alias(RandomMatrices_DDRM.rectangle(4, 4, random), "A", RandomMatrices_DDRM.rectangle(4, 4, random), "B");
+        eq.alias(RandomMatrices_DDRM.rectangle(4, 4, random), "C", RandomMatrices_DDRM.rectangle(4, 4, random), "D");
+        return eq;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.equation;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSequenceOptimizer extends EjmlStandardJUnit {
+    DMatrixRMaj A = RandomMatrices_DDRM.rectangle(4, 3, rand);
+    DMatrixRMaj B = RandomMatrices_DDRM.rectangle(3, 4, rand);
+    DMatrixRMaj S = RandomMatrices_DDRM.rectangle(4, 4, rand);
+    DMatrixRMaj Q = RandomMatrices_DDRM.rectangle(4, 4, rand);
+
+    @Test
+    void foldTranspose() {
+        checkAgainstUnoptimized("C = A'*B'", "multTransAB-mm", "copy-mm");
+        checkAgainstUnoptimized("C = A'*S", "multTransA-mm", "copy-mm");
+        checkAgainstUnoptimized("C = S*B'", "multTransB-mm", "copy-mm");
+        // all three transposes are the same and it's used several times so it can't be removed
+        checkAgainstUnoptimized("C = S'*S' + S'", "transpose-m", "multAdd-mm", "copy-mm");
+    }
+
+    @Test
+    void fuseMultAdd() {
+        checkAgainstUnoptimized("C = S*Q*S' + Q", "multiply-mm", "multAddTransB-mm", "copy-mm");
+        checkAgainstUnoptimized("C = Q + A*B", "multAdd-mm", "copy-mm");
+        checkAgainstUnoptimized("C = Q - A*B", "multAdd-mm", "copy-mm");
+        checkAgainstUnoptimized("C = A*B - Q", "multAdd-mm", "copy-mm");
+        checkAgainstUnoptimized("C = B'*A' - Q", "multAddTransAB-mm", "copy-mm");
+    }
+
+    @Test
+    void fuseMultAdd_badShape() {
+        Equation eq = new Equation();
+        eq.alias(A, "A", B, "B", new DMatrixRMaj(3, 3), "C", new DMatrixRMaj(4, 1), "D");
+        assertThrows(MatrixDimensionException.class, () -> eq.process("C = A*B + D"));
+    }
+
+    @Test
+    void commonSubexpression() {
+        checkAgainstUnoptimized("C = A*B + A*B", "multiply-mm", "add-mm", "copy-mm");
+        // the first two multiplications are identical and so are the two expressions they are used in
+        checkAgainstUnoptimized("C = (A*B)*S + (A*B)*S", "multiply-mm", "multiply-mm", "add-mm", "copy-mm");
+        // same operation but different order of inputs
+        checkAgainstUnoptimized("C = S*Q + Q*S", "multiply-mm", "multAdd-mm", "copy-mm");
+    }
+
+    @Test
+    void recycleTemporary() {
+        Equation eq = new Equation();
+        eq.alias(S, "S", Q, "Q", new DMatrixRMaj(1, 1), "C");
+
+        Sequence sequence = eq.compile("C = ((S .* Q) + S) .* Q");
+        assertEquals(List.of("elementMult-mm", "add-mm", "elementMult-mm", "copy-mm"), names(sequence));
+
+        // The first temporary is dead by the time the third is computed
+        DMatrixRMaj t0 = outputMatrix(sequence, 0);
+        DMatrixRMaj t1 = outputMatrix(sequence, 1);
+        DMatrixRMaj t2 = outputMatrix(sequence, 2);
+        assertSame(t0, t2);
+        assertNotSame(t0, t1);
+
+        sequence.perform();
+        DMatrixRMaj expected = new DMatrixRMaj(4, 4);
+        for (int i = 0; i < expected.getNumElements(); i++) {
+            expected.data[i] = (S.data[i]*Q.data[i] + S.data[i])*Q.data[i];
+        }
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, eq.lookupDDRM("C"), UtilEjml.TEST_F64));
+    }
+
+    /**
+     * Temporaries used by functions the optimizer doesn't know about must not be touched
+     */
+    @Test
+    void recycleTemporary_userFunction() {
+        Equation eq = new Equation();
+        eq.getFunctions().add1("myfunc", ( A, manager ) -> {
+            Operation.Info ret = new Operation.Info();
+            final VariableMatrix output = manager.createMatrix();
+            ret.output = output;
+            ret.op = new Operation("myfunc-m") {
+                @Override public void process() {
+                    output.matrix.setTo(((VariableMatrix)A).matrix);
+                }
+            };
+            return ret;
+        });
+        eq.alias(S, "S", Q, "Q", new DMatrixRMaj(1, 1), "C");
+
+        Sequence sequence = eq.compile("C = myfunc(S .* Q) .* Q");
+        DMatrixRMaj t0 = outputMatrix(sequence, 0);
+        DMatrixRMaj t1 = outputMatrix(sequence, 1);
+        DMatrixRMaj t2 = outputMatrix(sequence, 2);
+        assertNotSame(t0, t2);
+        assertNotSame(t1, t2);
+    }
+
+    /**
+     * User defined functions with the same name as a built in operation must not be treated like one
+     */
+    @Test
+    void userFunctionWithBuiltInName() {
+        Equation eq = new Equation();
+        eq.getFunctions().add1("mytrans", ( A, manager ) -> {
+            Operation.Info ret = new Operation.Info();
+            final VariableMatrix output = manager.createMatrix();
+            ret.output = output;
+            ret.op = new Operation("transpose-m") {
+                @Override public void process() {
+                    CommonOps_DDRM.transpose(((VariableMatrix)A).matrix, output.matrix);
+                }
+            };
+            return ret;
+        });
+        eq.alias(S, "S", Q, "Q", new DMatrixRMaj(1, 1), "C");
+
+        Sequence sequence = eq.compile("C = mytrans(S)*Q + mytrans(S)*Q");
+        assertEquals(List.of("transpose-m", "transpose-m", "multiply-mm", "multAdd-mm", "copy-mm"), names(sequence));
+
+        sequence.perform();
+        DMatrixRMaj expected = new DMatrixRMaj(4, 4);
+        CommonOps_DDRM.multTransA(S, Q, expected);
+        CommonOps_DDRM.scale(2.0, expected);
+        assertTrue(MatrixFeatures_DDRM.isIdentical(expected, eq.lookupDDRM("C"), UtilEjml.TEST_F64));
+    }
+
+    /**
+     * Run a Kalman filter several times with the optimized and unoptimized sequences while changing the inputs
+     */
+    @Test
+    void kalman() {
+        Equation[] eqs = new Equation[]{new Equation(), new Equation()};
+        eqs[1].setOptimize(false);
+
+        DMatrixRMaj F = RandomMatrices_DDRM.rectangle(6, 6, rand);
+        DMatrixRMaj Qk = RandomMatrices_DDRM.symmetricPosDef(6, rand);
+        DMatrixRMaj H = RandomMatrices_DDRM.rectangle(3, 6, rand);
+        DMatrixRMaj R = RandomMatrices_DDRM.symmetricPosDef(3, rand);
+
+        List<List<Sequence>> sequences = new ArrayList<>();
+        for (Equation eq : eqs) {
+            eq.alias(F.copy(), "F", Qk.copy(), "Q", H.copy(), "H", R.copy(), "R",
+                    RandomMatrices_DDRM.symmetricPosDef(6, new Random(2)), "P",
+                    new DMatrixRMaj(6, 1), "x", new DMatrixRMaj(3, 1), "z");
+            eq.alias(new DMatrixRMaj(1, 1), "K", new DMatrixRMaj(1, 1), "y");
+
+            List<Sequence> list = new ArrayList<>();
+            list.add(eq.compile("x = F*x"));
+            list.add(eq.compile("P = F*P*F' + Q"));
+            list.add(eq.compile("K = P*H'*inv( H*P*H' + R )"));
+            list.add(eq.compile("y = z - H*x"));
+            list.add(eq.compile("x = x + K*y"));
+            list.add(eq.compile("P = P - K*(H*P)"));
+            sequences.add(list);
+        }
+
+        for (int trial = 0; trial < 5; trial++) {
+            DMatrixRMaj z = RandomMatrices_DDRM.rectangle(3, 1, rand);
+            for (int i = 0; i < eqs.length; i++) {
+                eqs[i].lookupDDRM("z").setTo(z);
+                for (Sequence s : sequences.get(i)) {
+                    s.perform();
+                }
+            }
+            for (String name : new String[]{"x", "P", "K", "y"}) {
+                assertTrue(MatrixFeatures_DDRM.isIdentical(
+                        eqs[1].lookupDDRM(name), eqs[0].lookupDDRM(name), UtilEjml.TEST_F64), name);
+            }
+        }
+    }
+
+    @Test
+    void disabled() {
+        Equation eq = new Equation();
+        eq.setOptimize(false);
+        eq.alias(S, "S", Q, "Q", new DMatrixRMaj(1, 1), "C");
+
+        Sequence sequence = eq.compile("C = S*Q*S' + Q");
+        assertEquals(List.of("transpose-m", "multiply-mm", "multiply-mm", "add-mm", "copy-mm"), names(sequence));
+    }
+
+    /**
+     * Compiles the equation with and without optimization, checks the names of the optimized operations, then
+     * makes sure both produce the same result
+     */
+    private void checkAgainstUnoptimized( String equation, String... expected ) {
+        DMatrixRMaj[] results = new DMatrixRMaj[2];
+        for (int i = 0; i < 2; i++) {
+            Equation eq = new Equation();
+            eq.setOptimize(i == 0);
+            eq.alias(A, "A", B, "B", S, "S", Q, "Q", new DMatrixRMaj(1, 1), "C");
+
+            Sequence sequence = eq.compile(equation);
+            if (i == 0)
+                assertEquals(List.of(expected), names(sequence), equation);
+            sequence.perform();
+            results[i] = eq.lookupDDRM("C");
+        }
+        assertTrue(MatrixFeatures_DDRM.isIdentical(results[1], results[0], UtilEjml.TEST_F64), equation);
+    }
+
+    private static List<String> names( Sequence sequence ) {
+        List<String> names = new ArrayList<>();
+        for (Operation op : sequence.operations) {
+            names.add(op.name());
+        }
+        return names;
+    }
+
+    private static DMatrixRMaj outputMatrix( Sequence sequence, int index ) {
+        return ((VariableMatrix)sequence.operations.get(index).outputVariable).matrix;
+    }
+}
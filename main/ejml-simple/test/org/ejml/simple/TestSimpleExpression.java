@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simple;
+
+import org.ejml.EjmlStandardJUnit;
+import org.ejml.MatrixDimensionException;
+import org.ejml.UtilEjml;
+import org.ejml.data.MatrixType;
+import org.ejml.dense.row.RandomMatrices_ZDRM;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSimpleExpression extends EjmlStandardJUnit {
+    SimpleMatrix A = SimpleMatrix.random_DDRM(5, 4, -1, 1, rand);
+    SimpleMatrix B = SimpleMatrix.random_DDRM(5, 3, -1, 1, rand);
+    SimpleMatrix C = SimpleMatrix.random_DDRM(4, 3, -1, 1, rand);
+    SimpleMatrix S = SimpleMatrix.random_DDRM(4, 4, -1, 1, rand);
+
+    /**
+     * Compare against the eagerly evaluated operations
+     */
+    @Test void compareToEager() {
+        check(A.transpose().mult(B).plus(C.scale(2)),
+                A.lazy().transpose().mult(B).plus(C.lazy().scale(2)));
+        check(A.transpose().mult(B).plus(2, C),
+                A.lazy().transpose().mult(B).plus(2, C));
+        check(C.minus(A.transpose().mult(B)),
+                C.lazy().minus(A.lazy().transpose().mult(B)));
+        check(B.transpose().mult(A).transpose().scale(-0.5),
+                B.lazy().transpose().mult(A).transpose().scale(-0.5));
+        check(A.mult(A.transpose()).transpose(),
+                A.lazy().mult(A.lazy().transpose()).transpose());
+        check(S.mult(S.plus(S.transpose())).minus(S),
+                S.lazy().mult(S.lazy().plus(S.lazy().transpose())).minus(S));
+        check(S.transpose().scale(3).plus(S).plus(S.transpose()),
+                S.lazy().transpose().scale(3).plus(S).plus(S.lazy().transpose()));
+        check(S.mult(S).mult(S).negative(),
+                S.lazy().mult(S).mult(S).negative());
+    }
+
+    /**
+     * The expression references the matrices and doesn't copy them
+     */
+    @Test void evalMultipleTimes() {
+        SimpleExpression<SimpleMatrix> e = A.lazy().transpose().mult(B).plus(C);
+        check(A.transpose().mult(B).plus(C), e);
+
+        A.set(1, 2, 10.0);
+        check(A.transpose().mult(B).plus(C), e);
+    }
+
+    @Test void eval_output() {
+        SimpleMatrix expected = S.mult(S).plus(S);
+        var output = new SimpleMatrix(4, 4);
+        S.lazy().mult(S).plus(S).eval(output);
+        assertTrue(expected.isIdentical(output, UtilEjml.TEST_F64));
+
+        // output is also an input
+        S.lazy().mult(S).plus(S).eval(S);
+        assertTrue(expected.isIdentical(S, UtilEjml.TEST_F64));
+
+        assertThrows(MatrixDimensionException.class, () -> S.lazy().mult(S).eval(new SimpleMatrix(3, 4)));
+    }
+
+    @Test void badShape() {
+        assertThrows(MatrixDimensionException.class, () -> A.lazy().mult(B));
+        assertThrows(MatrixDimensionException.class, () -> A.lazy().plus(B));
+        assertEquals(4, A.lazy().transpose().mult(B).getNumRows());
+        assertEquals(3, A.lazy().transpose().mult(B).getNumCols());
+    }
+
+    /**
+     * Matrices of different types are converted into a common type
+     */
+    @Test void mixedTypes() {
+        SimpleMatrix F = SimpleMatrix.random_FDRM(4, 3, -1, 1, rand);
+        SimpleMatrix result = F.lazy().plus(C).eval();
+        assertSame(MatrixType.DDRM, result.getType());
+        assertTrue(C.plus(F).isIdentical(result, UtilEjml.TEST_F32));
+
+        result = F.lazy().transpose().mult(F).scale(2).eval();
+        assertSame(MatrixType.FDRM, result.getType());
+        assertTrue(F.transpose().mult(F).scale(2).isIdentical(result, UtilEjml.TEST_F32));
+    }
+
+    /**
+     * Types which use the default implementations in SimpleOperations
+     */
+    @Test void otherTypes() {
+        for (SimpleMatrix M : new SimpleMatrix[]{
+                new SimpleMatrix(RandomMatrices_ZDRM.rectangle(4, 4, -1, 1, rand)),
+                new SimpleMatrix(SimpleMatrix.random_DDRM(4, 4, -1, 1, rand).getDSCC())}) {
+            check(M.transpose().mult(M).plus(M.scale(2)).minus(M.transpose()),
+                    M.lazy().transpose().mult(M).plus(M.lazy().scale(2)).minus(M.lazy().transpose()));
+        }
+    }
+
+    private static void check( SimpleMatrix expected, SimpleExpression<SimpleMatrix> expression ) {
+        SimpleMatrix found = expression.eval();
+        assertEquals(expected.getType(), found.getType());
+        assertTrue(expected.isIdentical(found, UtilEjml.TEST_F64));
+    }
+}
@@ -1,9 +1,15 @@
 package org.ejml.simple;
 
 import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
 import org.junit.jupiter.api.Test;
 
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TestSimpleSVD extends EjmlStandardJUnit {
     @Test
@@ -20,4 +26,37 @@ class TestSimpleSVD extends EjmlStandardJUnit {
         assertEquals(1, new SimpleMatrix(3, 2, true, values).svd().rank());
         assertEquals(1, new SimpleMatrix(3, 2, true, values).svd(true).rank());
     }
-}
\ No newline at end of file
+
+    /**
+     * The matrix is large enough that the requested rank plus oversampling doesn't sample every column
+     */
+    @Test
+    public void svdTruncated() {
+        double[] sv = {20, 15, 10, 5, 2, 1, 0.5, 0.1};
+        SimpleMatrix A = SimpleMatrix.wrap(RandomMatrices_DDRM.singular(80, 50, rand, sv));
+
+        SimpleSVD<SimpleMatrix> svd = A.svdTruncated(3);
+        assertEquals(80, svd.getU().getNumRows());
+        assertEquals(3, svd.getU().getNumCols());
+        assertEquals(3, svd.getW().getNumRows());
+        assertEquals(50, svd.getV().getNumRows());
+        assertEquals(3, svd.getV().getNumCols());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(sv[i], svd.getSingularValues()[i], UtilEjml.TEST_F64);
+        }
+
+        // the smallest singular values are unknown
+        assertThrows(UnsupportedOperation.class, svd::rank);
+        assertThrows(UnsupportedOperation.class, svd::nullity);
+        assertThrows(UnsupportedOperation.class, svd::nullSpace);
+
+        // sparse matrices are also supported
+        SimpleMatrix S = SimpleMatrix.wrap(DConvertMatrixStruct.convert(A.getDDRM(), (DMatrixSparseCSC)null, 0.0));
+        svd = S.svdTruncated(2);
+        assertEquals(2, svd.getW().getNumRows());
+        assertEquals(50, svd.getV().getNumRows());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(sv[i], svd.getSingularValues()[i], UtilEjml.TEST_F64);
+        }
+    }
+}
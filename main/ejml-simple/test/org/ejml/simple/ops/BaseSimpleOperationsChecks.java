@@ -19,12 +19,14 @@
 package org.ejml.simple.ops;
 
 import org.ejml.EjmlStandardJUnit;
+import org.ejml.UtilEjml;
 import org.ejml.data.Matrix;
 import org.ejml.simple.SimpleMatrix;
 import org.ejml.simple.SimpleOperations;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 abstract class BaseSimpleOperationsChecks<T extends Matrix> extends EjmlStandardJUnit {
     public abstract SimpleOperations<T> createOps();
@@ -68,4 +70,33 @@ abstract class BaseSimpleOperationsChecks<T extends Matrix> extends EjmlStandard
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test void mult_alpha_transposed() {
+        SimpleOperations<T> ops = createOps();
+        for (boolean transA : new boolean[]{false, true}) {
+            for (boolean transB : new boolean[]{false, true}) {
+                SimpleMatrix A = SimpleMatrix.wrap(transA ? randomRect(4, 3) : randomRect(3, 4));
+                SimpleMatrix B = SimpleMatrix.wrap(transB ? randomRect(5, 4) : randomRect(4, 5));
+                SimpleMatrix C = SimpleMatrix.wrap(randomRect(3, 5));
+                SimpleMatrix expected = (transA ? A.transpose() : A).mult(transB ? B.transpose() : B).scale(1.5);
+
+                T found = randomRect(3, 5);
+                ops.mult(1.5, A.getMatrix(), transA, B.getMatrix(), transB, found);
+                assertTrue(expected.isIdentical(SimpleMatrix.wrap(found), UtilEjml.TEST_F64));
+
+                found = C.copy().getMatrix();
+                ops.multAdd(1.5, A.getMatrix(), transA, B.getMatrix(), transB, found);
+                assertTrue(C.plus(expected).isIdentical(SimpleMatrix.wrap(found), UtilEjml.TEST_F64));
+            }
+        }
+    }
+
+    @Test void plusEquals() {
+        SimpleMatrix A = SimpleMatrix.wrap(randomRect(4, 5));
+        SimpleMatrix B = SimpleMatrix.wrap(randomRect(4, 5));
+        SimpleMatrix expected = A.plus(-2.0, B);
+
+        createOps().plusEquals(A.getMatrix(), -2.0, B.getMatrix());
+        assertTrue(expected.isIdentical(A, UtilEjml.TEST_F64));
+    }
+}